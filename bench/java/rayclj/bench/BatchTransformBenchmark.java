@@ -0,0 +1,135 @@
+package rayclj.bench;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import rayclj.BatchTransforms;
+
+import static java.lang.foreign.ValueLayout.JAVA_FLOAT;
+
+/**
+ * Vector API vs scalar batch kernels. Each kernel runs in a fork with the incubator module
+ * and in a fork without it, which uses the scalar loops.
+ *
+ * clj -T:build bench :pattern '"BatchTransformBenchmark"'
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Benchmark)
+public class BatchTransformBenchmark {
+    @Param({"100000"})
+    public int n;
+
+    private Arena arena;
+    private MemorySegment mat;
+    private MemorySegment points2;
+    private MemorySegment points3;
+    private MemorySegment rects;
+    private MemorySegment matrices;
+    private float[][] columns;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        arena = Arena.ofConfined();
+        mat = fill(arena.allocate(64), 16, random);
+        points2 = fill(arena.allocate(8L * n), 2L * n, random);
+        points3 = fill(arena.allocate(12L * n), 3L * n, random);
+        rects = fill(arena.allocate(16L * n), 4L * n, random);
+        matrices = arena.allocate(64L * n);
+
+        columns = new float[9][n];
+        for (float[] column : columns) {
+            for (int i = 0; i < n; i++) {
+                column[i] = random.nextFloat() * 3;
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        arena.close();
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = {"--enable-preview", "--add-modules", "jdk.incubator.vector"})
+    public MemorySegment transformVector2Simd() {
+        BatchTransforms.transformVector2(mat, points2, points2, n);
+        return points2;
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = {"--enable-preview"})
+    public MemorySegment transformVector2Scalar() {
+        BatchTransforms.transformVector2(mat, points2, points2, n);
+        return points2;
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = {"--enable-preview", "--add-modules", "jdk.incubator.vector"})
+    public MemorySegment transformVector3Simd() {
+        BatchTransforms.transformVector3(mat, points3, points3, n);
+        return points3;
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = {"--enable-preview"})
+    public MemorySegment transformVector3Scalar() {
+        BatchTransforms.transformVector3(mat, points3, points3, n);
+        return points3;
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = {"--enable-preview", "--add-modules", "jdk.incubator.vector"})
+    public MemorySegment translateRectanglesSimd() {
+        BatchTransforms.translateRectangles(rects, n, 1.0f, -1.0f);
+        return rects;
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = {"--enable-preview"})
+    public MemorySegment translateRectanglesScalar() {
+        BatchTransforms.translateRectangles(rects, n, 1.0f, -1.0f);
+        return rects;
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = {"--enable-preview", "--add-modules", "jdk.incubator.vector"})
+    public MemorySegment modelMatricesSimd() {
+        float[][] c = columns;
+        BatchTransforms.modelMatrices(matrices, c[0], c[1], c[2], c[3], c[4], c[5], c[6], c[7], c[8], n);
+        return matrices;
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = {"--enable-preview"})
+    public MemorySegment modelMatricesScalar() {
+        float[][] c = columns;
+        BatchTransforms.modelMatrices(matrices, c[0], c[1], c[2], c[3], c[4], c[5], c[6], c[7], c[8], n);
+        return matrices;
+    }
+
+    private static MemorySegment fill(MemorySegment segment, long count, Random random) {
+        for (long i = 0; i < count; i++) {
+            segment.setAtIndex(JAVA_FLOAT, i, random.nextFloat());
+        }
+        return segment;
+    }
+}
@@ -0,0 +1,92 @@
+package rayclj.bench;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.FunctionDescriptor;
+import java.lang.foreign.Linker;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.SymbolLookup;
+import java.lang.invoke.MethodHandle;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static java.lang.foreign.ValueLayout.*;
+
+/**
+ * Default vs trivial linking of leaf functions. Only functions which are safe to call
+ * without an initialized window are used.
+ *
+ * clj -T:build bench :pattern '"DowncallBenchmark"'
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"--enable-preview", "--enable-native-access=ALL-UNNAMED"})
+@State(Scope.Benchmark)
+public class DowncallBenchmark {
+    private static final Linker LINKER = Linker.nativeLinker();
+    private static final SymbolLookup LOOKUP =
+        SymbolLookup.libraryLookup(rayclj.LibraryResolver.ResolveRaylib(), Arena.global());
+
+    private static final FunctionDescriptor INT_TO_BOOL = FunctionDescriptor.of(JAVA_BOOLEAN, JAVA_INT);
+    private static final FunctionDescriptor TO_INT = FunctionDescriptor.of(JAVA_INT);
+    private static final FunctionDescriptor FOUR_BYTES = FunctionDescriptor.ofVoid(JAVA_BYTE, JAVA_BYTE, JAVA_BYTE, JAVA_BYTE);
+
+    private static final MethodHandle IS_KEY_DOWN = link("IsKeyDown", INT_TO_BOOL, false);
+    private static final MethodHandle IS_KEY_DOWN_TRIVIAL = link("IsKeyDown", INT_TO_BOOL, true);
+    private static final MethodHandle GET_MOUSE_X = link("GetMouseX", TO_INT, false);
+    private static final MethodHandle GET_MOUSE_X_TRIVIAL = link("GetMouseX", TO_INT, true);
+    private static final MethodHandle COLOR4UB = link("rlColor4ub", FOUR_BYTES, false);
+    private static final MethodHandle COLOR4UB_TRIVIAL = link("rlColor4ub", FOUR_BYTES, true);
+
+    private static MethodHandle link(String name, FunctionDescriptor fdesc, boolean trivial) {
+        MemorySegment symbol = LOOKUP.find(name).orElseThrow();
+        return trivial
+            ? LINKER.downcallHandle(symbol, fdesc, Linker.Option.isTrivial())
+            : LINKER.downcallHandle(symbol, fdesc);
+    }
+
+    @Benchmark
+    public boolean isKeyDown() throws Throwable {
+        return (boolean)IS_KEY_DOWN.invokeExact(65);
+    }
+
+    @Benchmark
+    public boolean isKeyDownTrivial() throws Throwable {
+        return (boolean)IS_KEY_DOWN_TRIVIAL.invokeExact(65);
+    }
+
+    @Benchmark
+    public boolean isKeyDownGenerated() {
+        return rayclj.raylib.raylib_h.IsKeyDown(65);
+    }
+
+    @Benchmark
+    public int getMouseX() throws Throwable {
+        return (int)GET_MOUSE_X.invokeExact();
+    }
+
+    @Benchmark
+    public int getMouseXTrivial() throws Throwable {
+        return (int)GET_MOUSE_X_TRIVIAL.invokeExact();
+    }
+
+    @Benchmark
+    public void color4ub() throws Throwable {
+        COLOR4UB.invokeExact((byte)255, (byte)0, (byte)0, (byte)255);
+    }
+
+    @Benchmark
+    public void color4ubTrivial() throws Throwable {
+        COLOR4UB_TRIVIAL.invokeExact((byte)255, (byte)0, (byte)0, (byte)255);
+    }
+}
@@ -0,0 +1,129 @@
+package rayclj.bench;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import rayclj.MeshBvh;
+import rayclj.raylib.Mesh;
+import rayclj.raylib.raylib_h;
+
+import static java.lang.foreign.ValueLayout.JAVA_FLOAT;
+
+/**
+ * MeshBvh build and ray queries vs GetRayCollisionMesh, on a bumpy sphere of
+ * 2 * segments^2 triangles. GetRayCollisionMesh only reads the CPU copy of the mesh, so the
+ * mesh is filled in by hand and no window is needed.
+ *
+ * clj -T:build bench :pattern '"MeshBvhBenchmark"'
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"--enable-preview", "--enable-native-access=ALL-UNNAMED"})
+@State(Scope.Benchmark)
+public class MeshBvhBenchmark {
+    private static final int RAYS = 1024;
+
+    @Param({"64", "500"})
+    public int segments;
+
+    private Arena arena;
+    private MemorySegment mesh;
+    private MemorySegment transform;
+    private MemorySegment[] rays;
+    private MemorySegment collision;
+    private MeshBvh bvh;
+    private int next;
+
+    @Setup
+    public void setup() {
+        arena = Arena.ofConfined();
+        float[] vertices = sphere(segments, new Random(42));
+
+        // without indices, raylib's are 16 bit and the large sphere has more vertices
+        mesh = Mesh.allocate(arena);
+        Mesh.vertexCount$set(mesh, vertices.length / 3);
+        Mesh.triangleCount$set(mesh, vertices.length / 9);
+        Mesh.vertices$set(mesh, arena.allocateArray(JAVA_FLOAT, vertices));
+
+        transform = arena.allocateArray(JAVA_FLOAT, 1, 0, 0, 0, 0, 1, 0, 0, 0, 0, 1, 0, 0, 0, 0, 1);
+        collision = arena.allocate(rayclj.raylib.RayCollision.$LAYOUT());
+
+        // from outside the sphere towards points around it, about half of them hit
+        Random random = new Random(7);
+        rays = new MemorySegment[RAYS];
+        for (int i = 0; i < RAYS; i++) {
+            float x = random.nextFloat() * 6 - 3, y = random.nextFloat() * 6 - 3;
+            float tx = random.nextFloat() * 2 - 1, ty = random.nextFloat() * 2 - 1;
+            rays[i] = arena.allocateArray(JAVA_FLOAT, x, y, -5, tx - x, ty - y, 5);
+        }
+
+        bvh = new MeshBvh(mesh);
+    }
+
+    @TearDown
+    public void tearDown() {
+        arena.close();
+    }
+
+    @Benchmark
+    public MeshBvh build() {
+        return new MeshBvh(mesh);
+    }
+
+    @Benchmark
+    public MemorySegment query() {
+        MemorySegment ray = rays[next++ & (RAYS - 1)];
+        return bvh.getRayCollision(collision, ray, transform);
+    }
+
+    @Benchmark
+    public MemorySegment queryRaylib() {
+        MemorySegment ray = rays[next++ & (RAYS - 1)];
+        return raylib_h.GetRayCollisionMesh(arena, ray, mesh, transform);
+    }
+
+    // triangles of a sphere with a randomly displaced radius per vertex
+    private static float[] sphere(int segments, Random random) {
+        float[] grid = new float[3 * (segments + 1) * (segments + 1)];
+        for (int i = 0; i <= segments; i++) {
+            for (int j = 0; j <= segments; j++) {
+                double theta = Math.PI * i / segments, phi = 2 * Math.PI * j / segments;
+                double radius = 1 + 0.05 * random.nextDouble();
+                int at = 3 * (i * (segments + 1) + j);
+                grid[at] = (float) (radius * Math.sin(theta) * Math.cos(phi));
+                grid[at + 1] = (float) (radius * Math.cos(theta));
+                grid[at + 2] = (float) (radius * Math.sin(theta) * Math.sin(phi));
+            }
+        }
+
+        float[] vertices = new float[2 * segments * segments * 9];
+        int at = 0;
+        for (int i = 0; i < segments; i++) {
+            for (int j = 0; j < segments; j++) {
+                int a = i * (segments + 1) + j, b = a + segments + 1;
+                for (int v : new int[] { a, b, a + 1, a + 1, b, b + 1 }) {
+                    System.arraycopy(grid, 3 * v, vertices, at, 3);
+                    at += 3;
+                }
+            }
+        }
+        return vertices;
+    }
+}
@@ -0,0 +1,75 @@
+package rayclj.bench;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import rayclj.raylib.Color;
+import rayclj.raylib.raylib_h;
+
+/**
+ * Time to first frame in a fresh JVM, with lazy and eager downcall linking.
+ * Each fork renders one frame of the basic window example in a hidden window,
+ * so it needs a display (eg. xvfb-run on a headless machine).
+ *
+ * clj -T:build bench :pattern '"StartupBenchmark"'
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+public class StartupBenchmark {
+    private static final int FLAG_WINDOW_HIDDEN = 0x00000080;
+
+    @Benchmark
+    @Fork(value = 10, jvmArgsAppend = {"--enable-preview", "--enable-native-access=ALL-UNNAMED"})
+    public void firstFrameLazy() {
+        firstFrame();
+    }
+
+    @Benchmark
+    @Fork(value = 10, jvmArgsAppend = {"--enable-preview", "--enable-native-access=ALL-UNNAMED",
+                                       "-Drayclj.eager-linking=true"})
+    public void firstFrameEager() {
+        firstFrame();
+    }
+
+    private static void firstFrame() {
+        try (Arena arena = Arena.ofConfined()) {
+            MemorySegment white = color(arena, 245, 245, 245);
+            MemorySegment gray = color(arena, 200, 200, 200);
+
+            raylib_h.SetTraceLogLevel(7); // LOG_NONE
+            raylib_h.SetConfigFlags(FLAG_WINDOW_HIDDEN);
+            raylib_h.InitWindow(800, 450, arena.allocateUtf8String("startup"));
+
+            raylib_h.WindowShouldClose();
+            raylib_h.IsKeyDown(65);
+            raylib_h.GetFrameTime();
+            raylib_h.BeginDrawing();
+            raylib_h.ClearBackground(white);
+            raylib_h.DrawText(arena.allocateUtf8String("Hello, World!"), 190, 200, 20, gray);
+            raylib_h.DrawFPS(10, 10);
+            raylib_h.EndDrawing();
+
+            raylib_h.CloseWindow();
+        }
+    }
+
+    private static MemorySegment color(Arena arena, int r, int g, int b) {
+        MemorySegment seg = Color.allocate(arena);
+        Color.r$set(seg, (byte)r);
+        Color.g$set(seg, (byte)g);
+        Color.b$set(seg, (byte)b);
+        Color.a$set(seg, (byte)255);
+        return seg;
+    }
+}
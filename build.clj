@@ -2,7 +2,8 @@
   (:require [clojure.tools.build.api :as b]
             [clojure.java.shell :refer [sh]]
             [clojure.java.io :as io]
-            [clojure.string :as string]))
+            [clojure.string :as string]
+            [clojure.walk :as walk]))
 
 (def lib 'org.clojars.maksut/rayclj)
 (def version (format "0.0.%s" (b/git-count-revs nil)))
@@ -35,13 +36,18 @@
   (b/delete {:path "src/clj/rayclj/rlgl"}))
 
 (defn- inject-library-resolver
-  "Injects LibraryResolver into generated RuntimeHelper.java file"
+  "Injects LibraryResolver, DowncallOptions and LazyDowncall into generated RuntimeHelper.java file"
   [runtime-file]
   (let [replace
         (fn [line]
-          (if (re-find #"SymbolLookup loaderLookup =" line)
+          (cond
+            (re-find #"SymbolLookup loaderLookup =" line)
             "        SymbolLookup loaderLookup = SymbolLookup.libraryLookup(rayclj.LibraryResolver.ResolveRaylib(), Arena.global());"
-            line))
+
+            (re-find #"map\(addr -> LINKER.downcallHandle\(addr, fdesc\)\)" line)
+            "                map(addr -> rayclj.LazyDowncall.downcallHandle(LINKER, addr, fdesc, rayclj.DowncallOptions.forSymbol(name)))."
+
+            :else line))
         lines (string/split-lines (slurp runtime-file))
         lines (map replace lines)
         replaced (string/join "\n" lines)]
@@ -76,7 +82,52 @@
   (b/javac {:src-dirs ["src/java"]
             :class-dir class-dir
             :basis basis
-            :javac-opts ["--release" "21" "--enable-preview"]}))
+            ;; SimdTransforms needs the incubator module at compile time only, it is optional at runtime
+            :javac-opts ["--release" "21" "--enable-preview" "--add-modules" "jdk.incubator.vector"]}))
+
+(def bench-class-dir (str target-dir "/bench-classes"))
+
+(defn bench
+  "Compiles and runs JMH benchmarks in bench/java. :pattern selects the benchmarks to run"
+  [{:keys [pattern] :or {pattern ".*"} :as opts}]
+  (compile-java opts)
+  (let [bench-basis (b/create-basis {:project "deps.edn" :aliases [:bench]})]
+    (b/javac {:src-dirs ["bench/java"]
+              :class-dir bench-class-dir
+              :basis bench-basis
+              :javac-opts ["--release" "21" "--enable-preview" "--add-modules" "jdk.incubator.vector"]})
+    (b/process (b/java-command {:basis bench-basis
+                                :main 'org.openjdk.jmh.Main
+                                :main-args [pattern]
+                                :java-opts ["--enable-preview"
+                                            "--enable-native-access=ALL-UNNAMED"]}))))
+
+(defn pack
+  "Writes the files under :dir into the single asset pack :out (see rayclj.AssetPack) and
+  reports the time to open it and load its images and waves.
+  With :decode-images true images are stored as raw pixels, so loading them skips decoding."
+  [{:keys [dir out decode-images] :or {out (str target-dir "/assets.pack")} :as opts}]
+  (compile-java opts)
+  (let [{:keys [exit]} (b/process (b/java-command {:basis basis
+                                                   :main 'rayclj.AssetPackWriter
+                                                   :main-args (cond-> [dir out] decode-images (conj "--decode-images"))
+                                                   :java-opts ["--enable-preview"
+                                                               "--enable-native-access=ALL-UNNAMED"]}))]
+    (when (not= exit 0)
+      (throw (ex-info "Asset packing failed" {:dir dir :out out})))))
+
+(defn model-cache
+  "Caches the model :files in :dir (see rayclj.ModelCache) and reports the time to load each of
+  them from the source file and from the cache."
+  [{:keys [dir files] :or {dir (str target-dir "/model-cache")} :as opts}]
+  (compile-java opts)
+  (let [{:keys [exit]} (b/process (b/java-command {:basis basis
+                                                   :main 'rayclj.ModelCache
+                                                   :main-args (into [dir] files)
+                                                   :java-opts ["--enable-preview"
+                                                               "--enable-native-access=ALL-UNNAMED"]}))]
+    (when (not= exit 0)
+      (throw (ex-info "Model load comparison failed" {:dir dir :files files})))))
 
 (defn- copy-artifact
   "Copy raylib-dir/source into inastall-dir/dest"
@@ -123,10 +174,27 @@
      file
      target-dir)))
 
+(def ^:private raylib-libraries
+  ["raylib-5.0_linux_amd64/lib/libraylib.so"
+   "raylib-5.0_macos/lib/libraylib.dylib"
+   "raylib-5.0_win64_msvc16/lib/raylib.dll"])
+
+(defn- write-library-hashes
+  "Writes the SHA-256 of each raylib library into a .sha256 file next to it.
+  rayclj.LibraryResolver keys its extraction cache by it without reading the library."
+  [{:keys [target-dir]}]
+  (doseq [file raylib-libraries]
+    (let [library (io/file target-dir file)
+          digest (.digest (java.security.MessageDigest/getInstance "SHA-256")
+                          (java.nio.file.Files/readAllBytes (.toPath library)))]
+      (spit (io/file target-dir (str file ".sha256"))
+            (str (.formatHex (java.util.HexFormat/of) digest) "\n")))))
+
 (defn prep
   "Prepares the library by downloading raylib releases and compiling java code"
   [opts]
   (download-and-extract-raylib {:target-dir "native"})
+  (write-library-hashes {:target-dir "native"})
   (compile-java opts))
 
 (defn build-raylib
@@ -185,15 +253,94 @@
   (b/copy-dir {:src-dirs ["src/clj" "src/java"]
                :target-dir (str class-dir "/src")})
 
-  (doseq [file ["raylib-5.0_linux_amd64/lib/libraylib.so"
-                "raylib-5.0_macos/lib/libraylib.dylib"
-                "raylib-5.0_win64_msvc16/lib/raylib.dll"]]
+  (doseq [file (mapcat (juxt identity #(str % ".sha256")) raylib-libraries)]
     (b/copy-file {:src (str "native/" file)
                   :target (str class-dir "/" file)}))
 
   (b/jar {:class-dir class-dir
           :jar-file jar-file}))
 
+(def cds-archive (str target-dir "/rayclj.jsa"))
+(def cds-launcher (str target-dir "/rayclj-cds"))
+(def ^:private cds-java-opts ["--enable-preview" "--enable-native-access=ALL-UNNAMED"])
+
+(def ^:private cds-training
+  "Training workload, renders frames like the basic window example"
+  '[(require '[rayclj.raylib.functions :as rl])
+    (let [started (-> (ProcessHandle/current) .info .startInstant .get .toEpochMilli)]
+      (rl/init-window 800 450 "rayclj cds training")
+      (dotimes [frame frames]
+        (rl/with-drawing
+          (rl/clear-background :white)
+          (rl/draw-text "Hello, World!" 190 200 20 :lightgray)
+          (rl/draw-rectangle 10 10 100 50 :red)
+          (rl/draw-circle-v [400 300] 40 :blue))
+        (when (zero? frame)
+          (println "time to first frame:" (- (System/currentTimeMillis) started) "ms")))
+      (rl/close-window)
+      nil)])
+
+(defn- cds-classpath
+  "AppCDS archives only classes loaded from jar files. So use the rayclj jar instead of
+  source and class directories."
+  []
+  (->> (:classpath-roots basis)
+       (filter #(string/ends-with? % ".jar"))
+       (cons jar-file)
+       (map absolute-path)
+       (string/join java.io.File/pathSeparator)))
+
+(defn- headless-command
+  "Uses a virtual X display if there is no display"
+  []
+  (if (and (string/blank? (System/getenv "DISPLAY"))
+           (zero? (:exit (sh "sh" "-c" "command -v xvfb-run"))))
+    ["xvfb-run" "-a"]
+    []))
+
+(defn- run-cds-training
+  "Runs the training workload and returns its time to first frame in ms"
+  [classpath frames java-opts]
+  (let [exprs (->> (walk/postwalk-replace {'frames frames} cds-training)
+                   (mapcat (fn [form] ["-e" (pr-str form)])))
+        {:keys [out]} (apply execute (concat (headless-command)
+                                             ["java"] cds-java-opts java-opts
+                                             ["-cp" classpath "clojure.main"]
+                                             exprs))]
+    (Long/parseLong (second (re-find #"time to first frame: (\d+) ms" out)))))
+
+(defn- write-cds-launcher [classpath]
+  (spit cds-launcher
+        (str "#!/bin/sh\n"
+             "# Runs clojure.main with the rayclj AppCDS archive, eg. rayclj-cds -m my.game\n"
+             "# Classpath entries (including directories) can be appended with RAYCLJ_CLASSPATH.\n"
+             "exec java " (string/join " " cds-java-opts)
+             " -XX:SharedArchiveFile=" (absolute-path cds-archive) " -Xshare:auto \\\n"
+             "  -cp \"" classpath "${RAYCLJ_CLASSPATH:+" java.io.File/pathSeparator "$RAYCLJ_CLASSPATH}\" \\\n"
+             "  clojure.main \"$@\"\n"))
+  (.setExecutable (io/file cds-launcher) true))
+
+(defn cds
+  "Builds the jar and dumps an AppCDS archive of a training run into target/rayclj.jsa.
+  Also writes the target/rayclj-cds launcher which runs clojure.main with the archive.
+  Prints time to first frame without and with the archive (best of :runs).
+  :frames sets the number of frames rendered by the training run."
+  [{:keys [frames runs] :or {frames 120 runs 3} :as opts}]
+  (jar opts)
+  (b/delete {:path cds-archive})
+  (let [classpath (cds-classpath)
+        best (fn [java-opts]
+               (apply min (repeatedly runs #(run-cds-training classpath frames java-opts))))]
+    ;; also extracts raylib into the cache, so it doesn't skew the numbers below
+    (run-cds-training classpath frames [(str "-XX:ArchiveClassesAtExit=" cds-archive)])
+    (let [before (best [])
+          after (best [(str "-XX:SharedArchiveFile=" cds-archive) "-Xshare:on"])]
+      (write-cds-launcher classpath)
+      (println "Time to first frame without archive:" before "ms")
+      (println "Time to first frame with archive:   " after "ms")
+      (println "Archive:" cds-archive)
+      (println "Launcher:" cds-launcher))))
+
 (comment
   ; Optional - builds raylib from source code and puts output in the :install-dir
   (build-raylib {:raylib-dir (io/file (System/getProperty "user.home") "oss/raylib/")
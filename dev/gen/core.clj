@@ -2,6 +2,7 @@
   (:require
    [clojure.string :as string]
    [clojure.java.io :as io]
+   [clojure.walk :as walk]
    [jsonista.core :as json]
    [zprint.core :as zp]
    [gen.overrides :as overrides]))
@@ -73,13 +74,21 @@
       (str description
            (apply str (map field-doc fields))))))
 
+(defn view-type-name [name]
+  (symbol (str (string/replace name #"^rl" "") "View"))) ;; drop `rl` prefix from rlgl definitions
+
+(defn struct-view [header-name all-struct-names {:keys [name fields as-vector?]}]
+  (when-not as-vector?
+    `(~'memory/defview ~(view-type-name name)
+                       ~(into [] (mapcat (partial field-getter-kv header-name name all-struct-names) fields)))))
+
 (defn struct-get-fn [header-name all-struct-names {:keys [name fields as-vector?] :as struct}]
   (let [kebab-name (symbol (str "get-" (c-name->clj-name name)))]
     `(~'defn ~kebab-name ~(doc-str struct)
              [~memory-segment-symbol ~'seg]
              ~(if as-vector?
                 (into [] (map (partial field-getter header-name name all-struct-names) fields))
-                (apply array-map (mapcat (partial field-getter-kv header-name name all-struct-names) fields))))))
+                `(~(symbol (str "->" (view-type-name name))) ~'seg)))))
 
 (defn struct-set-fn [header-name all-struct-names {:keys [name fields as-vector?] :as struct}]
   (let [kebab-name (symbol (str "set-" (c-name->clj-name name)))
@@ -90,16 +99,21 @@
              ~@(map (partial field-setter header-name name all-struct-names) fields)
              ~'seg)))
 
-(defn struct-fn [header-name {:keys [name] :as struct}]
+(defn struct-fn [header-name {:keys [name as-vector?] :as struct}]
   (let [kebab-name (c-name->clj-name name)
         fn-name (symbol kebab-name)
         struct-set-fn (symbol (str "set-" kebab-name))
         layout-sym (symbol (str "rayclj." header-name "." name "/$LAYOUT"))]
     `(~'defn ~fn-name ~(doc-str struct)
              [~'v]
-             (if (instance? ~'MemorySegment ~'v)
-               ~'v
-               (~struct-set-fn (memory/allocate (~layout-sym)) ~'v)))))
+             ~(if as-vector?
+                `(if (instance? ~'MemorySegment ~'v)
+                   ~'v
+                   (~struct-set-fn (memory/allocate (~layout-sym)) ~'v))
+                `(~'cond
+                   (instance? ~'MemorySegment ~'v) ~'v
+                   (~'memory/view? ~'v) (~'memory/segment ~'v) ;; pass views back without copying
+                   :else (~struct-set-fn (memory/allocate (~layout-sym)) ~'v))))))
 
 (defn array-fn [header-name {:keys [name]}]
   (let [kebab-name (c-name->clj-name name)
@@ -122,11 +136,60 @@
         layout-sym (symbol (str "rayclj." header-name "." name "/$LAYOUT"))]
     `(~'def ~fn-name (~'set-array-fn (~layout-sym) ~struct-set-fn))))
 
+(def floats-symbol (symbol "^floats"))
+(def ints-symbol (symbol "^ints"))
+
+(defn float-columns-body
+  "Writes each float column at its field offset, fields are packed since they are all floats"
+  [fields]
+  (let [stride (* 4 (count fields))
+        args (map (comp symbol :name) fields)]
+    `(~'let [~'n (~'alength ~(first args))]
+      (~'dotimes [~'i ~'n]
+       (~'let [~'offset (~'* ~'i ~stride)]
+        ~@(map-indexed
+           (fn [index arg]
+             `(~'.set ~'seg ~'ValueLayout/JAVA_FLOAT ~(if (zero? index) 'offset `(~'+ ~'offset ~(* 4 index))) (~'aget ~arg ~'i)))
+           args)))
+      ~'seg)))
+
+(defn packed-columns-body []
+  `(~'do
+    (~'dotimes [~'i (~'alength ~'rgba)]
+     (~'.setAtIndex ~'seg ~'memory/rgba-layout ~'i (~'aget ~'rgba ~'i)))
+    ~'seg))
+
+(defn columns-fns
+  "Struct of arrays writers, only for small structs of floats (vectors, rectangle) and bytes (color)"
+  [header-name {:keys [name fields]}]
+  (let [kebab-name (c-name->clj-name name)
+        set-fn (symbol (str "set-" kebab-name "-columns"))
+        fn-name (symbol (str kebab-name "-columns"))
+        layout-sym (symbol (str "rayclj." header-name "." name "/$LAYOUT"))
+        types (set (map :type fields))
+        column-fns (fn [doc hint args body]
+                     [`(~'defn ~set-fn ~(str "Writes " doc " into a " name " array")
+                               [~memory-segment-symbol ~'seg ~@(mapcat (fn [arg] [hint arg]) args)]
+                               ~body)
+                      `(~'defn ~fn-name ~(str "Allocates a " name " array from " doc)
+                               [~@(mapcat (fn [arg] [hint arg]) args)]
+                               (~set-fn (~'memory/allocate-array (~layout-sym) (~'alength ~(first args))) ~@args))])]
+    (cond
+      (and (= types #{"float"}) (<= (count fields) 4))
+      (column-fns (str "parallel float[] columns (" (string/join ", " (map :name fields)) ")")
+                  floats-symbol
+                  (mapv (comp symbol :name) fields)
+                  (float-columns-body fields))
+
+      (and (= types #{"unsigned char"}) (= (count fields) 4))
+      (column-fns "packed 0xRRGGBBAA ints" ints-symbol ['rgba] (packed-columns-body)))))
+
 (defn pprint [f]
   (-> (zp/zprint-str f)
       (string/replace #":EL" "\n")
       (string/replace #"\\n" "\n")
-      (string/replace #":CARET" "^")))
+      (string/replace #":CARET" "^")
+      (string/replace #":QUASI\s+" "`")))
 
 (defn get-all-struct-names [api]
   (let [struct-names (map #(:name %) (:structs api))
@@ -152,22 +215,28 @@
   (get-overrided overrides/functions definition))
 
 (defn pprint-struct-fns [header-name out-file all-struct-names struct]
-  (let [get-fn (struct-get-fn header-name all-struct-names struct)
+  (let [view (struct-view header-name all-struct-names struct)
+        get-fn (struct-get-fn header-name all-struct-names struct)
         set-fn (struct-set-fn header-name all-struct-names struct)
         struct-fn (struct-fn header-name struct)
         array-fn (array-fn header-name struct)
         get-array-fn (get-array-fn header-name struct)
         set-array-fn (set-array-fn header-name struct)
-        str-fns [get-fn set-fn struct-fn array-fn get-array-fn set-array-fn]
+        columns-fns (columns-fns header-name struct)
+        str-fns (remove nil? (concat [view get-fn set-fn struct-fn array-fn get-array-fn set-array-fn] columns-fns))
         str-fns (mapcat get-overrided-struct-fn str-fns)
         str-fns (map pprint str-fns)
         str-fns (apply str (interleave str-fns (repeat "\n\n")))]
     (spit out-file str-fns :append true)))
 
+(defn as-vector-name?
+  "Vectors and matrices are read into clojure vectors, other structs into views"
+  [name]
+  (or (clojure.string/starts-with? name "Vector")
+      (clojure.string/starts-with? name "Matrix")))
+
 (defn add-as-vector [{:keys [name] :as struct}]
-  (let [as-vector? (or (clojure.string/starts-with? name "Vector")
-                       (clojure.string/starts-with? name "Matrix"))]
-    (assoc struct :as-vector? as-vector?)))
+  (assoc struct :as-vector? (as-vector-name? name)))
 
 (defn add-docstring [{:keys [name] :as struct}]
   (if-let [docstring (get overrides/docstrings name)]
@@ -327,6 +396,66 @@
     "ImageDrawText"
     "ImageDrawTextEx"})
 
+(def primitive-hints
+  {"int" "^long"
+   "unsigned int" "^long"
+   "float" "^double"
+   "double" "^double"})
+
+(defn variadic? [params]
+  (some #(= "..." (:type %)) params))
+
+(defn enum-params? [function-name params]
+  (some #(enum-args [function-name (:name %)]) params))
+
+(defn hinted-args
+  "Adds primitive type hints to numeric args. Enum args are not hinted because they accept keywords.
+  Clojure supports primitive fns with up to 4 args, wider fns rely on :inline instead."
+  [function-name params]
+  (let [hint (fn [{:keys [name type]}]
+               (when-not (enum-args [function-name name])
+                 (primitive-hints type)))
+        arg (fn [{:keys [name] :as param}]
+              (let [arg (symbol (c-name->clj-name name))]
+                (if-let [hint (hint param)]
+                  [(symbol hint) arg]
+                  [arg])))]
+    (if (<= (count params) 4)
+      (into [] (mapcat arg params))
+      (mapv (comp symbol c-name->clj-name :name) params))))
+
+(defn return-hint [params return-type]
+  (when (<= (count params) 4)
+    (when-let [hint (primitive-hints return-type)]
+      [(symbol hint)])))
+
+(def return-coercions
+  {"^long" 'long
+   "^double" 'double})
+
+(defn inline-fn
+  "Inline expansion that calls java-fn directly, so hinted call sites do not box numeric args.
+  Args with enum coercion are used more than once, so those fns bind all args first.
+  The raw int or float result is widened to the declared ^long or ^double return hint."
+  [function-name params return-type java-fn coerced-args]
+  (let [args (mapv (comp symbol c-name->clj-name :name) params)
+        coercion (some-> (return-hint params return-type) first str return-coercions)
+        call (fn [coerced-args]
+               (if coercion
+                 `(~coercion (~java-fn ~@coerced-args))
+                 `(~java-fn ~@coerced-args)))]
+    (if (enum-params? function-name params)
+      (let [bound (mapv #(symbol (str % "#")) args)
+            unquoted (map #(symbol (str "~" %)) args)
+            coerced-args (walk/postwalk-replace (zipmap args bound) coerced-args)]
+        `(~'fn ~args
+               :QUASI (~'let ~(into [] (interleave bound unquoted))
+                             ~(call coerced-args))))
+      (let [coerced-args (walk/postwalk-replace
+                          (zipmap args (map #(symbol (str "~" %)) args))
+                          coerced-args)]
+        `(~'fn ~args :QUASI ~(call coerced-args))))))
+
 (defn get-fn [header-name all-struct-names {:keys [name params returnType] :as function}]
   (let [return-first-arg (first-arg-is-return name)
         java-fn (symbol (str header-name "_h/" name))
@@ -345,21 +474,57 @@
                  ~args
                  (~'let [~'first-arg ~(first coerced-args)]
                         (~java-fn ~'first-arg ~@(rest coerced-args))
-                        (~struct ~'first-arg))))
+                        (~'memory/result (~struct ~'first-arg)))))
       struct-return
+      ;; views keep reading the result, so it can't be in the frame arena. Vectors are copied at once.
+      (let [arena (if (as-vector-name? (get all-struct-names returnType))
+                    'memory/*current-arena*
+                    '(memory/result-arena))]
+        `(~'defn ~clj-fn
+                 ~(fn-doc-str function)
+                 ~args
+                 (~(symbol (str "rstructs/get-" struct-return)) (~java-fn ~arena ~@coerced-args))))
+      (variadic? params)
       `(~'defn ~clj-fn
                ~(fn-doc-str function)
                ~args
-               (~(symbol (str "rstructs/get-" struct-return)) (~java-fn ~'memory/*current-arena* ~@coerced-args)))
+               (~java-fn ~@coerced-args))
+
       :else
       `(~'defn ~clj-fn
                ~(fn-doc-str function)
-               ~args
+               {:inline ~(inline-fn name params returnType java-fn coerced-args)}
+               ~@(return-hint params returnType)
+               ~(hinted-args name params)
+               (~java-fn ~@coerced-args)))))
+
+(defn get-out-param-fn
+  "Variant of a struct returning fn which writes the result into a caller supplied dest segment
+  instead of allocating it and converting it into a clojure data structure"
+  [header-name all-struct-names {:keys [name params returnType description] :as function}]
+  (when (and (get all-struct-names returnType)
+             (not (first-arg-is-return name)))
+    (let [java-fn (symbol (str header-name "_h/" name))
+          clj-fn (symbol (str (clj-fn-name name returnType) "!"))
+          dest-type (str returnType " *")
+          params (into [{:type dest-type :name "dest"}] params)
+          ;; struct args coerce segments and views as is, so only a dest segment avoids allocating
+          coerced-args (into [`(~'memory/prefix-allocator ~'dest)]
+                             (map (partial coerced-arg all-struct-names name) (rest params)))]
+      `(~'defn ~clj-fn
+               ~(fn-doc-str (assoc function
+                                   :description (str description " (written into dest)")
+                                   :params params
+                                   :returnType dest-type))
+               {:inline ~(inline-fn name params dest-type java-fn coerced-args)}
+               ~(hinted-args name params)
                (~java-fn ~@coerced-args)))))
 
 (defn pprint-fn [header-name out-file all-struct-names function]
-  (let [function (get-fn header-name all-struct-names function)
-        functions (map pprint (get-overrided-fn function))
+  (let [out-param-fn (get-out-param-fn header-name all-struct-names function)
+        function (get-fn header-name all-struct-names function)
+        functions (mapcat get-overrided-fn (cons function (when out-param-fn [out-param-fn])))
+        functions (map pprint functions)
         str-fns (apply str (interleave functions (repeat "\n\n")))]
     (spit out-file str-fns :append true)))
 
@@ -56,6 +56,7 @@
        (cond
          (instance? MemorySegment c) c
          (keyword? c) (predefined-colors c)
+         (memory/view? c) (memory/segment c)
          :else (set-color (memory/allocate (rayclj.raylib.Color/$LAYOUT)) c)))
     '(def predefined-colors
        (let [arena (memory/global-arena)
@@ -65,23 +66,14 @@
           {}
           (map (fn [[k v]] [k (global-color v)]) renums/predefined-colors))))]
 
-   :get-font
-   ['(defn get-font
-       "Font, font texture and GlyphInfo array data
-  int baseSize // Base size (default chars height)
-  int glyphCount // Number of glyph characters
-  int glyphPadding // Padding around the glyph characters
-  Texture2D texture // Texture atlas containing the glyphs
-  Rectangle * recs // Rectangles in texture for the glyphs
-  GlyphInfo * glyphs // Glyphs info data"
-       [:CARETMemorySegment seg]
-       (let [array-size (rayclj.raylib.Font/glyphCount$get seg)]
-         {:base-size (rayclj.raylib.Font/baseSize$get seg)
-          :glyph-count array-size
-          :glyph-padding (rayclj.raylib.Font/glyphPadding$get seg)
-          :texture (get-texture (rayclj.raylib.Font/texture$slice seg))
-          :recs (get-rectangle-array (rayclj.raylib.Font/recs$get seg) array-size)
-          :glyphs (get-glyph-info-array (rayclj.raylib.Font/glyphs$get seg) array-size)}))]
+   :FontView
+   ['(memory/defview FontView
+      [:base-size (rayclj.raylib.Font/baseSize$get seg)
+       :glyph-count (rayclj.raylib.Font/glyphCount$get seg)
+       :glyph-padding (rayclj.raylib.Font/glyphPadding$get seg)
+       :texture (get-texture (rayclj.raylib.Font/texture$slice seg))
+       :recs (get-rectangle-array (rayclj.raylib.Font/recs$get seg) (rayclj.raylib.Font/glyphCount$get seg))
+       :glyphs (get-glyph-info-array (rayclj.raylib.Font/glyphs$get seg) (rayclj.raylib.Font/glyphCount$get seg))])]
 
    :set-font
    ['(defn set-font
@@ -110,17 +102,14 @@
   Rectangle * recs // Rectangles in texture for the glyphs
   GlyphInfo * glyphs // Glyphs info data"
              [v]
-             (if (clojure.core/instance? MemorySegment v)
-               v
-               (set-font (memory/allocate (rayclj.raylib.Font/$LAYOUT)) v)))]
+             (cond
+               (clojure.core/instance? MemorySegment v) v
+               (memory/view? v) (memory/segment v)
+               :else (set-font (memory/allocate (rayclj.raylib.Font/$LAYOUT)) v)))]
 
-   :get-shader '[(defn get-shader
-                   "Shader
-  unsigned int id // Shader program id
-  int * locs // Shader locations array (RL_MAX_SHADER_LOCATIONS)"
-                   [:CARETMemorySegment seg]
-                   {:id (rayclj.raylib.Shader/id$get seg),
-                    :locs (get-int-array (rayclj.raylib.Shader/locs$get seg) gldefines/max-shader-locations)})]
+   :ShaderView '[(memory/defview ShaderView
+                   [:id (rayclj.raylib.Shader/id$get seg)
+                    :locs (get-int-array (rayclj.raylib.Shader/locs$get seg) gldefines/max-shader-locations)])]
 
    :set-shader '[(defn set-shader
                    "Shader
@@ -154,25 +143,15 @@
    ;; rlgl overrides
    ;;
 
-   :get-vertex-buffer
-   ['(defn get-vertex-buffer
-       "Dynamic vertex buffers (position + texcoords + colors + indices arrays)
-  int elementCount // Number of elements in the buffer (QUADS)
-  float * vertices // Vertex position (XYZ - 3 components per vertex) (shader-location = 0)
-  float * texcoords // Vertex texture coordinates (UV - 2 components per vertex) (shader-location = 1)
-  unsigned char * colors // Vertex colors (RGBA - 4 components per vertex) (shader-location = 3)
-  unsigned int * indices // Vertex indices (in case vertex data comes indexed) (6 indices per quad)
-  unsigned int vaoId // OpenGL Vertex Array Object id
-  unsigned int[4] vboId // OpenGL Vertex Buffer Objects id (4 types of vertex data)"
-       [^MemorySegment seg]
-       (let [element-count (rayclj.rlgl.rlVertexBuffer/elementCount$get seg)]
-         {:elementCount element-count,
-          :vertices (get-float-array (rayclj.rlgl.rlVertexBuffer/vertices$get seg) (* element-count 3)),
-          :texcoords (get-float-array (rayclj.rlgl.rlVertexBuffer/texcoords$get seg) (* element-count 2)),
-          :colors (get-byte-array (rayclj.rlgl.rlVertexBuffer/colors$get seg) (* element-count 4)),
-          :indices (get-unsigned-int-array (rayclj.rlgl.rlVertexBuffer/indices$get seg) (* element-count 6)),
-          :vaoId (rayclj.rlgl.rlVertexBuffer/vaoId$get seg),
-          :vboId (get-unsigned-int-array (rayclj.rlgl.rlVertexBuffer/vboId$slice seg) 4)}))]
+   :VertexBufferView
+   ['(memory/defview VertexBufferView
+      [:elementCount (rayclj.rlgl.rlVertexBuffer/elementCount$get seg)
+       :vertices (get-float-array (rayclj.rlgl.rlVertexBuffer/vertices$get seg) (* (rayclj.rlgl.rlVertexBuffer/elementCount$get seg) 3))
+       :texcoords (get-float-array (rayclj.rlgl.rlVertexBuffer/texcoords$get seg) (* (rayclj.rlgl.rlVertexBuffer/elementCount$get seg) 2))
+       :colors (get-byte-array (rayclj.rlgl.rlVertexBuffer/colors$get seg) (* (rayclj.rlgl.rlVertexBuffer/elementCount$get seg) 4))
+       :indices (get-unsigned-int-array (rayclj.rlgl.rlVertexBuffer/indices$get seg) (* (rayclj.rlgl.rlVertexBuffer/elementCount$get seg) 6))
+       :vaoId (rayclj.rlgl.rlVertexBuffer/vaoId$get seg)
+       :vboId (get-unsigned-int-array (rayclj.rlgl.rlVertexBuffer/vboId$slice seg) 4)])]
 
    :set-vertex-buffer
    ['(defn set-vertex-buffer
@@ -199,22 +178,14 @@
        (set-unsigned-int-array (rayclj.rlgl.rlVertexBuffer/vboId$slice seg) vboId 4)
        seg)]
 
-   :get-render-batch '[(defn get-render-batch
-                         "rlRenderBatch type
-  int bufferCount // Number of vertex buffers (multi-buffering support)
-  int currentBuffer // Current buffer tracking in case of multi-buffering
-  rlVertexBuffer * vertexBuffer // Dynamic buffer(s) for vertex data
-  rlDrawCall * draws // Draw calls array, depends on textureId
-  int drawCounter // Draw calls counter
-  float currentDepth // Current depth value for next draw"
-                         [:CARETMemorySegment seg]
-                         (let [buffer-count (rayclj.rlgl.rlRenderBatch/bufferCount$get seg)]
-                           {:bufferCount buffer-count,
-                            :currentBuffer (rayclj.rlgl.rlRenderBatch/currentBuffer$get seg)
-                            :vertexBuffer (get-vertex-buffer-array (rayclj.rlgl.rlRenderBatch/vertexBuffer$get seg) buffer-count)
-                            :draws (get-draw-call-array (rayclj.rlgl.rlRenderBatch/draws$get seg) defines/default-batch-drawcalls)
-                            :drawCounter (rayclj.rlgl.rlRenderBatch/drawCounter$get seg)
-                            :currentDepth (rayclj.rlgl.rlRenderBatch/currentDepth$get seg)}))]
+   :RenderBatchView '[(memory/defview RenderBatchView
+                        [:bufferCount (rayclj.rlgl.rlRenderBatch/bufferCount$get seg)
+                         :currentBuffer (rayclj.rlgl.rlRenderBatch/currentBuffer$get seg)
+                         :vertexBuffer (get-vertex-buffer-array (rayclj.rlgl.rlRenderBatch/vertexBuffer$get seg)
+                                                                (rayclj.rlgl.rlRenderBatch/bufferCount$get seg))
+                         :draws (get-draw-call-array (rayclj.rlgl.rlRenderBatch/draws$get seg) defines/default-batch-drawcalls)
+                         :drawCounter (rayclj.rlgl.rlRenderBatch/drawCounter$get seg)
+                         :currentDepth (rayclj.rlgl.rlRenderBatch/currentDepth$get seg)])]
 
    :set-render-batch '[(defn set-render-batch
                          "rlRenderBatch type
@@ -353,6 +324,26 @@
                                                                        (rstructs/vector2-array points)
                                                                        (count points))))]
 
+   :draw-mesh-instanced '[(defn draw-mesh-instanced
+                            "Draw multiple mesh instances with material and different transforms
+  [Mesh mesh, Material material, const Matrix * transforms, int instances] -> void
+  transforms can be an InstanceBuffer, a Matrix array segment or a sequence of matrices"
+                            ([mesh material transforms instances]
+                             (raylib_h/DrawMeshInstanced (rstructs/mesh mesh)
+                                                         (rstructs/material material)
+                                                         (cond
+                                                           (instance? InstanceBuffer transforms) (.segment ^InstanceBuffer transforms (int instances))
+                                                           (instance? MemorySegment transforms) (InstanceBuffer/checkSegment transforms instances)
+                                                           :else (rstructs/matrix-array transforms instances))
+                                                         instances))
+                            ([mesh material transforms]
+                             (draw-mesh-instanced mesh material transforms
+                                                  (cond
+                                                    (instance? InstanceBuffer transforms) (.count ^InstanceBuffer transforms)
+                                                    (instance? MemorySegment transforms) (quot (.byteSize ^MemorySegment transforms)
+                                                                                               (Matrix/sizeof))
+                                                    :else (count transforms)))))]
+
    :draw-triangle-strip3d '[(defn draw-triangle-strip3d
                               "Draw a triangle strip defined by points
   [Vector3 * points, int pointCount, Color color] -> void"
@@ -1,6 +1,7 @@
 (ns examples.experiment.top-down
   (:require [clojure.math :as math]
             [rayclj.raylib.functions :as rl]
+            [rayclj.raymath :as rm]
             [rayclj.rlgl.functions :as rlgl]
             [rayclj.rlgl.defines :as rlgl-defines]))
 
@@ -12,7 +13,7 @@
   (math/to-degrees (math/atan2 (- y1 y2) (- x1 x2))))
 
 (defn vector2-normalize [[x y]]
-  (let [length (math/sqrt (+ (* x x) (* y y)))]
+  (let [length (rm/vector2-length x y)]
     (if (zero? length)
       [0 0]
       [(/ x length) (/ y length)])))
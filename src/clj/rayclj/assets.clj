@@ -0,0 +1,82 @@
+(ns rayclj.assets
+  "Reference counted asset cache with a size budget. See rayclj.AssetCache.
+  Every acquire must be paired with a release of the same key. Unreferenced assets stay
+  loaded until the budget is exceeded, then the least recently used ones are unloaded."
+  (:require [rayclj.raylib.structs :as rstructs])
+  (:import [rayclj AssetCache]
+           [java.lang.foreign MemorySegment]
+           [java.util.function Consumer Supplier ToLongFunction]))
+
+(set! *warn-on-reflection* true)
+
+(defn asset-cache
+  "Creates a cache holding about budget-bytes of unreferenced assets (256 MB by default).
+  close! unloads everything."
+  (^AssetCache [] (asset-cache (* 256 1024 1024)))
+  (^AssetCache [budget-bytes] (AssetCache. (long budget-bytes))))
+
+(defn acquire!
+  "Returns the asset (a struct segment) of key, loading it with (load) on a miss.
+  (size asset) estimates its bytes, (unload asset) is called when it is evicted."
+  ^MemorySegment [^AssetCache cache key load size unload]
+  (.acquire cache key
+            (reify Supplier (get [_] (load)))
+            (reify ToLongFunction (applyAsLong [_ asset] (long (size asset))))
+            (reify Consumer (accept [_ asset] (unload asset)))))
+
+(defn release!
+  [^AssetCache cache key]
+  (.release cache key))
+
+(defn acquire-texture!
+  "load-texture through the cache, keyed by [\"texture\" file-name]"
+  [^AssetCache cache file-name]
+  (rstructs/get-texture (.acquireTexture cache file-name)))
+
+(defn release-texture!
+  [^AssetCache cache file-name]
+  (.releaseTexture cache file-name))
+
+(defn acquire-model!
+  "load-model through the cache, keyed by [\"model\" file-name]"
+  [^AssetCache cache file-name]
+  (rstructs/get-model (.acquireModel cache file-name)))
+
+(defn release-model!
+  [^AssetCache cache file-name]
+  (.releaseModel cache file-name))
+
+(defn acquire-sound!
+  "load-sound through the cache, keyed by [\"sound\" file-name]"
+  [^AssetCache cache file-name]
+  (rstructs/get-sound (.acquireSound cache file-name)))
+
+(defn release-sound!
+  [^AssetCache cache file-name]
+  (.releaseSound cache file-name))
+
+(defn metrics
+  "Hit, miss and eviction counts and the estimated size of the cached assets"
+  [^AssetCache cache]
+  {:entries (.size cache)
+   :bytes (.bytes cache)
+   :budget-bytes (.budgetBytes cache)
+   :hits (.hits cache)
+   :misses (.misses cache)
+   :evictions (.evictions cache)
+   :evicted-bytes (.evictedBytes cache)})
+
+(defn set-budget!
+  "Changes the budget, unloading unreferenced assets if it is exceeded"
+  [^AssetCache cache budget-bytes]
+  (.setBudgetBytes cache (long budget-bytes)))
+
+(defn trim!
+  "Unloads all unreferenced assets"
+  [^AssetCache cache]
+  (.trim cache))
+
+(defn close!
+  "Unloads every asset, including referenced ones"
+  [^AssetCache cache]
+  (.close cache))
@@ -0,0 +1,61 @@
+(ns rayclj.async-writer
+  "Screenshots and file saves written on a background thread through a bounded queue.
+  See rayclj.AsyncWriter."
+  (:import [rayclj AsyncWriter AsyncWriter$Stats]))
+
+(set! *warn-on-reflection* true)
+
+(defn async-writer
+  "Creates a writer queueing up to capacity writes and capacity-bytes bytes (16 and 256 MiB by
+  default). A write that doesn't fit waits up to block-ms for the queue (0 by default), then it is
+  dropped. Close it with close!."
+  (^AsyncWriter [] (async-writer 16 (* 256 1024 1024) 0))
+  (^AsyncWriter [capacity capacity-bytes block-ms]
+   (AsyncWriter. (int capacity) (long capacity-bytes) (long block-ms))))
+
+(defn install!
+  "Sets raylib's save file data callback to writer, so save-file-data?, export-image? and
+  take-screenshot return once their data is queued"
+  [^AsyncWriter writer]
+  (.install writer)
+  writer)
+
+(defn uninstall!
+  "Restores raylib's own file saving"
+  [^AsyncWriter writer]
+  (.uninstall writer)
+  writer)
+
+(defn screenshot!
+  "Reads the screen back and queues its PNG encoding and write to file-name, call it after drawing.
+  Returns false if the queue was full."
+  [^AsyncWriter writer file-name]
+  (.screenshot writer file-name))
+
+(defn write!
+  "Queues a write of a copy of data to path. Returns false if the queue was full."
+  [^AsyncWriter writer path ^bytes data]
+  (.write writer path data))
+
+(defn flush!
+  "Waits until every queued write is done"
+  [^AsyncWriter writer]
+  (.flush writer)
+  writer)
+
+(defn metrics
+  "Writes as {:queued :queued-bytes :written :written-bytes :dropped :failed :write-ms}"
+  [^AsyncWriter writer]
+  (let [^AsyncWriter$Stats s (.stats writer)]
+    {:queued (.queued s)
+     :queued-bytes (.queuedBytes s)
+     :written (.written s)
+     :written-bytes (.writtenBytes s)
+     :dropped (.dropped s)
+     :failed (.failed s)
+     :write-ms (/ (.writeNanos s) 1e6)}))
+
+(defn close!
+  "Uninstalls writer, finishes the queued writes and stops its thread"
+  [^AsyncWriter writer]
+  (.close writer))
@@ -0,0 +1,54 @@
+(ns rayclj.atlas
+  "Images packed into shared textures, so sprites drawn from them don't break rlgl's batch.
+  See rayclj.TextureAtlas."
+  (:require [rayclj.raylib.structs :as rstructs])
+  (:import [rayclj TextureAtlas]
+           [java.lang.foreign MemorySegment]))
+
+(set! *warn-on-reflection* true)
+
+(defn texture-atlas
+  "Creates an atlas of page-width x page-height textures, with padding pixels between regions.
+  Must be closed with close! (or with-open) while the window is still open."
+  (^TextureAtlas [] (texture-atlas 2048 2048 2))
+  (^TextureAtlas [page-width page-height] (texture-atlas page-width page-height 2))
+  (^TextureAtlas [page-width page-height padding]
+   (TextureAtlas. (int page-width) (int page-height) (int padding))))
+
+(defn region
+  "A region as {:id :texture :source}, :texture and :source can be given to
+  draw-texture-rec and draw-texture-pro"
+  [^TextureAtlas atlas id]
+  (let [id (int id)]
+    {:id id
+     :texture (rstructs/get-texture (.texture atlas id))
+     :source {:x (.x atlas id)
+              :y (.y atlas id)
+              :width (.width atlas id)
+              :height (.height atlas id)}}))
+
+(defn add!
+  "Copies an image (view or segment) into the atlas and returns its region.
+  The image can be unloaded afterwards."
+  [^TextureAtlas atlas image]
+  (region atlas (.add atlas ^MemorySegment (rstructs/image image))))
+
+(defn regions
+  "All regions of the atlas, in the order they were added"
+  [^TextureAtlas atlas]
+  (mapv #(region atlas %) (range (.regionCount atlas))))
+
+(defn pages
+  "The page textures"
+  [^TextureAtlas atlas]
+  (mapv #(rstructs/get-texture (.pageTexture atlas %)) (range (.pageCount atlas))))
+
+(defn efficiency
+  "Fraction of the page pixels covered by images, of all pages or of one page"
+  ([^TextureAtlas atlas] (.efficiency atlas))
+  ([^TextureAtlas atlas page] (.efficiency atlas (int page))))
+
+(defn close!
+  "Unloads the page textures"
+  [^TextureAtlas atlas]
+  (.close atlas))
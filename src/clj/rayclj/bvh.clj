@@ -0,0 +1,45 @@
+(ns rayclj.bvh
+  "Ray picking against large meshes with a bounding volume hierarchy. See rayclj.MeshBvh.
+  Results are RayCollision views, same as get-ray-collision-mesh."
+  (:require [rayclj.raylib.structs :as rstructs]
+            [rayclj.memory :as memory])
+  (:import [rayclj MeshBvh]
+           [rayclj.raylib RayCollision]
+           [java.lang.foreign MemorySegment]))
+
+(set! *warn-on-reflection* true)
+
+(defn mesh-bvh
+  "Builds a hierarchy over the triangles of a mesh (view or segment).
+  The mesh must keep its vertices in CPU memory (ie. not unloaded) for refit!."
+  ^MeshBvh [mesh]
+  (MeshBvh. ^MemorySegment (rstructs/mesh mesh)))
+
+(defn get-ray-collision-mesh!
+  "Same as get-ray-collision-mesh using the hierarchy (written into dest).
+  A nil transform is the identity."
+  [dest ^MeshBvh bvh ray transform]
+  (let [dest ^MemorySegment (rstructs/ray-collision dest)
+        ray ^MemorySegment (rstructs/ray ray)]
+    (if (nil? transform)
+      (.getRayCollision bvh dest ray)
+      (.getRayCollision bvh dest ray ^MemorySegment (rstructs/matrix transform)))))
+
+(defn get-ray-collision-mesh
+  "Same as get-ray-collision-mesh using the hierarchy"
+  ([bvh ray]
+   (get-ray-collision-mesh bvh ray nil))
+  ([bvh ray transform]
+   (rstructs/get-ray-collision
+     (get-ray-collision-mesh! (memory/allocate (RayCollision/$LAYOUT)) bvh ray transform))))
+
+(defn refit!
+  "Recomputes the boxes after the vertices changed, without rebuilding the tree.
+  Reads the mesh's vertices, or takes the new positions as a float array or native segment
+  (eg. the data given to update-mesh-buffer)."
+  ([^MeshBvh bvh] (.refit bvh) bvh)
+  ([^MeshBvh bvh vertices]
+   (if (instance? MemorySegment vertices)
+     (.refit bvh ^MemorySegment vertices)
+     (.refit bvh ^floats vertices))
+   bvh))
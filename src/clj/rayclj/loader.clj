@@ -0,0 +1,101 @@
+(ns rayclj.loader
+  "Asset loading off the render thread. See rayclj.AssetLoader.
+  Loads return futures of struct views, like clojure.core/future ones: deref them (with a
+  timeout too) or poll with realized? or future-done?.
+  GPU uploads run on the render thread inside drain!, within a per-frame time budget."
+  (:require [rayclj.raylib.structs :as rstructs])
+  (:import [rayclj AssetLoader]
+           [java.lang.foreign MemorySegment]
+           [java.util.concurrent CompletableFuture Future TimeUnit TimeoutException]
+           [java.util.function Function Supplier]))
+
+(set! *warn-on-reflection* true)
+
+(defn asset-loader
+  "Creates a loader. budget-ms is the upload time per drain! (2 ms by default).
+  Close it with close! on the render thread."
+  (^AssetLoader [] (AssetLoader.))
+  (^AssetLoader [budget-ms] (AssetLoader. (long (* budget-ms 1000000)))))
+
+(defn- clj-future
+  "Wraps a CompletableFuture in the interfaces of clojure.core/future, which it lacks"
+  [^CompletableFuture future]
+  (reify
+    clojure.lang.IDeref
+    (deref [_] (.get future))
+    clojure.lang.IBlockingDeref
+    (deref [_ ms timeout-val]
+      (try
+        (.get future ms TimeUnit/MILLISECONDS)
+        (catch TimeoutException _ timeout-val)))
+    clojure.lang.IPending
+    (isRealized [_] (.isDone future))
+    Future
+    (get [_] (.get future))
+    (get [_ timeout unit] (.get future timeout unit))
+    (isDone [_] (.isDone future))
+    (isCancelled [_] (.isCancelled future))
+    (cancel [_ interrupt?] (.cancel future interrupt?))))
+
+(defn- then [^CompletableFuture future f]
+  (clj-future (.thenApply future (reify Function (apply [_ v] (f v))))))
+
+(defn load-image
+  "Reads and decodes an image on a virtual thread"
+  [^AssetLoader loader file-name]
+  (then (.loadImage loader file-name) rstructs/get-image))
+
+(defn load-image-from-memory
+  "Decodes an image from a byte array (file-type like \".png\") on a virtual thread"
+  [^AssetLoader loader file-type ^bytes file-data]
+  (then (.loadImageFromMemory loader file-type file-data) rstructs/get-image))
+
+(defn load-wave
+  "Reads and decodes a wave on a virtual thread"
+  [^AssetLoader loader file-name]
+  (then (.loadWave loader file-name) rstructs/get-wave))
+
+(defn load-texture
+  "Decodes the image on a virtual thread and uploads it in drain!"
+  [^AssetLoader loader file-name]
+  (then (.loadTexture loader file-name) rstructs/get-texture))
+
+(defn load-texture-from-image
+  "Uploads the image in drain! and unloads it"
+  [^AssetLoader loader image]
+  (then (.loadTextureFromImage loader (rstructs/image image)) rstructs/get-texture))
+
+(defn load-sound
+  "Decodes the wave on a virtual thread and loads the sound in drain!"
+  [^AssetLoader loader file-name]
+  (then (.loadSound loader file-name) rstructs/get-sound))
+
+(defn load-sound-from-wave
+  "Loads the sound in drain! and unloads the wave"
+  [^AssetLoader loader wave]
+  (then (.loadSoundFromWave loader (rstructs/wave wave)) rstructs/get-sound))
+
+(defn upload-mesh
+  "Uploads the mesh in drain!"
+  [^AssetLoader loader mesh dynamic?]
+  (then (.uploadMesh loader (rstructs/mesh mesh) (boolean dynamic?)) rstructs/get-mesh))
+
+(defn on-render-thread
+  "Calls f in drain!, e.g. for loaders which upload internally like load-model"
+  [^AssetLoader loader f]
+  (clj-future (.onRenderThread loader (reify Supplier (get [_] (f))))))
+
+(defn drain!
+  "Runs queued uploads until the time budget is used. Call it on the render thread every frame."
+  ([^AssetLoader loader] (.drain loader))
+  ([^AssetLoader loader budget-ms] (.drain loader (long (* budget-ms 1000000)))))
+
+(defn pending
+  "Number of uploads waiting for drain!"
+  [^AssetLoader loader]
+  (.pending loader))
+
+(defn close!
+  "Waits for running loads and unloads the ones still waiting for an upload"
+  [^AssetLoader loader]
+  (.close loader))
@@ -1,11 +1,18 @@
 (ns rayclj.memory
   "Utilities for memory management and arrays"
-  (:refer-clojure :exclude [int float double float-array byte-array int-array char-array])
+  (:refer-clojure :exclude [int float double float-array byte-array int-array short-array char-array])
   (:import
-   [java.lang.foreign Arena MemorySegment ValueLayout ValueLayout$OfInt ValueLayout$OfFloat ValueLayout$OfDouble MemoryLayout]))
+   [rayclj FrameArena LibraryResolver]
+   [java.nio Buffer ByteBuffer ByteOrder FloatBuffer IntBuffer ShortBuffer]
+   [java.nio.charset StandardCharsets]
+   [java.lang.foreign Arena MemorySegment SegmentAllocator ValueLayout ValueLayout$OfInt ValueLayout$OfFloat ValueLayout$OfDouble MemoryLayout]))
 
 (set! *warn-on-reflection* true)
 
+;; memory is loaded first, so start extracting raylib while the other namespaces load
+(when-not *compile-files*
+  (LibraryResolver/prefetch))
+
 (defn auto-arena ^Arena [] (Arena/ofAuto))
 
 (defn global-arena ^Arena [] (Arena/global))
@@ -19,8 +26,57 @@
      (binding [memory/*current-arena* arena#]
        ~@body)))
 
+(def default-frame-arena-size
+  "Initial slab size of the frame arena in bytes"
+  (* 1024 1024))
+
+(defonce ^:private frame-arena-instance
+  (delay (FrameArena. default-frame-arena-size)))
+
+(defn frame-arena
+  "Frame scoped bump arena. Allocations are rewound at the end of each frame, zero-filling only
+  the bytes the frame used."
+  ^rayclj.FrameArena []
+  @frame-arena-instance)
+
+(defmacro with-frame-arena
+  "Evaluates body with the frame arena as *current-arena* and rewinds it afterwards.
+  Segments allocated in body (and struct views over them) must not be used after it returns."
+  [& body]
+  `(let [arena# (frame-arena)]
+     (try
+       (binding [*current-arena* arena#]
+         ~@body)
+       (finally
+         (.reset arena#)))))
+
+(defn result-arena
+  "Arena for struct return values read through views. Inside the frame arena each result gets
+  its own auto arena, so a view kept past the end of the frame does not read the next frame's
+  memory. Results read into vectors (Vector2, Matrix, ...) are copied at once, so they don't need it."
+  ^Arena []
+  (let [arena *current-arena*]
+    (if (instance? FrameArena arena)
+      (Arena/ofAuto)
+      arena)))
+
+(defn frame-arena-stats
+  "Returns usage statistics of the frame arena in bytes"
+  []
+  (let [arena (frame-arena)]
+    {:used (.used arena)
+     :capacity (.capacity arena)
+     :high-water-mark (.highWaterMark arena)
+     :grow-count (.growCount arena)}))
+
 (def null MemorySegment/NULL)
 
+(defn prefix-allocator
+  "Allocator which always returns the beginning of seg.
+  Used for writing struct return values into a caller supplied segment."
+  ^java.lang.foreign.SegmentAllocator [^MemorySegment seg]
+  (SegmentAllocator/prefixAllocator seg))
+
 (defn allocate
   ([^MemoryLayout layout]
    (.allocate *current-arena* layout))
@@ -83,6 +139,32 @@
 ;;
 ;; Array functions for arrays of primitives
 ;;
+;; Java primitive arrays and nio buffers are copied in bulk with MemorySegment/copy.
+;; Other collections are written element by element with boxing, as a slow fallback.
+;;
+
+(def ^:private float-array-class (Class/forName "[F"))
+(def ^:private int-array-class (Class/forName "[I"))
+(def ^:private short-array-class (Class/forName "[S"))
+(def ^:private byte-array-class (Class/forName "[B"))
+
+(defn- elem-count
+  ^long [elems]
+  (if (instance? Buffer elems)
+    (.remaining ^Buffer elems)
+    (count elems)))
+
+(defn- copy-buffer
+  "Copies the remaining elements of a native order nio buffer into seg"
+  [^MemorySegment seg ^Buffer buf ^long elem-size]
+  (MemorySegment/copy (MemorySegment/ofBuffer buf) 0 seg 0 (* (.remaining buf) elem-size))
+  seg)
+
+(defn- native-order?
+  "Whether a buffer's elements can be copied as raw bytes. Others (e.g. a big endian
+  view of a ByteBuffer) are copied element by element, which swaps their bytes."
+  [^ByteOrder order]
+  (= order (ByteOrder/nativeOrder)))
 
 (defn primitive-array-fn [^MemoryLayout layout set-array-fn]
   (fn to-array
@@ -93,45 +175,82 @@
     ([elems]
      (if (instance? MemorySegment elems)
        elems
-       (to-array elems (count elems))))))
+       (to-array elems (elem-count elems))))))
+
+(defn get-floats
+  "Copies size floats from seg into a new float[]"
+  ^floats [^MemorySegment seg ^long size]
+  (.toArray (.asSlice seg 0 (* size Float/BYTES)) ValueLayout/JAVA_FLOAT))
+
+(defn set-floats
+  "Copies a float[] into seg"
+  [^MemorySegment seg ^floats arr]
+  (MemorySegment/copy arr 0 seg ValueLayout/JAVA_FLOAT 0 (alength arr))
+  seg)
 
 (defn get-float-array [^MemorySegment seg size]
-  (let [layout (ValueLayout/JAVA_FLOAT)]
-    (mapv (fn [i] (.getAtIndex seg layout (long i))) (range size))))
+  (vec (get-floats seg size)))
 
 (defn set-float-array
   [^MemorySegment seg elems max-size]
-  (when (> (count elems) max-size)
+  (when (> (elem-count elems) max-size)
     (throw (ex-info "Float array too long" {:elems elems :max-size max-size})))
-  (let [layout (ValueLayout/JAVA_FLOAT)]
-    (dorun
-     (map-indexed (fn [i elem] (.setAtIndex seg layout (long i) ^float elem)) elems)))
+  (cond
+    (instance? float-array-class elems) (set-floats seg elems)
+    (instance? FloatBuffer elems)
+    (let [^FloatBuffer buf elems]
+      (if (native-order? (.order buf))
+        (copy-buffer seg buf Float/BYTES)
+        (let [layout ValueLayout/JAVA_FLOAT
+              pos (.position buf)]
+          (dotimes [i (.remaining buf)]
+            (.setAtIndex seg layout i (.get buf (unchecked-int (+ pos i))))))))
+    :else
+    (let [layout (ValueLayout/JAVA_FLOAT)]
+      (dorun
+       (map-indexed (fn [i elem] (.setAtIndex seg layout (long i) ^float elem)) elems))))
   seg)
 
 (def float-array (primitive-array-fn ValueLayout/JAVA_FLOAT set-float-array))
 
+(defn get-bytes
+  "Copies size bytes from seg into a new byte[]"
+  ^bytes [^MemorySegment seg ^long size]
+  (.toArray (.asSlice seg 0 size) ValueLayout/JAVA_BYTE))
+
+(defn set-bytes
+  "Copies a byte[] into seg"
+  [^MemorySegment seg ^bytes arr]
+  (MemorySegment/copy arr 0 seg ValueLayout/JAVA_BYTE 0 (alength arr))
+  seg)
+
 (defn get-byte-array [^MemorySegment seg size]
-  (let [layout (ValueLayout/JAVA_BYTE)]
-    (mapv (fn [i] (.getAtIndex seg layout (long i))) (range size))))
+  (vec (get-bytes seg size)))
 
 (defn set-byte-array
   [^MemorySegment seg elems max-size]
-  (when (> (count elems) max-size)
+  (when (> (elem-count elems) max-size)
     (throw (ex-info "Byte array too long" {:elems elems :max-size max-size})))
-  (let [layout (ValueLayout/JAVA_BYTE)]
-    (dorun
-     (map-indexed
-      (fn [i elem]
-        (.setAtIndex seg layout (long i) (-> elem int unchecked-byte))) elems)))
+  (cond
+    (instance? byte-array-class elems) (set-bytes seg elems)
+    (instance? ByteBuffer elems) (copy-buffer seg elems 1)
+    :else
+    (let [layout (ValueLayout/JAVA_BYTE)]
+      (dorun
+       (map-indexed
+        (fn [i elem]
+          (.setAtIndex seg layout (long i) (-> elem clojure.core/int unchecked-byte))) elems))))
   seg)
 
 (def byte-array (primitive-array-fn ValueLayout/JAVA_BYTE set-byte-array))
 
 (defn get-char-array [^MemorySegment seg size]
-  (->> (get-byte-array seg size)
-       (take-while #(not= 0 %)) ;; zero terminated string
-       (map char)
-       (apply str)))
+  (let [^bytes arr (get-bytes seg size)
+        end (loop [i 0] ;; zero terminated string
+              (if (and (< i (alength arr)) (not= 0 (aget arr i)))
+                (recur (inc i))
+                i))]
+    (String. arr 0 (unchecked-int end) StandardCharsets/UTF_8)))
 
 (defn set-char-array [^MemorySegment seg elems max-size]
   (let [pad-size (- max-size (count elems))
@@ -140,17 +259,38 @@
 
 (def char-array (primitive-array-fn ValueLayout/JAVA_BYTE set-char-array))
 
+(defn get-ints
+  "Copies size ints from seg into a new int[]"
+  ^ints [^MemorySegment seg ^long size]
+  (.toArray (.asSlice seg 0 (* size Integer/BYTES)) ValueLayout/JAVA_INT))
+
+(defn set-ints
+  "Copies an int[] into seg"
+  [^MemorySegment seg ^ints arr]
+  (MemorySegment/copy arr 0 seg ValueLayout/JAVA_INT 0 (alength arr))
+  seg)
+
 (defn get-int-array [^MemorySegment seg size]
-  (let [layout (ValueLayout/JAVA_INT)]
-    (mapv (fn [i] (.getAtIndex seg layout (long i))) (range size))))
+  (vec (get-ints seg size)))
 
 (defn set-int-array
   [^MemorySegment seg elems max-size]
-  (when (> (count elems) max-size)
+  (when (> (elem-count elems) max-size)
     (throw (ex-info "Int array too long" {:elems elems :max-size max-size})))
-  (let [layout (ValueLayout/JAVA_INT)]
-    (dorun
-     (map-indexed (fn [i elem] (.setAtIndex seg layout (long i) ^int elem)) elems)))
+  (cond
+    (instance? int-array-class elems) (set-ints seg elems)
+    (instance? IntBuffer elems)
+    (let [^IntBuffer buf elems]
+      (if (native-order? (.order buf))
+        (copy-buffer seg buf Integer/BYTES)
+        (let [layout ValueLayout/JAVA_INT
+              pos (.position buf)]
+          (dotimes [i (.remaining buf)]
+            (.setAtIndex seg layout i (.get buf (unchecked-int (+ pos i))))))))
+    :else
+    (let [layout (ValueLayout/JAVA_INT)]
+      (dorun
+       (map-indexed (fn [i elem] (.setAtIndex seg layout (long i) ^int elem)) elems))))
   seg)
 
 (def int-array (primitive-array-fn ValueLayout/JAVA_INT set-int-array))
@@ -159,6 +299,81 @@
 (def set-unsigned-int-array set-int-array)
 (def unsigned-int-array int-array)
 
+(defn get-shorts
+  "Copies size shorts from seg into a new short[]"
+  ^shorts [^MemorySegment seg ^long size]
+  (.toArray (.asSlice seg 0 (* size Short/BYTES)) ValueLayout/JAVA_SHORT))
+
+(defn set-shorts
+  "Copies a short[] into seg"
+  [^MemorySegment seg ^shorts arr]
+  (MemorySegment/copy arr 0 seg ValueLayout/JAVA_SHORT 0 (alength arr))
+  seg)
+
+(defn get-short-array [^MemorySegment seg size]
+  (vec (get-shorts seg size)))
+
+(defn set-short-array
+  [^MemorySegment seg elems max-size]
+  (when (> (elem-count elems) max-size)
+    (throw (ex-info "Short array too long" {:elems elems :max-size max-size})))
+  (cond
+    (instance? short-array-class elems) (set-shorts seg elems)
+    (instance? ShortBuffer elems)
+    (let [^ShortBuffer buf elems]
+      (if (native-order? (.order buf))
+        (copy-buffer seg buf Short/BYTES)
+        (let [layout ValueLayout/JAVA_SHORT
+              pos (.position buf)]
+          (dotimes [i (.remaining buf)]
+            (.setAtIndex seg layout i (.get buf (unchecked-int (+ pos i))))))))
+    :else
+    (let [layout (ValueLayout/JAVA_SHORT)]
+      (dorun
+       (map-indexed
+        (fn [i elem]
+          (.setAtIndex seg layout (long i) (-> elem clojure.core/int unchecked-short))) elems))))
+  seg)
+
+(def short-array (primitive-array-fn ValueLayout/JAVA_SHORT set-short-array))
+
+(def get-unsigned-short-array get-short-array)
+(def set-unsigned-short-array set-short-array)
+(def unsigned-short-array short-array)
+
+(def ^ValueLayout$OfInt rgba-layout
+  "Unaligned big endian int, so packed 0xRRGGBBAA ints are stored as r, g, b, a bytes"
+  (.withOrder ValueLayout/JAVA_INT_UNALIGNED ByteOrder/BIG_ENDIAN))
+
+;;
+;; nio buffer views, no copy. Only valid as long as the segment is.
+;;
+
+(defn byte-buffer
+  "Native order ByteBuffer view over size bytes of seg"
+  ^ByteBuffer [^MemorySegment seg ^long size]
+  (-> (.asSlice seg 0 size)
+      (.asByteBuffer)
+      (.order (ByteOrder/nativeOrder))))
+
+(defn float-buffer
+  "FloatBuffer view over size floats of seg"
+  ^FloatBuffer [^MemorySegment seg ^long size]
+  (let [^ByteBuffer buf (byte-buffer seg (* size Float/BYTES))]
+    (.asFloatBuffer buf)))
+
+(defn int-buffer
+  "IntBuffer view over size ints of seg"
+  ^IntBuffer [^MemorySegment seg ^long size]
+  (let [^ByteBuffer buf (byte-buffer seg (* size Integer/BYTES))]
+    (.asIntBuffer buf)))
+
+(defn short-buffer
+  "ShortBuffer view over size shorts of seg"
+  ^ShortBuffer [^MemorySegment seg ^long size]
+  (let [^ByteBuffer buf (byte-buffer seg (* size Short/BYTES))]
+    (.asShortBuffer buf)))
+
 ;;
 ;; Utility functions for arrays of structs
 ;;
@@ -200,3 +415,120 @@
          (let [max-size (count elems)
                seg (allocate-array elem-layout max-size)]
            (set-array seg elems max-size)))))))
+
+;;
+;; Struct views
+;;
+
+(definterface IStructView
+  (^java.lang.foreign.MemorySegment segment [])
+  (^clojure.lang.IPersistentMap materialize []))
+
+(defn view?
+  [v]
+  (instance? IStructView v))
+
+(defn segment
+  "Returns the segment backing a struct view"
+  ^MemorySegment [^IStructView v]
+  (.segment v))
+
+(defn materialize
+  "Copies struct views (and vectors of them) into persistent maps.
+  Any other value is returned as is."
+  [v]
+  (cond
+    (instance? IStructView v) (.materialize ^IStructView v)
+    (and (vector? v) (instance? IStructView (nth v 0 nil))) (mapv materialize v)
+    :else v))
+
+(defn result
+  "Struct results written into the frame arena are materialized, so they can be kept past the
+  end of the frame. Any other value is returned as is."
+  [v]
+  (if (instance? FrameArena *current-arena*)
+    (materialize v)
+    v))
+
+(defmacro defview
+  "Defines a read only, map like view type over a struct segment.
+  fields are pairs of keywords and getter forms reading from `seg`.
+
+  Lookups (get, keyword invoke, destructuring) call the getter directly, nothing is
+  copied. Equality compares field by field with views and other maps. Everything else
+  (seq, assoc, hashing, printing) works on a materialized map.
+  A view reads the segment on every lookup, so it must not outlive the segment's arena."
+  [type-name fields]
+  (let [kvs (partition 2 fields)
+        ks (set (map first kvs))
+        k (gensym "k")
+        m (gensym "m")
+        not-found (gensym "not-found")]
+    `(do
+       (deftype ~type-name [~(with-meta 'seg {:tag 'java.lang.foreign.MemorySegment})]
+         IStructView
+         (~'segment [_#] ~'seg)
+         (~'materialize [_#]
+          (array-map ~@(mapcat (fn [[field getter]] [field `(materialize ~getter)]) kvs)))
+
+         clojure.lang.MapEquivalence
+
+         clojure.lang.IPersistentMap
+         (~'valAt [this# ~k] (.valAt this# ~k nil))
+         (~'valAt [_# ~k ~not-found]
+          (case ~k
+            ~@(apply concat kvs)
+            ~not-found))
+         (~'containsKey [_# ~k] (contains? ~ks ~k))
+         (~'entryAt [this# ~k]
+          (when (contains? ~ks ~k)
+            (clojure.lang.MapEntry/create ~k (.valAt this# ~k))))
+         (~'count [_#] ~(count ks))
+         (~'seq [this#] (seq (.materialize this#)))
+         (~'iterator [this#] (.iterator ^Iterable (.materialize this#)))
+         (~'assoc [this# k# v#] (assoc (.materialize this#) k# v#))
+         (~'assocEx [this# k# v#] (.assocEx (.materialize this#) k# v#))
+         (~'without [this# k#] (dissoc (.materialize this#) k#))
+         (~'cons [this# o#] (conj (.materialize this#) o#))
+         (~'empty [_#] {})
+         (~'equiv [this# o#]
+          ;; field by field, like APersistentMap, so views equal views and maps either way round
+          (or (identical? this# o#)
+              (and (instance? java.util.Map o#)
+                   (or (not (instance? clojure.lang.IPersistentMap o#))
+                       (instance? clojure.lang.MapEquivalence o#))
+                   (let [~(with-meta m {:tag 'java.util.Map}) o#]
+                     (and (== ~(count ks) (.size ~m))
+                          ~@(map (fn [[field getter]]
+                                   `(and (.containsKey ~m ~field)
+                                         (= ~getter (.get ~m ~field))))
+                                 kvs))))))
+
+         clojure.lang.IHashEq
+         (~'hasheq [this#] (hash (.materialize this#)))
+
+         clojure.lang.IFn
+         (~'invoke [this# k#] (.valAt this# k#))
+         (~'invoke [this# k# not-found#] (.valAt this# k# not-found#))
+         (~'applyTo [this# args#] (clojure.lang.AFn/applyToHelper this# args#))
+
+         java.util.Map
+         (~'size [_#] ~(count ks))
+         (~'isEmpty [_#] ~(empty? ks))
+         (~'get [this# k#] (.valAt this# k#))
+         (~'containsValue [this# v#] (.containsValue ^java.util.Map (.materialize this#) v#))
+         (~'keySet [_#] ~ks)
+         (~'values [this#] (.values ^java.util.Map (.materialize this#)))
+         (~'entrySet [this#] (.entrySet ^java.util.Map (.materialize this#)))
+         (~'put [_# _k# _v#] (throw (UnsupportedOperationException.)))
+         (~'remove [_# _k#] (throw (UnsupportedOperationException.)))
+         (~'putAll [_# _m#] (throw (UnsupportedOperationException.)))
+         (~'clear [_#] (throw (UnsupportedOperationException.)))
+
+         Object
+         (~'hashCode [this#] (.hashCode ^Object (.materialize this#)))
+         (~'equals [this# o#] (.equals ^Object (.materialize this#) o#))
+         (~'toString [this#] (str (.materialize this#))))
+
+       (defmethod print-method ~type-name [v# ^java.io.Writer w#]
+         (print-method (materialize v#) w#)))))
@@ -0,0 +1,41 @@
+(ns rayclj.model-cache
+  "Loaded models cached on disk in a flat binary form, so later loads skip parsing.
+  See rayclj.ModelCache."
+  (:require [rayclj.raylib.structs :as rstructs])
+  (:import [rayclj ModelCache ModelCache$Stats]
+           [java.lang.foreign Arena]
+           [java.nio.file Path]))
+
+(set! *warn-on-reflection* true)
+
+(defn model-cache
+  "Creates a cache storing its files in directory"
+  ^ModelCache [directory]
+  (ModelCache. (if (instance? Path directory) directory (Path/of (str directory) (make-array String 0)))))
+
+(defn load-model
+  "Loads a model from the cache, or with load-model the first time and after file-name changed.
+  Unload it with unload-model."
+  [^ModelCache cache file-name]
+  (rstructs/get-model (.loadModel cache (Arena/ofAuto) file-name)))
+
+(defn invalidate!
+  "Deletes the cache file of file-name, eg. after changing only its textures or materials"
+  [^ModelCache cache file-name]
+  (.invalidate cache file-name)
+  cache)
+
+(defn metrics
+  "Loads as {:hits :rehashed :misses :hit-ms :miss-ms :write-ms}, with the average time of a
+  cached load (:hit-avg-ms) and of a load from the source format (:miss-avg-ms) to compare"
+  [^ModelCache cache]
+  (let [^ModelCache$Stats s (.stats cache)
+        average (fn [nanos n] (when (pos? n) (/ nanos n 1e6)))]
+    {:hits (.hits s)
+     :rehashed (.rehashed s)
+     :misses (.misses s)
+     :hit-ms (/ (.hitNanos s) 1e6)
+     :miss-ms (/ (.missNanos s) 1e6)
+     :write-ms (/ (.writeNanos s) 1e6)
+     :hit-avg-ms (average (.hitNanos s) (.hits s))
+     :miss-avg-ms (average (.missNanos s) (.misses s))}))
@@ -0,0 +1,58 @@
+(ns rayclj.pack
+  "Assets read from a single memory mapped pack file. See rayclj.AssetPack.
+  Packs are written by the build's pack task: clj -T:build pack :dir '\"resources\"'"
+  (:require [rayclj.raylib.structs :as rstructs])
+  (:import [rayclj AssetPack AssetPack$Stats]
+           [java.lang.foreign Arena]
+           [java.nio.file Path]))
+
+(set! *warn-on-reflection* true)
+
+(defn asset-pack
+  "Maps a pack file. Close it with close! once its assets are loaded."
+  ^AssetPack [file]
+  (AssetPack. (if (instance? Path file) file (Path/of (str file) (make-array String 0)))))
+
+(defn names
+  "Entry names, relative paths with / separators"
+  [^AssetPack pack]
+  (vec (.names pack)))
+
+(defn data
+  "The bytes of an entry as a read only MemorySegment, valid until the pack is closed"
+  [^AssetPack pack name]
+  (.data pack name))
+
+(defn load-image
+  "Loads an image from the pack (unload it with unload-image)"
+  [^AssetPack pack name]
+  (rstructs/get-image (.loadImage pack (Arena/ofAuto) name)))
+
+(defn load-texture
+  "Loads a texture from the pack, pre-decoded images are uploaded without decoding or copying"
+  [^AssetPack pack name]
+  (rstructs/get-texture (.loadTexture pack (Arena/ofAuto) name)))
+
+(defn load-wave
+  "Loads a wave from the pack (unload it with unload-wave)"
+  [^AssetPack pack name]
+  (rstructs/get-wave (.loadWave pack (Arena/ofAuto) name)))
+
+(defn load-font
+  "Loads a font from the pack with the default character set (unload it with unload-font)"
+  [^AssetPack pack name font-size]
+  (rstructs/get-font (.loadFont pack (Arena/ofAuto) name (int font-size))))
+
+(defn metrics
+  "Time spent opening the pack and loading from it, as {:open-ms :loads :load-ms :bytes}"
+  [^AssetPack pack]
+  (let [^AssetPack$Stats s (.stats pack)]
+    {:open-ms (/ (.openNanos s) 1e6)
+     :loads (.loads s)
+     :load-ms (/ (.loadNanos s) 1e6)
+     :bytes (.bytes s)}))
+
+(defn close!
+  "Unmaps the pack, its data and image views must not be used afterwards"
+  [^AssetPack pack]
+  (.close pack))
@@ -0,0 +1,43 @@
+(ns rayclj.pixel-cache
+  "Decoded images cached on disk and memory mapped on later loads. See rayclj.PixelCache."
+  (:require [rayclj.raylib.structs :as rstructs])
+  (:import [rayclj PixelCache PixelCache$Stats]
+           [java.lang.foreign Arena]
+           [java.nio.file Path]))
+
+(set! *warn-on-reflection* true)
+
+(defn pixel-cache
+  "Creates a cache storing its files in directory"
+  ^PixelCache [directory]
+  (PixelCache. (if (instance? Path directory) directory (Path/of (str directory) (make-array String 0)))))
+
+(defn image
+  "The image of file-name mapped from the cache into arena, decoded only when the source changed.
+  It is read only and valid until arena is closed, don't unload it."
+  ([cache ^Arena arena file-name] (image cache arena file-name false))
+  ([^PixelCache cache ^Arena arena file-name mipmaps?]
+   (rstructs/get-image (.image cache arena file-name (boolean mipmaps?)))))
+
+(defn load-texture
+  "Loads a texture through the cache, with mipmaps when mipmaps? is true (unload it with unload-texture)"
+  ([cache file-name] (load-texture cache file-name false))
+  ([^PixelCache cache file-name mipmaps?]
+   (rstructs/get-texture (.loadTexture cache (Arena/ofAuto) file-name (boolean mipmaps?)))))
+
+(defn invalidate!
+  "Deletes the cached pixels of file-name"
+  ([cache file-name] (invalidate! cache file-name false))
+  ([^PixelCache cache file-name mipmaps?]
+   (.invalidate cache file-name (boolean mipmaps?))
+   cache))
+
+(defn metrics
+  "Lookups as {:hits :rehashed :misses :hit-ms :miss-ms}, :rehashed hits had a changed file time"
+  [^PixelCache cache]
+  (let [^PixelCache$Stats s (.stats cache)]
+    {:hits (.hits s)
+     :rehashed (.rehashed s)
+     :misses (.misses s)
+     :hit-ms (/ (.hitNanos s) 1e6)
+     :miss-ms (/ (.missNanos s) 1e6)}))
@@ -2,7 +2,9 @@
   (:require [rayclj.raylib.enums :as renums]
             [rayclj.raylib.structs :as rstructs]
             [rayclj.memory :as memory])
-  (:import [rayclj.raylib raylib_h]))
+  (:import [rayclj InstanceBuffer]
+           [rayclj.raylib Matrix raylib_h]
+           [java.lang.foreign MemorySegment]))
 
 (set! *warn-on-reflection* true)
 
@@ -11,9 +13,11 @@
 ;;
 
 (defmacro with-drawing
-  "Evaluates body between begin-drawing and end-drawing calls"
+  "Evaluates body between begin-drawing and end-drawing calls.
+  Struct temporaries created in body are allocated in the frame arena,
+  which is rewound after end-drawing."
   [& body]
-  `(do
+  `(memory/with-frame-arena
      (begin-drawing)
      ~@body
      (end-drawing)))
@@ -81,72 +85,99 @@
 (defn init-window
   "Initialize window and OpenGL context
   [int width, int height, const char * title] -> void"
-  [width height title]
+  {:inline (fn [width height title]
+             `(raylib_h/InitWindow ~width ~height (memory/string ~title)))}
+  [^long width ^long height title]
   (raylib_h/InitWindow width height (memory/string title)))
 
 (defn close-window
   "Close window and unload OpenGL context
   [] -> void"
+  {:inline (fn []
+             `(raylib_h/CloseWindow))}
   []
   (raylib_h/CloseWindow))
 
 (defn window-should-close?
   "Check if application should close (KEY_ESCAPE pressed or windows close icon clicked)
   [] -> bool"
+  {:inline (fn []
+             `(raylib_h/WindowShouldClose))}
   []
   (raylib_h/WindowShouldClose))
 
 (defn window-ready?
   "Check if window has been initialized successfully
   [] -> bool"
+  {:inline (fn []
+             `(raylib_h/IsWindowReady))}
   []
   (raylib_h/IsWindowReady))
 
 (defn window-fullscreen?
   "Check if window is currently fullscreen
   [] -> bool"
+  {:inline (fn []
+             `(raylib_h/IsWindowFullscreen))}
   []
   (raylib_h/IsWindowFullscreen))
 
 (defn window-hidden?
   "Check if window is currently hidden (only PLATFORM_DESKTOP)
   [] -> bool"
+  {:inline (fn []
+             `(raylib_h/IsWindowHidden))}
   []
   (raylib_h/IsWindowHidden))
 
 (defn window-minimized?
   "Check if window is currently minimized (only PLATFORM_DESKTOP)
   [] -> bool"
+  {:inline (fn []
+             `(raylib_h/IsWindowMinimized))}
   []
   (raylib_h/IsWindowMinimized))
 
 (defn window-maximized?
   "Check if window is currently maximized (only PLATFORM_DESKTOP)
   [] -> bool"
+  {:inline (fn []
+             `(raylib_h/IsWindowMaximized))}
   []
   (raylib_h/IsWindowMaximized))
 
 (defn window-focused?
   "Check if window is currently focused (only PLATFORM_DESKTOP)
   [] -> bool"
+  {:inline (fn []
+             `(raylib_h/IsWindowFocused))}
   []
   (raylib_h/IsWindowFocused))
 
 (defn window-resized?
   "Check if window has been resized last frame
   [] -> bool"
+  {:inline (fn []
+             `(raylib_h/IsWindowResized))}
   []
   (raylib_h/IsWindowResized))
 
 (defn window-state?
   "Check if one specific window flag is enabled
   [unsigned int flag] -> bool"
+  {:inline (fn [flag]
+             `(let [flag# ~flag]
+                (raylib_h/IsWindowState (if (keyword? flag#) (renums/config-flags flag#) flag#))))}
   [flag]
   (raylib_h/IsWindowState (if (keyword? flag) (renums/config-flags flag) flag)))
 
 (defn set-window-state
   "Set window configuration state using flags (only PLATFORM_DESKTOP)
   [unsigned int flags] -> void"
+  {:inline (fn [flags]
+             `(let [flags# ~flags]
+                (raylib_h/SetWindowState
+                  (if (keyword? flags#) (renums/config-flags flags#) flags#))))}
   [flags]
   (raylib_h/SetWindowState
     (if (keyword? flags) (renums/config-flags flags) flags)))
@@ -154,6 +185,10 @@
 (defn clear-window-state
   "Clear window configuration state flags
   [unsigned int flags] -> void"
+  {:inline (fn [flags]
+             `(let [flags# ~flags]
+                (raylib_h/ClearWindowState
+                  (if (keyword? flags#) (renums/config-flags flags#) flags#))))}
   [flags]
   (raylib_h/ClearWindowState
     (if (keyword? flags) (renums/config-flags flags) flags)))
@@ -161,133 +196,177 @@
 (defn toggle-fullscreen
   "Toggle window state: fullscreen/windowed (only PLATFORM_DESKTOP)
   [] -> void"
+  {:inline (fn []
+             `(raylib_h/ToggleFullscreen))}
   []
   (raylib_h/ToggleFullscreen))
 
 (defn toggle-borderless-windowed
   "Toggle window state: borderless windowed (only PLATFORM_DESKTOP)
   [] -> void"
+  {:inline (fn []
+             `(raylib_h/ToggleBorderlessWindowed))}
   []
   (raylib_h/ToggleBorderlessWindowed))
 
 (defn maximize-window
   "Set window state: maximized, if resizable (only PLATFORM_DESKTOP)
   [] -> void"
+  {:inline (fn []
+             `(raylib_h/MaximizeWindow))}
   []
   (raylib_h/MaximizeWindow))
 
 (defn minimize-window
   "Set window state: minimized, if resizable (only PLATFORM_DESKTOP)
   [] -> void"
+  {:inline (fn []
+             `(raylib_h/MinimizeWindow))}
   []
   (raylib_h/MinimizeWindow))
 
 (defn restore-window
   "Set window state: not minimized/maximized (only PLATFORM_DESKTOP)
   [] -> void"
+  {:inline (fn []
+             `(raylib_h/RestoreWindow))}
   []
   (raylib_h/RestoreWindow))
 
 (defn set-window-icon
   "Set icon for window (single image, RGBA 32bit, only PLATFORM_DESKTOP)
   [Image image] -> void"
+  {:inline (fn [image]
+             `(raylib_h/SetWindowIcon (rstructs/image ~image)))}
   [image]
   (raylib_h/SetWindowIcon (rstructs/image image)))
 
 (defn set-window-icons
   "Set icon for window (multiple images, RGBA 32bit, only PLATFORM_DESKTOP)
   [Image * images, int count] -> void"
-  [images count]
+  {:inline (fn [images count]
+             `(raylib_h/SetWindowIcons (rstructs/image ~images) ~count))}
+  [images ^long count]
   (raylib_h/SetWindowIcons (rstructs/image images) count))
 
 (defn set-window-title
   "Set title for window (only PLATFORM_DESKTOP and PLATFORM_WEB)
   [const char * title] -> void"
+  {:inline (fn [title]
+             `(raylib_h/SetWindowTitle (memory/string ~title)))}
   [title]
   (raylib_h/SetWindowTitle (memory/string title)))
 
 (defn set-window-position
   "Set window position on screen (only PLATFORM_DESKTOP)
   [int x, int y] -> void"
-  [x y]
+  {:inline (fn [x y]
+             `(raylib_h/SetWindowPosition ~x ~y))}
+  [^long x ^long y]
   (raylib_h/SetWindowPosition x y))
 
 (defn set-window-monitor
   "Set monitor for the current window
   [int monitor] -> void"
-  [monitor]
+  {:inline (fn [monitor]
+             `(raylib_h/SetWindowMonitor ~monitor))}
+  [^long monitor]
   (raylib_h/SetWindowMonitor monitor))
 
 (defn set-window-min-size
   "Set window minimum dimensions (for FLAG_WINDOW_RESIZABLE)
   [int width, int height] -> void"
-  [width height]
+  {:inline (fn [width height]
+             `(raylib_h/SetWindowMinSize ~width ~height))}
+  [^long width ^long height]
   (raylib_h/SetWindowMinSize width height))
 
 (defn set-window-max-size
   "Set window maximum dimensions (for FLAG_WINDOW_RESIZABLE)
   [int width, int height] -> void"
-  [width height]
+  {:inline (fn [width height]
+             `(raylib_h/SetWindowMaxSize ~width ~height))}
+  [^long width ^long height]
   (raylib_h/SetWindowMaxSize width height))
 
 (defn set-window-size
   "Set window dimensions
   [int width, int height] -> void"
-  [width height]
+  {:inline (fn [width height]
+             `(raylib_h/SetWindowSize ~width ~height))}
+  [^long width ^long height]
   (raylib_h/SetWindowSize width height))
 
 (defn set-window-opacity
   "Set window opacity [0.0f..1.0f] (only PLATFORM_DESKTOP)
   [float opacity] -> void"
-  [opacity]
+  {:inline (fn [opacity]
+             `(raylib_h/SetWindowOpacity ~opacity))}
+  [^double opacity]
   (raylib_h/SetWindowOpacity opacity))
 
 (defn set-window-focused
   "Set window focused (only PLATFORM_DESKTOP)
   [] -> void"
+  {:inline (fn []
+             `(raylib_h/SetWindowFocused))}
   []
   (raylib_h/SetWindowFocused))
 
 (defn get-window-handle
   "Get native window handle
   [] -> void *"
+  {:inline (fn []
+             `(raylib_h/GetWindowHandle))}
   []
   (raylib_h/GetWindowHandle))
 
 (defn get-screen-width
   "Get current screen width
   [] -> int"
-  []
+  {:inline (fn []
+             `(long (raylib_h/GetScreenWidth)))}
+  ^long []
   (raylib_h/GetScreenWidth))
 
 (defn get-screen-height
   "Get current screen height
   [] -> int"
-  []
+  {:inline (fn []
+             `(long (raylib_h/GetScreenHeight)))}
+  ^long []
   (raylib_h/GetScreenHeight))
 
 (defn get-render-width
   "Get current render width (it considers HiDPI)
   [] -> int"
-  []
+  {:inline (fn []
+             `(long (raylib_h/GetRenderWidth)))}
+  ^long []
   (raylib_h/GetRenderWidth))
 
 (defn get-render-height
   "Get current render height (it considers HiDPI)
   [] -> int"
-  []
+  {:inline (fn []
+             `(long (raylib_h/GetRenderHeight)))}
+  ^long []
   (raylib_h/GetRenderHeight))
 
 (defn get-monitor-count
   "Get number of connected monitors
   [] -> int"
-  []
+  {:inline (fn []
+             `(long (raylib_h/GetMonitorCount)))}
+  ^long []
   (raylib_h/GetMonitorCount))
 
 (defn get-current-monitor
   "Get current connected monitor
   [] -> int"
-  []
+  {:inline (fn []
+             `(long (raylib_h/GetCurrentMonitor)))}
+  ^long []
   (raylib_h/GetCurrentMonitor))
 
 (defn get-monitor-position
@@ -297,34 +376,54 @@
   (rstructs/get-vector2 (raylib_h/GetMonitorPosition memory/*current-arena*
                                                      monitor)))
 
+(defn get-monitor-position!
+  "Get specified monitor position (written into dest)
+  [Vector2 * dest, int monitor] -> Vector2 *"
+  {:inline (fn [dest monitor]
+             `(raylib_h/GetMonitorPosition (memory/prefix-allocator ~dest)
+                                           ~monitor))}
+  [dest ^long monitor]
+  (raylib_h/GetMonitorPosition (memory/prefix-allocator dest)
+                               monitor))
+
 (defn get-monitor-width
   "Get specified monitor width (current video mode used by monitor)
   [int monitor] -> int"
-  [monitor]
+  {:inline (fn [monitor]
+             `(long (raylib_h/GetMonitorWidth ~monitor)))}
+  ^long [^long monitor]
   (raylib_h/GetMonitorWidth monitor))
 
 (defn get-monitor-height
   "Get specified monitor height (current video mode used by monitor)
   [int monitor] -> int"
-  [monitor]
+  {:inline (fn [monitor]
+             `(long (raylib_h/GetMonitorHeight ~monitor)))}
+  ^long [^long monitor]
   (raylib_h/GetMonitorHeight monitor))
 
 (defn get-monitor-physical-width
   "Get specified monitor physical width in millimetres
   [int monitor] -> int"
-  [monitor]
+  {:inline (fn [monitor]
+             `(long (raylib_h/GetMonitorPhysicalWidth ~monitor)))}
+  ^long [^long monitor]
   (raylib_h/GetMonitorPhysicalWidth monitor))
 
 (defn get-monitor-physical-height
   "Get specified monitor physical height in millimetres
   [int monitor] -> int"
-  [monitor]
+  {:inline (fn [monitor]
+             `(long (raylib_h/GetMonitorPhysicalHeight ~monitor)))}
+  ^long [^long monitor]
   (raylib_h/GetMonitorPhysicalHeight monitor))
 
 (defn get-monitor-refresh-rate
   "Get specified monitor refresh rate
   [int monitor] -> int"
-  [monitor]
+  {:inline (fn [monitor]
+             `(long (raylib_h/GetMonitorRefreshRate ~monitor)))}
+  ^long [^long monitor]
   (raylib_h/GetMonitorRefreshRate monitor))
 
 (defn get-window-position
@@ -333,171 +432,250 @@
   []
   (rstructs/get-vector2 (raylib_h/GetWindowPosition memory/*current-arena*)))
 
+(defn get-window-position!
+  "Get window position XY on monitor (written into dest)
+  [Vector2 * dest] -> Vector2 *"
+  {:inline (fn [dest]
+             `(raylib_h/GetWindowPosition (memory/prefix-allocator ~dest)))}
+  [dest]
+  (raylib_h/GetWindowPosition (memory/prefix-allocator dest)))
+
 (defn get-window-scale-dpi
   "Get window scale DPI factor
   [] -> Vector2"
   []
   (rstructs/get-vector2 (raylib_h/GetWindowScaleDPI memory/*current-arena*)))
 
+(defn get-window-scale-dpi!
+  "Get window scale DPI factor (written into dest)
+  [Vector2 * dest] -> Vector2 *"
+  {:inline (fn [dest]
+             `(raylib_h/GetWindowScaleDPI (memory/prefix-allocator ~dest)))}
+  [dest]
+  (raylib_h/GetWindowScaleDPI (memory/prefix-allocator dest)))
+
 (defn get-monitor-name
   "Get the human-readable, UTF-8 encoded name of the specified monitor
   [int monitor] -> const char *"
-  [monitor]
+  {:inline (fn [monitor]
+             `(raylib_h/GetMonitorName ~monitor))}
+  [^long monitor]
   (raylib_h/GetMonitorName monitor))
 
 (defn set-clipboard-text
   "Set clipboard text content
   [const char * text] -> void"
+  {:inline (fn [text]
+             `(raylib_h/SetClipboardText (memory/string ~text)))}
   [text]
   (raylib_h/SetClipboardText (memory/string text)))
 
 (defn get-clipboard-text
   "Get clipboard text content
   [] -> const char *"
+  {:inline (fn []
+             `(raylib_h/GetClipboardText))}
   []
   (raylib_h/GetClipboardText))
 
 (defn enable-event-waiting
   "Enable waiting for events on EndDrawing(), no automatic event polling
   [] -> void"
+  {:inline (fn []
+             `(raylib_h/EnableEventWaiting))}
   []
   (raylib_h/EnableEventWaiting))
 
 (defn disable-event-waiting
   "Disable waiting for events on EndDrawing(), automatic events polling
   [] -> void"
+  {:inline (fn []
+             `(raylib_h/DisableEventWaiting))}
   []
   (raylib_h/DisableEventWaiting))
 
-(defn show-cursor "Shows cursor
-  [] -> void" [] (raylib_h/ShowCursor))
+(defn show-cursor
+  "Shows cursor
+  [] -> void"
+  {:inline (fn []
+             `(raylib_h/ShowCursor))}
+  []
+  (raylib_h/ShowCursor))
 
-(defn hide-cursor "Hides cursor
-  [] -> void" [] (raylib_h/HideCursor))
+(defn hide-cursor
+  "Hides cursor
+  [] -> void"
+  {:inline (fn []
+             `(raylib_h/HideCursor))}
+  []
+  (raylib_h/HideCursor))
 
 (defn cursor-hidden?
   "Check if cursor is not visible
   [] -> bool"
+  {:inline (fn []
+             `(raylib_h/IsCursorHidden))}
   []
   (raylib_h/IsCursorHidden))
 
 (defn enable-cursor
   "Enables cursor (unlock cursor)
   [] -> void"
+  {:inline (fn []
+             `(raylib_h/EnableCursor))}
   []
   (raylib_h/EnableCursor))
 
 (defn disable-cursor
   "Disables cursor (lock cursor)
   [] -> void"
+  {:inline (fn []
+             `(raylib_h/DisableCursor))}
   []
   (raylib_h/DisableCursor))
 
 (defn cursor-on-screen?
   "Check if cursor is on the screen
   [] -> bool"
+  {:inline (fn []
+             `(raylib_h/IsCursorOnScreen))}
   []
   (raylib_h/IsCursorOnScreen))
 
 (defn clear-background
   "Set background color (framebuffer clear color)
   [Color color] -> void"
+  {:inline (fn [color]
+             `(raylib_h/ClearBackground (rstructs/color ~color)))}
   [color]
   (raylib_h/ClearBackground (rstructs/color color)))
 
 (defn begin-drawing
   "Setup canvas (framebuffer) to start drawing
   [] -> void"
+  {:inline (fn []
+             `(raylib_h/BeginDrawing))}
   []
   (raylib_h/BeginDrawing))
 
 (defn end-drawing
   "End canvas drawing and swap buffers (double buffering)
   [] -> void"
+  {:inline (fn []
+             `(raylib_h/EndDrawing))}
   []
   (raylib_h/EndDrawing))
 
 (defn begin-mode2d
   "Begin 2D mode with custom camera (2D)
   [Camera2D camera] -> void"
+  {:inline (fn [camera]
+             `(raylib_h/BeginMode2D (rstructs/camera2d ~camera)))}
   [camera]
   (raylib_h/BeginMode2D (rstructs/camera2d camera)))
 
 (defn end-mode2d
   "Ends 2D mode with custom camera
   [] -> void"
+  {:inline (fn []
+             `(raylib_h/EndMode2D))}
   []
   (raylib_h/EndMode2D))
 
 (defn begin-mode3d
   "Begin 3D mode with custom camera (3D)
   [Camera3D camera] -> void"
+  {:inline (fn [camera]
+             `(raylib_h/BeginMode3D (rstructs/camera3d ~camera)))}
   [camera]
   (raylib_h/BeginMode3D (rstructs/camera3d camera)))
 
 (defn end-mode3d
   "Ends 3D mode and returns to default 2D orthographic mode
   [] -> void"
+  {:inline (fn []
+             `(raylib_h/EndMode3D))}
   []
   (raylib_h/EndMode3D))
 
 (defn begin-texture-mode
   "Begin drawing to render texture
   [RenderTexture2D target] -> void"
+  {:inline (fn [target]
+             `(raylib_h/BeginTextureMode (rstructs/render-texture ~target)))}
   [target]
   (raylib_h/BeginTextureMode (rstructs/render-texture target)))
 
 (defn end-texture-mode
   "Ends drawing to render texture
   [] -> void"
+  {:inline (fn []
+             `(raylib_h/EndTextureMode))}
   []
   (raylib_h/EndTextureMode))
 
 (defn begin-shader-mode
   "Begin custom shader drawing
   [Shader shader] -> void"
+  {:inline (fn [shader]
+             `(raylib_h/BeginShaderMode (rstructs/shader ~shader)))}
   [shader]
   (raylib_h/BeginShaderMode (rstructs/shader shader)))
 
 (defn end-shader-mode
   "End custom shader drawing (use default shader)
   [] -> void"
+  {:inline (fn []
+             `(raylib_h/EndShaderMode))}
   []
   (raylib_h/EndShaderMode))
 
 (defn begin-blend-mode
   "Begin blending mode (alpha, additive, multiplied, subtract, custom)
   [int mode] -> void"
+  {:inline (fn [mode]
+             `(let [mode# ~mode]
+                (raylib_h/BeginBlendMode (if (keyword? mode#) (renums/blend-mode mode#) mode#))))}
   [mode]
   (raylib_h/BeginBlendMode (if (keyword? mode) (renums/blend-mode mode) mode)))
 
 (defn end-blend-mode
   "End blending mode (reset to default: alpha blending)
   [] -> void"
+  {:inline (fn []
+             `(raylib_h/EndBlendMode))}
   []
   (raylib_h/EndBlendMode))
 
 (defn begin-scissor-mode
   "Begin scissor mode (define screen area for following drawing)
   [int x, int y, int width, int height] -> void"
-  [x y width height]
+  {:inline (fn [x y width height]
+             `(raylib_h/BeginScissorMode ~x ~y ~width ~height))}
+  [^long x ^long y ^long width ^long height]
   (raylib_h/BeginScissorMode x y width height))
 
 (defn end-scissor-mode
   "End scissor mode
   [] -> void"
+  {:inline (fn []
+             `(raylib_h/EndScissorMode))}
   []
   (raylib_h/EndScissorMode))
 
 (defn begin-vr-stereo-mode
   "Begin stereo rendering (requires VR simulator)
   [VrStereoConfig config] -> void"
+  {:inline (fn [config]
+             `(raylib_h/BeginVrStereoMode (rstructs/vr-stereo-config ~config)))}
   [config]
   (raylib_h/BeginVrStereoMode (rstructs/vr-stereo-config config)))
 
 (defn end-vr-stereo-mode
   "End stereo rendering (requires VR simulator)
   [] -> void"
+  {:inline (fn []
+             `(raylib_h/EndVrStereoMode))}
   []
   (raylib_h/EndVrStereoMode))
 
@@ -506,12 +684,25 @@
   [VrDeviceInfo device] -> VrStereoConfig"
   [device]
   (rstructs/get-vr-stereo-config (raylib_h/LoadVrStereoConfig
-                                   memory/*current-arena*
+                                   (memory/result-arena)
                                    (rstructs/vr-device-info device))))
 
+(defn load-vr-stereo-config!
+  "Load VR stereo config for VR simulator device parameters (written into dest)
+  [VrStereoConfig * dest, VrDeviceInfo device] -> VrStereoConfig *"
+  {:inline (fn [dest device]
+             `(raylib_h/LoadVrStereoConfig (memory/prefix-allocator ~dest)
+                                           (rstructs/vr-device-info ~device)))}
+  [dest device]
+  (raylib_h/LoadVrStereoConfig
+    (memory/prefix-allocator dest)
+    (rstructs/vr-device-info device)))
+
 (defn unload-vr-stereo-config
   "Unload VR stereo config
   [VrStereoConfig config] -> void"
+  {:inline (fn [config]
+             `(raylib_h/UnloadVrStereoConfig (rstructs/vr-stereo-config ~config)))}
   [config]
   (raylib_h/UnloadVrStereoConfig (rstructs/vr-stereo-config config)))
 
@@ -519,42 +710,85 @@
   "Load shader from files and bind default locations
   [const char * vsFileName, const char * fsFileName] -> Shader"
   [vs-file-name fs-file-name]
-  (rstructs/get-shader (raylib_h/LoadShader memory/*current-arena*
+  (rstructs/get-shader (raylib_h/LoadShader (memory/result-arena)
                                             (memory/string vs-file-name)
                                             (memory/string fs-file-name))))
 
+(defn load-shader!
+  "Load shader from files and bind default locations (written into dest)
+  [Shader * dest, const char * vsFileName, const char * fsFileName] -> Shader *"
+  {:inline (fn [dest vs-file-name fs-file-name]
+             `(raylib_h/LoadShader (memory/prefix-allocator ~dest)
+                                   (memory/string ~vs-file-name)
+                                   (memory/string ~fs-file-name)))}
+  [dest vs-file-name fs-file-name]
+  (raylib_h/LoadShader (memory/prefix-allocator dest)
+                       (memory/string vs-file-name)
+                       (memory/string fs-file-name)))
+
 (defn load-shader-from-memory
   "Load shader from code strings and bind default locations
   [const char * vsCode, const char * fsCode] -> Shader"
   [vs-code fs-code]
-  (rstructs/get-shader (raylib_h/LoadShaderFromMemory memory/*current-arena*
+  (rstructs/get-shader (raylib_h/LoadShaderFromMemory (memory/result-arena)
                                                       (memory/string vs-code)
                                                       (memory/string fs-code))))
 
+(defn load-shader-from-memory!
+  "Load shader from code strings and bind default locations (written into dest)
+  [Shader * dest, const char * vsCode, const char * fsCode] -> Shader *"
+  {:inline (fn [dest vs-code fs-code]
+             `(raylib_h/LoadShaderFromMemory (memory/prefix-allocator ~dest)
+                                             (memory/string ~vs-code)
+                                             (memory/string ~fs-code)))}
+  [dest vs-code fs-code]
+  (raylib_h/LoadShaderFromMemory (memory/prefix-allocator dest)
+                                 (memory/string vs-code)
+                                 (memory/string fs-code)))
+
 (defn shader-ready?
   "Check if a shader is ready
   [Shader shader] -> bool"
+  {:inline (fn [shader]
+             `(raylib_h/IsShaderReady (rstructs/shader ~shader)))}
   [shader]
   (raylib_h/IsShaderReady (rstructs/shader shader)))
 
 (defn get-shader-location
   "Get shader uniform location
   [Shader shader, const char * uniformName] -> int"
-  [shader uniform-name]
+  {:inline (fn [shader uniform-name]
+             `(long (raylib_h/GetShaderLocation (rstructs/shader ~shader)
+                                                (memory/string ~uniform-name))))}
+  ^long [shader uniform-name]
   (raylib_h/GetShaderLocation (rstructs/shader shader)
                               (memory/string uniform-name)))
 
 (defn get-shader-location-attrib
   "Get shader attribute location
   [Shader shader, const char * attribName] -> int"
-  [shader attrib-name]
+  {:inline (fn [shader attrib-name]
+             `(long (raylib_h/GetShaderLocationAttrib (rstructs/shader ~shader)
+                                                      (memory/string ~attrib-name))))}
+  ^long [shader attrib-name]
   (raylib_h/GetShaderLocationAttrib (rstructs/shader shader)
                                     (memory/string attrib-name)))
 
 (defn set-shader-value
   "Set shader uniform value
   [Shader shader, int locIndex, const void * value, int uniformType] -> void"
-  [shader loc-index value uniform-type]
+  {:inline (fn [shader loc-index value uniform-type]
+             `(let [shader# ~shader
+                    loc-index# ~loc-index
+                    value# ~value
+                    uniform-type# ~uniform-type]
+                (raylib_h/SetShaderValue (rstructs/shader shader#)
+                                         loc-index#
+                                         value#
+                                         (if (keyword? uniform-type#)
+                                           (renums/shader-uniform-data-type uniform-type#)
+                                           uniform-type#))))}
+  [shader ^long loc-index value uniform-type]
   (raylib_h/SetShaderValue (rstructs/shader shader)
                            loc-index
                            value
@@ -565,6 +799,19 @@
 (defn set-shader-value-v
   "Set shader uniform value vector
   [Shader shader, int locIndex, const void * value, int uniformType, int count] -> void"
+  {:inline (fn [shader loc-index value uniform-type count]
+             `(let [shader# ~shader
+                    loc-index# ~loc-index
+                    value# ~value
+                    uniform-type# ~uniform-type
+                    count# ~count]
+                (raylib_h/SetShaderValueV (rstructs/shader shader#)
+                                          loc-index#
+                                          value#
+                                          (if (keyword? uniform-type#)
+                                            (renums/shader-uniform-data-type uniform-type#)
+                                            uniform-type#)
+                                          count#)))}
   [shader loc-index value uniform-type count]
   (raylib_h/SetShaderValueV (rstructs/shader shader)
                             loc-index
@@ -577,7 +824,11 @@
 (defn set-shader-value-matrix
   "Set shader uniform value (matrix 4x4)
   [Shader shader, int locIndex, Matrix mat] -> void"
-  [shader loc-index mat]
+  {:inline (fn [shader loc-index mat]
+             `(raylib_h/SetShaderValueMatrix (rstructs/shader ~shader)
+                                             ~loc-index
+                                             (rstructs/matrix ~mat)))}
+  [shader ^long loc-index mat]
   (raylib_h/SetShaderValueMatrix (rstructs/shader shader)
                                  loc-index
                                  (rstructs/matrix mat)))
@@ -585,7 +836,11 @@
 (defn set-shader-value-texture
   "Set shader uniform value for texture (sampler2d)
   [Shader shader, int locIndex, Texture2D texture] -> void"
-  [shader loc-index texture]
+  {:inline (fn [shader loc-index texture]
+             `(raylib_h/SetShaderValueTexture (rstructs/shader ~shader)
+                                              ~loc-index
+                                              (rstructs/texture ~texture)))}
+  [shader ^long loc-index texture]
   (raylib_h/SetShaderValueTexture (rstructs/shader shader)
                                   loc-index
                                   (rstructs/texture texture)))
@@ -593,6 +848,8 @@
 (defn unload-shader
   "Unload shader from GPU memory (VRAM)
   [Shader shader] -> void"
+  {:inline (fn [shader]
+             `(raylib_h/UnloadShader (rstructs/shader ~shader)))}
   [shader]
   (raylib_h/UnloadShader (rstructs/shader shader)))
 
@@ -600,10 +857,22 @@
   "Get a ray trace from mouse position
   [Vector2 mousePosition, Camera camera] -> Ray"
   [mouse-position camera]
-  (rstructs/get-ray (raylib_h/GetMouseRay memory/*current-arena*
+  (rstructs/get-ray (raylib_h/GetMouseRay (memory/result-arena)
                                           (rstructs/vector2 mouse-position)
                                           (rstructs/camera3d camera))))
 
+(defn get-mouse-ray!
+  "Get a ray trace from mouse position (written into dest)
+  [Ray * dest, Vector2 mousePosition, Camera camera] -> Ray *"
+  {:inline (fn [dest mouse-position camera]
+             `(raylib_h/GetMouseRay (memory/prefix-allocator ~dest)
+                                    (rstructs/vector2 ~mouse-position)
+                                    (rstructs/camera3d ~camera)))}
+  [dest mouse-position camera]
+  (raylib_h/GetMouseRay (memory/prefix-allocator dest)
+                        (rstructs/vector2 mouse-position)
+                        (rstructs/camera3d camera)))
+
 (defn get-camera-matrix
   "Get camera transform matrix (view matrix)
   [Camera camera] -> Matrix"
@@ -611,6 +880,16 @@
   (rstructs/get-matrix (raylib_h/GetCameraMatrix memory/*current-arena*
                                                  (rstructs/camera3d camera))))
 
+(defn get-camera-matrix!
+  "Get camera transform matrix (view matrix) (written into dest)
+  [Matrix * dest, Camera camera] -> Matrix *"
+  {:inline (fn [dest camera]
+             `(raylib_h/GetCameraMatrix (memory/prefix-allocator ~dest)
+                                        (rstructs/camera3d ~camera)))}
+  [dest camera]
+  (raylib_h/GetCameraMatrix (memory/prefix-allocator dest)
+                            (rstructs/camera3d camera)))
+
 (defn get-camera-matrix2d
   "Get camera 2d transform matrix
   [Camera2D camera] -> Matrix"
@@ -618,6 +897,16 @@
   (rstructs/get-matrix (raylib_h/GetCameraMatrix2D memory/*current-arena*
                                                    (rstructs/camera2d camera))))
 
+(defn get-camera-matrix2d!
+  "Get camera 2d transform matrix (written into dest)
+  [Matrix * dest, Camera2D camera] -> Matrix *"
+  {:inline (fn [dest camera]
+             `(raylib_h/GetCameraMatrix2D (memory/prefix-allocator ~dest)
+                                          (rstructs/camera2d ~camera)))}
+  [dest camera]
+  (raylib_h/GetCameraMatrix2D (memory/prefix-allocator dest)
+                              (rstructs/camera2d camera)))
+
 (defn get-world-to-screen
   "Get the screen space position for a 3d world space position
   [Vector3 position, Camera camera] -> Vector2"
@@ -626,6 +915,18 @@
                                                    (rstructs/vector3 position)
                                                    (rstructs/camera3d camera))))
 
+(defn get-world-to-screen!
+  "Get the screen space position for a 3d world space position (written into dest)
+  [Vector2 * dest, Vector3 position, Camera camera] -> Vector2 *"
+  {:inline (fn [dest position camera]
+             `(raylib_h/GetWorldToScreen (memory/prefix-allocator ~dest)
+                                         (rstructs/vector3 ~position)
+                                         (rstructs/camera3d ~camera)))}
+  [dest position camera]
+  (raylib_h/GetWorldToScreen (memory/prefix-allocator dest)
+                             (rstructs/vector3 position)
+                             (rstructs/camera3d camera)))
+
 (defn get-screen-to-world2d
   "Get the world space position for a 2d camera screen space position
   [Vector2 position, Camera2D camera] -> Vector2"
@@ -635,6 +936,19 @@
                                                      (rstructs/camera2d
                                                        camera))))
 
+(defn get-screen-to-world2d!
+  "Get the world space position for a 2d camera screen space position (written into dest)
+  [Vector2 * dest, Vector2 position, Camera2D camera] -> Vector2 *"
+  {:inline (fn [dest position camera]
+             `(raylib_h/GetScreenToWorld2D (memory/prefix-allocator ~dest)
+                                           (rstructs/vector2 ~position)
+                                           (rstructs/camera2d ~camera)))}
+  [dest position camera]
+  (raylib_h/GetScreenToWorld2D (memory/prefix-allocator dest)
+                               (rstructs/vector2 position)
+                               (rstructs/camera2d
+                                 camera)))
+
 (defn get-world-to-screen-ex
   "Get size position for a 3d world space position
   [Vector3 position, Camera camera, int width, int height] -> Vector2"
@@ -645,6 +959,22 @@
                                                      width
                                                      height)))
 
+(defn get-world-to-screen-ex!
+  "Get size position for a 3d world space position (written into dest)
+  [Vector2 * dest, Vector3 position, Camera camera, int width, int height] -> Vector2 *"
+  {:inline (fn [dest position camera width height]
+             `(raylib_h/GetWorldToScreenEx (memory/prefix-allocator ~dest)
+                                           (rstructs/vector3 ~position)
+                                           (rstructs/camera3d ~camera)
+                                           ~width
+                                           ~height))}
+  [dest position camera width height]
+  (raylib_h/GetWorldToScreenEx (memory/prefix-allocator dest)
+                               (rstructs/vector3 position)
+                               (rstructs/camera3d camera)
+                               width
+                               height))
+
 (defn get-world-to-screen2d
   "Get the screen space position for a 2d camera world space position
   [Vector2 position, Camera2D camera] -> Vector2"
@@ -654,78 +984,122 @@
                                                      (rstructs/camera2d
                                                        camera))))
 
+(defn get-world-to-screen2d!
+  "Get the screen space position for a 2d camera world space position (written into dest)
+  [Vector2 * dest, Vector2 position, Camera2D camera] -> Vector2 *"
+  {:inline (fn [dest position camera]
+             `(raylib_h/GetWorldToScreen2D (memory/prefix-allocator ~dest)
+                                           (rstructs/vector2 ~position)
+                                           (rstructs/camera2d ~camera)))}
+  [dest position camera]
+  (raylib_h/GetWorldToScreen2D (memory/prefix-allocator dest)
+                               (rstructs/vector2 position)
+                               (rstructs/camera2d
+                                 camera)))
+
 (defn set-target-fps
   "Set target FPS (maximum)
   [int fps] -> void"
-  [fps]
+  {:inline (fn [fps]
+             `(raylib_h/SetTargetFPS ~fps))}
+  [^long fps]
   (raylib_h/SetTargetFPS fps))
 
 (defn get-frame-time
   "Get time in seconds for last frame drawn (delta time)
   [] -> float"
-  []
+  {:inline (fn []
+             `(double (raylib_h/GetFrameTime)))}
+  ^double []
   (raylib_h/GetFrameTime))
 
 (defn get-time
   "Get elapsed time in seconds since InitWindow()
   [] -> double"
-  []
+  {:inline (fn []
+             `(double (raylib_h/GetTime)))}
+  ^double []
   (raylib_h/GetTime))
 
-(defn get-fps "Get current FPS
-  [] -> int" [] (raylib_h/GetFPS))
+(defn get-fps
+  "Get current FPS
+  [] -> int"
+  {:inline (fn []
+             `(long (raylib_h/GetFPS)))}
+  ^long []
+  (raylib_h/GetFPS))
 
 (defn swap-screen-buffer
   "Swap back buffer with front buffer (screen drawing)
   [] -> void"
+  {:inline (fn []
+             `(raylib_h/SwapScreenBuffer))}
   []
   (raylib_h/SwapScreenBuffer))
 
 (defn poll-input-events
   "Register all input events
   [] -> void"
+  {:inline (fn []
+             `(raylib_h/PollInputEvents))}
   []
   (raylib_h/PollInputEvents))
 
 (defn wait-time
   "Wait for some time (halt program execution)
   [double seconds] -> void"
-  [seconds]
+  {:inline (fn [seconds]
+             `(raylib_h/WaitTime ~seconds))}
+  [^double seconds]
   (raylib_h/WaitTime seconds))
 
 (defn set-random-seed
   "Set the seed for the random number generator
   [unsigned int seed] -> void"
-  [seed]
+  {:inline (fn [seed]
+             `(raylib_h/SetRandomSeed ~seed))}
+  [^long seed]
   (raylib_h/SetRandomSeed seed))
 
 (defn get-random-value
   "Get a random value between min and max (both included)
   [int min, int max] -> int"
-  [min max]
+  {:inline (fn [min max]
+             `(long (raylib_h/GetRandomValue ~min ~max)))}
+  ^long [^long min ^long max]
   (raylib_h/GetRandomValue min max))
 
 (defn load-random-sequence
   "Load random values sequence, no values repeated
   [unsigned int count, int min, int max] -> int *"
-  [count min max]
+  {:inline (fn [count min max]
+             `(raylib_h/LoadRandomSequence ~count ~min ~max))}
+  [^long count ^long min ^long max]
   (raylib_h/LoadRandomSequence count min max))
 
 (defn unload-random-sequence
   "Unload random values sequence
   [int * sequence] -> void"
+  {:inline (fn [sequence]
+             `(raylib_h/UnloadRandomSequence ~sequence))}
   [sequence]
   (raylib_h/UnloadRandomSequence sequence))
 
 (defn take-screenshot
   "Takes a screenshot of current screen (filename extension defines format)
   [const char * fileName] -> void"
+  {:inline (fn [file-name]
+             `(raylib_h/TakeScreenshot (memory/string ~file-name)))}
   [file-name]
   (raylib_h/TakeScreenshot (memory/string file-name)))
 
 (defn set-config-flags
   "Setup init configuration flags (view FLAGS)
   [unsigned int flags] -> void"
+  {:inline (fn [flags]
+             `(let [flags# ~flags]
+                (raylib_h/SetConfigFlags
+                  (if (keyword? flags#) (renums/config-flags flags#) flags#))))}
   [flags]
   (raylib_h/SetConfigFlags
     (if (keyword? flags) (renums/config-flags flags) flags)))
@@ -733,6 +1107,8 @@
 (defn open-url
   "Open URL with default system browser (if available)
   [const char * url] -> void"
+  {:inline (fn [url]
+             `(raylib_h/OpenURL (memory/string ~url)))}
   [url]
   (raylib_h/OpenURL (memory/string url)))
 
@@ -748,6 +1124,10 @@
 (defn set-trace-log-level
   "Set the current threshold (minimum) log level
   [int logLevel] -> void"
+  {:inline (fn [log-level]
+             `(let [log-level# ~log-level]
+                (raylib_h/SetTraceLogLevel
+                  (if (keyword? log-level#) (renums/trace-log-level log-level#) log-level#))))}
   [log-level]
   (raylib_h/SetTraceLogLevel
     (if (keyword? log-level) (renums/trace-log-level log-level) log-level)))
@@ -755,168 +1135,224 @@
 (defn mem-alloc
   "Internal memory allocator
   [unsigned int size] -> void *"
-  [size]
+  {:inline (fn [size]
+             `(raylib_h/MemAlloc ~size))}
+  [^long size]
   (raylib_h/MemAlloc size))
 
 (defn mem-realloc
   "Internal memory reallocator
   [void * ptr, unsigned int size] -> void *"
-  [ptr size]
+  {:inline (fn [ptr size]
+             `(raylib_h/MemRealloc ~ptr ~size))}
+  [ptr ^long size]
   (raylib_h/MemRealloc ptr size))
 
 (defn mem-free
   "Internal memory free
   [void * ptr] -> void"
+  {:inline (fn [ptr]
+             `(raylib_h/MemFree ~ptr))}
   [ptr]
   (raylib_h/MemFree ptr))
 
 (defn set-trace-log-callback
   "Set custom trace log
   [TraceLogCallback callback] -> void"
+  {:inline (fn [callback]
+             `(raylib_h/SetTraceLogCallback ~callback))}
   [callback]
   (raylib_h/SetTraceLogCallback callback))
 
 (defn set-load-file-data-callback
   "Set custom file binary data loader
   [LoadFileDataCallback callback] -> void"
+  {:inline (fn [callback]
+             `(raylib_h/SetLoadFileDataCallback ~callback))}
   [callback]
   (raylib_h/SetLoadFileDataCallback callback))
 
 (defn set-save-file-data-callback
   "Set custom file binary data saver
   [SaveFileDataCallback callback] -> void"
+  {:inline (fn [callback]
+             `(raylib_h/SetSaveFileDataCallback ~callback))}
   [callback]
   (raylib_h/SetSaveFileDataCallback callback))
 
 (defn set-load-file-text-callback
   "Set custom file text data loader
   [LoadFileTextCallback callback] -> void"
+  {:inline (fn [callback]
+             `(raylib_h/SetLoadFileTextCallback ~callback))}
   [callback]
   (raylib_h/SetLoadFileTextCallback callback))
 
 (defn set-save-file-text-callback
   "Set custom file text data saver
   [SaveFileTextCallback callback] -> void"
+  {:inline (fn [callback]
+             `(raylib_h/SetSaveFileTextCallback ~callback))}
   [callback]
   (raylib_h/SetSaveFileTextCallback callback))
 
 (defn load-file-data
   "Load file data as byte array (read)
   [const char * fileName, int * dataSize] -> unsigned char *"
+  {:inline (fn [file-name data-size]
+             `(raylib_h/LoadFileData (memory/string ~file-name) ~data-size))}
   [file-name data-size]
   (raylib_h/LoadFileData (memory/string file-name) data-size))
 
 (defn unload-file-data
   "Unload file data allocated by LoadFileData()
   [unsigned char * data] -> void"
+  {:inline (fn [data]
+             `(raylib_h/UnloadFileData ~data))}
   [data]
   (raylib_h/UnloadFileData data))
 
 (defn save-file-data?
   "Save data to file from byte array (write), returns true on success
   [const char * fileName, void * data, int dataSize] -> bool"
-  [file-name data data-size]
+  {:inline (fn [file-name data data-size]
+             `(raylib_h/SaveFileData (memory/string ~file-name) ~data ~data-size))}
+  [file-name data ^long data-size]
   (raylib_h/SaveFileData (memory/string file-name) data data-size))
 
 (defn export-data-as-code?
   "Export data to code (.h), returns true on success
   [const unsigned char * data, int dataSize, const char * fileName] -> bool"
-  [data data-size file-name]
+  {:inline (fn [data data-size file-name]
+             `(raylib_h/ExportDataAsCode ~data ~data-size (memory/string ~file-name)))}
+  [data ^long data-size file-name]
   (raylib_h/ExportDataAsCode data data-size (memory/string file-name)))
 
 (defn load-file-text
   "Load text data from file (read), returns a '\\0' terminated string
   [const char * fileName] -> char *"
+  {:inline (fn [file-name]
+             `(raylib_h/LoadFileText (memory/string ~file-name)))}
   [file-name]
   (raylib_h/LoadFileText (memory/string file-name)))
 
 (defn unload-file-text
   "Unload file text data allocated by LoadFileText()
   [char * text] -> void"
+  {:inline (fn [text]
+             `(raylib_h/UnloadFileText ~text))}
   [text]
   (raylib_h/UnloadFileText text))
 
 (defn save-file-text?
   "Save text data to file (write), string must be '\\0' terminated, returns true on success
   [const char * fileName, char * text] -> bool"
+  {:inline (fn [file-name text]
+             `(raylib_h/SaveFileText (memory/string ~file-name) ~text))}
   [file-name text]
   (raylib_h/SaveFileText (memory/string file-name) text))
 
 (defn file-exists?
   "Check if file exists
   [const char * fileName] -> bool"
+  {:inline (fn [file-name]
+             `(raylib_h/FileExists (memory/string ~file-name)))}
   [file-name]
   (raylib_h/FileExists (memory/string file-name)))
 
 (defn directory-exists?
   "Check if a directory path exists
   [const char * dirPath] -> bool"
+  {:inline (fn [dir-path]
+             `(raylib_h/DirectoryExists (memory/string ~dir-path)))}
   [dir-path]
   (raylib_h/DirectoryExists (memory/string dir-path)))
 
 (defn file-extension?
   "Check file extension (including point: .png, .wav)
   [const char * fileName, const char * ext] -> bool"
+  {:inline (fn [file-name ext]
+             `(raylib_h/IsFileExtension (memory/string ~file-name) (memory/string ~ext)))}
   [file-name ext]
   (raylib_h/IsFileExtension (memory/string file-name) (memory/string ext)))
 
 (defn get-file-length
   "Get file length in bytes (NOTE: GetFileSize() conflicts with windows.h)
   [const char * fileName] -> int"
-  [file-name]
+  {:inline (fn [file-name]
+             `(long (raylib_h/GetFileLength (memory/string ~file-name))))}
+  ^long [file-name]
   (raylib_h/GetFileLength (memory/string file-name)))
 
 (defn get-file-extension
   "Get pointer to extension for a filename string (includes dot: '.png')
   [const char * fileName] -> const char *"
+  {:inline (fn [file-name]
+             `(raylib_h/GetFileExtension (memory/string ~file-name)))}
   [file-name]
   (raylib_h/GetFileExtension (memory/string file-name)))
 
 (defn get-file-name
   "Get pointer to filename for a path string
   [const char * filePath] -> const char *"
+  {:inline (fn [file-path]
+             `(raylib_h/GetFileName (memory/string ~file-path)))}
   [file-path]
   (raylib_h/GetFileName (memory/string file-path)))
 
 (defn get-file-name-without-ext
   "Get filename string without extension (uses static string)
   [const char * filePath] -> const char *"
+  {:inline (fn [file-path]
+             `(raylib_h/GetFileNameWithoutExt (memory/string ~file-path)))}
   [file-path]
   (raylib_h/GetFileNameWithoutExt (memory/string file-path)))
 
 (defn get-directory-path
   "Get full path for a given fileName with path (uses static string)
   [const char * filePath] -> const char *"
+  {:inline (fn [file-path]
+             `(raylib_h/GetDirectoryPath (memory/string ~file-path)))}
   [file-path]
   (raylib_h/GetDirectoryPath (memory/string file-path)))
 
 (defn get-prev-directory-path
   "Get previous directory path for a given path (uses static string)
   [const char * dirPath] -> const char *"
+  {:inline (fn [dir-path]
+             `(raylib_h/GetPrevDirectoryPath (memory/string ~dir-path)))}
   [dir-path]
   (raylib_h/GetPrevDirectoryPath (memory/string dir-path)))
 
 (defn get-working-directory
   "Get current working directory (uses static string)
   [] -> const char *"
+  {:inline (fn []
+             `(raylib_h/GetWorkingDirectory))}
   []
   (raylib_h/GetWorkingDirectory))
 
 (defn get-application-directory
   "Get the directory of the running application (uses static string)
   [] -> const char *"
+  {:inline (fn []
+             `(raylib_h/GetApplicationDirectory))}
   []
   (raylib_h/GetApplicationDirectory))
 
 (defn change-directory?
   "Change working directory, return true on success
   [const char * dir] -> bool"
+  {:inline (fn [dir]
+             `(raylib_h/ChangeDirectory (memory/string ~dir)))}
   [dir]
   (raylib_h/ChangeDirectory (memory/string dir)))
 
 (defn path-file?
   "Check if a given path is a file or a directory
   [const char * path] -> bool"
+  {:inline (fn [path]
+             `(raylib_h/IsPathFile (memory/string ~path)))}
   [path]
   (raylib_h/IsPathFile (memory/string path)))
 
@@ -925,28 +1361,58 @@
   [const char * dirPath] -> FilePathList"
   [dir-path]
   (rstructs/get-file-path-list (raylib_h/LoadDirectoryFiles
-                                 memory/*current-arena*
+                                 (memory/result-arena)
                                  (memory/string dir-path))))
 
+(defn load-directory-files!
+  "Load directory filepaths (written into dest)
+  [FilePathList * dest, const char * dirPath] -> FilePathList *"
+  {:inline (fn [dest dir-path]
+             `(raylib_h/LoadDirectoryFiles (memory/prefix-allocator ~dest)
+                                           (memory/string ~dir-path)))}
+  [dest dir-path]
+  (raylib_h/LoadDirectoryFiles
+    (memory/prefix-allocator dest)
+    (memory/string dir-path)))
+
 (defn load-directory-files-ex
   "Load directory filepaths with extension filtering and recursive directory scan
   [const char * basePath, const char * filter, bool scanSubdirs] -> FilePathList"
   [base-path filter scan-subdirs]
   (rstructs/get-file-path-list (raylib_h/LoadDirectoryFilesEx
-                                 memory/*current-arena*
+                                 (memory/result-arena)
                                  (memory/string base-path)
                                  (memory/string filter)
                                  scan-subdirs)))
 
+(defn load-directory-files-ex!
+  "Load directory filepaths with extension filtering and recursive directory scan (written into dest)
+  [FilePathList * dest, const char * basePath, const char * filter, bool scanSubdirs] -> FilePathList *"
+  {:inline (fn [dest base-path filter scan-subdirs]
+             `(raylib_h/LoadDirectoryFilesEx (memory/prefix-allocator ~dest)
+                                             (memory/string ~base-path)
+                                             (memory/string ~filter)
+                                             ~scan-subdirs))}
+  [dest base-path filter scan-subdirs]
+  (raylib_h/LoadDirectoryFilesEx
+    (memory/prefix-allocator dest)
+    (memory/string base-path)
+    (memory/string filter)
+    scan-subdirs))
+
 (defn unload-directory-files
   "Unload filepaths
   [FilePathList files] -> void"
+  {:inline (fn [files]
+             `(raylib_h/UnloadDirectoryFiles (rstructs/file-path-list ~files)))}
   [files]
   (raylib_h/UnloadDirectoryFiles (rstructs/file-path-list files)))
 
 (defn file-dropped?
   "Check if a file has been dropped into window
   [] -> bool"
+  {:inline (fn []
+             `(raylib_h/IsFileDropped))}
   []
   (raylib_h/IsFileDropped))
 
@@ -955,41 +1421,62 @@
   [] -> FilePathList"
   []
   (rstructs/get-file-path-list (raylib_h/LoadDroppedFiles
-                                 memory/*current-arena*)))
+                                 (memory/result-arena))))
+
+(defn load-dropped-files!
+  "Load dropped filepaths (written into dest)
+  [FilePathList * dest] -> FilePathList *"
+  {:inline (fn [dest]
+             `(raylib_h/LoadDroppedFiles (memory/prefix-allocator ~dest)))}
+  [dest]
+  (raylib_h/LoadDroppedFiles
+    (memory/prefix-allocator dest)))
 
 (defn unload-dropped-files
   "Unload dropped filepaths
   [FilePathList files] -> void"
+  {:inline (fn [files]
+             `(raylib_h/UnloadDroppedFiles (rstructs/file-path-list ~files)))}
   [files]
   (raylib_h/UnloadDroppedFiles (rstructs/file-path-list files)))
 
 (defn get-file-mod-time
   "Get file modification time (last write time)
   [const char * fileName] -> long"
+  {:inline (fn [file-name]
+             `(raylib_h/GetFileModTime (memory/string ~file-name)))}
   [file-name]
   (raylib_h/GetFileModTime (memory/string file-name)))
 
 (defn compress-data
   "Compress data (DEFLATE algorithm), memory must be MemFree()
   [const unsigned char * data, int dataSize, int * compDataSize] -> unsigned char *"
-  [data data-size comp-data-size]
+  {:inline (fn [data data-size comp-data-size]
+             `(raylib_h/CompressData ~data ~data-size ~comp-data-size))}
+  [data ^long data-size comp-data-size]
   (raylib_h/CompressData data data-size comp-data-size))
 
 (defn decompress-data
   "Decompress data (DEFLATE algorithm), memory must be MemFree()
   [const unsigned char * compData, int compDataSize, int * dataSize] -> unsigned char *"
-  [comp-data comp-data-size data-size]
+  {:inline (fn [comp-data comp-data-size data-size]
+             `(raylib_h/DecompressData ~comp-data ~comp-data-size ~data-size))}
+  [comp-data ^long comp-data-size data-size]
   (raylib_h/DecompressData comp-data comp-data-size data-size))
 
 (defn encode-data-base64
   "Encode data to Base64 string, memory must be MemFree()
   [const unsigned char * data, int dataSize, int * outputSize] -> char *"
-  [data data-size output-size]
+  {:inline (fn [data data-size output-size]
+             `(raylib_h/EncodeDataBase64 ~data ~data-size ~output-size))}
+  [data ^long data-size output-size]
   (raylib_h/EncodeDataBase64 data data-size output-size))
 
 (defn decode-data-base64
   "Decode Base64 string data, memory must be MemFree()
   [const unsigned char * data, int * outputSize] -> unsigned char *"
+  {:inline (fn [data output-size]
+             `(raylib_h/DecodeDataBase64 ~data ~output-size))}
   [data output-size]
   (raylib_h/DecodeDataBase64 data output-size))
 
@@ -998,18 +1485,34 @@
   [const char * fileName] -> AutomationEventList"
   [file-name]
   (rstructs/get-automation-event-list (raylib_h/LoadAutomationEventList
-                                        memory/*current-arena*
+                                        (memory/result-arena)
                                         (memory/string file-name))))
 
+(defn load-automation-event-list!
+  "Load automation events list from file, NULL for empty list, capacity = MAX_AUTOMATION_EVENTS (written into dest)
+  [AutomationEventList * dest, const char * fileName] -> AutomationEventList *"
+  {:inline (fn [dest file-name]
+             `(raylib_h/LoadAutomationEventList (memory/prefix-allocator ~dest)
+                                                (memory/string ~file-name)))}
+  [dest file-name]
+  (raylib_h/LoadAutomationEventList
+    (memory/prefix-allocator dest)
+    (memory/string file-name)))
+
 (defn unload-automation-event-list
   "Unload automation events list from file
   [AutomationEventList * list] -> void"
+  {:inline (fn [list]
+             `(raylib_h/UnloadAutomationEventList (rstructs/automation-event-list ~list)))}
   [list]
   (raylib_h/UnloadAutomationEventList (rstructs/automation-event-list list)))
 
 (defn export-automation-event-list?
   "Export automation events list as text file
   [AutomationEventList list, const char * fileName] -> bool"
+  {:inline (fn [list file-name]
+             `(raylib_h/ExportAutomationEventList (rstructs/automation-event-list ~list)
+                                                  (memory/string ~file-name)))}
   [list file-name]
   (raylib_h/ExportAutomationEventList (rstructs/automation-event-list list)
                                       (memory/string file-name)))
@@ -1017,42 +1520,59 @@
 (defn set-automation-event-list
   "Set automation event list to record to
   [AutomationEventList * list] -> void"
+  {:inline (fn [list]
+             `(raylib_h/SetAutomationEventList (rstructs/automation-event-list ~list)))}
   [list]
   (raylib_h/SetAutomationEventList (rstructs/automation-event-list list)))
 
 (defn set-automation-event-base-frame
   "Set automation event internal base frame to start recording
   [int frame] -> void"
-  [frame]
+  {:inline (fn [frame]
+             `(raylib_h/SetAutomationEventBaseFrame ~frame))}
+  [^long frame]
   (raylib_h/SetAutomationEventBaseFrame frame))
 
 (defn start-automation-event-recording
   "Start recording automation events (AutomationEventList must be set)
   [] -> void"
+  {:inline (fn []
+             `(raylib_h/StartAutomationEventRecording))}
   []
   (raylib_h/StartAutomationEventRecording))
 
 (defn stop-automation-event-recording
   "Stop recording automation events
   [] -> void"
+  {:inline (fn []
+             `(raylib_h/StopAutomationEventRecording))}
   []
   (raylib_h/StopAutomationEventRecording))
 
 (defn play-automation-event
   "Play a recorded automation event
   [AutomationEvent event] -> void"
+  {:inline (fn [event]
+             `(raylib_h/PlayAutomationEvent (rstructs/automation-event ~event)))}
   [event]
   (raylib_h/PlayAutomationEvent (rstructs/automation-event event)))
 
 (defn key-pressed?
   "Check if a key has been pressed once
   [int key] -> bool"
+  {:inline (fn [key]
+             `(let [key# ~key]
+                (raylib_h/IsKeyPressed (if (keyword? key#) (renums/keyboard-key key#) key#))))}
   [key]
   (raylib_h/IsKeyPressed (if (keyword? key) (renums/keyboard-key key) key)))
 
 (defn key-pressed-repeat?
   "Check if a key has been pressed again (Only PLATFORM_DESKTOP)
   [int key] -> bool"
+  {:inline (fn [key]
+             `(let [key# ~key]
+                (raylib_h/IsKeyPressedRepeat
+                  (if (keyword? key#) (renums/keyboard-key key#) key#))))}
   [key]
   (raylib_h/IsKeyPressedRepeat
     (if (keyword? key) (renums/keyboard-key key) key)))
@@ -1060,55 +1580,80 @@
 (defn key-down?
   "Check if a key is being pressed
   [int key] -> bool"
+  {:inline (fn [key]
+             `(let [key# ~key]
+                (raylib_h/IsKeyDown (if (keyword? key#) (renums/keyboard-key key#) key#))))}
   [key]
   (raylib_h/IsKeyDown (if (keyword? key) (renums/keyboard-key key) key)))
 
 (defn key-released?
   "Check if a key has been released once
   [int key] -> bool"
+  {:inline (fn [key]
+             `(let [key# ~key]
+                (raylib_h/IsKeyReleased (if (keyword? key#) (renums/keyboard-key key#) key#))))}
   [key]
   (raylib_h/IsKeyReleased (if (keyword? key) (renums/keyboard-key key) key)))
 
 (defn key-up?
   "Check if a key is NOT being pressed
   [int key] -> bool"
+  {:inline (fn [key]
+             `(let [key# ~key]
+                (raylib_h/IsKeyUp (if (keyword? key#) (renums/keyboard-key key#) key#))))}
   [key]
   (raylib_h/IsKeyUp (if (keyword? key) (renums/keyboard-key key) key)))
 
 (defn get-key-pressed
   "Get key pressed (keycode), call it multiple times for keys queued, returns 0 when the queue is empty
   [] -> int"
-  []
+  {:inline (fn []
+             `(long (raylib_h/GetKeyPressed)))}
+  ^long []
   (raylib_h/GetKeyPressed))
 
 (defn get-char-pressed
   "Get char pressed (unicode), call it multiple times for chars queued, returns 0 when the queue is empty
   [] -> int"
-  []
+  {:inline (fn []
+             `(long (raylib_h/GetCharPressed)))}
+  ^long []
   (raylib_h/GetCharPressed))
 
 (defn set-exit-key
   "Set a custom key to exit program (default is ESC)
   [int key] -> void"
+  {:inline (fn [key]
+             `(let [key# ~key]
+                (raylib_h/SetExitKey (if (keyword? key#) (renums/keyboard-key key#) key#))))}
   [key]
   (raylib_h/SetExitKey (if (keyword? key) (renums/keyboard-key key) key)))
 
 (defn gamepad-available?
   "Check if a gamepad is available
   [int gamepad] -> bool"
-  [gamepad]
+  {:inline (fn [gamepad]
+             `(raylib_h/IsGamepadAvailable ~gamepad))}
+  [^long gamepad]
   (raylib_h/IsGamepadAvailable gamepad))
 
 (defn get-gamepad-name
   "Get gamepad internal name id
   [int gamepad] -> const char *"
-  [gamepad]
+  {:inline (fn [gamepad]
+             `(raylib_h/GetGamepadName ~gamepad))}
+  [^long gamepad]
   (raylib_h/GetGamepadName gamepad))
 
 (defn gamepad-button-pressed?
   "Check if a gamepad button has been pressed once
   [int gamepad, int button] -> bool"
-  [gamepad button]
+  {:inline (fn [gamepad button]
+             `(let [gamepad# ~gamepad button# ~button]
+                (raylib_h/IsGamepadButtonPressed
+                  gamepad#
+                  (if (keyword? button#) (renums/gamepad-button button#) button#))))}
+  [^long gamepad button]
   (raylib_h/IsGamepadButtonPressed
     gamepad
     (if (keyword? button) (renums/gamepad-button button) button)))
@@ -1116,7 +1661,12 @@
 (defn gamepad-button-down?
   "Check if a gamepad button is being pressed
   [int gamepad, int button] -> bool"
-  [gamepad button]
+  {:inline (fn [gamepad button]
+             `(let [gamepad# ~gamepad button# ~button]
+                (raylib_h/IsGamepadButtonDown
+                  gamepad#
+                  (if (keyword? button#) (renums/gamepad-button button#) button#))))}
+  [^long gamepad button]
   (raylib_h/IsGamepadButtonDown
     gamepad
     (if (keyword? button) (renums/gamepad-button button) button)))
@@ -1124,7 +1674,12 @@
 (defn gamepad-button-released?
   "Check if a gamepad button has been released once
   [int gamepad, int button] -> bool"
-  [gamepad button]
+  {:inline (fn [gamepad button]
+             `(let [gamepad# ~gamepad button# ~button]
+                (raylib_h/IsGamepadButtonReleased
+                  gamepad#
+                  (if (keyword? button#) (renums/gamepad-button button#) button#))))}
+  [^long gamepad button]
   (raylib_h/IsGamepadButtonReleased
     gamepad
     (if (keyword? button) (renums/gamepad-button button) button)))
@@ -1132,7 +1687,12 @@
 (defn gamepad-button-up?
   "Check if a gamepad button is NOT being pressed
   [int gamepad, int button] -> bool"
-  [gamepad button]
+  {:inline (fn [gamepad button]
+             `(let [gamepad# ~gamepad button# ~button]
+                (raylib_h/IsGamepadButtonUp
+                  gamepad#
+                  (if (keyword? button#) (renums/gamepad-button button#) button#))))}
+  [^long gamepad button]
   (raylib_h/IsGamepadButtonUp
     gamepad
     (if (keyword? button) (renums/gamepad-button button) button)))
@@ -1140,19 +1700,28 @@
 (defn get-gamepad-button-pressed
   "Get the last gamepad button pressed
   [] -> int"
-  []
+  {:inline (fn []
+             `(long (raylib_h/GetGamepadButtonPressed)))}
+  ^long []
   (raylib_h/GetGamepadButtonPressed))
 
 (defn get-gamepad-axis-count
   "Get gamepad axis count for a gamepad
   [int gamepad] -> int"
-  [gamepad]
+  {:inline (fn [gamepad]
+             `(long (raylib_h/GetGamepadAxisCount ~gamepad)))}
+  ^long [^long gamepad]
   (raylib_h/GetGamepadAxisCount gamepad))
 
 (defn get-gamepad-axis-movement
   "Get axis movement value for a gamepad axis
   [int gamepad, int axis] -> float"
-  [gamepad axis]
+  {:inline (fn [gamepad axis]
+             `(let [gamepad# ~gamepad axis# ~axis]
+                (double (raylib_h/GetGamepadAxisMovement
+                          gamepad#
+                          (if (keyword? axis#) (renums/gamepad-axis axis#) axis#)))))}
+  ^double [^long gamepad axis]
   (raylib_h/GetGamepadAxisMovement
     gamepad
     (if (keyword? axis) (renums/gamepad-axis axis) axis)))
@@ -1160,12 +1729,18 @@
 (defn set-gamepad-mappings
   "Set internal gamepad mappings (SDL_GameControllerDB)
   [const char * mappings] -> int"
-  [mappings]
+  {:inline (fn [mappings]
+             `(long (raylib_h/SetGamepadMappings (memory/string ~mappings))))}
+  ^long [mappings]
   (raylib_h/SetGamepadMappings (memory/string mappings)))
 
 (defn mouse-button-pressed?
   "Check if a mouse button has been pressed once
   [int button] -> bool"
+  {:inline (fn [button]
+             `(let [button# ~button]
+                (raylib_h/IsMouseButtonPressed
+                  (if (keyword? button#) (renums/mouse-button button#) button#))))}
   [button]
   (raylib_h/IsMouseButtonPressed
     (if (keyword? button) (renums/mouse-button button) button)))
@@ -1173,6 +1748,10 @@
 (defn mouse-button-down?
   "Check if a mouse button is being pressed
   [int button] -> bool"
+  {:inline (fn [button]
+             `(let [button# ~button]
+                (raylib_h/IsMouseButtonDown
+                  (if (keyword? button#) (renums/mouse-button button#) button#))))}
   [button]
   (raylib_h/IsMouseButtonDown
     (if (keyword? button) (renums/mouse-button button) button)))
@@ -1180,6 +1759,10 @@
 (defn mouse-button-released?
   "Check if a mouse button has been released once
   [int button] -> bool"
+  {:inline (fn [button]
+             `(let [button# ~button]
+                (raylib_h/IsMouseButtonReleased
+                  (if (keyword? button#) (renums/mouse-button button#) button#))))}
   [button]
   (raylib_h/IsMouseButtonReleased
     (if (keyword? button) (renums/mouse-button button) button)))
@@ -1187,15 +1770,29 @@
 (defn mouse-button-up?
   "Check if a mouse button is NOT being pressed
   [int button] -> bool"
+  {:inline (fn [button]
+             `(let [button# ~button]
+                (raylib_h/IsMouseButtonUp
+                  (if (keyword? button#) (renums/mouse-button button#) button#))))}
   [button]
   (raylib_h/IsMouseButtonUp
     (if (keyword? button) (renums/mouse-button button) button)))
 
-(defn get-mouse-x "Get mouse position X
-  [] -> int" [] (raylib_h/GetMouseX))
+(defn get-mouse-x
+  "Get mouse position X
+  [] -> int"
+  {:inline (fn []
+             `(long (raylib_h/GetMouseX)))}
+  ^long []
+  (raylib_h/GetMouseX))
 
-(defn get-mouse-y "Get mouse position Y
-  [] -> int" [] (raylib_h/GetMouseY))
+(defn get-mouse-y
+  "Get mouse position Y
+  [] -> int"
+  {:inline (fn []
+             `(long (raylib_h/GetMouseY)))}
+  ^long []
+  (raylib_h/GetMouseY))
 
 (defn get-mouse-position
   "Get mouse position XY
@@ -1203,34 +1800,58 @@
   []
   (rstructs/get-vector2 (raylib_h/GetMousePosition memory/*current-arena*)))
 
+(defn get-mouse-position!
+  "Get mouse position XY (written into dest)
+  [Vector2 * dest] -> Vector2 *"
+  {:inline (fn [dest]
+             `(raylib_h/GetMousePosition (memory/prefix-allocator ~dest)))}
+  [dest]
+  (raylib_h/GetMousePosition (memory/prefix-allocator dest)))
+
 (defn get-mouse-delta
   "Get mouse delta between frames
   [] -> Vector2"
   []
   (rstructs/get-vector2 (raylib_h/GetMouseDelta memory/*current-arena*)))
 
+(defn get-mouse-delta!
+  "Get mouse delta between frames (written into dest)
+  [Vector2 * dest] -> Vector2 *"
+  {:inline (fn [dest]
+             `(raylib_h/GetMouseDelta (memory/prefix-allocator ~dest)))}
+  [dest]
+  (raylib_h/GetMouseDelta (memory/prefix-allocator dest)))
+
 (defn set-mouse-position
   "Set mouse position XY
   [int x, int y] -> void"
-  [x y]
+  {:inline (fn [x y]
+             `(raylib_h/SetMousePosition ~x ~y))}
+  [^long x ^long y]
   (raylib_h/SetMousePosition x y))
 
 (defn set-mouse-offset
   "Set mouse offset
   [int offsetX, int offsetY] -> void"
-  [offset-x offset-y]
+  {:inline (fn [offset-x offset-y]
+             `(raylib_h/SetMouseOffset ~offset-x ~offset-y))}
+  [^long offset-x ^long offset-y]
   (raylib_h/SetMouseOffset offset-x offset-y))
 
 (defn set-mouse-scale
   "Set mouse scaling
   [float scaleX, float scaleY] -> void"
-  [scale-x scale-y]
+  {:inline (fn [scale-x scale-y]
+             `(raylib_h/SetMouseScale ~scale-x ~scale-y))}
+  [^double scale-x ^double scale-y]
   (raylib_h/SetMouseScale scale-x scale-y))
 
 (defn get-mouse-wheel-move
   "Get mouse wheel movement for X or Y, whichever is larger
   [] -> float"
-  []
+  {:inline (fn []
+             `(double (raylib_h/GetMouseWheelMove)))}
+  ^double []
   (raylib_h/GetMouseWheelMove))
 
 (defn get-mouse-wheel-move-v
@@ -1239,9 +1860,21 @@
   []
   (rstructs/get-vector2 (raylib_h/GetMouseWheelMoveV memory/*current-arena*)))
 
+(defn get-mouse-wheel-move-v!
+  "Get mouse wheel movement for both X and Y (written into dest)
+  [Vector2 * dest] -> Vector2 *"
+  {:inline (fn [dest]
+             `(raylib_h/GetMouseWheelMoveV (memory/prefix-allocator ~dest)))}
+  [dest]
+  (raylib_h/GetMouseWheelMoveV (memory/prefix-allocator dest)))
+
 (defn set-mouse-cursor
   "Set mouse cursor
   [int cursor] -> void"
+  {:inline (fn [cursor]
+             `(let [cursor# ~cursor]
+                (raylib_h/SetMouseCursor
+                  (if (keyword? cursor#) (renums/mouse-cursor cursor#) cursor#))))}
   [cursor]
   (raylib_h/SetMouseCursor
     (if (keyword? cursor) (renums/mouse-cursor cursor) cursor)))
@@ -1249,13 +1882,17 @@
 (defn get-touch-x
   "Get touch position X for touch point 0 (relative to screen size)
   [] -> int"
-  []
+  {:inline (fn []
+             `(long (raylib_h/GetTouchX)))}
+  ^long []
   (raylib_h/GetTouchX))
 
 (defn get-touch-y
   "Get touch position Y for touch point 0 (relative to screen size)
   [] -> int"
-  []
+  {:inline (fn []
+             `(long (raylib_h/GetTouchY)))}
+  ^long []
   (raylib_h/GetTouchY))
 
 (defn get-touch-position
@@ -1265,21 +1902,39 @@
   (rstructs/get-vector2 (raylib_h/GetTouchPosition memory/*current-arena*
                                                    index)))
 
+(defn get-touch-position!
+  "Get touch position XY for a touch point index (relative to screen size) (written into dest)
+  [Vector2 * dest, int index] -> Vector2 *"
+  {:inline (fn [dest index]
+             `(raylib_h/GetTouchPosition (memory/prefix-allocator ~dest)
+                                         ~index))}
+  [dest ^long index]
+  (raylib_h/GetTouchPosition (memory/prefix-allocator dest)
+                             index))
+
 (defn get-touch-point-id
   "Get touch point identifier for given index
   [int index] -> int"
-  [index]
+  {:inline (fn [index]
+             `(long (raylib_h/GetTouchPointId ~index)))}
+  ^long [^long index]
   (raylib_h/GetTouchPointId index))
 
 (defn get-touch-point-count
   "Get number of touch points
   [] -> int"
-  []
+  {:inline (fn []
+             `(long (raylib_h/GetTouchPointCount)))}
+  ^long []
   (raylib_h/GetTouchPointCount))
 
 (defn set-gestures-enabled
   "Enable a set of gestures using flags
   [unsigned int flags] -> void"
+  {:inline (fn [flags]
+             `(let [flags# ~flags]
+                (raylib_h/SetGesturesEnabled
+                  (if (keyword? flags#) (renums/gesture flags#) flags#))))}
   [flags]
   (raylib_h/SetGesturesEnabled
     (if (keyword? flags) (renums/gesture flags) flags)))
@@ -1287,6 +1942,10 @@
 (defn gesture-detected?
   "Check if a gesture have been detected
   [unsigned int gesture] -> bool"
+  {:inline (fn [gesture]
+             `(let [gesture# ~gesture]
+                (raylib_h/IsGestureDetected
+                  (if (keyword? gesture#) (renums/gesture gesture#) gesture#))))}
   [gesture]
   (raylib_h/IsGestureDetected
     (if (keyword? gesture) (renums/gesture gesture) gesture)))
@@ -1294,13 +1953,17 @@
 (defn get-gesture-detected
   "Get latest detected gesture
   [] -> int"
-  []
+  {:inline (fn []
+             `(long (raylib_h/GetGestureDetected)))}
+  ^long []
   (raylib_h/GetGestureDetected))
 
 (defn get-gesture-hold-duration
   "Get gesture hold time in milliseconds
   [] -> float"
-  []
+  {:inline (fn []
+             `(double (raylib_h/GetGestureHoldDuration)))}
+  ^double []
   (raylib_h/GetGestureHoldDuration))
 
 (defn get-gesture-drag-vector
@@ -1309,10 +1972,20 @@
   []
   (rstructs/get-vector2 (raylib_h/GetGestureDragVector memory/*current-arena*)))
 
+(defn get-gesture-drag-vector!
+  "Get gesture drag vector (written into dest)
+  [Vector2 * dest] -> Vector2 *"
+  {:inline (fn [dest]
+             `(raylib_h/GetGestureDragVector (memory/prefix-allocator ~dest)))}
+  [dest]
+  (raylib_h/GetGestureDragVector (memory/prefix-allocator dest)))
+
 (defn get-gesture-drag-angle
   "Get gesture drag angle
   [] -> float"
-  []
+  {:inline (fn []
+             `(double (raylib_h/GetGestureDragAngle)))}
+  ^double []
   (raylib_h/GetGestureDragAngle))
 
 (defn get-gesture-pinch-vector
@@ -1322,22 +1995,40 @@
   (rstructs/get-vector2 (raylib_h/GetGesturePinchVector
                           memory/*current-arena*)))
 
+(defn get-gesture-pinch-vector!
+  "Get gesture pinch delta (written into dest)
+  [Vector2 * dest] -> Vector2 *"
+  {:inline (fn [dest]
+             `(raylib_h/GetGesturePinchVector (memory/prefix-allocator ~dest)))}
+  [dest]
+  (raylib_h/GetGesturePinchVector
+    (memory/prefix-allocator dest)))
+
 (defn get-gesture-pinch-angle
   "Get gesture pinch angle
   [] -> float"
-  []
+  {:inline (fn []
+             `(double (raylib_h/GetGesturePinchAngle)))}
+  ^double []
   (raylib_h/GetGesturePinchAngle))
 
 (defn update-camera
   "Update camera position for selected mode
   [Camera * camera, int mode] -> void"
-  [camera mode]
+  {:inline (fn [camera mode]
+             `(raylib_h/UpdateCamera (rstructs/camera3d ~camera) ~mode))}
+  [camera ^long mode]
   (raylib_h/UpdateCamera (rstructs/camera3d camera) mode))
 
 (defn update-camera-pro
   "Update camera movement/rotation
   [Camera * camera, Vector3 movement, Vector3 rotation, float zoom] -> void"
-  [camera movement rotation zoom]
+  {:inline (fn [camera movement rotation zoom]
+             `(raylib_h/UpdateCameraPro (rstructs/camera3d ~camera)
+                                        (rstructs/vector3 ~movement)
+                                        (rstructs/vector3 ~rotation)
+                                        ~zoom))}
+  [camera movement rotation ^double zoom]
   (raylib_h/UpdateCameraPro (rstructs/camera3d camera)
                             (rstructs/vector3 movement)
                             (rstructs/vector3 rotation)
@@ -1346,6 +2037,9 @@
 (defn set-shapes-texture
   "Set texture and rectangle to be used on shapes drawing
   [Texture2D texture, Rectangle source] -> void"
+  {:inline (fn [texture source]
+             `(raylib_h/SetShapesTexture (rstructs/texture ~texture)
+                                         (rstructs/rectangle ~source)))}
   [texture source]
   (raylib_h/SetShapesTexture (rstructs/texture texture)
                              (rstructs/rectangle source)))
@@ -1353,18 +2047,28 @@
 (defn draw-pixel
   "Draw a pixel
   [int posX, int posY, Color color] -> void"
-  [pos-x pos-y color]
+  {:inline (fn [pos-x pos-y color]
+             `(raylib_h/DrawPixel ~pos-x ~pos-y (rstructs/color ~color)))}
+  [^long pos-x ^long pos-y color]
   (raylib_h/DrawPixel pos-x pos-y (rstructs/color color)))
 
 (defn draw-pixel-v
   "Draw a pixel (Vector version)
   [Vector2 position, Color color] -> void"
+  {:inline (fn [position color]
+             `(raylib_h/DrawPixelV (rstructs/vector2 ~position) (rstructs/color ~color)))}
   [position color]
   (raylib_h/DrawPixelV (rstructs/vector2 position) (rstructs/color color)))
 
 (defn draw-line
   "Draw a line
   [int startPosX, int startPosY, int endPosX, int endPosY, Color color] -> void"
+  {:inline (fn [start-pos-x start-pos-y end-pos-x end-pos-y color]
+             `(raylib_h/DrawLine ~start-pos-x
+                                 ~start-pos-y
+                                 ~end-pos-x
+                                 ~end-pos-y
+                                 (rstructs/color ~color)))}
   [start-pos-x start-pos-y end-pos-x end-pos-y color]
   (raylib_h/DrawLine start-pos-x
                      start-pos-y
@@ -1375,6 +2079,10 @@
 (defn draw-line-v
   "Draw a line (using gl lines)
   [Vector2 startPos, Vector2 endPos, Color color] -> void"
+  {:inline (fn [start-pos end-pos color]
+             `(raylib_h/DrawLineV (rstructs/vector2 ~start-pos)
+                                  (rstructs/vector2 ~end-pos)
+                                  (rstructs/color ~color)))}
   [start-pos end-pos color]
   (raylib_h/DrawLineV (rstructs/vector2 start-pos)
                       (rstructs/vector2 end-pos)
@@ -1383,7 +2091,12 @@
 (defn draw-line-ex
   "Draw a line (using triangles/quads)
   [Vector2 startPos, Vector2 endPos, float thick, Color color] -> void"
-  [start-pos end-pos thick color]
+  {:inline (fn [start-pos end-pos thick color]
+             `(raylib_h/DrawLineEx (rstructs/vector2 ~start-pos)
+                                   (rstructs/vector2 ~end-pos)
+                                   ~thick
+                                   (rstructs/color ~color)))}
+  [start-pos end-pos ^double thick color]
   (raylib_h/DrawLineEx (rstructs/vector2 start-pos)
                        (rstructs/vector2 end-pos)
                        thick
@@ -1404,7 +2117,12 @@
 (defn draw-line-bezier
   "Draw line segment cubic-bezier in-out interpolation
   [Vector2 startPos, Vector2 endPos, float thick, Color color] -> void"
-  [start-pos end-pos thick color]
+  {:inline (fn [start-pos end-pos thick color]
+             `(raylib_h/DrawLineBezier (rstructs/vector2 ~start-pos)
+                                       (rstructs/vector2 ~end-pos)
+                                       ~thick
+                                       (rstructs/color ~color)))}
+  [start-pos end-pos ^double thick color]
   (raylib_h/DrawLineBezier (rstructs/vector2 start-pos)
                            (rstructs/vector2 end-pos)
                            thick
@@ -1413,12 +2131,21 @@
 (defn draw-circle
   "Draw a color-filled circle
   [int centerX, int centerY, float radius, Color color] -> void"
-  [center-x center-y radius color]
+  {:inline (fn [center-x center-y radius color]
+             `(raylib_h/DrawCircle ~center-x ~center-y ~radius (rstructs/color ~color)))}
+  [^long center-x ^long center-y ^double radius color]
   (raylib_h/DrawCircle center-x center-y radius (rstructs/color color)))
 
 (defn draw-circle-sector
   "Draw a piece of a circle
   [Vector2 center, float radius, float startAngle, float endAngle, int segments, Color color] -> void"
+  {:inline (fn [center radius start-angle end-angle segments color]
+             `(raylib_h/DrawCircleSector (rstructs/vector2 ~center)
+                                         ~radius
+                                         ~start-angle
+                                         ~end-angle
+                                         ~segments
+                                         (rstructs/color ~color)))}
   [center radius start-angle end-angle segments color]
   (raylib_h/DrawCircleSector (rstructs/vector2 center)
                              radius
@@ -1430,6 +2157,13 @@
 (defn draw-circle-sector-lines
   "Draw circle sector outline
   [Vector2 center, float radius, float startAngle, float endAngle, int segments, Color color] -> void"
+  {:inline (fn [center radius start-angle end-angle segments color]
+             `(raylib_h/DrawCircleSectorLines (rstructs/vector2 ~center)
+                                              ~radius
+                                              ~start-angle
+                                              ~end-angle
+                                              ~segments
+                                              (rstructs/color ~color)))}
   [center radius start-angle end-angle segments color]
   (raylib_h/DrawCircleSectorLines (rstructs/vector2 center)
                                   radius
@@ -1441,6 +2175,12 @@
 (defn draw-circle-gradient
   "Draw a gradient-filled circle
   [int centerX, int centerY, float radius, Color color1, Color color2] -> void"
+  {:inline (fn [center-x center-y radius color1 color2]
+             `(raylib_h/DrawCircleGradient ~center-x
+                                           ~center-y
+                                           ~radius
+                                           (rstructs/color ~color1)
+                                           (rstructs/color ~color2)))}
   [center-x center-y radius color1 color2]
   (raylib_h/DrawCircleGradient center-x
                                center-y
@@ -1451,7 +2191,11 @@
 (defn draw-circle-v
   "Draw a color-filled circle (Vector version)
   [Vector2 center, float radius, Color color] -> void"
-  [center radius color]
+  {:inline (fn [center radius color]
+             `(raylib_h/DrawCircleV (rstructs/vector2 ~center)
+                                    ~radius
+                                    (rstructs/color ~color)))}
+  [center ^double radius color]
   (raylib_h/DrawCircleV (rstructs/vector2 center)
                         radius
                         (rstructs/color color)))
@@ -1459,13 +2203,19 @@
 (defn draw-circle-lines
   "Draw circle outline
   [int centerX, int centerY, float radius, Color color] -> void"
-  [center-x center-y radius color]
+  {:inline (fn [center-x center-y radius color]
+             `(raylib_h/DrawCircleLines ~center-x ~center-y ~radius (rstructs/color ~color)))}
+  [^long center-x ^long center-y ^double radius color]
   (raylib_h/DrawCircleLines center-x center-y radius (rstructs/color color)))
 
 (defn draw-circle-lines-v
   "Draw circle outline (Vector version)
   [Vector2 center, float radius, Color color] -> void"
-  [center radius color]
+  {:inline (fn [center radius color]
+             `(raylib_h/DrawCircleLinesV (rstructs/vector2 ~center)
+                                         ~radius
+                                         (rstructs/color ~color)))}
+  [center ^double radius color]
   (raylib_h/DrawCircleLinesV (rstructs/vector2 center)
                              radius
                              (rstructs/color color)))
@@ -1473,6 +2223,12 @@
 (defn draw-ellipse
   "Draw ellipse
   [int centerX, int centerY, float radiusH, float radiusV, Color color] -> void"
+  {:inline (fn [center-x center-y radius-h radius-v color]
+             `(raylib_h/DrawEllipse ~center-x
+                                    ~center-y
+                                    ~radius-h
+                                    ~radius-v
+                                    (rstructs/color ~color)))}
   [center-x center-y radius-h radius-v color]
   (raylib_h/DrawEllipse center-x
                         center-y
@@ -1483,6 +2239,12 @@
 (defn draw-ellipse-lines
   "Draw ellipse outline
   [int centerX, int centerY, float radiusH, float radiusV, Color color] -> void"
+  {:inline (fn [center-x center-y radius-h radius-v color]
+             `(raylib_h/DrawEllipseLines ~center-x
+                                         ~center-y
+                                         ~radius-h
+                                         ~radius-v
+                                         (rstructs/color ~color)))}
   [center-x center-y radius-h radius-v color]
   (raylib_h/DrawEllipseLines center-x
                              center-y
@@ -1493,6 +2255,14 @@
 (defn draw-ring
   "Draw ring
   [Vector2 center, float innerRadius, float outerRadius, float startAngle, float endAngle, int segments, Color color] -> void"
+  {:inline (fn [center inner-radius outer-radius start-angle end-angle segments color]
+             `(raylib_h/DrawRing (rstructs/vector2 ~center)
+                                 ~inner-radius
+                                 ~outer-radius
+                                 ~start-angle
+                                 ~end-angle
+                                 ~segments
+                                 (rstructs/color ~color)))}
   [center inner-radius outer-radius start-angle end-angle segments color]
   (raylib_h/DrawRing (rstructs/vector2 center)
                      inner-radius
@@ -1505,6 +2275,14 @@
 (defn draw-ring-lines
   "Draw ring outline
   [Vector2 center, float innerRadius, float outerRadius, float startAngle, float endAngle, int segments, Color color] -> void"
+  {:inline (fn [center inner-radius outer-radius start-angle end-angle segments color]
+             `(raylib_h/DrawRingLines (rstructs/vector2 ~center)
+                                      ~inner-radius
+                                      ~outer-radius
+                                      ~start-angle
+                                      ~end-angle
+                                      ~segments
+                                      (rstructs/color ~color)))}
   [center inner-radius outer-radius start-angle end-angle segments color]
   (raylib_h/DrawRingLines (rstructs/vector2 center)
                           inner-radius
@@ -1517,12 +2295,18 @@
 (defn draw-rectangle
   "Draw a color-filled rectangle
   [int posX, int posY, int width, int height, Color color] -> void"
+  {:inline (fn [pos-x pos-y width height color]
+             `(raylib_h/DrawRectangle ~pos-x ~pos-y ~width ~height (rstructs/color ~color)))}
   [pos-x pos-y width height color]
   (raylib_h/DrawRectangle pos-x pos-y width height (rstructs/color color)))
 
 (defn draw-rectangle-v
   "Draw a color-filled rectangle (Vector version)
   [Vector2 position, Vector2 size, Color color] -> void"
+  {:inline (fn [position size color]
+             `(raylib_h/DrawRectangleV (rstructs/vector2 ~position)
+                                       (rstructs/vector2 ~size)
+                                       (rstructs/color ~color)))}
   [position size color]
   (raylib_h/DrawRectangleV (rstructs/vector2 position)
                            (rstructs/vector2 size)
@@ -1531,13 +2315,20 @@
 (defn draw-rectangle-rec
   "Draw a color-filled rectangle
   [Rectangle rec, Color color] -> void"
+  {:inline (fn [rec color]
+             `(raylib_h/DrawRectangleRec (rstructs/rectangle ~rec) (rstructs/color ~color)))}
   [rec color]
   (raylib_h/DrawRectangleRec (rstructs/rectangle rec) (rstructs/color color)))
 
 (defn draw-rectangle-pro
   "Draw a color-filled rectangle with pro parameters
   [Rectangle rec, Vector2 origin, float rotation, Color color] -> void"
-  [rec origin rotation color]
+  {:inline (fn [rec origin rotation color]
+             `(raylib_h/DrawRectanglePro (rstructs/rectangle ~rec)
+                                         (rstructs/vector2 ~origin)
+                                         ~rotation
+                                         (rstructs/color ~color)))}
+  [rec origin ^double rotation color]
   (raylib_h/DrawRectanglePro (rstructs/rectangle rec)
                              (rstructs/vector2 origin)
                              rotation
@@ -1546,6 +2337,13 @@
 (defn draw-rectangle-gradient-v
   "Draw a vertical-gradient-filled rectangle
   [int posX, int posY, int width, int height, Color color1, Color color2] -> void"
+  {:inline (fn [pos-x pos-y width height color1 color2]
+             `(raylib_h/DrawRectangleGradientV ~pos-x
+                                               ~pos-y
+                                               ~width
+                                               ~height
+                                               (rstructs/color ~color1)
+                                               (rstructs/color ~color2)))}
   [pos-x pos-y width height color1 color2]
   (raylib_h/DrawRectangleGradientV pos-x
                                    pos-y
@@ -1557,6 +2355,13 @@
 (defn draw-rectangle-gradient-h
   "Draw a horizontal-gradient-filled rectangle
   [int posX, int posY, int width, int height, Color color1, Color color2] -> void"
+  {:inline (fn [pos-x pos-y width height color1 color2]
+             `(raylib_h/DrawRectangleGradientH ~pos-x
+                                               ~pos-y
+                                               ~width
+                                               ~height
+                                               (rstructs/color ~color1)
+                                               (rstructs/color ~color2)))}
   [pos-x pos-y width height color1 color2]
   (raylib_h/DrawRectangleGradientH pos-x
                                    pos-y
@@ -1568,6 +2373,12 @@
 (defn draw-rectangle-gradient-ex
   "Draw a gradient-filled rectangle with custom vertex colors
   [Rectangle rec, Color col1, Color col2, Color col3, Color col4] -> void"
+  {:inline (fn [rec col1 col2 col3 col4]
+             `(raylib_h/DrawRectangleGradientEx (rstructs/rectangle ~rec)
+                                                (rstructs/color ~col1)
+                                                (rstructs/color ~col2)
+                                                (rstructs/color ~col3)
+                                                (rstructs/color ~col4)))}
   [rec col1 col2 col3 col4]
   (raylib_h/DrawRectangleGradientEx (rstructs/rectangle rec)
                                     (rstructs/color col1)
@@ -1578,13 +2389,19 @@
 (defn draw-rectangle-lines
   "Draw rectangle outline
   [int posX, int posY, int width, int height, Color color] -> void"
+  {:inline (fn [pos-x pos-y width height color]
+             `(raylib_h/DrawRectangleLines ~pos-x ~pos-y ~width ~height (rstructs/color ~color)))}
   [pos-x pos-y width height color]
   (raylib_h/DrawRectangleLines pos-x pos-y width height (rstructs/color color)))
 
 (defn draw-rectangle-lines-ex
   "Draw rectangle outline with extended parameters
   [Rectangle rec, float lineThick, Color color] -> void"
-  [rec line-thick color]
+  {:inline (fn [rec line-thick color]
+             `(raylib_h/DrawRectangleLinesEx (rstructs/rectangle ~rec)
+                                             ~line-thick
+                                             (rstructs/color ~color)))}
+  [rec ^double line-thick color]
   (raylib_h/DrawRectangleLinesEx (rstructs/rectangle rec)
                                  line-thick
                                  (rstructs/color color)))
@@ -1592,7 +2409,12 @@
 (defn draw-rectangle-rounded
   "Draw rectangle with rounded edges
   [Rectangle rec, float roundness, int segments, Color color] -> void"
-  [rec roundness segments color]
+  {:inline (fn [rec roundness segments color]
+             `(raylib_h/DrawRectangleRounded (rstructs/rectangle ~rec)
+                                             ~roundness
+                                             ~segments
+                                             (rstructs/color ~color)))}
+  [rec ^double roundness ^long segments color]
   (raylib_h/DrawRectangleRounded (rstructs/rectangle rec)
                                  roundness
                                  segments
@@ -1601,6 +2423,12 @@
 (defn draw-rectangle-rounded-lines
   "Draw rectangle with rounded edges outline
   [Rectangle rec, float roundness, int segments, float lineThick, Color color] -> void"
+  {:inline (fn [rec roundness segments line-thick color]
+             `(raylib_h/DrawRectangleRoundedLines (rstructs/rectangle ~rec)
+                                                  ~roundness
+                                                  ~segments
+                                                  ~line-thick
+                                                  (rstructs/color ~color)))}
   [rec roundness segments line-thick color]
   (raylib_h/DrawRectangleRoundedLines (rstructs/rectangle rec)
                                       roundness
@@ -1611,6 +2439,11 @@
 (defn draw-triangle
   "Draw a color-filled triangle (vertex in counter-clockwise order!)
   [Vector2 v1, Vector2 v2, Vector2 v3, Color color] -> void"
+  {:inline (fn [v1 v2 v3 color]
+             `(raylib_h/DrawTriangle (rstructs/vector2 ~v1)
+                                     (rstructs/vector2 ~v2)
+                                     (rstructs/vector2 ~v3)
+                                     (rstructs/color ~color)))}
   [v1 v2 v3 color]
   (raylib_h/DrawTriangle (rstructs/vector2 v1)
                          (rstructs/vector2 v2)
@@ -1620,6 +2453,11 @@
 (defn draw-triangle-lines
   "Draw triangle outline (vertex in counter-clockwise order!)
   [Vector2 v1, Vector2 v2, Vector2 v3, Color color] -> void"
+  {:inline (fn [v1 v2 v3 color]
+             `(raylib_h/DrawTriangleLines (rstructs/vector2 ~v1)
+                                          (rstructs/vector2 ~v2)
+                                          (rstructs/vector2 ~v3)
+                                          (rstructs/color ~color)))}
   [v1 v2 v3 color]
   (raylib_h/DrawTriangleLines (rstructs/vector2 v1)
                               (rstructs/vector2 v2)
@@ -1653,6 +2491,12 @@
 (defn draw-poly
   "Draw a regular polygon (Vector version)
   [Vector2 center, int sides, float radius, float rotation, Color color] -> void"
+  {:inline (fn [center sides radius rotation color]
+             `(raylib_h/DrawPoly (rstructs/vector2 ~center)
+                                 ~sides
+                                 ~radius
+                                 ~rotation
+                                 (rstructs/color ~color)))}
   [center sides radius rotation color]
   (raylib_h/DrawPoly (rstructs/vector2 center)
                      sides
@@ -1663,6 +2507,12 @@
 (defn draw-poly-lines
   "Draw a polygon outline of n sides
   [Vector2 center, int sides, float radius, float rotation, Color color] -> void"
+  {:inline (fn [center sides radius rotation color]
+             `(raylib_h/DrawPolyLines (rstructs/vector2 ~center)
+                                      ~sides
+                                      ~radius
+                                      ~rotation
+                                      (rstructs/color ~color)))}
   [center sides radius rotation color]
   (raylib_h/DrawPolyLines (rstructs/vector2 center)
                           sides
@@ -1673,6 +2523,13 @@
 (defn draw-poly-lines-ex
   "Draw a polygon outline of n sides with extended parameters
   [Vector2 center, int sides, float radius, float rotation, float lineThick, Color color] -> void"
+  {:inline (fn [center sides radius rotation line-thick color]
+             `(raylib_h/DrawPolyLinesEx (rstructs/vector2 ~center)
+                                        ~sides
+                                        ~radius
+                                        ~rotation
+                                        ~line-thick
+                                        (rstructs/color ~color)))}
   [center sides radius rotation line-thick color]
   (raylib_h/DrawPolyLinesEx (rstructs/vector2 center)
                             sides
@@ -1755,7 +2612,12 @@
 (defn draw-spline-segment-linear
   "Draw spline segment: Linear, 2 points
   [Vector2 p1, Vector2 p2, float thick, Color color] -> void"
-  [p1 p2 thick color]
+  {:inline (fn [p1 p2 thick color]
+             `(raylib_h/DrawSplineSegmentLinear (rstructs/vector2 ~p1)
+                                                (rstructs/vector2 ~p2)
+                                                ~thick
+                                                (rstructs/color ~color)))}
+  [p1 p2 ^double thick color]
   (raylib_h/DrawSplineSegmentLinear (rstructs/vector2 p1)
                                     (rstructs/vector2 p2)
                                     thick
@@ -1764,6 +2626,13 @@
 (defn draw-spline-segment-basis
   "Draw spline segment: B-Spline, 4 points
   [Vector2 p1, Vector2 p2, Vector2 p3, Vector2 p4, float thick, Color color] -> void"
+  {:inline (fn [p1 p2 p3 p4 thick color]
+             `(raylib_h/DrawSplineSegmentBasis (rstructs/vector2 ~p1)
+                                               (rstructs/vector2 ~p2)
+                                               (rstructs/vector2 ~p3)
+                                               (rstructs/vector2 ~p4)
+                                               ~thick
+                                               (rstructs/color ~color)))}
   [p1 p2 p3 p4 thick color]
   (raylib_h/DrawSplineSegmentBasis (rstructs/vector2 p1)
                                    (rstructs/vector2 p2)
@@ -1775,6 +2644,13 @@
 (defn draw-spline-segment-catmull-rom
   "Draw spline segment: Catmull-Rom, 4 points
   [Vector2 p1, Vector2 p2, Vector2 p3, Vector2 p4, float thick, Color color] -> void"
+  {:inline (fn [p1 p2 p3 p4 thick color]
+             `(raylib_h/DrawSplineSegmentCatmullRom (rstructs/vector2 ~p1)
+                                                    (rstructs/vector2 ~p2)
+                                                    (rstructs/vector2 ~p3)
+                                                    (rstructs/vector2 ~p4)
+                                                    ~thick
+                                                    (rstructs/color ~color)))}
   [p1 p2 p3 p4 thick color]
   (raylib_h/DrawSplineSegmentCatmullRom (rstructs/vector2 p1)
                                         (rstructs/vector2 p2)
@@ -1786,6 +2662,12 @@
 (defn draw-spline-segment-bezier-quadratic
   "Draw spline segment: Quadratic Bezier, 2 points, 1 control point
   [Vector2 p1, Vector2 c2, Vector2 p3, float thick, Color color] -> void"
+  {:inline (fn [p1 c2 p3 thick color]
+             `(raylib_h/DrawSplineSegmentBezierQuadratic (rstructs/vector2 ~p1)
+                                                         (rstructs/vector2 ~c2)
+                                                         (rstructs/vector2 ~p3)
+                                                         ~thick
+                                                         (rstructs/color ~color)))}
   [p1 c2 p3 thick color]
   (raylib_h/DrawSplineSegmentBezierQuadratic (rstructs/vector2 p1)
                                              (rstructs/vector2 c2)
@@ -1796,6 +2678,13 @@
 (defn draw-spline-segment-bezier-cubic
   "Draw spline segment: Cubic Bezier, 2 points, 2 control points
   [Vector2 p1, Vector2 c2, Vector2 c3, Vector2 p4, float thick, Color color] -> void"
+  {:inline (fn [p1 c2 c3 p4 thick color]
+             `(raylib_h/DrawSplineSegmentBezierCubic (rstructs/vector2 ~p1)
+                                                     (rstructs/vector2 ~c2)
+                                                     (rstructs/vector2 ~c3)
+                                                     (rstructs/vector2 ~p4)
+                                                     ~thick
+                                                     (rstructs/color ~color)))}
   [p1 c2 c3 p4 thick color]
   (raylib_h/DrawSplineSegmentBezierCubic (rstructs/vector2 p1)
                                          (rstructs/vector2 c2)
@@ -1814,6 +2703,21 @@
                           (rstructs/vector2 end-pos)
                           t)))
 
+(defn get-spline-point-linear!
+  "Get (evaluate) spline point: Linear (written into dest)
+  [Vector2 * dest, Vector2 startPos, Vector2 endPos, float t] -> Vector2 *"
+  {:inline (fn [dest start-pos end-pos t]
+             `(raylib_h/GetSplinePointLinear (memory/prefix-allocator ~dest)
+                                             (rstructs/vector2 ~start-pos)
+                                             (rstructs/vector2 ~end-pos)
+                                             ~t))}
+  [dest start-pos end-pos ^double t]
+  (raylib_h/GetSplinePointLinear
+    (memory/prefix-allocator dest)
+    (rstructs/vector2 start-pos)
+    (rstructs/vector2 end-pos)
+    t))
+
 (defn get-spline-point-basis
   "Get (evaluate) spline point: B-Spline
   [Vector2 p1, Vector2 p2, Vector2 p3, Vector2 p4, float t] -> Vector2"
@@ -1825,6 +2729,24 @@
                                                       (rstructs/vector2 p4)
                                                       t)))
 
+(defn get-spline-point-basis!
+  "Get (evaluate) spline point: B-Spline (written into dest)
+  [Vector2 * dest, Vector2 p1, Vector2 p2, Vector2 p3, Vector2 p4, float t] -> Vector2 *"
+  {:inline (fn [dest p1 p2 p3 p4 t]
+             `(raylib_h/GetSplinePointBasis (memory/prefix-allocator ~dest)
+                                            (rstructs/vector2 ~p1)
+                                            (rstructs/vector2 ~p2)
+                                            (rstructs/vector2 ~p3)
+                                            (rstructs/vector2 ~p4)
+                                            ~t))}
+  [dest p1 p2 p3 p4 t]
+  (raylib_h/GetSplinePointBasis (memory/prefix-allocator dest)
+                                (rstructs/vector2 p1)
+                                (rstructs/vector2 p2)
+                                (rstructs/vector2 p3)
+                                (rstructs/vector2 p4)
+                                t))
+
 (defn get-spline-point-catmull-rom
   "Get (evaluate) spline point: Catmull-Rom
   [Vector2 p1, Vector2 p2, Vector2 p3, Vector2 p4, float t] -> Vector2"
@@ -1837,6 +2759,25 @@
                           (rstructs/vector2 p4)
                           t)))
 
+(defn get-spline-point-catmull-rom!
+  "Get (evaluate) spline point: Catmull-Rom (written into dest)
+  [Vector2 * dest, Vector2 p1, Vector2 p2, Vector2 p3, Vector2 p4, float t] -> Vector2 *"
+  {:inline (fn [dest p1 p2 p3 p4 t]
+             `(raylib_h/GetSplinePointCatmullRom (memory/prefix-allocator ~dest)
+                                                 (rstructs/vector2 ~p1)
+                                                 (rstructs/vector2 ~p2)
+                                                 (rstructs/vector2 ~p3)
+                                                 (rstructs/vector2 ~p4)
+                                                 ~t))}
+  [dest p1 p2 p3 p4 t]
+  (raylib_h/GetSplinePointCatmullRom
+    (memory/prefix-allocator dest)
+    (rstructs/vector2 p1)
+    (rstructs/vector2 p2)
+    (rstructs/vector2 p3)
+    (rstructs/vector2 p4)
+    t))
+
 (defn get-spline-point-bezier-quad
   "Get (evaluate) spline point: Quadratic Bezier
   [Vector2 p1, Vector2 c2, Vector2 p3, float t] -> Vector2"
@@ -1848,6 +2789,23 @@
                           (rstructs/vector2 p3)
                           t)))
 
+(defn get-spline-point-bezier-quad!
+  "Get (evaluate) spline point: Quadratic Bezier (written into dest)
+  [Vector2 * dest, Vector2 p1, Vector2 c2, Vector2 p3, float t] -> Vector2 *"
+  {:inline (fn [dest p1 c2 p3 t]
+             `(raylib_h/GetSplinePointBezierQuad (memory/prefix-allocator ~dest)
+                                                 (rstructs/vector2 ~p1)
+                                                 (rstructs/vector2 ~c2)
+                                                 (rstructs/vector2 ~p3)
+                                                 ~t))}
+  [dest p1 c2 p3 t]
+  (raylib_h/GetSplinePointBezierQuad
+    (memory/prefix-allocator dest)
+    (rstructs/vector2 p1)
+    (rstructs/vector2 c2)
+    (rstructs/vector2 p3)
+    t))
+
 (defn get-spline-point-bezier-cubic
   "Get (evaluate) spline point: Cubic Bezier
   [Vector2 p1, Vector2 c2, Vector2 c3, Vector2 p4, float t] -> Vector2"
@@ -1860,9 +2818,32 @@
                           (rstructs/vector2 p4)
                           t)))
 
+(defn get-spline-point-bezier-cubic!
+  "Get (evaluate) spline point: Cubic Bezier (written into dest)
+  [Vector2 * dest, Vector2 p1, Vector2 c2, Vector2 c3, Vector2 p4, float t] -> Vector2 *"
+  {:inline (fn [dest p1 c2 c3 p4 t]
+             `(raylib_h/GetSplinePointBezierCubic
+                (memory/prefix-allocator ~dest)
+                (rstructs/vector2 ~p1)
+                (rstructs/vector2 ~c2)
+                (rstructs/vector2 ~c3)
+                (rstructs/vector2 ~p4)
+                ~t))}
+  [dest p1 c2 c3 p4 t]
+  (raylib_h/GetSplinePointBezierCubic
+    (memory/prefix-allocator dest)
+    (rstructs/vector2 p1)
+    (rstructs/vector2 c2)
+    (rstructs/vector2 c3)
+    (rstructs/vector2 p4)
+    t))
+
 (defn check-collision-recs?
   "Check collision between two rectangles
   [Rectangle rec1, Rectangle rec2] -> bool"
+  {:inline (fn [rec1 rec2]
+             `(raylib_h/CheckCollisionRecs (rstructs/rectangle ~rec1)
+                                           (rstructs/rectangle ~rec2)))}
   [rec1 rec2]
   (raylib_h/CheckCollisionRecs (rstructs/rectangle rec1)
                                (rstructs/rectangle rec2)))
@@ -1870,7 +2851,12 @@
 (defn check-collision-circles?
   "Check collision between two circles
   [Vector2 center1, float radius1, Vector2 center2, float radius2] -> bool"
-  [center1 radius1 center2 radius2]
+  {:inline (fn [center1 radius1 center2 radius2]
+             `(raylib_h/CheckCollisionCircles (rstructs/vector2 ~center1)
+                                              ~radius1
+                                              (rstructs/vector2 ~center2)
+                                              ~radius2))}
+  [center1 ^double radius1 center2 ^double radius2]
   (raylib_h/CheckCollisionCircles (rstructs/vector2 center1)
                                   radius1
                                   (rstructs/vector2 center2)
@@ -1879,7 +2865,11 @@
 (defn check-collision-circle-rec?
   "Check collision between circle and rectangle
   [Vector2 center, float radius, Rectangle rec] -> bool"
-  [center radius rec]
+  {:inline (fn [center radius rec]
+             `(raylib_h/CheckCollisionCircleRec (rstructs/vector2 ~center)
+                                                ~radius
+                                                (rstructs/rectangle ~rec)))}
+  [center ^double radius rec]
   (raylib_h/CheckCollisionCircleRec (rstructs/vector2 center)
                                     radius
                                     (rstructs/rectangle rec)))
@@ -1887,6 +2877,9 @@
 (defn check-collision-point-rec?
   "Check if point is inside rectangle
   [Vector2 point, Rectangle rec] -> bool"
+  {:inline (fn [point rec]
+             `(raylib_h/CheckCollisionPointRec (rstructs/vector2 ~point)
+                                               (rstructs/rectangle ~rec)))}
   [point rec]
   (raylib_h/CheckCollisionPointRec (rstructs/vector2 point)
                                    (rstructs/rectangle rec)))
@@ -1894,7 +2887,11 @@
 (defn check-collision-point-circle?
   "Check if point is inside circle
   [Vector2 point, Vector2 center, float radius] -> bool"
-  [point center radius]
+  {:inline (fn [point center radius]
+             `(raylib_h/CheckCollisionPointCircle (rstructs/vector2 ~point)
+                                                  (rstructs/vector2 ~center)
+                                                  ~radius))}
+  [point center ^double radius]
   (raylib_h/CheckCollisionPointCircle (rstructs/vector2 point)
                                       (rstructs/vector2 center)
                                       radius))
@@ -1902,6 +2899,11 @@
 (defn check-collision-point-triangle?
   "Check if point is inside a triangle
   [Vector2 point, Vector2 p1, Vector2 p2, Vector2 p3] -> bool"
+  {:inline (fn [point p1 p2 p3]
+             `(raylib_h/CheckCollisionPointTriangle (rstructs/vector2 ~point)
+                                                    (rstructs/vector2 ~p1)
+                                                    (rstructs/vector2 ~p2)
+                                                    (rstructs/vector2 ~p3)))}
   [point p1 p2 p3]
   (raylib_h/CheckCollisionPointTriangle (rstructs/vector2 point)
                                         (rstructs/vector2 p1)
@@ -1923,6 +2925,12 @@
 (defn check-collision-lines?
   "Check the collision between two lines defined by two points each, returns collision point by reference
   [Vector2 startPos1, Vector2 endPos1, Vector2 startPos2, Vector2 endPos2, Vector2 * collisionPoint] -> bool"
+  {:inline (fn [start-pos1 end-pos1 start-pos2 end-pos2 collision-point]
+             `(raylib_h/CheckCollisionLines (rstructs/vector2 ~start-pos1)
+                                            (rstructs/vector2 ~end-pos1)
+                                            (rstructs/vector2 ~start-pos2)
+                                            (rstructs/vector2 ~end-pos2)
+                                            (rstructs/vector2 ~collision-point)))}
   [start-pos1 end-pos1 start-pos2 end-pos2 collision-point]
   (raylib_h/CheckCollisionLines (rstructs/vector2 start-pos1)
                                 (rstructs/vector2 end-pos1)
@@ -1933,7 +2941,12 @@
 (defn check-collision-point-line?
   "Check if point belongs to line created between two points [p1] and [p2] with defined margin in pixels [threshold]
   [Vector2 point, Vector2 p1, Vector2 p2, int threshold] -> bool"
-  [point p1 p2 threshold]
+  {:inline (fn [point p1 p2 threshold]
+             `(raylib_h/CheckCollisionPointLine (rstructs/vector2 ~point)
+                                                (rstructs/vector2 ~p1)
+                                                (rstructs/vector2 ~p2)
+                                                ~threshold))}
+  [point p1 p2 ^long threshold]
   (raylib_h/CheckCollisionPointLine (rstructs/vector2 point)
                                     (rstructs/vector2 p1)
                                     (rstructs/vector2 p2)
@@ -1943,22 +2956,44 @@
   "Get collision rectangle for two rectangles collision
   [Rectangle rec1, Rectangle rec2] -> Rectangle"
   [rec1 rec2]
-  (rstructs/get-rectangle (raylib_h/GetCollisionRec memory/*current-arena*
+  (rstructs/get-rectangle (raylib_h/GetCollisionRec (memory/result-arena)
                                                     (rstructs/rectangle rec1)
                                                     (rstructs/rectangle rec2))))
 
+(defn get-collision-rec!
+  "Get collision rectangle for two rectangles collision (written into dest)
+  [Rectangle * dest, Rectangle rec1, Rectangle rec2] -> Rectangle *"
+  {:inline (fn [dest rec1 rec2]
+             `(raylib_h/GetCollisionRec (memory/prefix-allocator ~dest)
+                                        (rstructs/rectangle ~rec1)
+                                        (rstructs/rectangle ~rec2)))}
+  [dest rec1 rec2]
+  (raylib_h/GetCollisionRec (memory/prefix-allocator dest)
+                            (rstructs/rectangle rec1)
+                            (rstructs/rectangle rec2)))
+
 (defn load-image
   "Load image from file into CPU memory (RAM)
   [const char * fileName] -> Image"
   [file-name]
-  (rstructs/get-image (raylib_h/LoadImage memory/*current-arena*
+  (rstructs/get-image (raylib_h/LoadImage (memory/result-arena)
                                           (memory/string file-name))))
 
+(defn load-image!
+  "Load image from file into CPU memory (RAM) (written into dest)
+  [Image * dest, const char * fileName] -> Image *"
+  {:inline (fn [dest file-name]
+             `(raylib_h/LoadImage (memory/prefix-allocator ~dest)
+                                  (memory/string ~file-name)))}
+  [dest file-name]
+  (raylib_h/LoadImage (memory/prefix-allocator dest)
+                      (memory/string file-name)))
+
 (defn load-image-raw
   "Load image from RAW file data
   [const char * fileName, int width, int height, int format, int headerSize] -> Image"
   [file-name width height format header-size]
-  (rstructs/get-image (raylib_h/LoadImageRaw memory/*current-arena*
+  (rstructs/get-image (raylib_h/LoadImageRaw (memory/result-arena)
                                              (memory/string file-name)
                                              width
                                              height
@@ -1967,67 +3002,164 @@
                                                format)
                                              header-size)))
 
+(defn load-image-raw!
+  "Load image from RAW file data (written into dest)
+  [Image * dest, const char * fileName, int width, int height, int format, int headerSize] -> Image *"
+  {:inline (fn [dest file-name width height format header-size]
+             `(let [dest# ~dest
+                    file-name# ~file-name
+                    width# ~width
+                    height# ~height
+                    format# ~format
+                    header-size# ~header-size]
+                (raylib_h/LoadImageRaw (memory/prefix-allocator dest#)
+                                       (memory/string file-name#)
+                                       width#
+                                       height#
+                                       (if (keyword? format#)
+                                         (renums/pixel-format format#)
+                                         format#)
+                                       header-size#)))}
+  [dest file-name width height format header-size]
+  (raylib_h/LoadImageRaw (memory/prefix-allocator dest)
+                         (memory/string file-name)
+                         width
+                         height
+                         (if (keyword? format)
+                           (renums/pixel-format format)
+                           format)
+                         header-size))
+
 (defn load-image-svg
   "Load image from SVG file data or string with specified size
   [const char * fileNameOrString, int width, int height] -> Image"
   [file-name-or-string width height]
-  (rstructs/get-image (raylib_h/LoadImageSvg memory/*current-arena*
+  (rstructs/get-image (raylib_h/LoadImageSvg (memory/result-arena)
                                              (memory/string file-name-or-string)
                                              width
                                              height)))
 
+(defn load-image-svg!
+  "Load image from SVG file data or string with specified size (written into dest)
+  [Image * dest, const char * fileNameOrString, int width, int height] -> Image *"
+  {:inline (fn [dest file-name-or-string width height]
+             `(raylib_h/LoadImageSvg (memory/prefix-allocator ~dest)
+                                     (memory/string ~file-name-or-string)
+                                     ~width
+                                     ~height))}
+  [dest file-name-or-string ^long width ^long height]
+  (raylib_h/LoadImageSvg (memory/prefix-allocator dest)
+                         (memory/string file-name-or-string)
+                         width
+                         height))
+
 (defn load-image-anim
   "Load image sequence from file (frames appended to image.data)
   [const char * fileName, int * frames] -> Image"
   [file-name frames]
-  (rstructs/get-image (raylib_h/LoadImageAnim memory/*current-arena*
+  (rstructs/get-image (raylib_h/LoadImageAnim (memory/result-arena)
                                               (memory/string file-name)
                                               frames)))
 
+(defn load-image-anim!
+  "Load image sequence from file (frames appended to image.data) (written into dest)
+  [Image * dest, const char * fileName, int * frames] -> Image *"
+  {:inline (fn [dest file-name frames]
+             `(raylib_h/LoadImageAnim (memory/prefix-allocator ~dest)
+                                      (memory/string ~file-name)
+                                      ~frames))}
+  [dest file-name frames]
+  (raylib_h/LoadImageAnim (memory/prefix-allocator dest)
+                          (memory/string file-name)
+                          frames))
+
 (defn load-image-from-memory
   "Load image from memory buffer, fileType refers to extension: i.e. '.png'
   [const char * fileType, const unsigned char * fileData, int dataSize] -> Image"
   [file-type file-data data-size]
-  (rstructs/get-image (raylib_h/LoadImageFromMemory memory/*current-arena*
+  (rstructs/get-image (raylib_h/LoadImageFromMemory (memory/result-arena)
                                                     (memory/string file-type)
                                                     file-data
                                                     data-size)))
 
+(defn load-image-from-memory!
+  "Load image from memory buffer, fileType refers to extension: i.e. '.png' (written into dest)
+  [Image * dest, const char * fileType, const unsigned char * fileData, int dataSize] -> Image *"
+  {:inline (fn [dest file-type file-data data-size]
+             `(raylib_h/LoadImageFromMemory (memory/prefix-allocator ~dest)
+                                            (memory/string ~file-type)
+                                            ~file-data
+                                            ~data-size))}
+  [dest file-type file-data ^long data-size]
+  (raylib_h/LoadImageFromMemory (memory/prefix-allocator dest)
+                                (memory/string file-type)
+                                file-data
+                                data-size))
+
 (defn load-image-from-texture
   "Load image from GPU texture data
   [Texture2D texture] -> Image"
   [texture]
-  (rstructs/get-image (raylib_h/LoadImageFromTexture memory/*current-arena*
+  (rstructs/get-image (raylib_h/LoadImageFromTexture (memory/result-arena)
                                                      (rstructs/texture
                                                        texture))))
 
+(defn load-image-from-texture!
+  "Load image from GPU texture data (written into dest)
+  [Image * dest, Texture2D texture] -> Image *"
+  {:inline (fn [dest texture]
+             `(raylib_h/LoadImageFromTexture (memory/prefix-allocator ~dest)
+                                             (rstructs/texture ~texture)))}
+  [dest texture]
+  (raylib_h/LoadImageFromTexture (memory/prefix-allocator dest)
+                                 (rstructs/texture
+                                   texture)))
+
 (defn load-image-from-screen
   "Load image from screen buffer and (screenshot)
   [] -> Image"
   []
-  (rstructs/get-image (raylib_h/LoadImageFromScreen memory/*current-arena*)))
+  (rstructs/get-image (raylib_h/LoadImageFromScreen (memory/result-arena))))
+
+(defn load-image-from-screen!
+  "Load image from screen buffer and (screenshot) (written into dest)
+  [Image * dest] -> Image *"
+  {:inline (fn [dest]
+             `(raylib_h/LoadImageFromScreen (memory/prefix-allocator ~dest)))}
+  [dest]
+  (raylib_h/LoadImageFromScreen (memory/prefix-allocator dest)))
 
 (defn image-ready?
   "Check if an image is ready
   [Image image] -> bool"
+  {:inline (fn [image]
+             `(raylib_h/IsImageReady (rstructs/image ~image)))}
   [image]
   (raylib_h/IsImageReady (rstructs/image image)))
 
 (defn unload-image
   "Unload image from CPU memory (RAM)
   [Image image] -> void"
+  {:inline (fn [image]
+             `(raylib_h/UnloadImage (rstructs/image ~image)))}
   [image]
   (raylib_h/UnloadImage (rstructs/image image)))
 
 (defn export-image?
   "Export image data to file, returns true on success
   [Image image, const char * fileName] -> bool"
+  {:inline (fn [image file-name]
+             `(raylib_h/ExportImage (rstructs/image ~image) (memory/string ~file-name)))}
   [image file-name]
   (raylib_h/ExportImage (rstructs/image image) (memory/string file-name)))
 
 (defn export-image-to-memory
   "Export image to memory buffer
   [Image image, const char * fileType, int * fileSize] -> unsigned char *"
+  {:inline (fn [image file-type file-size]
+             `(raylib_h/ExportImageToMemory (rstructs/image ~image)
+                                            (memory/string ~file-type)
+                                            ~file-size))}
   [image file-type file-size]
   (raylib_h/ExportImageToMemory (rstructs/image image)
                                 (memory/string file-type)
@@ -2036,6 +3168,8 @@
 (defn export-image-as-code?
   "Export image as code file defining an array of bytes, returns true on success
   [Image image, const char * fileName] -> bool"
+  {:inline (fn [image file-name]
+             `(raylib_h/ExportImageAsCode (rstructs/image ~image) (memory/string ~file-name)))}
   [image file-name]
   (raylib_h/ExportImageAsCode (rstructs/image image) (memory/string file-name)))
 
@@ -2043,49 +3177,117 @@
   "Generate image: plain color
   [int width, int height, Color color] -> Image"
   [width height color]
-  (rstructs/get-image (raylib_h/GenImageColor memory/*current-arena*
+  (rstructs/get-image (raylib_h/GenImageColor (memory/result-arena)
                                               width
                                               height
                                               (rstructs/color color))))
 
+(defn gen-image-color!
+  "Generate image: plain color (written into dest)
+  [Image * dest, int width, int height, Color color] -> Image *"
+  {:inline (fn [dest width height color]
+             `(raylib_h/GenImageColor (memory/prefix-allocator ~dest)
+                                      ~width
+                                      ~height
+                                      (rstructs/color ~color)))}
+  [dest ^long width ^long height color]
+  (raylib_h/GenImageColor (memory/prefix-allocator dest)
+                          width
+                          height
+                          (rstructs/color color)))
+
 (defn gen-image-gradient-linear
   "Generate image: linear gradient, direction in degrees [0..360], 0=Vertical gradient
   [int width, int height, int direction, Color start, Color end] -> Image"
   [width height direction start end]
-  (rstructs/get-image (raylib_h/GenImageGradientLinear memory/*current-arena*
+  (rstructs/get-image (raylib_h/GenImageGradientLinear (memory/result-arena)
                                                        width
                                                        height
                                                        direction
                                                        (rstructs/color start)
                                                        (rstructs/color end))))
 
+(defn gen-image-gradient-linear!
+  "Generate image: linear gradient, direction in degrees [0..360], 0=Vertical gradient (written into dest)
+  [Image * dest, int width, int height, int direction, Color start, Color end] -> Image *"
+  {:inline (fn [dest width height direction start end]
+             `(raylib_h/GenImageGradientLinear (memory/prefix-allocator ~dest)
+                                               ~width
+                                               ~height
+                                               ~direction
+                                               (rstructs/color ~start)
+                                               (rstructs/color ~end)))}
+  [dest width height direction start end]
+  (raylib_h/GenImageGradientLinear (memory/prefix-allocator dest)
+                                   width
+                                   height
+                                   direction
+                                   (rstructs/color start)
+                                   (rstructs/color end)))
+
 (defn gen-image-gradient-radial
   "Generate image: radial gradient
   [int width, int height, float density, Color inner, Color outer] -> Image"
   [width height density inner outer]
-  (rstructs/get-image (raylib_h/GenImageGradientRadial memory/*current-arena*
+  (rstructs/get-image (raylib_h/GenImageGradientRadial (memory/result-arena)
                                                        width
                                                        height
                                                        density
                                                        (rstructs/color inner)
                                                        (rstructs/color outer))))
 
+(defn gen-image-gradient-radial!
+  "Generate image: radial gradient (written into dest)
+  [Image * dest, int width, int height, float density, Color inner, Color outer] -> Image *"
+  {:inline (fn [dest width height density inner outer]
+             `(raylib_h/GenImageGradientRadial (memory/prefix-allocator ~dest)
+                                               ~width
+                                               ~height
+                                               ~density
+                                               (rstructs/color ~inner)
+                                               (rstructs/color ~outer)))}
+  [dest width height density inner outer]
+  (raylib_h/GenImageGradientRadial (memory/prefix-allocator dest)
+                                   width
+                                   height
+                                   density
+                                   (rstructs/color inner)
+                                   (rstructs/color outer)))
+
 (defn gen-image-gradient-square
   "Generate image: square gradient
   [int width, int height, float density, Color inner, Color outer] -> Image"
   [width height density inner outer]
-  (rstructs/get-image (raylib_h/GenImageGradientSquare memory/*current-arena*
+  (rstructs/get-image (raylib_h/GenImageGradientSquare (memory/result-arena)
                                                        width
                                                        height
                                                        density
                                                        (rstructs/color inner)
                                                        (rstructs/color outer))))
 
+(defn gen-image-gradient-square!
+  "Generate image: square gradient (written into dest)
+  [Image * dest, int width, int height, float density, Color inner, Color outer] -> Image *"
+  {:inline (fn [dest width height density inner outer]
+             `(raylib_h/GenImageGradientSquare (memory/prefix-allocator ~dest)
+                                               ~width
+                                               ~height
+                                               ~density
+                                               (rstructs/color ~inner)
+                                               (rstructs/color ~outer)))}
+  [dest width height density inner outer]
+  (raylib_h/GenImageGradientSquare (memory/prefix-allocator dest)
+                                   width
+                                   height
+                                   density
+                                   (rstructs/color inner)
+                                   (rstructs/color outer)))
+
 (defn gen-image-checked
   "Generate image: checked
   [int width, int height, int checksX, int checksY, Color col1, Color col2] -> Image"
   [width height checks-x checks-y col1 col2]
-  (rstructs/get-image (raylib_h/GenImageChecked memory/*current-arena*
+  (rstructs/get-image (raylib_h/GenImageChecked (memory/result-arena)
                                                 width
                                                 height
                                                 checks-x
@@ -2093,75 +3295,203 @@
                                                 (rstructs/color col1)
                                                 (rstructs/color col2))))
 
+(defn gen-image-checked!
+  "Generate image: checked (written into dest)
+  [Image * dest, int width, int height, int checksX, int checksY, Color col1, Color col2] -> Image *"
+  {:inline (fn [dest width height checks-x checks-y col1 col2]
+             `(raylib_h/GenImageChecked (memory/prefix-allocator ~dest)
+                                        ~width
+                                        ~height
+                                        ~checks-x
+                                        ~checks-y
+                                        (rstructs/color ~col1)
+                                        (rstructs/color ~col2)))}
+  [dest width height checks-x checks-y col1 col2]
+  (raylib_h/GenImageChecked (memory/prefix-allocator dest)
+                            width
+                            height
+                            checks-x
+                            checks-y
+                            (rstructs/color col1)
+                            (rstructs/color col2)))
+
 (defn gen-image-white-noise
   "Generate image: white noise
   [int width, int height, float factor] -> Image"
   [width height factor]
   (rstructs/get-image
-    (raylib_h/GenImageWhiteNoise memory/*current-arena* width height factor)))
+    (raylib_h/GenImageWhiteNoise (memory/result-arena) width height factor)))
+
+(defn gen-image-white-noise!
+  "Generate image: white noise (written into dest)
+  [Image * dest, int width, int height, float factor] -> Image *"
+  {:inline (fn [dest width height factor]
+             `(raylib_h/GenImageWhiteNoise (memory/prefix-allocator ~dest)
+                                           ~width
+                                           ~height
+                                           ~factor))}
+  [dest ^long width ^long height ^double factor]
+  (raylib_h/GenImageWhiteNoise (memory/prefix-allocator dest) width height factor))
 
 (defn gen-image-perlin-noise
   "Generate image: perlin noise
   [int width, int height, int offsetX, int offsetY, float scale] -> Image"
   [width height offset-x offset-y scale]
-  (rstructs/get-image (raylib_h/GenImagePerlinNoise memory/*current-arena*
+  (rstructs/get-image (raylib_h/GenImagePerlinNoise (memory/result-arena)
                                                     width
                                                     height
                                                     offset-x
                                                     offset-y
                                                     scale)))
 
+(defn gen-image-perlin-noise!
+  "Generate image: perlin noise (written into dest)
+  [Image * dest, int width, int height, int offsetX, int offsetY, float scale] -> Image *"
+  {:inline (fn [dest width height offset-x offset-y scale]
+             `(raylib_h/GenImagePerlinNoise (memory/prefix-allocator ~dest)
+                                            ~width
+                                            ~height
+                                            ~offset-x
+                                            ~offset-y
+                                            ~scale))}
+  [dest width height offset-x offset-y scale]
+  (raylib_h/GenImagePerlinNoise (memory/prefix-allocator dest)
+                                width
+                                height
+                                offset-x
+                                offset-y
+                                scale))
+
 (defn gen-image-cellular
   "Generate image: cellular algorithm, bigger tileSize means bigger cells
   [int width, int height, int tileSize] -> Image"
   [width height tile-size]
   (rstructs/get-image
-    (raylib_h/GenImageCellular memory/*current-arena* width height tile-size)))
+    (raylib_h/GenImageCellular (memory/result-arena) width height tile-size)))
+
+(defn gen-image-cellular!
+  "Generate image: cellular algorithm, bigger tileSize means bigger cells (written into dest)
+  [Image * dest, int width, int height, int tileSize] -> Image *"
+  {:inline (fn [dest width height tile-size]
+             `(raylib_h/GenImageCellular (memory/prefix-allocator ~dest)
+                                         ~width
+                                         ~height
+                                         ~tile-size))}
+  [dest ^long width ^long height ^long tile-size]
+  (raylib_h/GenImageCellular (memory/prefix-allocator dest) width height tile-size))
 
 (defn gen-image-text
   "Generate image: grayscale image from text data
   [int width, int height, const char * text] -> Image"
   [width height text]
-  (rstructs/get-image (raylib_h/GenImageText memory/*current-arena*
+  (rstructs/get-image (raylib_h/GenImageText (memory/result-arena)
                                              width
                                              height
                                              (memory/string text))))
 
+(defn gen-image-text!
+  "Generate image: grayscale image from text data (written into dest)
+  [Image * dest, int width, int height, const char * text] -> Image *"
+  {:inline (fn [dest width height text]
+             `(raylib_h/GenImageText (memory/prefix-allocator ~dest)
+                                     ~width
+                                     ~height
+                                     (memory/string ~text)))}
+  [dest ^long width ^long height text]
+  (raylib_h/GenImageText (memory/prefix-allocator dest)
+                         width
+                         height
+                         (memory/string text)))
+
 (defn image-copy
   "Create an image duplicate (useful for transformations)
   [Image image] -> Image"
   [image]
-  (rstructs/get-image (raylib_h/ImageCopy memory/*current-arena*
+  (rstructs/get-image (raylib_h/ImageCopy (memory/result-arena)
                                           (rstructs/image image))))
 
+(defn image-copy!
+  "Create an image duplicate (useful for transformations) (written into dest)
+  [Image * dest, Image image] -> Image *"
+  {:inline (fn [dest image]
+             `(raylib_h/ImageCopy (memory/prefix-allocator ~dest)
+                                  (rstructs/image ~image)))}
+  [dest image]
+  (raylib_h/ImageCopy (memory/prefix-allocator dest)
+                      (rstructs/image image)))
+
 (defn image-from-image
   "Create an image from another image piece
   [Image image, Rectangle rec] -> Image"
   [image rec]
-  (rstructs/get-image (raylib_h/ImageFromImage memory/*current-arena*
+  (rstructs/get-image (raylib_h/ImageFromImage (memory/result-arena)
                                                (rstructs/image image)
                                                (rstructs/rectangle rec))))
 
+(defn image-from-image!
+  "Create an image from another image piece (written into dest)
+  [Image * dest, Image image, Rectangle rec] -> Image *"
+  {:inline (fn [dest image rec]
+             `(raylib_h/ImageFromImage (memory/prefix-allocator ~dest)
+                                       (rstructs/image ~image)
+                                       (rstructs/rectangle ~rec)))}
+  [dest image rec]
+  (raylib_h/ImageFromImage (memory/prefix-allocator dest)
+                           (rstructs/image image)
+                           (rstructs/rectangle rec)))
+
 (defn image-text
   "Create an image from text (default font)
   [const char * text, int fontSize, Color color] -> Image"
   [text font-size color]
-  (rstructs/get-image (raylib_h/ImageText memory/*current-arena*
+  (rstructs/get-image (raylib_h/ImageText (memory/result-arena)
                                           (memory/string text)
                                           font-size
                                           (rstructs/color color))))
 
+(defn image-text!
+  "Create an image from text (default font) (written into dest)
+  [Image * dest, const char * text, int fontSize, Color color] -> Image *"
+  {:inline (fn [dest text font-size color]
+             `(raylib_h/ImageText (memory/prefix-allocator ~dest)
+                                  (memory/string ~text)
+                                  ~font-size
+                                  (rstructs/color ~color)))}
+  [dest text ^long font-size color]
+  (raylib_h/ImageText (memory/prefix-allocator dest)
+                      (memory/string text)
+                      font-size
+                      (rstructs/color color)))
+
 (defn image-text-ex
   "Create an image from text (custom sprite font)
   [Font font, const char * text, float fontSize, float spacing, Color tint] -> Image"
   [font text font-size spacing tint]
-  (rstructs/get-image (raylib_h/ImageTextEx memory/*current-arena*
+  (rstructs/get-image (raylib_h/ImageTextEx (memory/result-arena)
                                             (rstructs/font font)
                                             (memory/string text)
                                             font-size
                                             spacing
                                             (rstructs/color tint))))
 
+(defn image-text-ex!
+  "Create an image from text (custom sprite font) (written into dest)
+  [Image * dest, Font font, const char * text, float fontSize, float spacing, Color tint] -> Image *"
+  {:inline (fn [dest font text font-size spacing tint]
+             `(raylib_h/ImageTextEx (memory/prefix-allocator ~dest)
+                                    (rstructs/font ~font)
+                                    (memory/string ~text)
+                                    ~font-size
+                                    ~spacing
+                                    (rstructs/color ~tint)))}
+  [dest font text font-size spacing tint]
+  (raylib_h/ImageTextEx (memory/prefix-allocator dest)
+                        (rstructs/font font)
+                        (memory/string text)
+                        font-size
+                        spacing
+                        (rstructs/color tint)))
+
 (defn image-format
   "Convert image data to desired format
   [Image * image, int newFormat] -> void"
@@ -2170,7 +3500,7 @@
     (raylib_h/ImageFormat
       first-arg
       (if (keyword? new-format) (renums/pixel-format new-format) new-format))
-    (rstructs/get-image first-arg)))
+    (memory/result (rstructs/get-image first-arg))))
 
 (defn image-to-pot
   "Convert image to POT (power-of-two)
@@ -2178,7 +3508,7 @@
   [image fill]
   (let [first-arg (rstructs/image image)]
     (raylib_h/ImageToPOT first-arg (rstructs/color fill))
-    (rstructs/get-image first-arg)))
+    (memory/result (rstructs/get-image first-arg))))
 
 (defn image-crop
   "Crop an image to a defined rectangle
@@ -2186,7 +3516,7 @@
   [image crop]
   (let [first-arg (rstructs/image image)]
     (raylib_h/ImageCrop first-arg (rstructs/rectangle crop))
-    (rstructs/get-image first-arg)))
+    (memory/result (rstructs/get-image first-arg))))
 
 (defn image-alpha-crop
   "Crop image depending on alpha value
@@ -2194,7 +3524,7 @@
   [image threshold]
   (let [first-arg (rstructs/image image)]
     (raylib_h/ImageAlphaCrop first-arg threshold)
-    (rstructs/get-image first-arg)))
+    (memory/result (rstructs/get-image first-arg))))
 
 (defn image-alpha-clear
   "Clear alpha channel to desired color
@@ -2202,7 +3532,7 @@
   [image color threshold]
   (let [first-arg (rstructs/image image)]
     (raylib_h/ImageAlphaClear first-arg (rstructs/color color) threshold)
-    (rstructs/get-image first-arg)))
+    (memory/result (rstructs/get-image first-arg))))
 
 (defn image-alpha-mask
   "Apply alpha mask to image
@@ -2210,7 +3540,7 @@
   [image alpha-mask]
   (let [first-arg (rstructs/image image)]
     (raylib_h/ImageAlphaMask first-arg (rstructs/image alpha-mask))
-    (rstructs/get-image first-arg)))
+    (memory/result (rstructs/get-image first-arg))))
 
 (defn image-alpha-premultiply
   "Premultiply alpha channel
@@ -2218,7 +3548,7 @@
   [image]
   (let [first-arg (rstructs/image image)]
     (raylib_h/ImageAlphaPremultiply first-arg)
-    (rstructs/get-image first-arg)))
+    (memory/result (rstructs/get-image first-arg))))
 
 (defn image-blur-gaussian
   "Apply Gaussian blur using a box blur approximation
@@ -2226,7 +3556,7 @@
   [image blur-size]
   (let [first-arg (rstructs/image image)]
     (raylib_h/ImageBlurGaussian first-arg blur-size)
-    (rstructs/get-image first-arg)))
+    (memory/result (rstructs/get-image first-arg))))
 
 (defn image-resize
   "Resize image (Bicubic scaling algorithm)
@@ -2234,7 +3564,7 @@
   [image new-width new-height]
   (let [first-arg (rstructs/image image)]
     (raylib_h/ImageResize first-arg new-width new-height)
-    (rstructs/get-image first-arg)))
+    (memory/result (rstructs/get-image first-arg))))
 
 (defn image-resize-nn
   "Resize image (Nearest-Neighbor scaling algorithm)
@@ -2242,7 +3572,7 @@
   [image new-width new-height]
   (let [first-arg (rstructs/image image)]
     (raylib_h/ImageResizeNN first-arg new-width new-height)
-    (rstructs/get-image first-arg)))
+    (memory/result (rstructs/get-image first-arg))))
 
 (defn image-resize-canvas
   "Resize canvas and fill with color
@@ -2255,7 +3585,7 @@
                                 offset-x
                                 offset-y
                                 (rstructs/color fill))
-    (rstructs/get-image first-arg)))
+    (memory/result (rstructs/get-image first-arg))))
 
 (defn image-mipmaps
   "Compute all mipmap levels for a provided image
@@ -2263,7 +3593,7 @@
   [image]
   (let [first-arg (rstructs/image image)]
     (raylib_h/ImageMipmaps first-arg)
-    (rstructs/get-image first-arg)))
+    (memory/result (rstructs/get-image first-arg))))
 
 (defn image-dither
   "Dither image data to 16bpp or lower (Floyd-Steinberg dithering)
@@ -2271,7 +3601,7 @@
   [image r-bpp g-bpp b-bpp a-bpp]
   (let [first-arg (rstructs/image image)]
     (raylib_h/ImageDither first-arg r-bpp g-bpp b-bpp a-bpp)
-    (rstructs/get-image first-arg)))
+    (memory/result (rstructs/get-image first-arg))))
 
 (defn image-flip-vertical
   "Flip image vertically
@@ -2279,7 +3609,7 @@
   [image]
   (let [first-arg (rstructs/image image)]
     (raylib_h/ImageFlipVertical first-arg)
-    (rstructs/get-image first-arg)))
+    (memory/result (rstructs/get-image first-arg))))
 
 (defn image-flip-horizontal
   "Flip image horizontally
@@ -2287,12 +3617,14 @@
   [image]
   (let [first-arg (rstructs/image image)]
     (raylib_h/ImageFlipHorizontal first-arg)
-    (rstructs/get-image first-arg)))
+    (memory/result (rstructs/get-image first-arg))))
 
 (defn image-rotate
   "Rotate image by input angle in degrees (-359 to 359)
   [Image * image, int degrees] -> void"
-  [image degrees]
+  {:inline (fn [image degrees]
+             `(raylib_h/ImageRotate (rstructs/image ~image) ~degrees))}
+  [image ^long degrees]
   (raylib_h/ImageRotate (rstructs/image image) degrees))
 
 (defn image-rotate-cw
@@ -2301,7 +3633,7 @@
   [image]
   (let [first-arg (rstructs/image image)]
     (raylib_h/ImageRotateCW first-arg)
-    (rstructs/get-image first-arg)))
+    (memory/result (rstructs/get-image first-arg))))
 
 (defn image-rotate-ccw
   "Rotate image counter-clockwise 90deg
@@ -2309,7 +3641,7 @@
   [image]
   (let [first-arg (rstructs/image image)]
     (raylib_h/ImageRotateCCW first-arg)
-    (rstructs/get-image first-arg)))
+    (memory/result (rstructs/get-image first-arg))))
 
 (defn image-color-tint
   "Modify image color: tint
@@ -2317,7 +3649,7 @@
   [image color]
   (let [first-arg (rstructs/image image)]
     (raylib_h/ImageColorTint first-arg (rstructs/color color))
-    (rstructs/get-image first-arg)))
+    (memory/result (rstructs/get-image first-arg))))
 
 (defn image-color-invert
   "Modify image color: invert
@@ -2325,7 +3657,7 @@
   [image]
   (let [first-arg (rstructs/image image)]
     (raylib_h/ImageColorInvert first-arg)
-    (rstructs/get-image first-arg)))
+    (memory/result (rstructs/get-image first-arg))))
 
 (defn image-color-grayscale
   "Modify image color: grayscale
@@ -2333,7 +3665,7 @@
   [image]
   (let [first-arg (rstructs/image image)]
     (raylib_h/ImageColorGrayscale first-arg)
-    (rstructs/get-image first-arg)))
+    (memory/result (rstructs/get-image first-arg))))
 
 (defn image-color-contrast
   "Modify image color: contrast (-100 to 100)
@@ -2341,7 +3673,7 @@
   [image contrast]
   (let [first-arg (rstructs/image image)]
     (raylib_h/ImageColorContrast first-arg contrast)
-    (rstructs/get-image first-arg)))
+    (memory/result (rstructs/get-image first-arg))))
 
 (defn image-color-brightness
   "Modify image color: brightness (-255 to 255)
@@ -2349,7 +3681,7 @@
   [image brightness]
   (let [first-arg (rstructs/image image)]
     (raylib_h/ImageColorBrightness first-arg brightness)
-    (rstructs/get-image first-arg)))
+    (memory/result (rstructs/get-image first-arg))))
 
 (defn image-color-replace
   "Modify image color: replace color
@@ -2359,18 +3691,24 @@
     (raylib_h/ImageColorReplace first-arg
                                 (rstructs/color color)
                                 (rstructs/color replace))
-    (rstructs/get-image first-arg)))
+    (memory/result (rstructs/get-image first-arg))))
 
 (defn load-image-colors
   "Load color data from image as a Color array (RGBA - 32bit)
   [Image image] -> Color *"
+  {:inline (fn [image]
+             `(raylib_h/LoadImageColors (rstructs/image ~image)))}
   [image]
   (raylib_h/LoadImageColors (rstructs/image image)))
 
 (defn load-image-palette
   "Load colors palette from image as a Color array (RGBA - 32bit)
   [Image image, int maxPaletteSize, int * colorCount] -> Color *"
-  [image max-palette-size color-count]
+  {:inline (fn [image max-palette-size color-count]
+             `(raylib_h/LoadImagePalette (rstructs/image ~image)
+                                         ~max-palette-size
+                                         ~color-count))}
+  [image ^long max-palette-size color-count]
   (raylib_h/LoadImagePalette (rstructs/image image)
                              max-palette-size
                              color-count))
@@ -2378,12 +3716,16 @@
 (defn unload-image-colors
   "Unload color data loaded with LoadImageColors()
   [Color * colors] -> void"
+  {:inline (fn [colors]
+             `(raylib_h/UnloadImageColors (rstructs/color ~colors)))}
   [colors]
   (raylib_h/UnloadImageColors (rstructs/color colors)))
 
 (defn unload-image-palette
   "Unload colors palette loaded with LoadImagePalette()
   [Color * colors] -> void"
+  {:inline (fn [colors]
+             `(raylib_h/UnloadImagePalette (rstructs/color ~colors)))}
   [colors]
   (raylib_h/UnloadImagePalette (rstructs/color colors)))
 
@@ -2391,16 +3733,39 @@
   "Get image alpha border rectangle
   [Image image, float threshold] -> Rectangle"
   [image threshold]
-  (rstructs/get-rectangle (raylib_h/GetImageAlphaBorder memory/*current-arena*
+  (rstructs/get-rectangle (raylib_h/GetImageAlphaBorder (memory/result-arena)
                                                         (rstructs/image image)
                                                         threshold)))
 
+(defn get-image-alpha-border!
+  "Get image alpha border rectangle (written into dest)
+  [Rectangle * dest, Image image, float threshold] -> Rectangle *"
+  {:inline (fn [dest image threshold]
+             `(raylib_h/GetImageAlphaBorder (memory/prefix-allocator ~dest)
+                                            (rstructs/image ~image)
+                                            ~threshold))}
+  [dest image ^double threshold]
+  (raylib_h/GetImageAlphaBorder (memory/prefix-allocator dest)
+                                (rstructs/image image)
+                                threshold))
+
 (defn get-image-color
   "Get image pixel color at (x, y) position
   [Image image, int x, int y] -> Color"
   [image x y]
   (rstructs/get-color
-    (raylib_h/GetImageColor memory/*current-arena* (rstructs/image image) x y)))
+    (raylib_h/GetImageColor (memory/result-arena) (rstructs/image image) x y)))
+
+(defn get-image-color!
+  "Get image pixel color at (x, y) position (written into dest)
+  [Color * dest, Image image, int x, int y] -> Color *"
+  {:inline (fn [dest image x y]
+             `(raylib_h/GetImageColor (memory/prefix-allocator ~dest)
+                                      (rstructs/image ~image)
+                                      ~x
+                                      ~y))}
+  [dest image ^long x ^long y]
+  (raylib_h/GetImageColor (memory/prefix-allocator dest) (rstructs/image image) x y))
 
 (defn image-clear-background
   "Clear image background with given color
@@ -2408,7 +3773,7 @@
   [dst color]
   (let [first-arg (rstructs/image dst)]
     (raylib_h/ImageClearBackground first-arg (rstructs/color color))
-    (rstructs/get-image first-arg)))
+    (memory/result (rstructs/get-image first-arg))))
 
 (defn image-draw-pixel
   "Draw pixel within an image
@@ -2416,7 +3781,7 @@
   [dst pos-x pos-y color]
   (let [first-arg (rstructs/image dst)]
     (raylib_h/ImageDrawPixel first-arg pos-x pos-y (rstructs/color color))
-    (rstructs/get-image first-arg)))
+    (memory/result (rstructs/get-image first-arg))))
 
 (defn image-draw-pixel-v
   "Draw pixel within an image (Vector version)
@@ -2426,7 +3791,7 @@
     (raylib_h/ImageDrawPixelV first-arg
                               (rstructs/vector2 position)
                               (rstructs/color color))
-    (rstructs/get-image first-arg)))
+    (memory/result (rstructs/get-image first-arg))))
 
 (defn image-draw-line
   "Draw line within an image
@@ -2439,7 +3804,7 @@
                             end-pos-x
                             end-pos-y
                             (rstructs/color color))
-    (rstructs/get-image first-arg)))
+    (memory/result (rstructs/get-image first-arg))))
 
 (defn image-draw-line-v
   "Draw line within an image (Vector version)
@@ -2450,7 +3815,7 @@
                              (rstructs/vector2 start)
                              (rstructs/vector2 end)
                              (rstructs/color color))
-    (rstructs/get-image first-arg)))
+    (memory/result (rstructs/get-image first-arg))))
 
 (defn image-draw-circle
   "Draw a filled circle within an image
@@ -2462,7 +3827,7 @@
                               center-y
                               radius
                               (rstructs/color color))
-    (rstructs/get-image first-arg)))
+    (memory/result (rstructs/get-image first-arg))))
 
 (defn image-draw-circle-v
   "Draw a filled circle within an image (Vector version)
@@ -2473,7 +3838,7 @@
                                (rstructs/vector2 center)
                                radius
                                (rstructs/color color))
-    (rstructs/get-image first-arg)))
+    (memory/result (rstructs/get-image first-arg))))
 
 (defn image-draw-circle-lines
   "Draw circle outline within an image
@@ -2485,7 +3850,7 @@
                                    center-y
                                    radius
                                    (rstructs/color color))
-    (rstructs/get-image first-arg)))
+    (memory/result (rstructs/get-image first-arg))))
 
 (defn image-draw-circle-lines-v
   "Draw circle outline within an image (Vector version)
@@ -2496,7 +3861,7 @@
                                     (rstructs/vector2 center)
                                     radius
                                     (rstructs/color color))
-    (rstructs/get-image first-arg)))
+    (memory/result (rstructs/get-image first-arg))))
 
 (defn image-draw-rectangle
   "Draw rectangle within an image
@@ -2509,7 +3874,7 @@
                                  width
                                  height
                                  (rstructs/color color))
-    (rstructs/get-image first-arg)))
+    (memory/result (rstructs/get-image first-arg))))
 
 (defn image-draw-rectangle-v
   "Draw rectangle within an image (Vector version)
@@ -2520,7 +3885,7 @@
                                   (rstructs/vector2 position)
                                   (rstructs/vector2 size)
                                   (rstructs/color color))
-    (rstructs/get-image first-arg)))
+    (memory/result (rstructs/get-image first-arg))))
 
 (defn image-draw-rectangle-rec
   "Draw rectangle within an image
@@ -2530,7 +3895,7 @@
     (raylib_h/ImageDrawRectangleRec first-arg
                                     (rstructs/rectangle rec)
                                     (rstructs/color color))
-    (rstructs/get-image first-arg)))
+    (memory/result (rstructs/get-image first-arg))))
 
 (defn image-draw-rectangle-lines
   "Draw rectangle lines within an image
@@ -2541,7 +3906,7 @@
                                       (rstructs/rectangle rec)
                                       thick
                                       (rstructs/color color))
-    (rstructs/get-image first-arg)))
+    (memory/result (rstructs/get-image first-arg))))
 
 (defn image-draw
   "Draw a source image within a destination image (tint applied to source)
@@ -2553,7 +3918,7 @@
                         (rstructs/rectangle src-rec)
                         (rstructs/rectangle dst-rec)
                         (rstructs/color tint))
-    (rstructs/get-image first-arg)))
+    (memory/result (rstructs/get-image first-arg))))
 
 (defn image-draw-text
   "Draw text (using default font) within an image (destination)
@@ -2566,7 +3931,7 @@
                             pos-y
                             font-size
                             (rstructs/color color))
-    (rstructs/get-image first-arg)))
+    (memory/result (rstructs/get-image first-arg))))
 
 (defn image-draw-text-ex
   "Draw text (custom sprite font) within an image (destination)
@@ -2580,72 +3945,134 @@
                               font-size
                               spacing
                               (rstructs/color tint))
-    (rstructs/get-image first-arg)))
+    (memory/result (rstructs/get-image first-arg))))
 
 (defn load-texture
   "Load texture from file into GPU memory (VRAM)
   [const char * fileName] -> Texture2D"
   [file-name]
-  (rstructs/get-texture (raylib_h/LoadTexture memory/*current-arena*
+  (rstructs/get-texture (raylib_h/LoadTexture (memory/result-arena)
                                               (memory/string file-name))))
 
+(defn load-texture!
+  "Load texture from file into GPU memory (VRAM) (written into dest)
+  [Texture2D * dest, const char * fileName] -> Texture2D *"
+  {:inline (fn [dest file-name]
+             `(raylib_h/LoadTexture (memory/prefix-allocator ~dest)
+                                    (memory/string ~file-name)))}
+  [dest file-name]
+  (raylib_h/LoadTexture (memory/prefix-allocator dest)
+                        (memory/string file-name)))
+
 (defn load-texture-from-image
   "Load texture from image data
   [Image image] -> Texture2D"
   [image]
-  (rstructs/get-texture (raylib_h/LoadTextureFromImage memory/*current-arena*
+  (rstructs/get-texture (raylib_h/LoadTextureFromImage (memory/result-arena)
                                                        (rstructs/image image))))
 
+(defn load-texture-from-image!
+  "Load texture from image data (written into dest)
+  [Texture2D * dest, Image image] -> Texture2D *"
+  {:inline (fn [dest image]
+             `(raylib_h/LoadTextureFromImage (memory/prefix-allocator ~dest)
+                                             (rstructs/image ~image)))}
+  [dest image]
+  (raylib_h/LoadTextureFromImage (memory/prefix-allocator dest)
+                                 (rstructs/image image)))
+
 (defn load-texture-cubemap
   "Load cubemap from image, multiple image cubemap layouts supported
   [Image image, int layout] -> TextureCubemap"
   [image layout]
   (rstructs/get-texture
     (raylib_h/LoadTextureCubemap
-      memory/*current-arena*
+      (memory/result-arena)
       (rstructs/image image)
       (if (keyword? layout) (renums/cubemap-layout layout) layout))))
 
+(defn load-texture-cubemap!
+  "Load cubemap from image, multiple image cubemap layouts supported (written into dest)
+  [TextureCubemap * dest, Image image, int layout] -> TextureCubemap *"
+  {:inline (fn [dest image layout]
+             `(let [dest# ~dest
+                    image# ~image
+                    layout# ~layout]
+                (raylib_h/LoadTextureCubemap (memory/prefix-allocator dest#)
+                                             (rstructs/image image#)
+                                             (if (keyword? layout#)
+                                               (renums/cubemap-layout layout#)
+                                               layout#))))}
+  [dest image layout]
+  (raylib_h/LoadTextureCubemap
+    (memory/prefix-allocator dest)
+    (rstructs/image image)
+    (if (keyword? layout) (renums/cubemap-layout layout) layout)))
+
 (defn load-render-texture
   "Load texture for rendering (framebuffer)
   [int width, int height] -> RenderTexture2D"
   [width height]
   (rstructs/get-render-texture
-    (raylib_h/LoadRenderTexture memory/*current-arena* width height)))
+    (raylib_h/LoadRenderTexture (memory/result-arena) width height)))
+
+(defn load-render-texture!
+  "Load texture for rendering (framebuffer) (written into dest)
+  [RenderTexture2D * dest, int width, int height] -> RenderTexture2D *"
+  {:inline (fn [dest width height]
+             `(raylib_h/LoadRenderTexture (memory/prefix-allocator ~dest)
+                                          ~width
+                                          ~height))}
+  [dest ^long width ^long height]
+  (raylib_h/LoadRenderTexture (memory/prefix-allocator dest) width height))
 
 (defn texture-ready?
   "Check if a texture is ready
   [Texture2D texture] -> bool"
+  {:inline (fn [texture]
+             `(raylib_h/IsTextureReady (rstructs/texture ~texture)))}
   [texture]
   (raylib_h/IsTextureReady (rstructs/texture texture)))
 
 (defn unload-texture
   "Unload texture from GPU memory (VRAM)
   [Texture2D texture] -> void"
+  {:inline (fn [texture]
+             `(raylib_h/UnloadTexture (rstructs/texture ~texture)))}
   [texture]
   (raylib_h/UnloadTexture (rstructs/texture texture)))
 
 (defn render-texture-ready?
   "Check if a render texture is ready
   [RenderTexture2D target] -> bool"
+  {:inline (fn [target]
+             `(raylib_h/IsRenderTextureReady (rstructs/render-texture ~target)))}
   [target]
   (raylib_h/IsRenderTextureReady (rstructs/render-texture target)))
 
 (defn unload-render-texture
   "Unload render texture from GPU memory (VRAM)
   [RenderTexture2D target] -> void"
+  {:inline (fn [target]
+             `(raylib_h/UnloadRenderTexture (rstructs/render-texture ~target)))}
   [target]
   (raylib_h/UnloadRenderTexture (rstructs/render-texture target)))
 
 (defn update-texture
   "Update GPU texture with new data
   [Texture2D texture, const void * pixels] -> void"
+  {:inline (fn [texture pixels]
+             `(raylib_h/UpdateTexture (rstructs/texture ~texture) ~pixels))}
   [texture pixels]
   (raylib_h/UpdateTexture (rstructs/texture texture) pixels))
 
 (defn update-texture-rec
   "Update GPU texture rectangle with new data
   [Texture2D texture, Rectangle rec, const void * pixels] -> void"
+  {:inline (fn [texture rec pixels]
+             `(raylib_h/UpdateTextureRec (rstructs/texture ~texture)
+                                         (rstructs/rectangle ~rec)
+                                         ~pixels))}
   [texture rec pixels]
   (raylib_h/UpdateTextureRec (rstructs/texture texture)
                              (rstructs/rectangle rec)
@@ -2654,12 +4081,19 @@
 (defn gen-texture-mipmaps
   "Generate GPU mipmaps for a texture
   [Texture2D * texture] -> void"
+  {:inline (fn [texture]
+             `(raylib_h/GenTextureMipmaps (rstructs/texture ~texture)))}
   [texture]
   (raylib_h/GenTextureMipmaps (rstructs/texture texture)))
 
 (defn set-texture-filter
   "Set texture scaling filter mode
   [Texture2D texture, int filter] -> void"
+  {:inline (fn [texture filter]
+             `(let [texture# ~texture filter# ~filter]
+                (raylib_h/SetTextureFilter
+                  (rstructs/texture texture#)
+                  (if (keyword? filter#) (renums/texture-filter filter#) filter#))))}
   [texture filter]
   (raylib_h/SetTextureFilter
     (rstructs/texture texture)
@@ -2668,6 +4102,11 @@
 (defn set-texture-wrap
   "Set texture wrapping mode
   [Texture2D texture, int wrap] -> void"
+  {:inline (fn [texture wrap]
+             `(let [texture# ~texture wrap# ~wrap]
+                (raylib_h/SetTextureWrap
+                  (rstructs/texture texture#)
+                  (if (keyword? wrap#) (renums/texture-wrap wrap#) wrap#))))}
   [texture wrap]
   (raylib_h/SetTextureWrap
     (rstructs/texture texture)
@@ -2676,7 +4115,12 @@
 (defn draw-texture
   "Draw a Texture2D
   [Texture2D texture, int posX, int posY, Color tint] -> void"
-  [texture pos-x pos-y tint]
+  {:inline (fn [texture pos-x pos-y tint]
+             `(raylib_h/DrawTexture (rstructs/texture ~texture)
+                                    ~pos-x
+                                    ~pos-y
+                                    (rstructs/color ~tint)))}
+  [texture ^long pos-x ^long pos-y tint]
   (raylib_h/DrawTexture (rstructs/texture texture)
                         pos-x
                         pos-y
@@ -2685,6 +4129,10 @@
 (defn draw-texture-v
   "Draw a Texture2D with position defined as Vector2
   [Texture2D texture, Vector2 position, Color tint] -> void"
+  {:inline (fn [texture position tint]
+             `(raylib_h/DrawTextureV (rstructs/texture ~texture)
+                                     (rstructs/vector2 ~position)
+                                     (rstructs/color ~tint)))}
   [texture position tint]
   (raylib_h/DrawTextureV (rstructs/texture texture)
                          (rstructs/vector2 position)
@@ -2693,6 +4141,12 @@
 (defn draw-texture-ex
   "Draw a Texture2D with extended parameters
   [Texture2D texture, Vector2 position, float rotation, float scale, Color tint] -> void"
+  {:inline (fn [texture position rotation scale tint]
+             `(raylib_h/DrawTextureEx (rstructs/texture ~texture)
+                                      (rstructs/vector2 ~position)
+                                      ~rotation
+                                      ~scale
+                                      (rstructs/color ~tint)))}
   [texture position rotation scale tint]
   (raylib_h/DrawTextureEx (rstructs/texture texture)
                           (rstructs/vector2 position)
@@ -2703,6 +4157,11 @@
 (defn draw-texture-rec
   "Draw a part of a texture defined by a rectangle
   [Texture2D texture, Rectangle source, Vector2 position, Color tint] -> void"
+  {:inline (fn [texture source position tint]
+             `(raylib_h/DrawTextureRec (rstructs/texture ~texture)
+                                       (rstructs/rectangle ~source)
+                                       (rstructs/vector2 ~position)
+                                       (rstructs/color ~tint)))}
   [texture source position tint]
   (raylib_h/DrawTextureRec (rstructs/texture texture)
                            (rstructs/rectangle source)
@@ -2712,6 +4171,13 @@
 (defn draw-texture-pro
   "Draw a part of a texture defined by a rectangle with 'pro' parameters
   [Texture2D texture, Rectangle source, Rectangle dest, Vector2 origin, float rotation, Color tint] -> void"
+  {:inline (fn [texture source dest origin rotation tint]
+             `(raylib_h/DrawTexturePro (rstructs/texture ~texture)
+                                       (rstructs/rectangle ~source)
+                                       (rstructs/rectangle ~dest)
+                                       (rstructs/vector2 ~origin)
+                                       ~rotation
+                                       (rstructs/color ~tint)))}
   [texture source dest origin rotation tint]
   (raylib_h/DrawTexturePro (rstructs/texture texture)
                            (rstructs/rectangle source)
@@ -2723,6 +4189,13 @@
 (defn draw-texture-npatch
   "Draws a texture (or part of it) that stretches or shrinks nicely
   [Texture2D texture, NPatchInfo nPatchInfo, Rectangle dest, Vector2 origin, float rotation, Color tint] -> void"
+  {:inline (fn [texture n-patch-info dest origin rotation tint]
+             `(raylib_h/DrawTextureNPatch (rstructs/texture ~texture)
+                                          (rstructs/npatch-info ~n-patch-info)
+                                          (rstructs/rectangle ~dest)
+                                          (rstructs/vector2 ~origin)
+                                          ~rotation
+                                          (rstructs/color ~tint)))}
   [texture n-patch-info dest origin rotation tint]
   (raylib_h/DrawTextureNPatch (rstructs/texture texture)
                               (rstructs/npatch-info n-patch-info)
@@ -2736,12 +4209,24 @@
   [Color color, float alpha] -> Color"
   [color alpha]
   (rstructs/get-color
-    (raylib_h/Fade memory/*current-arena* (rstructs/color color) alpha)))
+    (raylib_h/Fade (memory/result-arena) (rstructs/color color) alpha)))
+
+(defn fade!
+  "Get color with alpha applied, alpha goes from 0.0f to 1.0f (written into dest)
+  [Color * dest, Color color, float alpha] -> Color *"
+  {:inline (fn [dest color alpha]
+             `(raylib_h/Fade (memory/prefix-allocator ~dest)
+                             (rstructs/color ~color)
+                             ~alpha))}
+  [dest color ^double alpha]
+  (raylib_h/Fade (memory/prefix-allocator dest) (rstructs/color color) alpha))
 
 (defn color-to-int
   "Get hexadecimal value for a Color
   [Color color] -> int"
-  [color]
+  {:inline (fn [color]
+             `(long (raylib_h/ColorToInt (rstructs/color ~color))))}
+  ^long [color]
   (raylib_h/ColorToInt (rstructs/color color)))
 
 (defn color-normalize
@@ -2751,14 +4236,35 @@
   (rstructs/get-vector4 (raylib_h/ColorNormalize memory/*current-arena*
                                                  (rstructs/color color))))
 
+(defn color-normalize!
+  "Get Color normalized as float [0..1] (written into dest)
+  [Vector4 * dest, Color color] -> Vector4 *"
+  {:inline (fn [dest color]
+             `(raylib_h/ColorNormalize (memory/prefix-allocator ~dest)
+                                       (rstructs/color ~color)))}
+  [dest color]
+  (raylib_h/ColorNormalize (memory/prefix-allocator dest)
+                           (rstructs/color color)))
+
 (defn color-from-normalized
   "Get Color from normalized values [0..1]
   [Vector4 normalized] -> Color"
   [normalized]
-  (rstructs/get-color (raylib_h/ColorFromNormalized memory/*current-arena*
+  (rstructs/get-color (raylib_h/ColorFromNormalized (memory/result-arena)
                                                     (rstructs/vector4
                                                       normalized))))
 
+(defn color-from-normalized!
+  "Get Color from normalized values [0..1] (written into dest)
+  [Color * dest, Vector4 normalized] -> Color *"
+  {:inline (fn [dest normalized]
+             `(raylib_h/ColorFromNormalized (memory/prefix-allocator ~dest)
+                                            (rstructs/vector4 ~normalized)))}
+  [dest normalized]
+  (raylib_h/ColorFromNormalized (memory/prefix-allocator dest)
+                                (rstructs/vector4
+                                  normalized)))
+
 (defn color-to-hsv
   "Get HSV values for a Color, hue [0..360], saturation/value [0..1]
   [Color color] -> Vector3"
@@ -2766,115 +4272,266 @@
   (rstructs/get-vector3 (raylib_h/ColorToHSV memory/*current-arena*
                                              (rstructs/color color))))
 
+(defn color-to-hsv!
+  "Get HSV values for a Color, hue [0..360], saturation/value [0..1] (written into dest)
+  [Vector3 * dest, Color color] -> Vector3 *"
+  {:inline (fn [dest color]
+             `(raylib_h/ColorToHSV (memory/prefix-allocator ~dest)
+                                   (rstructs/color ~color)))}
+  [dest color]
+  (raylib_h/ColorToHSV (memory/prefix-allocator dest)
+                       (rstructs/color color)))
+
 (defn color-from-hsv
   "Get a Color from HSV values, hue [0..360], saturation/value [0..1]
   [float hue, float saturation, float value] -> Color"
   [hue saturation value]
   (rstructs/get-color
-    (raylib_h/ColorFromHSV memory/*current-arena* hue saturation value)))
+    (raylib_h/ColorFromHSV (memory/result-arena) hue saturation value)))
+
+(defn color-from-hsv!
+  "Get a Color from HSV values, hue [0..360], saturation/value [0..1] (written into dest)
+  [Color * dest, float hue, float saturation, float value] -> Color *"
+  {:inline (fn [dest hue saturation value]
+             `(raylib_h/ColorFromHSV (memory/prefix-allocator ~dest)
+                                     ~hue
+                                     ~saturation
+                                     ~value))}
+  [dest ^double hue ^double saturation ^double value]
+  (raylib_h/ColorFromHSV (memory/prefix-allocator dest) hue saturation value))
 
 (defn color-tint
   "Get color multiplied with another color
   [Color color, Color tint] -> Color"
   [color tint]
-  (rstructs/get-color (raylib_h/ColorTint memory/*current-arena*
+  (rstructs/get-color (raylib_h/ColorTint (memory/result-arena)
                                           (rstructs/color color)
                                           (rstructs/color tint))))
 
+(defn color-tint!
+  "Get color multiplied with another color (written into dest)
+  [Color * dest, Color color, Color tint] -> Color *"
+  {:inline (fn [dest color tint]
+             `(raylib_h/ColorTint (memory/prefix-allocator ~dest)
+                                  (rstructs/color ~color)
+                                  (rstructs/color ~tint)))}
+  [dest color tint]
+  (raylib_h/ColorTint (memory/prefix-allocator dest)
+                      (rstructs/color color)
+                      (rstructs/color tint)))
+
 (defn color-brightness
   "Get color with brightness correction, brightness factor goes from -1.0f to 1.0f
   [Color color, float factor] -> Color"
   [color factor]
-  (rstructs/get-color (raylib_h/ColorBrightness memory/*current-arena*
+  (rstructs/get-color (raylib_h/ColorBrightness (memory/result-arena)
                                                 (rstructs/color color)
                                                 factor)))
 
+(defn color-brightness!
+  "Get color with brightness correction, brightness factor goes from -1.0f to 1.0f (written into dest)
+  [Color * dest, Color color, float factor] -> Color *"
+  {:inline (fn [dest color factor]
+             `(raylib_h/ColorBrightness (memory/prefix-allocator ~dest)
+                                        (rstructs/color ~color)
+                                        ~factor))}
+  [dest color ^double factor]
+  (raylib_h/ColorBrightness (memory/prefix-allocator dest)
+                            (rstructs/color color)
+                            factor))
+
 (defn color-contrast
   "Get color with contrast correction, contrast values between -1.0f and 1.0f
   [Color color, float contrast] -> Color"
   [color contrast]
-  (rstructs/get-color (raylib_h/ColorContrast memory/*current-arena*
+  (rstructs/get-color (raylib_h/ColorContrast (memory/result-arena)
                                               (rstructs/color color)
                                               contrast)))
 
+(defn color-contrast!
+  "Get color with contrast correction, contrast values between -1.0f and 1.0f (written into dest)
+  [Color * dest, Color color, float contrast] -> Color *"
+  {:inline (fn [dest color contrast]
+             `(raylib_h/ColorContrast (memory/prefix-allocator ~dest)
+                                      (rstructs/color ~color)
+                                      ~contrast))}
+  [dest color ^double contrast]
+  (raylib_h/ColorContrast (memory/prefix-allocator dest)
+                          (rstructs/color color)
+                          contrast))
+
 (defn color-alpha
   "Get color with alpha applied, alpha goes from 0.0f to 1.0f
   [Color color, float alpha] -> Color"
   [color alpha]
   (rstructs/get-color
-    (raylib_h/ColorAlpha memory/*current-arena* (rstructs/color color) alpha)))
+    (raylib_h/ColorAlpha (memory/result-arena) (rstructs/color color) alpha)))
+
+(defn color-alpha!
+  "Get color with alpha applied, alpha goes from 0.0f to 1.0f (written into dest)
+  [Color * dest, Color color, float alpha] -> Color *"
+  {:inline (fn [dest color alpha]
+             `(raylib_h/ColorAlpha (memory/prefix-allocator ~dest)
+                                   (rstructs/color ~color)
+                                   ~alpha))}
+  [dest color ^double alpha]
+  (raylib_h/ColorAlpha (memory/prefix-allocator dest) (rstructs/color color) alpha))
 
 (defn color-alpha-blend
   "Get src alpha-blended into dst color with tint
   [Color dst, Color src, Color tint] -> Color"
   [dst src tint]
-  (rstructs/get-color (raylib_h/ColorAlphaBlend memory/*current-arena*
+  (rstructs/get-color (raylib_h/ColorAlphaBlend (memory/result-arena)
                                                 (rstructs/color dst)
                                                 (rstructs/color src)
                                                 (rstructs/color tint))))
 
+(defn color-alpha-blend!
+  "Get src alpha-blended into dst color with tint (written into dest)
+  [Color * dest, Color dst, Color src, Color tint] -> Color *"
+  {:inline (fn [dest dst src tint]
+             `(raylib_h/ColorAlphaBlend (memory/prefix-allocator ~dest)
+                                        (rstructs/color ~dst)
+                                        (rstructs/color ~src)
+                                        (rstructs/color ~tint)))}
+  [dest dst src tint]
+  (raylib_h/ColorAlphaBlend (memory/prefix-allocator dest)
+                            (rstructs/color dst)
+                            (rstructs/color src)
+                            (rstructs/color tint)))
+
 (defn get-color
   "Get Color structure from hexadecimal value
   [unsigned int hexValue] -> Color"
   [hex-value]
-  (rstructs/get-color (raylib_h/GetColor memory/*current-arena* hex-value)))
+  (rstructs/get-color (raylib_h/GetColor (memory/result-arena) hex-value)))
+
+(defn get-color!
+  "Get Color structure from hexadecimal value (written into dest)
+  [Color * dest, unsigned int hexValue] -> Color *"
+  {:inline (fn [dest hex-value]
+             `(raylib_h/GetColor (memory/prefix-allocator ~dest) ~hex-value))}
+  [dest ^long hex-value]
+  (raylib_h/GetColor (memory/prefix-allocator dest) hex-value))
 
 (defn get-pixel-color
   "Get Color from a source pixel pointer of certain format
   [void * srcPtr, int format] -> Color"
   [src-ptr format]
   (rstructs/get-color
-    (raylib_h/GetPixelColor memory/*current-arena* src-ptr format)))
+    (raylib_h/GetPixelColor (memory/result-arena) src-ptr format)))
+
+(defn get-pixel-color!
+  "Get Color from a source pixel pointer of certain format (written into dest)
+  [Color * dest, void * srcPtr, int format] -> Color *"
+  {:inline (fn [dest src-ptr format]
+             `(raylib_h/GetPixelColor (memory/prefix-allocator ~dest)
+                                      ~src-ptr
+                                      ~format))}
+  [dest src-ptr ^long format]
+  (raylib_h/GetPixelColor (memory/prefix-allocator dest) src-ptr format))
 
 (defn set-pixel-color
   "Set color formatted into destination pixel pointer
   [void * dstPtr, Color color, int format] -> void"
-  [dst-ptr color format]
+  {:inline (fn [dst-ptr color format]
+             `(raylib_h/SetPixelColor ~dst-ptr (rstructs/color ~color) ~format))}
+  [dst-ptr color ^long format]
   (raylib_h/SetPixelColor dst-ptr (rstructs/color color) format))
 
 (defn get-pixel-data-size
   "Get pixel data size in bytes for certain format
   [int width, int height, int format] -> int"
-  [width height format]
+  {:inline (fn [width height format]
+             `(long (raylib_h/GetPixelDataSize ~width ~height ~format)))}
+  ^long [^long width ^long height ^long format]
   (raylib_h/GetPixelDataSize width height format))
 
 (defn get-font-default
   "Get the default Font
   [] -> Font"
   []
-  (rstructs/get-font (raylib_h/GetFontDefault memory/*current-arena*)))
+  (rstructs/get-font (raylib_h/GetFontDefault (memory/result-arena))))
+
+(defn get-font-default!
+  "Get the default Font (written into dest)
+  [Font * dest] -> Font *"
+  {:inline (fn [dest]
+             `(raylib_h/GetFontDefault (memory/prefix-allocator ~dest)))}
+  [dest]
+  (raylib_h/GetFontDefault (memory/prefix-allocator dest)))
 
 (defn load-font
   "Load font from file into GPU memory (VRAM)
   [const char * fileName] -> Font"
   [file-name]
-  (rstructs/get-font (raylib_h/LoadFont memory/*current-arena*
+  (rstructs/get-font (raylib_h/LoadFont (memory/result-arena)
                                         (memory/string file-name))))
 
+(defn load-font!
+  "Load font from file into GPU memory (VRAM) (written into dest)
+  [Font * dest, const char * fileName] -> Font *"
+  {:inline (fn [dest file-name]
+             `(raylib_h/LoadFont (memory/prefix-allocator ~dest)
+                                 (memory/string ~file-name)))}
+  [dest file-name]
+  (raylib_h/LoadFont (memory/prefix-allocator dest)
+                     (memory/string file-name)))
+
 (defn load-font-ex
   "Load font from file with extended parameters, use NULL for codepoints and 0 for codepointCount to load the default character setFont
   [const char * fileName, int fontSize, int * codepoints, int codepointCount] -> Font"
   [file-name font-size codepoints codepoint-count]
-  (rstructs/get-font (raylib_h/LoadFontEx memory/*current-arena*
+  (rstructs/get-font (raylib_h/LoadFontEx (memory/result-arena)
                                           (memory/string file-name)
                                           font-size
                                           codepoints
                                           codepoint-count)))
 
+(defn load-font-ex!
+  "Load font from file with extended parameters, use NULL for codepoints and 0 for codepointCount to load the default character setFont (written into dest)
+  [Font * dest, const char * fileName, int fontSize, int * codepoints, int codepointCount] -> Font *"
+  {:inline (fn [dest file-name font-size codepoints codepoint-count]
+             `(raylib_h/LoadFontEx (memory/prefix-allocator ~dest)
+                                   (memory/string ~file-name)
+                                   ~font-size
+                                   ~codepoints
+                                   ~codepoint-count))}
+  [dest file-name font-size codepoints codepoint-count]
+  (raylib_h/LoadFontEx (memory/prefix-allocator dest)
+                       (memory/string file-name)
+                       font-size
+                       codepoints
+                       codepoint-count))
+
 (defn load-font-from-image
   "Load font from Image (XNA style)
   [Image image, Color key, int firstChar] -> Font"
   [image key first-char]
-  (rstructs/get-font (raylib_h/LoadFontFromImage memory/*current-arena*
+  (rstructs/get-font (raylib_h/LoadFontFromImage (memory/result-arena)
                                                  (rstructs/image image)
                                                  (rstructs/color key)
                                                  first-char)))
 
+(defn load-font-from-image!
+  "Load font from Image (XNA style) (written into dest)
+  [Font * dest, Image image, Color key, int firstChar] -> Font *"
+  {:inline (fn [dest image key first-char]
+             `(raylib_h/LoadFontFromImage (memory/prefix-allocator ~dest)
+                                          (rstructs/image ~image)
+                                          (rstructs/color ~key)
+                                          ~first-char))}
+  [dest image key ^long first-char]
+  (raylib_h/LoadFontFromImage (memory/prefix-allocator dest)
+                              (rstructs/image image)
+                              (rstructs/color key)
+                              first-char))
+
 (defn load-font-from-memory
   "Load font from memory buffer, fileType refers to extension: i.e. '.ttf'
   [const char * fileType, const unsigned char * fileData, int dataSize, int fontSize, int * codepoints, int codepointCount] -> Font"
   [file-type file-data data-size font-size codepoints codepoint-count]
-  (rstructs/get-font (raylib_h/LoadFontFromMemory memory/*current-arena*
+  (rstructs/get-font (raylib_h/LoadFontFromMemory (memory/result-arena)
                                                   (memory/string file-type)
                                                   file-data
                                                   data-size
@@ -2882,15 +4539,50 @@
                                                   codepoints
                                                   codepoint-count)))
 
+(defn load-font-from-memory!
+  "Load font from memory buffer, fileType refers to extension: i.e. '.ttf' (written into dest)
+  [Font * dest, const char * fileType, const unsigned char * fileData, int dataSize, int fontSize, int * codepoints, int codepointCount] -> Font *"
+  {:inline (fn [dest file-type file-data data-size font-size codepoints codepoint-count]
+             `(raylib_h/LoadFontFromMemory (memory/prefix-allocator ~dest)
+                                           (memory/string ~file-type)
+                                           ~file-data
+                                           ~data-size
+                                           ~font-size
+                                           ~codepoints
+                                           ~codepoint-count))}
+  [dest file-type file-data data-size font-size codepoints codepoint-count]
+  (raylib_h/LoadFontFromMemory (memory/prefix-allocator dest)
+                               (memory/string file-type)
+                               file-data
+                               data-size
+                               font-size
+                               codepoints
+                               codepoint-count))
+
 (defn font-ready?
   "Check if a font is ready
   [Font font] -> bool"
+  {:inline (fn [font]
+             `(raylib_h/IsFontReady (rstructs/font ~font)))}
   [font]
   (raylib_h/IsFontReady (rstructs/font font)))
 
 (defn load-font-data
   "Load font data for further use
   [const unsigned char * fileData, int dataSize, int fontSize, int * codepoints, int codepointCount, int type] -> GlyphInfo *"
+  {:inline (fn [file-data data-size font-size codepoints codepoint-count type]
+             `(let [file-data# ~file-data
+                    data-size# ~data-size
+                    font-size# ~font-size
+                    codepoints# ~codepoints
+                    codepoint-count# ~codepoint-count
+                    type# ~type]
+                (raylib_h/LoadFontData file-data#
+                                       data-size#
+                                       font-size#
+                                       codepoints#
+                                       codepoint-count#
+                                       (if (keyword? type#) (renums/font-type type#) type#))))}
   [file-data data-size font-size codepoints codepoint-count type]
   (raylib_h/LoadFontData file-data
                          data-size
@@ -2903,7 +4595,7 @@
   "Generate image font atlas using chars info
   [const GlyphInfo * glyphs, Rectangle ** glyphRecs, int glyphCount, int fontSize, int padding, int packMethod] -> Image"
   [glyphs glyph-recs glyph-count font-size padding pack-method]
-  (rstructs/get-image (raylib_h/GenImageFontAtlas memory/*current-arena*
+  (rstructs/get-image (raylib_h/GenImageFontAtlas (memory/result-arena)
                                                   (rstructs/glyph-info glyphs)
                                                   (rstructs/rectangle
                                                     glyph-recs)
@@ -2912,33 +4604,68 @@
                                                   padding
                                                   pack-method)))
 
+(defn gen-image-font-atlas!
+  "Generate image font atlas using chars info (written into dest)
+  [Image * dest, const GlyphInfo * glyphs, Rectangle ** glyphRecs, int glyphCount, int fontSize, int padding, int packMethod] -> Image *"
+  {:inline (fn [dest glyphs glyph-recs glyph-count font-size padding pack-method]
+             `(raylib_h/GenImageFontAtlas (memory/prefix-allocator ~dest)
+                                          (rstructs/glyph-info ~glyphs)
+                                          (rstructs/rectangle ~glyph-recs)
+                                          ~glyph-count
+                                          ~font-size
+                                          ~padding
+                                          ~pack-method))}
+  [dest glyphs glyph-recs glyph-count font-size padding pack-method]
+  (raylib_h/GenImageFontAtlas (memory/prefix-allocator dest)
+                              (rstructs/glyph-info glyphs)
+                              (rstructs/rectangle
+                                glyph-recs)
+                              glyph-count
+                              font-size
+                              padding
+                              pack-method))
+
 (defn unload-font-data
   "Unload font chars info data (RAM)
   [GlyphInfo * glyphs, int glyphCount] -> void"
-  [glyphs glyph-count]
+  {:inline (fn [glyphs glyph-count]
+             `(raylib_h/UnloadFontData (rstructs/glyph-info ~glyphs) ~glyph-count))}
+  [glyphs ^long glyph-count]
   (raylib_h/UnloadFontData (rstructs/glyph-info glyphs) glyph-count))
 
 (defn unload-font
   "Unload font from GPU memory (VRAM)
   [Font font] -> void"
+  {:inline (fn [font]
+             `(raylib_h/UnloadFont (rstructs/font ~font)))}
   [font]
   (raylib_h/UnloadFont (rstructs/font font)))
 
 (defn export-font-as-code?
   "Export font as code file, returns true on success
   [Font font, const char * fileName] -> bool"
+  {:inline (fn [font file-name]
+             `(raylib_h/ExportFontAsCode (rstructs/font ~font) (memory/string ~file-name)))}
   [font file-name]
   (raylib_h/ExportFontAsCode (rstructs/font font) (memory/string file-name)))
 
 (defn draw-fps
   "Draw current FPS
   [int posX, int posY] -> void"
-  [pos-x pos-y]
+  {:inline (fn [pos-x pos-y]
+             `(raylib_h/DrawFPS ~pos-x ~pos-y))}
+  [^long pos-x ^long pos-y]
   (raylib_h/DrawFPS pos-x pos-y))
 
 (defn draw-text
   "Draw text (using default font)
   [const char * text, int posX, int posY, int fontSize, Color color] -> void"
+  {:inline (fn [text pos-x pos-y font-size color]
+             `(raylib_h/DrawText (memory/string ~text)
+                                 ~pos-x
+                                 ~pos-y
+                                 ~font-size
+                                 (rstructs/color ~color)))}
   [text pos-x pos-y font-size color]
   (raylib_h/DrawText (memory/string text)
                      pos-x
@@ -2949,6 +4676,13 @@
 (defn draw-text-ex
   "Draw text using font and additional parameters
   [Font font, const char * text, Vector2 position, float fontSize, float spacing, Color tint] -> void"
+  {:inline (fn [font text position font-size spacing tint]
+             `(raylib_h/DrawTextEx (rstructs/font ~font)
+                                   (memory/string ~text)
+                                   (rstructs/vector2 ~position)
+                                   ~font-size
+                                   ~spacing
+                                   (rstructs/color ~tint)))}
   [font text position font-size spacing tint]
   (raylib_h/DrawTextEx (rstructs/font font)
                        (memory/string text)
@@ -2960,6 +4694,15 @@
 (defn draw-text-pro
   "Draw text using Font and pro parameters (rotation)
   [Font font, const char * text, Vector2 position, Vector2 origin, float rotation, float fontSize, float spacing, Color tint] -> void"
+  {:inline (fn [font text position origin rotation font-size spacing tint]
+             `(raylib_h/DrawTextPro (rstructs/font ~font)
+                                    (memory/string ~text)
+                                    (rstructs/vector2 ~position)
+                                    (rstructs/vector2 ~origin)
+                                    ~rotation
+                                    ~font-size
+                                    ~spacing
+                                    (rstructs/color ~tint)))}
   [font text position origin rotation font-size spacing tint]
   (raylib_h/DrawTextPro (rstructs/font font)
                         (memory/string text)
@@ -2973,6 +4716,12 @@
 (defn draw-text-codepoint
   "Draw one character (codepoint)
   [Font font, int codepoint, Vector2 position, float fontSize, Color tint] -> void"
+  {:inline (fn [font codepoint position font-size tint]
+             `(raylib_h/DrawTextCodepoint (rstructs/font ~font)
+                                          ~codepoint
+                                          (rstructs/vector2 ~position)
+                                          ~font-size
+                                          (rstructs/color ~tint)))}
   [font codepoint position font-size tint]
   (raylib_h/DrawTextCodepoint (rstructs/font font)
                               codepoint
@@ -2983,6 +4732,14 @@
 (defn draw-text-codepoints
   "Draw multiple character (codepoint)
   [Font font, const int * codepoints, int codepointCount, Vector2 position, float fontSize, float spacing, Color tint] -> void"
+  {:inline (fn [font codepoints codepoint-count position font-size spacing tint]
+             `(raylib_h/DrawTextCodepoints (rstructs/font ~font)
+                                           ~codepoints
+                                           ~codepoint-count
+                                           (rstructs/vector2 ~position)
+                                           ~font-size
+                                           ~spacing
+                                           (rstructs/color ~tint)))}
   [font codepoints codepoint-count position font-size spacing tint]
   (raylib_h/DrawTextCodepoints (rstructs/font font)
                                codepoints
@@ -2995,13 +4752,17 @@
 (defn set-text-line-spacing
   "Set vertical line spacing when drawing with line-breaks
   [int spacing] -> void"
-  [spacing]
+  {:inline (fn [spacing]
+             `(raylib_h/SetTextLineSpacing ~spacing))}
+  [^long spacing]
   (raylib_h/SetTextLineSpacing spacing))
 
 (defn measure-text
   "Measure string width for default font
   [const char * text, int fontSize] -> int"
-  [text font-size]
+  {:inline (fn [text font-size]
+             `(long (raylib_h/MeasureText (memory/string ~text) ~font-size)))}
+  ^long [text ^long font-size]
   (raylib_h/MeasureText (memory/string text) font-size))
 
 (defn measure-text-ex
@@ -3014,98 +4775,164 @@
                                                 font-size
                                                 spacing)))
 
+(defn measure-text-ex!
+  "Measure string size for Font (written into dest)
+  [Vector2 * dest, Font font, const char * text, float fontSize, float spacing] -> Vector2 *"
+  {:inline (fn [dest font text font-size spacing]
+             `(raylib_h/MeasureTextEx (memory/prefix-allocator ~dest)
+                                      (rstructs/font ~font)
+                                      (memory/string ~text)
+                                      ~font-size
+                                      ~spacing))}
+  [dest font text font-size spacing]
+  (raylib_h/MeasureTextEx (memory/prefix-allocator dest)
+                          (rstructs/font font)
+                          (memory/string text)
+                          font-size
+                          spacing))
+
 (defn get-glyph-index
   "Get glyph index position in font for a codepoint (unicode character), fallback to '?' if not found
   [Font font, int codepoint] -> int"
-  [font codepoint]
+  {:inline (fn [font codepoint]
+             `(long (raylib_h/GetGlyphIndex (rstructs/font ~font) ~codepoint)))}
+  ^long [font ^long codepoint]
   (raylib_h/GetGlyphIndex (rstructs/font font) codepoint))
 
 (defn get-glyph-info
   "Get glyph font info data for a codepoint (unicode character), fallback to '?' if not found
   [Font font, int codepoint] -> GlyphInfo"
   [font codepoint]
-  (rstructs/get-glyph-info (raylib_h/GetGlyphInfo memory/*current-arena*
+  (rstructs/get-glyph-info (raylib_h/GetGlyphInfo (memory/result-arena)
                                                   (rstructs/font font)
                                                   codepoint)))
 
+(defn get-glyph-info!
+  "Get glyph font info data for a codepoint (unicode character), fallback to '?' if not found (written into dest)
+  [GlyphInfo * dest, Font font, int codepoint] -> GlyphInfo *"
+  {:inline (fn [dest font codepoint]
+             `(raylib_h/GetGlyphInfo (memory/prefix-allocator ~dest)
+                                     (rstructs/font ~font)
+                                     ~codepoint))}
+  [dest font ^long codepoint]
+  (raylib_h/GetGlyphInfo (memory/prefix-allocator dest)
+                         (rstructs/font font)
+                         codepoint))
+
 (defn get-glyph-atlas-rec
   "Get glyph rectangle in font atlas for a codepoint (unicode character), fallback to '?' if not found
   [Font font, int codepoint] -> Rectangle"
   [font codepoint]
-  (rstructs/get-rectangle (raylib_h/GetGlyphAtlasRec memory/*current-arena*
+  (rstructs/get-rectangle (raylib_h/GetGlyphAtlasRec (memory/result-arena)
                                                      (rstructs/font font)
                                                      codepoint)))
 
+(defn get-glyph-atlas-rec!
+  "Get glyph rectangle in font atlas for a codepoint (unicode character), fallback to '?' if not found (written into dest)
+  [Rectangle * dest, Font font, int codepoint] -> Rectangle *"
+  {:inline (fn [dest font codepoint]
+             `(raylib_h/GetGlyphAtlasRec (memory/prefix-allocator ~dest)
+                                         (rstructs/font ~font)
+                                         ~codepoint))}
+  [dest font ^long codepoint]
+  (raylib_h/GetGlyphAtlasRec (memory/prefix-allocator dest)
+                             (rstructs/font font)
+                             codepoint))
+
 (defn load-utf8
   "Load UTF-8 text encoded from codepoints array
   [const int * codepoints, int length] -> char *"
-  [codepoints length]
+  {:inline (fn [codepoints length]
+             `(raylib_h/LoadUTF8 ~codepoints ~length))}
+  [codepoints ^long length]
   (raylib_h/LoadUTF8 codepoints length))
 
 (defn unload-utf8
   "Unload UTF-8 text encoded from codepoints array
   [char * text] -> void"
+  {:inline (fn [text]
+             `(raylib_h/UnloadUTF8 ~text))}
   [text]
   (raylib_h/UnloadUTF8 text))
 
 (defn load-codepoints
   "Load all codepoints from a UTF-8 text string, codepoints count returned by parameter
   [const char * text, int * count] -> int *"
+  {:inline (fn [text count]
+             `(raylib_h/LoadCodepoints (memory/string ~text) ~count))}
   [text count]
   (raylib_h/LoadCodepoints (memory/string text) count))
 
 (defn unload-codepoints
   "Unload codepoints data from memory
   [int * codepoints] -> void"
+  {:inline (fn [codepoints]
+             `(raylib_h/UnloadCodepoints ~codepoints))}
   [codepoints]
   (raylib_h/UnloadCodepoints codepoints))
 
 (defn get-codepoint-count
   "Get total number of codepoints in a UTF-8 encoded string
   [const char * text] -> int"
-  [text]
+  {:inline (fn [text]
+             `(long (raylib_h/GetCodepointCount (memory/string ~text))))}
+  ^long [text]
   (raylib_h/GetCodepointCount (memory/string text)))
 
 (defn get-codepoint
   "Get next codepoint in a UTF-8 encoded string, 0x3f('?') is returned on failure
   [const char * text, int * codepointSize] -> int"
-  [text codepoint-size]
+  {:inline (fn [text codepoint-size]
+             `(long (raylib_h/GetCodepoint (memory/string ~text) ~codepoint-size)))}
+  ^long [text codepoint-size]
   (raylib_h/GetCodepoint (memory/string text) codepoint-size))
 
 (defn get-codepoint-next
   "Get next codepoint in a UTF-8 encoded string, 0x3f('?') is returned on failure
   [const char * text, int * codepointSize] -> int"
-  [text codepoint-size]
+  {:inline (fn [text codepoint-size]
+             `(long (raylib_h/GetCodepointNext (memory/string ~text) ~codepoint-size)))}
+  ^long [text codepoint-size]
   (raylib_h/GetCodepointNext (memory/string text) codepoint-size))
 
 (defn get-codepoint-previous
   "Get previous codepoint in a UTF-8 encoded string, 0x3f('?') is returned on failure
   [const char * text, int * codepointSize] -> int"
-  [text codepoint-size]
+  {:inline (fn [text codepoint-size]
+             `(long (raylib_h/GetCodepointPrevious (memory/string ~text) ~codepoint-size)))}
+  ^long [text codepoint-size]
   (raylib_h/GetCodepointPrevious (memory/string text) codepoint-size))
 
 (defn codepoint-to-utf8
   "Encode one codepoint into UTF-8 byte array (array length returned as parameter)
   [int codepoint, int * utf8Size] -> const char *"
-  [codepoint utf8size]
+  {:inline (fn [codepoint utf8size]
+             `(raylib_h/CodepointToUTF8 ~codepoint ~utf8size))}
+  [^long codepoint utf8size]
   (raylib_h/CodepointToUTF8 codepoint utf8size))
 
 (defn text-copy
   "Copy one string to another, returns bytes copied
   [char * dst, const char * src] -> int"
-  [dst src]
+  {:inline (fn [dst src]
+             `(long (raylib_h/TextCopy ~dst (memory/string ~src))))}
+  ^long [dst src]
   (raylib_h/TextCopy dst (memory/string src)))
 
 (defn text-is-equal?
   "Check if two text string are equal
   [const char * text1, const char * text2] -> bool"
+  {:inline (fn [text1 text2]
+             `(raylib_h/TextIsEqual (memory/string ~text1) (memory/string ~text2)))}
   [text1 text2]
   (raylib_h/TextIsEqual (memory/string text1) (memory/string text2)))
 
 (defn text-length
   "Get text length, checks for '\\0' ending
   [const char * text] -> unsigned int"
-  [text]
+  {:inline (fn [text]
+             `(long (raylib_h/TextLength (memory/string ~text))))}
+  ^long [text]
   (raylib_h/TextLength (memory/string text)))
 
 (defn text-format
@@ -3117,72 +4944,98 @@
 (defn text-subtext
   "Get a piece of a text string
   [const char * text, int position, int length] -> const char *"
-  [text position length]
+  {:inline (fn [text position length]
+             `(raylib_h/TextSubtext (memory/string ~text) ~position ~length))}
+  [text ^long position ^long length]
   (raylib_h/TextSubtext (memory/string text) position length))
 
 (defn text-replace
   "Replace text string (WARNING: memory must be freed!)
   [char * text, const char * replace, const char * by] -> char *"
+  {:inline (fn [text replace by]
+             `(raylib_h/TextReplace ~text (memory/string ~replace) (memory/string ~by)))}
   [text replace by]
   (raylib_h/TextReplace text (memory/string replace) (memory/string by)))
 
 (defn text-insert
   "Insert text in a position (WARNING: memory must be freed!)
   [const char * text, const char * insert, int position] -> char *"
-  [text insert position]
+  {:inline (fn [text insert position]
+             `(raylib_h/TextInsert (memory/string ~text) (memory/string ~insert) ~position))}
+  [text insert ^long position]
   (raylib_h/TextInsert (memory/string text) (memory/string insert) position))
 
 (defn text-join
   "Join text strings with delimiter
   [const char ** textList, int count, const char * delimiter] -> const char *"
-  [text-list count delimiter]
+  {:inline (fn [text-list count delimiter]
+             `(raylib_h/TextJoin ~text-list ~count (memory/string ~delimiter)))}
+  [text-list ^long count delimiter]
   (raylib_h/TextJoin text-list count (memory/string delimiter)))
 
 (defn text-split
   "Split text into multiple strings
   [const char * text, char delimiter, int * count] -> const char **"
+  {:inline (fn [text delimiter count]
+             `(raylib_h/TextSplit (memory/string ~text) ~delimiter ~count))}
   [text delimiter count]
   (raylib_h/TextSplit (memory/string text) delimiter count))
 
 (defn text-append
   "Append text at specific position and move cursor!
   [char * text, const char * append, int * position] -> void"
+  {:inline (fn [text append position]
+             `(raylib_h/TextAppend ~text (memory/string ~append) ~position))}
   [text append position]
   (raylib_h/TextAppend text (memory/string append) position))
 
 (defn text-find-index
   "Find first text occurrence within a string
   [const char * text, const char * find] -> int"
-  [text find]
+  {:inline (fn [text find]
+             `(long (raylib_h/TextFindIndex (memory/string ~text) (memory/string ~find))))}
+  ^long [text find]
   (raylib_h/TextFindIndex (memory/string text) (memory/string find)))
 
 (defn text-to-upper
   "Get upper case version of provided string
   [const char * text] -> const char *"
+  {:inline (fn [text]
+             `(raylib_h/TextToUpper (memory/string ~text)))}
   [text]
   (raylib_h/TextToUpper (memory/string text)))
 
 (defn text-to-lower
   "Get lower case version of provided string
   [const char * text] -> const char *"
+  {:inline (fn [text]
+             `(raylib_h/TextToLower (memory/string ~text)))}
   [text]
   (raylib_h/TextToLower (memory/string text)))
 
 (defn text-to-pascal
   "Get Pascal case notation version of provided string
   [const char * text] -> const char *"
+  {:inline (fn [text]
+             `(raylib_h/TextToPascal (memory/string ~text)))}
   [text]
   (raylib_h/TextToPascal (memory/string text)))
 
 (defn text-to-integer
   "Get integer value from text (negative values not supported)
   [const char * text] -> int"
-  [text]
+  {:inline (fn [text]
+             `(long (raylib_h/TextToInteger (memory/string ~text))))}
+  ^long [text]
   (raylib_h/TextToInteger (memory/string text)))
 
 (defn draw-line3d
   "Draw a line in 3D world space
   [Vector3 startPos, Vector3 endPos, Color color] -> void"
+  {:inline (fn [start-pos end-pos color]
+             `(raylib_h/DrawLine3D (rstructs/vector3 ~start-pos)
+                                   (rstructs/vector3 ~end-pos)
+                                   (rstructs/color ~color)))}
   [start-pos end-pos color]
   (raylib_h/DrawLine3D (rstructs/vector3 start-pos)
                        (rstructs/vector3 end-pos)
@@ -3191,12 +5044,20 @@
 (defn draw-point3d
   "Draw a point in 3D space, actually a small line
   [Vector3 position, Color color] -> void"
+  {:inline (fn [position color]
+             `(raylib_h/DrawPoint3D (rstructs/vector3 ~position) (rstructs/color ~color)))}
   [position color]
   (raylib_h/DrawPoint3D (rstructs/vector3 position) (rstructs/color color)))
 
 (defn draw-circle3d
   "Draw a circle in 3D world space
   [Vector3 center, float radius, Vector3 rotationAxis, float rotationAngle, Color color] -> void"
+  {:inline (fn [center radius rotation-axis rotation-angle color]
+             `(raylib_h/DrawCircle3D (rstructs/vector3 ~center)
+                                     ~radius
+                                     (rstructs/vector3 ~rotation-axis)
+                                     ~rotation-angle
+                                     (rstructs/color ~color)))}
   [center radius rotation-axis rotation-angle color]
   (raylib_h/DrawCircle3D (rstructs/vector3 center)
                          radius
@@ -3207,6 +5068,11 @@
 (defn draw-triangle3d
   "Draw a color-filled triangle (vertex in counter-clockwise order!)
   [Vector3 v1, Vector3 v2, Vector3 v3, Color color] -> void"
+  {:inline (fn [v1 v2 v3 color]
+             `(raylib_h/DrawTriangle3D (rstructs/vector3 ~v1)
+                                       (rstructs/vector3 ~v2)
+                                       (rstructs/vector3 ~v3)
+                                       (rstructs/color ~color)))}
   [v1 v2 v3 color]
   (raylib_h/DrawTriangle3D (rstructs/vector3 v1)
                            (rstructs/vector3 v2)
@@ -3228,6 +5094,12 @@
 (defn draw-cube
   "Draw cube
   [Vector3 position, float width, float height, float length, Color color] -> void"
+  {:inline (fn [position width height length color]
+             `(raylib_h/DrawCube (rstructs/vector3 ~position)
+                                 ~width
+                                 ~height
+                                 ~length
+                                 (rstructs/color ~color)))}
   [position width height length color]
   (raylib_h/DrawCube (rstructs/vector3 position)
                      width
@@ -3238,6 +5110,10 @@
 (defn draw-cube-v
   "Draw cube (Vector version)
   [Vector3 position, Vector3 size, Color color] -> void"
+  {:inline (fn [position size color]
+             `(raylib_h/DrawCubeV (rstructs/vector3 ~position)
+                                  (rstructs/vector3 ~size)
+                                  (rstructs/color ~color)))}
   [position size color]
   (raylib_h/DrawCubeV (rstructs/vector3 position)
                       (rstructs/vector3 size)
@@ -3246,6 +5122,12 @@
 (defn draw-cube-wires
   "Draw cube wires
   [Vector3 position, float width, float height, float length, Color color] -> void"
+  {:inline (fn [position width height length color]
+             `(raylib_h/DrawCubeWires (rstructs/vector3 ~position)
+                                      ~width
+                                      ~height
+                                      ~length
+                                      (rstructs/color ~color)))}
   [position width height length color]
   (raylib_h/DrawCubeWires (rstructs/vector3 position)
                           width
@@ -3256,6 +5138,10 @@
 (defn draw-cube-wires-v
   "Draw cube wires (Vector version)
   [Vector3 position, Vector3 size, Color color] -> void"
+  {:inline (fn [position size color]
+             `(raylib_h/DrawCubeWiresV (rstructs/vector3 ~position)
+                                       (rstructs/vector3 ~size)
+                                       (rstructs/color ~color)))}
   [position size color]
   (raylib_h/DrawCubeWiresV (rstructs/vector3 position)
                            (rstructs/vector3 size)
@@ -3264,7 +5150,11 @@
 (defn draw-sphere
   "Draw sphere
   [Vector3 centerPos, float radius, Color color] -> void"
-  [center-pos radius color]
+  {:inline (fn [center-pos radius color]
+             `(raylib_h/DrawSphere (rstructs/vector3 ~center-pos)
+                                   ~radius
+                                   (rstructs/color ~color)))}
+  [center-pos ^double radius color]
   (raylib_h/DrawSphere (rstructs/vector3 center-pos)
                        radius
                        (rstructs/color color)))
@@ -3272,6 +5162,12 @@
 (defn draw-sphere-ex
   "Draw sphere with extended parameters
   [Vector3 centerPos, float radius, int rings, int slices, Color color] -> void"
+  {:inline (fn [center-pos radius rings slices color]
+             `(raylib_h/DrawSphereEx (rstructs/vector3 ~center-pos)
+                                     ~radius
+                                     ~rings
+                                     ~slices
+                                     (rstructs/color ~color)))}
   [center-pos radius rings slices color]
   (raylib_h/DrawSphereEx (rstructs/vector3 center-pos)
                          radius
@@ -3282,6 +5178,12 @@
 (defn draw-sphere-wires
   "Draw sphere wires
   [Vector3 centerPos, float radius, int rings, int slices, Color color] -> void"
+  {:inline (fn [center-pos radius rings slices color]
+             `(raylib_h/DrawSphereWires (rstructs/vector3 ~center-pos)
+                                        ~radius
+                                        ~rings
+                                        ~slices
+                                        (rstructs/color ~color)))}
   [center-pos radius rings slices color]
   (raylib_h/DrawSphereWires (rstructs/vector3 center-pos)
                             radius
@@ -3292,6 +5194,13 @@
 (defn draw-cylinder
   "Draw a cylinder/cone
   [Vector3 position, float radiusTop, float radiusBottom, float height, int slices, Color color] -> void"
+  {:inline (fn [position radius-top radius-bottom height slices color]
+             `(raylib_h/DrawCylinder (rstructs/vector3 ~position)
+                                     ~radius-top
+                                     ~radius-bottom
+                                     ~height
+                                     ~slices
+                                     (rstructs/color ~color)))}
   [position radius-top radius-bottom height slices color]
   (raylib_h/DrawCylinder (rstructs/vector3 position)
                          radius-top
@@ -3303,6 +5212,13 @@
 (defn draw-cylinder-ex
   "Draw a cylinder with base at startPos and top at endPos
   [Vector3 startPos, Vector3 endPos, float startRadius, float endRadius, int sides, Color color] -> void"
+  {:inline (fn [start-pos end-pos start-radius end-radius sides color]
+             `(raylib_h/DrawCylinderEx (rstructs/vector3 ~start-pos)
+                                       (rstructs/vector3 ~end-pos)
+                                       ~start-radius
+                                       ~end-radius
+                                       ~sides
+                                       (rstructs/color ~color)))}
   [start-pos end-pos start-radius end-radius sides color]
   (raylib_h/DrawCylinderEx (rstructs/vector3 start-pos)
                            (rstructs/vector3 end-pos)
@@ -3314,6 +5230,13 @@
 (defn draw-cylinder-wires
   "Draw a cylinder/cone wires
   [Vector3 position, float radiusTop, float radiusBottom, float height, int slices, Color color] -> void"
+  {:inline (fn [position radius-top radius-bottom height slices color]
+             `(raylib_h/DrawCylinderWires (rstructs/vector3 ~position)
+                                          ~radius-top
+                                          ~radius-bottom
+                                          ~height
+                                          ~slices
+                                          (rstructs/color ~color)))}
   [position radius-top radius-bottom height slices color]
   (raylib_h/DrawCylinderWires (rstructs/vector3 position)
                               radius-top
@@ -3325,6 +5248,13 @@
 (defn draw-cylinder-wires-ex
   "Draw a cylinder wires with base at startPos and top at endPos
   [Vector3 startPos, Vector3 endPos, float startRadius, float endRadius, int sides, Color color] -> void"
+  {:inline (fn [start-pos end-pos start-radius end-radius sides color]
+             `(raylib_h/DrawCylinderWiresEx (rstructs/vector3 ~start-pos)
+                                            (rstructs/vector3 ~end-pos)
+                                            ~start-radius
+                                            ~end-radius
+                                            ~sides
+                                            (rstructs/color ~color)))}
   [start-pos end-pos start-radius end-radius sides color]
   (raylib_h/DrawCylinderWiresEx (rstructs/vector3 start-pos)
                                 (rstructs/vector3 end-pos)
@@ -3336,6 +5266,13 @@
 (defn draw-capsule
   "Draw a capsule with the center of its sphere caps at startPos and endPos
   [Vector3 startPos, Vector3 endPos, float radius, int slices, int rings, Color color] -> void"
+  {:inline (fn [start-pos end-pos radius slices rings color]
+             `(raylib_h/DrawCapsule (rstructs/vector3 ~start-pos)
+                                    (rstructs/vector3 ~end-pos)
+                                    ~radius
+                                    ~slices
+                                    ~rings
+                                    (rstructs/color ~color)))}
   [start-pos end-pos radius slices rings color]
   (raylib_h/DrawCapsule (rstructs/vector3 start-pos)
                         (rstructs/vector3 end-pos)
@@ -3347,6 +5284,13 @@
 (defn draw-capsule-wires
   "Draw capsule wireframe with the center of its sphere caps at startPos and endPos
   [Vector3 startPos, Vector3 endPos, float radius, int slices, int rings, Color color] -> void"
+  {:inline (fn [start-pos end-pos radius slices rings color]
+             `(raylib_h/DrawCapsuleWires (rstructs/vector3 ~start-pos)
+                                         (rstructs/vector3 ~end-pos)
+                                         ~radius
+                                         ~slices
+                                         ~rings
+                                         (rstructs/color ~color)))}
   [start-pos end-pos radius slices rings color]
   (raylib_h/DrawCapsuleWires (rstructs/vector3 start-pos)
                              (rstructs/vector3 end-pos)
@@ -3358,6 +5302,10 @@
 (defn draw-plane
   "Draw a plane XZ
   [Vector3 centerPos, Vector2 size, Color color] -> void"
+  {:inline (fn [center-pos size color]
+             `(raylib_h/DrawPlane (rstructs/vector3 ~center-pos)
+                                  (rstructs/vector2 ~size)
+                                  (rstructs/color ~color)))}
   [center-pos size color]
   (raylib_h/DrawPlane (rstructs/vector3 center-pos)
                       (rstructs/vector2 size)
@@ -3366,38 +5314,66 @@
 (defn draw-ray
   "Draw a ray line
   [Ray ray, Color color] -> void"
+  {:inline (fn [ray color]
+             `(raylib_h/DrawRay (rstructs/ray ~ray) (rstructs/color ~color)))}
   [ray color]
   (raylib_h/DrawRay (rstructs/ray ray) (rstructs/color color)))
 
 (defn draw-grid
   "Draw a grid (centered at (0, 0, 0))
   [int slices, float spacing] -> void"
-  [slices spacing]
+  {:inline (fn [slices spacing]
+             `(raylib_h/DrawGrid ~slices ~spacing))}
+  [^long slices ^double spacing]
   (raylib_h/DrawGrid slices spacing))
 
 (defn load-model
   "Load model from files (meshes and materials)
   [const char * fileName] -> Model"
   [file-name]
-  (rstructs/get-model (raylib_h/LoadModel memory/*current-arena*
+  (rstructs/get-model (raylib_h/LoadModel (memory/result-arena)
                                           (memory/string file-name))))
 
+(defn load-model!
+  "Load model from files (meshes and materials) (written into dest)
+  [Model * dest, const char * fileName] -> Model *"
+  {:inline (fn [dest file-name]
+             `(raylib_h/LoadModel (memory/prefix-allocator ~dest)
+                                  (memory/string ~file-name)))}
+  [dest file-name]
+  (raylib_h/LoadModel (memory/prefix-allocator dest)
+                      (memory/string file-name)))
+
 (defn load-model-from-mesh
   "Load model from generated mesh (default material)
   [Mesh mesh] -> Model"
   [mesh]
-  (rstructs/get-model (raylib_h/LoadModelFromMesh memory/*current-arena*
+  (rstructs/get-model (raylib_h/LoadModelFromMesh (memory/result-arena)
                                                   (rstructs/mesh mesh))))
 
+(defn load-model-from-mesh!
+  "Load model from generated mesh (default material) (written into dest)
+  [Model * dest, Mesh mesh] -> Model *"
+  {:inline (fn [dest mesh]
+             `(raylib_h/LoadModelFromMesh (memory/prefix-allocator ~dest)
+                                          (rstructs/mesh ~mesh)))}
+  [dest mesh]
+  (raylib_h/LoadModelFromMesh (memory/prefix-allocator dest)
+                              (rstructs/mesh mesh)))
+
 (defn model-ready?
   "Check if a model is ready
   [Model model] -> bool"
+  {:inline (fn [model]
+             `(raylib_h/IsModelReady (rstructs/model ~model)))}
   [model]
   (raylib_h/IsModelReady (rstructs/model model)))
 
 (defn unload-model
   "Unload model (including meshes) from memory (RAM and/or VRAM)
   [Model model] -> void"
+  {:inline (fn [model]
+             `(raylib_h/UnloadModel (rstructs/model ~model)))}
   [model]
   (raylib_h/UnloadModel (rstructs/model model)))
 
@@ -3406,13 +5382,29 @@
   [Model model] -> BoundingBox"
   [model]
   (rstructs/get-bounding-box (raylib_h/GetModelBoundingBox
-                               memory/*current-arena*
+                               (memory/result-arena)
                                (rstructs/model model))))
 
+(defn get-model-bounding-box!
+  "Compute model bounding box limits (considers all meshes) (written into dest)
+  [BoundingBox * dest, Model model] -> BoundingBox *"
+  {:inline (fn [dest model]
+             `(raylib_h/GetModelBoundingBox (memory/prefix-allocator ~dest)
+                                            (rstructs/model ~model)))}
+  [dest model]
+  (raylib_h/GetModelBoundingBox
+    (memory/prefix-allocator dest)
+    (rstructs/model model)))
+
 (defn draw-model
   "Draw a model (with texture if set)
   [Model model, Vector3 position, float scale, Color tint] -> void"
-  [model position scale tint]
+  {:inline (fn [model position scale tint]
+             `(raylib_h/DrawModel (rstructs/model ~model)
+                                  (rstructs/vector3 ~position)
+                                  ~scale
+                                  (rstructs/color ~tint)))}
+  [model position ^double scale tint]
   (raylib_h/DrawModel (rstructs/model model)
                       (rstructs/vector3 position)
                       scale
@@ -3421,6 +5413,13 @@
 (defn draw-model-ex
   "Draw a model with extended parameters
   [Model model, Vector3 position, Vector3 rotationAxis, float rotationAngle, Vector3 scale, Color tint] -> void"
+  {:inline (fn [model position rotation-axis rotation-angle scale tint]
+             `(raylib_h/DrawModelEx (rstructs/model ~model)
+                                    (rstructs/vector3 ~position)
+                                    (rstructs/vector3 ~rotation-axis)
+                                    ~rotation-angle
+                                    (rstructs/vector3 ~scale)
+                                    (rstructs/color ~tint)))}
   [model position rotation-axis rotation-angle scale tint]
   (raylib_h/DrawModelEx (rstructs/model model)
                         (rstructs/vector3 position)
@@ -3432,7 +5431,12 @@
 (defn draw-model-wires
   "Draw a model wires (with texture if set)
   [Model model, Vector3 position, float scale, Color tint] -> void"
-  [model position scale tint]
+  {:inline (fn [model position scale tint]
+             `(raylib_h/DrawModelWires (rstructs/model ~model)
+                                       (rstructs/vector3 ~position)
+                                       ~scale
+                                       (rstructs/color ~tint)))}
+  [model position ^double scale tint]
   (raylib_h/DrawModelWires (rstructs/model model)
                            (rstructs/vector3 position)
                            scale
@@ -3441,6 +5445,13 @@
 (defn draw-model-wires-ex
   "Draw a model wires (with texture if set) with extended parameters
   [Model model, Vector3 position, Vector3 rotationAxis, float rotationAngle, Vector3 scale, Color tint] -> void"
+  {:inline (fn [model position rotation-axis rotation-angle scale tint]
+             `(raylib_h/DrawModelWiresEx (rstructs/model ~model)
+                                         (rstructs/vector3 ~position)
+                                         (rstructs/vector3 ~rotation-axis)
+                                         ~rotation-angle
+                                         (rstructs/vector3 ~scale)
+                                         (rstructs/color ~tint)))}
   [model position rotation-axis rotation-angle scale tint]
   (raylib_h/DrawModelWiresEx (rstructs/model model)
                              (rstructs/vector3 position)
@@ -3452,12 +5463,20 @@
 (defn draw-bounding-box
   "Draw bounding box (wires)
   [BoundingBox box, Color color] -> void"
+  {:inline (fn [box color]
+             `(raylib_h/DrawBoundingBox (rstructs/bounding-box ~box) (rstructs/color ~color)))}
   [box color]
   (raylib_h/DrawBoundingBox (rstructs/bounding-box box) (rstructs/color color)))
 
 (defn draw-billboard
   "Draw a billboard texture
   [Camera camera, Texture2D texture, Vector3 position, float size, Color tint] -> void"
+  {:inline (fn [camera texture position size tint]
+             `(raylib_h/DrawBillboard (rstructs/camera3d ~camera)
+                                      (rstructs/texture ~texture)
+                                      (rstructs/vector3 ~position)
+                                      ~size
+                                      (rstructs/color ~tint)))}
   [camera texture position size tint]
   (raylib_h/DrawBillboard (rstructs/camera3d camera)
                           (rstructs/texture texture)
@@ -3468,6 +5487,13 @@
 (defn draw-billboard-rec
   "Draw a billboard texture defined by source
   [Camera camera, Texture2D texture, Rectangle source, Vector3 position, Vector2 size, Color tint] -> void"
+  {:inline (fn [camera texture source position size tint]
+             `(raylib_h/DrawBillboardRec (rstructs/camera3d ~camera)
+                                         (rstructs/texture ~texture)
+                                         (rstructs/rectangle ~source)
+                                         (rstructs/vector3 ~position)
+                                         (rstructs/vector2 ~size)
+                                         (rstructs/color ~tint)))}
   [camera texture source position size tint]
   (raylib_h/DrawBillboardRec (rstructs/camera3d camera)
                              (rstructs/texture texture)
@@ -3479,6 +5505,16 @@
 (defn draw-billboard-pro
   "Draw a billboard texture defined by source and rotation
   [Camera camera, Texture2D texture, Rectangle source, Vector3 position, Vector3 up, Vector2 size, Vector2 origin, float rotation, Color tint] -> void"
+  {:inline (fn [camera texture source position up size origin rotation tint]
+             `(raylib_h/DrawBillboardPro (rstructs/camera3d ~camera)
+                                         (rstructs/texture ~texture)
+                                         (rstructs/rectangle ~source)
+                                         (rstructs/vector3 ~position)
+                                         (rstructs/vector3 ~up)
+                                         (rstructs/vector2 ~size)
+                                         (rstructs/vector2 ~origin)
+                                         ~rotation
+                                         (rstructs/color ~tint)))}
   [camera texture source position up size origin rotation tint]
   (raylib_h/DrawBillboardPro (rstructs/camera3d camera)
                              (rstructs/texture texture)
@@ -3493,24 +5529,34 @@
 (defn upload-mesh
   "Upload mesh vertex data in GPU and provide VAO/VBO ids
   [Mesh * mesh, bool dynamic] -> void"
+  {:inline (fn [mesh dynamic]
+             `(raylib_h/UploadMesh (rstructs/mesh ~mesh) ~dynamic))}
   [mesh dynamic]
   (raylib_h/UploadMesh (rstructs/mesh mesh) dynamic))
 
 (defn update-mesh-buffer
   "Update mesh vertex data in GPU for a specific buffer index
   [Mesh mesh, int index, const void * data, int dataSize, int offset] -> void"
+  {:inline (fn [mesh index data data-size offset]
+             `(raylib_h/UpdateMeshBuffer (rstructs/mesh ~mesh) ~index ~data ~data-size ~offset))}
   [mesh index data data-size offset]
   (raylib_h/UpdateMeshBuffer (rstructs/mesh mesh) index data data-size offset))
 
 (defn unload-mesh
   "Unload mesh data from CPU and GPU
   [Mesh mesh] -> void"
+  {:inline (fn [mesh]
+             `(raylib_h/UnloadMesh (rstructs/mesh ~mesh)))}
   [mesh]
   (raylib_h/UnloadMesh (rstructs/mesh mesh)))
 
 (defn draw-mesh
   "Draw a 3d mesh with material and transform
   [Mesh mesh, Material material, Matrix transform] -> void"
+  {:inline (fn [mesh material transform]
+             `(raylib_h/DrawMesh (rstructs/mesh ~mesh)
+                                 (rstructs/material ~material)
+                                 (rstructs/matrix ~transform)))}
   [mesh material transform]
   (raylib_h/DrawMesh (rstructs/mesh mesh)
                      (rstructs/material material)
@@ -3518,16 +5564,29 @@
 
 (defn draw-mesh-instanced
   "Draw multiple mesh instances with material and different transforms
-  [Mesh mesh, Material material, const Matrix * transforms, int instances] -> void"
-  [mesh material transforms instances]
-  (raylib_h/DrawMeshInstanced (rstructs/mesh mesh)
-                              (rstructs/material material)
-                              (rstructs/matrix transforms)
-                              instances))
+  [Mesh mesh, Material material, const Matrix * transforms, int instances] -> void
+  transforms can be an InstanceBuffer, a Matrix array segment or a sequence of matrices"
+  ([mesh material transforms instances]
+   (raylib_h/DrawMeshInstanced (rstructs/mesh mesh)
+                               (rstructs/material material)
+                               (cond
+                                 (instance? InstanceBuffer transforms) (.segment ^InstanceBuffer transforms (int instances))
+                                 (instance? MemorySegment transforms) (InstanceBuffer/checkSegment transforms instances)
+                                 :else (rstructs/matrix-array transforms instances))
+                               instances))
+  ([mesh material transforms]
+   (draw-mesh-instanced mesh material transforms
+                        (cond
+                          (instance? InstanceBuffer transforms) (.count ^InstanceBuffer transforms)
+                          (instance? MemorySegment transforms) (quot (.byteSize ^MemorySegment transforms)
+                                                                     (Matrix/sizeof))
+                          :else (count transforms)))))
 
 (defn export-mesh?
   "Export mesh data to file, returns true on success
   [Mesh mesh, const char * fileName] -> bool"
+  {:inline (fn [mesh file-name]
+             `(raylib_h/ExportMesh (rstructs/mesh ~mesh) (memory/string ~file-name)))}
   [mesh file-name]
   (raylib_h/ExportMesh (rstructs/mesh mesh) (memory/string file-name)))
 
@@ -3536,11 +5595,22 @@
   [Mesh mesh] -> BoundingBox"
   [mesh]
   (rstructs/get-bounding-box
-    (raylib_h/GetMeshBoundingBox memory/*current-arena* (rstructs/mesh mesh))))
+    (raylib_h/GetMeshBoundingBox (memory/result-arena) (rstructs/mesh mesh))))
+
+(defn get-mesh-bounding-box!
+  "Compute mesh bounding box limits (written into dest)
+  [BoundingBox * dest, Mesh mesh] -> BoundingBox *"
+  {:inline (fn [dest mesh]
+             `(raylib_h/GetMeshBoundingBox (memory/prefix-allocator ~dest)
+                                           (rstructs/mesh ~mesh)))}
+  [dest mesh]
+  (raylib_h/GetMeshBoundingBox (memory/prefix-allocator dest) (rstructs/mesh mesh)))
 
 (defn gen-mesh-tangents
   "Compute mesh tangents
   [Mesh * mesh] -> void"
+  {:inline (fn [mesh]
+             `(raylib_h/GenMeshTangents (rstructs/mesh ~mesh)))}
   [mesh]
   (raylib_h/GenMeshTangents (rstructs/mesh mesh)))
 
@@ -3549,83 +5619,210 @@
   [int sides, float radius] -> Mesh"
   [sides radius]
   (rstructs/get-mesh
-    (raylib_h/GenMeshPoly memory/*current-arena* sides radius)))
+    (raylib_h/GenMeshPoly (memory/result-arena) sides radius)))
+
+(defn gen-mesh-poly!
+  "Generate polygonal mesh (written into dest)
+  [Mesh * dest, int sides, float radius] -> Mesh *"
+  {:inline (fn [dest sides radius]
+             `(raylib_h/GenMeshPoly (memory/prefix-allocator ~dest)
+                                    ~sides
+                                    ~radius))}
+  [dest ^long sides ^double radius]
+  (raylib_h/GenMeshPoly (memory/prefix-allocator dest) sides radius))
 
 (defn gen-mesh-plane
   "Generate plane mesh (with subdivisions)
   [float width, float length, int resX, int resZ] -> Mesh"
   [width length res-x res-z]
   (rstructs/get-mesh
-    (raylib_h/GenMeshPlane memory/*current-arena* width length res-x res-z)))
+    (raylib_h/GenMeshPlane (memory/result-arena) width length res-x res-z)))
+
+(defn gen-mesh-plane!
+  "Generate plane mesh (with subdivisions) (written into dest)
+  [Mesh * dest, float width, float length, int resX, int resZ] -> Mesh *"
+  {:inline (fn [dest width length res-x res-z]
+             `(raylib_h/GenMeshPlane (memory/prefix-allocator ~dest)
+                                     ~width
+                                     ~length
+                                     ~res-x
+                                     ~res-z))}
+  [dest width length res-x res-z]
+  (raylib_h/GenMeshPlane (memory/prefix-allocator dest) width length res-x res-z))
 
 (defn gen-mesh-cube
   "Generate cuboid mesh
   [float width, float height, float length] -> Mesh"
   [width height length]
   (rstructs/get-mesh
-    (raylib_h/GenMeshCube memory/*current-arena* width height length)))
+    (raylib_h/GenMeshCube (memory/result-arena) width height length)))
+
+(defn gen-mesh-cube!
+  "Generate cuboid mesh (written into dest)
+  [Mesh * dest, float width, float height, float length] -> Mesh *"
+  {:inline (fn [dest width height length]
+             `(raylib_h/GenMeshCube (memory/prefix-allocator ~dest)
+                                    ~width
+                                    ~height
+                                    ~length))}
+  [dest ^double width ^double height ^double length]
+  (raylib_h/GenMeshCube (memory/prefix-allocator dest) width height length))
 
 (defn gen-mesh-sphere
   "Generate sphere mesh (standard sphere)
   [float radius, int rings, int slices] -> Mesh"
   [radius rings slices]
   (rstructs/get-mesh
-    (raylib_h/GenMeshSphere memory/*current-arena* radius rings slices)))
+    (raylib_h/GenMeshSphere (memory/result-arena) radius rings slices)))
+
+(defn gen-mesh-sphere!
+  "Generate sphere mesh (standard sphere) (written into dest)
+  [Mesh * dest, float radius, int rings, int slices] -> Mesh *"
+  {:inline (fn [dest radius rings slices]
+             `(raylib_h/GenMeshSphere (memory/prefix-allocator ~dest)
+                                      ~radius
+                                      ~rings
+                                      ~slices))}
+  [dest ^double radius ^long rings ^long slices]
+  (raylib_h/GenMeshSphere (memory/prefix-allocator dest) radius rings slices))
 
 (defn gen-mesh-hemi-sphere
   "Generate half-sphere mesh (no bottom cap)
   [float radius, int rings, int slices] -> Mesh"
   [radius rings slices]
   (rstructs/get-mesh
-    (raylib_h/GenMeshHemiSphere memory/*current-arena* radius rings slices)))
+    (raylib_h/GenMeshHemiSphere (memory/result-arena) radius rings slices)))
+
+(defn gen-mesh-hemi-sphere!
+  "Generate half-sphere mesh (no bottom cap) (written into dest)
+  [Mesh * dest, float radius, int rings, int slices] -> Mesh *"
+  {:inline (fn [dest radius rings slices]
+             `(raylib_h/GenMeshHemiSphere (memory/prefix-allocator ~dest)
+                                          ~radius
+                                          ~rings
+                                          ~slices))}
+  [dest ^double radius ^long rings ^long slices]
+  (raylib_h/GenMeshHemiSphere (memory/prefix-allocator dest) radius rings slices))
 
 (defn gen-mesh-cylinder
   "Generate cylinder mesh
   [float radius, float height, int slices] -> Mesh"
   [radius height slices]
   (rstructs/get-mesh
-    (raylib_h/GenMeshCylinder memory/*current-arena* radius height slices)))
+    (raylib_h/GenMeshCylinder (memory/result-arena) radius height slices)))
+
+(defn gen-mesh-cylinder!
+  "Generate cylinder mesh (written into dest)
+  [Mesh * dest, float radius, float height, int slices] -> Mesh *"
+  {:inline (fn [dest radius height slices]
+             `(raylib_h/GenMeshCylinder (memory/prefix-allocator ~dest)
+                                        ~radius
+                                        ~height
+                                        ~slices))}
+  [dest ^double radius ^double height ^long slices]
+  (raylib_h/GenMeshCylinder (memory/prefix-allocator dest) radius height slices))
 
 (defn gen-mesh-cone
   "Generate cone/pyramid mesh
   [float radius, float height, int slices] -> Mesh"
   [radius height slices]
   (rstructs/get-mesh
-    (raylib_h/GenMeshCone memory/*current-arena* radius height slices)))
+    (raylib_h/GenMeshCone (memory/result-arena) radius height slices)))
+
+(defn gen-mesh-cone!
+  "Generate cone/pyramid mesh (written into dest)
+  [Mesh * dest, float radius, float height, int slices] -> Mesh *"
+  {:inline (fn [dest radius height slices]
+             `(raylib_h/GenMeshCone (memory/prefix-allocator ~dest)
+                                    ~radius
+                                    ~height
+                                    ~slices))}
+  [dest ^double radius ^double height ^long slices]
+  (raylib_h/GenMeshCone (memory/prefix-allocator dest) radius height slices))
 
 (defn gen-mesh-torus
   "Generate torus mesh
   [float radius, float size, int radSeg, int sides] -> Mesh"
   [radius size rad-seg sides]
   (rstructs/get-mesh
-    (raylib_h/GenMeshTorus memory/*current-arena* radius size rad-seg sides)))
+    (raylib_h/GenMeshTorus (memory/result-arena) radius size rad-seg sides)))
+
+(defn gen-mesh-torus!
+  "Generate torus mesh (written into dest)
+  [Mesh * dest, float radius, float size, int radSeg, int sides] -> Mesh *"
+  {:inline (fn [dest radius size rad-seg sides]
+             `(raylib_h/GenMeshTorus (memory/prefix-allocator ~dest)
+                                     ~radius
+                                     ~size
+                                     ~rad-seg
+                                     ~sides))}
+  [dest radius size rad-seg sides]
+  (raylib_h/GenMeshTorus (memory/prefix-allocator dest) radius size rad-seg sides))
 
 (defn gen-mesh-knot
   "Generate trefoil knot mesh
   [float radius, float size, int radSeg, int sides] -> Mesh"
   [radius size rad-seg sides]
   (rstructs/get-mesh
-    (raylib_h/GenMeshKnot memory/*current-arena* radius size rad-seg sides)))
+    (raylib_h/GenMeshKnot (memory/result-arena) radius size rad-seg sides)))
+
+(defn gen-mesh-knot!
+  "Generate trefoil knot mesh (written into dest)
+  [Mesh * dest, float radius, float size, int radSeg, int sides] -> Mesh *"
+  {:inline (fn [dest radius size rad-seg sides]
+             `(raylib_h/GenMeshKnot (memory/prefix-allocator ~dest)
+                                    ~radius
+                                    ~size
+                                    ~rad-seg
+                                    ~sides))}
+  [dest radius size rad-seg sides]
+  (raylib_h/GenMeshKnot (memory/prefix-allocator dest) radius size rad-seg sides))
 
 (defn gen-mesh-heightmap
   "Generate heightmap mesh from image data
   [Image heightmap, Vector3 size] -> Mesh"
   [heightmap size]
-  (rstructs/get-mesh (raylib_h/GenMeshHeightmap memory/*current-arena*
+  (rstructs/get-mesh (raylib_h/GenMeshHeightmap (memory/result-arena)
                                                 (rstructs/image heightmap)
                                                 (rstructs/vector3 size))))
 
+(defn gen-mesh-heightmap!
+  "Generate heightmap mesh from image data (written into dest)
+  [Mesh * dest, Image heightmap, Vector3 size] -> Mesh *"
+  {:inline (fn [dest heightmap size]
+             `(raylib_h/GenMeshHeightmap (memory/prefix-allocator ~dest)
+                                         (rstructs/image ~heightmap)
+                                         (rstructs/vector3 ~size)))}
+  [dest heightmap size]
+  (raylib_h/GenMeshHeightmap (memory/prefix-allocator dest)
+                             (rstructs/image heightmap)
+                             (rstructs/vector3 size)))
+
 (defn gen-mesh-cubicmap
   "Generate cubes-based map mesh from image data
   [Image cubicmap, Vector3 cubeSize] -> Mesh"
   [cubicmap cube-size]
-  (rstructs/get-mesh (raylib_h/GenMeshCubicmap memory/*current-arena*
+  (rstructs/get-mesh (raylib_h/GenMeshCubicmap (memory/result-arena)
                                                (rstructs/image cubicmap)
                                                (rstructs/vector3 cube-size))))
 
+(defn gen-mesh-cubicmap!
+  "Generate cubes-based map mesh from image data (written into dest)
+  [Mesh * dest, Image cubicmap, Vector3 cubeSize] -> Mesh *"
+  {:inline (fn [dest cubicmap cube-size]
+             `(raylib_h/GenMeshCubicmap (memory/prefix-allocator ~dest)
+                                        (rstructs/image ~cubicmap)
+                                        (rstructs/vector3 ~cube-size)))}
+  [dest cubicmap cube-size]
+  (raylib_h/GenMeshCubicmap (memory/prefix-allocator dest)
+                            (rstructs/image cubicmap)
+                            (rstructs/vector3 cube-size)))
+
 (defn load-materials
   "Load materials from model file
   [const char * fileName, int * materialCount] -> Material *"
+  {:inline (fn [file-name material-count]
+             `(raylib_h/LoadMaterials (memory/string ~file-name) ~material-count))}
   [file-name material-count]
   (raylib_h/LoadMaterials (memory/string file-name) material-count))
 
@@ -3633,24 +5830,40 @@
   "Load default material (Supports: DIFFUSE, SPECULAR, NORMAL maps)
   [] -> Material"
   []
-  (rstructs/get-material (raylib_h/LoadMaterialDefault memory/*current-arena*)))
+  (rstructs/get-material (raylib_h/LoadMaterialDefault (memory/result-arena))))
+
+(defn load-material-default!
+  "Load default material (Supports: DIFFUSE, SPECULAR, NORMAL maps) (written into dest)
+  [Material * dest] -> Material *"
+  {:inline (fn [dest]
+             `(raylib_h/LoadMaterialDefault (memory/prefix-allocator ~dest)))}
+  [dest]
+  (raylib_h/LoadMaterialDefault (memory/prefix-allocator dest)))
 
 (defn material-ready?
   "Check if a material is ready
   [Material material] -> bool"
+  {:inline (fn [material]
+             `(raylib_h/IsMaterialReady (rstructs/material ~material)))}
   [material]
   (raylib_h/IsMaterialReady (rstructs/material material)))
 
 (defn unload-material
   "Unload material from GPU memory (VRAM)
   [Material material] -> void"
+  {:inline (fn [material]
+             `(raylib_h/UnloadMaterial (rstructs/material ~material)))}
   [material]
   (raylib_h/UnloadMaterial (rstructs/material material)))
 
 (defn set-material-texture
   "Set texture for a material map type (MATERIAL_MAP_DIFFUSE, MATERIAL_MAP_SPECULAR...)
   [Material * material, int mapType, Texture2D texture] -> void"
-  [material map-type texture]
+  {:inline (fn [material map-type texture]
+             `(raylib_h/SetMaterialTexture (rstructs/material ~material)
+                                           ~map-type
+                                           (rstructs/texture ~texture)))}
+  [material ^long map-type texture]
   (raylib_h/SetMaterialTexture (rstructs/material material)
                                map-type
                                (rstructs/texture texture)))
@@ -3658,19 +5871,27 @@
 (defn set-model-mesh-material
   "Set material for a mesh
   [Model * model, int meshId, int materialId] -> void"
-  [model mesh-id material-id]
+  {:inline (fn [model mesh-id material-id]
+             `(raylib_h/SetModelMeshMaterial (rstructs/model ~model) ~mesh-id ~material-id))}
+  [model ^long mesh-id ^long material-id]
   (raylib_h/SetModelMeshMaterial (rstructs/model model) mesh-id material-id))
 
 (defn load-model-animations
   "Load model animations from file
   [const char * fileName, int * animCount] -> ModelAnimation *"
+  {:inline (fn [file-name anim-count]
+             `(raylib_h/LoadModelAnimations (memory/string ~file-name) ~anim-count))}
   [file-name anim-count]
   (raylib_h/LoadModelAnimations (memory/string file-name) anim-count))
 
 (defn update-model-animation
   "Update model animation pose
   [Model model, ModelAnimation anim, int frame] -> void"
-  [model anim frame]
+  {:inline (fn [model anim frame]
+             `(raylib_h/UpdateModelAnimation (rstructs/model ~model)
+                                             (rstructs/model-animation ~anim)
+                                             ~frame))}
+  [model anim ^long frame]
   (raylib_h/UpdateModelAnimation (rstructs/model model)
                                  (rstructs/model-animation anim)
                                  frame))
@@ -3678,19 +5899,27 @@
 (defn unload-model-animation
   "Unload animation data
   [ModelAnimation anim] -> void"
+  {:inline (fn [anim]
+             `(raylib_h/UnloadModelAnimation (rstructs/model-animation ~anim)))}
   [anim]
   (raylib_h/UnloadModelAnimation (rstructs/model-animation anim)))
 
 (defn unload-model-animations
   "Unload animation array data
   [ModelAnimation * animations, int animCount] -> void"
-  [animations anim-count]
+  {:inline (fn [animations anim-count]
+             `(raylib_h/UnloadModelAnimations (rstructs/model-animation ~animations)
+                                              ~anim-count))}
+  [animations ^long anim-count]
   (raylib_h/UnloadModelAnimations (rstructs/model-animation animations)
                                   anim-count))
 
 (defn model-animation-valid?
   "Check model animation skeleton match
   [Model model, ModelAnimation anim] -> bool"
+  {:inline (fn [model anim]
+             `(raylib_h/IsModelAnimationValid (rstructs/model ~model)
+                                              (rstructs/model-animation ~anim)))}
   [model anim]
   (raylib_h/IsModelAnimationValid (rstructs/model model)
                                   (rstructs/model-animation anim)))
@@ -3698,7 +5927,12 @@
 (defn check-collision-spheres?
   "Check collision between two spheres
   [Vector3 center1, float radius1, Vector3 center2, float radius2] -> bool"
-  [center1 radius1 center2 radius2]
+  {:inline (fn [center1 radius1 center2 radius2]
+             `(raylib_h/CheckCollisionSpheres (rstructs/vector3 ~center1)
+                                              ~radius1
+                                              (rstructs/vector3 ~center2)
+                                              ~radius2))}
+  [center1 ^double radius1 center2 ^double radius2]
   (raylib_h/CheckCollisionSpheres (rstructs/vector3 center1)
                                   radius1
                                   (rstructs/vector3 center2)
@@ -3707,6 +5941,9 @@
 (defn check-collision-boxes?
   "Check collision between two bounding boxes
   [BoundingBox box1, BoundingBox box2] -> bool"
+  {:inline (fn [box1 box2]
+             `(raylib_h/CheckCollisionBoxes (rstructs/bounding-box ~box1)
+                                            (rstructs/bounding-box ~box2)))}
   [box1 box2]
   (raylib_h/CheckCollisionBoxes (rstructs/bounding-box box1)
                                 (rstructs/bounding-box box2)))
@@ -3714,7 +5951,11 @@
 (defn check-collision-box-sphere?
   "Check collision between box and sphere
   [BoundingBox box, Vector3 center, float radius] -> bool"
-  [box center radius]
+  {:inline (fn [box center radius]
+             `(raylib_h/CheckCollisionBoxSphere (rstructs/bounding-box ~box)
+                                                (rstructs/vector3 ~center)
+                                                ~radius))}
+  [box center ^double radius]
   (raylib_h/CheckCollisionBoxSphere (rstructs/bounding-box box)
                                     (rstructs/vector3 center)
                                     radius))
@@ -3724,102 +5965,217 @@
   [Ray ray, Vector3 center, float radius] -> RayCollision"
   [ray center radius]
   (rstructs/get-ray-collision (raylib_h/GetRayCollisionSphere
-                                memory/*current-arena*
+                                (memory/result-arena)
                                 (rstructs/ray ray)
                                 (rstructs/vector3 center)
                                 radius)))
 
+(defn get-ray-collision-sphere!
+  "Get collision info between ray and sphere (written into dest)
+  [RayCollision * dest, Ray ray, Vector3 center, float radius] -> RayCollision *"
+  {:inline (fn [dest ray center radius]
+             `(raylib_h/GetRayCollisionSphere (memory/prefix-allocator ~dest)
+                                              (rstructs/ray ~ray)
+                                              (rstructs/vector3 ~center)
+                                              ~radius))}
+  [dest ray center ^double radius]
+  (raylib_h/GetRayCollisionSphere
+    (memory/prefix-allocator dest)
+    (rstructs/ray ray)
+    (rstructs/vector3 center)
+    radius))
+
 (defn get-ray-collision-box
   "Get collision info between ray and box
   [Ray ray, BoundingBox box] -> RayCollision"
   [ray box]
   (rstructs/get-ray-collision (raylib_h/GetRayCollisionBox
-                                memory/*current-arena*
+                                (memory/result-arena)
                                 (rstructs/ray ray)
                                 (rstructs/bounding-box box))))
 
+(defn get-ray-collision-box!
+  "Get collision info between ray and box (written into dest)
+  [RayCollision * dest, Ray ray, BoundingBox box] -> RayCollision *"
+  {:inline (fn [dest ray box]
+             `(raylib_h/GetRayCollisionBox (memory/prefix-allocator ~dest)
+                                           (rstructs/ray ~ray)
+                                           (rstructs/bounding-box ~box)))}
+  [dest ray box]
+  (raylib_h/GetRayCollisionBox
+    (memory/prefix-allocator dest)
+    (rstructs/ray ray)
+    (rstructs/bounding-box box)))
+
 (defn get-ray-collision-mesh
   "Get collision info between ray and mesh
   [Ray ray, Mesh mesh, Matrix transform] -> RayCollision"
   [ray mesh transform]
   (rstructs/get-ray-collision (raylib_h/GetRayCollisionMesh
-                                memory/*current-arena*
+                                (memory/result-arena)
                                 (rstructs/ray ray)
                                 (rstructs/mesh mesh)
                                 (rstructs/matrix transform))))
 
+(defn get-ray-collision-mesh!
+  "Get collision info between ray and mesh (written into dest)
+  [RayCollision * dest, Ray ray, Mesh mesh, Matrix transform] -> RayCollision *"
+  {:inline (fn [dest ray mesh transform]
+             `(raylib_h/GetRayCollisionMesh (memory/prefix-allocator ~dest)
+                                            (rstructs/ray ~ray)
+                                            (rstructs/mesh ~mesh)
+                                            (rstructs/matrix ~transform)))}
+  [dest ray mesh transform]
+  (raylib_h/GetRayCollisionMesh
+    (memory/prefix-allocator dest)
+    (rstructs/ray ray)
+    (rstructs/mesh mesh)
+    (rstructs/matrix transform)))
+
 (defn get-ray-collision-triangle
   "Get collision info between ray and triangle
   [Ray ray, Vector3 p1, Vector3 p2, Vector3 p3] -> RayCollision"
   [ray p1 p2 p3]
   (rstructs/get-ray-collision (raylib_h/GetRayCollisionTriangle
-                                memory/*current-arena*
+                                (memory/result-arena)
                                 (rstructs/ray ray)
                                 (rstructs/vector3 p1)
                                 (rstructs/vector3 p2)
                                 (rstructs/vector3 p3))))
 
+(defn get-ray-collision-triangle!
+  "Get collision info between ray and triangle (written into dest)
+  [RayCollision * dest, Ray ray, Vector3 p1, Vector3 p2, Vector3 p3] -> RayCollision *"
+  {:inline (fn [dest ray p1 p2 p3]
+             `(raylib_h/GetRayCollisionTriangle (memory/prefix-allocator ~dest)
+                                                (rstructs/ray ~ray)
+                                                (rstructs/vector3 ~p1)
+                                                (rstructs/vector3 ~p2)
+                                                (rstructs/vector3 ~p3)))}
+  [dest ray p1 p2 p3]
+  (raylib_h/GetRayCollisionTriangle
+    (memory/prefix-allocator dest)
+    (rstructs/ray ray)
+    (rstructs/vector3 p1)
+    (rstructs/vector3 p2)
+    (rstructs/vector3 p3)))
+
 (defn get-ray-collision-quad
   "Get collision info between ray and quad
   [Ray ray, Vector3 p1, Vector3 p2, Vector3 p3, Vector3 p4] -> RayCollision"
   [ray p1 p2 p3 p4]
   (rstructs/get-ray-collision (raylib_h/GetRayCollisionQuad
-                                memory/*current-arena*
+                                (memory/result-arena)
                                 (rstructs/ray ray)
                                 (rstructs/vector3 p1)
                                 (rstructs/vector3 p2)
                                 (rstructs/vector3 p3)
                                 (rstructs/vector3 p4))))
 
+(defn get-ray-collision-quad!
+  "Get collision info between ray and quad (written into dest)
+  [RayCollision * dest, Ray ray, Vector3 p1, Vector3 p2, Vector3 p3, Vector3 p4] -> RayCollision *"
+  {:inline (fn [dest ray p1 p2 p3 p4]
+             `(raylib_h/GetRayCollisionQuad (memory/prefix-allocator ~dest)
+                                            (rstructs/ray ~ray)
+                                            (rstructs/vector3 ~p1)
+                                            (rstructs/vector3 ~p2)
+                                            (rstructs/vector3 ~p3)
+                                            (rstructs/vector3 ~p4)))}
+  [dest ray p1 p2 p3 p4]
+  (raylib_h/GetRayCollisionQuad
+    (memory/prefix-allocator dest)
+    (rstructs/ray ray)
+    (rstructs/vector3 p1)
+    (rstructs/vector3 p2)
+    (rstructs/vector3 p3)
+    (rstructs/vector3 p4)))
+
 (defn init-audio-device
   "Initialize audio device and context
   [] -> void"
+  {:inline (fn []
+             `(raylib_h/InitAudioDevice))}
   []
   (raylib_h/InitAudioDevice))
 
 (defn close-audio-device
   "Close the audio device and context
   [] -> void"
+  {:inline (fn []
+             `(raylib_h/CloseAudioDevice))}
   []
   (raylib_h/CloseAudioDevice))
 
 (defn audio-device-ready?
   "Check if audio device has been initialized successfully
   [] -> bool"
+  {:inline (fn []
+             `(raylib_h/IsAudioDeviceReady))}
   []
   (raylib_h/IsAudioDeviceReady))
 
 (defn set-master-volume
   "Set master volume (listener)
   [float volume] -> void"
-  [volume]
+  {:inline (fn [volume]
+             `(raylib_h/SetMasterVolume ~volume))}
+  [^double volume]
   (raylib_h/SetMasterVolume volume))
 
 (defn get-master-volume
   "Get master volume (listener)
   [] -> float"
-  []
+  {:inline (fn []
+             `(double (raylib_h/GetMasterVolume)))}
+  ^double []
   (raylib_h/GetMasterVolume))
 
 (defn load-wave
   "Load wave data from file
   [const char * fileName] -> Wave"
   [file-name]
-  (rstructs/get-wave (raylib_h/LoadWave memory/*current-arena*
+  (rstructs/get-wave (raylib_h/LoadWave (memory/result-arena)
                                         (memory/string file-name))))
 
+(defn load-wave!
+  "Load wave data from file (written into dest)
+  [Wave * dest, const char * fileName] -> Wave *"
+  {:inline (fn [dest file-name]
+             `(raylib_h/LoadWave (memory/prefix-allocator ~dest)
+                                 (memory/string ~file-name)))}
+  [dest file-name]
+  (raylib_h/LoadWave (memory/prefix-allocator dest)
+                     (memory/string file-name)))
+
 (defn load-wave-from-memory
   "Load wave from memory buffer, fileType refers to extension: i.e. '.wav'
   [const char * fileType, const unsigned char * fileData, int dataSize] -> Wave"
   [file-type file-data data-size]
-  (rstructs/get-wave (raylib_h/LoadWaveFromMemory memory/*current-arena*
+  (rstructs/get-wave (raylib_h/LoadWaveFromMemory (memory/result-arena)
                                                   (memory/string file-type)
                                                   file-data
                                                   data-size)))
 
+(defn load-wave-from-memory!
+  "Load wave from memory buffer, fileType refers to extension: i.e. '.wav' (written into dest)
+  [Wave * dest, const char * fileType, const unsigned char * fileData, int dataSize] -> Wave *"
+  {:inline (fn [dest file-type file-data data-size]
+             `(raylib_h/LoadWaveFromMemory (memory/prefix-allocator ~dest)
+                                           (memory/string ~file-type)
+                                           ~file-data
+                                           ~data-size))}
+  [dest file-type file-data ^long data-size]
+  (raylib_h/LoadWaveFromMemory (memory/prefix-allocator dest)
+                               (memory/string file-type)
+                               file-data
+                               data-size))
+
 (defn wave-ready?
   "Checks if wave data is ready
   [Wave wave] -> bool"
+  {:inline (fn [wave]
+             `(raylib_h/IsWaveReady (rstructs/wave ~wave)))}
   [wave]
   (raylib_h/IsWaveReady (rstructs/wave wave)))
 
@@ -3827,141 +6183,219 @@
   "Load sound from file
   [const char * fileName] -> Sound"
   [file-name]
-  (rstructs/get-sound (raylib_h/LoadSound memory/*current-arena*
+  (rstructs/get-sound (raylib_h/LoadSound (memory/result-arena)
                                           (memory/string file-name))))
 
+(defn load-sound!
+  "Load sound from file (written into dest)
+  [Sound * dest, const char * fileName] -> Sound *"
+  {:inline (fn [dest file-name]
+             `(raylib_h/LoadSound (memory/prefix-allocator ~dest)
+                                  (memory/string ~file-name)))}
+  [dest file-name]
+  (raylib_h/LoadSound (memory/prefix-allocator dest)
+                      (memory/string file-name)))
+
 (defn load-sound-from-wave
   "Load sound from wave data
   [Wave wave] -> Sound"
   [wave]
-  (rstructs/get-sound (raylib_h/LoadSoundFromWave memory/*current-arena*
+  (rstructs/get-sound (raylib_h/LoadSoundFromWave (memory/result-arena)
                                                   (rstructs/wave wave))))
 
+(defn load-sound-from-wave!
+  "Load sound from wave data (written into dest)
+  [Sound * dest, Wave wave] -> Sound *"
+  {:inline (fn [dest wave]
+             `(raylib_h/LoadSoundFromWave (memory/prefix-allocator ~dest)
+                                          (rstructs/wave ~wave)))}
+  [dest wave]
+  (raylib_h/LoadSoundFromWave (memory/prefix-allocator dest)
+                              (rstructs/wave wave)))
+
 (defn load-sound-alias
   "Create a new sound that shares the same sample data as the source sound, does not own the sound data
   [Sound source] -> Sound"
   [source]
-  (rstructs/get-sound (raylib_h/LoadSoundAlias memory/*current-arena*
+  (rstructs/get-sound (raylib_h/LoadSoundAlias (memory/result-arena)
                                                (rstructs/sound source))))
 
+(defn load-sound-alias!
+  "Create a new sound that shares the same sample data as the source sound, does not own the sound data (written into dest)
+  [Sound * dest, Sound source] -> Sound *"
+  {:inline (fn [dest source]
+             `(raylib_h/LoadSoundAlias (memory/prefix-allocator ~dest)
+                                       (rstructs/sound ~source)))}
+  [dest source]
+  (raylib_h/LoadSoundAlias (memory/prefix-allocator dest)
+                           (rstructs/sound source)))
+
 (defn sound-ready?
   "Checks if a sound is ready
   [Sound sound] -> bool"
+  {:inline (fn [sound]
+             `(raylib_h/IsSoundReady (rstructs/sound ~sound)))}
   [sound]
   (raylib_h/IsSoundReady (rstructs/sound sound)))
 
 (defn update-sound
   "Update sound buffer with new data
   [Sound sound, const void * data, int sampleCount] -> void"
-  [sound data sample-count]
+  {:inline (fn [sound data sample-count]
+             `(raylib_h/UpdateSound (rstructs/sound ~sound) ~data ~sample-count))}
+  [sound data ^long sample-count]
   (raylib_h/UpdateSound (rstructs/sound sound) data sample-count))
 
 (defn unload-wave
   "Unload wave data
   [Wave wave] -> void"
+  {:inline (fn [wave]
+             `(raylib_h/UnloadWave (rstructs/wave ~wave)))}
   [wave]
   (raylib_h/UnloadWave (rstructs/wave wave)))
 
 (defn unload-sound
   "Unload sound
   [Sound sound] -> void"
+  {:inline (fn [sound]
+             `(raylib_h/UnloadSound (rstructs/sound ~sound)))}
   [sound]
   (raylib_h/UnloadSound (rstructs/sound sound)))
 
 (defn unload-sound-alias
   "Unload a sound alias (does not deallocate sample data)
   [Sound alias] -> void"
+  {:inline (fn [alias]
+             `(raylib_h/UnloadSoundAlias (rstructs/sound ~alias)))}
   [alias]
   (raylib_h/UnloadSoundAlias (rstructs/sound alias)))
 
 (defn export-wave?
   "Export wave data to file, returns true on success
   [Wave wave, const char * fileName] -> bool"
+  {:inline (fn [wave file-name]
+             `(raylib_h/ExportWave (rstructs/wave ~wave) (memory/string ~file-name)))}
   [wave file-name]
   (raylib_h/ExportWave (rstructs/wave wave) (memory/string file-name)))
 
 (defn export-wave-as-code?
   "Export wave sample data to code (.h), returns true on success
   [Wave wave, const char * fileName] -> bool"
+  {:inline (fn [wave file-name]
+             `(raylib_h/ExportWaveAsCode (rstructs/wave ~wave) (memory/string ~file-name)))}
   [wave file-name]
   (raylib_h/ExportWaveAsCode (rstructs/wave wave) (memory/string file-name)))
 
 (defn play-sound
   "Play a sound
   [Sound sound] -> void"
+  {:inline (fn [sound]
+             `(raylib_h/PlaySound (rstructs/sound ~sound)))}
   [sound]
   (raylib_h/PlaySound (rstructs/sound sound)))
 
 (defn stop-sound
   "Stop playing a sound
   [Sound sound] -> void"
+  {:inline (fn [sound]
+             `(raylib_h/StopSound (rstructs/sound ~sound)))}
   [sound]
   (raylib_h/StopSound (rstructs/sound sound)))
 
 (defn pause-sound
   "Pause a sound
   [Sound sound] -> void"
+  {:inline (fn [sound]
+             `(raylib_h/PauseSound (rstructs/sound ~sound)))}
   [sound]
   (raylib_h/PauseSound (rstructs/sound sound)))
 
 (defn resume-sound
   "Resume a paused sound
   [Sound sound] -> void"
+  {:inline (fn [sound]
+             `(raylib_h/ResumeSound (rstructs/sound ~sound)))}
   [sound]
   (raylib_h/ResumeSound (rstructs/sound sound)))
 
 (defn sound-playing?
   "Check if a sound is currently playing
   [Sound sound] -> bool"
+  {:inline (fn [sound]
+             `(raylib_h/IsSoundPlaying (rstructs/sound ~sound)))}
   [sound]
   (raylib_h/IsSoundPlaying (rstructs/sound sound)))
 
 (defn set-sound-volume
   "Set volume for a sound (1.0 is max level)
   [Sound sound, float volume] -> void"
-  [sound volume]
+  {:inline (fn [sound volume]
+             `(raylib_h/SetSoundVolume (rstructs/sound ~sound) ~volume))}
+  [sound ^double volume]
   (raylib_h/SetSoundVolume (rstructs/sound sound) volume))
 
 (defn set-sound-pitch
   "Set pitch for a sound (1.0 is base level)
   [Sound sound, float pitch] -> void"
-  [sound pitch]
+  {:inline (fn [sound pitch]
+             `(raylib_h/SetSoundPitch (rstructs/sound ~sound) ~pitch))}
+  [sound ^double pitch]
   (raylib_h/SetSoundPitch (rstructs/sound sound) pitch))
 
 (defn set-sound-pan
   "Set pan for a sound (0.5 is center)
   [Sound sound, float pan] -> void"
-  [sound pan]
+  {:inline (fn [sound pan]
+             `(raylib_h/SetSoundPan (rstructs/sound ~sound) ~pan))}
+  [sound ^double pan]
   (raylib_h/SetSoundPan (rstructs/sound sound) pan))
 
 (defn wave-copy
   "Copy a wave to a new wave
   [Wave wave] -> Wave"
   [wave]
-  (rstructs/get-wave (raylib_h/WaveCopy memory/*current-arena*
+  (rstructs/get-wave (raylib_h/WaveCopy (memory/result-arena)
                                         (rstructs/wave wave))))
 
+(defn wave-copy!
+  "Copy a wave to a new wave (written into dest)
+  [Wave * dest, Wave wave] -> Wave *"
+  {:inline (fn [dest wave]
+             `(raylib_h/WaveCopy (memory/prefix-allocator ~dest)
+                                 (rstructs/wave ~wave)))}
+  [dest wave]
+  (raylib_h/WaveCopy (memory/prefix-allocator dest)
+                     (rstructs/wave wave)))
+
 (defn wave-crop
   "Crop a wave to defined samples range
   [Wave * wave, int initSample, int finalSample] -> void"
-  [wave init-sample final-sample]
+  {:inline (fn [wave init-sample final-sample]
+             `(raylib_h/WaveCrop (rstructs/wave ~wave) ~init-sample ~final-sample))}
+  [wave ^long init-sample ^long final-sample]
   (raylib_h/WaveCrop (rstructs/wave wave) init-sample final-sample))
 
 (defn wave-format
   "Convert wave data to desired format
   [Wave * wave, int sampleRate, int sampleSize, int channels] -> void"
-  [wave sample-rate sample-size channels]
+  {:inline (fn [wave sample-rate sample-size channels]
+             `(raylib_h/WaveFormat (rstructs/wave ~wave) ~sample-rate ~sample-size ~channels))}
+  [wave ^long sample-rate ^long sample-size ^long channels]
   (raylib_h/WaveFormat (rstructs/wave wave) sample-rate sample-size channels))
 
 (defn load-wave-samples
   "Load samples data from wave as a 32bit float data array
   [Wave wave] -> float *"
+  {:inline (fn [wave]
+             `(raylib_h/LoadWaveSamples (rstructs/wave ~wave)))}
   [wave]
   (raylib_h/LoadWaveSamples (rstructs/wave wave)))
 
 (defn unload-wave-samples
   "Unload samples data loaded with LoadWaveSamples()
   [float * samples] -> void"
+  {:inline (fn [samples]
+             `(raylib_h/UnloadWaveSamples ~samples))}
   [samples]
   (raylib_h/UnloadWaveSamples samples))
 
@@ -3969,199 +6403,298 @@
   "Load music stream from file
   [const char * fileName] -> Music"
   [file-name]
-  (rstructs/get-music (raylib_h/LoadMusicStream memory/*current-arena*
+  (rstructs/get-music (raylib_h/LoadMusicStream (memory/result-arena)
                                                 (memory/string file-name))))
 
+(defn load-music-stream!
+  "Load music stream from file (written into dest)
+  [Music * dest, const char * fileName] -> Music *"
+  {:inline (fn [dest file-name]
+             `(raylib_h/LoadMusicStream (memory/prefix-allocator ~dest)
+                                        (memory/string ~file-name)))}
+  [dest file-name]
+  (raylib_h/LoadMusicStream (memory/prefix-allocator dest)
+                            (memory/string file-name)))
+
 (defn load-music-stream-from-memory
   "Load music stream from data
   [const char * fileType, const unsigned char * data, int dataSize] -> Music"
   [file-type data data-size]
-  (rstructs/get-music (raylib_h/LoadMusicStreamFromMemory memory/*current-arena*
+  (rstructs/get-music (raylib_h/LoadMusicStreamFromMemory (memory/result-arena)
                                                           (memory/string
                                                             file-type)
                                                           data
                                                           data-size)))
 
+(defn load-music-stream-from-memory!
+  "Load music stream from data (written into dest)
+  [Music * dest, const char * fileType, const unsigned char * data, int dataSize] -> Music *"
+  {:inline (fn [dest file-type data data-size]
+             `(raylib_h/LoadMusicStreamFromMemory
+                (memory/prefix-allocator ~dest)
+                (memory/string ~file-type)
+                ~data
+                ~data-size))}
+  [dest file-type data ^long data-size]
+  (raylib_h/LoadMusicStreamFromMemory (memory/prefix-allocator dest)
+                                      (memory/string
+                                        file-type)
+                                      data
+                                      data-size))
+
 (defn music-ready?
   "Checks if a music stream is ready
   [Music music] -> bool"
+  {:inline (fn [music]
+             `(raylib_h/IsMusicReady (rstructs/music ~music)))}
   [music]
   (raylib_h/IsMusicReady (rstructs/music music)))
 
 (defn unload-music-stream
   "Unload music stream
   [Music music] -> void"
+  {:inline (fn [music]
+             `(raylib_h/UnloadMusicStream (rstructs/music ~music)))}
   [music]
   (raylib_h/UnloadMusicStream (rstructs/music music)))
 
 (defn play-music-stream
   "Start music playing
   [Music music] -> void"
+  {:inline (fn [music]
+             `(raylib_h/PlayMusicStream (rstructs/music ~music)))}
   [music]
   (raylib_h/PlayMusicStream (rstructs/music music)))
 
 (defn music-stream-playing?
   "Check if music is playing
   [Music music] -> bool"
+  {:inline (fn [music]
+             `(raylib_h/IsMusicStreamPlaying (rstructs/music ~music)))}
   [music]
   (raylib_h/IsMusicStreamPlaying (rstructs/music music)))
 
 (defn update-music-stream
   "Updates buffers for music streaming
   [Music music] -> void"
+  {:inline (fn [music]
+             `(raylib_h/UpdateMusicStream (rstructs/music ~music)))}
   [music]
   (raylib_h/UpdateMusicStream (rstructs/music music)))
 
 (defn stop-music-stream
   "Stop music playing
   [Music music] -> void"
+  {:inline (fn [music]
+             `(raylib_h/StopMusicStream (rstructs/music ~music)))}
   [music]
   (raylib_h/StopMusicStream (rstructs/music music)))
 
 (defn pause-music-stream
   "Pause music playing
   [Music music] -> void"
+  {:inline (fn [music]
+             `(raylib_h/PauseMusicStream (rstructs/music ~music)))}
   [music]
   (raylib_h/PauseMusicStream (rstructs/music music)))
 
 (defn resume-music-stream
   "Resume playing paused music
   [Music music] -> void"
+  {:inline (fn [music]
+             `(raylib_h/ResumeMusicStream (rstructs/music ~music)))}
   [music]
   (raylib_h/ResumeMusicStream (rstructs/music music)))
 
 (defn seek-music-stream
   "Seek music to a position (in seconds)
   [Music music, float position] -> void"
-  [music position]
+  {:inline (fn [music position]
+             `(raylib_h/SeekMusicStream (rstructs/music ~music) ~position))}
+  [music ^double position]
   (raylib_h/SeekMusicStream (rstructs/music music) position))
 
 (defn set-music-volume
   "Set volume for music (1.0 is max level)
   [Music music, float volume] -> void"
-  [music volume]
+  {:inline (fn [music volume]
+             `(raylib_h/SetMusicVolume (rstructs/music ~music) ~volume))}
+  [music ^double volume]
   (raylib_h/SetMusicVolume (rstructs/music music) volume))
 
 (defn set-music-pitch
   "Set pitch for a music (1.0 is base level)
   [Music music, float pitch] -> void"
-  [music pitch]
+  {:inline (fn [music pitch]
+             `(raylib_h/SetMusicPitch (rstructs/music ~music) ~pitch))}
+  [music ^double pitch]
   (raylib_h/SetMusicPitch (rstructs/music music) pitch))
 
 (defn set-music-pan
   "Set pan for a music (0.5 is center)
   [Music music, float pan] -> void"
-  [music pan]
+  {:inline (fn [music pan]
+             `(raylib_h/SetMusicPan (rstructs/music ~music) ~pan))}
+  [music ^double pan]
   (raylib_h/SetMusicPan (rstructs/music music) pan))
 
 (defn get-music-time-length
   "Get music time length (in seconds)
   [Music music] -> float"
-  [music]
+  {:inline (fn [music]
+             `(double (raylib_h/GetMusicTimeLength (rstructs/music ~music))))}
+  ^double [music]
   (raylib_h/GetMusicTimeLength (rstructs/music music)))
 
 (defn get-music-time-played
   "Get current music time played (in seconds)
   [Music music] -> float"
-  [music]
+  {:inline (fn [music]
+             `(double (raylib_h/GetMusicTimePlayed (rstructs/music ~music))))}
+  ^double [music]
   (raylib_h/GetMusicTimePlayed (rstructs/music music)))
 
 (defn load-audio-stream
   "Load audio stream (to stream raw audio pcm data)
   [unsigned int sampleRate, unsigned int sampleSize, unsigned int channels] -> AudioStream"
   [sample-rate sample-size channels]
-  (rstructs/get-audio-stream (raylib_h/LoadAudioStream memory/*current-arena*
+  (rstructs/get-audio-stream (raylib_h/LoadAudioStream (memory/result-arena)
                                                        sample-rate
                                                        sample-size
                                                        channels)))
 
+(defn load-audio-stream!
+  "Load audio stream (to stream raw audio pcm data) (written into dest)
+  [AudioStream * dest, unsigned int sampleRate, unsigned int sampleSize, unsigned int channels] -> AudioStream *"
+  {:inline (fn [dest sample-rate sample-size channels]
+             `(raylib_h/LoadAudioStream (memory/prefix-allocator ~dest)
+                                        ~sample-rate
+                                        ~sample-size
+                                        ~channels))}
+  [dest ^long sample-rate ^long sample-size ^long channels]
+  (raylib_h/LoadAudioStream (memory/prefix-allocator dest)
+                            sample-rate
+                            sample-size
+                            channels))
+
 (defn audio-stream-ready?
   "Checks if an audio stream is ready
   [AudioStream stream] -> bool"
+  {:inline (fn [stream]
+             `(raylib_h/IsAudioStreamReady (rstructs/audio-stream ~stream)))}
   [stream]
   (raylib_h/IsAudioStreamReady (rstructs/audio-stream stream)))
 
 (defn unload-audio-stream
   "Unload audio stream and free memory
   [AudioStream stream] -> void"
+  {:inline (fn [stream]
+             `(raylib_h/UnloadAudioStream (rstructs/audio-stream ~stream)))}
   [stream]
   (raylib_h/UnloadAudioStream (rstructs/audio-stream stream)))
 
 (defn update-audio-stream
   "Update audio stream buffers with data
   [AudioStream stream, const void * data, int frameCount] -> void"
-  [stream data frame-count]
+  {:inline (fn [stream data frame-count]
+             `(raylib_h/UpdateAudioStream (rstructs/audio-stream ~stream) ~data ~frame-count))}
+  [stream data ^long frame-count]
   (raylib_h/UpdateAudioStream (rstructs/audio-stream stream) data frame-count))
 
 (defn audio-stream-processed?
   "Check if any audio stream buffers requires refill
   [AudioStream stream] -> bool"
+  {:inline (fn [stream]
+             `(raylib_h/IsAudioStreamProcessed (rstructs/audio-stream ~stream)))}
   [stream]
   (raylib_h/IsAudioStreamProcessed (rstructs/audio-stream stream)))
 
 (defn play-audio-stream
   "Play audio stream
   [AudioStream stream] -> void"
+  {:inline (fn [stream]
+             `(raylib_h/PlayAudioStream (rstructs/audio-stream ~stream)))}
   [stream]
   (raylib_h/PlayAudioStream (rstructs/audio-stream stream)))
 
 (defn pause-audio-stream
   "Pause audio stream
   [AudioStream stream] -> void"
+  {:inline (fn [stream]
+             `(raylib_h/PauseAudioStream (rstructs/audio-stream ~stream)))}
   [stream]
   (raylib_h/PauseAudioStream (rstructs/audio-stream stream)))
 
 (defn resume-audio-stream
   "Resume audio stream
   [AudioStream stream] -> void"
+  {:inline (fn [stream]
+             `(raylib_h/ResumeAudioStream (rstructs/audio-stream ~stream)))}
   [stream]
   (raylib_h/ResumeAudioStream (rstructs/audio-stream stream)))
 
 (defn audio-stream-playing?
   "Check if audio stream is playing
   [AudioStream stream] -> bool"
+  {:inline (fn [stream]
+             `(raylib_h/IsAudioStreamPlaying (rstructs/audio-stream ~stream)))}
   [stream]
   (raylib_h/IsAudioStreamPlaying (rstructs/audio-stream stream)))
 
 (defn stop-audio-stream
   "Stop audio stream
   [AudioStream stream] -> void"
+  {:inline (fn [stream]
+             `(raylib_h/StopAudioStream (rstructs/audio-stream ~stream)))}
   [stream]
   (raylib_h/StopAudioStream (rstructs/audio-stream stream)))
 
 (defn set-audio-stream-volume
   "Set volume for audio stream (1.0 is max level)
   [AudioStream stream, float volume] -> void"
-  [stream volume]
+  {:inline (fn [stream volume]
+             `(raylib_h/SetAudioStreamVolume (rstructs/audio-stream ~stream) ~volume))}
+  [stream ^double volume]
   (raylib_h/SetAudioStreamVolume (rstructs/audio-stream stream) volume))
 
 (defn set-audio-stream-pitch
   "Set pitch for audio stream (1.0 is base level)
   [AudioStream stream, float pitch] -> void"
-  [stream pitch]
+  {:inline (fn [stream pitch]
+             `(raylib_h/SetAudioStreamPitch (rstructs/audio-stream ~stream) ~pitch))}
+  [stream ^double pitch]
   (raylib_h/SetAudioStreamPitch (rstructs/audio-stream stream) pitch))
 
 (defn set-audio-stream-pan
   "Set pan for audio stream (0.5 is centered)
   [AudioStream stream, float pan] -> void"
-  [stream pan]
+  {:inline (fn [stream pan]
+             `(raylib_h/SetAudioStreamPan (rstructs/audio-stream ~stream) ~pan))}
+  [stream ^double pan]
   (raylib_h/SetAudioStreamPan (rstructs/audio-stream stream) pan))
 
 (defn set-audio-stream-buffer-size-default
   "Default size for new audio streams
   [int size] -> void"
-  [size]
+  {:inline (fn [size]
+             `(raylib_h/SetAudioStreamBufferSizeDefault ~size))}
+  [^long size]
   (raylib_h/SetAudioStreamBufferSizeDefault size))
 
 (defn set-audio-stream-callback
   "Audio thread callback to request new data
   [AudioStream stream, AudioCallback callback] -> void"
+  {:inline (fn [stream callback]
+             `(raylib_h/SetAudioStreamCallback (rstructs/audio-stream ~stream) ~callback))}
   [stream callback]
   (raylib_h/SetAudioStreamCallback (rstructs/audio-stream stream) callback))
 
 (defn attach-audio-stream-processor
   "Attach audio stream processor to stream, receives the samples as <float>s
   [AudioStream stream, AudioCallback processor] -> void"
+  {:inline (fn [stream processor]
+             `(raylib_h/AttachAudioStreamProcessor (rstructs/audio-stream ~stream)
+                                                   ~processor))}
   [stream processor]
   (raylib_h/AttachAudioStreamProcessor (rstructs/audio-stream stream)
                                        processor))
@@ -4169,6 +6702,9 @@
 (defn detach-audio-stream-processor
   "Detach audio stream processor from stream
   [AudioStream stream, AudioCallback processor] -> void"
+  {:inline (fn [stream processor]
+             `(raylib_h/DetachAudioStreamProcessor (rstructs/audio-stream ~stream)
+                                                   ~processor))}
   [stream processor]
   (raylib_h/DetachAudioStreamProcessor (rstructs/audio-stream stream)
                                        processor))
@@ -4176,12 +6712,16 @@
 (defn attach-audio-mixed-processor
   "Attach audio stream processor to the entire audio pipeline, receives the samples as <float>s
   [AudioCallback processor] -> void"
+  {:inline (fn [processor]
+             `(raylib_h/AttachAudioMixedProcessor ~processor))}
   [processor]
   (raylib_h/AttachAudioMixedProcessor processor))
 
 (defn detach-audio-mixed-processor
   "Detach audio stream processor from the entire audio pipeline
   [AudioCallback processor] -> void"
+  {:inline (fn [processor]
+             `(raylib_h/DetachAudioMixedProcessor ~processor))}
   [processor]
   (raylib_h/DetachAudioMixedProcessor processor))
 
@@ -13,7 +13,7 @@
              :as memory]
             [rayclj.rlgl.defines :as gldefines])
   (:import
-   [java.lang.foreign MemorySegment]))
+   [java.lang.foreign MemorySegment ValueLayout]))
 
 (set! *warn-on-reflection* true)
 
@@ -54,6 +54,23 @@
 (def set-vector2-array
   (set-array-fn (rayclj.raylib.Vector2/$LAYOUT) set-vector2))
 
+(defn set-vector2-columns
+  "Writes parallel float[] columns (x, y) into a Vector2 array"
+  [^MemorySegment seg ^floats x ^floats y]
+  (let [n (alength x)]
+    (dotimes [i n]
+      (let [offset (* i 8)]
+        (.set seg ValueLayout/JAVA_FLOAT offset (aget x i))
+        (.set seg ValueLayout/JAVA_FLOAT (+ offset 4) (aget y i))))
+    seg))
+
+(defn vector2-columns
+  "Allocates a Vector2 array from parallel float[] columns (x, y)"
+  [^floats x ^floats y]
+  (set-vector2-columns
+    (memory/allocate-array (rayclj.raylib.Vector2/$LAYOUT) (alength x))
+    x y))
+
 (defn get-vector3
   "Vector3, 3 components
   float x // Vector x component
@@ -92,6 +109,24 @@
 (def set-vector3-array
   (set-array-fn (rayclj.raylib.Vector3/$LAYOUT) set-vector3))
 
+(defn set-vector3-columns
+  "Writes parallel float[] columns (x, y, z) into a Vector3 array"
+  [^MemorySegment seg ^floats x ^floats y ^floats z]
+  (let [n (alength x)]
+    (dotimes [i n]
+      (let [offset (* i 12)]
+        (.set seg ValueLayout/JAVA_FLOAT offset (aget x i))
+        (.set seg ValueLayout/JAVA_FLOAT (+ offset 4) (aget y i))
+        (.set seg ValueLayout/JAVA_FLOAT (+ offset 8) (aget z i))))
+    seg))
+
+(defn vector3-columns
+  "Allocates a Vector3 array from parallel float[] columns (x, y, z)"
+  [^floats x ^floats y ^floats z]
+  (set-vector3-columns
+    (memory/allocate-array (rayclj.raylib.Vector3/$LAYOUT) (alength x))
+    x y z))
+
 (defn get-vector4
   "Vector4, 4 components
   float x // Vector x component
@@ -134,6 +169,25 @@
 (def set-vector4-array
   (set-array-fn (rayclj.raylib.Vector4/$LAYOUT) set-vector4))
 
+(defn set-vector4-columns
+  "Writes parallel float[] columns (x, y, z, w) into a Vector4 array"
+  [^MemorySegment seg ^floats x ^floats y ^floats z ^floats w]
+  (let [n (alength x)]
+    (dotimes [i n]
+      (let [offset (* i 16)]
+        (.set seg ValueLayout/JAVA_FLOAT offset (aget x i))
+        (.set seg ValueLayout/JAVA_FLOAT (+ offset 4) (aget y i))
+        (.set seg ValueLayout/JAVA_FLOAT (+ offset 8) (aget z i))
+        (.set seg ValueLayout/JAVA_FLOAT (+ offset 12) (aget w i))))
+    seg))
+
+(defn vector4-columns
+  "Allocates a Vector4 array from parallel float[] columns (x, y, z, w)"
+  [^floats x ^floats y ^floats z ^floats w]
+  (set-vector4-columns
+    (memory/allocate-array (rayclj.raylib.Vector4/$LAYOUT) (alength x))
+    x y z w))
+
 (defn get-matrix
   "Matrix, 4x4 components, column major, OpenGL style, right-handed
   float m0, m4, m8,  m12 // Matrix first row (4 components)
@@ -192,6 +246,12 @@
 
 (def set-matrix-array (set-array-fn (rayclj.raylib.Matrix/$LAYOUT) set-matrix))
 
+(memory/defview ColorView
+  [:r (rayclj.raylib.Color/r$get seg)
+   :g (rayclj.raylib.Color/g$get seg)
+   :b (rayclj.raylib.Color/b$get seg)
+   :a (rayclj.raylib.Color/a$get seg)])
+
 (defn get-color
   "Color, 4 components, R8G8B8A8 (32bit)
   unsigned char r; // Color red value
@@ -199,10 +259,7 @@
   unsigned char b; // Color blue value
   unsigned char a; // Color alpha value"
   [^MemorySegment seg]
-  {:r (rayclj.raylib.Color/r$get seg),
-   :g (rayclj.raylib.Color/g$get seg),
-   :b (rayclj.raylib.Color/b$get seg),
-   :a (rayclj.raylib.Color/a$get seg)})
+  (->ColorView seg))
 
 (defn set-color
   "Color, 4 components, R8G8B8A8 (32bit)
@@ -228,6 +285,7 @@
   [c]
   (cond (instance? MemorySegment c) c
         (keyword? c) (predefined-colors c)
+        (memory/view? c) (memory/segment c)
         :else (set-color (memory/allocate (rayclj.raylib.Color/$LAYOUT)) c)))
 
 (def predefined-colors
@@ -242,6 +300,26 @@
 
 (def set-color-array (set-array-fn (rayclj.raylib.Color/$LAYOUT) set-color))
 
+(defn set-color-columns
+  "Writes packed 0xRRGGBBAA ints into a Color array"
+  [^MemorySegment seg ^ints rgba]
+  (dotimes [i (alength rgba)]
+    (.setAtIndex seg memory/rgba-layout i (aget rgba i)))
+  seg)
+
+(defn color-columns
+  "Allocates a Color array from packed 0xRRGGBBAA ints"
+  [^ints rgba]
+  (set-color-columns (memory/allocate-array (rayclj.raylib.Color/$LAYOUT)
+                                            (alength rgba))
+                     rgba))
+
+(memory/defview RectangleView
+  [:x (rayclj.raylib.Rectangle/x$get seg)
+   :y (rayclj.raylib.Rectangle/y$get seg)
+   :width (rayclj.raylib.Rectangle/width$get seg)
+   :height (rayclj.raylib.Rectangle/height$get seg)])
+
 (defn get-rectangle
   "Rectangle, 4 components
   float x // Rectangle top-left corner position x
@@ -249,10 +327,7 @@
   float width // Rectangle width
   float height // Rectangle height"
   [^MemorySegment seg]
-  {:x (rayclj.raylib.Rectangle/x$get seg),
-   :y (rayclj.raylib.Rectangle/y$get seg),
-   :width (rayclj.raylib.Rectangle/width$get seg),
-   :height (rayclj.raylib.Rectangle/height$get seg)})
+  (->RectangleView seg))
 
 (defn set-rectangle
   "Rectangle, 4 components
@@ -274,9 +349,10 @@
   float width // Rectangle width
   float height // Rectangle height"
   [v]
-  (if (clojure.core/instance? MemorySegment v)
-    v
-    (set-rectangle (memory/allocate (rayclj.raylib.Rectangle/$LAYOUT)) v)))
+  (cond (clojure.core/instance? MemorySegment v) v
+        (memory/view? v) (memory/segment v)
+        :else (set-rectangle (memory/allocate (rayclj.raylib.Rectangle/$LAYOUT))
+                             v)))
 
 (def rectangle-array (array-fn (rayclj.raylib.Rectangle/$LAYOUT) set-rectangle))
 
@@ -286,6 +362,32 @@
 (def set-rectangle-array
   (set-array-fn (rayclj.raylib.Rectangle/$LAYOUT) set-rectangle))
 
+(defn set-rectangle-columns
+  "Writes parallel float[] columns (x, y, width, height) into a Rectangle array"
+  [^MemorySegment seg ^floats x ^floats y ^floats width ^floats height]
+  (let [n (alength x)]
+    (dotimes [i n]
+      (let [offset (* i 16)]
+        (.set seg ValueLayout/JAVA_FLOAT offset (aget x i))
+        (.set seg ValueLayout/JAVA_FLOAT (+ offset 4) (aget y i))
+        (.set seg ValueLayout/JAVA_FLOAT (+ offset 8) (aget width i))
+        (.set seg ValueLayout/JAVA_FLOAT (+ offset 12) (aget height i))))
+    seg))
+
+(defn rectangle-columns
+  "Allocates a Rectangle array from parallel float[] columns (x, y, width, height)"
+  [^floats x ^floats y ^floats width ^floats height]
+  (set-rectangle-columns
+    (memory/allocate-array (rayclj.raylib.Rectangle/$LAYOUT) (alength x))
+    x y width height))
+
+(memory/defview ImageView
+  [:data (rayclj.raylib.Image/data$get seg)
+   :width (rayclj.raylib.Image/width$get seg)
+   :height (rayclj.raylib.Image/height$get seg)
+   :mipmaps (rayclj.raylib.Image/mipmaps$get seg)
+   :format (rayclj.raylib.Image/format$get seg)])
+
 (defn get-image
   "Image, pixel data stored in CPU memory (RAM)
   void * data // Image raw data
@@ -294,11 +396,7 @@
   int mipmaps // Mipmap levels, 1 by default
   int format // Data format (PixelFormat type)"
   [^MemorySegment seg]
-  {:data (rayclj.raylib.Image/data$get seg),
-   :width (rayclj.raylib.Image/width$get seg),
-   :height (rayclj.raylib.Image/height$get seg),
-   :mipmaps (rayclj.raylib.Image/mipmaps$get seg),
-   :format (rayclj.raylib.Image/format$get seg)})
+  (->ImageView seg))
 
 (defn set-image
   "Image, pixel data stored in CPU memory (RAM)
@@ -323,9 +421,9 @@
   int mipmaps // Mipmap levels, 1 by default
   int format // Data format (PixelFormat type)"
   [v]
-  (if (clojure.core/instance? MemorySegment v)
-    v
-    (set-image (memory/allocate (rayclj.raylib.Image/$LAYOUT)) v)))
+  (cond (clojure.core/instance? MemorySegment v) v
+        (memory/view? v) (memory/segment v)
+        :else (set-image (memory/allocate (rayclj.raylib.Image/$LAYOUT)) v)))
 
 (def image-array (array-fn (rayclj.raylib.Image/$LAYOUT) set-image))
 
@@ -333,6 +431,13 @@
 
 (def set-image-array (set-array-fn (rayclj.raylib.Image/$LAYOUT) set-image))
 
+(memory/defview TextureView
+  [:id (rayclj.raylib.Texture/id$get seg)
+   :width (rayclj.raylib.Texture/width$get seg)
+   :height (rayclj.raylib.Texture/height$get seg)
+   :mipmaps (rayclj.raylib.Texture/mipmaps$get seg)
+   :format (rayclj.raylib.Texture/format$get seg)])
+
 (defn get-texture
   "Texture, tex data stored in GPU memory (VRAM)
   unsigned int id // OpenGL texture id
@@ -341,11 +446,7 @@
   int mipmaps // Mipmap levels, 1 by default
   int format // Data format (PixelFormat type)"
   [^MemorySegment seg]
-  {:id (rayclj.raylib.Texture/id$get seg),
-   :width (rayclj.raylib.Texture/width$get seg),
-   :height (rayclj.raylib.Texture/height$get seg),
-   :mipmaps (rayclj.raylib.Texture/mipmaps$get seg),
-   :format (rayclj.raylib.Texture/format$get seg)})
+  (->TextureView seg))
 
 (defn set-texture
   "Texture, tex data stored in GPU memory (VRAM)
@@ -370,9 +471,10 @@
   int mipmaps // Mipmap levels, 1 by default
   int format // Data format (PixelFormat type)"
   [v]
-  (if (clojure.core/instance? MemorySegment v)
-    v
-    (set-texture (memory/allocate (rayclj.raylib.Texture/$LAYOUT)) v)))
+  (cond (clojure.core/instance? MemorySegment v) v
+        (memory/view? v) (memory/segment v)
+        :else (set-texture (memory/allocate (rayclj.raylib.Texture/$LAYOUT))
+                           v)))
 
 (def texture-array (array-fn (rayclj.raylib.Texture/$LAYOUT) set-texture))
 
@@ -382,15 +484,18 @@
 (def set-texture-array
   (set-array-fn (rayclj.raylib.Texture/$LAYOUT) set-texture))
 
+(memory/defview RenderTextureView
+  [:id (rayclj.raylib.RenderTexture/id$get seg)
+   :texture (get-texture (rayclj.raylib.RenderTexture/texture$slice seg))
+   :depth (get-texture (rayclj.raylib.RenderTexture/depth$slice seg))])
+
 (defn get-render-texture
   "RenderTexture, fbo for texture rendering
   unsigned int id // OpenGL framebuffer object id
   Texture texture // Color buffer attachment texture
   Texture depth // Depth buffer attachment texture"
   [^MemorySegment seg]
-  {:id (rayclj.raylib.RenderTexture/id$get seg),
-   :texture (get-texture (rayclj.raylib.RenderTexture/texture$slice seg)),
-   :depth (get-texture (rayclj.raylib.RenderTexture/depth$slice seg))})
+  (->RenderTextureView seg))
 
 (defn set-render-texture
   "RenderTexture, fbo for texture rendering
@@ -409,10 +514,11 @@
   Texture texture // Color buffer attachment texture
   Texture depth // Depth buffer attachment texture"
   [v]
-  (if (clojure.core/instance? MemorySegment v)
-    v
-    (set-render-texture (memory/allocate (rayclj.raylib.RenderTexture/$LAYOUT))
-                        v)))
+  (cond (clojure.core/instance? MemorySegment v) v
+        (memory/view? v) (memory/segment v)
+        :else (set-render-texture (memory/allocate
+                                    (rayclj.raylib.RenderTexture/$LAYOUT))
+                                  v)))
 
 (def render-texture-array
   (array-fn (rayclj.raylib.RenderTexture/$LAYOUT) set-render-texture))
@@ -423,6 +529,14 @@
 (def set-render-texture-array
   (set-array-fn (rayclj.raylib.RenderTexture/$LAYOUT) set-render-texture))
 
+(memory/defview NPatchInfoView
+  [:source (get-rectangle (rayclj.raylib.NPatchInfo/source$slice seg))
+   :left (rayclj.raylib.NPatchInfo/left$get seg)
+   :top (rayclj.raylib.NPatchInfo/top$get seg)
+   :right (rayclj.raylib.NPatchInfo/right$get seg)
+   :bottom (rayclj.raylib.NPatchInfo/bottom$get seg)
+   :layout (rayclj.raylib.NPatchInfo/layout$get seg)])
+
 (defn get-npatch-info
   "NPatchInfo, n-patch layout info
   Rectangle source // Texture source rectangle
@@ -432,12 +546,7 @@
   int bottom // Bottom border offset
   int layout // Layout of the n-patch: 3x3, 1x3 or 3x1"
   [^MemorySegment seg]
-  {:source (get-rectangle (rayclj.raylib.NPatchInfo/source$slice seg)),
-   :left (rayclj.raylib.NPatchInfo/left$get seg),
-   :top (rayclj.raylib.NPatchInfo/top$get seg),
-   :right (rayclj.raylib.NPatchInfo/right$get seg),
-   :bottom (rayclj.raylib.NPatchInfo/bottom$get seg),
-   :layout (rayclj.raylib.NPatchInfo/layout$get seg)})
+  (->NPatchInfoView seg))
 
 (defn set-npatch-info
   "NPatchInfo, n-patch layout info
@@ -465,9 +574,11 @@
   int bottom // Bottom border offset
   int layout // Layout of the n-patch: 3x3, 1x3 or 3x1"
   [v]
-  (if (clojure.core/instance? MemorySegment v)
-    v
-    (set-npatch-info (memory/allocate (rayclj.raylib.NPatchInfo/$LAYOUT)) v)))
+  (cond (clojure.core/instance? MemorySegment v) v
+        (memory/view? v) (memory/segment v)
+        :else (set-npatch-info (memory/allocate
+                                 (rayclj.raylib.NPatchInfo/$LAYOUT))
+                               v)))
 
 (def npatch-info-array
   (array-fn (rayclj.raylib.NPatchInfo/$LAYOUT) set-npatch-info))
@@ -478,6 +589,13 @@
 (def set-npatch-info-array
   (set-array-fn (rayclj.raylib.NPatchInfo/$LAYOUT) set-npatch-info))
 
+(memory/defview GlyphInfoView
+  [:value (rayclj.raylib.GlyphInfo/value$get seg)
+   :offsetX (rayclj.raylib.GlyphInfo/offsetX$get seg)
+   :offsetY (rayclj.raylib.GlyphInfo/offsetY$get seg)
+   :advanceX (rayclj.raylib.GlyphInfo/advanceX$get seg)
+   :image (get-image (rayclj.raylib.GlyphInfo/image$slice seg))])
+
 (defn get-glyph-info
   "GlyphInfo, font characters glyphs info
   int value // Character value (Unicode)
@@ -486,11 +604,7 @@
   int advanceX // Character advance position X
   Image image // Character image data"
   [^MemorySegment seg]
-  {:value (rayclj.raylib.GlyphInfo/value$get seg),
-   :offsetX (rayclj.raylib.GlyphInfo/offsetX$get seg),
-   :offsetY (rayclj.raylib.GlyphInfo/offsetY$get seg),
-   :advanceX (rayclj.raylib.GlyphInfo/advanceX$get seg),
-   :image (get-image (rayclj.raylib.GlyphInfo/image$slice seg))})
+  (->GlyphInfoView seg))
 
 (defn set-glyph-info
   "GlyphInfo, font characters glyphs info
@@ -515,9 +629,11 @@
   int advanceX // Character advance position X
   Image image // Character image data"
   [v]
-  (if (clojure.core/instance? MemorySegment v)
-    v
-    (set-glyph-info (memory/allocate (rayclj.raylib.GlyphInfo/$LAYOUT)) v)))
+  (cond (clojure.core/instance? MemorySegment v) v
+        (memory/view? v) (memory/segment v)
+        :else (set-glyph-info (memory/allocate
+                                (rayclj.raylib.GlyphInfo/$LAYOUT))
+                              v)))
 
 (def glyph-info-array
   (array-fn (rayclj.raylib.GlyphInfo/$LAYOUT) set-glyph-info))
@@ -528,6 +644,16 @@
 (def set-glyph-info-array
   (set-array-fn (rayclj.raylib.GlyphInfo/$LAYOUT) set-glyph-info))
 
+(memory/defview FontView
+  [:base-size (rayclj.raylib.Font/baseSize$get seg)
+   :glyph-count (rayclj.raylib.Font/glyphCount$get seg)
+   :glyph-padding (rayclj.raylib.Font/glyphPadding$get seg)
+   :texture (get-texture (rayclj.raylib.Font/texture$slice seg))
+   :recs (get-rectangle-array (rayclj.raylib.Font/recs$get seg)
+                              (rayclj.raylib.Font/glyphCount$get seg))
+   :glyphs (get-glyph-info-array (rayclj.raylib.Font/glyphs$get seg)
+                                 (rayclj.raylib.Font/glyphCount$get seg))])
+
 (defn get-font
   "Font, font texture and GlyphInfo array data
   int baseSize // Base size (default chars height)
@@ -537,14 +663,7 @@
   Rectangle * recs // Rectangles in texture for the glyphs
   GlyphInfo * glyphs // Glyphs info data"
   [^MemorySegment seg]
-  (let [array-size (rayclj.raylib.Font/glyphCount$get seg)]
-    {:base-size (rayclj.raylib.Font/baseSize$get seg),
-     :glyph-count array-size,
-     :glyph-padding (rayclj.raylib.Font/glyphPadding$get seg),
-     :texture (get-texture (rayclj.raylib.Font/texture$slice seg)),
-     :recs (get-rectangle-array (rayclj.raylib.Font/recs$get seg) array-size),
-     :glyphs (get-glyph-info-array (rayclj.raylib.Font/glyphs$get seg)
-                                   array-size)}))
+  (->FontView seg))
 
 (defn set-font
   "Font, font texture and GlyphInfo array data
@@ -573,9 +692,9 @@
   Rectangle * recs // Rectangles in texture for the glyphs
   GlyphInfo * glyphs // Glyphs info data"
   [v]
-  (if (clojure.core/instance? MemorySegment v)
-    v
-    (set-font (memory/allocate (rayclj.raylib.Font/$LAYOUT)) v)))
+  (cond (clojure.core/instance? MemorySegment v) v
+        (memory/view? v) (memory/segment v)
+        :else (set-font (memory/allocate (rayclj.raylib.Font/$LAYOUT)) v)))
 
 (def font-array (array-fn (rayclj.raylib.Font/$LAYOUT) set-font))
 
@@ -583,6 +702,13 @@
 
 (def set-font-array (set-array-fn (rayclj.raylib.Font/$LAYOUT) set-font))
 
+(memory/defview Camera3DView
+  [:position (get-vector3 (rayclj.raylib.Camera3D/position$slice seg))
+   :target (get-vector3 (rayclj.raylib.Camera3D/target$slice seg))
+   :up (get-vector3 (rayclj.raylib.Camera3D/up$slice seg))
+   :fovy (rayclj.raylib.Camera3D/fovy$get seg)
+   :projection (rayclj.raylib.Camera3D/projection$get seg)])
+
 (defn get-camera3d
   "Camera, defines position/orientation in 3d space
   Vector3 position // Camera position
@@ -591,11 +717,7 @@
   float fovy // Camera field-of-view aperture in Y (degrees) in perspective, used as near plane width in orthographic
   int projection // Camera projection: CAMERA_PERSPECTIVE or CAMERA_ORTHOGRAPHIC"
   [^MemorySegment seg]
-  {:position (get-vector3 (rayclj.raylib.Camera3D/position$slice seg)),
-   :target (get-vector3 (rayclj.raylib.Camera3D/target$slice seg)),
-   :up (get-vector3 (rayclj.raylib.Camera3D/up$slice seg)),
-   :fovy (rayclj.raylib.Camera3D/fovy$get seg),
-   :projection (rayclj.raylib.Camera3D/projection$get seg)})
+  (->Camera3DView seg))
 
 (defn set-camera3d
   "Camera, defines position/orientation in 3d space
@@ -622,9 +744,10 @@
   float fovy // Camera field-of-view aperture in Y (degrees) in perspective, used as near plane width in orthographic
   int projection // Camera projection: CAMERA_PERSPECTIVE or CAMERA_ORTHOGRAPHIC"
   [v]
-  (if (clojure.core/instance? MemorySegment v)
-    v
-    (set-camera3d (memory/allocate (rayclj.raylib.Camera3D/$LAYOUT)) v)))
+  (cond (clojure.core/instance? MemorySegment v) v
+        (memory/view? v) (memory/segment v)
+        :else (set-camera3d (memory/allocate (rayclj.raylib.Camera3D/$LAYOUT))
+                            v)))
 
 (def camera3d-array (array-fn (rayclj.raylib.Camera3D/$LAYOUT) set-camera3d))
 
@@ -634,6 +757,12 @@
 (def set-camera3d-array
   (set-array-fn (rayclj.raylib.Camera3D/$LAYOUT) set-camera3d))
 
+(memory/defview Camera2DView
+  [:offset (get-vector2 (rayclj.raylib.Camera2D/offset$slice seg))
+   :target (get-vector2 (rayclj.raylib.Camera2D/target$slice seg))
+   :rotation (rayclj.raylib.Camera2D/rotation$get seg)
+   :zoom (rayclj.raylib.Camera2D/zoom$get seg)])
+
 (defn get-camera2d
   "Camera2D, defines position/orientation in 2d space
   Vector2 offset // Camera offset (displacement from target)
@@ -641,10 +770,7 @@
   float rotation // Camera rotation in degrees
   float zoom // Camera zoom (scaling), should be 1.0f by default"
   [^MemorySegment seg]
-  {:offset (get-vector2 (rayclj.raylib.Camera2D/offset$slice seg)),
-   :target (get-vector2 (rayclj.raylib.Camera2D/target$slice seg)),
-   :rotation (rayclj.raylib.Camera2D/rotation$get seg),
-   :zoom (rayclj.raylib.Camera2D/zoom$get seg)})
+  (->Camera2DView seg))
 
 (defn set-camera2d
   "Camera2D, defines position/orientation in 2d space
@@ -666,9 +792,10 @@
   float rotation // Camera rotation in degrees
   float zoom // Camera zoom (scaling), should be 1.0f by default"
   [v]
-  (if (clojure.core/instance? MemorySegment v)
-    v
-    (set-camera2d (memory/allocate (rayclj.raylib.Camera2D/$LAYOUT)) v)))
+  (cond (clojure.core/instance? MemorySegment v) v
+        (memory/view? v) (memory/segment v)
+        :else (set-camera2d (memory/allocate (rayclj.raylib.Camera2D/$LAYOUT))
+                            v)))
 
 (def camera2d-array (array-fn (rayclj.raylib.Camera2D/$LAYOUT) set-camera2d))
 
@@ -678,6 +805,23 @@
 (def set-camera2d-array
   (set-array-fn (rayclj.raylib.Camera2D/$LAYOUT) set-camera2d))
 
+(memory/defview MeshView
+  [:vertexCount (rayclj.raylib.Mesh/vertexCount$get seg)
+   :triangleCount (rayclj.raylib.Mesh/triangleCount$get seg)
+   :vertices (rayclj.raylib.Mesh/vertices$get seg)
+   :texcoords (rayclj.raylib.Mesh/texcoords$get seg)
+   :texcoords2 (rayclj.raylib.Mesh/texcoords2$get seg)
+   :normals (rayclj.raylib.Mesh/normals$get seg)
+   :tangents (rayclj.raylib.Mesh/tangents$get seg)
+   :colors (rayclj.raylib.Mesh/colors$get seg)
+   :indices (rayclj.raylib.Mesh/indices$get seg)
+   :animVertices (rayclj.raylib.Mesh/animVertices$get seg)
+   :animNormals (rayclj.raylib.Mesh/animNormals$get seg)
+   :boneIds (rayclj.raylib.Mesh/boneIds$get seg)
+   :boneWeights (rayclj.raylib.Mesh/boneWeights$get seg)
+   :vaoId (rayclj.raylib.Mesh/vaoId$get seg)
+   :vboId (rayclj.raylib.Mesh/vboId$get seg)])
+
 (defn get-mesh
   "Mesh, vertex data and vao/vbo
   int vertexCount // Number of vertices stored in arrays
@@ -696,21 +840,7 @@
   unsigned int vaoId // OpenGL Vertex Array Object id
   unsigned int * vboId // OpenGL Vertex Buffer Objects id (default vertex data)"
   [^MemorySegment seg]
-  {:vertexCount (rayclj.raylib.Mesh/vertexCount$get seg),
-   :triangleCount (rayclj.raylib.Mesh/triangleCount$get seg),
-   :vertices (rayclj.raylib.Mesh/vertices$get seg),
-   :texcoords (rayclj.raylib.Mesh/texcoords$get seg),
-   :texcoords2 (rayclj.raylib.Mesh/texcoords2$get seg),
-   :normals (rayclj.raylib.Mesh/normals$get seg),
-   :tangents (rayclj.raylib.Mesh/tangents$get seg),
-   :colors (rayclj.raylib.Mesh/colors$get seg),
-   :indices (rayclj.raylib.Mesh/indices$get seg),
-   :animVertices (rayclj.raylib.Mesh/animVertices$get seg),
-   :animNormals (rayclj.raylib.Mesh/animNormals$get seg),
-   :boneIds (rayclj.raylib.Mesh/boneIds$get seg),
-   :boneWeights (rayclj.raylib.Mesh/boneWeights$get seg),
-   :vaoId (rayclj.raylib.Mesh/vaoId$get seg),
-   :vboId (rayclj.raylib.Mesh/vboId$get seg)})
+  (->MeshView seg))
 
 (defn set-mesh
   "Mesh, vertex data and vao/vbo
@@ -768,9 +898,9 @@
   unsigned int vaoId // OpenGL Vertex Array Object id
   unsigned int * vboId // OpenGL Vertex Buffer Objects id (default vertex data)"
   [v]
-  (if (clojure.core/instance? MemorySegment v)
-    v
-    (set-mesh (memory/allocate (rayclj.raylib.Mesh/$LAYOUT)) v)))
+  (cond (clojure.core/instance? MemorySegment v) v
+        (memory/view? v) (memory/segment v)
+        :else (set-mesh (memory/allocate (rayclj.raylib.Mesh/$LAYOUT)) v)))
 
 (def mesh-array (array-fn (rayclj.raylib.Mesh/$LAYOUT) set-mesh))
 
@@ -778,14 +908,17 @@
 
 (def set-mesh-array (set-array-fn (rayclj.raylib.Mesh/$LAYOUT) set-mesh))
 
+(memory/defview ShaderView
+  [:id (rayclj.raylib.Shader/id$get seg)
+   :locs (get-int-array (rayclj.raylib.Shader/locs$get seg)
+                        gldefines/max-shader-locations)])
+
 (defn get-shader
   "Shader
   unsigned int id // Shader program id
   int * locs // Shader locations array (RL_MAX_SHADER_LOCATIONS)"
   [^MemorySegment seg]
-  {:id (rayclj.raylib.Shader/id$get seg),
-   :locs (get-int-array (rayclj.raylib.Shader/locs$get seg)
-                        gldefines/max-shader-locations)})
+  (->ShaderView seg))
 
 (defn set-shader
   "Shader
@@ -803,9 +936,9 @@
   unsigned int id // Shader program id
   int * locs // Shader locations array (RL_MAX_SHADER_LOCATIONS)"
   [v]
-  (if (clojure.core/instance? MemorySegment v)
-    v
-    (set-shader (memory/allocate (rayclj.raylib.Shader/$LAYOUT)) v)))
+  (cond (clojure.core/instance? MemorySegment v) v
+        (memory/view? v) (memory/segment v)
+        :else (set-shader (memory/allocate (rayclj.raylib.Shader/$LAYOUT)) v)))
 
 (def shader-array (array-fn (rayclj.raylib.Shader/$LAYOUT) set-shader))
 
@@ -813,15 +946,18 @@
 
 (def set-shader-array (set-array-fn (rayclj.raylib.Shader/$LAYOUT) set-shader))
 
+(memory/defview MaterialMapView
+  [:texture (get-texture (rayclj.raylib.MaterialMap/texture$slice seg))
+   :color (get-color (rayclj.raylib.MaterialMap/color$slice seg))
+   :value (rayclj.raylib.MaterialMap/value$get seg)])
+
 (defn get-material-map
   "MaterialMap
   Texture2D texture // Material map texture
   Color color // Material map color
   float value // Material map value"
   [^MemorySegment seg]
-  {:texture (get-texture (rayclj.raylib.MaterialMap/texture$slice seg)),
-   :color (get-color (rayclj.raylib.MaterialMap/color$slice seg)),
-   :value (rayclj.raylib.MaterialMap/value$get seg)})
+  (->MaterialMapView seg))
 
 (defn set-material-map
   "MaterialMap
@@ -840,9 +976,11 @@
   Color color // Material map color
   float value // Material map value"
   [v]
-  (if (clojure.core/instance? MemorySegment v)
-    v
-    (set-material-map (memory/allocate (rayclj.raylib.MaterialMap/$LAYOUT)) v)))
+  (cond (clojure.core/instance? MemorySegment v) v
+        (memory/view? v) (memory/segment v)
+        :else (set-material-map (memory/allocate
+                                  (rayclj.raylib.MaterialMap/$LAYOUT))
+                                v)))
 
 (def material-map-array
   (array-fn (rayclj.raylib.MaterialMap/$LAYOUT) set-material-map))
@@ -853,15 +991,18 @@
 (def set-material-map-array
   (set-array-fn (rayclj.raylib.MaterialMap/$LAYOUT) set-material-map))
 
+(memory/defview MaterialView
+  [:shader (get-shader (rayclj.raylib.Material/shader$slice seg))
+   :maps (rayclj.raylib.Material/maps$get seg)
+   :params (get-float-array (rayclj.raylib.Material/params$slice seg) 4)])
+
 (defn get-material
   "Material, includes shader and maps
   Shader shader // Material shader
   MaterialMap * maps // Material maps array (MAX_MATERIAL_MAPS)
   float[4] params // Material generic parameters (if required)"
   [^MemorySegment seg]
-  {:shader (get-shader (rayclj.raylib.Material/shader$slice seg)),
-   :maps (rayclj.raylib.Material/maps$get seg),
-   :params (get-float-array (rayclj.raylib.Material/params$slice seg) 4)})
+  (->MaterialView seg))
 
 (defn set-material
   "Material, includes shader and maps
@@ -880,9 +1021,10 @@
   MaterialMap * maps // Material maps array (MAX_MATERIAL_MAPS)
   float[4] params // Material generic parameters (if required)"
   [v]
-  (if (clojure.core/instance? MemorySegment v)
-    v
-    (set-material (memory/allocate (rayclj.raylib.Material/$LAYOUT)) v)))
+  (cond (clojure.core/instance? MemorySegment v) v
+        (memory/view? v) (memory/segment v)
+        :else (set-material (memory/allocate (rayclj.raylib.Material/$LAYOUT))
+                            v)))
 
 (def material-array (array-fn (rayclj.raylib.Material/$LAYOUT) set-material))
 
@@ -892,15 +1034,18 @@
 (def set-material-array
   (set-array-fn (rayclj.raylib.Material/$LAYOUT) set-material))
 
+(memory/defview TransformView
+  [:translation (get-vector3 (rayclj.raylib.Transform/translation$slice seg))
+   :rotation (get-vector4 (rayclj.raylib.Transform/rotation$slice seg))
+   :scale (get-vector3 (rayclj.raylib.Transform/scale$slice seg))])
+
 (defn get-transform
   "Transform, vertex transformation data
   Vector3 translation // Translation
   Quaternion rotation // Rotation
   Vector3 scale // Scale"
   [^MemorySegment seg]
-  {:translation (get-vector3 (rayclj.raylib.Transform/translation$slice seg)),
-   :rotation (get-vector4 (rayclj.raylib.Transform/rotation$slice seg)),
-   :scale (get-vector3 (rayclj.raylib.Transform/scale$slice seg))})
+  (->TransformView seg))
 
 (defn set-transform
   "Transform, vertex transformation data
@@ -919,9 +1064,10 @@
   Quaternion rotation // Rotation
   Vector3 scale // Scale"
   [v]
-  (if (clojure.core/instance? MemorySegment v)
-    v
-    (set-transform (memory/allocate (rayclj.raylib.Transform/$LAYOUT)) v)))
+  (cond (clojure.core/instance? MemorySegment v) v
+        (memory/view? v) (memory/segment v)
+        :else (set-transform (memory/allocate (rayclj.raylib.Transform/$LAYOUT))
+                             v)))
 
 (def transform-array (array-fn (rayclj.raylib.Transform/$LAYOUT) set-transform))
 
@@ -931,13 +1077,16 @@
 (def set-transform-array
   (set-array-fn (rayclj.raylib.Transform/$LAYOUT) set-transform))
 
+(memory/defview BoneInfoView
+  [:name (get-char-array (rayclj.raylib.BoneInfo/name$slice seg) 32)
+   :parent (rayclj.raylib.BoneInfo/parent$get seg)])
+
 (defn get-bone-info
   "Bone, skeletal animation bone
   char[32] name // Bone name
   int parent // Bone parent"
   [^MemorySegment seg]
-  {:name (get-char-array (rayclj.raylib.BoneInfo/name$slice seg) 32),
-   :parent (rayclj.raylib.BoneInfo/parent$get seg)})
+  (->BoneInfoView seg))
 
 (defn set-bone-info
   "Bone, skeletal animation bone
@@ -953,9 +1102,10 @@
   char[32] name // Bone name
   int parent // Bone parent"
   [v]
-  (if (clojure.core/instance? MemorySegment v)
-    v
-    (set-bone-info (memory/allocate (rayclj.raylib.BoneInfo/$LAYOUT)) v)))
+  (cond (clojure.core/instance? MemorySegment v) v
+        (memory/view? v) (memory/segment v)
+        :else (set-bone-info (memory/allocate (rayclj.raylib.BoneInfo/$LAYOUT))
+                             v)))
 
 (def bone-info-array (array-fn (rayclj.raylib.BoneInfo/$LAYOUT) set-bone-info))
 
@@ -965,6 +1115,17 @@
 (def set-bone-info-array
   (set-array-fn (rayclj.raylib.BoneInfo/$LAYOUT) set-bone-info))
 
+(memory/defview ModelView
+  [:transform (get-matrix (rayclj.raylib.Model/transform$slice seg))
+   :meshCount (rayclj.raylib.Model/meshCount$get seg)
+   :materialCount (rayclj.raylib.Model/materialCount$get seg)
+   :meshes (rayclj.raylib.Model/meshes$get seg)
+   :materials (rayclj.raylib.Model/materials$get seg)
+   :meshMaterial (rayclj.raylib.Model/meshMaterial$get seg)
+   :boneCount (rayclj.raylib.Model/boneCount$get seg)
+   :bones (rayclj.raylib.Model/bones$get seg)
+   :bindPose (rayclj.raylib.Model/bindPose$get seg)])
+
 (defn get-model
   "Model, meshes, materials and animation data
   Matrix transform // Local transform matrix
@@ -977,15 +1138,7 @@
   BoneInfo * bones // Bones information (skeleton)
   Transform * bindPose // Bones base transformation (pose)"
   [^MemorySegment seg]
-  {:transform (get-matrix (rayclj.raylib.Model/transform$slice seg)),
-   :meshCount (rayclj.raylib.Model/meshCount$get seg),
-   :materialCount (rayclj.raylib.Model/materialCount$get seg),
-   :meshes (rayclj.raylib.Model/meshes$get seg),
-   :materials (rayclj.raylib.Model/materials$get seg),
-   :meshMaterial (rayclj.raylib.Model/meshMaterial$get seg),
-   :boneCount (rayclj.raylib.Model/boneCount$get seg),
-   :bones (rayclj.raylib.Model/bones$get seg),
-   :bindPose (rayclj.raylib.Model/bindPose$get seg)})
+  (->ModelView seg))
 
 (defn set-model
   "Model, meshes, materials and animation data
@@ -1024,9 +1177,9 @@
   BoneInfo * bones // Bones information (skeleton)
   Transform * bindPose // Bones base transformation (pose)"
   [v]
-  (if (clojure.core/instance? MemorySegment v)
-    v
-    (set-model (memory/allocate (rayclj.raylib.Model/$LAYOUT)) v)))
+  (cond (clojure.core/instance? MemorySegment v) v
+        (memory/view? v) (memory/segment v)
+        :else (set-model (memory/allocate (rayclj.raylib.Model/$LAYOUT)) v)))
 
 (def model-array (array-fn (rayclj.raylib.Model/$LAYOUT) set-model))
 
@@ -1034,6 +1187,13 @@
 
 (def set-model-array (set-array-fn (rayclj.raylib.Model/$LAYOUT) set-model))
 
+(memory/defview ModelAnimationView
+  [:boneCount (rayclj.raylib.ModelAnimation/boneCount$get seg)
+   :frameCount (rayclj.raylib.ModelAnimation/frameCount$get seg)
+   :bones (rayclj.raylib.ModelAnimation/bones$get seg)
+   :framePoses (rayclj.raylib.ModelAnimation/framePoses$get seg)
+   :name (get-char-array (rayclj.raylib.ModelAnimation/name$slice seg) 32)])
+
 (defn get-model-animation
   "ModelAnimation
   int boneCount // Number of bones
@@ -1042,11 +1202,7 @@
   Transform ** framePoses // Poses array by frame
   char[32] name // Animation name"
   [^MemorySegment seg]
-  {:boneCount (rayclj.raylib.ModelAnimation/boneCount$get seg),
-   :frameCount (rayclj.raylib.ModelAnimation/frameCount$get seg),
-   :bones (rayclj.raylib.ModelAnimation/bones$get seg),
-   :framePoses (rayclj.raylib.ModelAnimation/framePoses$get seg),
-   :name (get-char-array (rayclj.raylib.ModelAnimation/name$slice seg) 32)})
+  (->ModelAnimationView seg))
 
 (defn set-model-animation
   "ModelAnimation
@@ -1071,11 +1227,11 @@
   Transform ** framePoses // Poses array by frame
   char[32] name // Animation name"
   [v]
-  (if (clojure.core/instance? MemorySegment v)
-    v
-    (set-model-animation (memory/allocate
-                           (rayclj.raylib.ModelAnimation/$LAYOUT))
-                         v)))
+  (cond (clojure.core/instance? MemorySegment v) v
+        (memory/view? v) (memory/segment v)
+        :else (set-model-animation (memory/allocate
+                                     (rayclj.raylib.ModelAnimation/$LAYOUT))
+                                   v)))
 
 (def model-animation-array
   (array-fn (rayclj.raylib.ModelAnimation/$LAYOUT) set-model-animation))
@@ -1086,13 +1242,16 @@
 (def set-model-animation-array
   (set-array-fn (rayclj.raylib.ModelAnimation/$LAYOUT) set-model-animation))
 
+(memory/defview RayView
+  [:position (get-vector3 (rayclj.raylib.Ray/position$slice seg))
+   :direction (get-vector3 (rayclj.raylib.Ray/direction$slice seg))])
+
 (defn get-ray
   "Ray, ray for raycasting
   Vector3 position // Ray position (origin)
   Vector3 direction // Ray direction"
   [^MemorySegment seg]
-  {:position (get-vector3 (rayclj.raylib.Ray/position$slice seg)),
-   :direction (get-vector3 (rayclj.raylib.Ray/direction$slice seg))})
+  (->RayView seg))
 
 (defn set-ray
   "Ray, ray for raycasting
@@ -1108,9 +1267,9 @@
   Vector3 position // Ray position (origin)
   Vector3 direction // Ray direction"
   [v]
-  (if (clojure.core/instance? MemorySegment v)
-    v
-    (set-ray (memory/allocate (rayclj.raylib.Ray/$LAYOUT)) v)))
+  (cond (clojure.core/instance? MemorySegment v) v
+        (memory/view? v) (memory/segment v)
+        :else (set-ray (memory/allocate (rayclj.raylib.Ray/$LAYOUT)) v)))
 
 (def ray-array (array-fn (rayclj.raylib.Ray/$LAYOUT) set-ray))
 
@@ -1118,6 +1277,12 @@
 
 (def set-ray-array (set-array-fn (rayclj.raylib.Ray/$LAYOUT) set-ray))
 
+(memory/defview RayCollisionView
+  [:hit (rayclj.raylib.RayCollision/hit$get seg)
+   :distance (rayclj.raylib.RayCollision/distance$get seg)
+   :point (get-vector3 (rayclj.raylib.RayCollision/point$slice seg))
+   :normal (get-vector3 (rayclj.raylib.RayCollision/normal$slice seg))])
+
 (defn get-ray-collision
   "RayCollision, ray hit information
   bool hit // Did the ray hit something?
@@ -1125,10 +1290,7 @@
   Vector3 point // Point of the nearest hit
   Vector3 normal // Surface normal of hit"
   [^MemorySegment seg]
-  {:hit (rayclj.raylib.RayCollision/hit$get seg),
-   :distance (rayclj.raylib.RayCollision/distance$get seg),
-   :point (get-vector3 (rayclj.raylib.RayCollision/point$slice seg)),
-   :normal (get-vector3 (rayclj.raylib.RayCollision/normal$slice seg))})
+  (->RayCollisionView seg))
 
 (defn set-ray-collision
   "RayCollision, ray hit information
@@ -1150,10 +1312,11 @@
   Vector3 point // Point of the nearest hit
   Vector3 normal // Surface normal of hit"
   [v]
-  (if (clojure.core/instance? MemorySegment v)
-    v
-    (set-ray-collision (memory/allocate (rayclj.raylib.RayCollision/$LAYOUT))
-                       v)))
+  (cond (clojure.core/instance? MemorySegment v) v
+        (memory/view? v) (memory/segment v)
+        :else (set-ray-collision (memory/allocate
+                                   (rayclj.raylib.RayCollision/$LAYOUT))
+                                 v)))
 
 (def ray-collision-array
   (array-fn (rayclj.raylib.RayCollision/$LAYOUT) set-ray-collision))
@@ -1164,13 +1327,16 @@
 (def set-ray-collision-array
   (set-array-fn (rayclj.raylib.RayCollision/$LAYOUT) set-ray-collision))
 
+(memory/defview BoundingBoxView
+  [:min (get-vector3 (rayclj.raylib.BoundingBox/min$slice seg))
+   :max (get-vector3 (rayclj.raylib.BoundingBox/max$slice seg))])
+
 (defn get-bounding-box
   "BoundingBox
   Vector3 min // Minimum vertex box-corner
   Vector3 max // Maximum vertex box-corner"
   [^MemorySegment seg]
-  {:min (get-vector3 (rayclj.raylib.BoundingBox/min$slice seg)),
-   :max (get-vector3 (rayclj.raylib.BoundingBox/max$slice seg))})
+  (->BoundingBoxView seg))
 
 (defn set-bounding-box
   "BoundingBox
@@ -1186,9 +1352,11 @@
   Vector3 min // Minimum vertex box-corner
   Vector3 max // Maximum vertex box-corner"
   [v]
-  (if (clojure.core/instance? MemorySegment v)
-    v
-    (set-bounding-box (memory/allocate (rayclj.raylib.BoundingBox/$LAYOUT)) v)))
+  (cond (clojure.core/instance? MemorySegment v) v
+        (memory/view? v) (memory/segment v)
+        :else (set-bounding-box (memory/allocate
+                                  (rayclj.raylib.BoundingBox/$LAYOUT))
+                                v)))
 
 (def bounding-box-array
   (array-fn (rayclj.raylib.BoundingBox/$LAYOUT) set-bounding-box))
@@ -1199,6 +1367,13 @@
 (def set-bounding-box-array
   (set-array-fn (rayclj.raylib.BoundingBox/$LAYOUT) set-bounding-box))
 
+(memory/defview WaveView
+  [:frameCount (rayclj.raylib.Wave/frameCount$get seg)
+   :sampleRate (rayclj.raylib.Wave/sampleRate$get seg)
+   :sampleSize (rayclj.raylib.Wave/sampleSize$get seg)
+   :channels (rayclj.raylib.Wave/channels$get seg)
+   :data (rayclj.raylib.Wave/data$get seg)])
+
 (defn get-wave
   "Wave, audio wave data
   unsigned int frameCount // Total number of frames (considering channels)
@@ -1207,11 +1382,7 @@
   unsigned int channels // Number of channels (1-mono, 2-stereo, ...)
   void * data // Buffer data pointer"
   [^MemorySegment seg]
-  {:frameCount (rayclj.raylib.Wave/frameCount$get seg),
-   :sampleRate (rayclj.raylib.Wave/sampleRate$get seg),
-   :sampleSize (rayclj.raylib.Wave/sampleSize$get seg),
-   :channels (rayclj.raylib.Wave/channels$get seg),
-   :data (rayclj.raylib.Wave/data$get seg)})
+  (->WaveView seg))
 
 (defn set-wave
   "Wave, audio wave data
@@ -1236,9 +1407,9 @@
   unsigned int channels // Number of channels (1-mono, 2-stereo, ...)
   void * data // Buffer data pointer"
   [v]
-  (if (clojure.core/instance? MemorySegment v)
-    v
-    (set-wave (memory/allocate (rayclj.raylib.Wave/$LAYOUT)) v)))
+  (cond (clojure.core/instance? MemorySegment v) v
+        (memory/view? v) (memory/segment v)
+        :else (set-wave (memory/allocate (rayclj.raylib.Wave/$LAYOUT)) v)))
 
 (def wave-array (array-fn (rayclj.raylib.Wave/$LAYOUT) set-wave))
 
@@ -1246,6 +1417,13 @@
 
 (def set-wave-array (set-array-fn (rayclj.raylib.Wave/$LAYOUT) set-wave))
 
+(memory/defview AudioStreamView
+  [:buffer (rayclj.raylib.AudioStream/buffer$get seg)
+   :processor (rayclj.raylib.AudioStream/processor$get seg)
+   :sampleRate (rayclj.raylib.AudioStream/sampleRate$get seg)
+   :sampleSize (rayclj.raylib.AudioStream/sampleSize$get seg)
+   :channels (rayclj.raylib.AudioStream/channels$get seg)])
+
 (defn get-audio-stream
   "AudioStream, custom audio stream
   rAudioBuffer * buffer // Pointer to internal data used by the audio system
@@ -1254,11 +1432,7 @@
   unsigned int sampleSize // Bit depth (bits per sample): 8, 16, 32 (24 not supported)
   unsigned int channels // Number of channels (1-mono, 2-stereo, ...)"
   [^MemorySegment seg]
-  {:buffer (rayclj.raylib.AudioStream/buffer$get seg),
-   :processor (rayclj.raylib.AudioStream/processor$get seg),
-   :sampleRate (rayclj.raylib.AudioStream/sampleRate$get seg),
-   :sampleSize (rayclj.raylib.AudioStream/sampleSize$get seg),
-   :channels (rayclj.raylib.AudioStream/channels$get seg)})
+  (->AudioStreamView seg))
 
 (defn set-audio-stream
   "AudioStream, custom audio stream
@@ -1283,9 +1457,11 @@
   unsigned int sampleSize // Bit depth (bits per sample): 8, 16, 32 (24 not supported)
   unsigned int channels // Number of channels (1-mono, 2-stereo, ...)"
   [v]
-  (if (clojure.core/instance? MemorySegment v)
-    v
-    (set-audio-stream (memory/allocate (rayclj.raylib.AudioStream/$LAYOUT)) v)))
+  (cond (clojure.core/instance? MemorySegment v) v
+        (memory/view? v) (memory/segment v)
+        :else (set-audio-stream (memory/allocate
+                                  (rayclj.raylib.AudioStream/$LAYOUT))
+                                v)))
 
 (def audio-stream-array
   (array-fn (rayclj.raylib.AudioStream/$LAYOUT) set-audio-stream))
@@ -1296,13 +1472,16 @@
 (def set-audio-stream-array
   (set-array-fn (rayclj.raylib.AudioStream/$LAYOUT) set-audio-stream))
 
+(memory/defview SoundView
+  [:stream (get-audio-stream (rayclj.raylib.Sound/stream$slice seg))
+   :frameCount (rayclj.raylib.Sound/frameCount$get seg)])
+
 (defn get-sound
   "Sound
   AudioStream stream // Audio stream
   unsigned int frameCount // Total number of frames (considering channels)"
   [^MemorySegment seg]
-  {:stream (get-audio-stream (rayclj.raylib.Sound/stream$slice seg)),
-   :frameCount (rayclj.raylib.Sound/frameCount$get seg)})
+  (->SoundView seg))
 
 (defn set-sound
   "Sound
@@ -1318,9 +1497,9 @@
   AudioStream stream // Audio stream
   unsigned int frameCount // Total number of frames (considering channels)"
   [v]
-  (if (clojure.core/instance? MemorySegment v)
-    v
-    (set-sound (memory/allocate (rayclj.raylib.Sound/$LAYOUT)) v)))
+  (cond (clojure.core/instance? MemorySegment v) v
+        (memory/view? v) (memory/segment v)
+        :else (set-sound (memory/allocate (rayclj.raylib.Sound/$LAYOUT)) v)))
 
 (def sound-array (array-fn (rayclj.raylib.Sound/$LAYOUT) set-sound))
 
@@ -1328,6 +1507,13 @@
 
 (def set-sound-array (set-array-fn (rayclj.raylib.Sound/$LAYOUT) set-sound))
 
+(memory/defview MusicView
+  [:stream (get-audio-stream (rayclj.raylib.Music/stream$slice seg))
+   :frameCount (rayclj.raylib.Music/frameCount$get seg)
+   :looping (rayclj.raylib.Music/looping$get seg)
+   :ctxType (rayclj.raylib.Music/ctxType$get seg)
+   :ctxData (rayclj.raylib.Music/ctxData$get seg)])
+
 (defn get-music
   "Music, audio stream, anything longer than ~10 seconds should be streamed
   AudioStream stream // Audio stream
@@ -1336,11 +1522,7 @@
   int ctxType // Type of music context (audio filetype)
   void * ctxData // Audio context data, depends on type"
   [^MemorySegment seg]
-  {:stream (get-audio-stream (rayclj.raylib.Music/stream$slice seg)),
-   :frameCount (rayclj.raylib.Music/frameCount$get seg),
-   :looping (rayclj.raylib.Music/looping$get seg),
-   :ctxType (rayclj.raylib.Music/ctxType$get seg),
-   :ctxData (rayclj.raylib.Music/ctxData$get seg)})
+  (->MusicView seg))
 
 (defn set-music
   "Music, audio stream, anything longer than ~10 seconds should be streamed
@@ -1365,9 +1547,9 @@
   int ctxType // Type of music context (audio filetype)
   void * ctxData // Audio context data, depends on type"
   [v]
-  (if (clojure.core/instance? MemorySegment v)
-    v
-    (set-music (memory/allocate (rayclj.raylib.Music/$LAYOUT)) v)))
+  (cond (clojure.core/instance? MemorySegment v) v
+        (memory/view? v) (memory/segment v)
+        :else (set-music (memory/allocate (rayclj.raylib.Music/$LAYOUT)) v)))
 
 (def music-array (array-fn (rayclj.raylib.Music/$LAYOUT) set-music))
 
@@ -1375,6 +1557,26 @@
 
 (def set-music-array (set-array-fn (rayclj.raylib.Music/$LAYOUT) set-music))
 
+(memory/defview VrDeviceInfoView
+  [:hResolution (rayclj.raylib.VrDeviceInfo/hResolution$get seg)
+   :vResolution (rayclj.raylib.VrDeviceInfo/vResolution$get seg)
+   :hScreenSize (rayclj.raylib.VrDeviceInfo/hScreenSize$get seg)
+   :vScreenSize (rayclj.raylib.VrDeviceInfo/vScreenSize$get seg)
+   :vScreenCenter (rayclj.raylib.VrDeviceInfo/vScreenCenter$get seg)
+   :eyeToScreenDistance (rayclj.raylib.VrDeviceInfo/eyeToScreenDistance$get
+                          seg)
+   :lensSeparationDistance
+     (rayclj.raylib.VrDeviceInfo/lensSeparationDistance$get seg)
+   :interpupillaryDistance
+     (rayclj.raylib.VrDeviceInfo/interpupillaryDistance$get seg)
+   :lensDistortionValues
+     (get-float-array (rayclj.raylib.VrDeviceInfo/lensDistortionValues$slice
+                        seg)
+                      4)
+   :chromaAbCorrection
+     (get-float-array (rayclj.raylib.VrDeviceInfo/chromaAbCorrection$slice seg)
+                      4)])
+
 (defn get-vr-device-info
   "VrDeviceInfo, Head-Mounted-Display device parameters
   int hResolution // Horizontal resolution in pixels
@@ -1388,24 +1590,7 @@
   float[4] lensDistortionValues // Lens distortion constant parameters
   float[4] chromaAbCorrection // Chromatic aberration correction parameters"
   [^MemorySegment seg]
-  {:hResolution (rayclj.raylib.VrDeviceInfo/hResolution$get seg),
-   :vResolution (rayclj.raylib.VrDeviceInfo/vResolution$get seg),
-   :hScreenSize (rayclj.raylib.VrDeviceInfo/hScreenSize$get seg),
-   :vScreenSize (rayclj.raylib.VrDeviceInfo/vScreenSize$get seg),
-   :vScreenCenter (rayclj.raylib.VrDeviceInfo/vScreenCenter$get seg),
-   :eyeToScreenDistance (rayclj.raylib.VrDeviceInfo/eyeToScreenDistance$get
-                          seg),
-   :lensSeparationDistance
-     (rayclj.raylib.VrDeviceInfo/lensSeparationDistance$get seg),
-   :interpupillaryDistance
-     (rayclj.raylib.VrDeviceInfo/interpupillaryDistance$get seg),
-   :lensDistortionValues
-     (get-float-array (rayclj.raylib.VrDeviceInfo/lensDistortionValues$slice
-                        seg)
-                      4),
-   :chromaAbCorrection
-     (get-float-array (rayclj.raylib.VrDeviceInfo/chromaAbCorrection$slice seg)
-                      4)})
+  (->VrDeviceInfoView seg))
 
 (defn set-vr-device-info
   "VrDeviceInfo, Head-Mounted-Display device parameters
@@ -1454,10 +1639,11 @@
   float[4] lensDistortionValues // Lens distortion constant parameters
   float[4] chromaAbCorrection // Chromatic aberration correction parameters"
   [v]
-  (if (clojure.core/instance? MemorySegment v)
-    v
-    (set-vr-device-info (memory/allocate (rayclj.raylib.VrDeviceInfo/$LAYOUT))
-                        v)))
+  (cond (clojure.core/instance? MemorySegment v) v
+        (memory/view? v) (memory/segment v)
+        :else (set-vr-device-info (memory/allocate
+                                    (rayclj.raylib.VrDeviceInfo/$LAYOUT))
+                                  v)))
 
 (def vr-device-info-array
   (array-fn (rayclj.raylib.VrDeviceInfo/$LAYOUT) set-vr-device-info))
@@ -1468,6 +1654,27 @@
 (def set-vr-device-info-array
   (set-array-fn (rayclj.raylib.VrDeviceInfo/$LAYOUT) set-vr-device-info))
 
+(memory/defview VrStereoConfigView
+  [:projection
+     (get-matrix-array (rayclj.raylib.VrStereoConfig/projection$slice seg) 2)
+   :viewOffset
+     (get-matrix-array (rayclj.raylib.VrStereoConfig/viewOffset$slice seg) 2)
+   :leftLensCenter (get-float-array
+                     (rayclj.raylib.VrStereoConfig/leftLensCenter$slice seg)
+                     2)
+   :rightLensCenter (get-float-array
+                      (rayclj.raylib.VrStereoConfig/rightLensCenter$slice seg)
+                      2)
+   :leftScreenCenter (get-float-array
+                       (rayclj.raylib.VrStereoConfig/leftScreenCenter$slice seg)
+                       2)
+   :rightScreenCenter
+     (get-float-array (rayclj.raylib.VrStereoConfig/rightScreenCenter$slice seg)
+                      2)
+   :scale (get-float-array (rayclj.raylib.VrStereoConfig/scale$slice seg) 2)
+   :scaleIn (get-float-array (rayclj.raylib.VrStereoConfig/scaleIn$slice seg)
+                             2)])
+
 (defn get-vr-stereo-config
   "VrStereoConfig, VR stereo rendering configuration for simulator
   Matrix[2] projection // VR projection matrices (per eye)
@@ -1479,25 +1686,7 @@
   float[2] scale // VR distortion scale
   float[2] scaleIn // VR distortion scale in"
   [^MemorySegment seg]
-  {:projection
-     (get-matrix-array (rayclj.raylib.VrStereoConfig/projection$slice seg) 2),
-   :viewOffset
-     (get-matrix-array (rayclj.raylib.VrStereoConfig/viewOffset$slice seg) 2),
-   :leftLensCenter (get-float-array
-                     (rayclj.raylib.VrStereoConfig/leftLensCenter$slice seg)
-                     2),
-   :rightLensCenter (get-float-array
-                      (rayclj.raylib.VrStereoConfig/rightLensCenter$slice seg)
-                      2),
-   :leftScreenCenter (get-float-array
-                       (rayclj.raylib.VrStereoConfig/leftScreenCenter$slice seg)
-                       2),
-   :rightScreenCenter
-     (get-float-array (rayclj.raylib.VrStereoConfig/rightScreenCenter$slice seg)
-                      2),
-   :scale (get-float-array (rayclj.raylib.VrStereoConfig/scale$slice seg) 2),
-   :scaleIn (get-float-array (rayclj.raylib.VrStereoConfig/scaleIn$slice seg)
-                             2)})
+  (->VrStereoConfigView seg))
 
 (defn set-vr-stereo-config
   "VrStereoConfig, VR stereo rendering configuration for simulator
@@ -1545,11 +1734,11 @@
   float[2] scale // VR distortion scale
   float[2] scaleIn // VR distortion scale in"
   [v]
-  (if (clojure.core/instance? MemorySegment v)
-    v
-    (set-vr-stereo-config (memory/allocate
-                            (rayclj.raylib.VrStereoConfig/$LAYOUT))
-                          v)))
+  (cond (clojure.core/instance? MemorySegment v) v
+        (memory/view? v) (memory/segment v)
+        :else (set-vr-stereo-config (memory/allocate
+                                      (rayclj.raylib.VrStereoConfig/$LAYOUT))
+                                    v)))
 
 (def vr-stereo-config-array
   (array-fn (rayclj.raylib.VrStereoConfig/$LAYOUT) set-vr-stereo-config))
@@ -1560,15 +1749,18 @@
 (def set-vr-stereo-config-array
   (set-array-fn (rayclj.raylib.VrStereoConfig/$LAYOUT) set-vr-stereo-config))
 
+(memory/defview FilePathListView
+  [:capacity (rayclj.raylib.FilePathList/capacity$get seg)
+   :count (rayclj.raylib.FilePathList/count$get seg)
+   :paths (rayclj.raylib.FilePathList/paths$get seg)])
+
 (defn get-file-path-list
   "File path list
   unsigned int capacity // Filepaths max entries
   unsigned int count // Filepaths entries count
   char ** paths // Filepaths entries"
   [^MemorySegment seg]
-  {:capacity (rayclj.raylib.FilePathList/capacity$get seg),
-   :count (rayclj.raylib.FilePathList/count$get seg),
-   :paths (rayclj.raylib.FilePathList/paths$get seg)})
+  (->FilePathListView seg))
 
 (defn set-file-path-list
   "File path list
@@ -1587,10 +1779,11 @@
   unsigned int count // Filepaths entries count
   char ** paths // Filepaths entries"
   [v]
-  (if (clojure.core/instance? MemorySegment v)
-    v
-    (set-file-path-list (memory/allocate (rayclj.raylib.FilePathList/$LAYOUT))
-                        v)))
+  (cond (clojure.core/instance? MemorySegment v) v
+        (memory/view? v) (memory/segment v)
+        :else (set-file-path-list (memory/allocate
+                                    (rayclj.raylib.FilePathList/$LAYOUT))
+                                  v)))
 
 (def file-path-list-array
   (array-fn (rayclj.raylib.FilePathList/$LAYOUT) set-file-path-list))
@@ -1601,15 +1794,18 @@
 (def set-file-path-list-array
   (set-array-fn (rayclj.raylib.FilePathList/$LAYOUT) set-file-path-list))
 
+(memory/defview AutomationEventView
+  [:frame (rayclj.raylib.AutomationEvent/frame$get seg)
+   :type (rayclj.raylib.AutomationEvent/type$get seg)
+   :params (get-int-array (rayclj.raylib.AutomationEvent/params$slice seg) 4)])
+
 (defn get-automation-event
   "Automation event
   unsigned int frame // Event frame
   unsigned int type // Event type (AutomationEventType)
   int[4] params // Event parameters (if required)"
   [^MemorySegment seg]
-  {:frame (rayclj.raylib.AutomationEvent/frame$get seg),
-   :type (rayclj.raylib.AutomationEvent/type$get seg),
-   :params (get-int-array (rayclj.raylib.AutomationEvent/params$slice seg) 4)})
+  (->AutomationEventView seg))
 
 (defn set-automation-event
   "Automation event
@@ -1628,11 +1824,11 @@
   unsigned int type // Event type (AutomationEventType)
   int[4] params // Event parameters (if required)"
   [v]
-  (if (clojure.core/instance? MemorySegment v)
-    v
-    (set-automation-event (memory/allocate
-                            (rayclj.raylib.AutomationEvent/$LAYOUT))
-                          v)))
+  (cond (clojure.core/instance? MemorySegment v) v
+        (memory/view? v) (memory/segment v)
+        :else (set-automation-event (memory/allocate
+                                      (rayclj.raylib.AutomationEvent/$LAYOUT))
+                                    v)))
 
 (def automation-event-array
   (array-fn (rayclj.raylib.AutomationEvent/$LAYOUT) set-automation-event))
@@ -1643,15 +1839,18 @@
 (def set-automation-event-array
   (set-array-fn (rayclj.raylib.AutomationEvent/$LAYOUT) set-automation-event))
 
+(memory/defview AutomationEventListView
+  [:capacity (rayclj.raylib.AutomationEventList/capacity$get seg)
+   :count (rayclj.raylib.AutomationEventList/count$get seg)
+   :events (rayclj.raylib.AutomationEventList/events$get seg)])
+
 (defn get-automation-event-list
   "Automation event list
   unsigned int capacity // Events max entries (MAX_AUTOMATION_EVENTS)
   unsigned int count // Events entries count
   AutomationEvent * events // Events entries"
   [^MemorySegment seg]
-  {:capacity (rayclj.raylib.AutomationEventList/capacity$get seg),
-   :count (rayclj.raylib.AutomationEventList/count$get seg),
-   :events (rayclj.raylib.AutomationEventList/events$get seg)})
+  (->AutomationEventListView seg))
 
 (defn set-automation-event-list
   "Automation event list
@@ -1670,11 +1869,11 @@
   unsigned int count // Events entries count
   AutomationEvent * events // Events entries"
   [v]
-  (if (clojure.core/instance? MemorySegment v)
-    v
-    (set-automation-event-list (memory/allocate
-                                 (rayclj.raylib.AutomationEventList/$LAYOUT))
-                               v)))
+  (cond (clojure.core/instance? MemorySegment v) v
+        (memory/view? v) (memory/segment v)
+        :else (set-automation-event-list (memory/allocate
+                                           (rayclj.raylib.AutomationEventList/$LAYOUT))
+                                         v)))
 
 (def automation-event-list-array
   (array-fn (rayclj.raylib.AutomationEventList/$LAYOUT)
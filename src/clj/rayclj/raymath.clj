@@ -0,0 +1,1015 @@
+(ns rayclj.raymath
+  "Vector, quaternion and matrix math on the JVM. See rayclj.RayMath.
+  Functions returning a scalar take the components or struct segments.
+  The others write their result into out and return it. out is a struct segment,
+  or a float array followed by offsets (in floats) for every array argument.
+  All functions are inlined into direct static calls, so primitive arguments stay unboxed."
+  (:import [rayclj RayMath]
+           [java.lang.foreign MemorySegment]))
+
+(set! *warn-on-reflection* true)
+
+;;
+;; Scalars
+;;
+
+(defn clamp
+  {:inline (fn [value min max] `(RayMath/clamp ~value ~min ~max))}
+  [value min max]
+  (RayMath/clamp (float value) (float min) (float max)))
+
+(defn lerp
+  {:inline (fn [start end amount] `(RayMath/lerp ~start ~end ~amount))}
+  [start end amount]
+  (RayMath/lerp (float start) (float end) (float amount)))
+
+(defn normalize
+  "Maps value from start..end to 0..1"
+  {:inline (fn [value start end] `(RayMath/normalize ~value ~start ~end))}
+  [value start end]
+  (RayMath/normalize (float value) (float start) (float end)))
+
+(defn remap
+  "Maps value from input-start..input-end to output-start..output-end"
+  {:inline (fn [value input-start input-end output-start output-end]
+             `(RayMath/remap ~value ~input-start ~input-end ~output-start ~output-end))}
+  [value input-start input-end output-start output-end]
+  (RayMath/remap (float value) (float input-start) (float input-end) (float output-start) (float output-end)))
+
+(defn wrap
+  "Wraps value into min..max"
+  {:inline (fn [value min max] `(RayMath/wrap ~value ~min ~max))}
+  [value min max]
+  (RayMath/wrap (float value) (float min) (float max)))
+
+(defn float-equals?
+  "Whether x and y are equal within a relative epsilon"
+  {:inline (fn [x y] `(RayMath/floatEquals ~x ~y))}
+  [x y]
+  (RayMath/floatEquals (float x) (float y)))
+
+;;
+;; Scalar results
+;;
+
+(defn vector2-length
+  "Length of v. Takes the components or a Vector2 segment"
+  {:inline (fn [& args] `(RayMath/vector2Length ~@args))
+   :inline-arities #{1 2}}
+  ([^MemorySegment v] (RayMath/vector2Length v))
+  ([x y] (RayMath/vector2Length (float x) (float y))))
+
+(defn vector2-length-sqr
+  "Squared length of v. Takes the components or a Vector2 segment"
+  {:inline (fn [& args] `(RayMath/vector2LengthSqr ~@args))
+   :inline-arities #{1 2}}
+  ([^MemorySegment v] (RayMath/vector2LengthSqr v))
+  ([x y] (RayMath/vector2LengthSqr (float x) (float y))))
+
+(defn vector2-dot-product
+  "Dot product of a and b. Takes the components or Vector2 segments"
+  {:inline (fn [& args] `(RayMath/vector2DotProduct ~@args))
+   :inline-arities #{2 4}}
+  ([^MemorySegment a ^MemorySegment b] (RayMath/vector2DotProduct a b))
+  ([a-x a-y b-x b-y] (RayMath/vector2DotProduct (float a-x) (float a-y) (float b-x) (float b-y))))
+
+(defn vector2-distance
+  "Distance between a and b. Takes the components or Vector2 segments"
+  {:inline (fn [& args] `(RayMath/vector2Distance ~@args))
+   :inline-arities #{2 4}}
+  ([^MemorySegment a ^MemorySegment b] (RayMath/vector2Distance a b))
+  ([a-x a-y b-x b-y] (RayMath/vector2Distance (float a-x) (float a-y) (float b-x) (float b-y))))
+
+(defn vector2-distance-sqr
+  "Squared distance between a and b. Takes the components or Vector2 segments"
+  {:inline (fn [& args] `(RayMath/vector2DistanceSqr ~@args))
+   :inline-arities #{2 4}}
+  ([^MemorySegment a ^MemorySegment b] (RayMath/vector2DistanceSqr a b))
+  ([a-x a-y b-x b-y] (RayMath/vector2DistanceSqr (float a-x) (float a-y) (float b-x) (float b-y))))
+
+(defn vector2-angle
+  "Signed angle from a to b in radians. Takes the components or Vector2 segments"
+  {:inline (fn [& args] `(RayMath/vector2Angle ~@args))
+   :inline-arities #{2 4}}
+  ([^MemorySegment a ^MemorySegment b] (RayMath/vector2Angle a b))
+  ([a-x a-y b-x b-y] (RayMath/vector2Angle (float a-x) (float a-y) (float b-x) (float b-y))))
+
+(defn vector2-line-angle
+  "Angle of the line from start to end in radians. Takes the components or Vector2 segments"
+  {:inline (fn [& args] `(RayMath/vector2LineAngle ~@args))
+   :inline-arities #{2 4}}
+  ([^MemorySegment start ^MemorySegment end] (RayMath/vector2LineAngle start end))
+  ([start-x start-y end-x end-y] (RayMath/vector2LineAngle (float start-x) (float start-y) (float end-x) (float end-y))))
+
+(defn vector3-length
+  "Length of v. Takes the components or a Vector3 segment"
+  {:inline (fn [& args] `(RayMath/vector3Length ~@args))
+   :inline-arities #{1 3}}
+  ([^MemorySegment v] (RayMath/vector3Length v))
+  ([x y z] (RayMath/vector3Length (float x) (float y) (float z))))
+
+(defn vector3-length-sqr
+  "Squared length of v. Takes the components or a Vector3 segment"
+  {:inline (fn [& args] `(RayMath/vector3LengthSqr ~@args))
+   :inline-arities #{1 3}}
+  ([^MemorySegment v] (RayMath/vector3LengthSqr v))
+  ([x y z] (RayMath/vector3LengthSqr (float x) (float y) (float z))))
+
+(defn vector3-dot-product
+  "Dot product of a and b. Takes the components or Vector3 segments"
+  {:inline (fn [& args] `(RayMath/vector3DotProduct ~@args))
+   :inline-arities #{2 6}}
+  ([^MemorySegment a ^MemorySegment b] (RayMath/vector3DotProduct a b))
+  ([a-x a-y a-z b-x b-y b-z] (RayMath/vector3DotProduct (float a-x) (float a-y) (float a-z) (float b-x) (float b-y) (float b-z))))
+
+(defn vector3-distance
+  "Distance between a and b. Takes the components or Vector3 segments"
+  {:inline (fn [& args] `(RayMath/vector3Distance ~@args))
+   :inline-arities #{2 6}}
+  ([^MemorySegment a ^MemorySegment b] (RayMath/vector3Distance a b))
+  ([a-x a-y a-z b-x b-y b-z] (RayMath/vector3Distance (float a-x) (float a-y) (float a-z) (float b-x) (float b-y) (float b-z))))
+
+(defn vector3-distance-sqr
+  "Squared distance between a and b. Takes the components or Vector3 segments"
+  {:inline (fn [& args] `(RayMath/vector3DistanceSqr ~@args))
+   :inline-arities #{2 6}}
+  ([^MemorySegment a ^MemorySegment b] (RayMath/vector3DistanceSqr a b))
+  ([a-x a-y a-z b-x b-y b-z] (RayMath/vector3DistanceSqr (float a-x) (float a-y) (float a-z) (float b-x) (float b-y) (float b-z))))
+
+(defn vector3-angle
+  "Angle between a and b in radians. Takes the components or Vector3 segments"
+  {:inline (fn [& args] `(RayMath/vector3Angle ~@args))
+   :inline-arities #{2 6}}
+  ([^MemorySegment a ^MemorySegment b] (RayMath/vector3Angle a b))
+  ([a-x a-y a-z b-x b-y b-z] (RayMath/vector3Angle (float a-x) (float a-y) (float a-z) (float b-x) (float b-y) (float b-z))))
+
+(defn vector4-length
+  "Length of v. Takes the components or a Vector4 segment"
+  {:inline (fn [& args] `(RayMath/vector4Length ~@args))
+   :inline-arities #{1 4}}
+  ([^MemorySegment v] (RayMath/vector4Length v))
+  ([x y z w] (RayMath/vector4Length (float x) (float y) (float z) (float w))))
+
+(defn vector4-dot-product
+  "Dot product of a and b. Takes the components or Vector4 segments"
+  {:inline (fn [& args] `(RayMath/vector4DotProduct ~@args))
+   :inline-arities #{2 8}}
+  ([^MemorySegment a ^MemorySegment b] (RayMath/vector4DotProduct a b))
+  ([a-x a-y a-z a-w b-x b-y b-z b-w] (RayMath/vector4DotProduct (float a-x) (float a-y) (float a-z) (float a-w) (float b-x) (float b-y) (float b-z) (float b-w))))
+
+(defn vector2-equals?
+  "Whether a and b are equal within a relative epsilon. Takes the components or Vector2 segments"
+  {:inline (fn [& args] `(RayMath/vector2Equals ~@args))
+   :inline-arities #{2 4}}
+  ([^MemorySegment a ^MemorySegment b] (RayMath/vector2Equals a b))
+  ([a-x a-y b-x b-y] (RayMath/vector2Equals (float a-x) (float a-y) (float b-x) (float b-y))))
+
+(defn vector3-equals?
+  "Whether a and b are equal within a relative epsilon. Takes the components or Vector3 segments"
+  {:inline (fn [& args] `(RayMath/vector3Equals ~@args))
+   :inline-arities #{2 6}}
+  ([^MemorySegment a ^MemorySegment b] (RayMath/vector3Equals a b))
+  ([a-x a-y a-z b-x b-y b-z] (RayMath/vector3Equals (float a-x) (float a-y) (float a-z) (float b-x) (float b-y) (float b-z))))
+
+(defn quaternion-length
+  "Length of q. Takes the components or a Quaternion segment"
+  {:inline (fn [& args] `(RayMath/quaternionLength ~@args))
+   :inline-arities #{1 4}}
+  ([^MemorySegment q] (RayMath/quaternionLength q))
+  ([x y z w] (RayMath/quaternionLength (float x) (float y) (float z) (float w))))
+
+(defn quaternion-equals?
+  "Whether a and b are the same rotation within a relative epsilon. Takes the components or Quaternion segments"
+  {:inline (fn [& args] `(RayMath/quaternionEquals ~@args))
+   :inline-arities #{2 8}}
+  ([^MemorySegment a ^MemorySegment b] (RayMath/quaternionEquals a b))
+  ([a-x a-y a-z a-w b-x b-y b-z b-w] (RayMath/quaternionEquals (float a-x) (float a-y) (float a-z) (float a-w) (float b-x) (float b-y) (float b-z) (float b-w))))
+
+(defn matrix-determinant
+  "Determinant of a Matrix segment"
+  {:inline (fn [mat] `(RayMath/matrixDeterminant ~mat))}
+  [^MemorySegment mat]
+  (RayMath/matrixDeterminant mat))
+
+(defn matrix-trace
+  "Sum of the diagonal of a Matrix segment"
+  {:inline (fn [mat] `(RayMath/matrixTrace ~mat))}
+  [^MemorySegment mat]
+  (RayMath/matrixTrace mat))
+
+;;
+;; Vector2
+;;
+
+(defn vector2-add
+  "Sets out to a + b"
+  {:inline (fn [& args] `(RayMath/vector2Add ~@args))
+   :inline-arities #{3 6}}
+  ([^MemorySegment out ^MemorySegment a ^MemorySegment b]
+   (RayMath/vector2Add out a b))
+  ([^floats out out-offset ^floats a a-offset ^floats b b-offset]
+   (RayMath/vector2Add out (int out-offset) a (int a-offset) b (int b-offset))))
+
+(defn vector2-subtract
+  "Sets out to a - b"
+  {:inline (fn [& args] `(RayMath/vector2Subtract ~@args))
+   :inline-arities #{3 6}}
+  ([^MemorySegment out ^MemorySegment a ^MemorySegment b]
+   (RayMath/vector2Subtract out a b))
+  ([^floats out out-offset ^floats a a-offset ^floats b b-offset]
+   (RayMath/vector2Subtract out (int out-offset) a (int a-offset) b (int b-offset))))
+
+(defn vector2-multiply
+  "Sets out to a * b, component wise"
+  {:inline (fn [& args] `(RayMath/vector2Multiply ~@args))
+   :inline-arities #{3 6}}
+  ([^MemorySegment out ^MemorySegment a ^MemorySegment b]
+   (RayMath/vector2Multiply out a b))
+  ([^floats out out-offset ^floats a a-offset ^floats b b-offset]
+   (RayMath/vector2Multiply out (int out-offset) a (int a-offset) b (int b-offset))))
+
+(defn vector2-scale
+  "Sets out to v * scale"
+  {:inline (fn [& args] `(RayMath/vector2Scale ~@args))
+   :inline-arities #{3 5}}
+  ([^MemorySegment out ^MemorySegment v scale]
+   (RayMath/vector2Scale out v (float scale)))
+  ([^floats out out-offset ^floats v v-offset scale]
+   (RayMath/vector2Scale out (int out-offset) v (int v-offset) (float scale))))
+
+(defn vector2-negate
+  "Sets out to -v"
+  {:inline (fn [& args] `(RayMath/vector2Negate ~@args))
+   :inline-arities #{2 4}}
+  ([^MemorySegment out ^MemorySegment v]
+   (RayMath/vector2Negate out v))
+  ([^floats out out-offset ^floats v v-offset]
+   (RayMath/vector2Negate out (int out-offset) v (int v-offset))))
+
+(defn vector2-normalize
+  "Sets out to v scaled to length 1, zero stays zero"
+  {:inline (fn [& args] `(RayMath/vector2Normalize ~@args))
+   :inline-arities #{2 4}}
+  ([^MemorySegment out ^MemorySegment v]
+   (RayMath/vector2Normalize out v))
+  ([^floats out out-offset ^floats v v-offset]
+   (RayMath/vector2Normalize out (int out-offset) v (int v-offset))))
+
+(defn vector2-lerp
+  "Sets out to linear interpolation from a to b"
+  {:inline (fn [& args] `(RayMath/vector2Lerp ~@args))
+   :inline-arities #{4 7}}
+  ([^MemorySegment out ^MemorySegment a ^MemorySegment b amount]
+   (RayMath/vector2Lerp out a b (float amount)))
+  ([^floats out out-offset ^floats a a-offset ^floats b b-offset amount]
+   (RayMath/vector2Lerp out (int out-offset) a (int a-offset) b (int b-offset) (float amount))))
+
+(defn vector2-rotate
+  "Sets out to v rotated by angle in radians"
+  {:inline (fn [& args] `(RayMath/vector2Rotate ~@args))
+   :inline-arities #{3 5}}
+  ([^MemorySegment out ^MemorySegment v angle]
+   (RayMath/vector2Rotate out v (float angle)))
+  ([^floats out out-offset ^floats v v-offset angle]
+   (RayMath/vector2Rotate out (int out-offset) v (int v-offset) (float angle))))
+
+(defn vector2-reflect
+  "Sets out to v reflected to normal"
+  {:inline (fn [& args] `(RayMath/vector2Reflect ~@args))
+   :inline-arities #{3 6}}
+  ([^MemorySegment out ^MemorySegment v ^MemorySegment normal]
+   (RayMath/vector2Reflect out v normal))
+  ([^floats out out-offset ^floats v v-offset ^floats normal normal-offset]
+   (RayMath/vector2Reflect out (int out-offset) v (int v-offset) normal (int normal-offset))))
+
+(defn vector2-move-towards
+  "Sets out to v moved towards target by at most maxDistance"
+  {:inline (fn [& args] `(RayMath/vector2MoveTowards ~@args))
+   :inline-arities #{4 7}}
+  ([^MemorySegment out ^MemorySegment v ^MemorySegment target max-distance]
+   (RayMath/vector2MoveTowards out v target (float max-distance)))
+  ([^floats out out-offset ^floats v v-offset ^floats target target-offset max-distance]
+   (RayMath/vector2MoveTowards out (int out-offset) v (int v-offset) target (int target-offset) (float max-distance))))
+
+(defn vector2-transform
+  "Sets out to v transformed by mat"
+  {:inline (fn [& args] `(RayMath/vector2Transform ~@args))
+   :inline-arities #{3 6}}
+  ([^MemorySegment out ^MemorySegment v ^MemorySegment mat]
+   (RayMath/vector2Transform out v mat))
+  ([^floats out out-offset ^floats v v-offset ^floats mat mat-offset]
+   (RayMath/vector2Transform out (int out-offset) v (int v-offset) mat (int mat-offset))))
+
+(defn vector2-zero
+  "Sets out to (0, 0)"
+  {:inline (fn [& args] `(RayMath/vector2Zero ~@args))
+   :inline-arities #{1 2}}
+  ([^MemorySegment out]
+   (RayMath/vector2Zero out))
+  ([^floats out out-offset]
+   (RayMath/vector2Zero out (int out-offset))))
+
+(defn vector2-one
+  "Sets out to (1, 1)"
+  {:inline (fn [& args] `(RayMath/vector2One ~@args))
+   :inline-arities #{1 2}}
+  ([^MemorySegment out]
+   (RayMath/vector2One out))
+  ([^floats out out-offset]
+   (RayMath/vector2One out (int out-offset))))
+
+(defn vector2-add-value
+  "Sets out to v with add added to each component"
+  {:inline (fn [& args] `(RayMath/vector2AddValue ~@args))
+   :inline-arities #{3 5}}
+  ([^MemorySegment out ^MemorySegment v add]
+   (RayMath/vector2AddValue out v (float add)))
+  ([^floats out out-offset ^floats v v-offset add]
+   (RayMath/vector2AddValue out (int out-offset) v (int v-offset) (float add))))
+
+(defn vector2-subtract-value
+  "Sets out to v with sub subtracted from each component"
+  {:inline (fn [& args] `(RayMath/vector2SubtractValue ~@args))
+   :inline-arities #{3 5}}
+  ([^MemorySegment out ^MemorySegment v sub]
+   (RayMath/vector2SubtractValue out v (float sub)))
+  ([^floats out out-offset ^floats v v-offset sub]
+   (RayMath/vector2SubtractValue out (int out-offset) v (int v-offset) (float sub))))
+
+(defn vector2-divide
+  "Sets out to a / b, component wise"
+  {:inline (fn [& args] `(RayMath/vector2Divide ~@args))
+   :inline-arities #{3 6}}
+  ([^MemorySegment out ^MemorySegment a ^MemorySegment b]
+   (RayMath/vector2Divide out a b))
+  ([^floats out out-offset ^floats a a-offset ^floats b b-offset]
+   (RayMath/vector2Divide out (int out-offset) a (int a-offset) b (int b-offset))))
+
+(defn vector2-invert
+  "Sets out to 1 / v, component wise"
+  {:inline (fn [& args] `(RayMath/vector2Invert ~@args))
+   :inline-arities #{2 4}}
+  ([^MemorySegment out ^MemorySegment v]
+   (RayMath/vector2Invert out v))
+  ([^floats out out-offset ^floats v v-offset]
+   (RayMath/vector2Invert out (int out-offset) v (int v-offset))))
+
+(defn vector2-clamp
+  "Sets out to v with each component clamped between min and max"
+  {:inline (fn [& args] `(RayMath/vector2Clamp ~@args))
+   :inline-arities #{4 8}}
+  ([^MemorySegment out ^MemorySegment v ^MemorySegment min ^MemorySegment max]
+   (RayMath/vector2Clamp out v min max))
+  ([^floats out out-offset ^floats v v-offset ^floats min min-offset ^floats max max-offset]
+   (RayMath/vector2Clamp out (int out-offset) v (int v-offset) min (int min-offset) max (int max-offset))))
+
+(defn vector2-clamp-value
+  "Sets out to v with its length clamped between min and max"
+  {:inline (fn [& args] `(RayMath/vector2ClampValue ~@args))
+   :inline-arities #{4 6}}
+  ([^MemorySegment out ^MemorySegment v min max]
+   (RayMath/vector2ClampValue out v (float min) (float max)))
+  ([^floats out out-offset ^floats v v-offset min max]
+   (RayMath/vector2ClampValue out (int out-offset) v (int v-offset) (float min) (float max))))
+
+;;
+;; Vector3
+;;
+
+(defn vector3-add
+  "Sets out to a + b"
+  {:inline (fn [& args] `(RayMath/vector3Add ~@args))
+   :inline-arities #{3 6}}
+  ([^MemorySegment out ^MemorySegment a ^MemorySegment b]
+   (RayMath/vector3Add out a b))
+  ([^floats out out-offset ^floats a a-offset ^floats b b-offset]
+   (RayMath/vector3Add out (int out-offset) a (int a-offset) b (int b-offset))))
+
+(defn vector3-subtract
+  "Sets out to a - b"
+  {:inline (fn [& args] `(RayMath/vector3Subtract ~@args))
+   :inline-arities #{3 6}}
+  ([^MemorySegment out ^MemorySegment a ^MemorySegment b]
+   (RayMath/vector3Subtract out a b))
+  ([^floats out out-offset ^floats a a-offset ^floats b b-offset]
+   (RayMath/vector3Subtract out (int out-offset) a (int a-offset) b (int b-offset))))
+
+(defn vector3-multiply
+  "Sets out to a * b, component wise"
+  {:inline (fn [& args] `(RayMath/vector3Multiply ~@args))
+   :inline-arities #{3 6}}
+  ([^MemorySegment out ^MemorySegment a ^MemorySegment b]
+   (RayMath/vector3Multiply out a b))
+  ([^floats out out-offset ^floats a a-offset ^floats b b-offset]
+   (RayMath/vector3Multiply out (int out-offset) a (int a-offset) b (int b-offset))))
+
+(defn vector3-scale
+  "Sets out to v * scale"
+  {:inline (fn [& args] `(RayMath/vector3Scale ~@args))
+   :inline-arities #{3 5}}
+  ([^MemorySegment out ^MemorySegment v scale]
+   (RayMath/vector3Scale out v (float scale)))
+  ([^floats out out-offset ^floats v v-offset scale]
+   (RayMath/vector3Scale out (int out-offset) v (int v-offset) (float scale))))
+
+(defn vector3-negate
+  "Sets out to -v"
+  {:inline (fn [& args] `(RayMath/vector3Negate ~@args))
+   :inline-arities #{2 4}}
+  ([^MemorySegment out ^MemorySegment v]
+   (RayMath/vector3Negate out v))
+  ([^floats out out-offset ^floats v v-offset]
+   (RayMath/vector3Negate out (int out-offset) v (int v-offset))))
+
+(defn vector3-cross-product
+  "Sets out to a x b"
+  {:inline (fn [& args] `(RayMath/vector3CrossProduct ~@args))
+   :inline-arities #{3 6}}
+  ([^MemorySegment out ^MemorySegment a ^MemorySegment b]
+   (RayMath/vector3CrossProduct out a b))
+  ([^floats out out-offset ^floats a a-offset ^floats b b-offset]
+   (RayMath/vector3CrossProduct out (int out-offset) a (int a-offset) b (int b-offset))))
+
+(defn vector3-normalize
+  "Sets out to v scaled to length 1, zero stays zero"
+  {:inline (fn [& args] `(RayMath/vector3Normalize ~@args))
+   :inline-arities #{2 4}}
+  ([^MemorySegment out ^MemorySegment v]
+   (RayMath/vector3Normalize out v))
+  ([^floats out out-offset ^floats v v-offset]
+   (RayMath/vector3Normalize out (int out-offset) v (int v-offset))))
+
+(defn vector3-lerp
+  "Sets out to linear interpolation from a to b"
+  {:inline (fn [& args] `(RayMath/vector3Lerp ~@args))
+   :inline-arities #{4 7}}
+  ([^MemorySegment out ^MemorySegment a ^MemorySegment b amount]
+   (RayMath/vector3Lerp out a b (float amount)))
+  ([^floats out out-offset ^floats a a-offset ^floats b b-offset amount]
+   (RayMath/vector3Lerp out (int out-offset) a (int a-offset) b (int b-offset) (float amount))))
+
+(defn vector3-reflect
+  "Sets out to v reflected to normal"
+  {:inline (fn [& args] `(RayMath/vector3Reflect ~@args))
+   :inline-arities #{3 6}}
+  ([^MemorySegment out ^MemorySegment v ^MemorySegment normal]
+   (RayMath/vector3Reflect out v normal))
+  ([^floats out out-offset ^floats v v-offset ^floats normal normal-offset]
+   (RayMath/vector3Reflect out (int out-offset) v (int v-offset) normal (int normal-offset))))
+
+(defn vector3-transform
+  "Sets out to v transformed by mat"
+  {:inline (fn [& args] `(RayMath/vector3Transform ~@args))
+   :inline-arities #{3 6}}
+  ([^MemorySegment out ^MemorySegment v ^MemorySegment mat]
+   (RayMath/vector3Transform out v mat))
+  ([^floats out out-offset ^floats v v-offset ^floats mat mat-offset]
+   (RayMath/vector3Transform out (int out-offset) v (int v-offset) mat (int mat-offset))))
+
+(defn vector3-rotate-by-quaternion
+  "Sets out to v rotated by quaternion q"
+  {:inline (fn [& args] `(RayMath/vector3RotateByQuaternion ~@args))
+   :inline-arities #{3 6}}
+  ([^MemorySegment out ^MemorySegment v ^MemorySegment q]
+   (RayMath/vector3RotateByQuaternion out v q))
+  ([^floats out out-offset ^floats v v-offset ^floats q q-offset]
+   (RayMath/vector3RotateByQuaternion out (int out-offset) v (int v-offset) q (int q-offset))))
+
+(defn vector3-zero
+  "Sets out to (0, 0, 0)"
+  {:inline (fn [& args] `(RayMath/vector3Zero ~@args))
+   :inline-arities #{1 2}}
+  ([^MemorySegment out]
+   (RayMath/vector3Zero out))
+  ([^floats out out-offset]
+   (RayMath/vector3Zero out (int out-offset))))
+
+(defn vector3-one
+  "Sets out to (1, 1, 1)"
+  {:inline (fn [& args] `(RayMath/vector3One ~@args))
+   :inline-arities #{1 2}}
+  ([^MemorySegment out]
+   (RayMath/vector3One out))
+  ([^floats out out-offset]
+   (RayMath/vector3One out (int out-offset))))
+
+(defn vector3-add-value
+  "Sets out to v with add added to each component"
+  {:inline (fn [& args] `(RayMath/vector3AddValue ~@args))
+   :inline-arities #{3 5}}
+  ([^MemorySegment out ^MemorySegment v add]
+   (RayMath/vector3AddValue out v (float add)))
+  ([^floats out out-offset ^floats v v-offset add]
+   (RayMath/vector3AddValue out (int out-offset) v (int v-offset) (float add))))
+
+(defn vector3-subtract-value
+  "Sets out to v with sub subtracted from each component"
+  {:inline (fn [& args] `(RayMath/vector3SubtractValue ~@args))
+   :inline-arities #{3 5}}
+  ([^MemorySegment out ^MemorySegment v sub]
+   (RayMath/vector3SubtractValue out v (float sub)))
+  ([^floats out out-offset ^floats v v-offset sub]
+   (RayMath/vector3SubtractValue out (int out-offset) v (int v-offset) (float sub))))
+
+(defn vector3-divide
+  "Sets out to a / b, component wise"
+  {:inline (fn [& args] `(RayMath/vector3Divide ~@args))
+   :inline-arities #{3 6}}
+  ([^MemorySegment out ^MemorySegment a ^MemorySegment b]
+   (RayMath/vector3Divide out a b))
+  ([^floats out out-offset ^floats a a-offset ^floats b b-offset]
+   (RayMath/vector3Divide out (int out-offset) a (int a-offset) b (int b-offset))))
+
+(defn vector3-invert
+  "Sets out to 1 / v, component wise"
+  {:inline (fn [& args] `(RayMath/vector3Invert ~@args))
+   :inline-arities #{2 4}}
+  ([^MemorySegment out ^MemorySegment v]
+   (RayMath/vector3Invert out v))
+  ([^floats out out-offset ^floats v v-offset]
+   (RayMath/vector3Invert out (int out-offset) v (int v-offset))))
+
+(defn vector3-clamp
+  "Sets out to v with each component clamped between min and max"
+  {:inline (fn [& args] `(RayMath/vector3Clamp ~@args))
+   :inline-arities #{4 8}}
+  ([^MemorySegment out ^MemorySegment v ^MemorySegment min ^MemorySegment max]
+   (RayMath/vector3Clamp out v min max))
+  ([^floats out out-offset ^floats v v-offset ^floats min min-offset ^floats max max-offset]
+   (RayMath/vector3Clamp out (int out-offset) v (int v-offset) min (int min-offset) max (int max-offset))))
+
+(defn vector3-clamp-value
+  "Sets out to v with its length clamped between min and max"
+  {:inline (fn [& args] `(RayMath/vector3ClampValue ~@args))
+   :inline-arities #{4 6}}
+  ([^MemorySegment out ^MemorySegment v min max]
+   (RayMath/vector3ClampValue out v (float min) (float max)))
+  ([^floats out out-offset ^floats v v-offset min max]
+   (RayMath/vector3ClampValue out (int out-offset) v (int v-offset) (float min) (float max))))
+
+(defn vector3-perpendicular
+  "Sets out to a vector perpendicular to v"
+  {:inline (fn [& args] `(RayMath/vector3Perpendicular ~@args))
+   :inline-arities #{2 4}}
+  ([^MemorySegment out ^MemorySegment v]
+   (RayMath/vector3Perpendicular out v))
+  ([^floats out out-offset ^floats v v-offset]
+   (RayMath/vector3Perpendicular out (int out-offset) v (int v-offset))))
+
+(defn vector3-rotate-by-axis-angle
+  "Sets out to v rotated by angle in radians around axis"
+  {:inline (fn [& args] `(RayMath/vector3RotateByAxisAngle ~@args))
+   :inline-arities #{4 7}}
+  ([^MemorySegment out ^MemorySegment v ^MemorySegment axis angle]
+   (RayMath/vector3RotateByAxisAngle out v axis (float angle)))
+  ([^floats out out-offset ^floats v v-offset ^floats axis axis-offset angle]
+   (RayMath/vector3RotateByAxisAngle out (int out-offset) v (int v-offset) axis (int axis-offset) (float angle))))
+
+(defn vector3-min
+  "Sets out to the minimum of a and b, component wise"
+  {:inline (fn [& args] `(RayMath/vector3Min ~@args))
+   :inline-arities #{3 6}}
+  ([^MemorySegment out ^MemorySegment a ^MemorySegment b]
+   (RayMath/vector3Min out a b))
+  ([^floats out out-offset ^floats a a-offset ^floats b b-offset]
+   (RayMath/vector3Min out (int out-offset) a (int a-offset) b (int b-offset))))
+
+(defn vector3-max
+  "Sets out to the maximum of a and b, component wise"
+  {:inline (fn [& args] `(RayMath/vector3Max ~@args))
+   :inline-arities #{3 6}}
+  ([^MemorySegment out ^MemorySegment a ^MemorySegment b]
+   (RayMath/vector3Max out a b))
+  ([^floats out out-offset ^floats a a-offset ^floats b b-offset]
+   (RayMath/vector3Max out (int out-offset) a (int a-offset) b (int b-offset))))
+
+(defn vector3-barycenter
+  "Sets out to the barycentric coordinates of p in the triangle a, b, c"
+  {:inline (fn [& args] `(RayMath/vector3Barycenter ~@args))
+   :inline-arities #{5 10}}
+  ([^MemorySegment out ^MemorySegment p ^MemorySegment a ^MemorySegment b ^MemorySegment c]
+   (RayMath/vector3Barycenter out p a b c))
+  ([^floats out out-offset ^floats p p-offset ^floats a a-offset ^floats b b-offset ^floats c c-offset]
+   (RayMath/vector3Barycenter out (int out-offset) p (int p-offset) a (int a-offset) b (int b-offset) c (int c-offset))))
+
+(defn vector3-unproject
+  "Sets out to source unprojected from screen space with the projection and view matrices"
+  {:inline (fn [& args] `(RayMath/vector3Unproject ~@args))
+   :inline-arities #{4 8}}
+  ([^MemorySegment out ^MemorySegment source ^MemorySegment projection ^MemorySegment view]
+   (RayMath/vector3Unproject out source projection view))
+  ([^floats out out-offset ^floats source source-offset ^floats projection projection-offset ^floats view view-offset]
+   (RayMath/vector3Unproject out (int out-offset) source (int source-offset) projection (int projection-offset) view (int view-offset))))
+
+(defn vector3-refract
+  "Sets out to v refracted at a surface with normal n, r is the ratio of the refractive indices"
+  {:inline (fn [& args] `(RayMath/vector3Refract ~@args))
+   :inline-arities #{4 7}}
+  ([^MemorySegment out ^MemorySegment v ^MemorySegment n r]
+   (RayMath/vector3Refract out v n (float r)))
+  ([^floats out out-offset ^floats v v-offset ^floats n n-offset r]
+   (RayMath/vector3Refract out (int out-offset) v (int v-offset) n (int n-offset) (float r))))
+
+(defn vector3-ortho-normalize!
+  "Normalizes v1 and makes v2 normalized and orthogonal to it, in place"
+  {:inline (fn [& args] `(RayMath/vector3OrthoNormalize ~@args))
+   :inline-arities #{2 4}}
+  ([^MemorySegment v1 ^MemorySegment v2]
+   (RayMath/vector3OrthoNormalize v1 v2))
+  ([^floats v1 v1-offset ^floats v2 v2-offset]
+   (RayMath/vector3OrthoNormalize v1 (int v1-offset) v2 (int v2-offset))))
+
+;;
+;; Vector4 and Quaternion
+;;
+
+(defn vector4-add
+  "Sets out to a + b"
+  {:inline (fn [& args] `(RayMath/vector4Add ~@args))
+   :inline-arities #{3 6}}
+  ([^MemorySegment out ^MemorySegment a ^MemorySegment b]
+   (RayMath/vector4Add out a b))
+  ([^floats out out-offset ^floats a a-offset ^floats b b-offset]
+   (RayMath/vector4Add out (int out-offset) a (int a-offset) b (int b-offset))))
+
+(defn vector4-subtract
+  "Sets out to a - b"
+  {:inline (fn [& args] `(RayMath/vector4Subtract ~@args))
+   :inline-arities #{3 6}}
+  ([^MemorySegment out ^MemorySegment a ^MemorySegment b]
+   (RayMath/vector4Subtract out a b))
+  ([^floats out out-offset ^floats a a-offset ^floats b b-offset]
+   (RayMath/vector4Subtract out (int out-offset) a (int a-offset) b (int b-offset))))
+
+(defn vector4-scale
+  "Sets out to v * scale"
+  {:inline (fn [& args] `(RayMath/vector4Scale ~@args))
+   :inline-arities #{3 5}}
+  ([^MemorySegment out ^MemorySegment v scale]
+   (RayMath/vector4Scale out v (float scale)))
+  ([^floats out out-offset ^floats v v-offset scale]
+   (RayMath/vector4Scale out (int out-offset) v (int v-offset) (float scale))))
+
+(defn vector4-lerp
+  "Sets out to linear interpolation from a to b"
+  {:inline (fn [& args] `(RayMath/vector4Lerp ~@args))
+   :inline-arities #{4 7}}
+  ([^MemorySegment out ^MemorySegment a ^MemorySegment b amount]
+   (RayMath/vector4Lerp out a b (float amount)))
+  ([^floats out out-offset ^floats a a-offset ^floats b b-offset amount]
+   (RayMath/vector4Lerp out (int out-offset) a (int a-offset) b (int b-offset) (float amount))))
+
+(defn vector4-normalize
+  "Sets out to v scaled to length 1"
+  {:inline (fn [& args] `(RayMath/vector4Normalize ~@args))
+   :inline-arities #{2 4}}
+  ([^MemorySegment out ^MemorySegment v]
+   (RayMath/vector4Normalize out v))
+  ([^floats out out-offset ^floats v v-offset]
+   (RayMath/vector4Normalize out (int out-offset) v (int v-offset))))
+
+(defn quaternion-identity
+  "Sets out to the identity quaternion"
+  {:inline (fn [& args] `(RayMath/quaternionIdentity ~@args))
+   :inline-arities #{1 2}}
+  ([^MemorySegment out]
+   (RayMath/quaternionIdentity out))
+  ([^floats out out-offset]
+   (RayMath/quaternionIdentity out (int out-offset))))
+
+(defn quaternion-multiply
+  "Sets out to a * b"
+  {:inline (fn [& args] `(RayMath/quaternionMultiply ~@args))
+   :inline-arities #{3 6}}
+  ([^MemorySegment out ^MemorySegment a ^MemorySegment b]
+   (RayMath/quaternionMultiply out a b))
+  ([^floats out out-offset ^floats a a-offset ^floats b b-offset]
+   (RayMath/quaternionMultiply out (int out-offset) a (int a-offset) b (int b-offset))))
+
+(defn quaternion-invert
+  "Sets out to the inverse of q"
+  {:inline (fn [& args] `(RayMath/quaternionInvert ~@args))
+   :inline-arities #{2 4}}
+  ([^MemorySegment out ^MemorySegment q]
+   (RayMath/quaternionInvert out q))
+  ([^floats out out-offset ^floats q q-offset]
+   (RayMath/quaternionInvert out (int out-offset) q (int q-offset))))
+
+(defn quaternion-from-axis-angle
+  "Sets out to a rotation by angle in radians around axis"
+  {:inline (fn [& args] `(RayMath/quaternionFromAxisAngle ~@args))
+   :inline-arities #{3 5}}
+  ([^MemorySegment out ^MemorySegment axis angle]
+   (RayMath/quaternionFromAxisAngle out axis (float angle)))
+  ([^floats out out-offset ^floats axis axis-offset angle]
+   (RayMath/quaternionFromAxisAngle out (int out-offset) axis (int axis-offset) (float angle))))
+
+(defn quaternion-from-euler
+  "Sets out to a rotation from euler angles in radians"
+  {:inline (fn [& args] `(RayMath/quaternionFromEuler ~@args))
+   :inline-arities #{4 5}}
+  ([^MemorySegment out pitch yaw roll]
+   (RayMath/quaternionFromEuler out (float pitch) (float yaw) (float roll)))
+  ([^floats out out-offset pitch yaw roll]
+   (RayMath/quaternionFromEuler out (int out-offset) (float pitch) (float yaw) (float roll))))
+
+(defn quaternion-nlerp
+  "Sets out to normalized linear interpolation from a to b"
+  {:inline (fn [& args] `(RayMath/quaternionNlerp ~@args))
+   :inline-arities #{4 7}}
+  ([^MemorySegment out ^MemorySegment a ^MemorySegment b amount]
+   (RayMath/quaternionNlerp out a b (float amount)))
+  ([^floats out out-offset ^floats a a-offset ^floats b b-offset amount]
+   (RayMath/quaternionNlerp out (int out-offset) a (int a-offset) b (int b-offset) (float amount))))
+
+(defn quaternion-slerp
+  "Sets out to spherical linear interpolation from a to b"
+  {:inline (fn [& args] `(RayMath/quaternionSlerp ~@args))
+   :inline-arities #{4 7}}
+  ([^MemorySegment out ^MemorySegment a ^MemorySegment b amount]
+   (RayMath/quaternionSlerp out a b (float amount)))
+  ([^floats out out-offset ^floats a a-offset ^floats b b-offset amount]
+   (RayMath/quaternionSlerp out (int out-offset) a (int a-offset) b (int b-offset) (float amount))))
+
+(defn quaternion-to-matrix
+  "Sets out to the rotation matrix of q"
+  {:inline (fn [& args] `(RayMath/quaternionToMatrix ~@args))
+   :inline-arities #{2 4}}
+  ([^MemorySegment out ^MemorySegment q]
+   (RayMath/quaternionToMatrix out q))
+  ([^floats out out-offset ^floats q q-offset]
+   (RayMath/quaternionToMatrix out (int out-offset) q (int q-offset))))
+
+(defn quaternion-add
+  "Sets out to a + b"
+  {:inline (fn [& args] `(RayMath/quaternionAdd ~@args))
+   :inline-arities #{3 6}}
+  ([^MemorySegment out ^MemorySegment a ^MemorySegment b]
+   (RayMath/quaternionAdd out a b))
+  ([^floats out out-offset ^floats a a-offset ^floats b b-offset]
+   (RayMath/quaternionAdd out (int out-offset) a (int a-offset) b (int b-offset))))
+
+(defn quaternion-add-value
+  "Sets out to q with add added to each component"
+  {:inline (fn [& args] `(RayMath/quaternionAddValue ~@args))
+   :inline-arities #{3 5}}
+  ([^MemorySegment out ^MemorySegment q add]
+   (RayMath/quaternionAddValue out q (float add)))
+  ([^floats out out-offset ^floats q q-offset add]
+   (RayMath/quaternionAddValue out (int out-offset) q (int q-offset) (float add))))
+
+(defn quaternion-subtract
+  "Sets out to a - b"
+  {:inline (fn [& args] `(RayMath/quaternionSubtract ~@args))
+   :inline-arities #{3 6}}
+  ([^MemorySegment out ^MemorySegment a ^MemorySegment b]
+   (RayMath/quaternionSubtract out a b))
+  ([^floats out out-offset ^floats a a-offset ^floats b b-offset]
+   (RayMath/quaternionSubtract out (int out-offset) a (int a-offset) b (int b-offset))))
+
+(defn quaternion-subtract-value
+  "Sets out to q with sub subtracted from each component"
+  {:inline (fn [& args] `(RayMath/quaternionSubtractValue ~@args))
+   :inline-arities #{3 5}}
+  ([^MemorySegment out ^MemorySegment q sub]
+   (RayMath/quaternionSubtractValue out q (float sub)))
+  ([^floats out out-offset ^floats q q-offset sub]
+   (RayMath/quaternionSubtractValue out (int out-offset) q (int q-offset) (float sub))))
+
+(defn quaternion-scale
+  "Sets out to q * scale"
+  {:inline (fn [& args] `(RayMath/quaternionScale ~@args))
+   :inline-arities #{3 5}}
+  ([^MemorySegment out ^MemorySegment q scale]
+   (RayMath/quaternionScale out q (float scale)))
+  ([^floats out out-offset ^floats q q-offset scale]
+   (RayMath/quaternionScale out (int out-offset) q (int q-offset) (float scale))))
+
+(defn quaternion-divide
+  "Sets out to a / b, component wise"
+  {:inline (fn [& args] `(RayMath/quaternionDivide ~@args))
+   :inline-arities #{3 6}}
+  ([^MemorySegment out ^MemorySegment a ^MemorySegment b]
+   (RayMath/quaternionDivide out a b))
+  ([^floats out out-offset ^floats a a-offset ^floats b b-offset]
+   (RayMath/quaternionDivide out (int out-offset) a (int a-offset) b (int b-offset))))
+
+(defn quaternion-normalize
+  "Sets out to q scaled to length 1"
+  {:inline (fn [& args] `(RayMath/quaternionNormalize ~@args))
+   :inline-arities #{2 4}}
+  ([^MemorySegment out ^MemorySegment q]
+   (RayMath/quaternionNormalize out q))
+  ([^floats out out-offset ^floats q q-offset]
+   (RayMath/quaternionNormalize out (int out-offset) q (int q-offset))))
+
+(defn quaternion-lerp
+  "Sets out to linear interpolation from a to b"
+  {:inline (fn [& args] `(RayMath/quaternionLerp ~@args))
+   :inline-arities #{4 7}}
+  ([^MemorySegment out ^MemorySegment a ^MemorySegment b amount]
+   (RayMath/quaternionLerp out a b (float amount)))
+  ([^floats out out-offset ^floats a a-offset ^floats b b-offset amount]
+   (RayMath/quaternionLerp out (int out-offset) a (int a-offset) b (int b-offset) (float amount))))
+
+(defn quaternion-from-vector3-to-vector3
+  "Sets out to the rotation from direction from to direction to"
+  {:inline (fn [& args] `(RayMath/quaternionFromVector3ToVector3 ~@args))
+   :inline-arities #{3 6}}
+  ([^MemorySegment out ^MemorySegment from ^MemorySegment to]
+   (RayMath/quaternionFromVector3ToVector3 out from to))
+  ([^floats out out-offset ^floats from from-offset ^floats to to-offset]
+   (RayMath/quaternionFromVector3ToVector3 out (int out-offset) from (int from-offset) to (int to-offset))))
+
+(defn quaternion-from-matrix
+  "Sets out to the rotation of mat"
+  {:inline (fn [& args] `(RayMath/quaternionFromMatrix ~@args))
+   :inline-arities #{2 4}}
+  ([^MemorySegment out ^MemorySegment mat]
+   (RayMath/quaternionFromMatrix out mat))
+  ([^floats out out-offset ^floats mat mat-offset]
+   (RayMath/quaternionFromMatrix out (int out-offset) mat (int mat-offset))))
+
+(defn quaternion-to-euler
+  "Sets out to the euler angles of q in radians, as rotations around x, y and z"
+  {:inline (fn [& args] `(RayMath/quaternionToEuler ~@args))
+   :inline-arities #{2 4}}
+  ([^MemorySegment out ^MemorySegment q]
+   (RayMath/quaternionToEuler out q))
+  ([^floats out out-offset ^floats q q-offset]
+   (RayMath/quaternionToEuler out (int out-offset) q (int q-offset))))
+
+(defn quaternion-transform
+  "Sets out to q transformed by mat"
+  {:inline (fn [& args] `(RayMath/quaternionTransform ~@args))
+   :inline-arities #{3 6}}
+  ([^MemorySegment out ^MemorySegment q ^MemorySegment mat]
+   (RayMath/quaternionTransform out q mat))
+  ([^floats out out-offset ^floats q q-offset ^floats mat mat-offset]
+   (RayMath/quaternionTransform out (int out-offset) q (int q-offset) mat (int mat-offset))))
+
+(defn quaternion-to-axis-angle
+  "Sets out-axis to the rotation axis of q and returns the angle in radians"
+  {:inline (fn [& args] `(RayMath/quaternionToAxisAngle ~@args))
+   :inline-arities #{2 4}}
+  ([^MemorySegment out-axis ^MemorySegment q]
+   (RayMath/quaternionToAxisAngle out-axis q))
+  ([^floats out-axis out-axis-offset ^floats q q-offset]
+   (RayMath/quaternionToAxisAngle out-axis (int out-axis-offset) q (int q-offset))))
+
+;;
+;; Matrix
+;;
+
+(defn matrix-identity
+  "Sets out to the identity matrix"
+  {:inline (fn [& args] `(RayMath/matrixIdentity ~@args))
+   :inline-arities #{1 2}}
+  ([^MemorySegment out]
+   (RayMath/matrixIdentity out))
+  ([^floats out out-offset]
+   (RayMath/matrixIdentity out (int out-offset))))
+
+(defn matrix-transpose
+  "Sets out to mat transposed"
+  {:inline (fn [& args] `(RayMath/matrixTranspose ~@args))
+   :inline-arities #{2 4}}
+  ([^MemorySegment out ^MemorySegment mat]
+   (RayMath/matrixTranspose out mat))
+  ([^floats out out-offset ^floats mat mat-offset]
+   (RayMath/matrixTranspose out (int out-offset) mat (int mat-offset))))
+
+(defn matrix-add
+  "Sets out to a + b"
+  {:inline (fn [& args] `(RayMath/matrixAdd ~@args))
+   :inline-arities #{3 6}}
+  ([^MemorySegment out ^MemorySegment a ^MemorySegment b]
+   (RayMath/matrixAdd out a b))
+  ([^floats out out-offset ^floats a a-offset ^floats b b-offset]
+   (RayMath/matrixAdd out (int out-offset) a (int a-offset) b (int b-offset))))
+
+(defn matrix-subtract
+  "Sets out to a - b"
+  {:inline (fn [& args] `(RayMath/matrixSubtract ~@args))
+   :inline-arities #{3 6}}
+  ([^MemorySegment out ^MemorySegment a ^MemorySegment b]
+   (RayMath/matrixSubtract out a b))
+  ([^floats out out-offset ^floats a a-offset ^floats b b-offset]
+   (RayMath/matrixSubtract out (int out-offset) a (int a-offset) b (int b-offset))))
+
+(defn matrix-multiply
+  "Sets out to left * right, applies left first"
+  {:inline (fn [& args] `(RayMath/matrixMultiply ~@args))
+   :inline-arities #{3 6}}
+  ([^MemorySegment out ^MemorySegment left ^MemorySegment right]
+   (RayMath/matrixMultiply out left right))
+  ([^floats out out-offset ^floats left left-offset ^floats right right-offset]
+   (RayMath/matrixMultiply out (int out-offset) left (int left-offset) right (int right-offset))))
+
+(defn matrix-invert
+  "Sets out to the inverse of mat"
+  {:inline (fn [& args] `(RayMath/matrixInvert ~@args))
+   :inline-arities #{2 4}}
+  ([^MemorySegment out ^MemorySegment mat]
+   (RayMath/matrixInvert out mat))
+  ([^floats out out-offset ^floats mat mat-offset]
+   (RayMath/matrixInvert out (int out-offset) mat (int mat-offset))))
+
+(defn matrix-translate
+  "Sets out to a translation matrix"
+  {:inline (fn [& args] `(RayMath/matrixTranslate ~@args))
+   :inline-arities #{4 5}}
+  ([^MemorySegment out x y z]
+   (RayMath/matrixTranslate out (float x) (float y) (float z)))
+  ([^floats out out-offset x y z]
+   (RayMath/matrixTranslate out (int out-offset) (float x) (float y) (float z))))
+
+(defn matrix-scale
+  "Sets out to a scaling matrix"
+  {:inline (fn [& args] `(RayMath/matrixScale ~@args))
+   :inline-arities #{4 5}}
+  ([^MemorySegment out x y z]
+   (RayMath/matrixScale out (float x) (float y) (float z)))
+  ([^floats out out-offset x y z]
+   (RayMath/matrixScale out (int out-offset) (float x) (float y) (float z))))
+
+(defn matrix-rotate
+  "Sets out to a rotation by angle in radians around axis"
+  {:inline (fn [& args] `(RayMath/matrixRotate ~@args))
+   :inline-arities #{3 5}}
+  ([^MemorySegment out ^MemorySegment axis angle]
+   (RayMath/matrixRotate out axis (float angle)))
+  ([^floats out out-offset ^floats axis axis-offset angle]
+   (RayMath/matrixRotate out (int out-offset) axis (int axis-offset) (float angle))))
+
+(defn matrix-rotate-x
+  "Sets out to a rotation around x in radians"
+  {:inline (fn [& args] `(RayMath/matrixRotateX ~@args))
+   :inline-arities #{2 3}}
+  ([^MemorySegment out angle]
+   (RayMath/matrixRotateX out (float angle)))
+  ([^floats out out-offset angle]
+   (RayMath/matrixRotateX out (int out-offset) (float angle))))
+
+(defn matrix-rotate-y
+  "Sets out to a rotation around y in radians"
+  {:inline (fn [& args] `(RayMath/matrixRotateY ~@args))
+   :inline-arities #{2 3}}
+  ([^MemorySegment out angle]
+   (RayMath/matrixRotateY out (float angle)))
+  ([^floats out out-offset angle]
+   (RayMath/matrixRotateY out (int out-offset) (float angle))))
+
+(defn matrix-rotate-z
+  "Sets out to a rotation around z in radians"
+  {:inline (fn [& args] `(RayMath/matrixRotateZ ~@args))
+   :inline-arities #{2 3}}
+  ([^MemorySegment out angle]
+   (RayMath/matrixRotateZ out (float angle)))
+  ([^floats out out-offset angle]
+   (RayMath/matrixRotateZ out (int out-offset) (float angle))))
+
+(defn matrix-rotate-xyz
+  "Sets out to a rotation from euler angles in radians"
+  {:inline (fn [& args] `(RayMath/matrixRotateXYZ ~@args))
+   :inline-arities #{4 5}}
+  ([^MemorySegment out x y z]
+   (RayMath/matrixRotateXYZ out (float x) (float y) (float z)))
+  ([^floats out out-offset x y z]
+   (RayMath/matrixRotateXYZ out (int out-offset) (float x) (float y) (float z))))
+
+(defn matrix-frustum
+  "Sets out to a perspective projection from frustum planes"
+  {:inline (fn [& args] `(RayMath/matrixFrustum ~@args))
+   :inline-arities #{7 8}}
+  ([^MemorySegment out left right bottom top near far]
+   (RayMath/matrixFrustum out (float left) (float right) (float bottom) (float top) (float near) (float far)))
+  ([^floats out out-offset left right bottom top near far]
+   (RayMath/matrixFrustum out (int out-offset) (float left) (float right) (float bottom) (float top) (float near) (float far))))
+
+(defn matrix-perspective
+  "Sets out to a perspective projection, fovY in radians"
+  {:inline (fn [& args] `(RayMath/matrixPerspective ~@args))
+   :inline-arities #{5 6}}
+  ([^MemorySegment out fov-y aspect near far]
+   (RayMath/matrixPerspective out (float fov-y) (float aspect) (float near) (float far)))
+  ([^floats out out-offset fov-y aspect near far]
+   (RayMath/matrixPerspective out (int out-offset) (float fov-y) (float aspect) (float near) (float far))))
+
+(defn matrix-ortho
+  "Sets out to an orthographic projection"
+  {:inline (fn [& args] `(RayMath/matrixOrtho ~@args))
+   :inline-arities #{7 8}}
+  ([^MemorySegment out left right bottom top near far]
+   (RayMath/matrixOrtho out (float left) (float right) (float bottom) (float top) (float near) (float far)))
+  ([^floats out out-offset left right bottom top near far]
+   (RayMath/matrixOrtho out (int out-offset) (float left) (float right) (float bottom) (float top) (float near) (float far))))
+
+(defn matrix-look-at
+  "Sets out to a view matrix looking from eye at target"
+  {:inline (fn [& args] `(RayMath/matrixLookAt ~@args))
+   :inline-arities #{4 8}}
+  ([^MemorySegment out ^MemorySegment eye ^MemorySegment target ^MemorySegment up]
+   (RayMath/matrixLookAt out eye target up))
+  ([^floats out out-offset ^floats eye eye-offset ^floats target target-offset ^floats up up-offset]
+   (RayMath/matrixLookAt out (int out-offset) eye (int eye-offset) target (int target-offset) up (int up-offset))))
@@ -12,249 +12,345 @@
 (defn matrix-mode
   "Choose the current matrix to be transformed
   [int mode] -> void"
-  [mode]
+  {:inline (fn [mode]
+             `(rlgl_h/rlMatrixMode ~mode))}
+  [^long mode]
   (rlgl_h/rlMatrixMode mode))
 
 (defn push-matrix
   "Push the current matrix to stack
   [] -> void"
+  {:inline (fn []
+             `(rlgl_h/rlPushMatrix))}
   []
   (rlgl_h/rlPushMatrix))
 
 (defn pop-matrix
   "Pop latest inserted matrix from stack
   [] -> void"
+  {:inline (fn []
+             `(rlgl_h/rlPopMatrix))}
   []
   (rlgl_h/rlPopMatrix))
 
 (defn load-identity
   "Reset current matrix to identity matrix
   [] -> void"
+  {:inline (fn []
+             `(rlgl_h/rlLoadIdentity))}
   []
   (rlgl_h/rlLoadIdentity))
 
 (defn translatef
   "Multiply the current matrix by a translation matrix
   [float x, float y, float z] -> void"
-  [x y z]
+  {:inline (fn [x y z]
+             `(rlgl_h/rlTranslatef ~x ~y ~z))}
+  [^double x ^double y ^double z]
   (rlgl_h/rlTranslatef x y z))
 
 (defn rotatef
   "Multiply the current matrix by a rotation matrix
   [float angle, float x, float y, float z] -> void"
-  [angle x y z]
+  {:inline (fn [angle x y z]
+             `(rlgl_h/rlRotatef ~angle ~x ~y ~z))}
+  [^double angle ^double x ^double y ^double z]
   (rlgl_h/rlRotatef angle x y z))
 
 (defn scalef
   "Multiply the current matrix by a scaling matrix
   [float x, float y, float z] -> void"
-  [x y z]
+  {:inline (fn [x y z]
+             `(rlgl_h/rlScalef ~x ~y ~z))}
+  [^double x ^double y ^double z]
   (rlgl_h/rlScalef x y z))
 
 (defn mult-matrixf
   "Multiply the current matrix by another matrix
   [const float * matf] -> void"
+  {:inline (fn [matf]
+             `(rlgl_h/rlMultMatrixf ~matf))}
   [matf]
   (rlgl_h/rlMultMatrixf matf))
 
 (defn frustum
   "
   [double left, double right, double bottom, double top, double znear, double zfar] -> void"
+  {:inline (fn [left right bottom top znear zfar]
+             `(rlgl_h/rlFrustum ~left ~right ~bottom ~top ~znear ~zfar))}
   [left right bottom top znear zfar]
   (rlgl_h/rlFrustum left right bottom top znear zfar))
 
 (defn ortho
   "
   [double left, double right, double bottom, double top, double znear, double zfar] -> void"
+  {:inline (fn [left right bottom top znear zfar]
+             `(rlgl_h/rlOrtho ~left ~right ~bottom ~top ~znear ~zfar))}
   [left right bottom top znear zfar]
   (rlgl_h/rlOrtho left right bottom top znear zfar))
 
 (defn viewport
   "Set the viewport area
   [int x, int y, int width, int height] -> void"
-  [x y width height]
+  {:inline (fn [x y width height]
+             `(rlgl_h/rlViewport ~x ~y ~width ~height))}
+  [^long x ^long y ^long width ^long height]
   (rlgl_h/rlViewport x y width height))
 
 (defn begin
   "Initialize drawing mode (how to organize vertex)
   [int mode] -> void"
-  [mode]
+  {:inline (fn [mode]
+             `(rlgl_h/rlBegin ~mode))}
+  [^long mode]
   (rlgl_h/rlBegin mode))
 
-(defn end "Finish vertex providing
-  [] -> void" [] (rlgl_h/rlEnd))
+(defn end
+  "Finish vertex providing
+  [] -> void"
+  {:inline (fn []
+             `(rlgl_h/rlEnd))}
+  []
+  (rlgl_h/rlEnd))
 
 (defn vertex2i
   "Define one vertex (position) - 2 int
   [int x, int y] -> void"
-  [x y]
+  {:inline (fn [x y]
+             `(rlgl_h/rlVertex2i ~x ~y))}
+  [^long x ^long y]
   (rlgl_h/rlVertex2i x y))
 
 (defn vertex2f
   "Define one vertex (position) - 2 float
   [float x, float y] -> void"
-  [x y]
+  {:inline (fn [x y]
+             `(rlgl_h/rlVertex2f ~x ~y))}
+  [^double x ^double y]
   (rlgl_h/rlVertex2f x y))
 
 (defn vertex3f
   "Define one vertex (position) - 3 float
   [float x, float y, float z] -> void"
-  [x y z]
+  {:inline (fn [x y z]
+             `(rlgl_h/rlVertex3f ~x ~y ~z))}
+  [^double x ^double y ^double z]
   (rlgl_h/rlVertex3f x y z))
 
 (defn tex-coord2f
   "Define one vertex (texture coordinate) - 2 float
   [float x, float y] -> void"
-  [x y]
+  {:inline (fn [x y]
+             `(rlgl_h/rlTexCoord2f ~x ~y))}
+  [^double x ^double y]
   (rlgl_h/rlTexCoord2f x y))
 
 (defn normal3f
   "Define one vertex (normal) - 3 float
   [float x, float y, float z] -> void"
-  [x y z]
+  {:inline (fn [x y z]
+             `(rlgl_h/rlNormal3f ~x ~y ~z))}
+  [^double x ^double y ^double z]
   (rlgl_h/rlNormal3f x y z))
 
 (defn color4ub
   "Define one vertex (color) - 4 byte
   [unsigned char r, unsigned char g, unsigned char b, unsigned char a] -> void"
+  {:inline (fn [r g b a]
+             `(rlgl_h/rlColor4ub ~r ~g ~b ~a))}
   [r g b a]
   (rlgl_h/rlColor4ub r g b a))
 
 (defn color3f
   "Define one vertex (color) - 3 float
   [float x, float y, float z] -> void"
-  [x y z]
+  {:inline (fn [x y z]
+             `(rlgl_h/rlColor3f ~x ~y ~z))}
+  [^double x ^double y ^double z]
   (rlgl_h/rlColor3f x y z))
 
 (defn color4f
   "Define one vertex (color) - 4 float
   [float x, float y, float z, float w] -> void"
-  [x y z w]
+  {:inline (fn [x y z w]
+             `(rlgl_h/rlColor4f ~x ~y ~z ~w))}
+  [^double x ^double y ^double z ^double w]
   (rlgl_h/rlColor4f x y z w))
 
 (defn enable-vertex-array?
   "Enable vertex array (VAO, if supported)
   [unsigned int vaoId] -> bool"
-  [vao-id]
+  {:inline (fn [vao-id]
+             `(rlgl_h/rlEnableVertexArray ~vao-id))}
+  [^long vao-id]
   (rlgl_h/rlEnableVertexArray vao-id))
 
 (defn disable-vertex-array
   "Disable vertex array (VAO, if supported)
   [] -> void"
+  {:inline (fn []
+             `(rlgl_h/rlDisableVertexArray))}
   []
   (rlgl_h/rlDisableVertexArray))
 
 (defn enable-vertex-buffer
   "Enable vertex buffer (VBO)
   [unsigned int id] -> void"
-  [id]
+  {:inline (fn [id]
+             `(rlgl_h/rlEnableVertexBuffer ~id))}
+  [^long id]
   (rlgl_h/rlEnableVertexBuffer id))
 
 (defn disable-vertex-buffer
   "Disable vertex buffer (VBO)
   [] -> void"
+  {:inline (fn []
+             `(rlgl_h/rlDisableVertexBuffer))}
   []
   (rlgl_h/rlDisableVertexBuffer))
 
 (defn enable-vertex-buffer-element
   "Enable vertex buffer element (VBO element)
   [unsigned int id] -> void"
-  [id]
+  {:inline (fn [id]
+             `(rlgl_h/rlEnableVertexBufferElement ~id))}
+  [^long id]
   (rlgl_h/rlEnableVertexBufferElement id))
 
 (defn disable-vertex-buffer-element
   "Disable vertex buffer element (VBO element)
   [] -> void"
+  {:inline (fn []
+             `(rlgl_h/rlDisableVertexBufferElement))}
   []
   (rlgl_h/rlDisableVertexBufferElement))
 
 (defn enable-vertex-attribute
   "Enable vertex attribute index
   [unsigned int index] -> void"
-  [index]
+  {:inline (fn [index]
+             `(rlgl_h/rlEnableVertexAttribute ~index))}
+  [^long index]
   (rlgl_h/rlEnableVertexAttribute index))
 
 (defn disable-vertex-attribute
   "Disable vertex attribute index
   [unsigned int index] -> void"
-  [index]
+  {:inline (fn [index]
+             `(rlgl_h/rlDisableVertexAttribute ~index))}
+  [^long index]
   (rlgl_h/rlDisableVertexAttribute index))
 
 (defn active-texture-slot
   "Select and active a texture slot
   [int slot] -> void"
-  [slot]
+  {:inline (fn [slot]
+             `(rlgl_h/rlActiveTextureSlot ~slot))}
+  [^long slot]
   (rlgl_h/rlActiveTextureSlot slot))
 
 (defn enable-texture
   "Enable texture
   [unsigned int id] -> void"
-  [id]
+  {:inline (fn [id]
+             `(rlgl_h/rlEnableTexture ~id))}
+  [^long id]
   (rlgl_h/rlEnableTexture id))
 
 (defn disable-texture
   "Disable texture
   [] -> void"
+  {:inline (fn []
+             `(rlgl_h/rlDisableTexture))}
   []
   (rlgl_h/rlDisableTexture))
 
 (defn enable-texture-cubemap
   "Enable texture cubemap
   [unsigned int id] -> void"
-  [id]
+  {:inline (fn [id]
+             `(rlgl_h/rlEnableTextureCubemap ~id))}
+  [^long id]
   (rlgl_h/rlEnableTextureCubemap id))
 
 (defn disable-texture-cubemap
   "Disable texture cubemap
   [] -> void"
+  {:inline (fn []
+             `(rlgl_h/rlDisableTextureCubemap))}
   []
   (rlgl_h/rlDisableTextureCubemap))
 
 (defn texture-parameters
   "Set texture parameters (filter, wrap)
   [unsigned int id, int param, int value] -> void"
-  [id param value]
+  {:inline (fn [id param value]
+             `(rlgl_h/rlTextureParameters ~id ~param ~value))}
+  [^long id ^long param ^long value]
   (rlgl_h/rlTextureParameters id param value))
 
 (defn cubemap-parameters
   "Set cubemap parameters (filter, wrap)
   [unsigned int id, int param, int value] -> void"
-  [id param value]
+  {:inline (fn [id param value]
+             `(rlgl_h/rlCubemapParameters ~id ~param ~value))}
+  [^long id ^long param ^long value]
   (rlgl_h/rlCubemapParameters id param value))
 
 (defn enable-shader
   "Enable shader program
   [unsigned int id] -> void"
-  [id]
+  {:inline (fn [id]
+             `(rlgl_h/rlEnableShader ~id))}
+  [^long id]
   (rlgl_h/rlEnableShader id))
 
 (defn disable-shader
   "Disable shader program
   [] -> void"
+  {:inline (fn []
+             `(rlgl_h/rlDisableShader))}
   []
   (rlgl_h/rlDisableShader))
 
 (defn enable-framebuffer
   "Enable render texture (fbo)
   [unsigned int id] -> void"
-  [id]
+  {:inline (fn [id]
+             `(rlgl_h/rlEnableFramebuffer ~id))}
+  [^long id]
   (rlgl_h/rlEnableFramebuffer id))
 
 (defn disable-framebuffer
   "Disable render texture (fbo), return to default framebuffer
   [] -> void"
+  {:inline (fn []
+             `(rlgl_h/rlDisableFramebuffer))}
   []
   (rlgl_h/rlDisableFramebuffer))
 
 (defn active-draw-buffers
   "Activate multiple draw color buffers
   [int count] -> void"
-  [count]
+  {:inline (fn [count]
+             `(rlgl_h/rlActiveDrawBuffers ~count))}
+  [^long count]
   (rlgl_h/rlActiveDrawBuffers count))
 
 (defn blit-framebuffer
   "Blit active framebuffer to main framebuffer
   [int srcX, int srcY, int srcWidth, int srcHeight, int dstX, int dstY, int dstWidth, int dstHeight, int bufferMask] -> void"
+  {:inline (fn [src-x src-y src-width src-height dst-x dst-y dst-width dst-height
+                buffer-mask]
+             `(rlgl_h/rlBlitFramebuffer ~src-x
+                                        ~src-y
+                                        ~src-width
+                                        ~src-height
+                                        ~dst-x
+                                        ~dst-y
+                                        ~dst-width
+                                        ~dst-height
+                                        ~buffer-mask))}
   [src-x src-y src-width src-height dst-x dst-y dst-width dst-height
    buffer-mask]
   (rlgl_h/rlBlitFramebuffer src-x
@@ -270,168 +366,229 @@
 (defn enable-color-blend
   "Enable color blending
   [] -> void"
+  {:inline (fn []
+             `(rlgl_h/rlEnableColorBlend))}
   []
   (rlgl_h/rlEnableColorBlend))
 
 (defn disable-color-blend
   "Disable color blending
   [] -> void"
+  {:inline (fn []
+             `(rlgl_h/rlDisableColorBlend))}
   []
   (rlgl_h/rlDisableColorBlend))
 
 (defn enable-depth-test
   "Enable depth test
   [] -> void"
+  {:inline (fn []
+             `(rlgl_h/rlEnableDepthTest))}
   []
   (rlgl_h/rlEnableDepthTest))
 
 (defn disable-depth-test
   "Disable depth test
   [] -> void"
+  {:inline (fn []
+             `(rlgl_h/rlDisableDepthTest))}
   []
   (rlgl_h/rlDisableDepthTest))
 
 (defn enable-depth-mask
   "Enable depth write
   [] -> void"
+  {:inline (fn []
+             `(rlgl_h/rlEnableDepthMask))}
   []
   (rlgl_h/rlEnableDepthMask))
 
 (defn disable-depth-mask
   "Disable depth write
   [] -> void"
+  {:inline (fn []
+             `(rlgl_h/rlDisableDepthMask))}
   []
   (rlgl_h/rlDisableDepthMask))
 
 (defn enable-backface-culling
   "Enable backface culling
   [] -> void"
+  {:inline (fn []
+             `(rlgl_h/rlEnableBackfaceCulling))}
   []
   (rlgl_h/rlEnableBackfaceCulling))
 
 (defn disable-backface-culling
   "Disable backface culling
   [] -> void"
+  {:inline (fn []
+             `(rlgl_h/rlDisableBackfaceCulling))}
   []
   (rlgl_h/rlDisableBackfaceCulling))
 
 (defn set-cull-face
   "Set face culling mode
   [int mode] -> void"
-  [mode]
+  {:inline (fn [mode]
+             `(rlgl_h/rlSetCullFace ~mode))}
+  [^long mode]
   (rlgl_h/rlSetCullFace mode))
 
 (defn enable-scissor-test
   "Enable scissor test
   [] -> void"
+  {:inline (fn []
+             `(rlgl_h/rlEnableScissorTest))}
   []
   (rlgl_h/rlEnableScissorTest))
 
 (defn disable-scissor-test
   "Disable scissor test
   [] -> void"
+  {:inline (fn []
+             `(rlgl_h/rlDisableScissorTest))}
   []
   (rlgl_h/rlDisableScissorTest))
 
 (defn scissor
   "Scissor test
   [int x, int y, int width, int height] -> void"
-  [x y width height]
+  {:inline (fn [x y width height]
+             `(rlgl_h/rlScissor ~x ~y ~width ~height))}
+  [^long x ^long y ^long width ^long height]
   (rlgl_h/rlScissor x y width height))
 
 (defn enable-wire-mode
   "Enable wire mode
   [] -> void"
+  {:inline (fn []
+             `(rlgl_h/rlEnableWireMode))}
   []
   (rlgl_h/rlEnableWireMode))
 
 (defn enable-point-mode
   "Enable point mode
   [] -> void"
+  {:inline (fn []
+             `(rlgl_h/rlEnablePointMode))}
   []
   (rlgl_h/rlEnablePointMode))
 
 (defn disable-wire-mode
   "Disable wire mode ( and point ) maybe rename
   [] -> void"
+  {:inline (fn []
+             `(rlgl_h/rlDisableWireMode))}
   []
   (rlgl_h/rlDisableWireMode))
 
 (defn set-line-width
   "Set the line drawing width
   [float width] -> void"
-  [width]
+  {:inline (fn [width]
+             `(rlgl_h/rlSetLineWidth ~width))}
+  [^double width]
   (rlgl_h/rlSetLineWidth width))
 
 (defn get-line-width
   "Get the line drawing width
   [] -> float"
-  []
+  {:inline (fn []
+             `(double (rlgl_h/rlGetLineWidth)))}
+  ^double []
   (rlgl_h/rlGetLineWidth))
 
 (defn enable-smooth-lines
   "Enable line aliasing
   [] -> void"
+  {:inline (fn []
+             `(rlgl_h/rlEnableSmoothLines))}
   []
   (rlgl_h/rlEnableSmoothLines))
 
 (defn disable-smooth-lines
   "Disable line aliasing
   [] -> void"
+  {:inline (fn []
+             `(rlgl_h/rlDisableSmoothLines))}
   []
   (rlgl_h/rlDisableSmoothLines))
 
 (defn enable-stereo-render
   "Enable stereo rendering
   [] -> void"
+  {:inline (fn []
+             `(rlgl_h/rlEnableStereoRender))}
   []
   (rlgl_h/rlEnableStereoRender))
 
 (defn disable-stereo-render
   "Disable stereo rendering
   [] -> void"
+  {:inline (fn []
+             `(rlgl_h/rlDisableStereoRender))}
   []
   (rlgl_h/rlDisableStereoRender))
 
 (defn is-stereo-render-enabled?
   "Check if stereo render is enabled
   [] -> bool"
+  {:inline (fn []
+             `(rlgl_h/rlIsStereoRenderEnabled))}
   []
   (rlgl_h/rlIsStereoRenderEnabled))
 
 (defn clear-color
   "Clear color buffer with color
   [unsigned char r, unsigned char g, unsigned char b, unsigned char a] -> void"
+  {:inline (fn [r g b a]
+             `(rlgl_h/rlClearColor ~r ~g ~b ~a))}
   [r g b a]
   (rlgl_h/rlClearColor r g b a))
 
 (defn clear-screen-buffers
   "Clear used screen buffers (color and depth)
   [] -> void"
+  {:inline (fn []
+             `(rlgl_h/rlClearScreenBuffers))}
   []
   (rlgl_h/rlClearScreenBuffers))
 
 (defn check-errors
   "Check and log OpenGL error codes
   [] -> void"
+  {:inline (fn []
+             `(rlgl_h/rlCheckErrors))}
   []
   (rlgl_h/rlCheckErrors))
 
 (defn set-blend-mode
   "Set blending mode
   [int mode] -> void"
-  [mode]
+  {:inline (fn [mode]
+             `(rlgl_h/rlSetBlendMode ~mode))}
+  [^long mode]
   (rlgl_h/rlSetBlendMode mode))
 
 (defn set-blend-factors
   "Set blending mode factor and equation (using OpenGL factors)
   [int glSrcFactor, int glDstFactor, int glEquation] -> void"
-  [gl-src-factor gl-dst-factor gl-equation]
+  {:inline (fn [gl-src-factor gl-dst-factor gl-equation]
+             `(rlgl_h/rlSetBlendFactors ~gl-src-factor ~gl-dst-factor ~gl-equation))}
+  [^long gl-src-factor ^long gl-dst-factor ^long gl-equation]
   (rlgl_h/rlSetBlendFactors gl-src-factor gl-dst-factor gl-equation))
 
 (defn set-blend-factors-separate
   "Set blending mode factors and equations separately (using OpenGL factors)
   [int glSrcRGB, int glDstRGB, int glSrcAlpha, int glDstAlpha, int glEqRGB, int glEqAlpha] -> void"
+  {:inline (fn [gl-src-rgb gl-dst-rgb gl-src-alpha gl-dst-alpha gl-eq-rgb gl-eq-alpha]
+             `(rlgl_h/rlSetBlendFactorsSeparate ~gl-src-rgb
+                                                ~gl-dst-rgb
+                                                ~gl-src-alpha
+                                                ~gl-dst-alpha
+                                                ~gl-eq-rgb
+                                                ~gl-eq-alpha))}
   [gl-src-rgb gl-dst-rgb gl-src-alpha gl-dst-alpha gl-eq-rgb gl-eq-alpha]
   (rlgl_h/rlSetBlendFactorsSeparate gl-src-rgb
                                     gl-dst-rgb
@@ -443,66 +600,88 @@
 (defn rlgl-init
   "Initialize rlgl (buffers, shaders, textures, states)
   [int width, int height] -> void"
-  [width height]
+  {:inline (fn [width height]
+             `(rlgl_h/rlglInit ~width ~height))}
+  [^long width ^long height]
   (rlgl_h/rlglInit width height))
 
 (defn rlgl-close
   "De-initialize rlgl (buffers, shaders, textures)
   [] -> void"
+  {:inline (fn []
+             `(rlgl_h/rlglClose))}
   []
   (rlgl_h/rlglClose))
 
 (defn load-extensions
   "Load OpenGL extensions (loader function required)
   [void * loader] -> void"
+  {:inline (fn [loader]
+             `(rlgl_h/rlLoadExtensions ~loader))}
   [loader]
   (rlgl_h/rlLoadExtensions loader))
 
 (defn get-version
   "Get current OpenGL version
   [] -> int"
-  []
+  {:inline (fn []
+             `(long (rlgl_h/rlGetVersion)))}
+  ^long []
   (rlgl_h/rlGetVersion))
 
 (defn set-framebuffer-width
   "Set current framebuffer width
   [int width] -> void"
-  [width]
+  {:inline (fn [width]
+             `(rlgl_h/rlSetFramebufferWidth ~width))}
+  [^long width]
   (rlgl_h/rlSetFramebufferWidth width))
 
 (defn get-framebuffer-width
   "Get default framebuffer width
   [] -> int"
-  []
+  {:inline (fn []
+             `(long (rlgl_h/rlGetFramebufferWidth)))}
+  ^long []
   (rlgl_h/rlGetFramebufferWidth))
 
 (defn set-framebuffer-height
   "Set current framebuffer height
   [int height] -> void"
-  [height]
+  {:inline (fn [height]
+             `(rlgl_h/rlSetFramebufferHeight ~height))}
+  [^long height]
   (rlgl_h/rlSetFramebufferHeight height))
 
 (defn get-framebuffer-height
   "Get default framebuffer height
   [] -> int"
-  []
+  {:inline (fn []
+             `(long (rlgl_h/rlGetFramebufferHeight)))}
+  ^long []
   (rlgl_h/rlGetFramebufferHeight))
 
 (defn get-texture-id-default
   "Get default texture id
   [] -> unsigned int"
-  []
+  {:inline (fn []
+             `(long (rlgl_h/rlGetTextureIdDefault)))}
+  ^long []
   (rlgl_h/rlGetTextureIdDefault))
 
 (defn get-shader-id-default
   "Get default shader id
   [] -> unsigned int"
-  []
+  {:inline (fn []
+             `(long (rlgl_h/rlGetShaderIdDefault)))}
+  ^long []
   (rlgl_h/rlGetShaderIdDefault))
 
 (defn get-shader-locs-default
   "Get default shader locations
   [] -> int *"
+  {:inline (fn []
+             `(rlgl_h/rlGetShaderLocsDefault))}
   []
   (rlgl_h/rlGetShaderLocsDefault))
 
@@ -510,332 +689,452 @@
   "Load a render batch system
   [int numBuffers, int bufferElements] -> rlRenderBatch"
   [num-buffers buffer-elements]
-  (rstructs/get-render-batch (rlgl_h/rlLoadRenderBatch memory/*current-arena*
+  (rstructs/get-render-batch (rlgl_h/rlLoadRenderBatch (memory/result-arena)
                                                        num-buffers
                                                        buffer-elements)))
 
+(defn load-render-batch!
+  "Load a render batch system (written into dest)
+  [rlRenderBatch * dest, int numBuffers, int bufferElements] -> rlRenderBatch *"
+  {:inline (fn [dest num-buffers buffer-elements]
+             `(rlgl_h/rlLoadRenderBatch (memory/prefix-allocator ~dest)
+                                        ~num-buffers
+                                        ~buffer-elements))}
+  [dest ^long num-buffers ^long buffer-elements]
+  (rlgl_h/rlLoadRenderBatch (memory/prefix-allocator dest)
+                            num-buffers
+                            buffer-elements))
+
 (defn unload-render-batch
   "Unload render batch system
   [rlRenderBatch batch] -> void"
+  {:inline (fn [batch]
+             `(rlgl_h/rlUnloadRenderBatch (rstructs/render-batch ~batch)))}
   [batch]
   (rlgl_h/rlUnloadRenderBatch (rstructs/render-batch batch)))
 
 (defn draw-render-batch
   "Draw render batch data (Update->Draw->Reset)
   [rlRenderBatch * batch] -> void"
+  {:inline (fn [batch]
+             `(rlgl_h/rlDrawRenderBatch (rstructs/render-batch ~batch)))}
   [batch]
   (rlgl_h/rlDrawRenderBatch (rstructs/render-batch batch)))
 
 (defn set-render-batch-active
   "Set the active render batch for rlgl (NULL for default internal)
   [rlRenderBatch * batch] -> void"
+  {:inline (fn [batch]
+             `(rlgl_h/rlSetRenderBatchActive (rstructs/render-batch ~batch)))}
   [batch]
   (rlgl_h/rlSetRenderBatchActive (rstructs/render-batch batch)))
 
 (defn draw-render-batch-active
   "Update and draw internal render batch
   [] -> void"
+  {:inline (fn []
+             `(rlgl_h/rlDrawRenderBatchActive))}
   []
   (rlgl_h/rlDrawRenderBatchActive))
 
 (defn check-render-batch-limit?
   "Check internal buffer overflow for a given number of vertex
   [int vCount] -> bool"
-  [v-count]
+  {:inline (fn [v-count]
+             `(rlgl_h/rlCheckRenderBatchLimit ~v-count))}
+  [^long v-count]
   (rlgl_h/rlCheckRenderBatchLimit v-count))
 
 (defn set-texture
   "Set current texture for render batch and check buffers limits
   [unsigned int id] -> void"
-  [id]
+  {:inline (fn [id]
+             `(rlgl_h/rlSetTexture ~id))}
+  [^long id]
   (rlgl_h/rlSetTexture id))
 
 (defn load-vertex-array
   "Load vertex array (vao) if supported
   [] -> unsigned int"
-  []
+  {:inline (fn []
+             `(long (rlgl_h/rlLoadVertexArray)))}
+  ^long []
   (rlgl_h/rlLoadVertexArray))
 
 (defn load-vertex-buffer
   "Load a vertex buffer attribute
   [const void * buffer, int size, bool dynamic] -> unsigned int"
-  [buffer size dynamic]
+  {:inline (fn [buffer size dynamic]
+             `(long (rlgl_h/rlLoadVertexBuffer ~buffer ~size ~dynamic)))}
+  ^long [buffer ^long size dynamic]
   (rlgl_h/rlLoadVertexBuffer buffer size dynamic))
 
 (defn load-vertex-buffer-element
   "Load a new attributes element buffer
   [const void * buffer, int size, bool dynamic] -> unsigned int"
-  [buffer size dynamic]
+  {:inline (fn [buffer size dynamic]
+             `(long (rlgl_h/rlLoadVertexBufferElement ~buffer ~size ~dynamic)))}
+  ^long [buffer ^long size dynamic]
   (rlgl_h/rlLoadVertexBufferElement buffer size dynamic))
 
 (defn update-vertex-buffer
   "Update GPU buffer with new data
   [unsigned int bufferId, const void * data, int dataSize, int offset] -> void"
-  [buffer-id data data-size offset]
+  {:inline (fn [buffer-id data data-size offset]
+             `(rlgl_h/rlUpdateVertexBuffer ~buffer-id ~data ~data-size ~offset))}
+  [^long buffer-id data ^long data-size ^long offset]
   (rlgl_h/rlUpdateVertexBuffer buffer-id data data-size offset))
 
 (defn update-vertex-buffer-elements
   "Update vertex buffer elements with new data
   [unsigned int id, const void * data, int dataSize, int offset] -> void"
-  [id data data-size offset]
+  {:inline (fn [id data data-size offset]
+             `(rlgl_h/rlUpdateVertexBufferElements ~id ~data ~data-size ~offset))}
+  [^long id data ^long data-size ^long offset]
   (rlgl_h/rlUpdateVertexBufferElements id data data-size offset))
 
 (defn unload-vertex-array
   "
   [unsigned int vaoId] -> void"
-  [vao-id]
+  {:inline (fn [vao-id]
+             `(rlgl_h/rlUnloadVertexArray ~vao-id))}
+  [^long vao-id]
   (rlgl_h/rlUnloadVertexArray vao-id))
 
 (defn unload-vertex-buffer
   "
   [unsigned int vboId] -> void"
-  [vbo-id]
+  {:inline (fn [vbo-id]
+             `(rlgl_h/rlUnloadVertexBuffer ~vbo-id))}
+  [^long vbo-id]
   (rlgl_h/rlUnloadVertexBuffer vbo-id))
 
 (defn set-vertex-attribute
   "
   [unsigned int index, int compSize, int type, bool normalized, int stride, const void * pointer] -> void"
+  {:inline (fn [index comp-size type normalized stride pointer]
+             `(rlgl_h/rlSetVertexAttribute ~index ~comp-size ~type ~normalized ~stride ~pointer))}
   [index comp-size type normalized stride pointer]
   (rlgl_h/rlSetVertexAttribute index comp-size type normalized stride pointer))
 
 (defn set-vertex-attribute-divisor
   "
   [unsigned int index, int divisor] -> void"
-  [index divisor]
+  {:inline (fn [index divisor]
+             `(rlgl_h/rlSetVertexAttributeDivisor ~index ~divisor))}
+  [^long index ^long divisor]
   (rlgl_h/rlSetVertexAttributeDivisor index divisor))
 
 (defn set-vertex-attribute-default
   "Set vertex attribute default value
   [int locIndex, const void * value, int attribType, int count] -> void"
-  [loc-index value attrib-type count]
+  {:inline (fn [loc-index value attrib-type count]
+             `(rlgl_h/rlSetVertexAttributeDefault ~loc-index ~value ~attrib-type ~count))}
+  [^long loc-index value ^long attrib-type ^long count]
   (rlgl_h/rlSetVertexAttributeDefault loc-index value attrib-type count))
 
 (defn draw-vertex-array
   "
   [int offset, int count] -> void"
-  [offset count]
+  {:inline (fn [offset count]
+             `(rlgl_h/rlDrawVertexArray ~offset ~count))}
+  [^long offset ^long count]
   (rlgl_h/rlDrawVertexArray offset count))
 
 (defn draw-vertex-array-elements
   "
   [int offset, int count, const void * buffer] -> void"
-  [offset count buffer]
+  {:inline (fn [offset count buffer]
+             `(rlgl_h/rlDrawVertexArrayElements ~offset ~count ~buffer))}
+  [^long offset ^long count buffer]
   (rlgl_h/rlDrawVertexArrayElements offset count buffer))
 
 (defn draw-vertex-array-instanced
   "
   [int offset, int count, int instances] -> void"
-  [offset count instances]
+  {:inline (fn [offset count instances]
+             `(rlgl_h/rlDrawVertexArrayInstanced ~offset ~count ~instances))}
+  [^long offset ^long count ^long instances]
   (rlgl_h/rlDrawVertexArrayInstanced offset count instances))
 
 (defn draw-vertex-array-elements-instanced
   "
   [int offset, int count, const void * buffer, int instances] -> void"
-  [offset count buffer instances]
+  {:inline (fn [offset count buffer instances]
+             `(rlgl_h/rlDrawVertexArrayElementsInstanced ~offset ~count ~buffer ~instances))}
+  [^long offset ^long count buffer ^long instances]
   (rlgl_h/rlDrawVertexArrayElementsInstanced offset count buffer instances))
 
 (defn load-texture
   "Load texture in GPU
   [const void * data, int width, int height, int format, int mipmapCount] -> unsigned int"
+  {:inline (fn [data width height format mipmap-count]
+             `(rlgl_h/rlLoadTexture ~data ~width ~height ~format ~mipmap-count))}
   [data width height format mipmap-count]
   (rlgl_h/rlLoadTexture data width height format mipmap-count))
 
 (defn load-texture-depth
   "Load depth texture/renderbuffer (to be attached to fbo)
   [int width, int height, bool useRenderBuffer] -> unsigned int"
-  [width height use-render-buffer]
+  {:inline (fn [width height use-render-buffer]
+             `(long (rlgl_h/rlLoadTextureDepth ~width ~height ~use-render-buffer)))}
+  ^long [^long width ^long height use-render-buffer]
   (rlgl_h/rlLoadTextureDepth width height use-render-buffer))
 
 (defn load-texture-cubemap
   "Load texture cubemap
   [const void * data, int size, int format] -> unsigned int"
-  [data size format]
+  {:inline (fn [data size format]
+             `(long (rlgl_h/rlLoadTextureCubemap ~data ~size ~format)))}
+  ^long [data ^long size ^long format]
   (rlgl_h/rlLoadTextureCubemap data size format))
 
 (defn update-texture
   "Update GPU texture with new data
   [unsigned int id, int offsetX, int offsetY, int width, int height, int format, const void * data] -> void"
+  {:inline (fn [id offset-x offset-y width height format data]
+             `(rlgl_h/rlUpdateTexture ~id ~offset-x ~offset-y ~width ~height ~format ~data))}
   [id offset-x offset-y width height format data]
   (rlgl_h/rlUpdateTexture id offset-x offset-y width height format data))
 
 (defn get-gl-texture-formats
   "Get OpenGL internal formats
   [int format, unsigned int * glInternalFormat, unsigned int * glFormat, unsigned int * glType] -> void"
-  [format gl-internal-format gl-format gl-type]
+  {:inline (fn [format gl-internal-format gl-format gl-type]
+             `(rlgl_h/rlGetGlTextureFormats ~format ~gl-internal-format ~gl-format ~gl-type))}
+  [^long format gl-internal-format gl-format gl-type]
   (rlgl_h/rlGetGlTextureFormats format gl-internal-format gl-format gl-type))
 
 (defn get-pixel-format-name
   "Get name string for pixel format
   [unsigned int format] -> const char *"
-  [format]
+  {:inline (fn [format]
+             `(rlgl_h/rlGetPixelFormatName ~format))}
+  [^long format]
   (rlgl_h/rlGetPixelFormatName format))
 
 (defn unload-texture
   "Unload texture from GPU memory
   [unsigned int id] -> void"
-  [id]
+  {:inline (fn [id]
+             `(rlgl_h/rlUnloadTexture ~id))}
+  [^long id]
   (rlgl_h/rlUnloadTexture id))
 
 (defn gen-texture-mipmaps
   "Generate mipmap data for selected texture
   [unsigned int id, int width, int height, int format, int * mipmaps] -> void"
+  {:inline (fn [id width height format mipmaps]
+             `(rlgl_h/rlGenTextureMipmaps ~id ~width ~height ~format ~mipmaps))}
   [id width height format mipmaps]
   (rlgl_h/rlGenTextureMipmaps id width height format mipmaps))
 
 (defn read-texture-pixels
   "Read texture pixel data
   [unsigned int id, int width, int height, int format] -> void *"
-  [id width height format]
+  {:inline (fn [id width height format]
+             `(rlgl_h/rlReadTexturePixels ~id ~width ~height ~format))}
+  [^long id ^long width ^long height ^long format]
   (rlgl_h/rlReadTexturePixels id width height format))
 
 (defn read-screen-pixels
   "Read screen pixel data (color buffer)
   [int width, int height] -> unsigned char *"
-  [width height]
+  {:inline (fn [width height]
+             `(rlgl_h/rlReadScreenPixels ~width ~height))}
+  [^long width ^long height]
   (rlgl_h/rlReadScreenPixels width height))
 
 (defn load-framebuffer
   "Load an empty framebuffer
   [int width, int height] -> unsigned int"
-  [width height]
+  {:inline (fn [width height]
+             `(long (rlgl_h/rlLoadFramebuffer ~width ~height)))}
+  ^long [^long width ^long height]
   (rlgl_h/rlLoadFramebuffer width height))
 
 (defn framebuffer-attach
   "Attach texture/renderbuffer to a framebuffer
   [unsigned int fboId, unsigned int texId, int attachType, int texType, int mipLevel] -> void"
+  {:inline (fn [fbo-id tex-id attach-type tex-type mip-level]
+             `(rlgl_h/rlFramebufferAttach ~fbo-id ~tex-id ~attach-type ~tex-type ~mip-level))}
   [fbo-id tex-id attach-type tex-type mip-level]
   (rlgl_h/rlFramebufferAttach fbo-id tex-id attach-type tex-type mip-level))
 
 (defn framebuffer-complete?
   "Verify framebuffer is complete
   [unsigned int id] -> bool"
-  [id]
+  {:inline (fn [id]
+             `(rlgl_h/rlFramebufferComplete ~id))}
+  [^long id]
   (rlgl_h/rlFramebufferComplete id))
 
 (defn unload-framebuffer
   "Delete framebuffer from GPU
   [unsigned int id] -> void"
-  [id]
+  {:inline (fn [id]
+             `(rlgl_h/rlUnloadFramebuffer ~id))}
+  [^long id]
   (rlgl_h/rlUnloadFramebuffer id))
 
 (defn load-shader-code
   "Load shader from code strings
   [const char * vsCode, const char * fsCode] -> unsigned int"
-  [vs-code fs-code]
+  {:inline (fn [vs-code fs-code]
+             `(long (rlgl_h/rlLoadShaderCode (memory/string ~vs-code) (memory/string ~fs-code))))}
+  ^long [vs-code fs-code]
   (rlgl_h/rlLoadShaderCode (memory/string vs-code) (memory/string fs-code)))
 
 (defn compile-shader
   "Compile custom shader and return shader id (type: RL_VERTEX_SHADER, RL_FRAGMENT_SHADER, RL_COMPUTE_SHADER)
   [const char * shaderCode, int type] -> unsigned int"
-  [shader-code type]
+  {:inline (fn [shader-code type]
+             `(long (rlgl_h/rlCompileShader (memory/string ~shader-code) ~type)))}
+  ^long [shader-code ^long type]
   (rlgl_h/rlCompileShader (memory/string shader-code) type))
 
 (defn load-shader-program
   "Load custom shader program
   [unsigned int vShaderId, unsigned int fShaderId] -> unsigned int"
-  [v-shader-id f-shader-id]
+  {:inline (fn [v-shader-id f-shader-id]
+             `(long (rlgl_h/rlLoadShaderProgram ~v-shader-id ~f-shader-id)))}
+  ^long [^long v-shader-id ^long f-shader-id]
   (rlgl_h/rlLoadShaderProgram v-shader-id f-shader-id))
 
 (defn unload-shader-program
   "Unload shader program
   [unsigned int id] -> void"
-  [id]
+  {:inline (fn [id]
+             `(rlgl_h/rlUnloadShaderProgram ~id))}
+  [^long id]
   (rlgl_h/rlUnloadShaderProgram id))
 
 (defn get-location-uniform
   "Get shader location uniform
   [unsigned int shaderId, const char * uniformName] -> int"
-  [shader-id uniform-name]
+  {:inline (fn [shader-id uniform-name]
+             `(long (rlgl_h/rlGetLocationUniform ~shader-id (memory/string ~uniform-name))))}
+  ^long [^long shader-id uniform-name]
   (rlgl_h/rlGetLocationUniform shader-id (memory/string uniform-name)))
 
 (defn get-location-attrib
   "Get shader location attribute
   [unsigned int shaderId, const char * attribName] -> int"
-  [shader-id attrib-name]
+  {:inline (fn [shader-id attrib-name]
+             `(long (rlgl_h/rlGetLocationAttrib ~shader-id (memory/string ~attrib-name))))}
+  ^long [^long shader-id attrib-name]
   (rlgl_h/rlGetLocationAttrib shader-id (memory/string attrib-name)))
 
 (defn set-uniform
   "Set shader value uniform
   [int locIndex, const void * value, int uniformType, int count] -> void"
-  [loc-index value uniform-type count]
+  {:inline (fn [loc-index value uniform-type count]
+             `(rlgl_h/rlSetUniform ~loc-index ~value ~uniform-type ~count))}
+  [^long loc-index value ^long uniform-type ^long count]
   (rlgl_h/rlSetUniform loc-index value uniform-type count))
 
 (defn set-uniform-matrix
   "Set shader value matrix
   [int locIndex, Matrix mat] -> void"
-  [loc-index mat]
+  {:inline (fn [loc-index mat]
+             `(rlgl_h/rlSetUniformMatrix ~loc-index (rstructs/matrix ~mat)))}
+  [^long loc-index mat]
   (rlgl_h/rlSetUniformMatrix loc-index (rstructs/matrix mat)))
 
 (defn set-uniform-sampler
   "Set shader value sampler
   [int locIndex, unsigned int textureId] -> void"
-  [loc-index texture-id]
+  {:inline (fn [loc-index texture-id]
+             `(rlgl_h/rlSetUniformSampler ~loc-index ~texture-id))}
+  [^long loc-index ^long texture-id]
   (rlgl_h/rlSetUniformSampler loc-index texture-id))
 
 (defn set-shader
   "Set shader currently active (id and locations)
   [unsigned int id, int * locs] -> void"
-  [id locs]
+  {:inline (fn [id locs]
+             `(rlgl_h/rlSetShader ~id ~locs))}
+  [^long id locs]
   (rlgl_h/rlSetShader id locs))
 
 (defn load-compute-shader-program
   "Load compute shader program
   [unsigned int shaderId] -> unsigned int"
-  [shader-id]
+  {:inline (fn [shader-id]
+             `(long (rlgl_h/rlLoadComputeShaderProgram ~shader-id)))}
+  ^long [^long shader-id]
   (rlgl_h/rlLoadComputeShaderProgram shader-id))
 
 (defn compute-shader-dispatch
   "Dispatch compute shader (equivalent to *draw* for graphics pipeline)
   [unsigned int groupX, unsigned int groupY, unsigned int groupZ] -> void"
-  [group-x group-y group-z]
+  {:inline (fn [group-x group-y group-z]
+             `(rlgl_h/rlComputeShaderDispatch ~group-x ~group-y ~group-z))}
+  [^long group-x ^long group-y ^long group-z]
   (rlgl_h/rlComputeShaderDispatch group-x group-y group-z))
 
 (defn load-shader-buffer
   "Load shader storage buffer object (SSBO)
   [unsigned int size, const void * data, int usageHint] -> unsigned int"
-  [size data usage-hint]
+  {:inline (fn [size data usage-hint]
+             `(long (rlgl_h/rlLoadShaderBuffer ~size ~data ~usage-hint)))}
+  ^long [^long size data ^long usage-hint]
   (rlgl_h/rlLoadShaderBuffer size data usage-hint))
 
 (defn unload-shader-buffer
   "Unload shader storage buffer object (SSBO)
   [unsigned int ssboId] -> void"
-  [ssbo-id]
+  {:inline (fn [ssbo-id]
+             `(rlgl_h/rlUnloadShaderBuffer ~ssbo-id))}
+  [^long ssbo-id]
   (rlgl_h/rlUnloadShaderBuffer ssbo-id))
 
 (defn update-shader-buffer
   "Update SSBO buffer data
   [unsigned int id, const void * data, unsigned int dataSize, unsigned int offset] -> void"
-  [id data data-size offset]
+  {:inline (fn [id data data-size offset]
+             `(rlgl_h/rlUpdateShaderBuffer ~id ~data ~data-size ~offset))}
+  [^long id data ^long data-size ^long offset]
   (rlgl_h/rlUpdateShaderBuffer id data data-size offset))
 
 (defn bind-shader-buffer
   "Bind SSBO buffer
   [unsigned int id, unsigned int index] -> void"
-  [id index]
+  {:inline (fn [id index]
+             `(rlgl_h/rlBindShaderBuffer ~id ~index))}
+  [^long id ^long index]
   (rlgl_h/rlBindShaderBuffer id index))
 
 (defn read-shader-buffer
   "Read SSBO buffer data (GPU->CPU)
   [unsigned int id, void * dest, unsigned int count, unsigned int offset] -> void"
-  [id dest count offset]
+  {:inline (fn [id dest count offset]
+             `(rlgl_h/rlReadShaderBuffer ~id ~dest ~count ~offset))}
+  [^long id dest ^long count ^long offset]
   (rlgl_h/rlReadShaderBuffer id dest count offset))
 
 (defn copy-shader-buffer
   "Copy SSBO data between buffers
   [unsigned int destId, unsigned int srcId, unsigned int destOffset, unsigned int srcOffset, unsigned int count] -> void"
+  {:inline (fn [dest-id src-id dest-offset src-offset count]
+             `(rlgl_h/rlCopyShaderBuffer ~dest-id ~src-id ~dest-offset ~src-offset ~count))}
   [dest-id src-id dest-offset src-offset count]
   (rlgl_h/rlCopyShaderBuffer dest-id src-id dest-offset src-offset count))
 
 (defn get-shader-buffer-size
   "Get SSBO buffer size
   [unsigned int id] -> unsigned int"
-  [id]
+  {:inline (fn [id]
+             `(long (rlgl_h/rlGetShaderBufferSize ~id)))}
+  ^long [^long id]
   (rlgl_h/rlGetShaderBufferSize id))
 
 (defn bind-image-texture
   "Bind image texture
   [unsigned int id, unsigned int index, int format, bool readonly] -> void"
-  [id index format readonly]
+  {:inline (fn [id index format readonly]
+             `(rlgl_h/rlBindImageTexture ~id ~index ~format ~readonly))}
+  [^long id ^long index ^long format readonly]
   (rlgl_h/rlBindImageTexture id index format readonly))
 
 (defn get-matrix-modelview
@@ -844,18 +1143,42 @@
   []
   (rstructs/get-matrix (rlgl_h/rlGetMatrixModelview memory/*current-arena*)))
 
+(defn get-matrix-modelview!
+  "Get internal modelview matrix (written into dest)
+  [Matrix * dest] -> Matrix *"
+  {:inline (fn [dest]
+             `(rlgl_h/rlGetMatrixModelview (memory/prefix-allocator ~dest)))}
+  [dest]
+  (rlgl_h/rlGetMatrixModelview (memory/prefix-allocator dest)))
+
 (defn get-matrix-projection
   "Get internal projection matrix
   [] -> Matrix"
   []
   (rstructs/get-matrix (rlgl_h/rlGetMatrixProjection memory/*current-arena*)))
 
+(defn get-matrix-projection!
+  "Get internal projection matrix (written into dest)
+  [Matrix * dest] -> Matrix *"
+  {:inline (fn [dest]
+             `(rlgl_h/rlGetMatrixProjection (memory/prefix-allocator ~dest)))}
+  [dest]
+  (rlgl_h/rlGetMatrixProjection (memory/prefix-allocator dest)))
+
 (defn get-matrix-transform
   "Get internal accumulated transform matrix
   [] -> Matrix"
   []
   (rstructs/get-matrix (rlgl_h/rlGetMatrixTransform memory/*current-arena*)))
 
+(defn get-matrix-transform!
+  "Get internal accumulated transform matrix (written into dest)
+  [Matrix * dest] -> Matrix *"
+  {:inline (fn [dest]
+             `(rlgl_h/rlGetMatrixTransform (memory/prefix-allocator ~dest)))}
+  [dest]
+  (rlgl_h/rlGetMatrixTransform (memory/prefix-allocator dest)))
+
 (defn get-matrix-projection-stereo
   "Get internal projection matrix for stereo render (selected eye)
   [int eye] -> Matrix"
@@ -863,6 +1186,16 @@
   (rstructs/get-matrix
     (rlgl_h/rlGetMatrixProjectionStereo memory/*current-arena* eye)))
 
+(defn get-matrix-projection-stereo!
+  "Get internal projection matrix for stereo render (selected eye) (written into dest)
+  [Matrix * dest, int eye] -> Matrix *"
+  {:inline (fn [dest eye]
+             `(rlgl_h/rlGetMatrixProjectionStereo
+                (memory/prefix-allocator ~dest)
+                ~eye))}
+  [dest ^long eye]
+  (rlgl_h/rlGetMatrixProjectionStereo (memory/prefix-allocator dest) eye))
+
 (defn get-matrix-view-offset-stereo
   "Get internal view offset matrix for stereo render (selected eye)
   [int eye] -> Matrix"
@@ -870,21 +1203,38 @@
   (rstructs/get-matrix
     (rlgl_h/rlGetMatrixViewOffsetStereo memory/*current-arena* eye)))
 
+(defn get-matrix-view-offset-stereo!
+  "Get internal view offset matrix for stereo render (selected eye) (written into dest)
+  [Matrix * dest, int eye] -> Matrix *"
+  {:inline (fn [dest eye]
+             `(rlgl_h/rlGetMatrixViewOffsetStereo
+                (memory/prefix-allocator ~dest)
+                ~eye))}
+  [dest ^long eye]
+  (rlgl_h/rlGetMatrixViewOffsetStereo (memory/prefix-allocator dest) eye))
+
 (defn set-matrix-projection
   "Set a custom projection matrix (replaces internal projection matrix)
   [Matrix proj] -> void"
+  {:inline (fn [proj]
+             `(rlgl_h/rlSetMatrixProjection (rstructs/matrix ~proj)))}
   [proj]
   (rlgl_h/rlSetMatrixProjection (rstructs/matrix proj)))
 
 (defn set-matrix-modelview
   "Set a custom modelview matrix (replaces internal modelview matrix)
   [Matrix view] -> void"
+  {:inline (fn [view]
+             `(rlgl_h/rlSetMatrixModelview (rstructs/matrix ~view)))}
   [view]
   (rlgl_h/rlSetMatrixModelview (rstructs/matrix view)))
 
 (defn set-matrix-projection-stereo
   "Set eyes projection matrices for stereo rendering
   [Matrix right, Matrix left] -> void"
+  {:inline (fn [right left]
+             `(rlgl_h/rlSetMatrixProjectionStereo (rstructs/matrix ~right)
+                                                  (rstructs/matrix ~left)))}
   [right left]
   (rlgl_h/rlSetMatrixProjectionStereo (rstructs/matrix right)
                                       (rstructs/matrix left)))
@@ -892,6 +1242,9 @@
 (defn set-matrix-view-offset-stereo
   "Set eyes view offsets matrices for stereo rendering
   [Matrix right, Matrix left] -> void"
+  {:inline (fn [right left]
+             `(rlgl_h/rlSetMatrixViewOffsetStereo (rstructs/matrix ~right)
+                                                  (rstructs/matrix ~left)))}
   [right left]
   (rlgl_h/rlSetMatrixViewOffsetStereo (rstructs/matrix right)
                                       (rstructs/matrix left)))
@@ -899,12 +1252,16 @@
 (defn load-draw-cube
   "Load and draw a cube
   [] -> void"
+  {:inline (fn []
+             `(rlgl_h/rlLoadDrawCube))}
   []
   (rlgl_h/rlLoadDrawCube))
 
 (defn load-draw-quad
   "Load and draw a quad
   [] -> void"
+  {:inline (fn []
+             `(rlgl_h/rlLoadDrawQuad))}
   []
   (rlgl_h/rlLoadDrawQuad))
 
@@ -76,6 +76,24 @@
 
 (def set-matrix-array (set-array-fn (rayclj.rlgl.Matrix/$LAYOUT) set-matrix))
 
+(memory/defview VertexBufferView
+  [:elementCount (rayclj.rlgl.rlVertexBuffer/elementCount$get seg)
+   :vertices (get-float-array
+               (rayclj.rlgl.rlVertexBuffer/vertices$get seg)
+               (* (rayclj.rlgl.rlVertexBuffer/elementCount$get seg) 3))
+   :texcoords (get-float-array
+                (rayclj.rlgl.rlVertexBuffer/texcoords$get seg)
+                (* (rayclj.rlgl.rlVertexBuffer/elementCount$get seg) 2))
+   :colors (get-byte-array
+             (rayclj.rlgl.rlVertexBuffer/colors$get seg)
+             (* (rayclj.rlgl.rlVertexBuffer/elementCount$get seg) 4))
+   :indices (get-unsigned-int-array
+              (rayclj.rlgl.rlVertexBuffer/indices$get seg)
+              (* (rayclj.rlgl.rlVertexBuffer/elementCount$get seg) 6))
+   :vaoId (rayclj.rlgl.rlVertexBuffer/vaoId$get seg)
+   :vboId (get-unsigned-int-array (rayclj.rlgl.rlVertexBuffer/vboId$slice seg)
+                                  4)])
+
 (defn get-vertex-buffer
   "Dynamic vertex buffers (position + texcoords + colors + indices arrays)
   int elementCount // Number of elements in the buffer (QUADS)
@@ -85,21 +103,8 @@
   unsigned int * indices // Vertex indices (in case vertex data comes indexed) (6 indices per quad)
   unsigned int vaoId // OpenGL Vertex Array Object id
   unsigned int[4] vboId // OpenGL Vertex Buffer Objects id (4 types of vertex data)"
-  [seg]
-  (let [element-count (rayclj.rlgl.rlVertexBuffer/elementCount$get seg)]
-    {:elementCount element-count,
-     :vertices (get-float-array (rayclj.rlgl.rlVertexBuffer/vertices$get seg)
-                                (* element-count 3)),
-     :texcoords (get-float-array (rayclj.rlgl.rlVertexBuffer/texcoords$get seg)
-                                 (* element-count 2)),
-     :colors (get-byte-array (rayclj.rlgl.rlVertexBuffer/colors$get seg)
-                             (* element-count 4)),
-     :indices (get-unsigned-int-array (rayclj.rlgl.rlVertexBuffer/indices$get
-                                        seg)
-                                      (* element-count 6)),
-     :vaoId (rayclj.rlgl.rlVertexBuffer/vaoId$get seg),
-     :vboId (get-unsigned-int-array (rayclj.rlgl.rlVertexBuffer/vboId$slice seg)
-                                    4)}))
+  [^MemorySegment seg]
+  (->VertexBufferView seg))
 
 (defn set-vertex-buffer
   "Dynamic vertex buffers (position + texcoords + colors + indices arrays)
@@ -139,10 +144,11 @@
   unsigned int vaoId // OpenGL Vertex Array Object id
   unsigned int[4] vboId // OpenGL Vertex Buffer Objects id (4 types of vertex data)"
   [v]
-  (if (clojure.core/instance? MemorySegment v)
-    v
-    (set-vertex-buffer (memory/allocate (rayclj.rlgl.rlVertexBuffer/$LAYOUT))
-                       v)))
+  (cond (clojure.core/instance? MemorySegment v) v
+        (memory/view? v) (memory/segment v)
+        :else (set-vertex-buffer (memory/allocate
+                                   (rayclj.rlgl.rlVertexBuffer/$LAYOUT))
+                                 v)))
 
 (def vertex-buffer-array
   (array-fn (rayclj.rlgl.rlVertexBuffer/$LAYOUT) set-vertex-buffer))
@@ -153,6 +159,12 @@
 (def set-vertex-buffer-array
   (set-array-fn (rayclj.rlgl.rlVertexBuffer/$LAYOUT) set-vertex-buffer))
 
+(memory/defview DrawCallView
+  [:mode (rayclj.rlgl.rlDrawCall/mode$get seg)
+   :vertexCount (rayclj.rlgl.rlDrawCall/vertexCount$get seg)
+   :vertexAlignment (rayclj.rlgl.rlDrawCall/vertexAlignment$get seg)
+   :textureId (rayclj.rlgl.rlDrawCall/textureId$get seg)])
+
 (defn get-draw-call
   "of those state-change happens (this is done in core module)
   int mode // Drawing mode: LINES, TRIANGLES, QUADS
@@ -160,10 +172,7 @@
   int vertexAlignment // Number of vertex required for index alignment (LINES, TRIANGLES)
   unsigned int textureId // Texture id to be used on the draw -> Use to create new draw call if changes"
   [^MemorySegment seg]
-  {:mode (rayclj.rlgl.rlDrawCall/mode$get seg),
-   :vertexCount (rayclj.rlgl.rlDrawCall/vertexCount$get seg),
-   :vertexAlignment (rayclj.rlgl.rlDrawCall/vertexAlignment$get seg),
-   :textureId (rayclj.rlgl.rlDrawCall/textureId$get seg)})
+  (->DrawCallView seg))
 
 (defn set-draw-call
   "of those state-change happens (this is done in core module)
@@ -185,9 +194,10 @@
   int vertexAlignment // Number of vertex required for index alignment (LINES, TRIANGLES)
   unsigned int textureId // Texture id to be used on the draw -> Use to create new draw call if changes"
   [v]
-  (if (clojure.core/instance? MemorySegment v)
-    v
-    (set-draw-call (memory/allocate (rayclj.rlgl.rlDrawCall/$LAYOUT)) v)))
+  (cond (clojure.core/instance? MemorySegment v) v
+        (memory/view? v) (memory/segment v)
+        :else (set-draw-call (memory/allocate (rayclj.rlgl.rlDrawCall/$LAYOUT))
+                             v)))
 
 (def draw-call-array (array-fn (rayclj.rlgl.rlDrawCall/$LAYOUT) set-draw-call))
 
@@ -197,6 +207,17 @@
 (def set-draw-call-array
   (set-array-fn (rayclj.rlgl.rlDrawCall/$LAYOUT) set-draw-call))
 
+(memory/defview RenderBatchView
+  [:bufferCount (rayclj.rlgl.rlRenderBatch/bufferCount$get seg)
+   :currentBuffer (rayclj.rlgl.rlRenderBatch/currentBuffer$get seg)
+   :vertexBuffer (get-vertex-buffer-array
+                   (rayclj.rlgl.rlRenderBatch/vertexBuffer$get seg)
+                   (rayclj.rlgl.rlRenderBatch/bufferCount$get seg))
+   :draws (get-draw-call-array (rayclj.rlgl.rlRenderBatch/draws$get seg)
+                               defines/default-batch-drawcalls)
+   :drawCounter (rayclj.rlgl.rlRenderBatch/drawCounter$get seg)
+   :currentDepth (rayclj.rlgl.rlRenderBatch/currentDepth$get seg)])
+
 (defn get-render-batch
   "rlRenderBatch type
   int bufferCount // Number of vertex buffers (multi-buffering support)
@@ -206,16 +227,7 @@
   int drawCounter // Draw calls counter
   float currentDepth // Current depth value for next draw"
   [^MemorySegment seg]
-  (let [buffer-count (rayclj.rlgl.rlRenderBatch/bufferCount$get seg)]
-    {:bufferCount buffer-count,
-     :currentBuffer (rayclj.rlgl.rlRenderBatch/currentBuffer$get seg),
-     :vertexBuffer (get-vertex-buffer-array
-                     (rayclj.rlgl.rlRenderBatch/vertexBuffer$get seg)
-                     buffer-count),
-     :draws (get-draw-call-array (rayclj.rlgl.rlRenderBatch/draws$get seg)
-                                 defines/default-batch-drawcalls),
-     :drawCounter (rayclj.rlgl.rlRenderBatch/drawCounter$get seg),
-     :currentDepth (rayclj.rlgl.rlRenderBatch/currentDepth$get seg)}))
+  (->RenderBatchView seg))
 
 (defn set-render-batch
   "rlRenderBatch type
@@ -249,9 +261,11 @@
   int drawCounter // Draw calls counter
   float currentDepth // Current depth value for next draw"
   [v]
-  (if (clojure.core/instance? MemorySegment v)
-    v
-    (set-render-batch (memory/allocate (rayclj.rlgl.rlRenderBatch/$LAYOUT)) v)))
+  (cond (clojure.core/instance? MemorySegment v) v
+        (memory/view? v) (memory/segment v)
+        :else (set-render-batch (memory/allocate
+                                  (rayclj.rlgl.rlRenderBatch/$LAYOUT))
+                                v)))
 
 (def render-batch-array
   (array-fn (rayclj.rlgl.rlRenderBatch/$LAYOUT) set-render-batch))
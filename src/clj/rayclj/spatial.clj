@@ -0,0 +1,79 @@
+(ns rayclj.spatial
+  "Broadphase collision over rectangles keyed by int ids. See rayclj.SpatialIndex.
+  Queries append the colliding ids to a reusable int list and return how many were added.
+  Collision rules are the same as check-collision-recs?, check-collision-point-rec? and
+  check-collision-circle-rec?."
+  (:import [rayclj SpatialIndex SpatialGrid LooseQuadtree IntList]))
+
+(set! *warn-on-reflection* true)
+
+(defn grid
+  "A hash grid with square cells of cell-size, unbounded.
+  Best when objects are about the size of a cell."
+  ^SpatialGrid [cell-size]
+  (SpatialGrid. (float cell-size)))
+
+(defn quadtree
+  "A loose quadtree over the square at x, y of size, with depth levels below the root.
+  Best for bounded worlds with objects of very different sizes."
+  (^LooseQuadtree [x y size] (quadtree x y size 6))
+  (^LooseQuadtree [x y size depth]
+   (LooseQuadtree. (float x) (float y) (float size) (int depth))))
+
+(defn int-list
+  "A growable int list for query results. Clear it with clear-list! to reuse it."
+  (^IntList [] (IntList.))
+  (^IntList [capacity] (IntList. (int capacity))))
+
+(defn clear-list!
+  {:inline (fn [list] `(let [l# ~list] (.clear ^IntList l#) l#))}
+  [^IntList list]
+  (.clear list)
+  list)
+
+(defn update!
+  "Adds id with the given bounds or moves it"
+  {:inline (fn [index id x y width height]
+             `(.update ^SpatialIndex ~index (int ~id) (float ~x) (float ~y) (float ~width) (float ~height)))}
+  [^SpatialIndex index id x y width height]
+  (.update index (int id) (float x) (float y) (float width) (float height)))
+
+(defn remove!
+  {:inline (fn [index id] `(.remove ^SpatialIndex ~index (int ~id)))}
+  [^SpatialIndex index id]
+  (.remove index (int id)))
+
+(defn clear!
+  [^SpatialIndex index]
+  (.clear index))
+
+(defn query-rec!
+  "Appends the ids colliding with the rectangle to out"
+  {:inline (fn [index x y width height out]
+             `(.queryRec ^SpatialIndex ~index (float ~x) (float ~y) (float ~width) (float ~height) ~out))}
+  [^SpatialIndex index x y width height ^IntList out]
+  (.queryRec index (float x) (float y) (float width) (float height) out))
+
+(defn query-point!
+  "Appends the ids containing the point to out"
+  {:inline (fn [index x y out] `(.queryPoint ^SpatialIndex ~index (float ~x) (float ~y) ~out))}
+  [^SpatialIndex index x y ^IntList out]
+  (.queryPoint index (float x) (float y) out))
+
+(defn query-circle!
+  "Appends the ids colliding with the circle to out"
+  {:inline (fn [index x y radius out]
+             `(.queryCircle ^SpatialIndex ~index (float ~x) (float ~y) (float ~radius) ~out))}
+  [^SpatialIndex index x y radius ^IntList out]
+  (.queryCircle index (float x) (float y) (float radius) out))
+
+(defn pairs!
+  "Appends every colliding pair to out as two consecutive ids, returns the number of pairs"
+  {:inline (fn [index out] `(.pairs ^SpatialIndex ~index ~out))}
+  [^SpatialIndex index ^IntList out]
+  (.pairs index out))
+
+(defn ids
+  "The ids in list as a vector, for when allocation does not matter"
+  [^IntList list]
+  (vec (.toArray list)))
@@ -0,0 +1,71 @@
+(ns rayclj.sprites
+  "Batched textured quads with no downcall per sprite. See rayclj.SpriteBatch."
+  (:require [rayclj.raylib.structs :as rstructs]
+            [rayclj.memory :as memory])
+  (:import [rayclj SpriteBatch]
+           [java.lang.foreign MemorySegment]))
+
+(set! *warn-on-reflection* true)
+
+(defn sprite-batch
+  "Creates a sprite batch drawing at most capacity quads per flush.
+  Must be closed with close! (or with-open) while the window is still open."
+  (^SpriteBatch [] (SpriteBatch.))
+  (^SpriteBatch [capacity] (SpriteBatch. (int capacity))))
+
+(defn rgba
+  "Packs a color (keyword, map, vector or segment) into a 0xRRGGBBAA int"
+  ^long [color]
+  (.get ^MemorySegment (rstructs/color color) memory/rgba-layout 0))
+
+(defn- texture-view [texture]
+  (if (instance? MemorySegment texture) (rstructs/get-texture texture) texture))
+
+(defn draw!
+  "Queues the whole texture at x, y. tint is a packed rgba int."
+  [^SpriteBatch batch texture x y tint]
+  (let [t (texture-view texture)]
+    (.draw batch (int (:id t)) (int (:width t)) (int (:height t))
+           (float x) (float y) (int tint))))
+
+(defn draw-rec!
+  "Queues the source rectangle [x y width height] of the texture at x, y"
+  [^SpriteBatch batch texture [sx sy sw sh] x y tint]
+  (let [t (texture-view texture)]
+    (.drawRec batch (int (:id t)) (int (:width t)) (int (:height t))
+              (float sx) (float sy) (float sw) (float sh)
+              (float x) (float y) (int tint))))
+
+(defn draw-pro!
+  "Queues the source rectangle into the dest rectangle, rotated by degrees around origin [x y]"
+  [^SpriteBatch batch texture [sx sy sw sh] [dx dy dw dh] [ox oy] rotation tint]
+  (let [t (texture-view texture)]
+    (.drawPro batch (int (:id t)) (int (:width t)) (int (:height t))
+              (float sx) (float sy) (float sw) (float sh)
+              (float dx) (float dy) (float dw) (float dh)
+              (float ox) (float oy) (float rotation) (int tint))))
+
+(defn draw-all!
+  "Queues the whole texture at the first n positions of xs and ys, tinted by colors.
+  Loops on the java side, so there is no clojure call per sprite either."
+  [^SpriteBatch batch texture ^floats xs ^floats ys ^ints colors n]
+  (let [t (texture-view texture)]
+    (.drawAll batch (int (:id t)) (int (:width t)) (int (:height t)) xs ys colors (int n))))
+
+(defn flush!
+  "Draws the queued quads. Call it before other drawing and before end-drawing."
+  [^SpriteBatch batch]
+  (.flush batch))
+
+(defn close!
+  "Releases the GL buffers and the native vertex memory of the batch"
+  [^SpriteBatch batch]
+  (.close batch))
+
+(defmacro with-sprite-batch
+  "Binds name to batch, evaluates body and flushes the batch afterwards"
+  [[name batch] & body]
+  `(let [~name ~batch
+         result# (do ~@body)]
+     (flush! ~name)
+     result#))
@@ -0,0 +1,73 @@
+(ns rayclj.vfs
+  "Serves raylib's file loading from directories, zip files and classpath resources.
+  See rayclj.VirtualFileSystem."
+  (:import [rayclj VirtualFileSystem VirtualFileSystem$Stats]
+           [java.nio.file Path]))
+
+(set! *warn-on-reflection* true)
+
+(defn virtual-file-system
+  "Creates an empty file system. install! makes raylib use it."
+  ^VirtualFileSystem []
+  (VirtualFileSystem.))
+
+(defn- path ^Path [p]
+  (if (instance? Path p) p (Path/of (str p) (make-array String 0))))
+
+(defn mount-directory!
+  "Serves paths starting with prefix (eg. \"resources/\") from a directory"
+  [^VirtualFileSystem vfs prefix directory]
+  (.mountDirectory vfs prefix (path directory))
+  vfs)
+
+(defn mount-zip!
+  "Serves paths starting with prefix from a zip or jar file"
+  [^VirtualFileSystem vfs prefix zip]
+  (.mountZip vfs prefix (path zip))
+  vfs)
+
+(defn mount-classpath!
+  "Serves paths starting with prefix from classpath resources under resource-root.
+  (mount-classpath! vfs \"resources/\" \"assets/\") serves resources/hero.png from assets/hero.png"
+  [^VirtualFileSystem vfs prefix resource-root]
+  (.mountClasspath vfs prefix resource-root)
+  vfs)
+
+(defn unmount!
+  [^VirtualFileSystem vfs prefix]
+  (.unmount vfs prefix)
+  vfs)
+
+(defn install!
+  "Sets raylib's load file data and text callbacks to vfs"
+  [^VirtualFileSystem vfs]
+  (.install vfs)
+  vfs)
+
+(defn uninstall!
+  "Restores raylib's own file loading"
+  [^VirtualFileSystem vfs]
+  (.uninstall vfs)
+  vfs)
+
+(defn load-file-data
+  "Reads a file through vfs into raylib owned memory, free it with unload-file-data.
+  For loaders which don't use the callbacks, eg. load-music-stream-from-memory."
+  [^VirtualFileSystem vfs file-name]
+  (.loadFileData vfs file-name))
+
+(defn metrics
+  "Reads per path as {path {:reads :total-ms :max-ms :bytes}}"
+  [^VirtualFileSystem vfs]
+  (into (sorted-map)
+        (map (fn [[p ^VirtualFileSystem$Stats s]]
+               [p {:reads (.reads s)
+                   :total-ms (/ (.totalNanos s) 1e6)
+                   :max-ms (/ (.maxNanos s) 1e6)
+                   :bytes (.bytes s)}]))
+        (.stats vfs)))
+
+(defn close!
+  "Uninstalls vfs and closes its zip files"
+  [^VirtualFileSystem vfs]
+  (.close vfs))
@@ -0,0 +1,61 @@
+(ns rayclj.wave-cache
+  "Sounds cached on disk as decoded PCM, so later loads skip decoding.
+  Large files are streamed as music instead. See rayclj.WaveCache."
+  (:require [rayclj.raylib.structs :as rstructs])
+  (:import [rayclj WaveCache WaveCache$Stats]
+           [java.lang.foreign Arena]
+           [java.nio.file Path]))
+
+(set! *warn-on-reflection* true)
+
+(defn wave-cache
+  "Creates a cache storing its files in directory. Sounds are converted to sample-rate (48000),
+  sample-size (32) and channels (2). raylib plays sounds at the device's native rate, which it doesn't
+  report, so pass that rate when it isn't 48000. Otherwise loads still resample."
+  (^WaveCache [directory]
+   (wave-cache directory WaveCache/DEFAULT_SAMPLE_RATE WaveCache/DEFAULT_SAMPLE_SIZE WaveCache/DEFAULT_CHANNELS))
+  (^WaveCache [directory sample-rate sample-size channels]
+   (WaveCache. (if (instance? Path directory) directory (Path/of (str directory) (make-array String 0)))
+               (int sample-rate) (int sample-size) (int channels))))
+
+(defn set-stream-threshold!
+  "Source files larger than bytes are loaded as music streams by load-audio (1 MiB by default)"
+  [^WaveCache cache bytes]
+  (.setStreamThreshold cache (long bytes))
+  cache)
+
+(defn wave
+  "The wave of file-name mapped from the cache into arena, decoded only when the source changed.
+  It is read only and valid until arena is closed, don't unload it."
+  [^WaveCache cache ^Arena arena file-name]
+  (rstructs/get-wave (.wave cache arena file-name)))
+
+(defn load-sound
+  "Loads a sound through the cache (unload it with unload-sound)"
+  [^WaveCache cache file-name]
+  (rstructs/get-sound (.loadSound cache (Arena/ofAuto) file-name)))
+
+(defn load-audio
+  "Loads file-name as {:sound sound} through the cache, or as {:music music} with
+  load-music-stream if it is larger than the stream threshold"
+  [^WaveCache cache file-name]
+  (if (.streams cache file-name)
+    {:music (rstructs/get-music (.loadMusicStream cache (Arena/ofAuto) file-name))}
+    {:sound (load-sound cache file-name)}))
+
+(defn invalidate!
+  "Deletes the cached samples of file-name"
+  [^WaveCache cache file-name]
+  (.invalidate cache file-name)
+  cache)
+
+(defn metrics
+  "Loads as {:hits :rehashed :misses :streamed :hit-ms :miss-ms}"
+  [^WaveCache cache]
+  (let [^WaveCache$Stats s (.stats cache)]
+    {:hits (.hits s)
+     :rehashed (.rehashed s)
+     :misses (.misses s)
+     :streamed (.streamed s)
+     :hit-ms (/ (.hitNanos s) 1e6)
+     :miss-ms (/ (.missNanos s) 1e6)}))
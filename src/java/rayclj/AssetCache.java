@@ -0,0 +1,267 @@
+package rayclj;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+import rayclj.raylib.AudioStream;
+import rayclj.raylib.Mesh;
+import rayclj.raylib.Model;
+import rayclj.raylib.Sound;
+import rayclj.raylib.Texture;
+import rayclj.raylib.raylib_h;
+
+/**
+ * Shares loaded assets by key (e.g. path and load parameters) with reference counting.
+ *
+ * Every acquire of a key must be paired with a release. An asset whose count drops to zero
+ * stays loaded, so acquiring it again is free, until the estimated size of all assets exceeds
+ * the budget. Then unreferenced assets are unloaded, least recently used first. Referenced
+ * assets are never unloaded, so the budget can be exceeded while they are in use.
+ *
+ * Sizes are estimates of the pixel, vertex and sample data, see {@link #textureBytes},
+ * {@link #modelBytes} and {@link #soundBytes}.
+ *
+ * Not thread safe, loading and unloading is expected on the render thread.
+ */
+public final class AssetCache implements AutoCloseable {
+    private static final class Entry {
+        final MemorySegment asset;
+        final long bytes;
+        final Consumer<MemorySegment> unloader;
+        int references;
+
+        Entry(MemorySegment asset, long bytes, Consumer<MemorySegment> unloader) {
+            this.asset = asset;
+            this.bytes = bytes;
+            this.unloader = unloader;
+        }
+    }
+
+    // in access order, so unreferenced entries are evicted least recently used first
+    private final LinkedHashMap<Object, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long budgetBytes;
+    private long bytes;
+
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long evictedBytes;
+
+    public AssetCache(long budgetBytes) {
+        setBudgetBytes(budgetBytes);
+    }
+
+    public long budgetBytes() {
+        return budgetBytes;
+    }
+
+    /** Changes the budget, unloading unreferenced assets if it is exceeded */
+    public void setBudgetBytes(long budgetBytes) {
+        if (budgetBytes < 0) {
+            throw new IllegalArgumentException("Invalid cache budget: " + budgetBytes);
+        }
+        this.budgetBytes = budgetBytes;
+        evict(budgetBytes);
+    }
+
+    /**
+     * Returns the asset of key and adds a reference to it. On a miss it is loaded with loader,
+     * sized with size, and unloaded with unloader once evicted. A loader that throws caches nothing.
+     */
+    public MemorySegment acquire(Object key, Supplier<MemorySegment> loader,
+                                 ToLongFunction<MemorySegment> size, Consumer<MemorySegment> unloader) {
+        Entry entry = entries.get(key);
+        if (entry != null) {
+            hits++;
+        } else {
+            misses++;
+            MemorySegment asset = loader.get();
+            entry = new Entry(asset, size.applyAsLong(asset), unloader);
+            entries.put(key, entry);
+            bytes += entry.bytes;
+        }
+        entry.references++;
+        evict(budgetBytes);
+        return entry.asset;
+    }
+
+    /** Removes a reference to key, the asset may be unloaded when none are left */
+    public void release(Object key) {
+        Entry entry = entries.get(key);
+        if (entry == null || entry.references == 0) {
+            throw new IllegalStateException("Released without an acquire: " + key);
+        }
+        entry.references--;
+        evict(budgetBytes);
+    }
+
+    /** LoadTexture, keyed by ["texture" fileName] */
+    public MemorySegment acquireTexture(String fileName) {
+        return acquire(List.of("texture", fileName), () -> {
+            try (Arena temp = Arena.ofConfined()) {
+                MemorySegment texture = raylib_h.LoadTexture(Arena.ofAuto(), temp.allocateUtf8String(fileName));
+                if (Texture.id$get(texture) == 0) {
+                    throw new IllegalArgumentException("Failed to load texture: " + fileName);
+                }
+                return texture;
+            }
+        }, AssetCache::textureBytes, raylib_h::UnloadTexture);
+    }
+
+    public void releaseTexture(String fileName) {
+        release(List.of("texture", fileName));
+    }
+
+    /** LoadModel, keyed by ["model" fileName] */
+    public MemorySegment acquireModel(String fileName) {
+        return acquire(List.of("model", fileName), () -> ModelCache.loadSource(Arena.ofAuto(), fileName),
+                       AssetCache::modelBytes, raylib_h::UnloadModel);
+    }
+
+    public void releaseModel(String fileName) {
+        release(List.of("model", fileName));
+    }
+
+    /** LoadSound, keyed by ["sound" fileName] */
+    public MemorySegment acquireSound(String fileName) {
+        return acquire(List.of("sound", fileName), () -> {
+            try (Arena temp = Arena.ofConfined()) {
+                MemorySegment sound = raylib_h.LoadSound(Arena.ofAuto(), temp.allocateUtf8String(fileName));
+                if (Sound.frameCount$get(sound) == 0) {
+                    throw new IllegalArgumentException("Failed to load sound: " + fileName);
+                }
+                return sound;
+            }
+        }, AssetCache::soundBytes, raylib_h::UnloadSound);
+    }
+
+    public void releaseSound(String fileName) {
+        release(List.of("sound", fileName));
+    }
+
+    public boolean contains(Object key) {
+        return entries.containsKey(key);
+    }
+
+    /** References held on key, 0 if it is unreferenced or not cached */
+    public int references(Object key) {
+        Entry entry = entries.get(key);
+        return entry == null ? 0 : entry.references;
+    }
+
+    /** Number of cached assets */
+    public int size() {
+        return entries.size();
+    }
+
+    /** Estimated size of the cached assets */
+    public long bytes() {
+        return bytes;
+    }
+
+    public long hits() {
+        return hits;
+    }
+
+    public long misses() {
+        return misses;
+    }
+
+    public long evictions() {
+        return evictions;
+    }
+
+    public long evictedBytes() {
+        return evictedBytes;
+    }
+
+    /** Unloads all unreferenced assets */
+    public void trim() {
+        evict(0);
+    }
+
+    /** Unloads every asset, including referenced ones */
+    @Override
+    public void close() {
+        List<Entry> all = new ArrayList<>(entries.values());
+        entries.clear();
+        bytes = 0;
+        for (Entry entry : all) {
+            entry.unloader.accept(entry.asset);
+        }
+    }
+
+    private void evict(long budget) {
+        if (bytes <= budget) {
+            return;
+        }
+        Iterator<Entry> it = entries.values().iterator();
+        while (bytes > budget && it.hasNext()) {
+            Entry entry = it.next();
+            if (entry.references == 0) {
+                it.remove();
+                bytes -= entry.bytes;
+                evictions++;
+                evictedBytes += entry.bytes;
+                entry.unloader.accept(entry.asset);
+            }
+        }
+    }
+
+    /** Pixel data of a Texture, with its mipmaps */
+    public static long textureBytes(MemorySegment texture) {
+        int width = Texture.width$get(texture);
+        int height = Texture.height$get(texture);
+        int format = Texture.format$get(texture);
+        long total = 0;
+        for (int level = 0; level < Math.max(1, Texture.mipmaps$get(texture)); level++) {
+            total += raylib_h.GetPixelDataSize(Math.max(1, width >> level), Math.max(1, height >> level), format);
+        }
+        return total;
+    }
+
+    /** Vertex and index data of the meshes of a Model */
+    public static long modelBytes(MemorySegment model) {
+        int count = Model.meshCount$get(model);
+        MemorySegment meshes = Model.meshes$get(model).reinterpret(count * Mesh.sizeof());
+        long total = 0;
+        for (int i = 0; i < count; i++) {
+            total += meshBytes(meshes.asSlice(i * Mesh.sizeof(), Mesh.sizeof()));
+        }
+        return total;
+    }
+
+    /** Vertex attribute and index data of a Mesh, counting the attributes it has */
+    public static long meshBytes(MemorySegment mesh) {
+        long vertexSize = 0;
+        vertexSize += present(Mesh.vertices$get(mesh), 12);
+        vertexSize += present(Mesh.texcoords$get(mesh), 8);
+        vertexSize += present(Mesh.texcoords2$get(mesh), 8);
+        vertexSize += present(Mesh.normals$get(mesh), 12);
+        vertexSize += present(Mesh.tangents$get(mesh), 16);
+        vertexSize += present(Mesh.colors$get(mesh), 4);
+        vertexSize += present(Mesh.animVertices$get(mesh), 12);
+        vertexSize += present(Mesh.animNormals$get(mesh), 12);
+        vertexSize += present(Mesh.boneIds$get(mesh), 4);
+        vertexSize += present(Mesh.boneWeights$get(mesh), 16);
+        long indices = present(Mesh.indices$get(mesh), 6) * Mesh.triangleCount$get(mesh);
+        return vertexSize * Mesh.vertexCount$get(mesh) + indices;
+    }
+
+    /** Sample data of a Sound */
+    public static long soundBytes(MemorySegment sound) {
+        MemorySegment stream = Sound.stream$slice(sound);
+        return (long) Sound.frameCount$get(sound) * AudioStream.channels$get(stream) * (AudioStream.sampleSize$get(stream) / 8);
+    }
+
+    private static long present(MemorySegment pointer, long size) {
+        return pointer.equals(MemorySegment.NULL) ? 0 : size;
+    }
+}
@@ -0,0 +1,215 @@
+package rayclj;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+import rayclj.raylib.Image;
+import rayclj.raylib.Texture;
+import rayclj.raylib.Wave;
+import rayclj.raylib.raylib_h;
+
+/**
+ * Loads assets without blocking the render thread.
+ *
+ * File reads and decoding (LoadImage, LoadWave, LoadImageFromMemory) don't touch GL, so they
+ * run on virtual threads. Only the GPU upload (LoadTextureFromImage, UploadMesh,
+ * LoadSoundFromWave) is queued for the render thread, which runs queued uploads with
+ * {@link #drain()} once per frame until the frame's time budget is used. The intermediate
+ * image or wave is unloaded after its upload.
+ *
+ * Results are futures of the raylib structs. Structs are allocated in automatic arenas, the
+ * assets themselves must still be unloaded by the caller.
+ */
+public final class AssetLoader implements AutoCloseable {
+    /** Upload time per drain when no budget is given, 2 ms */
+    public static final long DEFAULT_BUDGET_NANOS = 2_000_000;
+
+    private record Upload(Runnable run, Runnable discard) {}
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final ConcurrentLinkedQueue<Upload> uploads = new ConcurrentLinkedQueue<>();
+    private volatile long budgetNanos;
+    private volatile boolean closed;
+
+    public AssetLoader() {
+        this(DEFAULT_BUDGET_NANOS);
+    }
+
+    public AssetLoader(long budgetNanos) {
+        setBudgetNanos(budgetNanos);
+    }
+
+    public long budgetNanos() {
+        return budgetNanos;
+    }
+
+    /** Upload time per drain. At least one upload runs per drain, so a long one may exceed it. */
+    public void setBudgetNanos(long budgetNanos) {
+        if (budgetNanos < 0) {
+            throw new IllegalArgumentException("Invalid upload budget: " + budgetNanos);
+        }
+        this.budgetNanos = budgetNanos;
+    }
+
+    /** Number of uploads waiting for the render thread */
+    public int pending() {
+        return uploads.size();
+    }
+
+    /** LoadImage on a virtual thread */
+    public CompletableFuture<MemorySegment> loadImage(String fileName) {
+        return CompletableFuture.supplyAsync(() -> {
+            try (Arena temp = Arena.ofConfined()) {
+                MemorySegment image = raylib_h.LoadImage(Arena.ofAuto(), temp.allocateUtf8String(fileName));
+                return checkImage(image, fileName);
+            }
+        }, executor);
+    }
+
+    /** LoadImageFromMemory on a virtual thread, fileType is an extension like ".png" */
+    public CompletableFuture<MemorySegment> loadImageFromMemory(String fileType, byte[] fileData) {
+        return CompletableFuture.supplyAsync(() -> {
+            try (Arena temp = Arena.ofConfined()) {
+                MemorySegment data = temp.allocateArray(ValueLayout.JAVA_BYTE, fileData);
+                MemorySegment image = raylib_h.LoadImageFromMemory(Arena.ofAuto(), temp.allocateUtf8String(fileType),
+                                                                   data, fileData.length);
+                return checkImage(image, fileType + " data");
+            }
+        }, executor);
+    }
+
+    /** LoadWave on a virtual thread */
+    public CompletableFuture<MemorySegment> loadWave(String fileName) {
+        return CompletableFuture.supplyAsync(() -> {
+            try (Arena temp = Arena.ofConfined()) {
+                MemorySegment wave = raylib_h.LoadWave(Arena.ofAuto(), temp.allocateUtf8String(fileName));
+                if (Wave.data$get(wave).equals(MemorySegment.NULL)) {
+                    throw new UncheckedIOException(new IOException("Failed to load wave: " + fileName));
+                }
+                return wave;
+            }
+        }, executor);
+    }
+
+    /** LoadImage on a virtual thread, then LoadTextureFromImage on the render thread */
+    public CompletableFuture<MemorySegment> loadTexture(String fileName) {
+        return loadImage(fileName).thenCompose(this::loadTextureFromImage);
+    }
+
+    /** LoadTextureFromImage on the render thread, then unloads the image */
+    public CompletableFuture<MemorySegment> loadTextureFromImage(MemorySegment image) {
+        return onRenderThread(() -> {
+            try {
+                MemorySegment texture = raylib_h.LoadTextureFromImage(Arena.ofAuto(), image);
+                if (Texture.id$get(texture) == 0) {
+                    throw new IllegalStateException("Failed to upload texture");
+                }
+                return texture;
+            } finally {
+                raylib_h.UnloadImage(image);
+            }
+        }, () -> raylib_h.UnloadImage(image));
+    }
+
+    /** LoadWave on a virtual thread, then LoadSoundFromWave on the render thread */
+    public CompletableFuture<MemorySegment> loadSound(String fileName) {
+        return loadWave(fileName).thenCompose(this::loadSoundFromWave);
+    }
+
+    /** LoadSoundFromWave on the render thread, then unloads the wave */
+    public CompletableFuture<MemorySegment> loadSoundFromWave(MemorySegment wave) {
+        return onRenderThread(() -> {
+            try {
+                return raylib_h.LoadSoundFromWave(Arena.ofAuto(), wave);
+            } finally {
+                raylib_h.UnloadWave(wave);
+            }
+        }, () -> raylib_h.UnloadWave(wave));
+    }
+
+    /** UploadMesh on the render thread, completes with the mesh */
+    public CompletableFuture<MemorySegment> uploadMesh(MemorySegment mesh, boolean dynamic) {
+        return onRenderThread(() -> {
+            raylib_h.UploadMesh(mesh, dynamic);
+            return mesh;
+        }, () -> {});
+    }
+
+    /**
+     * Runs task on the render thread within the upload budget, e.g. loaders which upload
+     * internally (LoadModel, LoadFontEx) so they at least don't stall a frame together.
+     */
+    public <T> CompletableFuture<T> onRenderThread(Supplier<T> task) {
+        return onRenderThread(task, () -> {});
+    }
+
+    private <T> CompletableFuture<T> onRenderThread(Supplier<T> task, Runnable discard) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        Upload upload = new Upload(() -> {
+            try {
+                future.complete(task.get());
+            } catch (Throwable t) {
+                future.completeExceptionally(t);
+            }
+        }, () -> {
+            discard.run();
+            future.completeExceptionally(new CancellationException("Asset loader closed"));
+        });
+        uploads.add(upload);
+        // close may have drained the queue before the upload was added
+        if (closed && uploads.remove(upload)) {
+            upload.discard().run();
+        }
+        return future;
+    }
+
+    /** Runs queued uploads until the budget is used, call it on the render thread every frame */
+    public int drain() {
+        return drain(budgetNanos);
+    }
+
+    /** Runs queued uploads for about budgetNanos, at least one. Returns the number of uploads run. */
+    public int drain(long budgetNanos) {
+        long start = System.nanoTime();
+        int count = 0;
+        Upload upload;
+        while ((upload = uploads.poll()) != null) {
+            upload.run().run();
+            count++;
+            if (System.nanoTime() - start >= budgetNanos) {
+                break;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Waits for running loads, then unloads the images and waves whose upload is still queued
+     * and cancels their futures. Call it on the render thread.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        executor.close();
+        Upload upload;
+        while ((upload = uploads.poll()) != null) {
+            upload.discard().run();
+        }
+    }
+
+    private static MemorySegment checkImage(MemorySegment image, String name) {
+        if (Image.data$get(image).equals(MemorySegment.NULL)) {
+            throw new UncheckedIOException(new IOException("Failed to load image: " + name));
+        }
+        return image;
+    }
+}
@@ -0,0 +1,301 @@
+package rayclj;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.SegmentAllocator;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+import rayclj.raylib.Image;
+import rayclj.raylib.Texture;
+import rayclj.raylib.Wave;
+import rayclj.raylib.raylib_h;
+
+/**
+ * Reads an asset pack written by {@link AssetPackWriter}: many asset files in one file, which
+ * is memory mapped once. Entries are served as slices of the mapping, so LoadImageFromMemory,
+ * LoadWaveFromMemory and LoadFontFromMemory read them in place, without a file open or a copy
+ * per asset. Pre-decoded images are raw pixels, which LoadTextureFromImage uploads directly.
+ *
+ * Layout, little endian:
+ * <pre>
+ * header   "RAYCLJPK", int version, int entry count, long index offset, long index size
+ * blobs    each starting at a multiple of {@link #ALIGNMENT}
+ * index    per entry, sorted by name: int name length, UTF-8 name,
+ *          int kind, int width, int height, int format, int mipmaps, long offset, long size
+ * </pre>
+ * Width, height, format and mipmaps describe {@link #DECODED_IMAGE} entries and are 0 for files.
+ *
+ * Loads are thread safe, the time spent opening the pack and loading from it is kept as
+ * {@link #stats()}. Slices and image views are only valid until the pack is closed.
+ */
+public final class AssetPack implements AutoCloseable {
+    /** Entry kind of files stored as they are */
+    public static final int FILE = 0;
+    /** Entry kind of images stored as raw pixels in their raylib PixelFormat */
+    public static final int DECODED_IMAGE = 1;
+    /** Alignment of the blobs, a cache line */
+    public static final int ALIGNMENT = 64;
+
+    static final byte[] MAGIC = "RAYCLJPK".getBytes(StandardCharsets.US_ASCII);
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 32;
+
+    private static final ValueLayout.OfInt INT = ValueLayout.JAVA_INT_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+    private static final ValueLayout.OfLong LONG = ValueLayout.JAVA_LONG_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+
+    /** Time spent opening the pack, and number, total time and bytes of the loads from it */
+    public record Stats(long openNanos, long loads, long loadNanos, long bytes) {}
+
+    private final Path path;
+    private final Arena arena = Arena.ofShared();
+    private final MemorySegment mapping;
+    private final long openNanos;
+
+    // per entry, sorted by name
+    private final String[] names;
+    private final int[] kinds;
+    private final int[] widths;
+    private final int[] heights;
+    private final int[] formats;
+    private final int[] mipmaps;
+    private final long[] offsets;
+    private final long[] sizes;
+
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder loadNanos = new LongAdder();
+    private final LongAdder loadBytes = new LongAdder();
+
+    public AssetPack(Path path) throws IOException {
+        long start = System.nanoTime();
+        this.path = path;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            mapping = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size(), arena);
+        } catch (IOException | RuntimeException e) {
+            arena.close();
+            throw e;
+        }
+
+        try {
+            if (mapping.byteSize() < HEADER_SIZE ||
+                !Arrays.equals(mapping.asSlice(0, MAGIC.length).toArray(ValueLayout.JAVA_BYTE), MAGIC)) {
+                throw new IOException("Not an asset pack: " + path);
+            }
+            int version = mapping.get(INT, 8);
+            if (version != VERSION) {
+                throw new IOException("Unsupported asset pack version " + version + ": " + path);
+            }
+            int count = mapping.get(INT, 12);
+            long at = mapping.get(LONG, 16);
+            long end = at + mapping.get(LONG, 24);
+            if (count < 0 || at < HEADER_SIZE || end > mapping.byteSize()) {
+                throw new IOException("Corrupt asset pack index: " + path);
+            }
+
+            names = new String[count];
+            kinds = new int[count];
+            widths = new int[count];
+            heights = new int[count];
+            formats = new int[count];
+            mipmaps = new int[count];
+            offsets = new long[count];
+            sizes = new long[count];
+            for (int i = 0; i < count; i++) {
+                int length = mapping.get(INT, at);
+                byte[] name = mapping.asSlice(at + 4, length).toArray(ValueLayout.JAVA_BYTE);
+                names[i] = new String(name, StandardCharsets.UTF_8);
+                at += 4 + length;
+                kinds[i] = mapping.get(INT, at);
+                widths[i] = mapping.get(INT, at + 4);
+                heights[i] = mapping.get(INT, at + 8);
+                formats[i] = mapping.get(INT, at + 12);
+                mipmaps[i] = mapping.get(INT, at + 16);
+                offsets[i] = mapping.get(LONG, at + 20);
+                sizes[i] = mapping.get(LONG, at + 28);
+                at += 36;
+                if (at > end || offsets[i] < HEADER_SIZE || sizes[i] < 0 || offsets[i] + sizes[i] > mapping.byteSize() ||
+                    (i > 0 && names[i - 1].compareTo(names[i]) >= 0)) {
+                    throw new IOException("Corrupt asset pack index: " + path);
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            arena.close();
+            throw e;
+        }
+        openNanos = System.nanoTime() - start;
+    }
+
+    public Path path() {
+        return path;
+    }
+
+    /** Number of entries */
+    public int size() {
+        return names.length;
+    }
+
+    /** Entry names in sorted order, paths relative to the packed directory with / separators */
+    public List<String> names() {
+        return List.of(names);
+    }
+
+    public boolean contains(String name) {
+        return Arrays.binarySearch(names, name) >= 0;
+    }
+
+    /** {@link #FILE} or {@link #DECODED_IMAGE} */
+    public int kind(String name) {
+        return kinds[entry(name)];
+    }
+
+    /** The bytes of an entry, a read only slice of the mapping */
+    public MemorySegment data(String name) {
+        int i = entry(name);
+        return mapping.asSlice(offsets[i], sizes[i]);
+    }
+
+    /**
+     * An Image whose pixels are the mapped data of a pre-decoded entry. It is read only, must
+     * not be unloaded, and is valid until the pack is closed. ImageCopy it to modify it.
+     */
+    public MemorySegment imageView(SegmentAllocator allocator, String name) {
+        int i = entry(name);
+        if (kinds[i] != DECODED_IMAGE) {
+            throw new IllegalArgumentException("Not a pre-decoded image: " + name);
+        }
+        MemorySegment image = Image.allocate(allocator);
+        Image.data$set(image, mapping.asSlice(offsets[i], sizes[i]));
+        Image.width$set(image, widths[i]);
+        Image.height$set(image, heights[i]);
+        Image.mipmaps$set(image, mipmaps[i]);
+        Image.format$set(image, formats[i]);
+        return image;
+    }
+
+    /**
+     * Loads an Image, to be unloaded with UnloadImage. Files are decoded with
+     * LoadImageFromMemory straight from the mapping, pre-decoded pixels are only copied.
+     */
+    public MemorySegment loadImage(SegmentAllocator allocator, String name) {
+        long start = System.nanoTime();
+        int i = entry(name);
+        MemorySegment image;
+        if (kinds[i] == DECODED_IMAGE) {
+            try (Arena temp = Arena.ofConfined()) {
+                image = raylib_h.ImageCopy(allocator, imageView(temp, name));
+            }
+        } else {
+            try (Arena temp = Arena.ofConfined()) {
+                image = raylib_h.LoadImageFromMemory(allocator, fileType(temp, name), data(name), checkedSize(i));
+            }
+        }
+        if (Image.data$get(image).equals(MemorySegment.NULL)) {
+            throw new IllegalArgumentException("Failed to load image: " + name);
+        }
+        record(start, sizes[i]);
+        return image;
+    }
+
+    /**
+     * Loads a Texture. Pre-decoded images are uploaded from the mapping, files are decoded
+     * first. Needs the window (GL context).
+     */
+    public MemorySegment loadTexture(SegmentAllocator allocator, String name) {
+        long start = System.nanoTime();
+        int i = entry(name);
+        MemorySegment texture;
+        try (Arena temp = Arena.ofConfined()) {
+            if (kinds[i] == DECODED_IMAGE) {
+                texture = raylib_h.LoadTextureFromImage(allocator, imageView(temp, name));
+            } else {
+                MemorySegment image = raylib_h.LoadImageFromMemory(temp, fileType(temp, name), data(name), checkedSize(i));
+                try {
+                    texture = raylib_h.LoadTextureFromImage(allocator, image);
+                } finally {
+                    raylib_h.UnloadImage(image);
+                }
+            }
+        }
+        if (Texture.id$get(texture) == 0) {
+            throw new IllegalArgumentException("Failed to load texture: " + name);
+        }
+        record(start, sizes[i]);
+        return texture;
+    }
+
+    /** Loads a Wave with LoadWaveFromMemory, to be unloaded with UnloadWave */
+    public MemorySegment loadWave(SegmentAllocator allocator, String name) {
+        long start = System.nanoTime();
+        int i = entry(name);
+        MemorySegment wave;
+        try (Arena temp = Arena.ofConfined()) {
+            wave = raylib_h.LoadWaveFromMemory(allocator, fileType(temp, name), data(name), checkedSize(i));
+        }
+        if (Wave.data$get(wave).equals(MemorySegment.NULL)) {
+            throw new IllegalArgumentException("Failed to load wave: " + name);
+        }
+        record(start, sizes[i]);
+        return wave;
+    }
+
+    /**
+     * Loads a Font with LoadFontFromMemory and the default character set, to be unloaded with
+     * UnloadFont. Needs the window (GL context).
+     */
+    public MemorySegment loadFont(SegmentAllocator allocator, String name, int fontSize) {
+        long start = System.nanoTime();
+        int i = entry(name);
+        MemorySegment font;
+        try (Arena temp = Arena.ofConfined()) {
+            font = raylib_h.LoadFontFromMemory(allocator, fileType(temp, name), data(name), checkedSize(i),
+                                               fontSize, MemorySegment.NULL, 0);
+        }
+        record(start, sizes[i]);
+        return font;
+    }
+
+    public Stats stats() {
+        return new Stats(openNanos, loads.sum(), loadNanos.sum(), loadBytes.sum());
+    }
+
+    /** Unmaps the pack. Slices and image views of it must not be used afterwards. */
+    @Override
+    public void close() {
+        arena.close();
+    }
+
+    private int entry(String name) {
+        int i = Arrays.binarySearch(names, name);
+        if (i < 0) {
+            throw new IllegalArgumentException("No " + name + " in asset pack " + path);
+        }
+        return i;
+    }
+
+    private int checkedSize(int i) {
+        if (sizes[i] > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Entry too large for raylib: " + names[i]);
+        }
+        return (int) sizes[i];
+    }
+
+    private void record(long start, long bytes) {
+        loads.increment();
+        loadNanos.add(System.nanoTime() - start);
+        loadBytes.add(bytes);
+    }
+
+    // raylib picks the decoder by the extension, e.g. ".png"
+    private static MemorySegment fileType(Arena arena, String name) {
+        int dot = name.lastIndexOf('.');
+        return arena.allocateUtf8String(dot < name.lastIndexOf('/') || dot < 0 ? "" : name.substring(dot));
+    }
+}
@@ -0,0 +1,202 @@
+package rayclj;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import rayclj.raylib.Image;
+import rayclj.raylib.raylib_h;
+
+/**
+ * Writes the files of a directory into an asset pack, see {@link AssetPack} for the layout.
+ * Run by the build's pack task: {@code clj -T:build pack :dir '"resources"' :out '"target/assets.pack"'}.
+ *
+ * Images can be pre-decoded with raylib's LoadImage, so loading them is a copy (or nothing,
+ * with {@link AssetPack#imageView}) instead of a decode, at the cost of a larger pack.
+ */
+public final class AssetPackWriter {
+    private static final Set<String> IMAGE_TYPES = Set.of(".png", ".bmp", ".tga", ".jpg", ".jpeg", ".gif",
+                                                          ".qoi", ".psd", ".hdr");
+    private static final Set<String> WAVE_TYPES = Set.of(".wav", ".ogg", ".mp3", ".flac", ".qoa");
+
+    // Suppresses default constructor, ensuring non-instantiability.
+    private AssetPackWriter() {
+    }
+
+    /** Summary of a written pack */
+    public record Result(int files, int decodedImages, long bytes) {}
+
+    /**
+     * Writes every regular file under directory into pack, named by its relative path with /
+     * separators. With decodeImages, images raylib can load are stored as raw pixels. The pack
+     * is written next to its destination and moved over it when complete.
+     */
+    public static Result write(Path directory, Path pack, boolean decodeImages) throws IOException {
+        List<Path> files;
+        try (Stream<Path> walk = Files.walk(directory)) {
+            files = walk.filter(Files::isRegularFile).toList();
+        }
+        List<String> names = new ArrayList<>();
+        for (Path file : files) {
+            names.add(directory.relativize(file).toString().replace('\\', '/'));
+        }
+        names.sort(null);
+
+        Path temp = pack.resolveSibling(pack.getFileName() + ".tmp");
+        ByteBuffer index = ByteBuffer.allocate(1024).order(ByteOrder.LITTLE_ENDIAN);
+        int decoded = 0;
+        long size;
+        try (FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                                                StandardOpenOption.TRUNCATE_EXISTING)) {
+            long position = AssetPack.HEADER_SIZE;
+            for (String name : names) {
+                position = align(position);
+                Path file = directory.resolve(name);
+                int kind = AssetPack.FILE;
+                int width = 0;
+                int height = 0;
+                int format = 0;
+                int mipmaps = 0;
+                long length;
+
+                MemorySegment image = decodeImages && IMAGE_TYPES.contains(extension(name)) ? loadImage(file) : null;
+                if (image != null) {
+                    try {
+                        kind = AssetPack.DECODED_IMAGE;
+                        width = Image.width$get(image);
+                        height = Image.height$get(image);
+                        format = Image.format$get(image);
+                        mipmaps = Image.mipmaps$get(image);
+                        length = raylib_h.GetPixelDataSize(width, height, format);
+                        writeFully(out, Image.data$get(image).reinterpret(length).asByteBuffer(), position);
+                        decoded++;
+                    } finally {
+                        raylib_h.UnloadImage(image);
+                    }
+                } else {
+                    try (FileChannel in = FileChannel.open(file, StandardOpenOption.READ)) {
+                        length = in.size();
+                        for (long done = 0; done < length; ) {
+                            done += in.transferTo(done, length - done, out.position(position + done));
+                        }
+                    }
+                }
+
+                byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+                if (index.remaining() < 40 + bytes.length) {
+                    index = ByteBuffer.allocate(2 * index.capacity() + bytes.length).order(ByteOrder.LITTLE_ENDIAN)
+                        .put(index.flip());
+                }
+                index.putInt(bytes.length).put(bytes)
+                    .putInt(kind).putInt(width).putInt(height).putInt(format).putInt(mipmaps)
+                    .putLong(position).putLong(length);
+                position += length;
+            }
+
+            position = align(position);
+            index.flip();
+            long indexSize = index.remaining();
+            writeFully(out, index, position);
+            ByteBuffer header = ByteBuffer.allocate(AssetPack.HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN)
+                .put(AssetPack.MAGIC).putInt(AssetPack.VERSION).putInt(names.size())
+                .putLong(position).putLong(indexSize);
+            writeFully(out, header.flip(), 0);
+            size = position + indexSize;
+        }
+        Files.move(temp, pack, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return new Result(names.size(), decoded, size);
+    }
+
+    /**
+     * Writes a pack and reports the time to open it and load its images and waves, next to the
+     * time of loading the same files from the directory.
+     * Arguments: directory pack [--decode-images]
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: AssetPackWriter <directory> <pack> [--decode-images]");
+            System.exit(2);
+        }
+        Path directory = Path.of(args[0]);
+        Path pack = Path.of(args[1]);
+        boolean decodeImages = args.length > 2 && args[2].equals("--decode-images");
+
+        Result result = write(directory, pack, decodeImages);
+        System.out.printf("Wrote %s: %d files (%d pre-decoded images), %d bytes%n",
+                          pack, result.files(), result.decodedImages(), result.bytes());
+
+        long fromFiles = 0;
+        try (AssetPack assets = new AssetPack(pack); Arena arena = Arena.ofConfined()) {
+            for (String name : assets.names()) {
+                String type = extension(name);
+                boolean isImage = IMAGE_TYPES.contains(type);
+                if (!isImage && !WAVE_TYPES.contains(type)) {
+                    continue;
+                }
+                long start = System.nanoTime();
+                MemorySegment path = arena.allocateUtf8String(directory.resolve(name).toString());
+                if (isImage) {
+                    raylib_h.UnloadImage(raylib_h.LoadImage(arena, path));
+                } else {
+                    raylib_h.UnloadWave(raylib_h.LoadWave(arena, path));
+                }
+                fromFiles += System.nanoTime() - start;
+
+                try {
+                    if (isImage) {
+                        raylib_h.UnloadImage(assets.loadImage(arena, name));
+                    } else {
+                        raylib_h.UnloadWave(assets.loadWave(arena, name));
+                    }
+                } catch (IllegalArgumentException e) {
+                    System.out.println("Skipped " + name + ": " + e.getMessage());
+                }
+            }
+            AssetPack.Stats stats = assets.stats();
+            System.out.printf("Opened in %.2f ms, loaded %d images and waves in %.2f ms (%.2f ms from files)%n",
+                              stats.openNanos() / 1e6, stats.loads(), stats.loadNanos() / 1e6, fromFiles / 1e6);
+        }
+    }
+
+    private static MemorySegment loadImage(Path file) {
+        try (Arena temp = Arena.ofConfined()) {
+            MemorySegment image = raylib_h.LoadImage(Arena.ofAuto(), temp.allocateUtf8String(file.toString()));
+            if (Image.data$get(image).equals(MemorySegment.NULL)) {
+                return null;
+            }
+            if (Image.mipmaps$get(image) != 1) { // stored as the file, AssetPack sizes the pixels of one level
+                raylib_h.UnloadImage(image);
+                return null;
+            }
+            return image;
+        }
+    }
+
+    private static long align(long position) {
+        return (position + AssetPack.ALIGNMENT - 1) & -AssetPack.ALIGNMENT;
+    }
+
+    private static void writeFully(FileChannel out, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += out.write(buffer, position);
+        }
+    }
+
+    private static String extension(String name) {
+        int dot = name.lastIndexOf('.');
+        return dot < 0 || dot < name.lastIndexOf('/') ? "" : name.substring(dot).toLowerCase(Locale.ROOT);
+    }
+}
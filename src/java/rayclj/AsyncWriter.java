@@ -0,0 +1,308 @@
+package rayclj;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import rayclj.raylib.Image;
+import rayclj.raylib.SaveFileDataCallback;
+import rayclj.raylib.raylib_h;
+
+/**
+ * Writes files on a background thread, so screenshots and exports don't stall the render
+ * thread on disk writes.
+ *
+ * {@link #install()} sets raylib's save file data callback, so SaveFileData and everything
+ * saving through it (ExportImage, ExportWave, TakeScreenshot, ExportDataAsCode, ...) copies
+ * the data into the queue and returns. Those still encode on the calling thread.
+ * {@link #screenshot(String)} only reads the screen back on the render thread, the PNG is
+ * encoded by the writer with ExportImageToMemory.
+ *
+ * The queue is bounded by a number of writes and their bytes. When it is full, a new write
+ * waits for up to the block time for the writer to catch up, then it is dropped. A dropped
+ * save returns false to raylib, which logs it as failed. Queued, dropped and failed writes are
+ * counted, see {@link #stats()}.
+ */
+public final class AsyncWriter implements AutoCloseable {
+    /** Writes and bytes waiting, writes done, dropped because the queue was full, failed, and time spent writing */
+    public record Stats(int queued, long queuedBytes, long written, long writtenBytes, long dropped, long failed,
+                        long writeNanos) {}
+
+    private interface Job {
+        long bytes();
+
+        /** Writes the file, on the writer thread */
+        void run() throws IOException;
+
+        /** Frees the job's data without writing it */
+        void discard();
+    }
+
+    private record DataJob(Path path, byte[] data) implements Job {
+        @Override
+        public long bytes() {
+            return data.length;
+        }
+
+        @Override
+        public void run() throws IOException {
+            write(path, ByteBuffer.wrap(data));
+        }
+
+        @Override
+        public void discard() {}
+    }
+
+    private record ScreenshotJob(Path path, MemorySegment image, long bytes) implements Job {
+        @Override
+        public void run() throws IOException {
+            try (Arena temp = Arena.ofConfined()) {
+                MemorySegment size = temp.allocate(ValueLayout.JAVA_INT);
+                MemorySegment png = raylib_h.ExportImageToMemory(image, temp.allocateUtf8String(".png"), size);
+                if (png.equals(MemorySegment.NULL)) {
+                    throw new IOException("Failed to encode screenshot: " + path);
+                }
+                try {
+                    write(path, png.reinterpret(size.get(ValueLayout.JAVA_INT, 0)).asByteBuffer());
+                } finally {
+                    raylib_h.MemFree(png);
+                }
+            } finally {
+                discard();
+            }
+        }
+
+        @Override
+        public void discard() {
+            raylib_h.UnloadImage(image);
+        }
+    }
+
+    private final int capacity;
+    private final long capacityBytes;
+    private final long blockNanos;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+    private final Condition idle = lock.newCondition();
+    private final ArrayDeque<Job> queue = new ArrayDeque<>();
+    private long queuedBytes;
+    private boolean writing;
+    private boolean closed;
+
+    private long written;
+    private long writtenBytes;
+    private long dropped;
+    private long failed;
+    private long writeNanos;
+
+    private final Thread writer;
+    private final Arena arena = Arena.ofShared();
+    private boolean installed;
+
+    /**
+     * A writer queueing up to capacity writes and capacityBytes bytes. A write that doesn't fit
+     * waits up to blockMillis (0 drops it at once). A single write larger than capacityBytes is
+     * queued when the queue is empty.
+     */
+    public AsyncWriter(int capacity, long capacityBytes, long blockMillis) {
+        if (capacity <= 0 || capacityBytes <= 0 || blockMillis < 0) {
+            throw new IllegalArgumentException("Invalid writer queue: " + capacity + " writes, " + capacityBytes +
+                                               " bytes, " + blockMillis + " ms");
+        }
+        this.capacity = capacity;
+        this.capacityBytes = capacityBytes;
+        this.blockNanos = TimeUnit.MILLISECONDS.toNanos(blockMillis);
+        this.writer = Thread.ofPlatform().name("rayclj-async-writer").daemon().start(this::writeLoop);
+    }
+
+    /** Sets raylib's save file data callback to this writer */
+    public synchronized void install() {
+        if (!installed) {
+            raylib_h.SetSaveFileDataCallback(SaveFileDataCallback.allocate(this::saveFileDataCallback, arena));
+            installed = true;
+        }
+    }
+
+    /** Restores raylib's own file saving */
+    public synchronized void uninstall() {
+        if (installed) {
+            raylib_h.SetSaveFileDataCallback(MemorySegment.NULL);
+            installed = false;
+        }
+    }
+
+    /** Queues a write of a copy of data to path. Returns false if it was dropped. */
+    public boolean write(String path, byte[] data) {
+        return offer(new DataJob(Path.of(path), data.clone()));
+    }
+
+    /**
+     * Reads the screen back (on the render thread, after drawing) and queues its PNG encoding and
+     * write. Returns false if it was dropped. Unlike TakeScreenshot, fileName is used as given.
+     */
+    public boolean screenshot(String fileName) {
+        MemorySegment image = raylib_h.LoadImageFromScreen(Arena.ofAuto());
+        long bytes = raylib_h.GetPixelDataSize(Image.width$get(image), Image.height$get(image), Image.format$get(image));
+        ScreenshotJob job = new ScreenshotJob(Path.of(fileName), image, bytes);
+        if (!offer(job)) {
+            job.discard();
+            return false;
+        }
+        return true;
+    }
+
+    public Stats stats() {
+        lock.lock();
+        try {
+            return new Stats(queue.size() + (writing ? 1 : 0), queuedBytes, written, writtenBytes, dropped, failed,
+                             writeNanos);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Waits until every queued write is done */
+    public void flush() throws InterruptedException {
+        lock.lock();
+        try {
+            while (!queue.isEmpty() || writing) {
+                idle.await();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Uninstalls the callback, finishes the queued writes and stops the writer thread. If
+     * interrupted while waiting, the writer finishes on its own and the interrupt is kept.
+     */
+    @Override
+    public void close() {
+        uninstall();
+        lock.lock();
+        try {
+            closed = true;
+            notEmpty.signalAll();
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        arena.close();
+    }
+
+    private boolean offer(Job job) {
+        lock.lock();
+        try {
+            long nanos = blockNanos;
+            while (!closed && !fits(job)) {
+                if (nanos <= 0) {
+                    dropped++;
+                    return false;
+                }
+                nanos = notFull.awaitNanos(nanos);
+            }
+            if (closed) {
+                dropped++;
+                return false;
+            }
+            queue.add(job);
+            queuedBytes += job.bytes();
+            notEmpty.signal();
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            dropped++;
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean fits(Job job) {
+        return queue.isEmpty() && !writing ||
+            queue.size() < capacity && queuedBytes + job.bytes() <= capacityBytes;
+    }
+
+    private void writeLoop() {
+        while (true) {
+            Job job;
+            lock.lock();
+            try {
+                while (queue.isEmpty() && !closed) {
+                    notEmpty.awaitUninterruptibly();
+                }
+                job = queue.poll();
+                if (job == null) {
+                    return; // closed and drained
+                }
+                writing = true;
+            } finally {
+                lock.unlock();
+            }
+
+            long start = System.nanoTime();
+            boolean ok;
+            try {
+                job.run();
+                ok = true;
+            } catch (Throwable t) {
+                ok = false;
+            }
+
+            lock.lock();
+            try {
+                writing = false;
+                queuedBytes -= job.bytes();
+                writeNanos += System.nanoTime() - start;
+                if (ok) {
+                    written++;
+                    writtenBytes += job.bytes();
+                } else {
+                    failed++;
+                }
+                notFull.signalAll();
+                if (queue.isEmpty()) {
+                    idle.signalAll();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    // bool (*)(const char *fileName, void *data, int dataSize), the data is freed by raylib after it returns
+    private boolean saveFileDataCallback(MemorySegment fileName, MemorySegment data, int dataSize) {
+        try {
+            byte[] copy = data.reinterpret(dataSize).toArray(ValueLayout.JAVA_BYTE);
+            return offer(new DataJob(Path.of(fileName.reinterpret(Long.MAX_VALUE).getUtf8String(0)), copy));
+        } catch (Throwable t) {
+            return false;
+        }
+    }
+
+    private static void write(Path path, ByteBuffer data) throws IOException {
+        try (FileChannel out = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                                                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (data.hasRemaining()) {
+                out.write(data);
+            }
+        }
+    }
+}
@@ -0,0 +1,229 @@
+package rayclj;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+/**
+ * Batch transforms over native raylib struct arrays, e.g. for the points of a line strip or
+ * the transforms of draw-mesh-instanced.
+ *
+ * Kernels run on the Vector API when the jdk.incubator.vector module is available
+ * (`--add-modules jdk.incubator.vector`), otherwise on the scalar loops here, which produce
+ * the same results. SIMD can be disabled with `-Drayclj.simd=false`.
+ *
+ * Matrices use raylib's layout and composition order, the same as {@link RayMath}.
+ */
+public final class BatchTransforms {
+    static final boolean SIMD = !"false".equalsIgnoreCase(System.getProperty("rayclj.simd")) &&
+                                ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+
+    static final long VECTOR2_SIZE = 8;
+    static final long VECTOR3_SIZE = 12;
+    static final long RECTANGLE_SIZE = 16;
+    static final long TRANSFORM_SIZE = 40; // translation Vector3, rotation Quaternion, scale Vector3
+    static final long MATRIX_SIZE = 64;
+
+    private static final ValueLayout.OfFloat FLOAT = ValueLayout.JAVA_FLOAT;
+
+    // Suppresses default constructor, ensuring non-instantiability.
+    private BatchTransforms() {}
+
+    /** Whether the kernels run on the Vector API */
+    public static boolean isSimd() {
+        return SIMD;
+    }
+
+    /** Transforms n points of a Vector2 array by mat into dst, which can be src */
+    public static void transformVector2(MemorySegment mat, MemorySegment src, MemorySegment dst, int n) {
+        checkSize(src, n, VECTOR2_SIZE);
+        checkSize(dst, n, VECTOR2_SIZE);
+        if (SIMD) {
+            SimdTransforms.transformVector2(mat, src, dst, n);
+        } else {
+            transformVector2(mat, src, dst, 0, n);
+        }
+    }
+
+    /**
+     * Transforms n points of a Vector3 array by mat into dst, which can be src.
+     * Always scalar: regrouping 3 float points into vector lanes costs more than it saves.
+     */
+    public static void transformVector3(MemorySegment mat, MemorySegment src, MemorySegment dst, int n) {
+        checkSize(src, n, VECTOR3_SIZE);
+        checkSize(dst, n, VECTOR3_SIZE);
+        transformVector3(mat, src, dst, 0, n);
+    }
+
+    /** Moves n rectangles of a Rectangle array by dx, dy in place */
+    public static void translateRectangles(MemorySegment rects, int n, float dx, float dy) {
+        checkSize(rects, n, RECTANGLE_SIZE);
+        if (SIMD) {
+            SimdTransforms.affineRectangles(rects, n, 1, 1, dx, dy);
+        } else {
+            affineRectangles(rects, 0, n, 1, 1, dx, dy);
+        }
+    }
+
+    /** Scales position and size of n rectangles of a Rectangle array around the origin in place */
+    public static void scaleRectangles(MemorySegment rects, int n, float sx, float sy) {
+        checkSize(rects, n, RECTANGLE_SIZE);
+        if (SIMD) {
+            SimdTransforms.affineRectangles(rects, n, sx, sy, 0, 0);
+        } else {
+            affineRectangles(rects, 0, n, sx, sy, 0, 0);
+        }
+    }
+
+    /** Adds dx, dy, dz to the translation of n transforms of a Transform array in place */
+    public static void translateTransforms(MemorySegment transforms, int n, float dx, float dy, float dz) {
+        checkSize(transforms, n, TRANSFORM_SIZE);
+        for (int i = 0; i < n; i++) {
+            long base = i * TRANSFORM_SIZE;
+            add(transforms, base, dx);
+            add(transforms, base + 4, dy);
+            add(transforms, base + 8, dz);
+        }
+    }
+
+    /** Rotates n transforms of a Transform array by quaternion q in place: rotation = q * rotation */
+    public static void rotateTransforms(MemorySegment transforms, int n, float qx, float qy, float qz, float qw) {
+        checkSize(transforms, n, TRANSFORM_SIZE);
+        for (int i = 0; i < n; i++) {
+            long at = i * TRANSFORM_SIZE + 12;
+            float x = transforms.get(FLOAT, at);
+            float y = transforms.get(FLOAT, at + 4);
+            float z = transforms.get(FLOAT, at + 8);
+            float w = transforms.get(FLOAT, at + 12);
+            transforms.set(FLOAT, at, qx * w + qw * x + qy * z - qz * y);
+            transforms.set(FLOAT, at + 4, qy * w + qw * y + qz * x - qx * z);
+            transforms.set(FLOAT, at + 8, qz * w + qw * z + qx * y - qy * x);
+            transforms.set(FLOAT, at + 12, qw * w - qx * x - qy * y - qz * z);
+        }
+    }
+
+    /** Multiplies the scale of n transforms of a Transform array by sx, sy, sz in place */
+    public static void scaleTransforms(MemorySegment transforms, int n, float sx, float sy, float sz) {
+        checkSize(transforms, n, TRANSFORM_SIZE);
+        for (int i = 0; i < n; i++) {
+            long base = i * TRANSFORM_SIZE + 28;
+            multiply(transforms, base, sx);
+            multiply(transforms, base + 4, sy);
+            multiply(transforms, base + 8, sz);
+        }
+    }
+
+    /**
+     * Writes n model matrices into a Matrix array from position, euler rotation (radians) and scale
+     * columns. Same as scale, then MatrixRotateXYZ, then translation, and as InstanceBuffer.setTransform.
+     */
+    public static void modelMatrices(MemorySegment out,
+                                     float[] x, float[] y, float[] z,
+                                     float[] pitch, float[] yaw, float[] roll,
+                                     float[] scaleX, float[] scaleY, float[] scaleZ,
+                                     int n) {
+        checkSize(out, n, MATRIX_SIZE);
+        for (float[] column : new float[][] { x, y, z, pitch, yaw, roll, scaleX, scaleY, scaleZ }) {
+            if (column.length < n) {
+                throw new IndexOutOfBoundsException("Column of " + column.length + " is shorter than " + n);
+            }
+        }
+        if (SIMD) {
+            SimdTransforms.modelMatrices(out, x, y, z, pitch, yaw, roll, scaleX, scaleY, scaleZ, n);
+        } else {
+            modelMatrices(out, x, y, z, pitch, yaw, roll, scaleX, scaleY, scaleZ, 0, n);
+        }
+    }
+
+    // Scalar kernels, also used for the tails of the SIMD loops
+
+    static void transformVector2(MemorySegment mat, MemorySegment src, MemorySegment dst, int from, int to) {
+        float m0 = m(mat, 0), m4 = m(mat, 4), m12 = m(mat, 12);
+        float m1 = m(mat, 1), m5 = m(mat, 5), m13 = m(mat, 13);
+        for (int i = from; i < to; i++) {
+            long at = i * VECTOR2_SIZE;
+            float x = src.get(FLOAT, at);
+            float y = src.get(FLOAT, at + 4);
+            dst.set(FLOAT, at, m0 * x + m4 * y + m12);
+            dst.set(FLOAT, at + 4, m1 * x + m5 * y + m13);
+        }
+    }
+
+    static void transformVector3(MemorySegment mat, MemorySegment src, MemorySegment dst, int from, int to) {
+        float m0 = m(mat, 0), m4 = m(mat, 4), m8 = m(mat, 8), m12 = m(mat, 12);
+        float m1 = m(mat, 1), m5 = m(mat, 5), m9 = m(mat, 9), m13 = m(mat, 13);
+        float m2 = m(mat, 2), m6 = m(mat, 6), m10 = m(mat, 10), m14 = m(mat, 14);
+        for (int i = from; i < to; i++) {
+            long at = i * VECTOR3_SIZE;
+            float x = src.get(FLOAT, at);
+            float y = src.get(FLOAT, at + 4);
+            float z = src.get(FLOAT, at + 8);
+            dst.set(FLOAT, at, m0 * x + m4 * y + m8 * z + m12);
+            dst.set(FLOAT, at + 4, m1 * x + m5 * y + m9 * z + m13);
+            dst.set(FLOAT, at + 8, m2 * x + m6 * y + m10 * z + m14);
+        }
+    }
+
+    static void affineRectangles(MemorySegment rects, int from, int to, float sx, float sy, float dx, float dy) {
+        for (int i = from; i < to; i++) {
+            long at = i * RECTANGLE_SIZE;
+            rects.set(FLOAT, at, rects.get(FLOAT, at) * sx + dx);
+            rects.set(FLOAT, at + 4, rects.get(FLOAT, at + 4) * sy + dy);
+            rects.set(FLOAT, at + 8, rects.get(FLOAT, at + 8) * sx);
+            rects.set(FLOAT, at + 12, rects.get(FLOAT, at + 12) * sy);
+        }
+    }
+
+    static void modelMatrices(MemorySegment out,
+                              float[] x, float[] y, float[] z,
+                              float[] pitch, float[] yaw, float[] roll,
+                              float[] scaleX, float[] scaleY, float[] scaleZ,
+                              int from, int to) {
+        for (int i = from; i < to; i++) {
+            float cosz = (float) Math.cos(-roll[i]);
+            float sinz = (float) Math.sin(-roll[i]);
+            float cosy = (float) Math.cos(-yaw[i]);
+            float siny = (float) Math.sin(-yaw[i]);
+            float cosx = (float) Math.cos(-pitch[i]);
+            float sinx = (float) Math.sin(-pitch[i]);
+            float sx = scaleX[i], sy = scaleY[i], sz = scaleZ[i];
+
+            // declaration order: m0, m4, m8, m12, m1, m5, m9, m13, m2, m6, m10, m14, m3, m7, m11, m15
+            long at = i * MATRIX_SIZE;
+            out.set(FLOAT, at, cosz * cosy * sx);
+            out.set(FLOAT, at + 4, sinz * cosy * sy);
+            out.set(FLOAT, at + 8, -siny * sz);
+            out.set(FLOAT, at + 12, x[i]);
+            out.set(FLOAT, at + 16, (cosz * siny * sinx - sinz * cosx) * sx);
+            out.set(FLOAT, at + 20, (sinz * siny * sinx + cosz * cosx) * sy);
+            out.set(FLOAT, at + 24, cosy * sinx * sz);
+            out.set(FLOAT, at + 28, y[i]);
+            out.set(FLOAT, at + 32, (cosz * siny * cosx + sinz * sinx) * sx);
+            out.set(FLOAT, at + 36, (sinz * siny * cosx - cosz * sinx) * sy);
+            out.set(FLOAT, at + 40, cosy * cosx * sz);
+            out.set(FLOAT, at + 44, z[i]);
+            out.set(FLOAT, at + 48, 0);
+            out.set(FLOAT, at + 52, 0);
+            out.set(FLOAT, at + 56, 0);
+            out.set(FLOAT, at + 60, 1);
+        }
+    }
+
+    // Matrix field mN of a single matrix
+    static float m(MemorySegment mat, int n) {
+        return mat.get(FLOAT, 4L * (((n & 3) << 2) + (n >> 2)));
+    }
+
+    private static void add(MemorySegment s, long offset, float value) {
+        s.set(FLOAT, offset, s.get(FLOAT, offset) + value);
+    }
+
+    private static void multiply(MemorySegment s, long offset, float value) {
+        s.set(FLOAT, offset, s.get(FLOAT, offset) * value);
+    }
+
+    private static void checkSize(MemorySegment s, int n, long elemSize) {
+        if (n < 0 || s.byteSize() < n * elemSize) {
+            throw new IndexOutOfBoundsException("Segment of " + s.byteSize() + " bytes does not hold " + n + " elements");
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package rayclj;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * Files of the disk caches (PixelCache, ModelCache, WaveCache) which hold what was decoded
+ * from a source file. Each starts with a stamp of its source:
+ * <pre>
+ * 8 byte magic, int version, int 0, long source size, long source modified millis, byte[32] source SHA-256
+ * </pre>
+ * A cache file is fresh while the size and time of its source match. When only the time
+ * changed (e.g. a checkout touched the file), the source is hashed and an unchanged hash
+ * keeps the cache file, with the new time written into its stamp.
+ *
+ * Caches of a single struct over mapped data (PixelCache, WaveCache) load through
+ * {@link #load}, with a {@link Format} of their header.
+ */
+final class CacheFiles {
+    enum Freshness { STALE, FRESH, REHASHED }
+
+    /** A cache file of one struct: the stamp, the struct's header fields up to a header size, then its data */
+    interface Format {
+        int headerSize();
+
+        /** Decodes source with raylib, decoded is unloaded after it is written */
+        MemorySegment decode(Path source);
+
+        void unload(MemorySegment decoded);
+
+        /** Puts the header fields of decoded after the stamp, returns its data */
+        MemorySegment writeHeader(ByteBuffer header, MemorySegment decoded);
+
+        /** Whether a header matches the file size, checked on the mapping since the file may have been replaced */
+        boolean valid(MemorySegment file);
+
+        /** The struct over the header and data of a valid file */
+        MemorySegment read(Arena arena, MemorySegment file);
+    }
+
+    /** A loaded struct, STALE if it was decoded */
+    record Loaded(MemorySegment value, Freshness freshness) {}
+
+    static final int STAMP_SIZE = 64;
+    private static final int MODIFIED_OFFSET = 24;
+
+    // Suppresses default constructor, ensuring non-instantiability.
+    private CacheFiles() {
+    }
+
+    /** The absolute, normalized path of a source file name */
+    static Path source(String fileName) {
+        return Path.of(fileName).toAbsolutePath().normalize();
+    }
+
+    /** The cache file of source in directory, variant distinguishes different decodings of it */
+    static Path cacheFile(Path directory, Path source, String variant, String extension) {
+        byte[] digest = sha256().digest((source + "#" + variant).getBytes(StandardCharsets.UTF_8));
+        return directory.resolve(HexFormat.of().formatHex(digest, 0, 16) + extension);
+    }
+
+    /** The stamp of source as it is now, a little endian buffer positioned after it */
+    static ByteBuffer stamp(byte[] magic, int version, Path source) throws IOException {
+        long size = Files.size(source);
+        long modified = Files.getLastModifiedTime(source).toMillis();
+        return ByteBuffer.allocate(STAMP_SIZE).order(ByteOrder.LITTLE_ENDIAN)
+            .put(magic).putInt(version).putInt(0).putLong(size).putLong(modified).put(hash(source));
+    }
+
+    /** Whether cached exists with magic and version and was written from source as it is now */
+    static Freshness check(Path cached, byte[] magic, int version, Path source) throws IOException {
+        ByteBuffer stamp = ByteBuffer.allocate(STAMP_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        try (FileChannel channel = FileChannel.open(cached, StandardOpenOption.READ)) {
+            for (int read = 0; stamp.hasRemaining() && read >= 0; ) {
+                read = channel.read(stamp);
+            }
+        } catch (NoSuchFileException e) {
+            return Freshness.STALE;
+        }
+        if (stamp.hasRemaining() ||
+            !Arrays.equals(Arrays.copyOf(stamp.array(), magic.length), magic) ||
+            stamp.getInt(8) != version ||
+            stamp.getLong(16) != Files.size(source)) {
+            return Freshness.STALE;
+        }
+        long modified = Files.getLastModifiedTime(source).toMillis();
+        if (stamp.getLong(MODIFIED_OFFSET) == modified) {
+            return Freshness.FRESH;
+        }
+        if (!Arrays.equals(Arrays.copyOfRange(stamp.array(), 32, 64), hash(source))) {
+            return Freshness.STALE;
+        }
+        try (FileChannel channel = FileChannel.open(cached, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN).putLong(modified).flip(), MODIFIED_OFFSET);
+        } catch (IOException e) {
+            // the content is verified, only the next check hashes again
+        }
+        return Freshness.REHASHED;
+    }
+
+    /**
+     * The struct of source, read from cached mapped into arena. If cached is stale, source is
+     * decoded and written into cached first. If it can't be written (e.g. a read only cache
+     * directory), the struct is read from a copy of the same layout in arena.
+     */
+    static Loaded load(Path cached, byte[] magic, int version, Path source, Arena arena, Format format)
+        throws IOException {
+        Freshness freshness = check(cached, magic, version, source);
+        if (freshness != Freshness.STALE) {
+            MemorySegment file = map(cached, arena);
+            if (file != null && format.valid(file)) {
+                return new Loaded(format.read(arena, file), freshness);
+            }
+        }
+
+        // stamped before decoding, so a source changed meanwhile is decoded again next time
+        ByteBuffer header = ByteBuffer.allocate(format.headerSize()).order(ByteOrder.LITTLE_ENDIAN)
+            .put(stamp(magic, version, source).flip());
+        MemorySegment decoded = format.decode(source);
+        try {
+            MemorySegment data = format.writeHeader(header, decoded);
+            MemorySegment file;
+            try {
+                write(cached, List.of(header.clear(), data.asByteBuffer()));
+                file = map(cached, arena);
+            } catch (IOException e) {
+                file = null;
+            }
+            if (file == null || !format.valid(file)) {
+                file = arena.allocate(format.headerSize() + data.byteSize(), 64);
+                MemorySegment.copy(header.array(), 0, file, ValueLayout.JAVA_BYTE, 0, format.headerSize());
+                MemorySegment.copy(data, 0, file, format.headerSize(), data.byteSize());
+            }
+            return new Loaded(format.read(arena, file), Freshness.STALE);
+        } finally {
+            format.unload(decoded);
+        }
+    }
+
+    /** Writes buffers to a temporary file next to cached, then moves it over cached */
+    static void write(Path cached, List<ByteBuffer> buffers) throws IOException {
+        Path temp = Files.createTempFile(cached.getParent(), cached.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel out = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                ByteBuffer[] all = buffers.toArray(ByteBuffer[]::new);
+                long remaining = 0;
+                for (ByteBuffer buffer : all) {
+                    remaining += buffer.remaining();
+                }
+                while (remaining > 0) {
+                    remaining -= out.write(all);
+                }
+            }
+            Files.move(temp, cached, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /** Maps cached into arena, null if it does not exist */
+    static MemorySegment map(Path cached, Arena arena) throws IOException {
+        try (FileChannel channel = FileChannel.open(cached, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size(), arena);
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+    }
+
+    /** Zero bytes from position up to a multiple of alignment, a power of two */
+    static ByteBuffer padding(long position, int alignment) {
+        return ByteBuffer.allocate((int) (-position & (alignment - 1)));
+    }
+
+    static long align(long position, int alignment) {
+        return (position + alignment - 1) & -alignment;
+    }
+
+    // Cheaper than a decode, the source is mapped and hashed in place
+    private static byte[] hash(Path source) throws IOException {
+        try (FileChannel channel = FileChannel.open(source, StandardOpenOption.READ);
+             Arena mapping = Arena.ofConfined()) {
+            MessageDigest digest = sha256();
+            if (channel.size() > 0) {
+                digest.update(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size(), mapping).asByteBuffer());
+            }
+            return digest.digest();
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new AssertionError("SHA-256 is required on every JVM", e);
+        }
+    }
+}
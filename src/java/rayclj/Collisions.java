@@ -0,0 +1,66 @@
+package rayclj;
+
+/**
+ * raylib's 2D collision checks on primitive floats. Calling them through raylib costs a downcall
+ * and a struct allocation per argument, which adds up when testing thousands of pairs per frame.
+ *
+ * Results match raylib 5.0, including its edge cases: rectangles touching at an edge do not
+ * collide, a point on the right or bottom edge is outside, and the circle check rounds the
+ * rectangle center to ints.
+ */
+public final class Collisions {
+    // Suppresses default constructor, ensuring non-instantiability.
+    private Collisions() {}
+
+    /** CheckCollisionRecs */
+    public static boolean checkCollisionRecs(float x1, float y1, float width1, float height1,
+                                             float x2, float y2, float width2, float height2) {
+        return x1 < x2 + width2 && x1 + width1 > x2 &&
+               y1 < y2 + height2 && y1 + height1 > y2;
+    }
+
+    /** CheckCollisionPointRec */
+    public static boolean checkCollisionPointRec(float px, float py, float x, float y, float width, float height) {
+        return px >= x && px < x + width && py >= y && py < y + height;
+    }
+
+    /** CheckCollisionCircles */
+    public static boolean checkCollisionCircles(float x1, float y1, float radius1, float x2, float y2, float radius2) {
+        float dx = x2 - x1;
+        float dy = y2 - y1;
+        return (float) Math.sqrt(dx * dx + dy * dy) <= radius1 + radius2;
+    }
+
+    /** CheckCollisionPointCircle */
+    public static boolean checkCollisionPointCircle(float px, float py, float cx, float cy, float radius) {
+        return checkCollisionCircles(px, py, 0, cx, cy, radius);
+    }
+
+    /** CheckCollisionCircleRec */
+    public static boolean checkCollisionCircleRec(float cx, float cy, float radius,
+                                                  float x, float y, float width, float height) {
+        int recCenterX = (int) (x + width / 2.0f);
+        int recCenterY = (int) (y + height / 2.0f);
+
+        float dx = Math.abs(cx - (float) recCenterX);
+        float dy = Math.abs(cy - (float) recCenterY);
+
+        if (dx > width / 2.0f + radius) {
+            return false;
+        }
+        if (dy > height / 2.0f + radius) {
+            return false;
+        }
+
+        if (dx <= width / 2.0f) {
+            return true;
+        }
+        if (dy <= height / 2.0f) {
+            return true;
+        }
+
+        float cornerDistanceSq = (dx - width / 2.0f) * (dx - width / 2.0f) +
+                                 (dy - height / 2.0f) * (dy - height / 2.0f);
+        return cornerDistanceSq <= radius * radius;
+    }
+}
@@ -0,0 +1,102 @@
+package rayclj;
+
+import java.lang.foreign.Linker;
+import java.util.Set;
+
+/**
+ * jextract's RuntimeHelper links every downcall with default options.
+ * So provide linker options per symbol to skip the thread state transition for
+ * short, non-blocking raylib functions which never call back into java.
+ *
+ * Trivial linking can be disabled with `-Drayclj.trivial-downcalls=false`.
+ *
+ * Only input and time getters are trivial by default. The rlgl immediate mode and matrix
+ * functions can flush the render batch (GL calls, and TRACELOG which calls back into java
+ * if a trace log callback is installed), and an upcall from a trivial downcall crashes the VM.
+ * They are linked trivially only with `-Drayclj.trivial-rlgl-downcalls=true`.
+ */
+public final class DowncallOptions {
+    private static final Linker.Option[] NONE = new Linker.Option[0];
+    private static final Linker.Option[] TRIVIAL = new Linker.Option[] { Linker.Option.isTrivial() };
+
+    private static final boolean ENABLED =
+        !"false".equalsIgnoreCase(System.getProperty("rayclj.trivial-downcalls"));
+    private static final boolean RLGL_ENABLED =
+        Boolean.getBoolean("rayclj.trivial-rlgl-downcalls");
+
+    public static final Set<String> TRIVIAL_FUNCTIONS = Set.of(
+        // raylib: timing and window state
+        "GetTime",
+        "GetFrameTime",
+        "GetScreenWidth",
+        "GetScreenHeight",
+        "GetRenderWidth",
+        "GetRenderHeight",
+        "IsWindowReady",
+        "IsWindowFocused",
+        "IsWindowResized",
+
+        // raylib: keyboard
+        "IsKeyPressed",
+        "IsKeyPressedRepeat",
+        "IsKeyDown",
+        "IsKeyReleased",
+        "IsKeyUp",
+        "GetKeyPressed",
+        "GetCharPressed",
+
+        // raylib: mouse and touch
+        "IsMouseButtonPressed",
+        "IsMouseButtonDown",
+        "IsMouseButtonReleased",
+        "IsMouseButtonUp",
+        "GetMouseX",
+        "GetMouseY",
+        "GetMousePosition",
+        "GetMouseDelta",
+        "GetMouseWheelMove",
+        "GetTouchX",
+        "GetTouchY",
+        "GetTouchPointCount",
+
+        // raylib: gamepad
+        "IsGamepadAvailable",
+        "IsGamepadButtonPressed",
+        "IsGamepadButtonDown",
+        "IsGamepadButtonReleased",
+        "IsGamepadButtonUp",
+        "GetGamepadButtonPressed",
+        "GetGamepadAxisCount",
+        "GetGamepadAxisMovement"
+    );
+
+    /** Opt-in, these may flush the render batch, see above */
+    public static final Set<String> TRIVIAL_RLGL_FUNCTIONS = Set.of(
+        // rlgl: immediate mode vertex attributes
+        "rlVertex2i",
+        "rlVertex2f",
+        "rlVertex3f",
+        "rlTexCoord2f",
+        "rlNormal3f",
+        "rlColor4ub",
+        "rlColor3f",
+        "rlColor4f",
+
+        // rlgl: matrix stack
+        "rlTranslatef",
+        "rlRotatef",
+        "rlScalef",
+        "rlLoadIdentity"
+    );
+
+    // Suppresses default constructor, ensuring non-instantiability.
+    private DowncallOptions() {}
+
+    public static Linker.Option[] forSymbol(String name) {
+        if (!ENABLED) {
+            return NONE;
+        }
+        return TRIVIAL_FUNCTIONS.contains(name) || RLGL_ENABLED && TRIVIAL_RLGL_FUNCTIONS.contains(name)
+            ? TRIVIAL : NONE;
+    }
+}
@@ -0,0 +1,160 @@
+package rayclj;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A bump allocator for short lived, per frame struct temporaries.
+ *
+ * Allocations are sliced out of one large pre-reserved slab and the whole slab is
+ * rewound by {@link #reset()}. If a frame allocates more than the slab can hold,
+ * the extra allocations are served from growth chunks and the slab is enlarged on the
+ * next reset, which frees the old slab and the chunks. So a steady state frame allocates
+ * neither native memory nor Cleaner objects.
+ *
+ * Like other arenas, allocations are zeroed: reset zero-fills the range the frame used,
+ * so a reset costs O(bytes used) rather than O(1). It is still a single bulk fill, far
+ * cheaper than allocating and freeing the same segments.
+ *
+ * Segments returned by this arena are only valid until the next reset. It is not thread
+ * safe and it is meant to be used from the render thread only.
+ */
+public final class FrameArena implements Arena {
+    // the scope of the arena itself, the slab and chunks have their own so they can be freed on reset
+    private final Arena lifetime;
+
+    private Arena slabArena;
+    private MemorySegment slab;
+    private long offset;
+
+    private final List<Arena> chunkArenas = new ArrayList<>();
+    private MemorySegment chunk;
+    private long chunkOffset;
+    // end offsets of the chunks filled before the current one, including alignment padding
+    private long chunkEnds;
+
+    private long used;
+    private long highWaterMark;
+    private long growCount;
+
+    public FrameArena(long size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Invalid frame arena size: " + size);
+        }
+        // shared, so segments can still be passed to raylib from any thread
+        this.lifetime = Arena.ofShared();
+        this.slabArena = Arena.ofShared();
+        this.slab = slabArena.allocate(size, 16);
+    }
+
+    @Override
+    public MemorySegment allocate(long byteSize, long byteAlignment) {
+        if (byteSize < 0 || byteAlignment <= 0 || (byteAlignment & (byteAlignment - 1)) != 0) {
+            throw new IllegalArgumentException("Invalid allocation: " + byteSize + ", " + byteAlignment);
+        }
+
+        long start = align(slab, offset, byteAlignment);
+        if (start + byteSize <= slab.byteSize()) {
+            offset = start + byteSize;
+            used += byteSize;
+            return slab.asSlice(start, byteSize);
+        }
+
+        // overflow: slice a growth chunk, the slab will be enlarged on reset
+        if (chunk != null) {
+            start = align(chunk, chunkOffset, byteAlignment);
+        }
+        if (chunk == null || start + byteSize > chunk.byteSize()) {
+            if (chunk != null) {
+                chunkEnds += chunkOffset;
+            }
+            Arena chunkArena = Arena.ofShared();
+            chunkArenas.add(chunkArena);
+            chunk = chunkArena.allocate(Math.max(slab.byteSize(), byteSize + byteAlignment), 16);
+            start = align(chunk, 0, byteAlignment);
+        }
+        chunkOffset = start + byteSize;
+        used += byteSize;
+        return chunk.asSlice(start, byteSize);
+    }
+
+    /**
+     * Rewinds the arena. All segments allocated since the previous reset become invalid.
+     * If the previous frame overflowed, the slab and chunks are freed and replaced by a slab
+     * that fits it.
+     */
+    public void reset() {
+        if (used > highWaterMark) {
+            highWaterMark = used;
+        }
+
+        if (chunk != null) {
+            // sized from end offsets rather than used, which excludes alignment padding
+            long needed = offset + chunkEnds + chunkOffset;
+            long size = slab.byteSize();
+            while (size < needed) {
+                size *= 2;
+            }
+            freeChunks();
+            slabArena.close();
+            slabArena = Arena.ofShared();
+            slab = slabArena.allocate(size, 16); // zeroed
+            growCount++;
+        } else {
+            slab.asSlice(0, offset).fill((byte) 0);
+        }
+
+        offset = 0;
+        used = 0;
+    }
+
+    /** Bytes allocated since the last reset */
+    public long used() {
+        return used;
+    }
+
+    /** Size of the current slab in bytes */
+    public long capacity() {
+        return slab.byteSize();
+    }
+
+    /** Maximum bytes allocated in a single frame so far */
+    public long highWaterMark() {
+        return Math.max(highWaterMark, used);
+    }
+
+    /** Number of times the slab had to be enlarged */
+    public long growCount() {
+        return growCount;
+    }
+
+    @Override
+    public MemorySegment.Scope scope() {
+        return lifetime.scope();
+    }
+
+    @Override
+    public void close() {
+        freeChunks();
+        slabArena.close();
+        lifetime.close();
+    }
+
+    private void freeChunks() {
+        for (Arena chunkArena : chunkArenas) {
+            chunkArena.close();
+        }
+        chunkArenas.clear();
+        chunk = null;
+        chunkOffset = 0;
+        chunkEnds = 0;
+    }
+
+    private static long align(MemorySegment segment, long offset, long alignment) {
+        long address = segment.address() + offset;
+        long aligned = (address + alignment - 1) & -alignment;
+        return offset + (aligned - address);
+    }
+}
@@ -0,0 +1,163 @@
+package rayclj;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+import rayclj.raylib.Matrix;
+
+/**
+ * A long lived native Matrix array for DrawMeshInstanced.
+ *
+ * Building transforms from clojure data allocates and converts every matrix on every frame.
+ * So instances are written in place with primitive setters, and only the number of instances
+ * to draw changes. DrawMeshInstanced uploads the drawn instances on every call.
+ *
+ * Not thread safe, writes are expected from the render thread.
+ */
+public final class InstanceBuffer implements AutoCloseable {
+    private static final long MATRIX_SIZE = Matrix.$LAYOUT().byteSize();
+    private static final ValueLayout.OfFloat FLOAT = ValueLayout.JAVA_FLOAT;
+
+    // Matrix fields are declared as m0, m4, m8, m12, m1, ... so offset of field mN is OFFSET[N]
+    private static final long[] OFFSET = new long[16];
+
+    static {
+        int[] order = { 0, 4, 8, 12, 1, 5, 9, 13, 2, 6, 10, 14, 3, 7, 11, 15 };
+        for (int i = 0; i < 16; i++) {
+            OFFSET[order[i]] = i * 4L;
+        }
+    }
+
+    private final Arena arena;
+    private final MemorySegment segment;
+    private final int capacity;
+    private int count;
+
+    /** Allocates capacity identity transforms, all of them drawn by default */
+    public InstanceBuffer(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Invalid instance buffer capacity: " + capacity);
+        }
+        this.arena = Arena.ofShared();
+        this.segment = arena.allocate(MATRIX_SIZE * capacity, 16);
+        this.capacity = capacity;
+        this.count = capacity;
+        for (int i = 0; i < capacity; i++) {
+            setIdentity(i);
+        }
+    }
+
+    /** The Matrix array, can be passed wherever a const Matrix * is expected */
+    public MemorySegment segment() {
+        return segment;
+    }
+
+    /** The Matrix array to draw instances from, throws if the buffer holds fewer instances */
+    public MemorySegment segment(int instances) {
+        if (instances < 0 || instances > capacity) {
+            throw new IndexOutOfBoundsException("Instance count " + instances + " out of 0.." + capacity);
+        }
+        return segment;
+    }
+
+    /** Returns a Matrix array segment, throws if it holds fewer than instances matrices */
+    public static MemorySegment checkSegment(MemorySegment transforms, int instances) {
+        if (instances < 0 || transforms.byteSize() < instances * MATRIX_SIZE) {
+            throw new IndexOutOfBoundsException("Segment of " + transforms.byteSize() + " bytes does not hold " + instances + " matrices");
+        }
+        return transforms;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    /** Number of instances drawn */
+    public int count() {
+        return count;
+    }
+
+    public void setCount(int count) {
+        if (count < 0 || count > capacity) {
+            throw new IndexOutOfBoundsException("Instance count " + count + " out of 0.." + capacity);
+        }
+        this.count = count;
+    }
+
+    public void setIdentity(int i) {
+        long base = base(i);
+        segment.asSlice(base, MATRIX_SIZE).fill((byte) 0);
+        put(base, 0, 1.0f);
+        put(base, 5, 1.0f);
+        put(base, 10, 1.0f);
+        put(base, 15, 1.0f);
+    }
+
+    /** Sets the translation of instance i, keeping its rotation and scale */
+    public void setTranslation(int i, float x, float y, float z) {
+        long base = base(i);
+        put(base, 12, x);
+        put(base, 13, y);
+        put(base, 14, z);
+    }
+
+    /** Sets instance i to a uniform scale followed by a translation */
+    public void setTransform(int i, float x, float y, float z, float scale) {
+        setTransform(i, x, y, z, 0, 0, 0, scale, scale, scale);
+    }
+
+    /**
+     * Sets instance i to scale, then rotation by euler angles in radians (same as raymath's
+     * MatrixRotateXYZ), then translation.
+     */
+    public void setTransform(int i, float x, float y, float z,
+                             float pitch, float yaw, float roll,
+                             float scaleX, float scaleY, float scaleZ) {
+        float cosz = (float) Math.cos(-roll);
+        float sinz = (float) Math.sin(-roll);
+        float cosy = (float) Math.cos(-yaw);
+        float siny = (float) Math.sin(-yaw);
+        float cosx = (float) Math.cos(-pitch);
+        float sinx = (float) Math.sin(-pitch);
+
+        long base = base(i);
+        put(base, 0, cosz * cosy * scaleX);
+        put(base, 1, (cosz * siny * sinx - sinz * cosx) * scaleX);
+        put(base, 2, (cosz * siny * cosx + sinz * sinx) * scaleX);
+        put(base, 3, 0);
+        put(base, 4, sinz * cosy * scaleY);
+        put(base, 5, (sinz * siny * sinx + cosz * cosx) * scaleY);
+        put(base, 6, (sinz * siny * cosx - cosz * sinx) * scaleY);
+        put(base, 7, 0);
+        put(base, 8, -siny * scaleZ);
+        put(base, 9, cosy * sinx * scaleZ);
+        put(base, 10, cosy * cosx * scaleZ);
+        put(base, 11, 0);
+        put(base, 12, x);
+        put(base, 13, y);
+        put(base, 14, z);
+        put(base, 15, 1);
+    }
+
+    /** Copies 16 floats ordered as Matrix fields (m0, m4, m8, m12, m1, ...) into instance i */
+    public void setMatrix(int i, float[] m, int offset) {
+        MemorySegment.copy(m, offset, segment, FLOAT, base(i), 16);
+    }
+
+    @Override
+    public void close() {
+        arena.close();
+    }
+
+    private long base(int i) {
+        if (i < 0 || i >= capacity) {
+            throw new IndexOutOfBoundsException("Instance " + i + " out of 0.." + capacity);
+        }
+        return i * MATRIX_SIZE;
+    }
+
+    private void put(long base, int field, float value) {
+        segment.set(FLOAT, base + OFFSET[field], value);
+    }
+}
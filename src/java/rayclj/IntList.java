@@ -0,0 +1,67 @@
+package rayclj;
+
+import java.util.Arrays;
+
+/**
+ * A growable int array, reused between frames to collect query results without boxing.
+ * Not thread safe.
+ */
+public final class IntList {
+    private int[] elements;
+    private int size;
+
+    public IntList() {
+        this(16);
+    }
+
+    public IntList(int capacity) {
+        this.elements = new int[Math.max(capacity, 1)];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int get(int i) {
+        if (i >= size) {
+            throw new IndexOutOfBoundsException("Index " + i + " out of " + size);
+        }
+        return elements[i];
+    }
+
+    public void add(int value) {
+        if (size == elements.length) {
+            elements = Arrays.copyOf(elements, size * 2);
+        }
+        elements[size++] = value;
+    }
+
+    /** Removes the first occurrence of value by moving the last element into its place */
+    public boolean removeValue(int value) {
+        for (int i = 0; i < size; i++) {
+            if (elements[i] == value) {
+                elements[i] = elements[--size];
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** Keeps the backing array, so adding up to the previous size does not allocate */
+    public void clear() {
+        size = 0;
+    }
+
+    /** The backing array, valid up to size(). It is replaced when the list grows. */
+    public int[] array() {
+        return elements;
+    }
+
+    public int[] toArray() {
+        return Arrays.copyOf(elements, size);
+    }
+}
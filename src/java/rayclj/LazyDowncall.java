@@ -0,0 +1,78 @@
+package rayclj;
+
+import java.lang.foreign.FunctionDescriptor;
+import java.lang.foreign.GroupLayout;
+import java.lang.foreign.Linker;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.SegmentAllocator;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.MutableCallSite;
+
+/**
+ * jextract's RuntimeHelper links a downcall handle for every function in a constants class
+ * as soon as one of them is used. Linking spins a specialized stub, so it dominates startup.
+ *
+ * So return a handle which links its target on the first call and then rebinds its call site
+ * to it. After that the JIT sees the linked handle as a constant like an eagerly linked one.
+ *
+ * Eager linking can be enabled with `-Drayclj.eager-linking=true`.
+ */
+public final class LazyDowncall {
+    private static final boolean EAGER = Boolean.getBoolean("rayclj.eager-linking");
+
+    private static final MethodHandle LINK;
+
+    static {
+        try {
+            LINK = MethodHandles.lookup().findVirtual(Target.class, "link", MethodType.methodType(MethodHandle.class));
+        } catch (ReflectiveOperationException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    // Suppresses default constructor, ensuring non-instantiability.
+    private LazyDowncall() {}
+
+    public static MethodHandle downcallHandle(Linker linker, MemorySegment symbol, FunctionDescriptor fdesc, Linker.Option... options) {
+        if (EAGER) {
+            return linker.downcallHandle(symbol, fdesc, options);
+        }
+
+        MethodType type = fdesc.toMethodType();
+        boolean needsAllocator = fdesc.returnLayout().isPresent() &&
+                                 fdesc.returnLayout().get() instanceof GroupLayout;
+        if (needsAllocator) {
+            type = type.insertParameterTypes(0, SegmentAllocator.class);
+        }
+
+        MutableCallSite site = new MutableCallSite(type);
+        MethodHandle link = LINK.bindTo(new Target(site, linker, symbol, fdesc, options));
+        site.setTarget(MethodHandles.foldArguments(MethodHandles.exactInvoker(type), link));
+        return site.dynamicInvoker();
+    }
+
+    private static final class Target {
+        private final MutableCallSite site;
+        private final Linker linker;
+        private final MemorySegment symbol;
+        private final FunctionDescriptor fdesc;
+        private final Linker.Option[] options;
+
+        private Target(MutableCallSite site, Linker linker, MemorySegment symbol, FunctionDescriptor fdesc, Linker.Option[] options) {
+            this.site = site;
+            this.linker = linker;
+            this.symbol = symbol;
+            this.fdesc = fdesc;
+            this.options = options;
+        }
+
+        // Racing threads may both link, which is harmless since the handles are equivalent.
+        private MethodHandle link() {
+            MethodHandle handle = linker.downcallHandle(symbol, fdesc, options);
+            site.setTarget(handle);
+            return handle;
+        }
+    }
+}
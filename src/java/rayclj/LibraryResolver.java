@@ -1,52 +1,212 @@
 package rayclj;
 
 import java.io.File;
+import java.io.IOException;
 import java.io.InputStream;
+import java.net.URL;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * jextract's RuntimeHelper classes does not support dynamic library resolution.
  * So provide a static method to resolve absolute path for raylib library.
  *
- * Also it is not possible to load native library from jar file. So if the user 
- * does not provide a path then copy platform specific library to current working directory.
+ * Also it is not possible to load native library from jar file. So if the user
+ * does not provide a path then extract platform specific library into a per user cache
+ * directory, keyed by the SHA-256 of the bundled binary. So an older library is never reused
+ * and concurrent launches share one copy. The cache directory can be set with `-Drayclj.cache-dir`.
+ *
+ * The hash is read from a `.sha256` file bundled next to the binary by the build, so the
+ * binary itself is only read when it is extracted, and its content is verified against the
+ * hash then. A marker file next to the copy records its hash, size and modification time,
+ * so later launches check the copy with two stats instead of reading it.
+ *
+ * Resolution can be started early with {@link #prefetch()}, so extraction runs in parallel
+ * with clojure namespace loading.
  */
 public final class LibraryResolver {
+    private static CompletableFuture<String> resolution;
+
+    // Suppresses default constructor, ensuring non-instantiability.
+    private LibraryResolver() {}
+
+    /** Starts resolving raylib in the background if it is not started yet */
+    public static void prefetch() {
+        resolution();
+    }
+
     public static String ResolveRaylib() {
+        try {
+            return resolution().join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException re ? re : new RuntimeException(e.getCause());
+        }
+    }
+
+    private static synchronized CompletableFuture<String> resolution() {
+        if (resolution == null) {
+            resolution = CompletableFuture.supplyAsync(LibraryResolver::resolve, task -> {
+                Thread thread = new Thread(task, "rayclj-library-resolver");
+                thread.setDaemon(true);
+                thread.start();
+            });
+        }
+        return resolution;
+    }
+
+    private static String resolve() {
         String library = System.getProperty("rayclj.library");
+        if (library != null && !library.isEmpty()) {
+            return new File(library).getAbsolutePath();
+        }
+
+        String OS = System.getProperty("os.name");
+        final String resource;
+
+        if (OS.contains("Mac OS X")) {
+            library = "libraylib.dylib";
+            resource = "raylib-5.0_macos/lib/" + library;
+        } else if (OS.contains("Windows")) {
+            library = "raylib.dll";
+            resource = "raylib-5.0_win64_msvc16/lib/" + library;
+        } else {
+            library = "libraylib.so"; // some Unix
+            resource = "raylib-5.0_linux_amd64/lib/" + library;
+        }
+
+        try {
+            URL url = LibraryResolver.class.getClassLoader().getResource(resource);
+            if (url == null) {
+                throw new IllegalStateException("Bundled library not found: " + resource +
+                                                ". Set its path with -Drayclj.library");
+            }
+            String hash = bundledHash(url, resource);
+            Path dir = cacheDir().resolve(hash.substring(0, 16));
+            Path target = dir.resolve(library);
 
-        if (library == null || library.isEmpty()) {
-            String OS = System.getProperty("os.name");
-            final String resource;
-
-            if (OS.contains("Mac OS X")) {
-                library = "libraylib.dylib";
-                resource = "raylib-5.0_macos/lib/" + library;
-            } else if (OS.contains("Windows")) {
-                library = "raylib.dll";
-                resource = "raylib-5.0_win64_msvc16/lib/" + library;
-            } else {
-                library = "libraylib.so"; // some Unix
-                resource = "raylib-5.0_linux_amd64/lib/" + library;
+            if (!isCached(target, hash)) {
+                extract(url, hash, dir, target);
             }
+            return target.toAbsolutePath().toString();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
 
-            if (!new File(library).exists()) { 
-                // copy the dynamic library from jar to current working directory
-                System.out.println("INFO: RAYCLJ: Library not found: " + library);
-                InputStream is = LibraryResolver.class.getClassLoader().getResourceAsStream(resource);
+    private static Path marker(Path target) {
+        return target.resolveSibling(target.getFileName() + ".sha256");
+    }
 
-                try {
-                    Files.copy(is, Paths.get(library));
-                    System.out.println("INFO: RAYCLJ: Library copied to current working directory: " + library);
-                }
-                catch (Exception e) {
-                    throw new RuntimeException(e);
+    // the hash written by the build, or of the binary itself if the build didn't write one
+    private static String bundledHash(URL url, String resource) throws IOException {
+        try (InputStream is = LibraryResolver.class.getClassLoader().getResourceAsStream(resource + ".sha256")) {
+            if (is != null) {
+                String hash = new String(is.readAllBytes(), StandardCharsets.US_ASCII).trim();
+                if (hash.matches("[0-9a-f]{64}")) {
+                    return hash;
                 }
             }
         }
+        try (InputStream is = url.openStream()) {
+            return sha256(is.readAllBytes());
+        }
+    }
+
+    // the marker is written after the copy, with the copy's hash, size and modification time
+    private static boolean isCached(Path target, String hash) throws IOException {
+        Path marker = marker(target);
+        if (!Files.isRegularFile(target) || !Files.isRegularFile(marker)) {
+            return false;
+        }
+        String[] fields = Files.readString(marker, StandardCharsets.US_ASCII).trim().split(" ");
+        try {
+            return fields.length == 3 &&
+                fields[0].equals(hash) &&
+                Long.parseLong(fields[1]) == Files.size(target) &&
+                Long.parseLong(fields[2]) == Files.getLastModifiedTime(target).toMillis();
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private static void extract(URL url, String hash, Path dir, Path target) throws IOException {
+        Files.createDirectories(dir);
+
+        // serializes extraction between JVMs starting at the same time
+        try (FileChannel channel = FileChannel.open(dir.resolve(".lock"), StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            channel.lock(); // released when the channel is closed
+            if (isCached(target, hash)) {
+                return; // extracted by another process while waiting for the lock
+            }
+
+            byte[] bytes;
+            try (InputStream is = url.openStream()) {
+                bytes = is.readAllBytes();
+            }
+            if (!sha256(bytes).equals(hash)) {
+                throw new IllegalStateException("Bundled library doesn't match its hash: " + url);
+            }
+            Path tmp = Files.createTempFile(dir, target.getFileName().toString(), ".tmp");
+            try {
+                Files.write(tmp, bytes);
+                move(tmp, target);
+                Files.writeString(tmp, hash + " " + bytes.length + " " +
+                                  Files.getLastModifiedTime(target).toMillis() + "\n", StandardCharsets.US_ASCII);
+                move(tmp, marker(target));
+            } finally {
+                Files.deleteIfExists(tmp);
+            }
+            System.out.println("INFO: RAYCLJ: Library extracted to: " + target);
+        }
+    }
+
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static Path cacheDir() {
+        String dir = System.getProperty("rayclj.cache-dir");
+        if (dir != null && !dir.isEmpty()) {
+            return Paths.get(dir);
+        }
 
-        return new File(library).getAbsolutePath();
+        String home = System.getProperty("user.home");
+        String OS = System.getProperty("os.name");
+        Path base;
+
+        if (OS.contains("Mac OS X")) {
+            base = Paths.get(home, "Library", "Caches");
+        } else if (OS.contains("Windows")) {
+            String localAppData = System.getenv("LOCALAPPDATA");
+            base = localAppData != null ? Paths.get(localAppData) : Paths.get(home, "AppData", "Local");
+        } else {
+            String xdg = System.getenv("XDG_CACHE_HOME");
+            base = xdg != null && !xdg.isEmpty() ? Paths.get(xdg) : Paths.get(home, ".cache");
+        }
+
+        return base.resolve("rayclj").resolve("native");
+    }
+
+    private static String sha256(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException(e);
+        }
     }
 }
@@ -0,0 +1,163 @@
+package rayclj;
+
+import java.util.Arrays;
+
+/**
+ * A loose quadtree over a square world, stored as one flat grid of cells per level.
+ *
+ * Each object lives in exactly one cell: the one holding its center, on the deepest level whose
+ * cells are at least as large as the object. Cells are loose, objects may stick out of them by
+ * half a cell, so an object only moves to another cell when its center leaves the cell or its
+ * size changes level. Objects centered outside the world are kept in the root.
+ *
+ * Suits worlds with known bounds and objects of very different sizes, where a
+ * {@link SpatialGrid} would need a cell size fitting all of them.
+ */
+public final class LooseQuadtree extends SpatialIndex {
+    public static final int MAX_DEPTH = 10;
+
+    private final float originX;
+    private final float originY;
+    private final float size;
+    private final int depth;
+
+    // levels[d] holds 2^d * 2^d cells, row major, allocated when first used
+    private final IntList[][] levels;
+    private final float[] cellSizes;
+
+    private int[] level = new int[0];
+    private int[] cell = new int[0];
+
+    /** A tree covering the square x, y, x + size, y + size with depth levels below the root */
+    public LooseQuadtree(float x, float y, float size, int depth) {
+        if (!(size > 0) || Float.isInfinite(size)) {
+            throw new IllegalArgumentException("Invalid quadtree size: " + size);
+        }
+        if (depth < 0 || depth > MAX_DEPTH) {
+            throw new IllegalArgumentException("Quadtree depth " + depth + " out of 0.." + MAX_DEPTH);
+        }
+        this.originX = x;
+        this.originY = y;
+        this.size = size;
+        this.depth = depth;
+        this.levels = new IntList[depth + 1][];
+        this.cellSizes = new float[depth + 1];
+        for (int d = 0; d <= depth; d++) {
+            levels[d] = new IntList[1 << (2 * d)];
+            cellSizes[d] = size / (1 << d);
+        }
+    }
+
+    public int depth() {
+        return depth;
+    }
+
+    @Override
+    void insert(int id) {
+        int d = levelOf(id);
+        int c = cellOf(id, d);
+        level[id] = d;
+        cell[id] = c;
+        IntList[] cells = levels[d];
+        if (cells[c] == null) {
+            cells[c] = new IntList(4);
+        }
+        cells[c].add(id);
+    }
+
+    @Override
+    void move(int id, float oldX, float oldY, float oldWidth, float oldHeight) {
+        int d = levelOf(id);
+        if (d == level[id] && cellOf(id, d) == cell[id]) {
+            return;
+        }
+        delete(id);
+        insert(id);
+    }
+
+    @Override
+    void delete(int id) {
+        levels[level[id]][cell[id]].removeValue(id);
+    }
+
+    @Override
+    void reset() {
+        for (IntList[] cells : levels) {
+            for (IntList c : cells) {
+                if (c != null) {
+                    c.clear();
+                }
+            }
+        }
+    }
+
+    @Override
+    void collect(float minX, float minY, float maxX, float maxY, IntList out) {
+        addAll(levels[0][0], out);
+        for (int d = 1; d <= depth; d++) {
+            // a cell's objects stay within half a cell around it
+            int n = 1 << d;
+            float cs = cellSizes[d];
+            int x0 = clamp((float) Math.floor((minX - originX) / cs - 1.5f), n);
+            int y0 = clamp((float) Math.floor((minY - originY) / cs - 1.5f), n);
+            int x1 = clamp((float) Math.floor((maxX - originX) / cs + 0.5f), n);
+            int y1 = clamp((float) Math.floor((maxY - originY) / cs + 0.5f), n);
+            if (x1 < 0 || y1 < 0 || x0 >= n || y0 >= n) {
+                continue;
+            }
+            IntList[] cells = levels[d];
+            for (int cy = Math.max(y0, 0); cy <= Math.min(y1, n - 1); cy++) {
+                for (int cx = Math.max(x0, 0); cx <= Math.min(x1, n - 1); cx++) {
+                    addAll(cells[cy * n + cx], out);
+                }
+            }
+        }
+    }
+
+    @Override
+    void ensureCapacity(int capacity) {
+        level = Arrays.copyOf(level, capacity);
+        cell = Arrays.copyOf(cell, capacity);
+    }
+
+    private int levelOf(int id) {
+        float minX = minX(id), minY = minY(id), maxX = maxX(id), maxY = maxY(id);
+        float centerX = (minX + maxX) * 0.5f;
+        float centerY = (minY + maxY) * 0.5f;
+        if (!(centerX >= originX && centerX < originX + size && centerY >= originY && centerY < originY + size)) {
+            return 0;
+        }
+        float extent = Math.max(maxX - minX, maxY - minY);
+        int d = 0;
+        while (d < depth && cellSizes[d + 1] >= extent) {
+            d++;
+        }
+        return d;
+    }
+
+    private int cellOf(int id, int d) {
+        if (d == 0) {
+            return 0;
+        }
+        int n = 1 << d;
+        float cs = cellSizes[d];
+        int cx = Math.min(n - 1, (int) (((minX(id) + maxX(id)) * 0.5f - originX) / cs));
+        int cy = Math.min(n - 1, (int) (((minY(id) + maxY(id)) * 0.5f - originY) / cs));
+        return cy * n + cx;
+    }
+
+    // keeps far away query coordinates in int range, out of range cells are skipped by the caller
+    private static int clamp(float cell, int n) {
+        return (int) Math.max(-1, Math.min(n, cell));
+    }
+
+    private static void addAll(IntList from, IntList to) {
+        if (from == null) {
+            return;
+        }
+        int[] ids = from.array();
+        for (int i = 0, n = from.size(); i < n; i++) {
+            to.add(ids[i]);
+        }
+    }
+}
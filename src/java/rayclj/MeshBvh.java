@@ -0,0 +1,615 @@
+package rayclj;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.Arrays;
+
+import rayclj.raylib.Mesh;
+import rayclj.raylib.Ray;
+import rayclj.raylib.RayCollision;
+
+/**
+ * A bounding volume hierarchy over the triangles of a mesh, for picking.
+ *
+ * GetRayCollisionMesh tests every triangle, so a ray against a large model costs milliseconds.
+ * The hierarchy is built once (binned surface area heuristic) from a copy of the vertex positions,
+ * and a ray only visits the boxes it crosses. Results have the RayCollision shape and follow
+ * GetRayCollisionMesh and GetRayCollisionTriangle: distance is in units of the ray direction,
+ * the normal is the unit normal of the hit triangle with the transform applied, and only hits
+ * further than 1e-6 count. They match raylib up to float rounding, because the ray is moved into
+ * mesh space instead of moving every vertex into world space.
+ *
+ * When vertices change (e.g. before update-mesh-buffer), call {@link #refit()} to recompute the
+ * boxes without rebuilding the tree. It stays correct, but may get slower to query if the shape
+ * changes a lot. Queries may run concurrently, but not together with a refit.
+ */
+public final class MeshBvh {
+    private static final int LEAF_SIZE = 4;
+    private static final int MAX_LEAF_SIZE = 32;
+    private static final int BINS = 16;
+    private static final float EPSILON = 0.000001f;
+
+    private static final ValueLayout.OfFloat FLOAT = ValueLayout.JAVA_FLOAT;
+    private static final ValueLayout.OfShort SHORT = ValueLayout.JAVA_SHORT;
+
+    private final MemorySegment mesh;
+    private final float[] vertices;
+    private final int[] indices;
+    private final int triangleCount;
+
+    // triangles ordered so that every leaf holds a contiguous range
+    private final int[] order;
+    // per triangle: min x, y, z and max x, y, z, kept for refits
+    private final float[] triangleBounds;
+
+    // per node: min x, y, z and max x, y, z
+    private final float[] bounds;
+    // per node: first triangle and count for leaves, left child (right is left + 1) and 0 otherwise
+    private final int[] nodes;
+    private int nodeCount;
+    private int depth;
+
+    /**
+     * Builds the hierarchy from the vertices and indices of a Mesh segment (e.g. a view's
+     * segment). {@link #refit()} reads the mesh's vertices again, so the mesh must outlive it.
+     */
+    public MeshBvh(MemorySegment mesh) {
+        this(mesh, readVertices(mesh), readIndices(mesh));
+    }
+
+    /**
+     * Builds the hierarchy from x, y, z vertex positions and 3 vertex indices per triangle.
+     * indices can be null for a mesh without indices, where every 3 vertices are a triangle.
+     */
+    public MeshBvh(float[] vertices, int[] indices) {
+        this(null, vertices.clone(), indices != null ? indices.clone() : sequence(vertices.length / 9 * 3));
+    }
+
+    private MeshBvh(MemorySegment mesh, float[] vertices, int[] indices) {
+        this.mesh = mesh;
+        this.vertices = vertices;
+        this.indices = indices;
+        this.triangleCount = indices.length / 3;
+        for (int index : indices) {
+            if (index < 0 || 3L * index + 2 >= vertices.length) {
+                throw new IndexOutOfBoundsException("Vertex index " + index + " out of 0.." + vertices.length / 3);
+            }
+        }
+
+        this.order = sequence(triangleCount);
+        this.triangleBounds = new float[6 * triangleCount];
+        int maxNodes = Math.max(1, 2 * triangleCount - 1);
+        this.bounds = new float[6 * maxNodes];
+        this.nodes = new int[2 * maxNodes];
+        build();
+    }
+
+    public int triangleCount() {
+        return triangleCount;
+    }
+
+    public int nodeCount() {
+        return nodeCount;
+    }
+
+    /** Number of levels of the tree, a leaf root has depth 1 */
+    public int depth() {
+        return depth;
+    }
+
+    /** Reads the vertices of the mesh again and recomputes the boxes */
+    public void refit() {
+        if (mesh == null) {
+            throw new IllegalStateException("Not built from a mesh, use refit(vertices)");
+        }
+        if (Mesh.vertexCount$get(mesh) * 3 != vertices.length) {
+            throw new IllegalStateException("Vertex count of the mesh changed, rebuild instead");
+        }
+        refit(Mesh.vertices$get(mesh).reinterpret(vertices.length * 4L));
+    }
+
+    /** Copies new positions of all vertices (a native float array, e.g. update-mesh-buffer data) and recomputes the boxes */
+    public void refit(MemorySegment vertices) {
+        MemorySegment.copy(vertices, FLOAT, 0, this.vertices, 0, this.vertices.length);
+        refitBounds();
+    }
+
+    /** Copies new positions of all vertices and recomputes the boxes */
+    public void refit(float[] vertices) {
+        System.arraycopy(vertices, 0, this.vertices, 0, this.vertices.length);
+        refitBounds();
+    }
+
+    /** Same as GetRayCollisionMesh with an identity transform, the result is written into out */
+    public MemorySegment getRayCollision(MemorySegment out, MemorySegment ray) {
+        return getRayCollision(out, ray, (float[]) null);
+    }
+
+    /** Same as GetRayCollisionMesh, the result is written into out */
+    public MemorySegment getRayCollision(MemorySegment out, MemorySegment ray, MemorySegment transform) {
+        float[] mat = new float[16];
+        MemorySegment.copy(transform, FLOAT, 0, mat, 0, 16);
+        return getRayCollision(out, ray, mat);
+    }
+
+    /** Same as GetRayCollisionMesh with a transform given as 16 floats in Matrix field order (m0, m4, m8, ...) */
+    public MemorySegment getRayCollision(MemorySegment out, MemorySegment ray, float[] transform) {
+        MemorySegment position = Ray.position$slice(ray);
+        MemorySegment direction = Ray.direction$slice(ray);
+        float px = position.get(FLOAT, 0), py = position.get(FLOAT, 4), pz = position.get(FLOAT, 8);
+        float dx = direction.get(FLOAT, 0), dy = direction.get(FLOAT, 4), dz = direction.get(FLOAT, 8);
+
+        float ox = px, oy = py, oz = pz;
+        float lx = dx, ly = dy, lz = dz;
+        if (transform != null) {
+            if (RayMath.matrixDeterminant(MemorySegment.ofArray(transform)) == 0) {
+                return linear(out, px, py, pz, dx, dy, dz, transform);
+            }
+            float[] inverse = RayMath.matrixInvert(new float[16], 0, transform, 0);
+            ox = m(inverse, 0) * px + m(inverse, 4) * py + m(inverse, 8) * pz + m(inverse, 12);
+            oy = m(inverse, 1) * px + m(inverse, 5) * py + m(inverse, 9) * pz + m(inverse, 13);
+            oz = m(inverse, 2) * px + m(inverse, 6) * py + m(inverse, 10) * pz + m(inverse, 14);
+            lx = m(inverse, 0) * dx + m(inverse, 4) * dy + m(inverse, 8) * dz;
+            ly = m(inverse, 1) * dx + m(inverse, 5) * dy + m(inverse, 9) * dz;
+            lz = m(inverse, 2) * dx + m(inverse, 6) * dy + m(inverse, 10) * dz;
+        }
+
+        float[] distance = new float[1];
+        int tri = intersect(ox, oy, oz, lx, ly, lz, distance);
+        if (tri < 0) {
+            return miss(out);
+        }
+        float t = distance[0];
+
+        int a = 3 * indices[3 * tri], b = 3 * indices[3 * tri + 1], c = 3 * indices[3 * tri + 2];
+        float[] v = vertices;
+        float e1x = v[b] - v[a], e1y = v[b + 1] - v[a + 1], e1z = v[b + 2] - v[a + 2];
+        float e2x = v[c] - v[a], e2y = v[c + 1] - v[a + 1], e2z = v[c + 2] - v[a + 2];
+        if (transform != null) {
+            float x = e1x, y = e1y, z = e1z;
+            e1x = m(transform, 0) * x + m(transform, 4) * y + m(transform, 8) * z;
+            e1y = m(transform, 1) * x + m(transform, 5) * y + m(transform, 9) * z;
+            e1z = m(transform, 2) * x + m(transform, 6) * y + m(transform, 10) * z;
+            x = e2x;
+            y = e2y;
+            z = e2z;
+            e2x = m(transform, 0) * x + m(transform, 4) * y + m(transform, 8) * z;
+            e2y = m(transform, 1) * x + m(transform, 5) * y + m(transform, 9) * z;
+            e2z = m(transform, 2) * x + m(transform, 6) * y + m(transform, 10) * z;
+        }
+        return write(out, t, px, py, pz, dx, dy, dz, e1x, e1y, e1z, e2x, e2y, e2z);
+    }
+
+    /**
+     * Nearest hit of the ray in mesh space. Returns the distance (in units of the direction), or
+     * NaN when nothing is hit.
+     */
+    public float raycast(float ox, float oy, float oz, float dx, float dy, float dz) {
+        float[] distance = new float[1];
+        return intersect(ox, oy, oz, dx, dy, dz, distance) >= 0 ? distance[0] : Float.NaN;
+    }
+
+    // Traversal
+
+    // Nearest hit triangle or -1, its distance is written into distance
+    private int intersect(float ox, float oy, float oz, float dx, float dy, float dz, float[] distance) {
+        if (triangleCount == 0) {
+            return -1;
+        }
+        float ix = 1.0f / dx, iy = 1.0f / dy, iz = 1.0f / dz;
+        float best = Float.POSITIVE_INFINITY;
+        int bestTriangle = -1;
+
+        int[] stack = new int[depth + 1];
+        int top = 0;
+        if (enter(0, ox, oy, oz, ix, iy, iz, best) < Float.POSITIVE_INFINITY) {
+            stack[top++] = 0;
+        }
+        while (top > 0) {
+            int node = stack[--top];
+            int count = nodes[2 * node + 1];
+            if (count > 0) {
+                for (int i = nodes[2 * node], end = i + count; i < end; i++) {
+                    int tri = order[i];
+                    float t = triangle(tri, ox, oy, oz, dx, dy, dz);
+                    if (t < best) {
+                        best = t;
+                        bestTriangle = tri;
+                    }
+                }
+                continue;
+            }
+            int left = nodes[2 * node];
+            float tl = enter(left, ox, oy, oz, ix, iy, iz, best);
+            float tr = enter(left + 1, ox, oy, oz, ix, iy, iz, best);
+            // visit the nearer child first, it is pushed last
+            if (tl <= tr) {
+                if (tr < Float.POSITIVE_INFINITY) stack[top++] = left + 1;
+                if (tl < Float.POSITIVE_INFINITY) stack[top++] = left;
+            } else {
+                if (tl < Float.POSITIVE_INFINITY) stack[top++] = left;
+                if (tr < Float.POSITIVE_INFINITY) stack[top++] = left + 1;
+            }
+        }
+
+        distance[0] = best;
+        return bestTriangle;
+    }
+
+    // Distance where the ray enters the box of node, infinity if it misses it or enters after limit
+    private float enter(int node, float ox, float oy, float oz, float ix, float iy, float iz, float limit) {
+        int at = 6 * node;
+        float near = Float.NEGATIVE_INFINITY, far = Float.POSITIVE_INFINITY;
+        for (int axis = 0; axis < 3; axis++) {
+            float o = axis == 0 ? ox : axis == 1 ? oy : oz;
+            float inverse = axis == 0 ? ix : axis == 1 ? iy : iz;
+            float t1 = (bounds[at + axis] - o) * inverse;
+            float t2 = (bounds[at + 3 + axis] - o) * inverse;
+            // NaN when the ray runs along a face of the box, which does not limit it on this axis
+            if (t1 != t1 || t2 != t2) {
+                continue;
+            }
+            near = Math.max(near, Math.min(t1, t2));
+            far = Math.min(far, Math.max(t1, t2));
+        }
+        if (near > far || far < 0 || near > limit) {
+            return Float.POSITIVE_INFINITY;
+        }
+        return near;
+    }
+
+    // GetRayCollisionTriangle, returns the distance or infinity
+    private float triangle(int tri, float ox, float oy, float oz, float dx, float dy, float dz) {
+        float[] v = vertices;
+        int a = 3 * indices[3 * tri], b = 3 * indices[3 * tri + 1], c = 3 * indices[3 * tri + 2];
+        float ax = v[a], ay = v[a + 1], az = v[a + 2];
+        float e1x = v[b] - ax, e1y = v[b + 1] - ay, e1z = v[b + 2] - az;
+        float e2x = v[c] - ax, e2y = v[c + 1] - ay, e2z = v[c + 2] - az;
+        return triangle(ox, oy, oz, dx, dy, dz, ax, ay, az, e1x, e1y, e1z, e2x, e2y, e2z);
+    }
+
+    private static float triangle(float ox, float oy, float oz, float dx, float dy, float dz,
+                                  float ax, float ay, float az,
+                                  float e1x, float e1y, float e1z,
+                                  float e2x, float e2y, float e2z) {
+        float px = dy * e2z - dz * e2y, py = dz * e2x - dx * e2z, pz = dx * e2y - dy * e2x;
+        float det = e1x * px + e1y * py + e1z * pz;
+        if (det > -EPSILON && det < EPSILON) {
+            return Float.POSITIVE_INFINITY;
+        }
+        float invDet = 1.0f / det;
+
+        float tx = ox - ax, ty = oy - ay, tz = oz - az;
+        float u = (tx * px + ty * py + tz * pz) * invDet;
+        if (u < 0.0f || u > 1.0f) {
+            return Float.POSITIVE_INFINITY;
+        }
+
+        float qx = ty * e1z - tz * e1y, qy = tz * e1x - tx * e1z, qz = tx * e1y - ty * e1x;
+        float w = (dx * qx + dy * qy + dz * qz) * invDet;
+        if (w < 0.0f || u + w > 1.0f) {
+            return Float.POSITIVE_INFINITY;
+        }
+
+        float t = (e2x * qx + e2y * qy + e2z * qz) * invDet;
+        return t > EPSILON ? t : Float.POSITIVE_INFINITY;
+    }
+
+    // GetRayCollisionMesh as raylib does it, for transforms that can not be inverted
+    private MemorySegment linear(MemorySegment out, float px, float py, float pz,
+                                 float dx, float dy, float dz, float[] mat) {
+        float best = Float.POSITIVE_INFINITY;
+        float[] edges = new float[6];
+        float[] world = new float[9];
+        for (int tri = 0; tri < triangleCount; tri++) {
+            for (int k = 0; k < 3; k++) {
+                int at = 3 * indices[3 * tri + k];
+                float x = vertices[at], y = vertices[at + 1], z = vertices[at + 2];
+                world[3 * k] = m(mat, 0) * x + m(mat, 4) * y + m(mat, 8) * z + m(mat, 12);
+                world[3 * k + 1] = m(mat, 1) * x + m(mat, 5) * y + m(mat, 9) * z + m(mat, 13);
+                world[3 * k + 2] = m(mat, 2) * x + m(mat, 6) * y + m(mat, 10) * z + m(mat, 14);
+            }
+            float e1x = world[3] - world[0], e1y = world[4] - world[1], e1z = world[5] - world[2];
+            float e2x = world[6] - world[0], e2y = world[7] - world[1], e2z = world[8] - world[2];
+            float t = triangle(px, py, pz, dx, dy, dz, world[0], world[1], world[2],
+                               e1x, e1y, e1z, e2x, e2y, e2z);
+            if (t < best) {
+                best = t;
+                edges[0] = e1x; edges[1] = e1y; edges[2] = e1z;
+                edges[3] = e2x; edges[4] = e2y; edges[5] = e2z;
+            }
+        }
+        if (best == Float.POSITIVE_INFINITY) {
+            return miss(out);
+        }
+        return write(out, best, px, py, pz, dx, dy, dz,
+                     edges[0], edges[1], edges[2], edges[3], edges[4], edges[5]);
+    }
+
+    private static MemorySegment write(MemorySegment out, float t,
+                                       float px, float py, float pz, float dx, float dy, float dz,
+                                       float e1x, float e1y, float e1z, float e2x, float e2y, float e2z) {
+        float nx = e1y * e2z - e1z * e2y, ny = e1z * e2x - e1x * e2z, nz = e1x * e2y - e1y * e2x;
+        float length = (float) Math.sqrt(nx * nx + ny * ny + nz * nz);
+        if (length != 0.0f) {
+            float ilength = 1.0f / length;
+            nx *= ilength;
+            ny *= ilength;
+            nz *= ilength;
+        }
+
+        RayCollision.hit$set(out, true);
+        RayCollision.distance$set(out, t);
+        MemorySegment point = RayCollision.point$slice(out);
+        point.set(FLOAT, 0, px + dx * t);
+        point.set(FLOAT, 4, py + dy * t);
+        point.set(FLOAT, 8, pz + dz * t);
+        MemorySegment normal = RayCollision.normal$slice(out);
+        normal.set(FLOAT, 0, nx);
+        normal.set(FLOAT, 4, ny);
+        normal.set(FLOAT, 8, nz);
+        return out;
+    }
+
+    private static MemorySegment miss(MemorySegment out) {
+        out.fill((byte) 0);
+        return out;
+    }
+
+    // Build
+
+    private void build() {
+        nodeCount = 1;
+        depth = 1;
+        if (triangleCount == 0) {
+            nodes[0] = 0;
+            nodes[1] = 0;
+            return;
+        }
+
+        // split by the centers of the triangle boxes
+        computeTriangleBounds();
+        float[] centroids = new float[3 * triangleCount];
+        for (int tri = 0; tri < triangleCount; tri++) {
+            for (int axis = 0; axis < 3; axis++) {
+                centroids[3 * tri + axis] = (triangleBounds[6 * tri + axis] + triangleBounds[6 * tri + 3 + axis]) * 0.5f;
+            }
+        }
+
+        int[] binCounts = new int[BINS];
+        float[] binBounds = new float[6 * BINS];
+        float[] rightAreas = new float[BINS];
+        int[] rightCounts = new int[BINS];
+
+        // pending nodes as node, start, end, level
+        int[] work = new int[4 * 64];
+        int pending = 0;
+        work[pending++] = 0;
+        work[pending++] = 0;
+        work[pending++] = triangleCount;
+        work[pending++] = 1;
+
+        while (pending > 0) {
+            int level = work[--pending];
+            int end = work[--pending];
+            int start = work[--pending];
+            int node = work[--pending];
+            depth = Math.max(depth, level);
+
+            leafBounds(node, start, end);
+            int count = end - start;
+            if (count <= LEAF_SIZE) {
+                leaf(node, start, count);
+                continue;
+            }
+
+            // split on the longest axis of the centroids
+            float cmin0 = Float.POSITIVE_INFINITY, cmin1 = cmin0, cmin2 = cmin0;
+            float cmax0 = Float.NEGATIVE_INFINITY, cmax1 = cmax0, cmax2 = cmax0;
+            for (int i = start; i < end; i++) {
+                int at = 3 * order[i];
+                cmin0 = Math.min(cmin0, centroids[at]);
+                cmax0 = Math.max(cmax0, centroids[at]);
+                cmin1 = Math.min(cmin1, centroids[at + 1]);
+                cmax1 = Math.max(cmax1, centroids[at + 1]);
+                cmin2 = Math.min(cmin2, centroids[at + 2]);
+                cmax2 = Math.max(cmax2, centroids[at + 2]);
+            }
+            int axis = 0;
+            float cmin = cmin0, extent = cmax0 - cmin0;
+            if (cmax1 - cmin1 > extent) {
+                axis = 1;
+                cmin = cmin1;
+                extent = cmax1 - cmin1;
+            }
+            if (cmax2 - cmin2 > extent) {
+                axis = 2;
+                cmin = cmin2;
+                extent = cmax2 - cmin2;
+            }
+            if (!(extent > 0)) {
+                // all centroids at the same point, nothing to split
+                leaf(node, start, count);
+                continue;
+            }
+
+            // binned surface area heuristic
+            float scale = BINS / extent;
+            Arrays.fill(binCounts, 0);
+            for (int b = 0; b < BINS; b++) {
+                empty(binBounds, b);
+            }
+            for (int i = start; i < end; i++) {
+                int tri = order[i];
+                int b = bin(centroids[3 * tri + axis], cmin, scale);
+                binCounts[b]++;
+                grow(binBounds, b, triangleBounds, tri);
+            }
+
+            float[] box = new float[6];
+            empty(box, 0);
+            int right = 0;
+            for (int b = BINS - 1; b > 0; b--) {
+                grow(box, 0, binBounds, b);
+                right += binCounts[b];
+                rightCounts[b] = right;
+                rightAreas[b] = area(box, 0);
+            }
+            empty(box, 0);
+            int left = 0;
+            int split = -1;
+            float bestCost = Float.POSITIVE_INFINITY;
+            for (int b = 1; b < BINS; b++) {
+                grow(box, 0, binBounds, b - 1);
+                left += binCounts[b - 1];
+                if (left == 0 || rightCounts[b] == 0) {
+                    continue;
+                }
+                float cost = area(box, 0) * left + rightAreas[b] * rightCounts[b];
+                if (cost < bestCost) {
+                    bestCost = cost;
+                    split = b;
+                }
+            }
+
+            if (split < 0 || (bestCost >= area(bounds, node) * count && count <= MAX_LEAF_SIZE)) {
+                leaf(node, start, count);
+                continue;
+            }
+
+            int mid = start;
+            for (int j = end - 1; mid <= j; ) {
+                if (bin(centroids[3 * order[mid] + axis], cmin, scale) < split) {
+                    mid++;
+                } else {
+                    int tmp = order[mid];
+                    order[mid] = order[j];
+                    order[j--] = tmp;
+                }
+            }
+
+            int child = nodeCount;
+            nodeCount += 2;
+            nodes[2 * node] = child;
+            nodes[2 * node + 1] = 0;
+            if (pending + 8 > work.length) {
+                work = Arrays.copyOf(work, work.length * 2);
+            }
+            work[pending++] = child + 1;
+            work[pending++] = mid;
+            work[pending++] = end;
+            work[pending++] = level + 1;
+            work[pending++] = child;
+            work[pending++] = start;
+            work[pending++] = mid;
+            work[pending++] = level + 1;
+        }
+    }
+
+    private void refitBounds() {
+        computeTriangleBounds();
+        // children always come after their parent
+        for (int node = nodeCount - 1; node >= 0; node--) {
+            int count = nodes[2 * node + 1];
+            if (count > 0 || triangleCount == 0) {
+                int start = nodes[2 * node];
+                leafBounds(node, start, start + count);
+            } else {
+                int left = nodes[2 * node];
+                empty(bounds, node);
+                grow(bounds, node, bounds, left);
+                grow(bounds, node, bounds, left + 1);
+            }
+        }
+    }
+
+    private void leaf(int node, int start, int count) {
+        nodes[2 * node] = start;
+        nodes[2 * node + 1] = count;
+    }
+
+    private void leafBounds(int node, int start, int end) {
+        empty(bounds, node);
+        for (int i = start; i < end; i++) {
+            grow(bounds, node, triangleBounds, order[i]);
+        }
+    }
+
+    private void computeTriangleBounds() {
+        for (int tri = 0; tri < triangleCount; tri++) {
+            empty(triangleBounds, tri);
+            int at = 6 * tri;
+            for (int k = 0; k < 3; k++) {
+                int v = 3 * indices[3 * tri + k];
+                for (int axis = 0; axis < 3; axis++) {
+                    triangleBounds[at + axis] = Math.min(triangleBounds[at + axis], vertices[v + axis]);
+                    triangleBounds[at + 3 + axis] = Math.max(triangleBounds[at + 3 + axis], vertices[v + axis]);
+                }
+            }
+        }
+    }
+
+    private static int bin(float centroid, float min, float scale) {
+        return Math.min(BINS - 1, (int) ((centroid - min) * scale));
+    }
+
+    private static void empty(float[] boxes, int box) {
+        int at = 6 * box;
+        for (int axis = 0; axis < 3; axis++) {
+            boxes[at + axis] = Float.POSITIVE_INFINITY;
+            boxes[at + 3 + axis] = Float.NEGATIVE_INFINITY;
+        }
+    }
+
+    private static void grow(float[] boxes, int box, float[] from, int other) {
+        int at = 6 * box, o = 6 * other;
+        for (int axis = 0; axis < 3; axis++) {
+            boxes[at + axis] = Math.min(boxes[at + axis], from[o + axis]);
+            boxes[at + 3 + axis] = Math.max(boxes[at + 3 + axis], from[o + 3 + axis]);
+        }
+    }
+
+    private static float area(float[] boxes, int box) {
+        int at = 6 * box;
+        float x = boxes[at + 3] - boxes[at], y = boxes[at + 4] - boxes[at + 1], z = boxes[at + 5] - boxes[at + 2];
+        return x > 0 || y > 0 || z > 0 ? x * y + y * z + z * x : 0;
+    }
+
+    // Matrix field mN of 16 floats in declaration order
+    private static float m(float[] mat, int n) {
+        return mat[((n & 3) << 2) + (n >> 2)];
+    }
+
+    private static int[] sequence(int n) {
+        int[] values = new int[n];
+        for (int i = 0; i < n; i++) {
+            values[i] = i;
+        }
+        return values;
+    }
+
+    private static float[] readVertices(MemorySegment mesh) {
+        int vertexCount = Mesh.vertexCount$get(mesh);
+        MemorySegment vertices = Mesh.vertices$get(mesh);
+        if (vertices.equals(MemorySegment.NULL)) {
+            throw new IllegalArgumentException("Mesh has no vertices in CPU memory");
+        }
+        float[] values = new float[3 * vertexCount];
+        MemorySegment.copy(vertices.reinterpret(values.length * 4L), FLOAT, 0, values, 0, values.length);
+        return values;
+    }
+
+    private static int[] readIndices(MemorySegment mesh) {
+        int triangleCount = Mesh.triangleCount$get(mesh);
+        MemorySegment indices = Mesh.indices$get(mesh);
+        if (indices.equals(MemorySegment.NULL)) {
+            return sequence(3 * triangleCount);
+        }
+        MemorySegment shorts = indices.reinterpret(triangleCount * 6L);
+        int[] values = new int[3 * triangleCount];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = Short.toUnsignedInt(shorts.getAtIndex(SHORT, i));
+        }
+        return values;
+    }
+}
@@ -0,0 +1,477 @@
+package rayclj;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.SegmentAllocator;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import rayclj.raylib.BoneInfo;
+import rayclj.raylib.Image;
+import rayclj.raylib.Material;
+import rayclj.raylib.MaterialMap;
+import rayclj.raylib.Mesh;
+import rayclj.raylib.Model;
+import rayclj.raylib.Texture;
+import rayclj.raylib.Transform;
+import rayclj.raylib.raylib_h;
+import rayclj.rlgl.rlgl_h;
+
+/**
+ * Caches loaded models on disk in a flat binary form of the Model struct, so loading an OBJ,
+ * glTF or IQM again skips parsing. The cache file holds the model transform, the mesh arrays as
+ * raylib keeps them (vertices, texcoords, normals, tangents, colors, indices, animation and bone
+ * data), the mesh material table, bones and bind pose, and the material maps with the pixels of
+ * their textures, read back from the GPU after the first LoadModel.
+ *
+ * A cached load maps the file, copies the arrays into raylib owned memory (UnloadModel frees
+ * them and UpdateModelAnimation writes the animated ones), and uploads meshes and textures. The
+ * model is unloaded like any loaded one, with UnloadModel and UnloadTexture of its material maps.
+ *
+ * Freshness is checked on the model file only (see CacheFiles). Invalidate it after changing
+ * only a material, binary buffer or texture file next to it. Custom material shaders are not
+ * stored, LoadModel doesn't load any either.
+ *
+ * Must be used from the render thread after the window is initialized.
+ */
+public final class ModelCache {
+    /** Hits, hits that needed a content hash, misses, time spent on hits, in LoadModel and writing cache files */
+    public record Stats(long hits, long rehashed, long misses, long hitNanos, long missNanos, long writeNanos) {}
+
+    private record Attribute(int bytesPerVertex, Function<MemorySegment, MemorySegment> get,
+                             BiConsumer<MemorySegment, MemorySegment> set) {}
+
+    // in file order, bit i of a mesh's mask tells if attribute i is present, the last bit is for indices
+    private static final List<Attribute> ATTRIBUTES = List.of(
+        new Attribute(12, Mesh::vertices$get, Mesh::vertices$set),
+        new Attribute(8, Mesh::texcoords$get, Mesh::texcoords$set),
+        new Attribute(8, Mesh::texcoords2$get, Mesh::texcoords2$set),
+        new Attribute(12, Mesh::normals$get, Mesh::normals$set),
+        new Attribute(16, Mesh::tangents$get, Mesh::tangents$set),
+        new Attribute(4, Mesh::colors$get, Mesh::colors$set),
+        new Attribute(12, Mesh::animVertices$get, Mesh::animVertices$set),
+        new Attribute(12, Mesh::animNormals$get, Mesh::animNormals$set),
+        new Attribute(4, Mesh::boneIds$get, Mesh::boneIds$set),
+        new Attribute(16, Mesh::boneWeights$get, Mesh::boneWeights$set));
+    private static final int INDICES_BIT = 1 << ATTRIBUTES.size();
+
+    private static final byte[] MAGIC = "RAYCLJMD".getBytes(StandardCharsets.US_ASCII);
+    private static final int VERSION = 1;
+    private static final int MAX_MATERIAL_MAPS = 12;
+    private static final int NO_TEXTURE = -1;
+    private static final int DEFAULT_TEXTURE = -2;
+
+    private static final ValueLayout.OfInt INT = ValueLayout.JAVA_INT_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+    private static final ValueLayout.OfLong LONG = ValueLayout.JAVA_LONG_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+    private static final ValueLayout.OfFloat FLOAT = ValueLayout.JAVA_FLOAT_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+
+    private final Path directory;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder rehashed = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder hitNanos = new LongAdder();
+    private final LongAdder missNanos = new LongAdder();
+    private final LongAdder writeNanos = new LongAdder();
+
+    public ModelCache(Path directory) throws IOException {
+        this.directory = Files.createDirectories(directory);
+    }
+
+    public Path directory() {
+        return directory;
+    }
+
+    /**
+     * Loads the Model of fileName from its cache file, or with LoadModel and writes the cache
+     * file. Unload it with UnloadModel.
+     */
+    public MemorySegment loadModel(SegmentAllocator allocator, String fileName) throws IOException {
+        long start = System.nanoTime();
+        Path source = CacheFiles.source(fileName);
+        Path cached = CacheFiles.cacheFile(directory, source, "", ".model");
+
+        CacheFiles.Freshness freshness = CacheFiles.check(cached, MAGIC, VERSION, source);
+        if (freshness != CacheFiles.Freshness.STALE) {
+            MemorySegment model = read(allocator, cached);
+            if (model != null) {
+                hits.increment();
+                if (freshness == CacheFiles.Freshness.REHASHED) {
+                    rehashed.increment();
+                }
+                hitNanos.add(System.nanoTime() - start);
+                return model;
+            }
+        }
+
+        // stamped before loading, as in CacheFiles.load
+        ByteBuffer stamp = CacheFiles.stamp(MAGIC, VERSION, source);
+        MemorySegment model = loadSource(allocator, fileName);
+        long loaded = System.nanoTime();
+        misses.increment();
+        missNanos.add(loaded - start);
+        try {
+            write(cached, stamp, model);
+        } catch (IOException e) {
+            // e.g. a read only cache directory, the model is loaded from source again next time
+        }
+        writeNanos.add(System.nanoTime() - loaded);
+        return model;
+    }
+
+    /**
+     * Loads and caches each model file, then reports the time of loading it from the source file
+     * next to the time of loading it from the cache.
+     * Arguments: directory file...
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: ModelCache <directory> <file>...");
+            System.exit(2);
+        }
+        raylib_h.SetTraceLogLevel(raylib_h.LOG_WARNING());
+        raylib_h.SetConfigFlags(raylib_h.FLAG_WINDOW_HIDDEN());
+        try (Arena arena = Arena.ofConfined()) {
+            raylib_h.InitWindow(64, 64, arena.allocateUtf8String("ModelCache"));
+            ModelCache cache = new ModelCache(Path.of(args[0]));
+            for (String fileName : List.of(args).subList(1, args.length)) {
+                cache.invalidate(fileName);
+                raylib_h.UnloadModel(cache.loadModel(arena, fileName)); // writes the cache file
+
+                long start = System.nanoTime();
+                raylib_h.UnloadModel(loadSource(arena, fileName));
+                long fromSource = System.nanoTime() - start;
+
+                start = System.nanoTime();
+                raylib_h.UnloadModel(cache.loadModel(arena, fileName));
+                long fromCache = System.nanoTime() - start;
+
+                System.out.printf("%s: %.2f ms from source, %.2f ms from cache (%.1fx)%n",
+                                  fileName, fromSource / 1e6, fromCache / 1e6, (double) fromSource / fromCache);
+            }
+        } finally {
+            raylib_h.CloseWindow();
+        }
+    }
+
+    /** Deletes the cache file of fileName, if any */
+    public void invalidate(String fileName) throws IOException {
+        Files.deleteIfExists(CacheFiles.cacheFile(directory, CacheFiles.source(fileName), "", ".model"));
+    }
+
+    public Stats stats() {
+        return new Stats(hits.sum(), rehashed.sum(), misses.sum(), hitNanos.sum(), missNanos.sum(), writeNanos.sum());
+    }
+
+    /**
+     * LoadModel, throwing IllegalArgumentException if fileName couldn't be loaded. LoadModel
+     * doesn't fail on its own: when a file is missing or can't be parsed it returns a model with
+     * raylib's 1x1x1 cube mesh (or an empty one) and the default material.
+     */
+    static MemorySegment loadSource(SegmentAllocator allocator, String fileName) {
+        if (!Files.isRegularFile(CacheFiles.source(fileName))) {
+            throw new IllegalArgumentException("Failed to load model: " + fileName);
+        }
+        MemorySegment model;
+        try (Arena temp = Arena.ofConfined()) {
+            model = raylib_h.LoadModel(allocator, temp.allocateUtf8String(fileName));
+        }
+        if (Model.meshCount$get(model) == 0 || isFallback(model)) {
+            raylib_h.UnloadModel(model);
+            throw new IllegalArgumentException("Failed to load model: " + fileName);
+        }
+        return model;
+    }
+
+    // Whether model is the one LoadModel returns for a file it couldn't load
+    private static boolean isFallback(MemorySegment model) {
+        if (Model.meshCount$get(model) != 1 || Model.materialCount$get(model) != 1) {
+            return false;
+        }
+        MemorySegment mesh = Model.meshes$get(model).reinterpret(Mesh.sizeof());
+        int vertexCount = Mesh.vertexCount$get(mesh);
+        if (vertexCount == 0) {
+            return true; // built without mesh generation
+        }
+        try (Arena temp = Arena.ofConfined()) {
+            MemorySegment cube = raylib_h.GenMeshCube(temp, 1, 1, 1);
+            try {
+                if (vertexCount != Mesh.vertexCount$get(cube) || Mesh.triangleCount$get(mesh) != Mesh.triangleCount$get(cube)) {
+                    return false;
+                }
+                for (Attribute attribute : ATTRIBUTES) {
+                    if (!sameArray(attribute.get().apply(mesh), attribute.get().apply(cube), vertexCount * attribute.bytesPerVertex())) {
+                        return false;
+                    }
+                }
+                return sameArray(Mesh.indices$get(mesh), Mesh.indices$get(cube), Mesh.triangleCount$get(mesh) * 6L);
+            } finally {
+                raylib_h.UnloadMesh(cube);
+            }
+        }
+    }
+
+    private static boolean sameArray(MemorySegment a, MemorySegment b, long bytes) {
+        if (a.equals(MemorySegment.NULL) || b.equals(MemorySegment.NULL)) {
+            return a.equals(b);
+        }
+        return a.reinterpret(bytes).mismatch(b.reinterpret(bytes)) == -1;
+    }
+
+    // Layout, little endian, after the CacheFiles stamp:
+    //   Matrix transform, int meshCount, int materialCount, int boneCount, int textureCount, padded to 64
+    //   per texture: int width, int height, int mipmaps, int format, long bytes, padded to 64, pixels padded to 64
+    //   per material: float[4] params, per map: int texture (index, NO_TEXTURE or DEFAULT_TEXTURE), Color, float value
+    //   int[meshCount] meshMaterial, BoneInfo[boneCount] bones, Transform[boneCount] bindPose, each padded to 16
+    //   per mesh: int vertexCount, int triangleCount, int mask, int 0, then each present array padded to 16
+    private static void write(Path cached, ByteBuffer stamp, MemorySegment model) throws IOException {
+        int meshCount = Model.meshCount$get(model);
+        int materialCount = Model.materialCount$get(model);
+        int boneCount = Model.boneCount$get(model);
+        MemorySegment meshes = Model.meshes$get(model).reinterpret(meshCount * Mesh.sizeof());
+        MemorySegment materials = Model.materials$get(model).reinterpret(materialCount * Material.sizeof());
+        int defaultTexture = rlgl_h.rlGetTextureIdDefault();
+
+        List<Integer> textureIds = new ArrayList<>();
+        List<MemorySegment> images = new ArrayList<>();
+        try {
+            Out out = new Out();
+            out.add(stamp.flip());
+            out.add(Model.transform$slice(model));
+            ByteBuffer counts = buffer(16).putInt(meshCount).putInt(materialCount).putInt(boneCount);
+
+            ByteBuffer materialTable = buffer(materialCount * (16 + MAX_MATERIAL_MAPS * 12));
+            for (int i = 0; i < materialCount; i++) {
+                MemorySegment material = materials.asSlice(i * Material.sizeof(), Material.sizeof());
+                MemorySegment maps = Material.maps$get(material).reinterpret(MAX_MATERIAL_MAPS * MaterialMap.sizeof());
+                materialTable.put(Material.params$slice(material).asByteBuffer());
+                for (int j = 0; j < MAX_MATERIAL_MAPS; j++) {
+                    MemorySegment map = maps.asSlice(j * MaterialMap.sizeof(), MaterialMap.sizeof());
+                    MemorySegment texture = MaterialMap.texture$slice(map);
+                    int id = Texture.id$get(texture);
+                    int index = id == 0 ? NO_TEXTURE : id == defaultTexture ? DEFAULT_TEXTURE : textureIds.indexOf(id);
+                    if (index == -1 && id != 0) {
+                        MemorySegment image = raylib_h.LoadImageFromTexture(Arena.ofAuto(), texture);
+                        if (Image.data$get(image).equals(MemorySegment.NULL)) {
+                            return; // e.g. a compressed texture, the model is not cached
+                        }
+                        images.add(image);
+                        textureIds.add(id);
+                        index = textureIds.size() - 1;
+                    }
+                    materialTable.putInt(index).put(MaterialMap.color$slice(map).asByteBuffer())
+                        .putFloat(MaterialMap.value$get(map));
+                }
+            }
+
+            out.add(counts.putInt(images.size()).flip());
+            out.align(64);
+            for (MemorySegment image : images) {
+                long bytes = raylib_h.GetPixelDataSize(Image.width$get(image), Image.height$get(image), Image.format$get(image));
+                out.add(buffer(24).putInt(Image.width$get(image)).putInt(Image.height$get(image)).putInt(1)
+                            .putInt(Image.format$get(image)).putLong(bytes).flip());
+                out.align(64);
+                out.add(Image.data$get(image).reinterpret(bytes));
+                out.align(64);
+            }
+            out.add(materialTable.flip());
+            out.add(Model.meshMaterial$get(model).reinterpret(meshCount * 4L));
+            out.align(16);
+            if (boneCount > 0) {
+                out.add(Model.bones$get(model).reinterpret(boneCount * BoneInfo.sizeof()));
+                out.align(16);
+                out.add(Model.bindPose$get(model).reinterpret(boneCount * Transform.sizeof()));
+                out.align(16);
+            }
+
+            for (int i = 0; i < meshCount; i++) {
+                MemorySegment mesh = meshes.asSlice(i * Mesh.sizeof(), Mesh.sizeof());
+                long vertexCount = Mesh.vertexCount$get(mesh);
+                int mask = 0;
+                List<MemorySegment> arrays = new ArrayList<>();
+                for (int a = 0; a < ATTRIBUTES.size(); a++) {
+                    Attribute attribute = ATTRIBUTES.get(a);
+                    MemorySegment array = attribute.get().apply(mesh);
+                    if (!array.equals(MemorySegment.NULL)) {
+                        mask |= 1 << a;
+                        arrays.add(array.reinterpret(vertexCount * attribute.bytesPerVertex()));
+                    }
+                }
+                if (!Mesh.indices$get(mesh).equals(MemorySegment.NULL)) {
+                    mask |= INDICES_BIT;
+                    arrays.add(Mesh.indices$get(mesh).reinterpret(Mesh.triangleCount$get(mesh) * 6L));
+                }
+                out.add(buffer(16).putInt((int) vertexCount).putInt(Mesh.triangleCount$get(mesh)).putInt(mask).putInt(0).flip());
+                for (MemorySegment array : arrays) {
+                    out.add(array);
+                    out.align(16);
+                }
+            }
+            CacheFiles.write(cached, out.buffers);
+        } finally {
+            for (MemorySegment image : images) {
+                raylib_h.UnloadImage(image);
+            }
+        }
+    }
+
+    // The model of a cache file, or null if it can't be read
+    private static MemorySegment read(SegmentAllocator allocator, Path cached) throws IOException {
+        try (Arena temp = Arena.ofConfined()) {
+            MemorySegment file = CacheFiles.map(cached, temp);
+            if (file == null) {
+                return null;
+            }
+            long at = CacheFiles.STAMP_SIZE;
+            MemorySegment model = Model.allocate(allocator);
+            MemorySegment.copy(file, at, Model.transform$slice(model), 0, 64);
+            int meshCount = file.get(INT, at + 64);
+            int materialCount = file.get(INT, at + 68);
+            int boneCount = file.get(INT, at + 72);
+            int textureCount = file.get(INT, at + 76);
+            if (meshCount <= 0 || materialCount <= 0 || boneCount < 0 || textureCount < 0) {
+                return null;
+            }
+            at = CacheFiles.align(at + 80, 64);
+
+            // the file is complete (it is replaced atomically), so a bad offset means a bug, not a torn write
+            MemorySegment textures = temp.allocate(textureCount * Texture.sizeof());
+            for (int i = 0; i < textureCount; i++) {
+                long bytes = file.get(LONG, at + 16);
+                MemorySegment image = Image.allocate(temp);
+                Image.width$set(image, file.get(INT, at));
+                Image.height$set(image, file.get(INT, at + 4));
+                Image.mipmaps$set(image, file.get(INT, at + 8));
+                Image.format$set(image, file.get(INT, at + 12));
+                at = CacheFiles.align(at + 24, 64);
+                Image.data$set(image, file.asSlice(at, bytes));
+                at = CacheFiles.align(at + bytes, 64);
+                MemorySegment texture = raylib_h.LoadTextureFromImage(temp, image);
+                MemorySegment.copy(texture, 0, textures, i * Texture.sizeof(), Texture.sizeof());
+            }
+
+            MemorySegment materials = alloc((long) materialCount * Material.sizeof());
+            for (int i = 0; i < materialCount; i++) {
+                MemorySegment material = materials.asSlice(i * Material.sizeof(), Material.sizeof());
+                MemorySegment.copy(raylib_h.LoadMaterialDefault(temp), 0, material, 0, Material.sizeof());
+                MemorySegment.copy(file, at, Material.params$slice(material), 0, 16);
+                at += 16;
+                MemorySegment maps = Material.maps$get(material).reinterpret(MAX_MATERIAL_MAPS * MaterialMap.sizeof());
+                for (int j = 0; j < MAX_MATERIAL_MAPS; j++) {
+                    MemorySegment map = maps.asSlice(j * MaterialMap.sizeof(), MaterialMap.sizeof());
+                    MemorySegment texture = MaterialMap.texture$slice(map);
+                    int index = file.get(INT, at);
+                    if (index >= 0) {
+                        MemorySegment.copy(textures, index * Texture.sizeof(), texture, 0, Texture.sizeof());
+                    } else if (index == DEFAULT_TEXTURE) {
+                        Texture.id$set(texture, rlgl_h.rlGetTextureIdDefault());
+                        Texture.width$set(texture, 1);
+                        Texture.height$set(texture, 1);
+                        Texture.mipmaps$set(texture, 1);
+                        Texture.format$set(texture, raylib_h.PIXELFORMAT_UNCOMPRESSED_R8G8B8A8());
+                    } else {
+                        texture.fill((byte) 0);
+                    }
+                    MemorySegment.copy(file, at + 4, MaterialMap.color$slice(map), 0, 4);
+                    MaterialMap.value$set(map, file.get(FLOAT, at + 8));
+                    at += 12;
+                }
+            }
+
+            MemorySegment meshMaterial = copy(file, at, meshCount * 4L);
+            at = CacheFiles.align(at + meshCount * 4L, 16);
+            MemorySegment bones = MemorySegment.NULL;
+            MemorySegment bindPose = MemorySegment.NULL;
+            if (boneCount > 0) {
+                bones = copy(file, at, boneCount * BoneInfo.sizeof());
+                at = CacheFiles.align(at + boneCount * BoneInfo.sizeof(), 16);
+                bindPose = copy(file, at, boneCount * Transform.sizeof());
+                at = CacheFiles.align(at + boneCount * Transform.sizeof(), 16);
+            }
+
+            MemorySegment meshes = alloc((long) meshCount * Mesh.sizeof());
+            for (int i = 0; i < meshCount; i++) {
+                MemorySegment mesh = meshes.asSlice(i * Mesh.sizeof(), Mesh.sizeof());
+                int vertexCount = file.get(INT, at);
+                int triangleCount = file.get(INT, at + 4);
+                int mask = file.get(INT, at + 8);
+                at += 16;
+                Mesh.vertexCount$set(mesh, vertexCount);
+                Mesh.triangleCount$set(mesh, triangleCount);
+                for (int a = 0; a < ATTRIBUTES.size(); a++) {
+                    if ((mask & (1 << a)) != 0) {
+                        long bytes = (long) vertexCount * ATTRIBUTES.get(a).bytesPerVertex();
+                        ATTRIBUTES.get(a).set().accept(mesh, copy(file, at, bytes));
+                        at = CacheFiles.align(at + bytes, 16);
+                    }
+                }
+                if ((mask & INDICES_BIT) != 0) {
+                    Mesh.indices$set(mesh, copy(file, at, triangleCount * 6L));
+                    at = CacheFiles.align(at + triangleCount * 6L, 16);
+                }
+                raylib_h.UploadMesh(mesh, false);
+            }
+
+            Model.meshCount$set(model, meshCount);
+            Model.materialCount$set(model, materialCount);
+            Model.meshes$set(model, meshes);
+            Model.materials$set(model, materials);
+            Model.meshMaterial$set(model, meshMaterial);
+            Model.boneCount$set(model, boneCount);
+            Model.bones$set(model, bones);
+            Model.bindPose$set(model, bindPose);
+            return model;
+        }
+    }
+
+    // raylib frees model memory with RL_FREE, so it is allocated with MemAlloc (zeroed)
+    private static MemorySegment alloc(long bytes) {
+        if (bytes > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Model array too large: " + bytes + " bytes");
+        }
+        MemorySegment memory = raylib_h.MemAlloc((int) Math.max(1, bytes));
+        if (memory.equals(MemorySegment.NULL)) {
+            throw new OutOfMemoryError("MemAlloc of " + bytes + " bytes failed");
+        }
+        return memory.reinterpret(bytes);
+    }
+
+    private static MemorySegment copy(MemorySegment file, long offset, long bytes) {
+        MemorySegment memory = alloc(bytes);
+        MemorySegment.copy(file, offset, memory, 0, bytes);
+        return memory;
+    }
+
+    private static ByteBuffer buffer(int size) {
+        return ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    // Buffers of a cache file and its size so far
+    private static final class Out {
+        final List<ByteBuffer> buffers = new ArrayList<>();
+        long position;
+
+        void add(ByteBuffer buffer) {
+            buffers.add(buffer);
+            position += buffer.remaining();
+        }
+
+        void add(MemorySegment segment) {
+            add(segment.asByteBuffer());
+        }
+
+        void align(int alignment) {
+            add(CacheFiles.padding(position, alignment));
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package rayclj;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.SegmentAllocator;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.LongAdder;
+
+import rayclj.raylib.Image;
+import rayclj.raylib.Texture;
+import rayclj.raylib.raylib_h;
+
+/**
+ * Caches decoded images on disk, so loading a large PNG again is a memory map instead of a
+ * decode. Pixels are stored in the PixelFormat raylib decoded them to, with their mipmaps if
+ * requested, and become an Image whose data is the mapping.
+ *
+ * Each cache file records the size, modification time and SHA-256 of its source. A source whose
+ * size and time are unchanged is a hit without reading it. Otherwise its content is hashed: an
+ * unchanged hash (e.g. after a checkout touched the file) is still a hit, any other change
+ * decodes the source again and replaces the cache file.
+ *
+ * Thread safe, cache files are replaced atomically.
+ */
+public final class PixelCache {
+    /** Hits, hits that needed a content hash, misses, and the time spent on each */
+    public record Stats(long hits, long rehashed, long misses, long hitNanos, long missNanos) {}
+
+    private static final byte[] MAGIC = "RAYCLJPX".getBytes(StandardCharsets.US_ASCII);
+    private static final int VERSION = 2; // bumped whenever the layout changes
+    private static final int HEADER_SIZE = 128; // pixels start on a cache line
+
+    private static final ValueLayout.OfInt INT = ValueLayout.JAVA_INT_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+    private static final ValueLayout.OfLong LONG = ValueLayout.JAVA_LONG_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+
+    private final Path directory;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder rehashed = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder hitNanos = new LongAdder();
+    private final LongAdder missNanos = new LongAdder();
+
+    public PixelCache(Path directory) throws IOException {
+        this.directory = Files.createDirectories(directory);
+    }
+
+    public Path directory() {
+        return directory;
+    }
+
+    /**
+     * The Image of fileName, mapped from its cache file into arena. It is read only, valid until
+     * arena is closed and must not be unloaded. With mipmaps, the image has its full mipmap chain.
+     */
+    public MemorySegment image(Arena arena, String fileName, boolean mipmaps) throws IOException {
+        long start = System.nanoTime();
+        Path source = CacheFiles.source(fileName);
+        Path cached = CacheFiles.cacheFile(directory, source, mipmaps ? "mipmaps" : "", ".pixels");
+
+        CacheFiles.Loaded loaded = CacheFiles.load(cached, MAGIC, VERSION, source, arena,
+                                                   mipmaps ? Pixels.MIPMAPS : Pixels.IMAGE);
+        if (loaded.freshness() == CacheFiles.Freshness.STALE) {
+            misses.increment();
+            missNanos.add(System.nanoTime() - start);
+        } else {
+            hits.increment();
+            if (loaded.freshness() == CacheFiles.Freshness.REHASHED) {
+                rehashed.increment();
+            }
+            hitNanos.add(System.nanoTime() - start);
+        }
+        return loaded.value();
+    }
+
+    /** Loads a Texture of fileName from the cache with LoadTextureFromImage. Needs the window (GL context). */
+    public MemorySegment loadTexture(SegmentAllocator allocator, String fileName, boolean mipmaps) throws IOException {
+        try (Arena temp = Arena.ofConfined()) {
+            MemorySegment texture = raylib_h.LoadTextureFromImage(allocator, image(temp, fileName, mipmaps));
+            if (Texture.id$get(texture) == 0) {
+                throw new IllegalArgumentException("Failed to upload texture: " + fileName);
+            }
+            return texture;
+        }
+    }
+
+    /** Deletes the cache file of fileName, if any */
+    public void invalidate(String fileName, boolean mipmaps) throws IOException {
+        Files.deleteIfExists(CacheFiles.cacheFile(directory, CacheFiles.source(fileName), mipmaps ? "mipmaps" : "", ".pixels"));
+    }
+
+    public Stats stats() {
+        return new Stats(hits.sum(), rehashed.sum(), misses.sum(), hitNanos.sum(), missNanos.sum());
+    }
+
+    // Layout, little endian: the CacheFiles stamp, int width, int height, int mipmaps, int format,
+    // long pixel bytes, pixels at 128
+    private record Pixels(boolean mipmaps) implements CacheFiles.Format {
+        static final Pixels IMAGE = new Pixels(false);
+        static final Pixels MIPMAPS = new Pixels(true);
+
+        @Override
+        public int headerSize() {
+            return HEADER_SIZE;
+        }
+
+        @Override
+        public MemorySegment decode(Path source) {
+            try (Arena temp = Arena.ofConfined()) {
+                MemorySegment image = raylib_h.LoadImage(Arena.ofAuto(), temp.allocateUtf8String(source.toString()));
+                if (Image.data$get(image).equals(MemorySegment.NULL)) {
+                    throw new IllegalArgumentException("Failed to load image: " + source);
+                }
+                if (mipmaps) {
+                    raylib_h.ImageMipmaps(image);
+                }
+                return image;
+            }
+        }
+
+        @Override
+        public void unload(MemorySegment image) {
+            raylib_h.UnloadImage(image);
+        }
+
+        @Override
+        public MemorySegment writeHeader(ByteBuffer header, MemorySegment image) {
+            int width = Image.width$get(image);
+            int height = Image.height$get(image);
+            int mipmaps = Image.mipmaps$get(image);
+            int format = Image.format$get(image);
+            long bytes = pixelBytes(width, height, mipmaps, format);
+            header.putInt(width).putInt(height).putInt(mipmaps).putInt(format).putLong(bytes);
+            return Image.data$get(image).reinterpret(bytes);
+        }
+
+        @Override
+        public boolean valid(MemorySegment file) {
+            if (file.byteSize() < HEADER_SIZE) {
+                return false;
+            }
+            int mipmaps = file.get(INT, 72);
+            return mipmaps > 0 && mipmaps <= 32 &&
+                file.get(LONG, 80) == file.byteSize() - HEADER_SIZE &&
+                file.get(LONG, 80) == pixelBytes(file.get(INT, 64), file.get(INT, 68), mipmaps, file.get(INT, 76));
+        }
+
+        @Override
+        public MemorySegment read(Arena arena, MemorySegment file) {
+            MemorySegment image = Image.allocate(arena);
+            Image.data$set(image, file.asSlice(HEADER_SIZE));
+            Image.width$set(image, file.get(INT, 64));
+            Image.height$set(image, file.get(INT, 68));
+            Image.mipmaps$set(image, file.get(INT, 72));
+            Image.format$set(image, file.get(INT, 76));
+            return image;
+        }
+    }
+
+    // GetPixelDataSize of every mipmap level, like raylib sizes Image data
+    private static long pixelBytes(int width, int height, int mipmaps, int format) {
+        long total = 0;
+        for (int level = 0; level < mipmaps; level++) {
+            total += raylib_h.GetPixelDataSize(Math.max(1, width >> level), Math.max(1, height >> level), format);
+        }
+        return total;
+    }
+}
@@ -0,0 +1,2233 @@
+package rayclj;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+/**
+ * A port of raylib's raymath. raymath is header only and not part of the bindings, and doing
+ * vector math on clojure vectors boxes every component.
+ *
+ * So vector, quaternion and matrix operations run on the JVM on primitive floats. Functions
+ * returning a scalar take the components or struct segments. Functions returning a vector or
+ * a matrix write it into out, which is either a struct segment (e.g. a Vector2 or a Matrix) or
+ * a float array with offsets in floats. Results are computed before out is written, so out
+ * can be one of the inputs. Matrices use raylib's field order: m0, m4, m8, m12, m1, ...
+ *
+ * None of the functions allocate or call into native code. Float arrays are wrapped as heap
+ * segments, which the JIT removes together with the wrapper call.
+ */
+public final class RayMath {
+    public static final float EPSILON = 0.000001f;
+
+    private static final ValueLayout.OfFloat FLOAT = ValueLayout.JAVA_FLOAT;
+
+    // Suppresses default constructor, ensuring non-instantiability.
+    private RayMath() {}
+
+    // Scalars
+
+    public static float clamp(float value, float min, float max) {
+        float result = value < min ? min : value;
+        return result > max ? max : result;
+    }
+
+    public static float lerp(float start, float end, float amount) {
+        return start + amount * (end - start);
+    }
+
+    /** Maps value from start..end to 0..1 */
+    public static float normalize(float value, float start, float end) {
+        return (value - start) / (end - start);
+    }
+
+    /** Maps value from inputStart..inputEnd to outputStart..outputEnd */
+    public static float remap(float value, float inputStart, float inputEnd, float outputStart, float outputEnd) {
+        return (value - inputStart) / (inputEnd - inputStart) * (outputEnd - outputStart) + outputStart;
+    }
+
+    /** Wraps value into min..max */
+    public static float wrap(float value, float min, float max) {
+        return value - (max - min) * (float) Math.floor((value - min) / (max - min));
+    }
+
+    /** Whether x and y are equal within a relative epsilon */
+    public static boolean floatEquals(float x, float y) {
+        return Math.abs(x - y) <= EPSILON * Math.max(1.0f, Math.max(Math.abs(x), Math.abs(y)));
+    }
+
+    // Scalar results on components
+
+    public static float vector2Length(float x, float y) {
+        return (float) Math.sqrt(x * x + y * y);
+    }
+
+    public static float vector2LengthSqr(float x, float y) {
+        return x * x + y * y;
+    }
+
+    public static float vector2DotProduct(float aX, float aY, float bX, float bY) {
+        return aX * bX + aY * bY;
+    }
+
+    public static float vector2Distance(float aX, float aY, float bX, float bY) {
+        return vector2Length(aX - bX, aY - bY);
+    }
+
+    public static float vector2DistanceSqr(float aX, float aY, float bX, float bY) {
+        return vector2LengthSqr(aX - bX, aY - bY);
+    }
+
+    public static float vector2Angle(float aX, float aY, float bX, float bY) {
+        float dot = aX * bX + aY * bY;
+        float det = aX * bY - aY * bX;
+        return (float) Math.atan2(det, dot);
+    }
+
+    public static float vector2LineAngle(float startX, float startY, float endX, float endY) {
+        return (float) -Math.atan2(endY - startY, endX - startX);
+    }
+
+    public static float vector3Length(float x, float y, float z) {
+        return (float) Math.sqrt(x * x + y * y + z * z);
+    }
+
+    public static float vector3LengthSqr(float x, float y, float z) {
+        return x * x + y * y + z * z;
+    }
+
+    public static float vector3DotProduct(float aX, float aY, float aZ, float bX, float bY, float bZ) {
+        return aX * bX + aY * bY + aZ * bZ;
+    }
+
+    public static float vector3Distance(float aX, float aY, float aZ, float bX, float bY, float bZ) {
+        return vector3Length(aX - bX, aY - bY, aZ - bZ);
+    }
+
+    public static float vector3DistanceSqr(float aX, float aY, float aZ, float bX, float bY, float bZ) {
+        return vector3LengthSqr(aX - bX, aY - bY, aZ - bZ);
+    }
+
+    public static float vector3Angle(float aX, float aY, float aZ, float bX, float bY, float bZ) {
+        float crossX = aY * bZ - aZ * bY;
+        float crossY = aZ * bX - aX * bZ;
+        float crossZ = aX * bY - aY * bX;
+        float length = vector3Length(crossX, crossY, crossZ);
+        return (float) Math.atan2(length, vector3DotProduct(aX, aY, aZ, bX, bY, bZ));
+    }
+
+    public static float vector4Length(float x, float y, float z, float w) {
+        return (float) Math.sqrt(x * x + y * y + z * z + w * w);
+    }
+
+    public static float vector4DotProduct(float aX, float aY, float aZ, float aW, float bX, float bY, float bZ, float bW) {
+        return aX * bX + aY * bY + aZ * bZ + aW * bW;
+    }
+
+    public static boolean vector2Equals(float aX, float aY, float bX, float bY) {
+        return floatEquals(aX, bX) && floatEquals(aY, bY);
+    }
+
+    public static boolean vector3Equals(float aX, float aY, float aZ, float bX, float bY, float bZ) {
+        return floatEquals(aX, bX) && floatEquals(aY, bY) && floatEquals(aZ, bZ);
+    }
+
+    public static float quaternionLength(float x, float y, float z, float w) {
+        return vector4Length(x, y, z, w);
+    }
+
+    /** q and -q are the same rotation, so either counts as equal */
+    public static boolean quaternionEquals(float aX, float aY, float aZ, float aW, float bX, float bY, float bZ, float bW) {
+        return (floatEquals(aX, bX) && floatEquals(aY, bY) && floatEquals(aZ, bZ) && floatEquals(aW, bW)) ||
+               (floatEquals(aX, -bX) && floatEquals(aY, -bY) && floatEquals(aZ, -bZ) && floatEquals(aW, -bW));
+    }
+
+    // Scalar results on segments
+
+    /** Length of v */
+    public static float vector2Length(MemorySegment v) {
+        return vector2Length(get(v, 0, 0), get(v, 0, 1));
+    }
+
+    /** Squared length of v */
+    public static float vector2LengthSqr(MemorySegment v) {
+        return vector2LengthSqr(get(v, 0, 0), get(v, 0, 1));
+    }
+
+    /** Dot product of a and b */
+    public static float vector2DotProduct(MemorySegment a, MemorySegment b) {
+        return vector2DotProduct(get(a, 0, 0), get(a, 0, 1), get(b, 0, 0), get(b, 0, 1));
+    }
+
+    /** Distance between a and b */
+    public static float vector2Distance(MemorySegment a, MemorySegment b) {
+        return vector2Distance(get(a, 0, 0), get(a, 0, 1), get(b, 0, 0), get(b, 0, 1));
+    }
+
+    /** Squared distance between a and b */
+    public static float vector2DistanceSqr(MemorySegment a, MemorySegment b) {
+        return vector2DistanceSqr(get(a, 0, 0), get(a, 0, 1), get(b, 0, 0), get(b, 0, 1));
+    }
+
+    /** Signed angle from a to b in radians */
+    public static float vector2Angle(MemorySegment a, MemorySegment b) {
+        return vector2Angle(get(a, 0, 0), get(a, 0, 1), get(b, 0, 0), get(b, 0, 1));
+    }
+
+    /** Angle of the line from start to end in radians */
+    public static float vector2LineAngle(MemorySegment start, MemorySegment end) {
+        return vector2LineAngle(get(start, 0, 0), get(start, 0, 1), get(end, 0, 0), get(end, 0, 1));
+    }
+
+    /** Length of v */
+    public static float vector3Length(MemorySegment v) {
+        return vector3Length(get(v, 0, 0), get(v, 0, 1), get(v, 0, 2));
+    }
+
+    /** Squared length of v */
+    public static float vector3LengthSqr(MemorySegment v) {
+        return vector3LengthSqr(get(v, 0, 0), get(v, 0, 1), get(v, 0, 2));
+    }
+
+    /** Dot product of a and b */
+    public static float vector3DotProduct(MemorySegment a, MemorySegment b) {
+        return vector3DotProduct(get(a, 0, 0), get(a, 0, 1), get(a, 0, 2), get(b, 0, 0), get(b, 0, 1), get(b, 0, 2));
+    }
+
+    /** Distance between a and b */
+    public static float vector3Distance(MemorySegment a, MemorySegment b) {
+        return vector3Distance(get(a, 0, 0), get(a, 0, 1), get(a, 0, 2), get(b, 0, 0), get(b, 0, 1), get(b, 0, 2));
+    }
+
+    /** Squared distance between a and b */
+    public static float vector3DistanceSqr(MemorySegment a, MemorySegment b) {
+        return vector3DistanceSqr(get(a, 0, 0), get(a, 0, 1), get(a, 0, 2), get(b, 0, 0), get(b, 0, 1), get(b, 0, 2));
+    }
+
+    /** Angle between a and b in radians */
+    public static float vector3Angle(MemorySegment a, MemorySegment b) {
+        return vector3Angle(get(a, 0, 0), get(a, 0, 1), get(a, 0, 2), get(b, 0, 0), get(b, 0, 1), get(b, 0, 2));
+    }
+
+    /** Length of v */
+    public static float vector4Length(MemorySegment v) {
+        return vector4Length(get(v, 0, 0), get(v, 0, 1), get(v, 0, 2), get(v, 0, 3));
+    }
+
+    /** Dot product of a and b */
+    public static float vector4DotProduct(MemorySegment a, MemorySegment b) {
+        return vector4DotProduct(get(a, 0, 0), get(a, 0, 1), get(a, 0, 2), get(a, 0, 3), get(b, 0, 0), get(b, 0, 1), get(b, 0, 2), get(b, 0, 3));
+    }
+
+    /** Whether a and b are equal within a relative epsilon */
+    public static boolean vector2Equals(MemorySegment a, MemorySegment b) {
+        return vector2Equals(get(a, 0, 0), get(a, 0, 1), get(b, 0, 0), get(b, 0, 1));
+    }
+
+    /** Whether a and b are equal within a relative epsilon */
+    public static boolean vector3Equals(MemorySegment a, MemorySegment b) {
+        return vector3Equals(get(a, 0, 0), get(a, 0, 1), get(a, 0, 2), get(b, 0, 0), get(b, 0, 1), get(b, 0, 2));
+    }
+
+    /** Length of q */
+    public static float quaternionLength(MemorySegment q) {
+        return vector4Length(q);
+    }
+
+    /** Whether a and b are the same rotation within a relative epsilon */
+    public static boolean quaternionEquals(MemorySegment a, MemorySegment b) {
+        return quaternionEquals(get(a, 0, 0), get(a, 0, 1), get(a, 0, 2), get(a, 0, 3), get(b, 0, 0), get(b, 0, 1), get(b, 0, 2), get(b, 0, 3));
+    }
+
+    public static float matrixDeterminant(MemorySegment mat) {
+        float a00 = m(mat, 0, 0), a01 = m(mat, 0, 1), a02 = m(mat, 0, 2), a03 = m(mat, 0, 3);
+        float a10 = m(mat, 0, 4), a11 = m(mat, 0, 5), a12 = m(mat, 0, 6), a13 = m(mat, 0, 7);
+        float a20 = m(mat, 0, 8), a21 = m(mat, 0, 9), a22 = m(mat, 0, 10), a23 = m(mat, 0, 11);
+        float a30 = m(mat, 0, 12), a31 = m(mat, 0, 13), a32 = m(mat, 0, 14), a33 = m(mat, 0, 15);
+
+        return a30 * a21 * a12 * a03 - a20 * a31 * a12 * a03 - a30 * a11 * a22 * a03 + a10 * a31 * a22 * a03 +
+               a20 * a11 * a32 * a03 - a10 * a21 * a32 * a03 - a30 * a21 * a02 * a13 + a20 * a31 * a02 * a13 +
+               a30 * a01 * a22 * a13 - a00 * a31 * a22 * a13 - a20 * a01 * a32 * a13 + a00 * a21 * a32 * a13 +
+               a30 * a11 * a02 * a23 - a10 * a31 * a02 * a23 - a30 * a01 * a12 * a23 + a00 * a31 * a12 * a23 +
+               a10 * a01 * a32 * a23 - a00 * a11 * a32 * a23 - a20 * a11 * a02 * a33 + a10 * a21 * a02 * a33 +
+               a20 * a01 * a12 * a33 - a00 * a21 * a12 * a33 - a10 * a01 * a22 * a33 + a00 * a11 * a22 * a33;
+    }
+
+    public static float matrixTrace(MemorySegment mat) {
+        return m(mat, 0, 0) + m(mat, 0, 5) + m(mat, 0, 10) + m(mat, 0, 15);
+    }
+
+    // Vector2
+
+    /** Sets out to a + b */
+    public static MemorySegment vector2Add(MemorySegment out, MemorySegment a, MemorySegment b) {
+        vector2Add(out, 0, a, 0, b, 0);
+        return out;
+    }
+
+    public static float[] vector2Add(float[] out, int outOffset, float[] a, int aOffset, float[] b, int bOffset) {
+        vector2Add(MemorySegment.ofArray(out), outOffset * 4L, MemorySegment.ofArray(a), aOffset * 4L, MemorySegment.ofArray(b), bOffset * 4L);
+        return out;
+    }
+
+    /** Sets out to a - b */
+    public static MemorySegment vector2Subtract(MemorySegment out, MemorySegment a, MemorySegment b) {
+        vector2Subtract(out, 0, a, 0, b, 0);
+        return out;
+    }
+
+    public static float[] vector2Subtract(float[] out, int outOffset, float[] a, int aOffset, float[] b, int bOffset) {
+        vector2Subtract(MemorySegment.ofArray(out), outOffset * 4L, MemorySegment.ofArray(a), aOffset * 4L, MemorySegment.ofArray(b), bOffset * 4L);
+        return out;
+    }
+
+    /** Sets out to a * b, component wise */
+    public static MemorySegment vector2Multiply(MemorySegment out, MemorySegment a, MemorySegment b) {
+        vector2Multiply(out, 0, a, 0, b, 0);
+        return out;
+    }
+
+    public static float[] vector2Multiply(float[] out, int outOffset, float[] a, int aOffset, float[] b, int bOffset) {
+        vector2Multiply(MemorySegment.ofArray(out), outOffset * 4L, MemorySegment.ofArray(a), aOffset * 4L, MemorySegment.ofArray(b), bOffset * 4L);
+        return out;
+    }
+
+    /** Sets out to v * scale */
+    public static MemorySegment vector2Scale(MemorySegment out, MemorySegment v, float scale) {
+        vector2Scale(out, 0, v, 0, scale);
+        return out;
+    }
+
+    public static float[] vector2Scale(float[] out, int outOffset, float[] v, int vOffset, float scale) {
+        vector2Scale(MemorySegment.ofArray(out), outOffset * 4L, MemorySegment.ofArray(v), vOffset * 4L, scale);
+        return out;
+    }
+
+    /** Sets out to -v */
+    public static MemorySegment vector2Negate(MemorySegment out, MemorySegment v) {
+        vector2Negate(out, 0, v, 0);
+        return out;
+    }
+
+    public static float[] vector2Negate(float[] out, int outOffset, float[] v, int vOffset) {
+        vector2Negate(MemorySegment.ofArray(out), outOffset * 4L, MemorySegment.ofArray(v), vOffset * 4L);
+        return out;
+    }
+
+    /** Sets out to v scaled to length 1, zero stays zero */
+    public static MemorySegment vector2Normalize(MemorySegment out, MemorySegment v) {
+        vector2Normalize(out, 0, v, 0);
+        return out;
+    }
+
+    public static float[] vector2Normalize(float[] out, int outOffset, float[] v, int vOffset) {
+        vector2Normalize(MemorySegment.ofArray(out), outOffset * 4L, MemorySegment.ofArray(v), vOffset * 4L);
+        return out;
+    }
+
+    /** Sets out to linear interpolation from a to b */
+    public static MemorySegment vector2Lerp(MemorySegment out, MemorySegment a, MemorySegment b, float amount) {
+        vector2Lerp(out, 0, a, 0, b, 0, amount);
+        return out;
+    }
+
+    public static float[] vector2Lerp(float[] out, int outOffset, float[] a, int aOffset, float[] b, int bOffset, float amount) {
+        vector2Lerp(MemorySegment.ofArray(out), outOffset * 4L, MemorySegment.ofArray(a), aOffset * 4L, MemorySegment.ofArray(b), bOffset * 4L, amount);
+        return out;
+    }
+
+    /** Sets out to v rotated by angle in radians */
+    public static MemorySegment vector2Rotate(MemorySegment out, MemorySegment v, float angle) {
+        vector2Rotate(out, 0, v, 0, angle);
+        return out;
+    }
+
+    public static float[] vector2Rotate(float[] out, int outOffset, float[] v, int vOffset, float angle) {
+        vector2Rotate(MemorySegment.ofArray(out), outOffset * 4L, MemorySegment.ofArray(v), vOffset * 4L, angle);
+        return out;
+    }
+
+    /** Sets out to v reflected to normal */
+    public static MemorySegment vector2Reflect(MemorySegment out, MemorySegment v, MemorySegment normal) {
+        vector2Reflect(out, 0, v, 0, normal, 0);
+        return out;
+    }
+
+    public static float[] vector2Reflect(float[] out, int outOffset, float[] v, int vOffset, float[] normal, int normalOffset) {
+        vector2Reflect(MemorySegment.ofArray(out), outOffset * 4L, MemorySegment.ofArray(v), vOffset * 4L, MemorySegment.ofArray(normal), normalOffset * 4L);
+        return out;
+    }
+
+    /** Sets out to v moved towards target by at most maxDistance */
+    public static MemorySegment vector2MoveTowards(MemorySegment out, MemorySegment v, MemorySegment target, float maxDistance) {
+        vector2MoveTowards(out, 0, v, 0, target, 0, maxDistance);
+        return out;
+    }
+
+    public static float[] vector2MoveTowards(float[] out, int outOffset, float[] v, int vOffset, float[] target, int targetOffset, float maxDistance) {
+        vector2MoveTowards(MemorySegment.ofArray(out), outOffset * 4L, MemorySegment.ofArray(v), vOffset * 4L, MemorySegment.ofArray(target), targetOffset * 4L, maxDistance);
+        return out;
+    }
+
+    /** Sets out to v transformed by mat */
+    public static MemorySegment vector2Transform(MemorySegment out, MemorySegment v, MemorySegment mat) {
+        vector2Transform(out, 0, v, 0, mat, 0);
+        return out;
+    }
+
+    public static float[] vector2Transform(float[] out, int outOffset, float[] v, int vOffset, float[] mat, int matOffset) {
+        vector2Transform(MemorySegment.ofArray(out), outOffset * 4L, MemorySegment.ofArray(v), vOffset * 4L, MemorySegment.ofArray(mat), matOffset * 4L);
+        return out;
+    }
+
+    /** Sets out to (0, 0) */
+    public static MemorySegment vector2Zero(MemorySegment out) {
+        vector2Zero(out, 0);
+        return out;
+    }
+
+    public static float[] vector2Zero(float[] out, int outOffset) {
+        vector2Zero(MemorySegment.ofArray(out), outOffset * 4L);
+        return out;
+    }
+
+    /** Sets out to (1, 1) */
+    public static MemorySegment vector2One(MemorySegment out) {
+        vector2One(out, 0);
+        return out;
+    }
+
+    public static float[] vector2One(float[] out, int outOffset) {
+        vector2One(MemorySegment.ofArray(out), outOffset * 4L);
+        return out;
+    }
+
+    /** Sets out to v with add added to each component */
+    public static MemorySegment vector2AddValue(MemorySegment out, MemorySegment v, float add) {
+        vector2AddValue(out, 0, v, 0, add);
+        return out;
+    }
+
+    public static float[] vector2AddValue(float[] out, int outOffset, float[] v, int vOffset, float add) {
+        vector2AddValue(MemorySegment.ofArray(out), outOffset * 4L, MemorySegment.ofArray(v), vOffset * 4L, add);
+        return out;
+    }
+
+    /** Sets out to v with sub subtracted from each component */
+    public static MemorySegment vector2SubtractValue(MemorySegment out, MemorySegment v, float sub) {
+        vector2SubtractValue(out, 0, v, 0, sub);
+        return out;
+    }
+
+    public static float[] vector2SubtractValue(float[] out, int outOffset, float[] v, int vOffset, float sub) {
+        vector2SubtractValue(MemorySegment.ofArray(out), outOffset * 4L, MemorySegment.ofArray(v), vOffset * 4L, sub);
+        return out;
+    }
+
+    /** Sets out to a / b, component wise */
+    public static MemorySegment vector2Divide(MemorySegment out, MemorySegment a, MemorySegment b) {
+        vector2Divide(out, 0, a, 0, b, 0);
+        return out;
+    }
+
+    public static float[] vector2Divide(float[] out, int outOffset, float[] a, int aOffset, float[] b, int bOffset) {
+        vector2Divide(MemorySegment.ofArray(out), outOffset * 4L, MemorySegment.ofArray(a), aOffset * 4L, MemorySegment.ofArray(b), bOffset * 4L);
+        return out;
+    }
+
+    /** Sets out to 1 / v, component wise */
+    public static MemorySegment vector2Invert(MemorySegment out, MemorySegment v) {
+        vector2Invert(out, 0, v, 0);
+        return out;
+    }
+
+    public static float[] vector2Invert(float[] out, int outOffset, float[] v, int vOffset) {
+        vector2Invert(MemorySegment.ofArray(out), outOffset * 4L, MemorySegment.ofArray(v), vOffset * 4L);
+        return out;
+    }
+
+    /** Sets out to v with each component clamped between min and max */
+    public static MemorySegment vector2Clamp(MemorySegment out, MemorySegment v, MemorySegment min, MemorySegment max) {
+        vector2Clamp(out, 0, v, 0, min, 0, max, 0);
+        return out;
+    }
+
+    public static float[] vector2Clamp(float[] out, int outOffset, float[] v, int vOffset, float[] min, int minOffset, float[] max, int maxOffset) {
+        vector2Clamp(MemorySegment.ofArray(out), outOffset * 4L, MemorySegment.ofArray(v), vOffset * 4L, MemorySegment.ofArray(min), minOffset * 4L, MemorySegment.ofArray(max), maxOffset * 4L);
+        return out;
+    }
+
+    /** Sets out to v with its length clamped between min and max */
+    public static MemorySegment vector2ClampValue(MemorySegment out, MemorySegment v, float min, float max) {
+        vector2ClampValue(out, 0, v, 0, min, max);
+        return out;
+    }
+
+    public static float[] vector2ClampValue(float[] out, int outOffset, float[] v, int vOffset, float min, float max) {
+        vector2ClampValue(MemorySegment.ofArray(out), outOffset * 4L, MemorySegment.ofArray(v), vOffset * 4L, min, max);
+        return out;
+    }
+
+    // Vector3
+
+    /** Sets out to a + b */
+    public static MemorySegment vector3Add(MemorySegment out, MemorySegment a, MemorySegment b) {
+        vector3Add(out, 0, a, 0, b, 0);
+        return out;
+    }
+
+    public static float[] vector3Add(float[] out, int outOffset, float[] a, int aOffset, float[] b, int bOffset) {
+        vector3Add(MemorySegment.ofArray(out), outOffset * 4L, MemorySegment.ofArray(a), aOffset * 4L, MemorySegment.ofArray(b), bOffset * 4L);
+        return out;
+    }
+
+    /** Sets out to a - b */
+    public static MemorySegment vector3Subtract(MemorySegment out, MemorySegment a, MemorySegment b) {
+        vector3Subtract(out, 0, a, 0, b, 0);
+        return out;
+    }
+
+    public static float[] vector3Subtract(float[] out, int outOffset, float[] a, int aOffset, float[] b, int bOffset) {
+        vector3Subtract(MemorySegment.ofArray(out), outOffset * 4L, MemorySegment.ofArray(a), aOffset * 4L, MemorySegment.ofArray(b), bOffset * 4L);
+        return out;
+    }
+
+    /** Sets out to a * b, component wise */
+    public static MemorySegment vector3Multiply(MemorySegment out, MemorySegment a, MemorySegment b) {
+        vector3Multiply(out, 0, a, 0, b, 0);
+        return out;
+    }
+
+    public static float[] vector3Multiply(float[] out, int outOffset, float[] a, int aOffset, float[] b, int bOffset) {
+        vector3Multiply(MemorySegment.ofArray(out), outOffset * 4L, MemorySegment.ofArray(a), aOffset * 4L, MemorySegment.ofArray(b), bOffset * 4L);
+        return out;
+    }
+
+    /** Sets out to v * scale */
+    public static MemorySegment vector3Scale(MemorySegment out, MemorySegment v, float scale) {
+        vector3Scale(out, 0, v, 0, scale);
+        return out;
+    }
+
+    public static float[] vector3Scale(float[] out, int outOffset, float[] v, int vOffset, float scale) {
+        vector3Scale(MemorySegment.ofArray(out), outOffset * 4L, MemorySegment.ofArray(v), vOffset * 4L, scale);
+        return out;
+    }
+
+    /** Sets out to -v */
+    public static MemorySegment vector3Negate(MemorySegment out, MemorySegment v) {
+        vector3Negate(out, 0, v, 0);
+        return out;
+    }
+
+    public static float[] vector3Negate(float[] out, int outOffset, float[] v, int vOffset) {
+        vector3Negate(MemorySegment.ofArray(out), outOffset * 4L, MemorySegment.ofArray(v), vOffset * 4L);
+        return out;
+    }
+
+    /** Sets out to a x b */
+    public static MemorySegment vector3CrossProduct(MemorySegment out, MemorySegment a, MemorySegment b) {
+        vector3CrossProduct(out, 0, a, 0, b, 0);
+        return out;
+    }
+
+    public static float[] vector3CrossProduct(float[] out, int outOffset, float[] a, int aOffset, float[] b, int bOffset) {
+        vector3CrossProduct(MemorySegment.ofArray(out), outOffset * 4L, MemorySegment.ofArray(a), aOffset * 4L, MemorySegment.ofArray(b), bOffset * 4L);
+        return out;
+    }
+
+    /** Sets out to v scaled to length 1, zero stays zero */
+    public static MemorySegment vector3Normalize(MemorySegment out, MemorySegment v) {
+        vector3Normalize(out, 0, v, 0);
+        return out;
+    }
+
+    public static float[] vector3Normalize(float[] out, int outOffset, float[] v, int vOffset) {
+        vector3Normalize(MemorySegment.ofArray(out), outOffset * 4L, MemorySegment.ofArray(v), vOffset * 4L);
+        return out;
+    }
+
+    /** Sets out to linear interpolation from a to b */
+    public static MemorySegment vector3Lerp(MemorySegment out, MemorySegment a, MemorySegment b, float amount) {
+        vector3Lerp(out, 0, a, 0, b, 0, amount);
+        return out;
+    }
+
+    public static float[] vector3Lerp(float[] out, int outOffset, float[] a, int aOffset, float[] b, int bOffset, float amount) {
+        vector3Lerp(MemorySegment.ofArray(out), outOffset * 4L, MemorySegment.ofArray(a), aOffset * 4L, MemorySegment.ofArray(b), bOffset * 4L, amount);
+        return out;
+    }
+
+    /** Sets out to v reflected to normal */
+    public static MemorySegment vector3Reflect(MemorySegment out, MemorySegment v, MemorySegment normal) {
+        vector3Reflect(out, 0, v, 0, normal, 0);
+        return out;
+    }
+
+    public static float[] vector3Reflect(float[] out, int outOffset, float[] v, int vOffset, float[] normal, int normalOffset) {
+        vector3Reflect(MemorySegment.ofArray(out), outOffset * 4L, MemorySegment.ofArray(v), vOffset * 4L, MemorySegment.ofArray(normal), normalOffset * 4L);
+        return out;
+    }
+
+    /** Sets out to v transformed by mat */
+    public static MemorySegment vector3Transform(MemorySegment out, MemorySegment v, MemorySegment mat) {
+        vector3Transform(out, 0, v, 0, mat, 0);
+        return out;
+    }
+
+    public static float[] vector3Transform(float[] out, int outOffset, float[] v, int vOffset, float[] mat, int matOffset) {
+        vector3Transform(MemorySegment.ofArray(out), outOffset * 4L, MemorySegment.ofArray(v), vOffset * 4L, MemorySegment.ofArray(mat), matOffset * 4L);
+        return out;
+    }
+
+    /** Sets out to v rotated by quaternion q */
+    public static MemorySegment vector3RotateByQuaternion(MemorySegment out, MemorySegment v, MemorySegment q) {
+        vector3RotateByQuaternion(out, 0, v, 0, q, 0);
+        return out;
+    }
+
+    public static float[] vector3RotateByQuaternion(float[] out, int outOffset, float[] v, int vOffset, float[] q, int qOffset) {
+        vector3RotateByQuaternion(MemorySegment.ofArray(out), outOffset * 4L, MemorySegment.ofArray(v), vOffset * 4L, MemorySegment.ofArray(q), qOffset * 4L);
+        return out;
+    }
+
+    /** Sets out to (0, 0, 0) */
+    public static MemorySegment vector3Zero(MemorySegment out) {
+        vector3Zero(out, 0);
+        return out;
+    }
+
+    public static float[] vector3Zero(float[] out, int outOffset) {
+        vector3Zero(MemorySegment.ofArray(out), outOffset * 4L);
+        return out;
+    }
+
+    /** Sets out to (1, 1, 1) */
+    public static MemorySegment vector3One(MemorySegment out) {
+        vector3One(out, 0);
+        return out;
+    }
+
+    public static float[] vector3One(float[] out, int outOffset) {
+        vector3One(MemorySegment.ofArray(out), outOffset * 4L);
+        return out;
+    }
+
+    /** Sets out to v with add added to each component */
+    public static MemorySegment vector3AddValue(MemorySegment out, MemorySegment v, float add) {
+        vector3AddValue(out, 0, v, 0, add);
+        return out;
+    }
+
+    public static float[] vector3AddValue(float[] out, int outOffset, float[] v, int vOffset, float add) {
+        vector3AddValue(MemorySegment.ofArray(out), outOffset * 4L, MemorySegment.ofArray(v), vOffset * 4L, add);
+        return out;
+    }
+
+    /** Sets out to v with sub subtracted from each component */
+    public static MemorySegment vector3SubtractValue(MemorySegment out, MemorySegment v, float sub) {
+        vector3SubtractValue(out, 0, v, 0, sub);
+        return out;
+    }
+
+    public static float[] vector3SubtractValue(float[] out, int outOffset, float[] v, int vOffset, float sub) {
+        vector3SubtractValue(MemorySegment.ofArray(out), outOffset * 4L, MemorySegment.ofArray(v), vOffset * 4L, sub);
+        return out;
+    }
+
+    /** Sets out to a / b, component wise */
+    public static MemorySegment vector3Divide(MemorySegment out, MemorySegment a, MemorySegment b) {
+        vector3Divide(out, 0, a, 0, b, 0);
+        return out;
+    }
+
+    public static float[] vector3Divide(float[] out, int outOffset, float[] a, int aOffset, float[] b, int bOffset) {
+        vector3Divide(MemorySegment.ofArray(out), outOffset * 4L, MemorySegment.ofArray(a), aOffset * 4L, MemorySegment.ofArray(b), bOffset * 4L);
+        return out;
+    }
+
+    /** Sets out to 1 / v, component wise */
+    public static MemorySegment vector3Invert(MemorySegment out, MemorySegment v) {
+        vector3Invert(out, 0, v, 0);
+        return out;
+    }
+
+    public static float[] vector3Invert(float[] out, int outOffset, float[] v, int vOffset) {
+        vector3Invert(MemorySegment.ofArray(out), outOffset * 4L, MemorySegment.ofArray(v), vOffset * 4L);
+        return out;
+    }
+
+    /** Sets out to v with each component clamped between min and max */
+    public static MemorySegment vector3Clamp(MemorySegment out, MemorySegment v, MemorySegment min, MemorySegment max) {
+        vector3Clamp(out, 0, v, 0, min, 0, max, 0);
+        return out;
+    }
+
+    public static float[] vector3Clamp(float[] out, int outOffset, float[] v, int vOffset, float[] min, int minOffset, float[] max, int maxOffset) {
+        vector3Clamp(MemorySegment.ofArray(out), outOffset * 4L, MemorySegment.ofArray(v), vOffset * 4L, MemorySegment.ofArray(min), minOffset * 4L, MemorySegment.ofArray(max), maxOffset * 4L);
+        return out;
+    }
+
+    /** Sets out to v with its length clamped between min and max */
+    public static MemorySegment vector3ClampValue(MemorySegment out, MemorySegment v, float min, float max) {
+        vector3ClampValue(out, 0, v, 0, min, max);
+        return out;
+    }
+
+    public static float[] vector3ClampValue(float[] out, int outOffset, float[] v, int vOffset, float min, float max) {
+        vector3ClampValue(MemorySegment.ofArray(out), outOffset * 4L, MemorySegment.ofArray(v), vOffset * 4L, min, max);
+        return out;
+    }
+
+    /** Sets out to a vector perpendicular to v */
+    public static MemorySegment vector3Perpendicular(MemorySegment out, MemorySegment v) {
+        vector3Perpendicular(out, 0, v, 0);
+        return out;
+    }
+
+    public static float[] vector3Perpendicular(float[] out, int outOffset, float[] v, int vOffset) {
+        vector3Perpendicular(MemorySegment.ofArray(out), outOffset * 4L, MemorySegment.ofArray(v), vOffset * 4L);
+        return out;
+    }
+
+    /** Sets out to v rotated by angle in radians around axis */
+    public static MemorySegment vector3RotateByAxisAngle(MemorySegment out, MemorySegment v, MemorySegment axis, float angle) {
+        vector3RotateByAxisAngle(out, 0, v, 0, axis, 0, angle);
+        return out;
+    }
+
+    public static float[] vector3RotateByAxisAngle(float[] out, int outOffset, float[] v, int vOffset, float[] axis, int axisOffset, float angle) {
+        vector3RotateByAxisAngle(MemorySegment.ofArray(out), outOffset * 4L, MemorySegment.ofArray(v), vOffset * 4L, MemorySegment.ofArray(axis), axisOffset * 4L, angle);
+        return out;
+    }
+
+    /** Sets out to the minimum of a and b, component wise */
+    public static MemorySegment vector3Min(MemorySegment out, MemorySegment a, MemorySegment b) {
+        vector3Min(out, 0, a, 0, b, 0);
+        return out;
+    }
+
+    public static float[] vector3Min(float[] out, int outOffset, float[] a, int aOffset, float[] b, int bOffset) {
+        vector3Min(MemorySegment.ofArray(out), outOffset * 4L, MemorySegment.ofArray(a), aOffset * 4L, MemorySegment.ofArray(b), bOffset * 4L);
+        return out;
+    }
+
+    /** Sets out to the maximum of a and b, component wise */
+    public static MemorySegment vector3Max(MemorySegment out, MemorySegment a, MemorySegment b) {
+        vector3Max(out, 0, a, 0, b, 0);
+        return out;
+    }
+
+    public static float[] vector3Max(float[] out, int outOffset, float[] a, int aOffset, float[] b, int bOffset) {
+        vector3Max(MemorySegment.ofArray(out), outOffset * 4L, MemorySegment.ofArray(a), aOffset * 4L, MemorySegment.ofArray(b), bOffset * 4L);
+        return out;
+    }
+
+    /** Sets out to the barycentric coordinates of p in the triangle a, b, c */
+    public static MemorySegment vector3Barycenter(MemorySegment out, MemorySegment p, MemorySegment a, MemorySegment b, MemorySegment c) {
+        vector3Barycenter(out, 0, p, 0, a, 0, b, 0, c, 0);
+        return out;
+    }
+
+    public static float[] vector3Barycenter(float[] out, int outOffset, float[] p, int pOffset, float[] a, int aOffset, float[] b, int bOffset, float[] c, int cOffset) {
+        vector3Barycenter(MemorySegment.ofArray(out), outOffset * 4L, MemorySegment.ofArray(p), pOffset * 4L, MemorySegment.ofArray(a), aOffset * 4L, MemorySegment.ofArray(b), bOffset * 4L, MemorySegment.ofArray(c), cOffset * 4L);
+        return out;
+    }
+
+    /** Sets out to source unprojected from screen space with the projection and view matrices */
+    public static MemorySegment vector3Unproject(MemorySegment out, MemorySegment source, MemorySegment projection, MemorySegment view) {
+        vector3Unproject(out, 0, source, 0, projection, 0, view, 0);
+        return out;
+    }
+
+    public static float[] vector3Unproject(float[] out, int outOffset, float[] source, int sourceOffset, float[] projection, int projectionOffset, float[] view, int viewOffset) {
+        vector3Unproject(MemorySegment.ofArray(out), outOffset * 4L, MemorySegment.ofArray(source), sourceOffset * 4L, MemorySegment.ofArray(projection), projectionOffset * 4L, MemorySegment.ofArray(view), viewOffset * 4L);
+        return out;
+    }
+
+    /** Sets out to v refracted at a surface with normal n, r is the ratio of the refractive indices */
+    public static MemorySegment vector3Refract(MemorySegment out, MemorySegment v, MemorySegment n, float r) {
+        vector3Refract(out, 0, v, 0, n, 0, r);
+        return out;
+    }
+
+    public static float[] vector3Refract(float[] out, int outOffset, float[] v, int vOffset, float[] n, int nOffset, float r) {
+        vector3Refract(MemorySegment.ofArray(out), outOffset * 4L, MemorySegment.ofArray(v), vOffset * 4L, MemorySegment.ofArray(n), nOffset * 4L, r);
+        return out;
+    }
+
+    /** Normalizes v1 and makes v2 normalized and orthogonal to it, in place */
+    public static void vector3OrthoNormalize(MemorySegment v1, MemorySegment v2) {
+        vector3OrthoNormalize(v1, 0, v2, 0);
+    }
+
+    public static void vector3OrthoNormalize(float[] v1, int v1Offset, float[] v2, int v2Offset) {
+        vector3OrthoNormalize(MemorySegment.ofArray(v1), v1Offset * 4L, MemorySegment.ofArray(v2), v2Offset * 4L);
+    }
+
+    // Vector4 and Quaternion
+
+    /** Sets out to a + b */
+    public static MemorySegment vector4Add(MemorySegment out, MemorySegment a, MemorySegment b) {
+        vector4Add(out, 0, a, 0, b, 0);
+        return out;
+    }
+
+    public static float[] vector4Add(float[] out, int outOffset, float[] a, int aOffset, float[] b, int bOffset) {
+        vector4Add(MemorySegment.ofArray(out), outOffset * 4L, MemorySegment.ofArray(a), aOffset * 4L, MemorySegment.ofArray(b), bOffset * 4L);
+        return out;
+    }
+
+    /** Sets out to a - b */
+    public static MemorySegment vector4Subtract(MemorySegment out, MemorySegment a, MemorySegment b) {
+        vector4Subtract(out, 0, a, 0, b, 0);
+        return out;
+    }
+
+    public static float[] vector4Subtract(float[] out, int outOffset, float[] a, int aOffset, float[] b, int bOffset) {
+        vector4Subtract(MemorySegment.ofArray(out), outOffset * 4L, MemorySegment.ofArray(a), aOffset * 4L, MemorySegment.ofArray(b), bOffset * 4L);
+        return out;
+    }
+
+    /** Sets out to v * scale */
+    public static MemorySegment vector4Scale(MemorySegment out, MemorySegment v, float scale) {
+        vector4Scale(out, 0, v, 0, scale);
+        return out;
+    }
+
+    public static float[] vector4Scale(float[] out, int outOffset, float[] v, int vOffset, float scale) {
+        vector4Scale(MemorySegment.ofArray(out), outOffset * 4L, MemorySegment.ofArray(v), vOffset * 4L, scale);
+        return out;
+    }
+
+    /** Sets out to linear interpolation from a to b */
+    public static MemorySegment vector4Lerp(MemorySegment out, MemorySegment a, MemorySegment b, float amount) {
+        vector4Lerp(out, 0, a, 0, b, 0, amount);
+        return out;
+    }
+
+    public static float[] vector4Lerp(float[] out, int outOffset, float[] a, int aOffset, float[] b, int bOffset, float amount) {
+        vector4Lerp(MemorySegment.ofArray(out), outOffset * 4L, MemorySegment.ofArray(a), aOffset * 4L, MemorySegment.ofArray(b), bOffset * 4L, amount);
+        return out;
+    }
+
+    /** Sets out to v scaled to length 1 */
+    public static MemorySegment vector4Normalize(MemorySegment out, MemorySegment v) {
+        vector4Normalize(out, 0, v, 0);
+        return out;
+    }
+
+    public static float[] vector4Normalize(float[] out, int outOffset, float[] v, int vOffset) {
+        vector4Normalize(MemorySegment.ofArray(out), outOffset * 4L, MemorySegment.ofArray(v), vOffset * 4L);
+        return out;
+    }
+
+    /** Sets out to the identity quaternion */
+    public static MemorySegment quaternionIdentity(MemorySegment out) {
+        quaternionIdentity(out, 0);
+        return out;
+    }
+
+    public static float[] quaternionIdentity(float[] out, int outOffset) {
+        quaternionIdentity(MemorySegment.ofArray(out), outOffset * 4L);
+        return out;
+    }
+
+    /** Sets out to a * b */
+    public static MemorySegment quaternionMultiply(MemorySegment out, MemorySegment a, MemorySegment b) {
+        quaternionMultiply(out, 0, a, 0, b, 0);
+        return out;
+    }
+
+    public static float[] quaternionMultiply(float[] out, int outOffset, float[] a, int aOffset, float[] b, int bOffset) {
+        quaternionMultiply(MemorySegment.ofArray(out), outOffset * 4L, MemorySegment.ofArray(a), aOffset * 4L, MemorySegment.ofArray(b), bOffset * 4L);
+        return out;
+    }
+
+    /** Sets out to the inverse of q */
+    public static MemorySegment quaternionInvert(MemorySegment out, MemorySegment q) {
+        quaternionInvert(out, 0, q, 0);
+        return out;
+    }
+
+    public static float[] quaternionInvert(float[] out, int outOffset, float[] q, int qOffset) {
+        quaternionInvert(MemorySegment.ofArray(out), outOffset * 4L, MemorySegment.ofArray(q), qOffset * 4L);
+        return out;
+    }
+
+    /** Sets out to a rotation by angle in radians around axis */
+    public static MemorySegment quaternionFromAxisAngle(MemorySegment out, MemorySegment axis, float angle) {
+        quaternionFromAxisAngle(out, 0, axis, 0, angle);
+        return out;
+    }
+
+    public static float[] quaternionFromAxisAngle(float[] out, int outOffset, float[] axis, int axisOffset, float angle) {
+        quaternionFromAxisAngle(MemorySegment.ofArray(out), outOffset * 4L, MemorySegment.ofArray(axis), axisOffset * 4L, angle);
+        return out;
+    }
+
+    /** Sets out to a rotation from euler angles in radians */
+    public static MemorySegment quaternionFromEuler(MemorySegment out, float pitch, float yaw, float roll) {
+        quaternionFromEuler(out, 0, pitch, yaw, roll);
+        return out;
+    }
+
+    public static float[] quaternionFromEuler(float[] out, int outOffset, float pitch, float yaw, float roll) {
+        quaternionFromEuler(MemorySegment.ofArray(out), outOffset * 4L, pitch, yaw, roll);
+        return out;
+    }
+
+    /** Sets out to normalized linear interpolation from a to b */
+    public static MemorySegment quaternionNlerp(MemorySegment out, MemorySegment a, MemorySegment b, float amount) {
+        quaternionNlerp(out, 0, a, 0, b, 0, amount);
+        return out;
+    }
+
+    public static float[] quaternionNlerp(float[] out, int outOffset, float[] a, int aOffset, float[] b, int bOffset, float amount) {
+        quaternionNlerp(MemorySegment.ofArray(out), outOffset * 4L, MemorySegment.ofArray(a), aOffset * 4L, MemorySegment.ofArray(b), bOffset * 4L, amount);
+        return out;
+    }
+
+    /** Sets out to spherical linear interpolation from a to b */
+    public static MemorySegment quaternionSlerp(MemorySegment out, MemorySegment a, MemorySegment b, float amount) {
+        quaternionSlerp(out, 0, a, 0, b, 0, amount);
+        return out;
+    }
+
+    public static float[] quaternionSlerp(float[] out, int outOffset, float[] a, int aOffset, float[] b, int bOffset, float amount) {
+        quaternionSlerp(MemorySegment.ofArray(out), outOffset * 4L, MemorySegment.ofArray(a), aOffset * 4L, MemorySegment.ofArray(b), bOffset * 4L, amount);
+        return out;
+    }
+
+    /** Sets out to the rotation matrix of q */
+    public static MemorySegment quaternionToMatrix(MemorySegment out, MemorySegment q) {
+        quaternionToMatrix(out, 0, q, 0);
+        return out;
+    }
+
+    public static float[] quaternionToMatrix(float[] out, int outOffset, float[] q, int qOffset) {
+        quaternionToMatrix(MemorySegment.ofArray(out), outOffset * 4L, MemorySegment.ofArray(q), qOffset * 4L);
+        return out;
+    }
+
+    /** Sets out to a + b */
+    public static MemorySegment quaternionAdd(MemorySegment out, MemorySegment a, MemorySegment b) {
+        vector4Add(out, 0, a, 0, b, 0);
+        return out;
+    }
+
+    public static float[] quaternionAdd(float[] out, int outOffset, float[] a, int aOffset, float[] b, int bOffset) {
+        vector4Add(MemorySegment.ofArray(out), outOffset * 4L, MemorySegment.ofArray(a), aOffset * 4L, MemorySegment.ofArray(b), bOffset * 4L);
+        return out;
+    }
+
+    /** Sets out to q with add added to each component */
+    public static MemorySegment quaternionAddValue(MemorySegment out, MemorySegment q, float add) {
+        quaternionAddValue(out, 0, q, 0, add);
+        return out;
+    }
+
+    public static float[] quaternionAddValue(float[] out, int outOffset, float[] q, int qOffset, float add) {
+        quaternionAddValue(MemorySegment.ofArray(out), outOffset * 4L, MemorySegment.ofArray(q), qOffset * 4L, add);
+        return out;
+    }
+
+    /** Sets out to a - b */
+    public static MemorySegment quaternionSubtract(MemorySegment out, MemorySegment a, MemorySegment b) {
+        vector4Subtract(out, 0, a, 0, b, 0);
+        return out;
+    }
+
+    public static float[] quaternionSubtract(float[] out, int outOffset, float[] a, int aOffset, float[] b, int bOffset) {
+        vector4Subtract(MemorySegment.ofArray(out), outOffset * 4L, MemorySegment.ofArray(a), aOffset * 4L, MemorySegment.ofArray(b), bOffset * 4L);
+        return out;
+    }
+
+    /** Sets out to q with sub subtracted from each component */
+    public static MemorySegment quaternionSubtractValue(MemorySegment out, MemorySegment q, float sub) {
+        quaternionSubtractValue(out, 0, q, 0, sub);
+        return out;
+    }
+
+    public static float[] quaternionSubtractValue(float[] out, int outOffset, float[] q, int qOffset, float sub) {
+        quaternionSubtractValue(MemorySegment.ofArray(out), outOffset * 4L, MemorySegment.ofArray(q), qOffset * 4L, sub);
+        return out;
+    }
+
+    /** Sets out to q * scale */
+    public static MemorySegment quaternionScale(MemorySegment out, MemorySegment q, float scale) {
+        vector4Scale(out, 0, q, 0, scale);
+        return out;
+    }
+
+    public static float[] quaternionScale(float[] out, int outOffset, float[] q, int qOffset, float scale) {
+        vector4Scale(MemorySegment.ofArray(out), outOffset * 4L, MemorySegment.ofArray(q), qOffset * 4L, scale);
+        return out;
+    }
+
+    /** Sets out to a / b, component wise */
+    public static MemorySegment quaternionDivide(MemorySegment out, MemorySegment a, MemorySegment b) {
+        quaternionDivide(out, 0, a, 0, b, 0);
+        return out;
+    }
+
+    public static float[] quaternionDivide(float[] out, int outOffset, float[] a, int aOffset, float[] b, int bOffset) {
+        quaternionDivide(MemorySegment.ofArray(out), outOffset * 4L, MemorySegment.ofArray(a), aOffset * 4L, MemorySegment.ofArray(b), bOffset * 4L);
+        return out;
+    }
+
+    /** Sets out to q scaled to length 1 */
+    public static MemorySegment quaternionNormalize(MemorySegment out, MemorySegment q) {
+        vector4Normalize(out, 0, q, 0);
+        return out;
+    }
+
+    public static float[] quaternionNormalize(float[] out, int outOffset, float[] q, int qOffset) {
+        vector4Normalize(MemorySegment.ofArray(out), outOffset * 4L, MemorySegment.ofArray(q), qOffset * 4L);
+        return out;
+    }
+
+    /** Sets out to linear interpolation from a to b */
+    public static MemorySegment quaternionLerp(MemorySegment out, MemorySegment a, MemorySegment b, float amount) {
+        vector4Lerp(out, 0, a, 0, b, 0, amount);
+        return out;
+    }
+
+    public static float[] quaternionLerp(float[] out, int outOffset, float[] a, int aOffset, float[] b, int bOffset, float amount) {
+        vector4Lerp(MemorySegment.ofArray(out), outOffset * 4L, MemorySegment.ofArray(a), aOffset * 4L, MemorySegment.ofArray(b), bOffset * 4L, amount);
+        return out;
+    }
+
+    /** Sets out to the rotation from direction from to direction to */
+    public static MemorySegment quaternionFromVector3ToVector3(MemorySegment out, MemorySegment from, MemorySegment to) {
+        quaternionFromVector3ToVector3(out, 0, from, 0, to, 0);
+        return out;
+    }
+
+    public static float[] quaternionFromVector3ToVector3(float[] out, int outOffset, float[] from, int fromOffset, float[] to, int toOffset) {
+        quaternionFromVector3ToVector3(MemorySegment.ofArray(out), outOffset * 4L, MemorySegment.ofArray(from), fromOffset * 4L, MemorySegment.ofArray(to), toOffset * 4L);
+        return out;
+    }
+
+    /** Sets out to the rotation of mat */
+    public static MemorySegment quaternionFromMatrix(MemorySegment out, MemorySegment mat) {
+        quaternionFromMatrix(out, 0, mat, 0);
+        return out;
+    }
+
+    public static float[] quaternionFromMatrix(float[] out, int outOffset, float[] mat, int matOffset) {
+        quaternionFromMatrix(MemorySegment.ofArray(out), outOffset * 4L, MemorySegment.ofArray(mat), matOffset * 4L);
+        return out;
+    }
+
+    /** Sets out to the euler angles of q in radians, as rotations around x, y and z */
+    public static MemorySegment quaternionToEuler(MemorySegment out, MemorySegment q) {
+        quaternionToEuler(out, 0, q, 0);
+        return out;
+    }
+
+    public static float[] quaternionToEuler(float[] out, int outOffset, float[] q, int qOffset) {
+        quaternionToEuler(MemorySegment.ofArray(out), outOffset * 4L, MemorySegment.ofArray(q), qOffset * 4L);
+        return out;
+    }
+
+    /** Sets out to q transformed by mat */
+    public static MemorySegment quaternionTransform(MemorySegment out, MemorySegment q, MemorySegment mat) {
+        quaternionTransform(out, 0, q, 0, mat, 0);
+        return out;
+    }
+
+    public static float[] quaternionTransform(float[] out, int outOffset, float[] q, int qOffset, float[] mat, int matOffset) {
+        quaternionTransform(MemorySegment.ofArray(out), outOffset * 4L, MemorySegment.ofArray(q), qOffset * 4L, MemorySegment.ofArray(mat), matOffset * 4L);
+        return out;
+    }
+
+    /** Sets outAxis to the rotation axis of q and returns the angle in radians */
+    public static float quaternionToAxisAngle(MemorySegment outAxis, MemorySegment q) {
+        return quaternionToAxisAngle(outAxis, 0, q, 0);
+    }
+
+    public static float quaternionToAxisAngle(float[] outAxis, int outAxisOffset, float[] q, int qOffset) {
+        return quaternionToAxisAngle(MemorySegment.ofArray(outAxis), outAxisOffset * 4L, MemorySegment.ofArray(q), qOffset * 4L);
+    }
+
+    // Matrix
+
+    /** Sets out to the identity matrix */
+    public static MemorySegment matrixIdentity(MemorySegment out) {
+        matrixIdentity(out, 0);
+        return out;
+    }
+
+    public static float[] matrixIdentity(float[] out, int outOffset) {
+        matrixIdentity(MemorySegment.ofArray(out), outOffset * 4L);
+        return out;
+    }
+
+    /** Sets out to mat transposed */
+    public static MemorySegment matrixTranspose(MemorySegment out, MemorySegment mat) {
+        matrixTranspose(out, 0, mat, 0);
+        return out;
+    }
+
+    public static float[] matrixTranspose(float[] out, int outOffset, float[] mat, int matOffset) {
+        matrixTranspose(MemorySegment.ofArray(out), outOffset * 4L, MemorySegment.ofArray(mat), matOffset * 4L);
+        return out;
+    }
+
+    /** Sets out to a + b */
+    public static MemorySegment matrixAdd(MemorySegment out, MemorySegment a, MemorySegment b) {
+        matrixAdd(out, 0, a, 0, b, 0);
+        return out;
+    }
+
+    public static float[] matrixAdd(float[] out, int outOffset, float[] a, int aOffset, float[] b, int bOffset) {
+        matrixAdd(MemorySegment.ofArray(out), outOffset * 4L, MemorySegment.ofArray(a), aOffset * 4L, MemorySegment.ofArray(b), bOffset * 4L);
+        return out;
+    }
+
+    /** Sets out to a - b */
+    public static MemorySegment matrixSubtract(MemorySegment out, MemorySegment a, MemorySegment b) {
+        matrixSubtract(out, 0, a, 0, b, 0);
+        return out;
+    }
+
+    public static float[] matrixSubtract(float[] out, int outOffset, float[] a, int aOffset, float[] b, int bOffset) {
+        matrixSubtract(MemorySegment.ofArray(out), outOffset * 4L, MemorySegment.ofArray(a), aOffset * 4L, MemorySegment.ofArray(b), bOffset * 4L);
+        return out;
+    }
+
+    /** Sets out to left * right, applies left first */
+    public static MemorySegment matrixMultiply(MemorySegment out, MemorySegment left, MemorySegment right) {
+        matrixMultiply(out, 0, left, 0, right, 0);
+        return out;
+    }
+
+    public static float[] matrixMultiply(float[] out, int outOffset, float[] left, int leftOffset, float[] right, int rightOffset) {
+        matrixMultiply(MemorySegment.ofArray(out), outOffset * 4L, MemorySegment.ofArray(left), leftOffset * 4L, MemorySegment.ofArray(right), rightOffset * 4L);
+        return out;
+    }
+
+    /** Sets out to the inverse of mat */
+    public static MemorySegment matrixInvert(MemorySegment out, MemorySegment mat) {
+        matrixInvert(out, 0, mat, 0);
+        return out;
+    }
+
+    public static float[] matrixInvert(float[] out, int outOffset, float[] mat, int matOffset) {
+        matrixInvert(MemorySegment.ofArray(out), outOffset * 4L, MemorySegment.ofArray(mat), matOffset * 4L);
+        return out;
+    }
+
+    /** Sets out to a translation matrix */
+    public static MemorySegment matrixTranslate(MemorySegment out, float x, float y, float z) {
+        matrixTranslate(out, 0, x, y, z);
+        return out;
+    }
+
+    public static float[] matrixTranslate(float[] out, int outOffset, float x, float y, float z) {
+        matrixTranslate(MemorySegment.ofArray(out), outOffset * 4L, x, y, z);
+        return out;
+    }
+
+    /** Sets out to a scaling matrix */
+    public static MemorySegment matrixScale(MemorySegment out, float x, float y, float z) {
+        matrixScale(out, 0, x, y, z);
+        return out;
+    }
+
+    public static float[] matrixScale(float[] out, int outOffset, float x, float y, float z) {
+        matrixScale(MemorySegment.ofArray(out), outOffset * 4L, x, y, z);
+        return out;
+    }
+
+    /** Sets out to a rotation by angle in radians around axis */
+    public static MemorySegment matrixRotate(MemorySegment out, MemorySegment axis, float angle) {
+        matrixRotate(out, 0, axis, 0, angle);
+        return out;
+    }
+
+    public static float[] matrixRotate(float[] out, int outOffset, float[] axis, int axisOffset, float angle) {
+        matrixRotate(MemorySegment.ofArray(out), outOffset * 4L, MemorySegment.ofArray(axis), axisOffset * 4L, angle);
+        return out;
+    }
+
+    /** Sets out to a rotation around x in radians */
+    public static MemorySegment matrixRotateX(MemorySegment out, float angle) {
+        matrixRotateX(out, 0, angle);
+        return out;
+    }
+
+    public static float[] matrixRotateX(float[] out, int outOffset, float angle) {
+        matrixRotateX(MemorySegment.ofArray(out), outOffset * 4L, angle);
+        return out;
+    }
+
+    /** Sets out to a rotation around y in radians */
+    public static MemorySegment matrixRotateY(MemorySegment out, float angle) {
+        matrixRotateY(out, 0, angle);
+        return out;
+    }
+
+    public static float[] matrixRotateY(float[] out, int outOffset, float angle) {
+        matrixRotateY(MemorySegment.ofArray(out), outOffset * 4L, angle);
+        return out;
+    }
+
+    /** Sets out to a rotation around z in radians */
+    public static MemorySegment matrixRotateZ(MemorySegment out, float angle) {
+        matrixRotateZ(out, 0, angle);
+        return out;
+    }
+
+    public static float[] matrixRotateZ(float[] out, int outOffset, float angle) {
+        matrixRotateZ(MemorySegment.ofArray(out), outOffset * 4L, angle);
+        return out;
+    }
+
+    /** Sets out to a rotation from euler angles in radians */
+    public static MemorySegment matrixRotateXYZ(MemorySegment out, float x, float y, float z) {
+        matrixRotateXYZ(out, 0, x, y, z);
+        return out;
+    }
+
+    public static float[] matrixRotateXYZ(float[] out, int outOffset, float x, float y, float z) {
+        matrixRotateXYZ(MemorySegment.ofArray(out), outOffset * 4L, x, y, z);
+        return out;
+    }
+
+    /** Sets out to a perspective projection from frustum planes */
+    public static MemorySegment matrixFrustum(MemorySegment out, float left, float right, float bottom, float top, float near, float far) {
+        matrixFrustum(out, 0, left, right, bottom, top, near, far);
+        return out;
+    }
+
+    public static float[] matrixFrustum(float[] out, int outOffset, float left, float right, float bottom, float top, float near, float far) {
+        matrixFrustum(MemorySegment.ofArray(out), outOffset * 4L, left, right, bottom, top, near, far);
+        return out;
+    }
+
+    /** Sets out to a perspective projection, fovY in radians */
+    public static MemorySegment matrixPerspective(MemorySegment out, float fovY, float aspect, float near, float far) {
+        matrixPerspective(out, 0, fovY, aspect, near, far);
+        return out;
+    }
+
+    public static float[] matrixPerspective(float[] out, int outOffset, float fovY, float aspect, float near, float far) {
+        matrixPerspective(MemorySegment.ofArray(out), outOffset * 4L, fovY, aspect, near, far);
+        return out;
+    }
+
+    /** Sets out to an orthographic projection */
+    public static MemorySegment matrixOrtho(MemorySegment out, float left, float right, float bottom, float top, float near, float far) {
+        matrixOrtho(out, 0, left, right, bottom, top, near, far);
+        return out;
+    }
+
+    public static float[] matrixOrtho(float[] out, int outOffset, float left, float right, float bottom, float top, float near, float far) {
+        matrixOrtho(MemorySegment.ofArray(out), outOffset * 4L, left, right, bottom, top, near, far);
+        return out;
+    }
+
+    /** Sets out to a view matrix looking from eye at target */
+    public static MemorySegment matrixLookAt(MemorySegment out, MemorySegment eye, MemorySegment target, MemorySegment up) {
+        matrixLookAt(out, 0, eye, 0, target, 0, up, 0);
+        return out;
+    }
+
+    public static float[] matrixLookAt(float[] out, int outOffset, float[] eye, int eyeOffset, float[] target, int targetOffset, float[] up, int upOffset) {
+        matrixLookAt(MemorySegment.ofArray(out), outOffset * 4L, MemorySegment.ofArray(eye), eyeOffset * 4L, MemorySegment.ofArray(target), targetOffset * 4L, MemorySegment.ofArray(up), upOffset * 4L);
+        return out;
+    }
+
+    // Vector2 kernels
+
+    private static void vector2Add(MemorySegment out, long o, MemorySegment a, long ao, MemorySegment b, long bo) {
+        float x = get(a, ao, 0) + get(b, bo, 0);
+        float y = get(a, ao, 1) + get(b, bo, 1);
+        set(out, o, x, y);
+    }
+
+    private static void vector2Subtract(MemorySegment out, long o, MemorySegment a, long ao, MemorySegment b, long bo) {
+        float x = get(a, ao, 0) - get(b, bo, 0);
+        float y = get(a, ao, 1) - get(b, bo, 1);
+        set(out, o, x, y);
+    }
+
+    private static void vector2Multiply(MemorySegment out, long o, MemorySegment a, long ao, MemorySegment b, long bo) {
+        float x = get(a, ao, 0) * get(b, bo, 0);
+        float y = get(a, ao, 1) * get(b, bo, 1);
+        set(out, o, x, y);
+    }
+
+    private static void vector2Scale(MemorySegment out, long o, MemorySegment v, long vo, float scale) {
+        set(out, o, get(v, vo, 0) * scale, get(v, vo, 1) * scale);
+    }
+
+    private static void vector2Negate(MemorySegment out, long o, MemorySegment v, long vo) {
+        set(out, o, -get(v, vo, 0), -get(v, vo, 1));
+    }
+
+    private static void vector2Normalize(MemorySegment out, long o, MemorySegment v, long vo) {
+        float x = get(v, vo, 0);
+        float y = get(v, vo, 1);
+        float length = (float) Math.sqrt(x * x + y * y);
+        if (length > 0) {
+            float ilength = 1.0f / length;
+            x *= ilength;
+            y *= ilength;
+        }
+        set(out, o, x, y);
+    }
+
+    private static void vector2Lerp(MemorySegment out, long o, MemorySegment a, long ao, MemorySegment b, long bo, float amount) {
+        float x = lerp(get(a, ao, 0), get(b, bo, 0), amount);
+        float y = lerp(get(a, ao, 1), get(b, bo, 1), amount);
+        set(out, o, x, y);
+    }
+
+    private static void vector2Rotate(MemorySegment out, long o, MemorySegment v, long vo, float angle) {
+        float x = get(v, vo, 0);
+        float y = get(v, vo, 1);
+        float cos = (float) Math.cos(angle);
+        float sin = (float) Math.sin(angle);
+        set(out, o, x * cos - y * sin, x * sin + y * cos);
+    }
+
+    private static void vector2Reflect(MemorySegment out, long o, MemorySegment v, long vo, MemorySegment normal, long no) {
+        float x = get(v, vo, 0);
+        float y = get(v, vo, 1);
+        float nx = get(normal, no, 0);
+        float ny = get(normal, no, 1);
+        float dot = x * nx + y * ny;
+        set(out, o, x - 2.0f * nx * dot, y - 2.0f * ny * dot);
+    }
+
+    private static void vector2MoveTowards(MemorySegment out, long o, MemorySegment v, long vo, MemorySegment target, long to, float maxDistance) {
+        float x = get(v, vo, 0);
+        float y = get(v, vo, 1);
+        float tx = get(target, to, 0);
+        float ty = get(target, to, 1);
+        float dx = tx - x;
+        float dy = ty - y;
+        float value = dx * dx + dy * dy;
+
+        if (value == 0 || (maxDistance >= 0 && value <= maxDistance * maxDistance)) {
+            set(out, o, tx, ty);
+        } else {
+            float dist = (float) Math.sqrt(value);
+            set(out, o, x + dx / dist * maxDistance, y + dy / dist * maxDistance);
+        }
+    }
+
+    private static void vector2Transform(MemorySegment out, long o, MemorySegment v, long vo, MemorySegment mat, long mo) {
+        float x = get(v, vo, 0);
+        float y = get(v, vo, 1);
+        set(out, o,
+            m(mat, mo, 0) * x + m(mat, mo, 4) * y + m(mat, mo, 12),
+            m(mat, mo, 1) * x + m(mat, mo, 5) * y + m(mat, mo, 13));
+    }
+
+    private static void vector2Zero(MemorySegment out, long o) {
+        set(out, o, 0, 0);
+    }
+
+    private static void vector2One(MemorySegment out, long o) {
+        set(out, o, 1, 1);
+    }
+
+    private static void vector2AddValue(MemorySegment out, long o, MemorySegment v, long vo, float add) {
+        set(out, o, get(v, vo, 0) + add, get(v, vo, 1) + add);
+    }
+
+    private static void vector2SubtractValue(MemorySegment out, long o, MemorySegment v, long vo, float sub) {
+        set(out, o, get(v, vo, 0) - sub, get(v, vo, 1) - sub);
+    }
+
+    private static void vector2Divide(MemorySegment out, long o, MemorySegment a, long ao, MemorySegment b, long bo) {
+        float x = get(a, ao, 0) / get(b, bo, 0);
+        float y = get(a, ao, 1) / get(b, bo, 1);
+        set(out, o, x, y);
+    }
+
+    private static void vector2Invert(MemorySegment out, long o, MemorySegment v, long vo) {
+        set(out, o, 1.0f / get(v, vo, 0), 1.0f / get(v, vo, 1));
+    }
+
+    private static void vector2Clamp(MemorySegment out, long o, MemorySegment v, long vo, MemorySegment min, long mino, MemorySegment max, long maxo) {
+        float x = Math.min(get(max, maxo, 0), Math.max(get(min, mino, 0), get(v, vo, 0)));
+        float y = Math.min(get(max, maxo, 1), Math.max(get(min, mino, 1), get(v, vo, 1)));
+        set(out, o, x, y);
+    }
+
+    private static void vector2ClampValue(MemorySegment out, long o, MemorySegment v, long vo, float min, float max) {
+        float x = get(v, vo, 0);
+        float y = get(v, vo, 1);
+        float length = x * x + y * y;
+        if (length > 0) {
+            length = (float) Math.sqrt(length);
+            float scale = 1;
+            if (length < min) {
+                scale = min / length;
+            } else if (length > max) {
+                scale = max / length;
+            }
+            x *= scale;
+            y *= scale;
+        }
+        set(out, o, x, y);
+    }
+
+    // Vector3 kernels
+
+    private static void vector3Add(MemorySegment out, long o, MemorySegment a, long ao, MemorySegment b, long bo) {
+        float x = get(a, ao, 0) + get(b, bo, 0);
+        float y = get(a, ao, 1) + get(b, bo, 1);
+        float z = get(a, ao, 2) + get(b, bo, 2);
+        set(out, o, x, y, z);
+    }
+
+    private static void vector3Subtract(MemorySegment out, long o, MemorySegment a, long ao, MemorySegment b, long bo) {
+        float x = get(a, ao, 0) - get(b, bo, 0);
+        float y = get(a, ao, 1) - get(b, bo, 1);
+        float z = get(a, ao, 2) - get(b, bo, 2);
+        set(out, o, x, y, z);
+    }
+
+    private static void vector3Multiply(MemorySegment out, long o, MemorySegment a, long ao, MemorySegment b, long bo) {
+        float x = get(a, ao, 0) * get(b, bo, 0);
+        float y = get(a, ao, 1) * get(b, bo, 1);
+        float z = get(a, ao, 2) * get(b, bo, 2);
+        set(out, o, x, y, z);
+    }
+
+    private static void vector3Scale(MemorySegment out, long o, MemorySegment v, long vo, float scale) {
+        set(out, o, get(v, vo, 0) * scale, get(v, vo, 1) * scale, get(v, vo, 2) * scale);
+    }
+
+    private static void vector3Negate(MemorySegment out, long o, MemorySegment v, long vo) {
+        set(out, o, -get(v, vo, 0), -get(v, vo, 1), -get(v, vo, 2));
+    }
+
+    private static void vector3CrossProduct(MemorySegment out, long o, MemorySegment a, long ao, MemorySegment b, long bo) {
+        float ax = get(a, ao, 0), ay = get(a, ao, 1), az = get(a, ao, 2);
+        float bx = get(b, bo, 0), by = get(b, bo, 1), bz = get(b, bo, 2);
+        set(out, o, ay * bz - az * by, az * bx - ax * bz, ax * by - ay * bx);
+    }
+
+    private static void vector3Normalize(MemorySegment out, long o, MemorySegment v, long vo) {
+        float x = get(v, vo, 0);
+        float y = get(v, vo, 1);
+        float z = get(v, vo, 2);
+        float length = (float) Math.sqrt(x * x + y * y + z * z);
+        if (length != 0) {
+            float ilength = 1.0f / length;
+            x *= ilength;
+            y *= ilength;
+            z *= ilength;
+        }
+        set(out, o, x, y, z);
+    }
+
+    private static void vector3Lerp(MemorySegment out, long o, MemorySegment a, long ao, MemorySegment b, long bo, float amount) {
+        float x = lerp(get(a, ao, 0), get(b, bo, 0), amount);
+        float y = lerp(get(a, ao, 1), get(b, bo, 1), amount);
+        float z = lerp(get(a, ao, 2), get(b, bo, 2), amount);
+        set(out, o, x, y, z);
+    }
+
+    private static void vector3Reflect(MemorySegment out, long o, MemorySegment v, long vo, MemorySegment normal, long no) {
+        float x = get(v, vo, 0), y = get(v, vo, 1), z = get(v, vo, 2);
+        float nx = get(normal, no, 0), ny = get(normal, no, 1), nz = get(normal, no, 2);
+        float dot = x * nx + y * ny + z * nz;
+        set(out, o, x - 2.0f * nx * dot, y - 2.0f * ny * dot, z - 2.0f * nz * dot);
+    }
+
+    private static void vector3Transform(MemorySegment out, long o, MemorySegment v, long vo, MemorySegment mat, long mo) {
+        float x = get(v, vo, 0), y = get(v, vo, 1), z = get(v, vo, 2);
+        set(out, o,
+            m(mat, mo, 0) * x + m(mat, mo, 4) * y + m(mat, mo, 8) * z + m(mat, mo, 12),
+            m(mat, mo, 1) * x + m(mat, mo, 5) * y + m(mat, mo, 9) * z + m(mat, mo, 13),
+            m(mat, mo, 2) * x + m(mat, mo, 6) * y + m(mat, mo, 10) * z + m(mat, mo, 14));
+    }
+
+    private static void vector3RotateByQuaternion(MemorySegment out, long o, MemorySegment v, long vo, MemorySegment q, long qo) {
+        float x = get(v, vo, 0), y = get(v, vo, 1), z = get(v, vo, 2);
+        float qx = get(q, qo, 0), qy = get(q, qo, 1), qz = get(q, qo, 2), qw = get(q, qo, 3);
+        set(out, o,
+            x * (qx * qx + qw * qw - qy * qy - qz * qz) + y * (2 * qx * qy - 2 * qw * qz) + z * (2 * qx * qz + 2 * qw * qy),
+            x * (2 * qw * qz + 2 * qx * qy) + y * (qw * qw - qx * qx + qy * qy - qz * qz) + z * (-2 * qw * qx + 2 * qy * qz),
+            x * (-2 * qw * qy + 2 * qx * qz) + y * (2 * qw * qx + 2 * qy * qz) + z * (qw * qw - qx * qx - qy * qy + qz * qz));
+    }
+
+    private static void vector3Zero(MemorySegment out, long o) {
+        set(out, o, 0, 0, 0);
+    }
+
+    private static void vector3One(MemorySegment out, long o) {
+        set(out, o, 1, 1, 1);
+    }
+
+    private static void vector3AddValue(MemorySegment out, long o, MemorySegment v, long vo, float add) {
+        set(out, o, get(v, vo, 0) + add, get(v, vo, 1) + add, get(v, vo, 2) + add);
+    }
+
+    private static void vector3SubtractValue(MemorySegment out, long o, MemorySegment v, long vo, float sub) {
+        set(out, o, get(v, vo, 0) - sub, get(v, vo, 1) - sub, get(v, vo, 2) - sub);
+    }
+
+    private static void vector3Divide(MemorySegment out, long o, MemorySegment a, long ao, MemorySegment b, long bo) {
+        float x = get(a, ao, 0) / get(b, bo, 0);
+        float y = get(a, ao, 1) / get(b, bo, 1);
+        float z = get(a, ao, 2) / get(b, bo, 2);
+        set(out, o, x, y, z);
+    }
+
+    private static void vector3Invert(MemorySegment out, long o, MemorySegment v, long vo) {
+        set(out, o, 1.0f / get(v, vo, 0), 1.0f / get(v, vo, 1), 1.0f / get(v, vo, 2));
+    }
+
+    private static void vector3Clamp(MemorySegment out, long o, MemorySegment v, long vo, MemorySegment min, long mino, MemorySegment max, long maxo) {
+        float x = Math.min(get(max, maxo, 0), Math.max(get(min, mino, 0), get(v, vo, 0)));
+        float y = Math.min(get(max, maxo, 1), Math.max(get(min, mino, 1), get(v, vo, 1)));
+        float z = Math.min(get(max, maxo, 2), Math.max(get(min, mino, 2), get(v, vo, 2)));
+        set(out, o, x, y, z);
+    }
+
+    private static void vector3ClampValue(MemorySegment out, long o, MemorySegment v, long vo, float min, float max) {
+        float x = get(v, vo, 0), y = get(v, vo, 1), z = get(v, vo, 2);
+        float length = x * x + y * y + z * z;
+        if (length > 0) {
+            length = (float) Math.sqrt(length);
+            float scale = 1;
+            if (length < min) {
+                scale = min / length;
+            } else if (length > max) {
+                scale = max / length;
+            }
+            x *= scale;
+            y *= scale;
+            z *= scale;
+        }
+        set(out, o, x, y, z);
+    }
+
+    private static void vector3Perpendicular(MemorySegment out, long o, MemorySegment v, long vo) {
+        float x = get(v, vo, 0), y = get(v, vo, 1), z = get(v, vo, 2);
+
+        // cross product with the cardinal axis v is least aligned with
+        float min = Math.abs(x);
+        float ax = 1, ay = 0, az = 0;
+        if (Math.abs(y) < min) {
+            min = Math.abs(y);
+            ax = 0;
+            ay = 1;
+        }
+        if (Math.abs(z) < min) {
+            ax = 0;
+            ay = 0;
+            az = 1;
+        }
+        set(out, o, y * az - z * ay, z * ax - x * az, x * ay - y * ax);
+    }
+
+    private static void vector3OrthoNormalize(MemorySegment v1, long v1o, MemorySegment v2, long v2o) {
+        vector3Normalize(v1, v1o, v1, v1o);
+        float ax = get(v1, v1o, 0), ay = get(v1, v1o, 1), az = get(v1, v1o, 2);
+        float bx = get(v2, v2o, 0), by = get(v2, v2o, 1), bz = get(v2, v2o, 2);
+
+        // vn1 = normalize(cross(v1, v2))
+        float nx = ay * bz - az * by, ny = az * bx - ax * bz, nz = ax * by - ay * bx;
+        float length = vector3Length(nx, ny, nz);
+        float ilength = 1.0f / (length == 0 ? 1.0f : length);
+        nx *= ilength;
+        ny *= ilength;
+        nz *= ilength;
+
+        // v2 = cross(vn1, v1)
+        set(v2, v2o, ny * az - nz * ay, nz * ax - nx * az, nx * ay - ny * ax);
+    }
+
+    private static void vector3RotateByAxisAngle(MemorySegment out, long o, MemorySegment v, long vo, MemorySegment axis, long ao, float angle) {
+        float x = get(v, vo, 0), y = get(v, vo, 1), z = get(v, vo, 2);
+        float ax = get(axis, ao, 0), ay = get(axis, ao, 1), az = get(axis, ao, 2);
+        float length = vector3Length(ax, ay, az);
+        float ilength = 1.0f / (length == 0 ? 1.0f : length);
+        ax *= ilength;
+        ay *= ilength;
+        az *= ilength;
+
+        // Euler-Rodrigues formula
+        angle /= 2.0f;
+        float sin = (float) Math.sin(angle);
+        float a = (float) Math.cos(angle) * 2.0f;
+        float wx = ax * sin, wy = ay * sin, wz = az * sin;
+        float wvx = wy * z - wz * y, wvy = wz * x - wx * z, wvz = wx * y - wy * x;
+        float wwvx = wy * wvz - wz * wvy, wwvy = wz * wvx - wx * wvz, wwvz = wx * wvy - wy * wvx;
+        set(out, o,
+            x + wvx * a + wwvx * 2.0f,
+            y + wvy * a + wwvy * 2.0f,
+            z + wvz * a + wwvz * 2.0f);
+    }
+
+    private static void vector3Min(MemorySegment out, long o, MemorySegment a, long ao, MemorySegment b, long bo) {
+        float x = Math.min(get(a, ao, 0), get(b, bo, 0));
+        float y = Math.min(get(a, ao, 1), get(b, bo, 1));
+        float z = Math.min(get(a, ao, 2), get(b, bo, 2));
+        set(out, o, x, y, z);
+    }
+
+    private static void vector3Max(MemorySegment out, long o, MemorySegment a, long ao, MemorySegment b, long bo) {
+        float x = Math.max(get(a, ao, 0), get(b, bo, 0));
+        float y = Math.max(get(a, ao, 1), get(b, bo, 1));
+        float z = Math.max(get(a, ao, 2), get(b, bo, 2));
+        set(out, o, x, y, z);
+    }
+
+    private static void vector3Barycenter(MemorySegment out, long o, MemorySegment p, long po, MemorySegment a, long ao, MemorySegment b, long bo, MemorySegment c, long co) {
+        float ax = get(a, ao, 0), ay = get(a, ao, 1), az = get(a, ao, 2);
+        float v0x = get(b, bo, 0) - ax, v0y = get(b, bo, 1) - ay, v0z = get(b, bo, 2) - az;
+        float v1x = get(c, co, 0) - ax, v1y = get(c, co, 1) - ay, v1z = get(c, co, 2) - az;
+        float v2x = get(p, po, 0) - ax, v2y = get(p, po, 1) - ay, v2z = get(p, po, 2) - az;
+        float d00 = vector3DotProduct(v0x, v0y, v0z, v0x, v0y, v0z);
+        float d01 = vector3DotProduct(v0x, v0y, v0z, v1x, v1y, v1z);
+        float d11 = vector3DotProduct(v1x, v1y, v1z, v1x, v1y, v1z);
+        float d20 = vector3DotProduct(v2x, v2y, v2z, v0x, v0y, v0z);
+        float d21 = vector3DotProduct(v2x, v2y, v2z, v1x, v1y, v1z);
+        float denom = d00 * d11 - d01 * d01;
+
+        float y = (d11 * d20 - d01 * d21) / denom;
+        float z = (d00 * d21 - d01 * d20) / denom;
+        set(out, o, 1.0f - (z + y), y, z);
+    }
+
+    private static void vector3Unproject(MemorySegment out, long o, MemorySegment source, long so, MemorySegment projection, long po, MemorySegment view, long vo) {
+        float l0 = m(view, vo, 0), l1 = m(view, vo, 1), l2 = m(view, vo, 2), l3 = m(view, vo, 3);
+        float l4 = m(view, vo, 4), l5 = m(view, vo, 5), l6 = m(view, vo, 6), l7 = m(view, vo, 7);
+        float l8 = m(view, vo, 8), l9 = m(view, vo, 9), l10 = m(view, vo, 10), l11 = m(view, vo, 11);
+        float l12 = m(view, vo, 12), l13 = m(view, vo, 13), l14 = m(view, vo, 14), l15 = m(view, vo, 15);
+        float r0 = m(projection, po, 0), r1 = m(projection, po, 1), r2 = m(projection, po, 2), r3 = m(projection, po, 3);
+        float r4 = m(projection, po, 4), r5 = m(projection, po, 5), r6 = m(projection, po, 6), r7 = m(projection, po, 7);
+        float r8 = m(projection, po, 8), r9 = m(projection, po, 9), r10 = m(projection, po, 10), r11 = m(projection, po, 11);
+        float r12 = m(projection, po, 12), r13 = m(projection, po, 13), r14 = m(projection, po, 14), r15 = m(projection, po, 15);
+
+        // view * projection
+        float p0 = l0 * r0 + l1 * r4 + l2 * r8 + l3 * r12;
+        float p4 = l4 * r0 + l5 * r4 + l6 * r8 + l7 * r12;
+        float p8 = l8 * r0 + l9 * r4 + l10 * r8 + l11 * r12;
+        float p12 = l12 * r0 + l13 * r4 + l14 * r8 + l15 * r12;
+        float p1 = l0 * r1 + l1 * r5 + l2 * r9 + l3 * r13;
+        float p5 = l4 * r1 + l5 * r5 + l6 * r9 + l7 * r13;
+        float p9 = l8 * r1 + l9 * r5 + l10 * r9 + l11 * r13;
+        float p13 = l12 * r1 + l13 * r5 + l14 * r9 + l15 * r13;
+        float p2 = l0 * r2 + l1 * r6 + l2 * r10 + l3 * r14;
+        float p6 = l4 * r2 + l5 * r6 + l6 * r10 + l7 * r14;
+        float p10 = l8 * r2 + l9 * r6 + l10 * r10 + l11 * r14;
+        float p14 = l12 * r2 + l13 * r6 + l14 * r10 + l15 * r14;
+        float p3 = l0 * r3 + l1 * r7 + l2 * r11 + l3 * r15;
+        float p7 = l4 * r3 + l5 * r7 + l6 * r11 + l7 * r15;
+        float p11 = l8 * r3 + l9 * r7 + l10 * r11 + l11 * r15;
+        float p15 = l12 * r3 + l13 * r7 + l14 * r11 + l15 * r15;
+
+        // adjugate of the product, the inverse without 1 / determinant, which cancels out in the divide by w
+        float b00 = p0 * p5 - p1 * p4;
+        float b01 = p0 * p6 - p2 * p4;
+        float b02 = p0 * p7 - p3 * p4;
+        float b03 = p1 * p6 - p2 * p5;
+        float b04 = p1 * p7 - p3 * p5;
+        float b05 = p2 * p7 - p3 * p6;
+        float b06 = p8 * p13 - p9 * p12;
+        float b07 = p8 * p14 - p10 * p12;
+        float b08 = p8 * p15 - p11 * p12;
+        float b09 = p9 * p14 - p10 * p13;
+        float b10 = p9 * p15 - p11 * p13;
+        float b11 = p10 * p15 - p11 * p14;
+
+        float i0 = p5 * b11 - p6 * b10 + p7 * b09;
+        float i1 = -p1 * b11 + p2 * b10 - p3 * b09;
+        float i2 = p13 * b05 - p14 * b04 + p15 * b03;
+        float i3 = -p9 * b05 + p10 * b04 - p11 * b03;
+        float i4 = -p4 * b11 + p6 * b08 - p7 * b07;
+        float i5 = p0 * b11 - p2 * b08 + p3 * b07;
+        float i6 = -p12 * b05 + p14 * b02 - p15 * b01;
+        float i7 = p8 * b05 - p10 * b02 + p11 * b01;
+        float i8 = p4 * b10 - p5 * b08 + p7 * b06;
+        float i9 = -p0 * b10 + p1 * b08 - p3 * b06;
+        float i10 = p12 * b04 - p13 * b02 + p15 * b00;
+        float i11 = -p8 * b04 + p9 * b02 - p11 * b00;
+        float i12 = -p4 * b09 + p5 * b07 - p6 * b06;
+        float i13 = p0 * b09 - p1 * b07 + p2 * b06;
+        float i14 = -p12 * b03 + p13 * b01 - p14 * b00;
+        float i15 = p8 * b03 - p9 * b01 + p10 * b00;
+
+        // transform (source, 1) and divide by w
+        float x = get(source, so, 0), y = get(source, so, 1), z = get(source, so, 2);
+        float tx = i0 * x + i4 * y + i8 * z + i12;
+        float ty = i1 * x + i5 * y + i9 * z + i13;
+        float tz = i2 * x + i6 * y + i10 * z + i14;
+        float tw = i3 * x + i7 * y + i11 * z + i15;
+        set(out, o, tx / tw, ty / tw, tz / tw);
+    }
+
+    private static void vector3Refract(MemorySegment out, long o, MemorySegment v, long vo, MemorySegment n, long no, float r) {
+        float x = get(v, vo, 0), y = get(v, vo, 1), z = get(v, vo, 2);
+        float nx = get(n, no, 0), ny = get(n, no, 1), nz = get(n, no, 2);
+        float dot = x * nx + y * ny + z * nz;
+        float d = 1.0f - r * r * (1.0f - dot * dot);
+        if (d < 0) {
+            set(out, o, 0, 0, 0); // total internal reflection
+            return;
+        }
+
+        d = (float) Math.sqrt(d);
+        float k = r * dot + d;
+        set(out, o, r * x - k * nx, r * y - k * ny, r * z - k * nz);
+    }
+
+    // Vector4 and Quaternion kernels
+
+    private static void vector4Add(MemorySegment out, long o, MemorySegment a, long ao, MemorySegment b, long bo) {
+        set(out, o,
+            get(a, ao, 0) + get(b, bo, 0),
+            get(a, ao, 1) + get(b, bo, 1),
+            get(a, ao, 2) + get(b, bo, 2),
+            get(a, ao, 3) + get(b, bo, 3));
+    }
+
+    private static void vector4Subtract(MemorySegment out, long o, MemorySegment a, long ao, MemorySegment b, long bo) {
+        set(out, o,
+            get(a, ao, 0) - get(b, bo, 0),
+            get(a, ao, 1) - get(b, bo, 1),
+            get(a, ao, 2) - get(b, bo, 2),
+            get(a, ao, 3) - get(b, bo, 3));
+    }
+
+    private static void vector4Scale(MemorySegment out, long o, MemorySegment v, long vo, float scale) {
+        set(out, o, get(v, vo, 0) * scale, get(v, vo, 1) * scale, get(v, vo, 2) * scale, get(v, vo, 3) * scale);
+    }
+
+    private static void vector4Lerp(MemorySegment out, long o, MemorySegment a, long ao, MemorySegment b, long bo, float amount) {
+        set(out, o,
+            lerp(get(a, ao, 0), get(b, bo, 0), amount),
+            lerp(get(a, ao, 1), get(b, bo, 1), amount),
+            lerp(get(a, ao, 2), get(b, bo, 2), amount),
+            lerp(get(a, ao, 3), get(b, bo, 3), amount));
+    }
+
+    private static void vector4Normalize(MemorySegment out, long o, MemorySegment v, long vo) {
+        float x = get(v, vo, 0), y = get(v, vo, 1), z = get(v, vo, 2), w = get(v, vo, 3);
+        float length = (float) Math.sqrt(x * x + y * y + z * z + w * w);
+        if (length == 0) {
+            length = 1.0f;
+        }
+        float ilength = 1.0f / length;
+        set(out, o, x * ilength, y * ilength, z * ilength, w * ilength);
+    }
+
+    private static void quaternionIdentity(MemorySegment out, long o) {
+        set(out, o, 0, 0, 0, 1);
+    }
+
+    private static void quaternionMultiply(MemorySegment out, long o, MemorySegment a, long ao, MemorySegment b, long bo) {
+        float qax = get(a, ao, 0), qay = get(a, ao, 1), qaz = get(a, ao, 2), qaw = get(a, ao, 3);
+        float qbx = get(b, bo, 0), qby = get(b, bo, 1), qbz = get(b, bo, 2), qbw = get(b, bo, 3);
+        set(out, o,
+            qax * qbw + qaw * qbx + qay * qbz - qaz * qby,
+            qay * qbw + qaw * qby + qaz * qbx - qax * qbz,
+            qaz * qbw + qaw * qbz + qax * qby - qay * qbx,
+            qaw * qbw - qax * qbx - qay * qby - qaz * qbz);
+    }
+
+    private static void quaternionInvert(MemorySegment out, long o, MemorySegment q, long qo) {
+        float x = get(q, qo, 0), y = get(q, qo, 1), z = get(q, qo, 2), w = get(q, qo, 3);
+        float lengthSq = x * x + y * y + z * z + w * w;
+        if (lengthSq != 0) {
+            float invLength = 1.0f / lengthSq;
+            x *= -invLength;
+            y *= -invLength;
+            z *= -invLength;
+            w *= invLength;
+        }
+        set(out, o, x, y, z, w);
+    }
+
+    private static void quaternionFromAxisAngle(MemorySegment out, long o, MemorySegment axis, long ao, float angle) {
+        float x = get(axis, ao, 0), y = get(axis, ao, 1), z = get(axis, ao, 2);
+        float axisLength = (float) Math.sqrt(x * x + y * y + z * z);
+        if (axisLength == 0) {
+            quaternionIdentity(out, o);
+            return;
+        }
+
+        angle *= 0.5f;
+        float ilength = 1.0f / axisLength;
+        float sin = (float) Math.sin(angle);
+        float cos = (float) Math.cos(angle);
+        set(out, o, x * ilength * sin, y * ilength * sin, z * ilength * sin, cos);
+        vector4Normalize(out, o, out, o);
+    }
+
+    private static void quaternionFromEuler(MemorySegment out, long o, float pitch, float yaw, float roll) {
+        float x0 = (float) Math.cos(pitch * 0.5f);
+        float x1 = (float) Math.sin(pitch * 0.5f);
+        float y0 = (float) Math.cos(yaw * 0.5f);
+        float y1 = (float) Math.sin(yaw * 0.5f);
+        float z0 = (float) Math.cos(roll * 0.5f);
+        float z1 = (float) Math.sin(roll * 0.5f);
+        set(out, o,
+            x1 * y0 * z0 - x0 * y1 * z1,
+            x0 * y1 * z0 + x1 * y0 * z1,
+            x0 * y0 * z1 - x1 * y1 * z0,
+            x0 * y0 * z0 + x1 * y1 * z1);
+    }
+
+    private static void quaternionNlerp(MemorySegment out, long o, MemorySegment a, long ao, MemorySegment b, long bo, float amount) {
+        vector4Lerp(out, o, a, ao, b, bo, amount);
+        vector4Normalize(out, o, out, o);
+    }
+
+    private static void quaternionSlerp(MemorySegment out, long o, MemorySegment a, long ao, MemorySegment b, long bo, float amount) {
+        float ax = get(a, ao, 0), ay = get(a, ao, 1), az = get(a, ao, 2), aw = get(a, ao, 3);
+        float bx = get(b, bo, 0), by = get(b, bo, 1), bz = get(b, bo, 2), bw = get(b, bo, 3);
+        float cosHalfTheta = ax * bx + ay * by + az * bz + aw * bw;
+
+        if (cosHalfTheta < 0) {
+            bx = -bx;
+            by = -by;
+            bz = -bz;
+            bw = -bw;
+            cosHalfTheta = -cosHalfTheta;
+        }
+
+        float ratioA, ratioB;
+        if (Math.abs(cosHalfTheta) >= 1.0f) {
+            set(out, o, ax, ay, az, aw);
+            return;
+        } else if (cosHalfTheta > 0.95f) {
+            set(out, o, lerp(ax, bx, amount), lerp(ay, by, amount), lerp(az, bz, amount), lerp(aw, bw, amount));
+            vector4Normalize(out, o, out, o);
+            return;
+        } else {
+            float halfTheta = (float) Math.acos(cosHalfTheta);
+            float sinHalfTheta = (float) Math.sqrt(1.0f - cosHalfTheta * cosHalfTheta);
+            if (Math.abs(sinHalfTheta) < EPSILON) {
+                ratioA = 0.5f;
+                ratioB = 0.5f;
+            } else {
+                ratioA = (float) Math.sin((1 - amount) * halfTheta) / sinHalfTheta;
+                ratioB = (float) Math.sin(amount * halfTheta) / sinHalfTheta;
+            }
+        }
+        set(out, o, ax * ratioA + bx * ratioB, ay * ratioA + by * ratioB, az * ratioA + bz * ratioB, aw * ratioA + bw * ratioB);
+    }
+
+    private static void quaternionToMatrix(MemorySegment out, long o, MemorySegment q, long qo) {
+        float x = get(q, qo, 0), y = get(q, qo, 1), z = get(q, qo, 2), w = get(q, qo, 3);
+        float a2 = x * x, b2 = y * y, c2 = z * z;
+        float ac = x * z, ab = x * y, bc = y * z;
+        float ad = w * x, bd = w * y, cd = w * z;
+        matrix(out, o,
+               1 - 2 * (b2 + c2), 2 * (ab - cd), 2 * (ac + bd), 0,
+               2 * (ab + cd), 1 - 2 * (a2 + c2), 2 * (bc - ad), 0,
+               2 * (ac - bd), 2 * (bc + ad), 1 - 2 * (a2 + b2), 0,
+               0, 0, 0, 1);
+    }
+
+    private static void quaternionAddValue(MemorySegment out, long o, MemorySegment q, long qo, float add) {
+        set(out, o, get(q, qo, 0) + add, get(q, qo, 1) + add, get(q, qo, 2) + add, get(q, qo, 3) + add);
+    }
+
+    private static void quaternionSubtractValue(MemorySegment out, long o, MemorySegment q, long qo, float sub) {
+        set(out, o, get(q, qo, 0) - sub, get(q, qo, 1) - sub, get(q, qo, 2) - sub, get(q, qo, 3) - sub);
+    }
+
+    private static void quaternionDivide(MemorySegment out, long o, MemorySegment a, long ao, MemorySegment b, long bo) {
+        set(out, o,
+            get(a, ao, 0) / get(b, bo, 0),
+            get(a, ao, 1) / get(b, bo, 1),
+            get(a, ao, 2) / get(b, bo, 2),
+            get(a, ao, 3) / get(b, bo, 3));
+    }
+
+    private static void quaternionFromVector3ToVector3(MemorySegment out, long o, MemorySegment from, long fromOffset, MemorySegment to, long toOffset) {
+        float fx = get(from, fromOffset, 0), fy = get(from, fromOffset, 1), fz = get(from, fromOffset, 2);
+        float tx = get(to, toOffset, 0), ty = get(to, toOffset, 1), tz = get(to, toOffset, 2);
+        float cos2Theta = fx * tx + fy * ty + fz * tz;
+        set(out, o, fy * tz - fz * ty, fz * tx - fx * tz, fx * ty - fy * tx, 1.0f + cos2Theta);
+        vector4Normalize(out, o, out, o);
+    }
+
+    private static void quaternionFromMatrix(MemorySegment out, long o, MemorySegment mat, long mo) {
+        float m0 = m(mat, mo, 0), m1 = m(mat, mo, 1), m2 = m(mat, mo, 2);
+        float m4 = m(mat, mo, 4), m5 = m(mat, mo, 5), m6 = m(mat, mo, 6);
+        float m8 = m(mat, mo, 8), m9 = m(mat, mo, 9), m10 = m(mat, mo, 10);
+
+        // solves for the largest component first, it is the most precise to divide by
+        float fourWSquaredMinus1 = m0 + m5 + m10;
+        float fourXSquaredMinus1 = m0 - m5 - m10;
+        float fourYSquaredMinus1 = m5 - m0 - m10;
+        float fourZSquaredMinus1 = m10 - m0 - m5;
+
+        int biggestIndex = 0;
+        float fourBiggestSquaredMinus1 = fourWSquaredMinus1;
+        if (fourXSquaredMinus1 > fourBiggestSquaredMinus1) {
+            fourBiggestSquaredMinus1 = fourXSquaredMinus1;
+            biggestIndex = 1;
+        }
+        if (fourYSquaredMinus1 > fourBiggestSquaredMinus1) {
+            fourBiggestSquaredMinus1 = fourYSquaredMinus1;
+            biggestIndex = 2;
+        }
+        if (fourZSquaredMinus1 > fourBiggestSquaredMinus1) {
+            fourBiggestSquaredMinus1 = fourZSquaredMinus1;
+            biggestIndex = 3;
+        }
+
+        float biggestVal = (float) Math.sqrt(fourBiggestSquaredMinus1 + 1.0f) * 0.5f;
+        float mult = 0.25f / biggestVal;
+        switch (biggestIndex) {
+            case 0 -> set(out, o, (m6 - m9) * mult, (m8 - m2) * mult, (m1 - m4) * mult, biggestVal);
+            case 1 -> set(out, o, biggestVal, (m1 + m4) * mult, (m8 + m2) * mult, (m6 - m9) * mult);
+            case 2 -> set(out, o, (m1 + m4) * mult, biggestVal, (m6 + m9) * mult, (m8 - m2) * mult);
+            default -> set(out, o, (m8 + m2) * mult, (m6 + m9) * mult, biggestVal, (m1 - m4) * mult);
+        }
+    }
+
+    private static float quaternionToAxisAngle(MemorySegment outAxis, long o, MemorySegment q, long qo) {
+        float x = get(q, qo, 0), y = get(q, qo, 1), z = get(q, qo, 2), w = get(q, qo, 3);
+        if (Math.abs(w) > 1.0f) {
+            float length = vector4Length(x, y, z, w);
+            float ilength = 1.0f / (length == 0 ? 1.0f : length);
+            x *= ilength;
+            y *= ilength;
+            z *= ilength;
+            w *= ilength;
+        }
+
+        float angle = 2.0f * (float) Math.acos(w);
+        float den = (float) Math.sqrt(1.0f - w * w);
+        if (den > EPSILON) {
+            set(outAxis, o, x / den, y / den, z / den);
+        } else {
+            set(outAxis, o, 1, 0, 0); // angle is 0, any axis works
+        }
+        return angle;
+    }
+
+    private static void quaternionToEuler(MemorySegment out, long o, MemorySegment q, long qo) {
+        float x = get(q, qo, 0), y = get(q, qo, 1), z = get(q, qo, 2), w = get(q, qo, 3);
+
+        float x0 = 2.0f * (w * x + y * z);
+        float x1 = 1.0f - 2.0f * (x * x + y * y);
+
+        float y0 = 2.0f * (w * y - z * x);
+        y0 = clamp(y0, -1.0f, 1.0f);
+
+        float z0 = 2.0f * (w * z + x * y);
+        float z1 = 1.0f - 2.0f * (y * y + z * z);
+
+        set(out, o, (float) Math.atan2(x0, x1), (float) Math.asin(y0), (float) Math.atan2(z0, z1));
+    }
+
+    private static void quaternionTransform(MemorySegment out, long o, MemorySegment q, long qo, MemorySegment mat, long mo) {
+        float x = get(q, qo, 0), y = get(q, qo, 1), z = get(q, qo, 2), w = get(q, qo, 3);
+        set(out, o,
+            m(mat, mo, 0) * x + m(mat, mo, 4) * y + m(mat, mo, 8) * z + m(mat, mo, 12) * w,
+            m(mat, mo, 1) * x + m(mat, mo, 5) * y + m(mat, mo, 9) * z + m(mat, mo, 13) * w,
+            m(mat, mo, 2) * x + m(mat, mo, 6) * y + m(mat, mo, 10) * z + m(mat, mo, 14) * w,
+            m(mat, mo, 3) * x + m(mat, mo, 7) * y + m(mat, mo, 11) * z + m(mat, mo, 15) * w);
+    }
+
+    // Matrix kernels
+
+    private static void matrixIdentity(MemorySegment out, long o) {
+        matrix(out, o,
+               1, 0, 0, 0,
+               0, 1, 0, 0,
+               0, 0, 1, 0,
+               0, 0, 0, 1);
+    }
+
+    private static void matrixTranspose(MemorySegment out, long o, MemorySegment mat, long mo) {
+        matrix(out, o,
+               m(mat, mo, 0), m(mat, mo, 1), m(mat, mo, 2), m(mat, mo, 3),
+               m(mat, mo, 4), m(mat, mo, 5), m(mat, mo, 6), m(mat, mo, 7),
+               m(mat, mo, 8), m(mat, mo, 9), m(mat, mo, 10), m(mat, mo, 11),
+               m(mat, mo, 12), m(mat, mo, 13), m(mat, mo, 14), m(mat, mo, 15));
+    }
+
+    private static void matrixAdd(MemorySegment out, long o, MemorySegment a, long ao, MemorySegment b, long bo) {
+        for (int i = 0; i < 16; i++) {
+            set(out, o, i, get(a, ao, i) + get(b, bo, i));
+        }
+    }
+
+    private static void matrixSubtract(MemorySegment out, long o, MemorySegment a, long ao, MemorySegment b, long bo) {
+        for (int i = 0; i < 16; i++) {
+            set(out, o, i, get(a, ao, i) - get(b, bo, i));
+        }
+    }
+
+    private static void matrixMultiply(MemorySegment out, long o, MemorySegment left, long lo, MemorySegment right, long ro) {
+        float l0 = m(left, lo, 0), l1 = m(left, lo, 1), l2 = m(left, lo, 2), l3 = m(left, lo, 3);
+        float l4 = m(left, lo, 4), l5 = m(left, lo, 5), l6 = m(left, lo, 6), l7 = m(left, lo, 7);
+        float l8 = m(left, lo, 8), l9 = m(left, lo, 9), l10 = m(left, lo, 10), l11 = m(left, lo, 11);
+        float l12 = m(left, lo, 12), l13 = m(left, lo, 13), l14 = m(left, lo, 14), l15 = m(left, lo, 15);
+        float r0 = m(right, ro, 0), r1 = m(right, ro, 1), r2 = m(right, ro, 2), r3 = m(right, ro, 3);
+        float r4 = m(right, ro, 4), r5 = m(right, ro, 5), r6 = m(right, ro, 6), r7 = m(right, ro, 7);
+        float r8 = m(right, ro, 8), r9 = m(right, ro, 9), r10 = m(right, ro, 10), r11 = m(right, ro, 11);
+        float r12 = m(right, ro, 12), r13 = m(right, ro, 13), r14 = m(right, ro, 14), r15 = m(right, ro, 15);
+
+        matrix(out, o,
+               l0 * r0 + l1 * r4 + l2 * r8 + l3 * r12,
+               l4 * r0 + l5 * r4 + l6 * r8 + l7 * r12,
+               l8 * r0 + l9 * r4 + l10 * r8 + l11 * r12,
+               l12 * r0 + l13 * r4 + l14 * r8 + l15 * r12,
+               l0 * r1 + l1 * r5 + l2 * r9 + l3 * r13,
+               l4 * r1 + l5 * r5 + l6 * r9 + l7 * r13,
+               l8 * r1 + l9 * r5 + l10 * r9 + l11 * r13,
+               l12 * r1 + l13 * r5 + l14 * r9 + l15 * r13,
+               l0 * r2 + l1 * r6 + l2 * r10 + l3 * r14,
+               l4 * r2 + l5 * r6 + l6 * r10 + l7 * r14,
+               l8 * r2 + l9 * r6 + l10 * r10 + l11 * r14,
+               l12 * r2 + l13 * r6 + l14 * r10 + l15 * r14,
+               l0 * r3 + l1 * r7 + l2 * r11 + l3 * r15,
+               l4 * r3 + l5 * r7 + l6 * r11 + l7 * r15,
+               l8 * r3 + l9 * r7 + l10 * r11 + l11 * r15,
+               l12 * r3 + l13 * r7 + l14 * r11 + l15 * r15);
+    }
+
+    private static void matrixInvert(MemorySegment out, long o, MemorySegment mat, long mo) {
+        float a00 = m(mat, mo, 0), a01 = m(mat, mo, 1), a02 = m(mat, mo, 2), a03 = m(mat, mo, 3);
+        float a10 = m(mat, mo, 4), a11 = m(mat, mo, 5), a12 = m(mat, mo, 6), a13 = m(mat, mo, 7);
+        float a20 = m(mat, mo, 8), a21 = m(mat, mo, 9), a22 = m(mat, mo, 10), a23 = m(mat, mo, 11);
+        float a30 = m(mat, mo, 12), a31 = m(mat, mo, 13), a32 = m(mat, mo, 14), a33 = m(mat, mo, 15);
+
+        float b00 = a00 * a11 - a01 * a10;
+        float b01 = a00 * a12 - a02 * a10;
+        float b02 = a00 * a13 - a03 * a10;
+        float b03 = a01 * a12 - a02 * a11;
+        float b04 = a01 * a13 - a03 * a11;
+        float b05 = a02 * a13 - a03 * a12;
+        float b06 = a20 * a31 - a21 * a30;
+        float b07 = a20 * a32 - a22 * a30;
+        float b08 = a20 * a33 - a23 * a30;
+        float b09 = a21 * a32 - a22 * a31;
+        float b10 = a21 * a33 - a23 * a31;
+        float b11 = a22 * a33 - a23 * a32;
+
+        float invDet = 1.0f / (b00 * b11 - b01 * b10 + b02 * b09 + b03 * b08 - b04 * b07 + b05 * b06);
+
+        matrix(out, o,
+               (a11 * b11 - a12 * b10 + a13 * b09) * invDet,
+               (-a10 * b11 + a12 * b08 - a13 * b07) * invDet,
+               (a10 * b10 - a11 * b08 + a13 * b06) * invDet,
+               (-a10 * b09 + a11 * b07 - a12 * b06) * invDet,
+               (-a01 * b11 + a02 * b10 - a03 * b09) * invDet,
+               (a00 * b11 - a02 * b08 + a03 * b07) * invDet,
+               (-a00 * b10 + a01 * b08 - a03 * b06) * invDet,
+               (a00 * b09 - a01 * b07 + a02 * b06) * invDet,
+               (a31 * b05 - a32 * b04 + a33 * b03) * invDet,
+               (-a30 * b05 + a32 * b02 - a33 * b01) * invDet,
+               (a30 * b04 - a31 * b02 + a33 * b00) * invDet,
+               (-a30 * b03 + a31 * b01 - a32 * b00) * invDet,
+               (-a21 * b05 + a22 * b04 - a23 * b03) * invDet,
+               (a20 * b05 - a22 * b02 + a23 * b01) * invDet,
+               (-a20 * b04 + a21 * b02 - a23 * b00) * invDet,
+               (a20 * b03 - a21 * b01 + a22 * b00) * invDet);
+    }
+
+    private static void matrixTranslate(MemorySegment out, long o, float x, float y, float z) {
+        matrix(out, o,
+               1, 0, 0, x,
+               0, 1, 0, y,
+               0, 0, 1, z,
+               0, 0, 0, 1);
+    }
+
+    private static void matrixScale(MemorySegment out, long o, float x, float y, float z) {
+        matrix(out, o,
+               x, 0, 0, 0,
+               0, y, 0, 0,
+               0, 0, z, 0,
+               0, 0, 0, 1);
+    }
+
+    private static void matrixRotate(MemorySegment out, long o, MemorySegment axis, long ao, float angle) {
+        float x = get(axis, ao, 0), y = get(axis, ao, 1), z = get(axis, ao, 2);
+        float lengthSquared = x * x + y * y + z * z;
+        if (lengthSquared != 1.0f && lengthSquared != 0.0f) {
+            float ilength = 1.0f / (float) Math.sqrt(lengthSquared);
+            x *= ilength;
+            y *= ilength;
+            z *= ilength;
+        }
+
+        float sin = (float) Math.sin(angle);
+        float cos = (float) Math.cos(angle);
+        float t = 1.0f - cos;
+        matrix(out, o,
+               x * x * t + cos, x * y * t - z * sin, x * z * t + y * sin, 0,
+               y * x * t + z * sin, y * y * t + cos, y * z * t - x * sin, 0,
+               z * x * t - y * sin, z * y * t + x * sin, z * z * t + cos, 0,
+               0, 0, 0, 1);
+    }
+
+    private static void matrixRotateX(MemorySegment out, long o, float angle) {
+        float sin = (float) Math.sin(angle);
+        float cos = (float) Math.cos(angle);
+        matrix(out, o,
+               1, 0, 0, 0,
+               0, cos, -sin, 0,
+               0, sin, cos, 0,
+               0, 0, 0, 1);
+    }
+
+    private static void matrixRotateY(MemorySegment out, long o, float angle) {
+        float sin = (float) Math.sin(angle);
+        float cos = (float) Math.cos(angle);
+        matrix(out, o,
+               cos, 0, sin, 0,
+               0, 1, 0, 0,
+               -sin, 0, cos, 0,
+               0, 0, 0, 1);
+    }
+
+    private static void matrixRotateZ(MemorySegment out, long o, float angle) {
+        float sin = (float) Math.sin(angle);
+        float cos = (float) Math.cos(angle);
+        matrix(out, o,
+               cos, -sin, 0, 0,
+               sin, cos, 0, 0,
+               0, 0, 1, 0,
+               0, 0, 0, 1);
+    }
+
+    private static void matrixRotateXYZ(MemorySegment out, long o, float x, float y, float z) {
+        float cosz = (float) Math.cos(-z);
+        float sinz = (float) Math.sin(-z);
+        float cosy = (float) Math.cos(-y);
+        float siny = (float) Math.sin(-y);
+        float cosx = (float) Math.cos(-x);
+        float sinx = (float) Math.sin(-x);
+        matrix(out, o,
+               cosz * cosy, sinz * cosy, -siny, 0,
+               cosz * siny * sinx - sinz * cosx, sinz * siny * sinx + cosz * cosx, cosy * sinx, 0,
+               cosz * siny * cosx + sinz * sinx, sinz * siny * cosx - cosz * sinx, cosy * cosx, 0,
+               0, 0, 0, 1);
+    }
+
+    private static void matrixFrustum(MemorySegment out, long o, float left, float right, float bottom, float top, float near, float far) {
+        float rl = right - left;
+        float tb = top - bottom;
+        float fn = far - near;
+        matrix(out, o,
+               near * 2.0f / rl, 0, (right + left) / rl, 0,
+               0, near * 2.0f / tb, (top + bottom) / tb, 0,
+               0, 0, -(far + near) / fn, -(far * near * 2.0f) / fn,
+               0, 0, -1, 0);
+    }
+
+    private static void matrixPerspective(MemorySegment out, long o, float fovY, float aspect, float near, float far) {
+        float top = near * (float) Math.tan(fovY * 0.5f);
+        float right = top * aspect;
+        matrixFrustum(out, o, -right, right, -top, top, near, far);
+    }
+
+    private static void matrixOrtho(MemorySegment out, long o, float left, float right, float bottom, float top, float near, float far) {
+        float rl = right - left;
+        float tb = top - bottom;
+        float fn = far - near;
+        matrix(out, o,
+               2.0f / rl, 0, 0, -(left + right) / rl,
+               0, 2.0f / tb, 0, -(top + bottom) / tb,
+               0, 0, -2.0f / fn, -(far + near) / fn,
+               0, 0, 0, 1);
+    }
+
+    private static void matrixLookAt(MemorySegment out, long o, MemorySegment eye, long eo, MemorySegment target, long to, MemorySegment up, long uo) {
+        float ex = get(eye, eo, 0), ey = get(eye, eo, 1), ez = get(eye, eo, 2);
+
+        // vz = normalize(eye - target)
+        float zx = ex - get(target, to, 0), zy = ey - get(target, to, 1), zz = ez - get(target, to, 2);
+        float length = vector3Length(zx, zy, zz);
+        float ilength = 1.0f / (length == 0 ? 1.0f : length);
+        zx *= ilength;
+        zy *= ilength;
+        zz *= ilength;
+
+        // vx = normalize(cross(up, vz))
+        float ux = get(up, uo, 0), uy = get(up, uo, 1), uz = get(up, uo, 2);
+        float xx = uy * zz - uz * zy, xy = uz * zx - ux * zz, xz = ux * zy - uy * zx;
+        length = vector3Length(xx, xy, xz);
+        ilength = 1.0f / (length == 0 ? 1.0f : length);
+        xx *= ilength;
+        xy *= ilength;
+        xz *= ilength;
+
+        // vy = cross(vz, vx)
+        float yx = zy * xz - zz * xy, yy = zz * xx - zx * xz, yz = zx * xy - zy * xx;
+
+        matrix(out, o,
+               xx, xy, xz, -vector3DotProduct(xx, xy, xz, ex, ey, ez),
+               yx, yy, yz, -vector3DotProduct(yx, yy, yz, ex, ey, ez),
+               zx, zy, zz, -vector3DotProduct(zx, zy, zz, ex, ey, ez),
+               0, 0, 0, 1);
+    }
+
+    // Accessors
+
+    private static float get(MemorySegment s, long offset, int i) {
+        return s.get(FLOAT, offset + 4L * i);
+    }
+
+    private static void set(MemorySegment s, long offset, int i, float value) {
+        s.set(FLOAT, offset + 4L * i, value);
+    }
+
+    private static void set(MemorySegment s, long offset, float x, float y) {
+        s.set(FLOAT, offset, x);
+        s.set(FLOAT, offset + 4, y);
+    }
+
+    private static void set(MemorySegment s, long offset, float x, float y, float z) {
+        s.set(FLOAT, offset, x);
+        s.set(FLOAT, offset + 4, y);
+        s.set(FLOAT, offset + 8, z);
+    }
+
+    private static void set(MemorySegment s, long offset, float x, float y, float z, float w) {
+        s.set(FLOAT, offset, x);
+        s.set(FLOAT, offset + 4, y);
+        s.set(FLOAT, offset + 8, z);
+        s.set(FLOAT, offset + 12, w);
+    }
+
+    // Matrix field mN, stored after the fields declared before it: m0, m4, m8, m12, m1, ...
+    private static float m(MemorySegment s, long offset, int n) {
+        return s.get(FLOAT, offset + 4L * (((n & 3) << 2) + (n >> 2)));
+    }
+
+    // Writes a matrix in declaration order
+    private static void matrix(MemorySegment s, long offset,
+                               float m0, float m4, float m8, float m12,
+                               float m1, float m5, float m9, float m13,
+                               float m2, float m6, float m10, float m14,
+                               float m3, float m7, float m11, float m15) {
+        s.set(FLOAT, offset, m0);
+        s.set(FLOAT, offset + 4, m4);
+        s.set(FLOAT, offset + 8, m8);
+        s.set(FLOAT, offset + 12, m12);
+        s.set(FLOAT, offset + 16, m1);
+        s.set(FLOAT, offset + 20, m5);
+        s.set(FLOAT, offset + 24, m9);
+        s.set(FLOAT, offset + 28, m13);
+        s.set(FLOAT, offset + 32, m2);
+        s.set(FLOAT, offset + 36, m6);
+        s.set(FLOAT, offset + 40, m10);
+        s.set(FLOAT, offset + 44, m14);
+        s.set(FLOAT, offset + 48, m3);
+        s.set(FLOAT, offset + 52, m7);
+        s.set(FLOAT, offset + 56, m11);
+        s.set(FLOAT, offset + 60, m15);
+    }
+}
@@ -0,0 +1,141 @@
+package rayclj;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteOrder;
+
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShuffle;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Vector API versions of the {@link BatchTransforms} kernels. Only loaded when the
+ * jdk.incubator.vector module is present. Tails shorter than a vector use the scalar kernels.
+ */
+final class SimdTransforms {
+    private static final VectorSpecies<Float> SPECIES = FloatVector.SPECIES_PREFERRED;
+    private static final ByteOrder ORDER = ByteOrder.nativeOrder();
+
+    private static final VectorShuffle<Float> SWAP_PAIRS = VectorShuffle.fromOp(SPECIES, i -> i ^ 1);
+
+    // lane i of a model matrix entry goes to matrix i of a block
+    private static final int[] MATRIX_INDEX = new int[SPECIES.length()];
+
+    static {
+        for (int i = 0; i < MATRIX_INDEX.length; i++) {
+            MATRIX_INDEX[i] = 16 * i;
+        }
+    }
+
+    // Suppresses default constructor, ensuring non-instantiability.
+    private SimdTransforms() {}
+
+    // x' = m0 x + m4 y + m12 and y' = m1 x + m5 y + m13, for the interleaved x, y lanes at once
+    static void transformVector2(MemorySegment mat, MemorySegment src, MemorySegment dst, int n) {
+        FloatVector same = pairs(BatchTransforms.m(mat, 0), BatchTransforms.m(mat, 5));
+        FloatVector swapped = pairs(BatchTransforms.m(mat, 4), BatchTransforms.m(mat, 1));
+        FloatVector translation = pairs(BatchTransforms.m(mat, 12), BatchTransforms.m(mat, 13));
+
+        int step = SPECIES.length() / 2;
+        int bound = n - n % step;
+        for (int i = 0; i < bound; i += step) {
+            long at = i * BatchTransforms.VECTOR2_SIZE;
+            FloatVector v = FloatVector.fromMemorySegment(SPECIES, src, at, ORDER);
+            v.fma(same, v.rearrange(SWAP_PAIRS).fma(swapped, translation))
+             .intoMemorySegment(dst, at, ORDER);
+        }
+        BatchTransforms.transformVector2(mat, src, dst, bound, n);
+    }
+
+    // a Rectangle is x, y, width, height, so scale is sx, sy, sx, sy and offset is dx, dy, 0, 0
+    static void affineRectangles(MemorySegment rects, int n, float sx, float sy, float dx, float dy) {
+        FloatVector scale = quads(sx, sy, sx, sy);
+        FloatVector offset = quads(dx, dy, 0, 0);
+
+        int step = SPECIES.length() / 4;
+        int bound = step == 0 ? 0 : n - n % step;
+        for (int i = 0; i < bound; i += step) {
+            long at = i * BatchTransforms.RECTANGLE_SIZE;
+            FloatVector.fromMemorySegment(SPECIES, rects, at, ORDER)
+                       .fma(scale, offset)
+                       .intoMemorySegment(rects, at, ORDER);
+        }
+        BatchTransforms.affineRectangles(rects, bound, n, sx, sy, dx, dy);
+    }
+
+    // one instance per lane, entries are scattered into a block of matrices which is copied out
+    static void modelMatrices(MemorySegment out,
+                              float[] x, float[] y, float[] z,
+                              float[] pitch, float[] yaw, float[] roll,
+                              float[] scaleX, float[] scaleY, float[] scaleZ,
+                              int n) {
+        int lanes = SPECIES.length();
+        float[] block = new float[16 * lanes];
+        for (int i = 0; i < lanes; i++) {
+            block[16 * i + 15] = 1; // m15, m3, m7 and m11 stay 0
+        }
+
+        int bound = SPECIES.loopBound(n);
+        for (int i = 0; i < bound; i += lanes) {
+            FloatVector ax = FloatVector.fromArray(SPECIES, pitch, i).neg();
+            FloatVector ay = FloatVector.fromArray(SPECIES, yaw, i).neg();
+            FloatVector az = FloatVector.fromArray(SPECIES, roll, i).neg();
+            FloatVector cosx = ax.lanewise(VectorOperators.COS);
+            FloatVector sinx = ax.lanewise(VectorOperators.SIN);
+            FloatVector cosy = ay.lanewise(VectorOperators.COS);
+            FloatVector siny = ay.lanewise(VectorOperators.SIN);
+            FloatVector cosz = az.lanewise(VectorOperators.COS);
+            FloatVector sinz = az.lanewise(VectorOperators.SIN);
+            FloatVector sx = FloatVector.fromArray(SPECIES, scaleX, i);
+            FloatVector sy = FloatVector.fromArray(SPECIES, scaleY, i);
+            FloatVector sz = FloatVector.fromArray(SPECIES, scaleZ, i);
+
+            FloatVector cosySinx = cosy.mul(sinx);
+            FloatVector cosyCosx = cosy.mul(cosx);
+            FloatVector sinySinx = siny.mul(sinx);
+            FloatVector sinyCosx = siny.mul(cosx);
+
+            // declaration order: m0, m4, m8, m12, m1, m5, m9, m13, m2, m6, m10, m14
+            scatter(cosz.mul(cosy).mul(sx), block, 0);
+            scatter(sinz.mul(cosy).mul(sy), block, 1);
+            scatter(siny.neg().mul(sz), block, 2);
+            scatter(FloatVector.fromArray(SPECIES, x, i), block, 3);
+            scatter(cosz.mul(sinySinx).sub(sinz.mul(cosx)).mul(sx), block, 4);
+            scatter(sinz.mul(sinySinx).add(cosz.mul(cosx)).mul(sy), block, 5);
+            scatter(cosySinx.mul(sz), block, 6);
+            scatter(FloatVector.fromArray(SPECIES, y, i), block, 7);
+            scatter(cosz.mul(sinyCosx).add(sinz.mul(sinx)).mul(sx), block, 8);
+            scatter(sinz.mul(sinyCosx).sub(cosz.mul(sinx)).mul(sy), block, 9);
+            scatter(cosyCosx.mul(sz), block, 10);
+            scatter(FloatVector.fromArray(SPECIES, z, i), block, 11);
+
+            MemorySegment.copy(block, 0, out, ValueLayout.JAVA_FLOAT, i * BatchTransforms.MATRIX_SIZE, block.length);
+        }
+        BatchTransforms.modelMatrices(out, x, y, z, pitch, yaw, roll, scaleX, scaleY, scaleZ, bound, n);
+    }
+
+    private static void scatter(FloatVector entry, float[] block, int offset) {
+        entry.intoArray(block, offset, MATRIX_INDEX, 0);
+    }
+
+    private static FloatVector pairs(float a, float b) {
+        float[] values = new float[SPECIES.length()];
+        for (int i = 0; i < values.length; i += 2) {
+            values[i] = a;
+            values[i + 1] = b;
+        }
+        return FloatVector.fromArray(SPECIES, values, 0);
+    }
+
+    private static FloatVector quads(float a, float b, float c, float d) {
+        float[] values = new float[Math.max(4, SPECIES.length())];
+        for (int i = 0; i < values.length; i += 4) {
+            values[i] = a;
+            values[i + 1] = b;
+            values[i + 2] = c;
+            values[i + 3] = d;
+        }
+        return FloatVector.fromArray(SPECIES, values, 0);
+    }
+}
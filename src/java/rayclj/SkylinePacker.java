@@ -0,0 +1,167 @@
+package rayclj;
+
+import java.util.Arrays;
+
+/**
+ * Packs rectangles into a fixed size bin, for texture atlases.
+ *
+ * Keeps the outline of the packed area as segments (the skyline) and puts each new rectangle
+ * on it where it reaches the least far from y = 0, then leftmost (the bottom-left rule, with y
+ * growing down the way images are addressed).
+ *
+ * Insertion is linear in the number of skyline segments, which stays small. Gaps left behind
+ * the skyline are lost, which costs a few percent compared to keeping every free rectangle
+ * (maxrects), but rectangles can be added one at a time without repacking.
+ */
+public final class SkylinePacker {
+    private final int width;
+    private final int height;
+
+    // skyline segments ordered by x, segment i covers xs[i] until xs[i] + widths[i] down to ys[i]
+    private int[] xs = new int[16];
+    private int[] ys = new int[16];
+    private int[] widths = new int[16];
+    private int segments;
+
+    private long usedArea;
+    private int count;
+
+    public SkylinePacker(int width, int height) {
+        if (width <= 0 || height <= 0) {
+            throw new IllegalArgumentException("Invalid bin size: " + width + "x" + height);
+        }
+        this.width = width;
+        this.height = height;
+        clear();
+    }
+
+    public int width() {
+        return width;
+    }
+
+    public int height() {
+        return height;
+    }
+
+    /** Number of rectangles packed */
+    public int count() {
+        return count;
+    }
+
+    /** Area of the packed rectangles divided by the area of the bin */
+    public float efficiency() {
+        return (float) ((double) usedArea / ((double) width * height));
+    }
+
+    /** Empties the bin */
+    public void clear() {
+        xs[0] = 0;
+        ys[0] = 0;
+        widths[0] = width;
+        segments = 1;
+        usedArea = 0;
+        count = 0;
+    }
+
+    /**
+     * Packs a rectangle. Returns its position as (x << 32) | y, see {@link #x(long)} and
+     * {@link #y(long)}, or -1 when it does not fit.
+     */
+    public long insert(int w, int h) {
+        if (w <= 0 || h <= 0) {
+            throw new IllegalArgumentException("Invalid rectangle size: " + w + "x" + h);
+        }
+
+        int best = -1;
+        int bestTop = Integer.MAX_VALUE;
+        int bestY = 0;
+        for (int i = 0; i < segments; i++) {
+            int y = fit(i, w, h);
+            if (y >= 0 && y + h < bestTop) {
+                best = i;
+                bestTop = y + h;
+                bestY = y;
+            }
+        }
+        if (best < 0) {
+            return -1;
+        }
+
+        int x = xs[best];
+        place(best, x, bestY + h, w);
+        usedArea += (long) w * h;
+        count++;
+        return ((long) x << 32) | bestY;
+    }
+
+    public static int x(long position) {
+        return (int) (position >>> 32);
+    }
+
+    public static int y(long position) {
+        return (int) position;
+    }
+
+    // Lowest y for a w x h rectangle whose left edge is at segment i, or -1
+    private int fit(int i, int w, int h) {
+        int x = xs[i];
+        if (x + w > width) {
+            return -1;
+        }
+        int y = 0;
+        for (int remaining = w; remaining > 0; i++) {
+            y = Math.max(y, ys[i]);
+            if (y + h > height) {
+                return -1;
+            }
+            remaining -= widths[i];
+        }
+        return y;
+    }
+
+    // Inserts a segment at index i and cuts the segments it covers
+    private void place(int i, int x, int y, int w) {
+        if (segments == xs.length) {
+            xs = Arrays.copyOf(xs, segments * 2);
+            ys = Arrays.copyOf(ys, segments * 2);
+            widths = Arrays.copyOf(widths, segments * 2);
+        }
+        System.arraycopy(xs, i, xs, i + 1, segments - i);
+        System.arraycopy(ys, i, ys, i + 1, segments - i);
+        System.arraycopy(widths, i, widths, i + 1, segments - i);
+        xs[i] = x;
+        ys[i] = y;
+        widths[i] = w;
+        segments++;
+
+        int end = x + w;
+        int j = i + 1;
+        while (j < segments && xs[j] < end) {
+            int segmentEnd = xs[j] + widths[j];
+            if (segmentEnd <= end) {
+                remove(j);
+            } else {
+                widths[j] = segmentEnd - end;
+                xs[j] = end;
+                break;
+            }
+        }
+
+        // merge neighbours of the same height
+        for (int k = Math.max(i - 1, 0); k < segments - 1 && k <= i; ) {
+            if (ys[k] == ys[k + 1]) {
+                widths[k] += widths[k + 1];
+                remove(k + 1);
+            } else {
+                k++;
+            }
+        }
+    }
+
+    private void remove(int i) {
+        System.arraycopy(xs, i + 1, xs, i, segments - i - 1);
+        System.arraycopy(ys, i + 1, ys, i, segments - i - 1);
+        System.arraycopy(widths, i + 1, widths, i, segments - i - 1);
+        segments--;
+    }
+}
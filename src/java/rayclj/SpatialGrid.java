@@ -0,0 +1,220 @@
+package rayclj;
+
+import java.util.Arrays;
+
+/**
+ * A uniform grid hashed by cell coordinates, so the world needs no bounds and memory follows
+ * the occupied cells only. Works best when objects are about the size of a cell or smaller.
+ * Objects spanning more than {@link #MAX_SPAN} cells on an axis are kept in a separate list
+ * which every query checks, instead of being filed into every cell they cover.
+ */
+public final class SpatialGrid extends SpatialIndex {
+    public static final int MAX_SPAN = 8;
+
+    private static final long EMPTY = Long.MIN_VALUE;
+    private static final int CELL_LIMIT = 1 << 30;
+
+    private final float cellSize;
+    private final float inverseCellSize;
+
+    // open addressing table from cell key to the ids in the cell, cells are never removed
+    private long[] keys;
+    private IntList[] cells;
+    private int cellCount;
+
+    private final IntList oversized = new IntList();
+
+    // cells covered by each id, minX > maxX means oversized
+    private int[] cellMinX = new int[0];
+    private int[] cellMinY = new int[0];
+    private int[] cellMaxX = new int[0];
+    private int[] cellMaxY = new int[0];
+
+    public SpatialGrid(float cellSize) {
+        if (!(cellSize > 0) || Float.isInfinite(cellSize)) {
+            throw new IllegalArgumentException("Invalid cell size: " + cellSize);
+        }
+        this.cellSize = cellSize;
+        this.inverseCellSize = 1.0f / cellSize;
+        this.keys = new long[64];
+        this.cells = new IntList[64];
+        Arrays.fill(keys, EMPTY);
+    }
+
+    public float cellSize() {
+        return cellSize;
+    }
+
+    /** Number of cells that ever held an object */
+    public int cellCount() {
+        return cellCount;
+    }
+
+    @Override
+    void insert(int id) {
+        int x0 = cell(minX(id)), y0 = cell(minY(id));
+        int x1 = cell(maxX(id)), y1 = cell(maxY(id));
+        if ((long) x1 - x0 >= MAX_SPAN || (long) y1 - y0 >= MAX_SPAN) {
+            cellMinX[id] = 1;
+            cellMaxX[id] = 0;
+            oversized.add(id);
+            return;
+        }
+        cellMinX[id] = x0;
+        cellMinY[id] = y0;
+        cellMaxX[id] = x1;
+        cellMaxY[id] = y1;
+        for (int cy = y0; cy <= y1; cy++) {
+            for (int cx = x0; cx <= x1; cx++) {
+                cellAt(cx, cy).add(id);
+            }
+        }
+    }
+
+    @Override
+    void move(int id, float oldX, float oldY, float oldWidth, float oldHeight) {
+        if (cellMinX[id] <= cellMaxX[id] &&
+            cell(minX(id)) == cellMinX[id] && cell(minY(id)) == cellMinY[id] &&
+            cell(maxX(id)) == cellMaxX[id] && cell(maxY(id)) == cellMaxY[id]) {
+            return;
+        }
+        delete(id);
+        insert(id);
+    }
+
+    @Override
+    void delete(int id) {
+        if (cellMinX[id] > cellMaxX[id]) {
+            oversized.removeValue(id);
+            return;
+        }
+        for (int cy = cellMinY[id]; cy <= cellMaxY[id]; cy++) {
+            for (int cx = cellMinX[id]; cx <= cellMaxX[id]; cx++) {
+                IntList cell = find(cx, cy);
+                if (cell != null) {
+                    cell.removeValue(id);
+                }
+            }
+        }
+    }
+
+    @Override
+    void reset() {
+        for (IntList cell : cells) {
+            if (cell != null) {
+                cell.clear();
+            }
+        }
+        oversized.clear();
+    }
+
+    @Override
+    void collect(float minX, float minY, float maxX, float maxY, IntList out) {
+        addAll(oversized, out);
+        int x0 = cell(minX), y0 = cell(minY);
+        int x1 = cell(maxX), y1 = cell(maxY);
+
+        // a large query is cheaper as a scan of the occupied cells than a walk of its cells
+        if (((long) x1 - x0 + 1) * ((long) y1 - y0 + 1) > cellCount) {
+            for (int i = 0; i < keys.length; i++) {
+                long key = keys[i];
+                if (key != EMPTY) {
+                    int cx = (int) (key >> 32), cy = (int) key;
+                    if (cx >= x0 && cx <= x1 && cy >= y0 && cy <= y1) {
+                        addAll(cells[i], out);
+                    }
+                }
+            }
+            return;
+        }
+
+        for (int cy = y0; cy <= y1; cy++) {
+            for (int cx = x0; cx <= x1; cx++) {
+                IntList cell = find(cx, cy);
+                if (cell != null) {
+                    addAll(cell, out);
+                }
+            }
+        }
+    }
+
+    @Override
+    void ensureCapacity(int capacity) {
+        cellMinX = Arrays.copyOf(cellMinX, capacity);
+        cellMinY = Arrays.copyOf(cellMinY, capacity);
+        cellMaxX = Arrays.copyOf(cellMaxX, capacity);
+        cellMaxY = Arrays.copyOf(cellMaxY, capacity);
+    }
+
+    private int cell(float v) {
+        // clamped, so far away coordinates share the border cells and never make the EMPTY key
+        return (int) Math.max(-CELL_LIMIT, Math.min(CELL_LIMIT, Math.floor(v * inverseCellSize)));
+    }
+
+    private static long key(int cx, int cy) {
+        return ((long) cx << 32) | (cy & 0xffffffffL);
+    }
+
+    private static int slot(long key, int mask) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h >>> 32) & mask;
+    }
+
+    private IntList find(int cx, int cy) {
+        long key = key(cx, cy);
+        int mask = keys.length - 1;
+        for (int i = slot(key, mask); ; i = (i + 1) & mask) {
+            if (keys[i] == key) {
+                return cells[i];
+            }
+            if (keys[i] == EMPTY) {
+                return null;
+            }
+        }
+    }
+
+    private IntList cellAt(int cx, int cy) {
+        long key = key(cx, cy);
+        int mask = keys.length - 1;
+        int i = slot(key, mask);
+        for (; keys[i] != EMPTY; i = (i + 1) & mask) {
+            if (keys[i] == key) {
+                return cells[i];
+            }
+        }
+        if (2 * (cellCount + 1) > keys.length) {
+            rehash(keys.length * 2);
+            return cellAt(cx, cy);
+        }
+        keys[i] = key;
+        cells[i] = new IntList(4);
+        cellCount++;
+        return cells[i];
+    }
+
+    private void rehash(int length) {
+        long[] oldKeys = keys;
+        IntList[] oldCells = cells;
+        keys = new long[length];
+        cells = new IntList[length];
+        Arrays.fill(keys, EMPTY);
+        int mask = length - 1;
+        for (int j = 0; j < oldKeys.length; j++) {
+            if (oldKeys[j] != EMPTY) {
+                int i = slot(oldKeys[j], mask);
+                while (keys[i] != EMPTY) {
+                    i = (i + 1) & mask;
+                }
+                keys[i] = oldKeys[j];
+                cells[i] = oldCells[j];
+            }
+        }
+    }
+
+    private static void addAll(IntList from, IntList to) {
+        int[] ids = from.array();
+        for (int i = 0, n = from.size(); i < n; i++) {
+            to.add(ids[i]);
+        }
+    }
+}
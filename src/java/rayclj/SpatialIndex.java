@@ -0,0 +1,240 @@
+package rayclj;
+
+import java.util.Arrays;
+
+/**
+ * A broadphase over axis aligned rectangles identified by small non-negative int ids, e.g.
+ * entity indices. Bounds are kept as columns (x, y, width, height), so moving an object is a few
+ * array writes, and it is only re-filed in the index when it leaves its cells.
+ *
+ * Queries append the ids of the objects that really collide into a reusable {@link IntList},
+ * checked with the same rules as raylib's CheckCollisionRecs, CheckCollisionPointRec and
+ * CheckCollisionCircleRec (see {@link Collisions}). Nothing is allocated once the index and the
+ * lists have grown to their working size.
+ *
+ * Not thread safe.
+ */
+public abstract class SpatialIndex {
+    private float[] xs = new float[0];
+    private float[] ys = new float[0];
+    private float[] widths = new float[0];
+    private float[] heights = new float[0];
+    private boolean[] present = new boolean[0];
+    private int size;
+
+    // candidates of the current query, and the query stamp of the last time an id was tested
+    private final IntList candidates = new IntList(64);
+    private int[] stamps = new int[0];
+    private int stamp;
+
+    SpatialIndex() {}
+
+    /** Number of objects in the index */
+    public final int size() {
+        return size;
+    }
+
+    public final boolean contains(int id) {
+        return id >= 0 && id < present.length && present[id];
+    }
+
+    public final float x(int id) {
+        return xs[check(id)];
+    }
+
+    public final float y(int id) {
+        return ys[check(id)];
+    }
+
+    public final float width(int id) {
+        return widths[check(id)];
+    }
+
+    public final float height(int id) {
+        return heights[check(id)];
+    }
+
+    /** Adds object id with the given bounds, or moves it if it is already in the index */
+    public final void update(int id, float x, float y, float width, float height) {
+        if (id < 0) {
+            throw new IndexOutOfBoundsException("Invalid id: " + id);
+        }
+        if (id >= present.length) {
+            grow(Math.max(id + 1, present.length * 2));
+        }
+
+        float oldX = xs[id], oldY = ys[id], oldWidth = widths[id], oldHeight = heights[id];
+        xs[id] = x;
+        ys[id] = y;
+        widths[id] = width;
+        heights[id] = height;
+
+        if (present[id]) {
+            move(id, oldX, oldY, oldWidth, oldHeight);
+        } else {
+            present[id] = true;
+            size++;
+            insert(id);
+        }
+    }
+
+    /** Removes object id, returns false if it was not in the index */
+    public final boolean remove(int id) {
+        if (!contains(id)) {
+            return false;
+        }
+        delete(id);
+        present[id] = false;
+        size--;
+        return true;
+    }
+
+    /** Removes all objects, keeping the allocated memory */
+    public final void clear() {
+        Arrays.fill(present, false);
+        size = 0;
+        reset();
+    }
+
+    /** Appends the ids of the objects colliding with the rectangle to out, returns how many */
+    public final int queryRec(float x, float y, float width, float height, IntList out) {
+        collectCandidates(x, y, x + width, y + height);
+        int before = out.size();
+        int[] ids = candidates.array();
+        for (int i = 0, n = candidates.size(); i < n; i++) {
+            int id = ids[i];
+            if (firstVisit(id) && Collisions.checkCollisionRecs(xs[id], ys[id], widths[id], heights[id],
+                                                                x, y, width, height)) {
+                out.add(id);
+            }
+        }
+        return out.size() - before;
+    }
+
+    /** Appends the ids of the objects containing the point to out, returns how many */
+    public final int queryPoint(float x, float y, IntList out) {
+        collectCandidates(x, y, x, y);
+        int before = out.size();
+        int[] ids = candidates.array();
+        for (int i = 0, n = candidates.size(); i < n; i++) {
+            int id = ids[i];
+            if (firstVisit(id) && Collisions.checkCollisionPointRec(x, y, xs[id], ys[id], widths[id], heights[id])) {
+                out.add(id);
+            }
+        }
+        return out.size() - before;
+    }
+
+    /** Appends the ids of the objects colliding with the circle to out, returns how many */
+    public final int queryCircle(float centerX, float centerY, float radius, IntList out) {
+        // raylib rounds the rectangle center to ints, which can reach one unit past the bounds
+        float reach = radius + 1;
+        collectCandidates(centerX - reach, centerY - reach, centerX + reach, centerY + reach);
+        int before = out.size();
+        int[] ids = candidates.array();
+        for (int i = 0, n = candidates.size(); i < n; i++) {
+            int id = ids[i];
+            if (firstVisit(id) && Collisions.checkCollisionCircleRec(centerX, centerY, radius,
+                                                                     xs[id], ys[id], widths[id], heights[id])) {
+                out.add(id);
+            }
+        }
+        return out.size() - before;
+    }
+
+    /**
+     * Appends every pair of colliding objects to out as two consecutive ids, the smaller first.
+     * Returns the number of pairs.
+     */
+    public final int pairs(IntList out) {
+        int before = out.size();
+        for (int a = 0; a < present.length; a++) {
+            if (!present[a]) {
+                continue;
+            }
+            float x = xs[a], y = ys[a], width = widths[a], height = heights[a];
+            collectCandidates(x, y, x + width, y + height);
+            int[] ids = candidates.array();
+            for (int i = 0, n = candidates.size(); i < n; i++) {
+                int b = ids[i];
+                if (b > a && firstVisit(b) &&
+                    Collisions.checkCollisionRecs(x, y, width, height, xs[b], ys[b], widths[b], heights[b])) {
+                    out.add(a);
+                    out.add(b);
+                }
+            }
+        }
+        return (out.size() - before) / 2;
+    }
+
+    // Implemented by the index structures. Bounds of id are already stored when these are called.
+
+    /** Files a new object */
+    abstract void insert(int id);
+
+    /** Re-files an object if its new bounds need it */
+    abstract void move(int id, float oldX, float oldY, float oldWidth, float oldHeight);
+
+    /** Unfiles an object */
+    abstract void delete(int id);
+
+    /** Unfiles all objects */
+    abstract void reset();
+
+    /** Adds the ids of all objects which may overlap the closed box to out. Duplicates are fine. */
+    abstract void collect(float minX, float minY, float maxX, float maxY, IntList out);
+
+    /** Per id storage of the subclass must hold capacity ids */
+    abstract void ensureCapacity(int capacity);
+
+    // Bounds as a box with min <= max, rectangles of negative size are flipped
+    final float minX(int id) {
+        return Math.min(xs[id], xs[id] + widths[id]);
+    }
+
+    final float minY(int id) {
+        return Math.min(ys[id], ys[id] + heights[id]);
+    }
+
+    final float maxX(int id) {
+        return Math.max(xs[id], xs[id] + widths[id]);
+    }
+
+    final float maxY(int id) {
+        return Math.max(ys[id], ys[id] + heights[id]);
+    }
+
+    private void collectCandidates(float x0, float y0, float x1, float y1) {
+        candidates.clear();
+        collect(Math.min(x0, x1), Math.min(y0, y1), Math.max(x0, x1), Math.max(y0, y1), candidates);
+        if (++stamp == 0) {
+            Arrays.fill(stamps, 0);
+            stamp = 1;
+        }
+    }
+
+    private boolean firstVisit(int id) {
+        if (stamps[id] == stamp) {
+            return false;
+        }
+        stamps[id] = stamp;
+        return true;
+    }
+
+    private void grow(int capacity) {
+        xs = Arrays.copyOf(xs, capacity);
+        ys = Arrays.copyOf(ys, capacity);
+        widths = Arrays.copyOf(widths, capacity);
+        heights = Arrays.copyOf(heights, capacity);
+        present = Arrays.copyOf(present, capacity);
+        stamps = Arrays.copyOf(stamps, capacity);
+        ensureCapacity(capacity);
+    }
+
+    private int check(int id) {
+        if (!contains(id)) {
+            throw new IllegalArgumentException("No object with id " + id);
+        }
+        return id;
+    }
+}
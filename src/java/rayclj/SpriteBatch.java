@@ -0,0 +1,328 @@
+package rayclj;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.SegmentAllocator;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteOrder;
+
+import rayclj.rlgl.Matrix;
+import rayclj.rlgl.rlgl_h;
+
+/**
+ * Drawing a texture through raylib costs a handful of rlgl downcalls per sprite, which limits
+ * clojure programs to a few thousand sprites per frame.
+ *
+ * So batch textured quads on the JVM side instead. Vertices are written with plain memory
+ * stores into a native vertex array and a full batch is drawn with one buffer update and one
+ * draw call using rlgl's default shader. Drawing the same texture needs no downcall per sprite.
+ *
+ * rlgl keeps the vertex count of its own render batch private, so vertices written into it
+ * would never be drawn. That is why this owns a vertex array with the same layout instead.
+ * Pending rlgl draws are flushed first, so the draw order is kept.
+ *
+ * Indices are 16 bit, so a batch holds at most {@link #MAX_QUADS} quads and flushes when full.
+ * It draws 2D quads with the current modelview and projection, custom shader modes are not
+ * applied. Must be used from the render thread after the window is initialized.
+ */
+public final class SpriteBatch implements AutoCloseable {
+    public static final int MAX_QUADS = 16384;
+
+    private static final int VERTEX_SIZE = 24; // x, y, z, u, v floats and r, g, b, a bytes
+    private static final int QUAD_SIZE = 4 * VERTEX_SIZE;
+
+    private static final int RL_FLOAT = 0x1406;
+    private static final int RL_UNSIGNED_BYTE = 0x1401;
+    private static final int RL_SHADER_UNIFORM_VEC4 = 3;
+    private static final int RL_SHADER_UNIFORM_INT = 4;
+    private static final int LOC_VERTEX_POSITION = 0;
+    private static final int LOC_VERTEX_TEXCOORD01 = 1;
+    private static final int LOC_VERTEX_COLOR = 5;
+    private static final int LOC_MATRIX_MVP = 6;
+    private static final int LOC_COLOR_DIFFUSE = 12;
+    private static final int LOC_MAP_DIFFUSE = 15;
+
+    // rlgl draws 2D vertices at this depth too
+    private static final float DEPTH = -1.0f;
+
+    // Matrix fields are named by row major index but laid out as m0, m4, m8, m12, m1, ...
+    private static final int[] MATRIX_ORDER = { 0, 4, 8, 12, 1, 5, 9, 13, 2, 6, 10, 14, 3, 7, 11, 15 };
+
+    private static final ValueLayout.OfFloat FLOAT = ValueLayout.JAVA_FLOAT;
+    private static final ValueLayout.OfInt RGBA = ValueLayout.JAVA_INT.withOrder(ByteOrder.BIG_ENDIAN);
+
+    private final Arena arena;
+    private final int capacity;
+    private final MemorySegment vertices;
+
+    private final MemorySegment modelview;
+    private final MemorySegment projection;
+    private final MemorySegment mvp;
+    private final MemorySegment white;
+    private final MemorySegment slot0;
+    private final float[] left = new float[16];
+    private final float[] right = new float[16];
+
+    private int vaoId;
+    private int vboId;
+    private int eboId;
+
+    private int textureId = -1;
+    private int count;
+    private long flushCount;
+
+    public SpriteBatch() {
+        this(MAX_QUADS);
+    }
+
+    /** capacity is the number of quads drawn per flush */
+    public SpriteBatch(int capacity) {
+        if (capacity <= 0 || capacity > MAX_QUADS) {
+            throw new IllegalArgumentException("Invalid sprite batch capacity: " + capacity);
+        }
+        this.capacity = capacity;
+        this.arena = Arena.ofShared();
+        this.vertices = arena.allocate((long) capacity * QUAD_SIZE, 16);
+        this.modelview = arena.allocate(Matrix.$LAYOUT());
+        this.projection = arena.allocate(Matrix.$LAYOUT());
+        this.mvp = arena.allocate(Matrix.$LAYOUT());
+        this.white = arena.allocateArray(FLOAT, 1.0f, 1.0f, 1.0f, 1.0f);
+        this.slot0 = arena.allocate(ValueLayout.JAVA_INT, 0);
+    }
+
+    /** Draws the whole texture at x, y. rgba is a packed 0xRRGGBBAA tint. */
+    public void draw(int textureId, int textureWidth, int textureHeight, float x, float y, int rgba) {
+        drawPro(textureId, textureWidth, textureHeight,
+                0, 0, textureWidth, textureHeight,
+                x, y, textureWidth, textureHeight,
+                0, 0, 0, rgba);
+    }
+
+    /** Draws the source rectangle of the texture at x, y */
+    public void drawRec(int textureId, int textureWidth, int textureHeight,
+                        float srcX, float srcY, float srcWidth, float srcHeight,
+                        float x, float y, int rgba) {
+        drawPro(textureId, textureWidth, textureHeight,
+                srcX, srcY, srcWidth, srcHeight,
+                x, y, Math.abs(srcWidth), Math.abs(srcHeight),
+                0, 0, 0, rgba);
+    }
+
+    /**
+     * Draws the source rectangle into the destination rectangle, rotated by degrees around origin.
+     * Same as raylib's DrawTexturePro, a negative source width or height flips the texture.
+     */
+    public void drawPro(int textureId, int textureWidth, int textureHeight,
+                        float srcX, float srcY, float srcWidth, float srcHeight,
+                        float dstX, float dstY, float dstWidth, float dstHeight,
+                        float originX, float originY, float rotation, int rgba) {
+        if (textureId != this.textureId || count == capacity) {
+            flush();
+            this.textureId = textureId;
+        }
+
+        boolean flipX = false;
+        if (srcWidth < 0) {
+            flipX = true;
+            srcWidth = -srcWidth;
+        }
+        if (srcHeight < 0) {
+            srcY -= srcHeight;
+        }
+
+        float u0 = srcX / textureWidth;
+        float u1 = (srcX + srcWidth) / textureWidth;
+        float v0 = srcY / textureHeight;
+        float v1 = (srcY + srcHeight) / textureHeight;
+        if (flipX) {
+            float u = u0;
+            u0 = u1;
+            u1 = u;
+        }
+
+        float tlx, tly, blx, bly, brx, bry, trx, try_;
+        if (rotation == 0.0f) {
+            float x = dstX - originX;
+            float y = dstY - originY;
+            tlx = x;
+            tly = y;
+            blx = x;
+            bly = y + dstHeight;
+            brx = x + dstWidth;
+            bry = y + dstHeight;
+            trx = x + dstWidth;
+            try_ = y;
+        } else {
+            float sin = (float) Math.sin(Math.toRadians(rotation));
+            float cos = (float) Math.cos(Math.toRadians(rotation));
+            float dx = -originX;
+            float dy = -originY;
+            tlx = dstX + dx * cos - dy * sin;
+            tly = dstY + dx * sin + dy * cos;
+            blx = dstX + dx * cos - (dy + dstHeight) * sin;
+            bly = dstY + dx * sin + (dy + dstHeight) * cos;
+            brx = dstX + (dx + dstWidth) * cos - (dy + dstHeight) * sin;
+            bry = dstY + (dx + dstWidth) * sin + (dy + dstHeight) * cos;
+            trx = dstX + (dx + dstWidth) * cos - dy * sin;
+            try_ = dstY + (dx + dstWidth) * sin + dy * cos;
+        }
+
+        long offset = (long) count * QUAD_SIZE;
+        vertex(offset, tlx, tly, u0, v0, rgba);
+        vertex(offset + VERTEX_SIZE, blx, bly, u0, v1, rgba);
+        vertex(offset + 2 * VERTEX_SIZE, brx, bry, u1, v1, rgba);
+        vertex(offset + 3 * VERTEX_SIZE, trx, try_, u1, v0, rgba);
+        count++;
+    }
+
+    /**
+     * Draws the whole texture at count positions, tinted by packed 0xRRGGBBAA colors.
+     * The bulk version of {@link #draw}, it makes no call per sprite.
+     */
+    public void drawAll(int textureId, int textureWidth, int textureHeight,
+                        float[] xs, float[] ys, int[] colors, int count) {
+        if (count > xs.length || count > ys.length || count > colors.length) {
+            throw new IndexOutOfBoundsException("Sprite count " + count + " exceeds the given arrays");
+        }
+        if (textureId != this.textureId) {
+            flush();
+            this.textureId = textureId;
+        }
+
+        for (int i = 0; i < count; i++) {
+            if (this.count == capacity) {
+                flush();
+                this.textureId = textureId;
+            }
+            float x = xs[i];
+            float y = ys[i];
+            int rgba = colors[i];
+            long offset = (long) this.count * QUAD_SIZE;
+            vertex(offset, x, y, 0, 0, rgba);
+            vertex(offset + VERTEX_SIZE, x, y + textureHeight, 0, 1, rgba);
+            vertex(offset + 2 * VERTEX_SIZE, x + textureWidth, y + textureHeight, 1, 1, rgba);
+            vertex(offset + 3 * VERTEX_SIZE, x + textureWidth, y, 1, 0, rgba);
+            this.count++;
+        }
+    }
+
+    /** Draws the pending quads. Must be called before other drawing and before EndDrawing. */
+    public void flush() {
+        if (count == 0) {
+            return;
+        }
+        if (vaoId == 0) {
+            load();
+        }
+
+        // keep the order of the draws rlgl queued so far
+        rlgl_h.rlDrawRenderBatchActive();
+
+        rlgl_h.rlGetMatrixModelview(SegmentAllocator.prefixAllocator(modelview));
+        rlgl_h.rlGetMatrixProjection(SegmentAllocator.prefixAllocator(projection));
+        multiply(modelview, projection, mvp);
+
+        MemorySegment locs = rlgl_h.rlGetShaderLocsDefault();
+        rlgl_h.rlEnableShader(rlgl_h.rlGetShaderIdDefault());
+        rlgl_h.rlSetUniformMatrix(locs.getAtIndex(ValueLayout.JAVA_INT, LOC_MATRIX_MVP), mvp);
+        rlgl_h.rlSetUniform(locs.getAtIndex(ValueLayout.JAVA_INT, LOC_COLOR_DIFFUSE), white, RL_SHADER_UNIFORM_VEC4, 1);
+        rlgl_h.rlSetUniform(locs.getAtIndex(ValueLayout.JAVA_INT, LOC_MAP_DIFFUSE), slot0, RL_SHADER_UNIFORM_INT, 1);
+
+        rlgl_h.rlActiveTextureSlot(0);
+        rlgl_h.rlEnableTexture(textureId);
+
+        rlgl_h.rlUpdateVertexBuffer(vboId, vertices, count * QUAD_SIZE, 0);
+        rlgl_h.rlEnableVertexArray(vaoId);
+        rlgl_h.rlDrawVertexArrayElements(0, count * 6, MemorySegment.NULL);
+        rlgl_h.rlDisableVertexArray();
+
+        rlgl_h.rlDisableTexture();
+        rlgl_h.rlDisableShader();
+
+        count = 0;
+        flushCount++;
+    }
+
+    /** Number of quads waiting for the next flush */
+    public int pending() {
+        return count;
+    }
+
+    /** Number of draw calls issued so far */
+    public long flushCount() {
+        return flushCount;
+    }
+
+    @Override
+    public void close() {
+        if (vaoId != 0) {
+            rlgl_h.rlUnloadVertexBuffer(vboId);
+            rlgl_h.rlUnloadVertexBuffer(eboId);
+            rlgl_h.rlUnloadVertexArray(vaoId);
+            vaoId = 0;
+        }
+        arena.close();
+    }
+
+    private void vertex(long offset, float x, float y, float u, float v, int rgba) {
+        vertices.set(FLOAT, offset, x);
+        vertices.set(FLOAT, offset + 4, y);
+        vertices.set(FLOAT, offset + 8, DEPTH);
+        vertices.set(FLOAT, offset + 12, u);
+        vertices.set(FLOAT, offset + 16, v);
+        vertices.set(RGBA, offset + 20, rgba);
+    }
+
+    // GL objects need a context, so they are created on the first flush
+    private void load() {
+        MemorySegment locs = rlgl_h.rlGetShaderLocsDefault();
+        int position = locs.getAtIndex(ValueLayout.JAVA_INT, LOC_VERTEX_POSITION);
+        int texcoord = locs.getAtIndex(ValueLayout.JAVA_INT, LOC_VERTEX_TEXCOORD01);
+        int color = locs.getAtIndex(ValueLayout.JAVA_INT, LOC_VERTEX_COLOR);
+
+        vaoId = rlgl_h.rlLoadVertexArray();
+        rlgl_h.rlEnableVertexArray(vaoId);
+
+        vboId = rlgl_h.rlLoadVertexBuffer(vertices, (int) vertices.byteSize(), true);
+        rlgl_h.rlSetVertexAttribute(position, 3, RL_FLOAT, false, VERTEX_SIZE, MemorySegment.ofAddress(0));
+        rlgl_h.rlEnableVertexAttribute(position);
+        rlgl_h.rlSetVertexAttribute(texcoord, 2, RL_FLOAT, false, VERTEX_SIZE, MemorySegment.ofAddress(12));
+        rlgl_h.rlEnableVertexAttribute(texcoord);
+        rlgl_h.rlSetVertexAttribute(color, 4, RL_UNSIGNED_BYTE, true, VERTEX_SIZE, MemorySegment.ofAddress(20));
+        rlgl_h.rlEnableVertexAttribute(color);
+
+        try (Arena temp = Arena.ofConfined()) {
+            MemorySegment indices = temp.allocateArray(ValueLayout.JAVA_SHORT, (long) capacity * 6);
+            for (int i = 0; i < capacity; i++) {
+                short k = (short) (4 * i); // wraps for the upper half, read back as unsigned
+                long at = 6L * i;
+                indices.setAtIndex(ValueLayout.JAVA_SHORT, at, k);
+                indices.setAtIndex(ValueLayout.JAVA_SHORT, at + 1, (short) (k + 1));
+                indices.setAtIndex(ValueLayout.JAVA_SHORT, at + 2, (short) (k + 2));
+                indices.setAtIndex(ValueLayout.JAVA_SHORT, at + 3, k);
+                indices.setAtIndex(ValueLayout.JAVA_SHORT, at + 4, (short) (k + 2));
+                indices.setAtIndex(ValueLayout.JAVA_SHORT, at + 5, (short) (k + 3));
+            }
+            eboId = rlgl_h.rlLoadVertexBufferElement(indices, (int) indices.byteSize(), false);
+        }
+
+        rlgl_h.rlDisableVertexArray();
+    }
+
+    // same as raymath's MatrixMultiply(left, right)
+    private void multiply(MemorySegment a, MemorySegment b, MemorySegment result) {
+        for (int i = 0; i < 16; i++) {
+            left[MATRIX_ORDER[i]] = a.getAtIndex(FLOAT, i);
+            right[MATRIX_ORDER[i]] = b.getAtIndex(FLOAT, i);
+        }
+        for (int i = 0; i < 16; i++) {
+            int row = MATRIX_ORDER[i] & ~3;
+            int col = MATRIX_ORDER[i] & 3;
+            float sum = left[row] * right[col] +
+                        left[row + 1] * right[col + 4] +
+                        left[row + 2] * right[col + 8] +
+                        left[row + 3] * right[col + 12];
+            result.setAtIndex(FLOAT, i, sum);
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package rayclj;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import rayclj.raylib.Image;
+import rayclj.raylib.Rectangle;
+import rayclj.raylib.raylib_h;
+
+/**
+ * Images packed into a few large RGBA textures (pages), so sprites drawn from them share a
+ * texture. rlgl flushes its render batch whenever the texture changes, so sprites loaded as
+ * separate textures cost a draw call each when drawn interleaved.
+ *
+ * Images are added one at a time with a {@link SkylinePacker} per page and copied into the
+ * page with UpdateTextureRec, so an atlas can keep growing while its regions are in use. A new
+ * page is created when an image fits in none of the existing ones. Regions are kept padding
+ * pixels apart, so filtering does not bleed between neighbours.
+ *
+ * Must be used from the render thread after the window is initialized.
+ */
+public final class TextureAtlas implements AutoCloseable {
+    private static final int RGBA = raylib_h.PIXELFORMAT_UNCOMPRESSED_R8G8B8A8();
+
+    private final Arena arena;
+    private final int pageWidth;
+    private final int pageHeight;
+    private final int padding;
+
+    private final List<MemorySegment> pages = new ArrayList<>();
+    private final List<SkylinePacker> packers = new ArrayList<>();
+    private long[] pageAreas = new long[4];
+
+    // per region: page, x, y, width, height
+    private int[] regions = new int[5 * 64];
+    private int regionCount;
+
+    public TextureAtlas(int pageWidth, int pageHeight, int padding) {
+        if (pageWidth <= 0 || pageHeight <= 0 || padding < 0) {
+            throw new IllegalArgumentException("Invalid atlas pages: " + pageWidth + "x" + pageHeight + ", padding " + padding);
+        }
+        this.arena = Arena.ofShared();
+        this.pageWidth = pageWidth;
+        this.pageHeight = pageHeight;
+        this.padding = padding;
+    }
+
+    /**
+     * Copies an Image into the atlas and returns its region. The image is converted to
+     * RGBA if needed, it can be unloaded afterwards.
+     */
+    public int add(MemorySegment image) {
+        int width = Image.width$get(image);
+        int height = Image.height$get(image);
+        if (width <= 0 || height <= 0 || Image.data$get(image).equals(MemorySegment.NULL)) {
+            throw new IllegalArgumentException("Image has no pixels, was it loaded?");
+        }
+        if (width + padding > pageWidth || height + padding > pageHeight) {
+            throw new IllegalArgumentException("Image of " + width + "x" + height + " does not fit in atlas pages of " +
+                                               pageWidth + "x" + pageHeight);
+        }
+
+        int page = 0;
+        long position = -1;
+        for (; page < packers.size(); page++) {
+            position = packers.get(page).insert(width + padding, height + padding);
+            if (position >= 0) {
+                break;
+            }
+        }
+        if (position < 0) {
+            page = newPage();
+            position = packers.get(page).insert(width + padding, height + padding);
+        }
+        int x = SkylinePacker.x(position);
+        int y = SkylinePacker.y(position);
+
+        try (Arena temp = Arena.ofConfined()) {
+            MemorySegment rec = Rectangle.allocate(temp);
+            Rectangle.x$set(rec, x);
+            Rectangle.y$set(rec, y);
+            Rectangle.width$set(rec, width);
+            Rectangle.height$set(rec, height);
+
+            if (Image.format$get(image) == RGBA) {
+                raylib_h.UpdateTextureRec(pages.get(page), rec, Image.data$get(image));
+            } else {
+                MemorySegment copy = raylib_h.ImageCopy(temp, image);
+                try {
+                    raylib_h.ImageFormat(copy, RGBA);
+                    if (Image.format$get(copy) != RGBA) {
+                        throw new IllegalArgumentException("Image format " + Image.format$get(image) + " can not be converted to RGBA");
+                    }
+                    raylib_h.UpdateTextureRec(pages.get(page), rec, Image.data$get(copy));
+                } finally {
+                    raylib_h.UnloadImage(copy);
+                }
+            }
+        }
+
+        pageAreas[page] += (long) width * height;
+        if (5 * (regionCount + 1) > regions.length) {
+            regions = Arrays.copyOf(regions, regions.length * 2);
+        }
+        int at = 5 * regionCount;
+        regions[at] = page;
+        regions[at + 1] = x;
+        regions[at + 2] = y;
+        regions[at + 3] = width;
+        regions[at + 4] = height;
+        return regionCount++;
+    }
+
+    public int regionCount() {
+        return regionCount;
+    }
+
+    public int pageCount() {
+        return pages.size();
+    }
+
+    /** The Texture2D of a page */
+    public MemorySegment pageTexture(int page) {
+        return pages.get(page);
+    }
+
+    public int page(int region) {
+        return regions[5 * check(region)];
+    }
+
+    /** The Texture2D holding a region */
+    public MemorySegment texture(int region) {
+        return pages.get(page(region));
+    }
+
+    public int x(int region) {
+        return regions[5 * check(region) + 1];
+    }
+
+    public int y(int region) {
+        return regions[5 * check(region) + 2];
+    }
+
+    public int width(int region) {
+        return regions[5 * check(region) + 3];
+    }
+
+    public int height(int region) {
+        return regions[5 * check(region) + 4];
+    }
+
+    /** Writes the source rectangle of a region into a Rectangle */
+    public MemorySegment source(int region, MemorySegment rec) {
+        Rectangle.x$set(rec, x(region));
+        Rectangle.y$set(rec, y(region));
+        Rectangle.width$set(rec, width(region));
+        Rectangle.height$set(rec, height(region));
+        return rec;
+    }
+
+    /** Pixels of the added images divided by the pixels of all pages */
+    public float efficiency() {
+        long used = 0;
+        for (int page = 0; page < pages.size(); page++) {
+            used += pageAreas[page];
+        }
+        return pages.isEmpty() ? 0 : (float) ((double) used / ((double) pageWidth * pageHeight * pages.size()));
+    }
+
+    /** Pixels of the images in a page divided by the pixels of the page */
+    public float efficiency(int page) {
+        return (float) ((double) pageAreas[page] / ((double) pageWidth * pageHeight));
+    }
+
+    /** Unloads the page textures, regions can not be drawn afterwards */
+    @Override
+    public void close() {
+        for (MemorySegment texture : pages) {
+            raylib_h.UnloadTexture(texture);
+        }
+        pages.clear();
+        arena.close();
+    }
+
+    private int newPage() {
+        try (Arena temp = Arena.ofConfined()) {
+            MemorySegment blank = temp.allocate(4); // transparent black
+            MemorySegment image = raylib_h.GenImageColor(temp, pageWidth, pageHeight, blank);
+            try {
+                pages.add(raylib_h.LoadTextureFromImage(arena, image));
+            } finally {
+                raylib_h.UnloadImage(image);
+            }
+        }
+        packers.add(new SkylinePacker(pageWidth, pageHeight));
+        if (pages.size() > pageAreas.length) {
+            pageAreas = Arrays.copyOf(pageAreas, pageAreas.length * 2);
+        }
+        return pages.size() - 1;
+    }
+
+    private int check(int region) {
+        if (region < 0 || region >= regionCount) {
+            throw new IndexOutOfBoundsException("Region " + region + " out of 0.." + regionCount);
+        }
+        return region;
+    }
+}
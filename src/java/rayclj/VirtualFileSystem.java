@@ -0,0 +1,290 @@
+package rayclj;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+
+import rayclj.raylib.LoadFileDataCallback;
+import rayclj.raylib.LoadFileTextCallback;
+import rayclj.raylib.raylib_h;
+
+/**
+ * Serves raylib's file loading (LoadImage, LoadModel, LoadWave, LoadFont, LoadShader, ...)
+ * from mounted directories, zip files and classpath resources, through the load file data
+ * and text callbacks. So assets bundled in a jar are read in place instead of being extracted.
+ *
+ * A path is looked up in the mounts whose prefix it starts with, in mount order, then on disk
+ * as given, like raylib does without callbacks. Files on the default file system are memory
+ * mapped and copied straight into MemAlloc memory, which raylib frees after loading. Zip
+ * entries and resources are streamed.
+ *
+ * Some loaders open files themselves and never see the callbacks, notably the music stream
+ * loaders. Use {@link #loadFileData(String)} with LoadMusicStreamFromMemory for those.
+ */
+public final class VirtualFileSystem implements AutoCloseable {
+    /** Read count, total and slowest read time and bytes read of one path */
+    public record Stats(long reads, long totalNanos, long maxNanos, long bytes) {}
+
+    private abstract static class Mount {
+        final String prefix;
+
+        Mount(String prefix) {
+            this.prefix = prefix;
+        }
+
+        /** Reads a file into MemAlloc memory with extra zero bytes after it, null if not found */
+        abstract MemorySegment read(String relative, int extra) throws IOException;
+
+        void close() throws IOException {}
+    }
+
+    private static final class PathMount extends Mount {
+        final Path root;
+        final FileSystem fileSystem; // owned zip file system or null
+
+        PathMount(String prefix, Path root, FileSystem fileSystem) {
+            super(prefix);
+            this.root = root;
+            this.fileSystem = fileSystem;
+        }
+
+        @Override
+        MemorySegment read(String relative, int extra) throws IOException {
+            return readPath(root.resolve(relative), extra);
+        }
+
+        @Override
+        void close() throws IOException {
+            if (fileSystem != null) {
+                fileSystem.close();
+            }
+        }
+    }
+
+    private static final class ResourceMount extends Mount {
+        final ClassLoader loader;
+        final String root;
+
+        ResourceMount(String prefix, ClassLoader loader, String root) {
+            super(prefix);
+            this.loader = loader;
+            this.root = root;
+        }
+
+        @Override
+        MemorySegment read(String relative, int extra) throws IOException {
+            try (InputStream in = loader.getResourceAsStream(root + relative)) {
+                return in == null ? null : copy(in.readAllBytes(), extra);
+            }
+        }
+    }
+
+    private static final class PathStats {
+        final LongAdder reads = new LongAdder();
+        final LongAdder totalNanos = new LongAdder();
+        final LongAdder bytes = new LongAdder();
+        volatile long maxNanos;
+    }
+
+    private final List<Mount> mounts = new CopyOnWriteArrayList<>();
+    private final Map<String, PathStats> stats = new ConcurrentHashMap<>();
+    private final Arena arena = Arena.ofShared();
+    private boolean installed;
+
+    /** Serves paths starting with prefix from a directory */
+    public void mountDirectory(String prefix, Path directory) {
+        if (!Files.isDirectory(directory)) {
+            throw new IllegalArgumentException("Not a directory: " + directory);
+        }
+        mounts.add(new PathMount(normalize(prefix), directory, null));
+    }
+
+    /** Serves paths starting with prefix from a zip (or jar) file */
+    public void mountZip(String prefix, Path zip) throws IOException {
+        FileSystem fileSystem = FileSystems.newFileSystem(zip);
+        mounts.add(new PathMount(normalize(prefix), fileSystem.getPath("/"), fileSystem));
+    }
+
+    /** Serves paths starting with prefix from classpath resources under resourceRoot, e.g. "assets/" */
+    public void mountClasspath(String prefix, String resourceRoot) {
+        ClassLoader loader = Thread.currentThread().getContextClassLoader();
+        if (loader == null) {
+            loader = VirtualFileSystem.class.getClassLoader();
+        }
+        mounts.add(new ResourceMount(normalize(prefix), loader, normalize(resourceRoot)));
+    }
+
+    /** Removes the mounts of prefix */
+    public void unmount(String prefix) throws IOException {
+        String p = normalize(prefix);
+        for (Mount mount : mounts) {
+            if (mount.prefix.equals(p)) {
+                mounts.remove(mount);
+                mount.close();
+            }
+        }
+    }
+
+    /** Sets raylib's load file data and text callbacks to this file system */
+    public synchronized void install() {
+        if (!installed) {
+            raylib_h.SetLoadFileDataCallback(LoadFileDataCallback.allocate(this::loadFileDataCallback, arena));
+            raylib_h.SetLoadFileTextCallback(LoadFileTextCallback.allocate(this::loadFileTextCallback, arena));
+            installed = true;
+        }
+    }
+
+    /** Restores raylib's own file loading */
+    public synchronized void uninstall() {
+        if (installed) {
+            raylib_h.SetLoadFileDataCallback(MemorySegment.NULL);
+            raylib_h.SetLoadFileTextCallback(MemorySegment.NULL);
+            installed = false;
+        }
+    }
+
+    /**
+     * Reads a file into MemAlloc memory, to be freed with UnloadFileData (or by raylib).
+     * The segment's size is the file size.
+     */
+    public MemorySegment loadFileData(String fileName) throws IOException {
+        return load(fileName, 0);
+    }
+
+    /** Read statistics of a path, or null if it was never read */
+    public Stats stats(String fileName) {
+        PathStats s = stats.get(fileName);
+        return s == null ? null : new Stats(s.reads.sum(), s.totalNanos.sum(), s.maxNanos, s.bytes.sum());
+    }
+
+    /** Read statistics of every path read, sorted by path */
+    public Map<String, Stats> stats() {
+        Map<String, Stats> all = new TreeMap<>();
+        for (String path : stats.keySet()) {
+            all.put(path, stats(path));
+        }
+        return all;
+    }
+
+    /** Uninstalls the callbacks and closes the mounted zip files */
+    @Override
+    public void close() throws IOException {
+        uninstall();
+        for (Mount mount : mounts) {
+            mount.close();
+        }
+        mounts.clear();
+        arena.close();
+    }
+
+    private MemorySegment load(String fileName, int extra) throws IOException {
+        long start = System.nanoTime();
+        String name = normalize(fileName);
+        MemorySegment data = null;
+        for (Mount mount : mounts) {
+            if (name.startsWith(mount.prefix)) {
+                data = mount.read(name.substring(mount.prefix.length()), extra);
+                if (data != null) {
+                    break;
+                }
+            }
+        }
+        if (data == null) {
+            data = readPath(Path.of(fileName), extra);
+        }
+        if (data == null) {
+            throw new NoSuchFileException(fileName);
+        }
+
+        long nanos = System.nanoTime() - start;
+        PathStats s = stats.computeIfAbsent(fileName, k -> new PathStats());
+        s.reads.increment();
+        s.totalNanos.add(nanos);
+        s.bytes.add(data.byteSize() - extra);
+        if (nanos > s.maxNanos) {
+            s.maxNanos = nanos; // racy, but a lost update only skips a maximum read at the same time
+        }
+        return data.asSlice(0, data.byteSize() - extra);
+    }
+
+    // unsigned char *(*)(const char *fileName, int *dataSize), must not throw into native code
+    private MemorySegment loadFileDataCallback(MemorySegment fileName, MemorySegment dataSize) {
+        MemorySegment size = dataSize.reinterpret(ValueLayout.JAVA_INT.byteSize());
+        size.set(ValueLayout.JAVA_INT, 0, 0);
+        try {
+            MemorySegment data = load(fileName.reinterpret(Long.MAX_VALUE).getUtf8String(0), 0);
+            size.set(ValueLayout.JAVA_INT, 0, (int) data.byteSize());
+            return data;
+        } catch (Throwable t) {
+            return MemorySegment.NULL;
+        }
+    }
+
+    // char *(*)(const char *fileName), the text must be zero terminated
+    private MemorySegment loadFileTextCallback(MemorySegment fileName) {
+        try {
+            return load(fileName.reinterpret(Long.MAX_VALUE).getUtf8String(0), 1);
+        } catch (Throwable t) {
+            return MemorySegment.NULL;
+        }
+    }
+
+    private static MemorySegment readPath(Path path, int extra) throws IOException {
+        if (!Files.isRegularFile(path)) {
+            return null;
+        }
+        if (path.getFileSystem() != FileSystems.getDefault()) {
+            return copy(Files.readAllBytes(path), extra);
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+             Arena mapping = Arena.ofConfined()) {
+            long size = channel.size();
+            MemorySegment data = allocate(size, extra);
+            if (size > 0) {
+                MemorySegment.copy(channel.map(FileChannel.MapMode.READ_ONLY, 0, size, mapping), 0, data, 0, size);
+            }
+            return data;
+        }
+    }
+
+    private static MemorySegment copy(byte[] bytes, int extra) {
+        MemorySegment data = allocate(bytes.length, extra);
+        MemorySegment.copy(bytes, 0, data, ValueLayout.JAVA_BYTE, 0, bytes.length);
+        return data;
+    }
+
+    // MemAlloc zeroes the memory, so the extra bytes terminate text
+    private static MemorySegment allocate(long size, int extra) {
+        if (size + extra > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("File too large: " + size + " bytes");
+        }
+        MemorySegment data = raylib_h.MemAlloc((int) Math.max(1, size + extra));
+        if (data.equals(MemorySegment.NULL)) {
+            throw new OutOfMemoryError("MemAlloc of " + (size + extra) + " bytes failed");
+        }
+        return data.reinterpret(size + extra);
+    }
+
+    private static String normalize(String path) {
+        String p = path.replace('\\', '/');
+        while (p.startsWith("./")) {
+            p = p.substring(2);
+        }
+        return p;
+    }
+}
@@ -0,0 +1,212 @@
+package rayclj;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.SegmentAllocator;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.LongAdder;
+
+import rayclj.raylib.Music;
+import rayclj.raylib.Wave;
+import rayclj.raylib.raylib_h;
+
+/**
+ * Caches decoded sounds on disk as PCM, so loading an OGG, MP3 or FLAC again is a memory map
+ * instead of a decode. The samples are converted with WaveFormat to the format the cache is
+ * created with. When that is the audio device format, LoadSoundFromWave copies them without
+ * resampling, see {@link #DEFAULT_SAMPLE_RATE}. Freshness is checked with the size, time and
+ * content hash of the source, see CacheFiles.
+ *
+ * Long music shouldn't be decoded whole. Sources larger than the stream threshold are meant for
+ * LoadMusicStream instead, see {@link #streams(String)} and {@link #loadMusicStream}.
+ *
+ * Thread safe, cache files are replaced atomically.
+ */
+public final class WaveCache {
+    /** Hits, hits that needed a content hash, misses, streamed loads, and the time spent on hits and misses */
+    public record Stats(long hits, long rehashed, long misses, long streamed, long hitNanos, long missNanos) {}
+
+    /**
+     * 32 bit float samples and stereo are raylib's device format. The rate is a common device rate,
+     * raylib 5.0 uses the device's native one (AUDIO_DEVICE_SAMPLE_RATE 0), so sounds are still
+     * resampled on load on devices running at another rate, e.g. 44.1 kHz.
+     */
+    public static final int DEFAULT_SAMPLE_RATE = 48000;
+    public static final int DEFAULT_SAMPLE_SIZE = 32;
+    public static final int DEFAULT_CHANNELS = 2;
+    /** Sources larger than this are streamed by default, 1 MiB */
+    public static final long DEFAULT_STREAM_THRESHOLD = 1 << 20;
+
+    private static final byte[] MAGIC = "RAYCLJWV".getBytes(StandardCharsets.US_ASCII);
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 128; // samples start on a cache line
+
+    private static final ValueLayout.OfInt INT = ValueLayout.JAVA_INT_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+    private static final ValueLayout.OfLong LONG = ValueLayout.JAVA_LONG_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+
+    private final Path directory;
+    private final Pcm format;
+    private volatile long streamThreshold = DEFAULT_STREAM_THRESHOLD;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder rehashed = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder streamed = new LongAdder();
+    private final LongAdder hitNanos = new LongAdder();
+    private final LongAdder missNanos = new LongAdder();
+
+    public WaveCache(Path directory) throws IOException {
+        this(directory, DEFAULT_SAMPLE_RATE, DEFAULT_SAMPLE_SIZE, DEFAULT_CHANNELS);
+    }
+
+    /** A cache converting sounds to sampleRate, sampleSize (8, 16 or 32 bits) and channels, ideally the device format */
+    public WaveCache(Path directory, int sampleRate, int sampleSize, int channels) throws IOException {
+        if (sampleRate <= 0 || (sampleSize != 8 && sampleSize != 16 && sampleSize != 32) || channels <= 0) {
+            throw new IllegalArgumentException("Invalid wave format: " + sampleRate + " Hz, " + sampleSize + " bits, " +
+                                               channels + " channels");
+        }
+        this.directory = Files.createDirectories(directory);
+        this.format = new Pcm(sampleRate, sampleSize, channels);
+    }
+
+    public Path directory() {
+        return directory;
+    }
+
+    public long streamThreshold() {
+        return streamThreshold;
+    }
+
+    /** Source size in bytes above which {@link #streams(String)} is true */
+    public void setStreamThreshold(long streamThreshold) {
+        if (streamThreshold < 0) {
+            throw new IllegalArgumentException("Invalid stream threshold: " + streamThreshold);
+        }
+        this.streamThreshold = streamThreshold;
+    }
+
+    /** Whether fileName is larger than the stream threshold */
+    public boolean streams(String fileName) throws IOException {
+        return Files.size(CacheFiles.source(fileName)) > streamThreshold;
+    }
+
+    /**
+     * The Wave of fileName in the cache format, mapped from its cache file into arena. It is read
+     * only, valid until arena is closed and must not be unloaded.
+     */
+    public MemorySegment wave(Arena arena, String fileName) throws IOException {
+        long start = System.nanoTime();
+        Path source = CacheFiles.source(fileName);
+        Path cached = CacheFiles.cacheFile(directory, source, format.variant(), ".pcm");
+
+        CacheFiles.Loaded loaded = CacheFiles.load(cached, MAGIC, VERSION, source, arena, format);
+        if (loaded.freshness() == CacheFiles.Freshness.STALE) {
+            misses.increment();
+            missNanos.add(System.nanoTime() - start);
+        } else {
+            hits.increment();
+            if (loaded.freshness() == CacheFiles.Freshness.REHASHED) {
+                rehashed.increment();
+            }
+            hitNanos.add(System.nanoTime() - start);
+        }
+        return loaded.value();
+    }
+
+    /** Loads a Sound of fileName from the cache with LoadSoundFromWave. Needs the audio device. */
+    public MemorySegment loadSound(SegmentAllocator allocator, String fileName) throws IOException {
+        try (Arena temp = Arena.ofConfined()) {
+            return raylib_h.LoadSoundFromWave(allocator, wave(temp, fileName));
+        }
+    }
+
+    /** Loads a Music stream of fileName, for sources larger than the stream threshold. Needs the audio device. */
+    public MemorySegment loadMusicStream(SegmentAllocator allocator, String fileName) {
+        try (Arena temp = Arena.ofConfined()) {
+            MemorySegment music = raylib_h.LoadMusicStream(allocator, temp.allocateUtf8String(fileName));
+            if (Music.frameCount$get(music) == 0) {
+                throw new IllegalArgumentException("Failed to load music stream: " + fileName);
+            }
+            streamed.increment();
+            return music;
+        }
+    }
+
+    /** Deletes the cache file of fileName, if any */
+    public void invalidate(String fileName) throws IOException {
+        Files.deleteIfExists(CacheFiles.cacheFile(directory, CacheFiles.source(fileName), format.variant(), ".pcm"));
+    }
+
+    public Stats stats() {
+        return new Stats(hits.sum(), rehashed.sum(), misses.sum(), streamed.sum(), hitNanos.sum(), missNanos.sum());
+    }
+
+    // Layout, little endian: the CacheFiles stamp, int frameCount, int sampleRate, int sampleSize,
+    // int channels, long sample bytes, samples at 128
+    private record Pcm(int sampleRate, int sampleSize, int channels) implements CacheFiles.Format {
+        String variant() {
+            return sampleRate + "/" + sampleSize + "/" + channels;
+        }
+
+        @Override
+        public int headerSize() {
+            return HEADER_SIZE;
+        }
+
+        @Override
+        public MemorySegment decode(Path source) {
+            try (Arena temp = Arena.ofConfined()) {
+                MemorySegment wave = raylib_h.LoadWave(Arena.ofAuto(), temp.allocateUtf8String(source.toString()));
+                if (Wave.data$get(wave).equals(MemorySegment.NULL)) {
+                    throw new IllegalArgumentException("Failed to load wave: " + source);
+                }
+                raylib_h.WaveFormat(wave, sampleRate, sampleSize, channels);
+                return wave;
+            }
+        }
+
+        @Override
+        public void unload(MemorySegment wave) {
+            raylib_h.UnloadWave(wave);
+        }
+
+        @Override
+        public MemorySegment writeHeader(ByteBuffer header, MemorySegment wave) {
+            int frameCount = Wave.frameCount$get(wave);
+            int rate = Wave.sampleRate$get(wave);
+            int size = Wave.sampleSize$get(wave);
+            int count = Wave.channels$get(wave);
+            long bytes = sampleBytes(frameCount, size, count);
+            header.putInt(frameCount).putInt(rate).putInt(size).putInt(count).putLong(bytes);
+            return Wave.data$get(wave).reinterpret(bytes);
+        }
+
+        @Override
+        public boolean valid(MemorySegment file) {
+            return file.byteSize() >= HEADER_SIZE &&
+                file.get(LONG, 80) == file.byteSize() - HEADER_SIZE &&
+                file.get(LONG, 80) == sampleBytes(file.get(INT, 64), file.get(INT, 72), file.get(INT, 76));
+        }
+
+        @Override
+        public MemorySegment read(Arena arena, MemorySegment file) {
+            MemorySegment wave = Wave.allocate(arena);
+            Wave.frameCount$set(wave, file.get(INT, 64));
+            Wave.sampleRate$set(wave, file.get(INT, 68));
+            Wave.sampleSize$set(wave, file.get(INT, 72));
+            Wave.channels$set(wave, file.get(INT, 76));
+            Wave.data$set(wave, file.asSlice(HEADER_SIZE));
+            return wave;
+        }
+    }
+
+    private static long sampleBytes(int frameCount, int sampleSize, int channels) {
+        return (long) frameCount * channels * (sampleSize / 8);
+    }
+}
@@ -62,7 +62,7 @@ final class RuntimeHelper {
 
     static MethodHandle downcallHandle(String name, FunctionDescriptor fdesc) {
         return SYMBOL_LOOKUP.find(name).
-                map(addr -> LINKER.downcallHandle(addr, fdesc)).
+                map(addr -> rayclj.LazyDowncall.downcallHandle(LINKER, addr, fdesc, rayclj.DowncallOptions.forSymbol(name))).
                 orElse(null);
     }
 